@@ -0,0 +1,169 @@
+package com.knight.application.adapter;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable compressed bitmap of interned account numbers, laid out like a roaring bitmap.
+ *
+ * Values are split on their high 16 bits into chunks. A chunk with at most 4096 members is a
+ * sorted {@code char[]}; a denser chunk is a fixed 8 KB {@code long[1024]} bitset. A membership
+ * test is a search over the few chunk keys plus either a bounded binary search (at most 12
+ * probes) or a single bit test, so it costs the same for a group of ten accounts or ten thousand.
+ *
+ * Updates return a new bitmap that shares every chunk the change did not touch, so readers
+ * never need a lock and an incremental change costs only the chunks it touches.
+ */
+final class AccountBitmap {
+
+    static final AccountBitmap EMPTY = new AccountBitmap(new char[0], new Object[0], 0);
+
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int BITSET_WORDS = 1024;
+
+    private final char[] keys;
+    private final Object[] chunks;
+    private final int cardinality;
+
+    private AccountBitmap(char[] keys, Object[] chunks, int cardinality) {
+        this.keys = keys;
+        this.chunks = chunks;
+        this.cardinality = cardinality;
+    }
+
+    static AccountBitmap of(int... values) {
+        return EMPTY.with(values, new int[0]);
+    }
+
+    boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, high(value));
+        if (index < 0) {
+            return false;
+        }
+        char low = low(value);
+        Object chunk = chunks[index];
+        if (chunk instanceof long[] words) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch((char[]) chunk, low) >= 0;
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Return a bitmap with {@code added} set and then {@code removed} cleared.
+     */
+    AccountBitmap with(int[] added, int[] removed) {
+        if (added.length == 0 && removed.length == 0) {
+            return this;
+        }
+        Map<Character, long[]> touched = new TreeMap<>();
+        for (int value : added) {
+            long[] words = touched.computeIfAbsent(high(value), this::expand);
+            words[low(value) >>> 6] |= 1L << low(value);
+        }
+        for (int value : removed) {
+            if (value < 0) {
+                continue;
+            }
+            long[] words = touched.computeIfAbsent(high(value), this::expand);
+            words[low(value) >>> 6] &= ~(1L << low(value));
+        }
+
+        TreeMap<Character, Object> merged = new TreeMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            merged.put(keys[i], chunks[i]);
+        }
+        for (Map.Entry<Character, long[]> entry : touched.entrySet()) {
+            Object chunk = compact(entry.getValue());
+            if (chunk == null) {
+                merged.remove(entry.getKey());
+            } else {
+                merged.put(entry.getKey(), chunk);
+            }
+        }
+
+        char[] newKeys = new char[merged.size()];
+        Object[] newChunks = new Object[merged.size()];
+        int total = 0;
+        int i = 0;
+        for (Map.Entry<Character, Object> entry : merged.entrySet()) {
+            newKeys[i] = entry.getKey();
+            newChunks[i] = entry.getValue();
+            total += chunkCardinality(entry.getValue());
+            i++;
+        }
+        return new AccountBitmap(newKeys, newChunks, total);
+    }
+
+    /**
+     * Copy a chunk into a writable bitset.
+     */
+    private long[] expand(char key) {
+        long[] words = new long[BITSET_WORDS];
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            return words;
+        }
+        Object chunk = chunks[index];
+        if (chunk instanceof long[] existing) {
+            System.arraycopy(existing, 0, words, 0, BITSET_WORDS);
+        } else {
+            for (char low : (char[]) chunk) {
+                words[low >>> 6] |= 1L << low;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Pick the smaller representation for a chunk; null if it is empty.
+     */
+    private static Object compact(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        if (count == 0) {
+            return null;
+        }
+        if (count > ARRAY_LIMIT) {
+            return words;
+        }
+        char[] values = new char[count];
+        int n = 0;
+        for (int w = 0; w < BITSET_WORDS; w++) {
+            long word = words[w];
+            while (word != 0) {
+                values[n++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return values;
+    }
+
+    private static int chunkCardinality(Object chunk) {
+        if (chunk instanceof char[] values) {
+            return values.length;
+        }
+        int count = 0;
+        for (long word : (long[]) chunk) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static char high(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char low(int value) {
+        return (char) value;
+    }
+}
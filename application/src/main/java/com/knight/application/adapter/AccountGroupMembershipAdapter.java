@@ -0,0 +1,119 @@
+package com.knight.application.adapter;
+
+import com.knight.application.cache.CacheInvalidated;
+import com.knight.application.cache.CacheNames;
+import com.knight.domain.policy.port.AccountGroupMembership;
+import com.knight.domain.serviceprofiles.aggregate.AccountGroup;
+import com.knight.domain.serviceprofiles.api.events.AccountGroupMembershipChanged;
+import com.knight.domain.serviceprofiles.repository.AccountGroupRepository;
+import com.knight.domain.serviceprofiles.types.AccountGroupId;
+import com.knight.platform.sharedkernel.ClientAccountId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adapter that implements AccountGroupMembership from precomputed per-group bitmaps.
+ *
+ * A group is loaded from AccountGroupRepository on first use and then kept current from
+ * AccountGroupMembershipChanged events after each commit on this node. Changes made on other
+ * nodes drop the snapshot when their invalidation arrives; reloading after {@link #DEFAULT_MAX_AGE}
+ * covers invalidations that never arrive.
+ */
+@Component
+public class AccountGroupMembershipAdapter implements AccountGroupMembership {
+
+    static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(1);
+
+    private final AccountGroupRepository accountGroupRepository;
+    private final Clock clock;
+    private final Duration maxAge;
+    private final AccountIdInterner interner = new AccountIdInterner();
+    private final ConcurrentHashMap<UUID, Snapshot> groups = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AccountGroupMembershipAdapter(AccountGroupRepository accountGroupRepository) {
+        this(accountGroupRepository, Clock.systemUTC(), DEFAULT_MAX_AGE);
+    }
+
+    AccountGroupMembershipAdapter(AccountGroupRepository accountGroupRepository, Clock clock, Duration maxAge) {
+        this.accountGroupRepository = accountGroupRepository;
+        this.clock = clock;
+        this.maxAge = maxAge;
+    }
+
+    @Override
+    public boolean isMember(UUID accountGroupId, String accountId) {
+        Snapshot snapshot = snapshot(accountGroupId);
+        return snapshot.members().contains(interner.idOf(accountId));
+    }
+
+    /**
+     * Apply a committed membership change to the loaded snapshot. Groups not loaded on this node
+     * are left alone; they will be read fresh on first use. Applying a change twice is harmless,
+     * so a snapshot loaded after the commit stays correct.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(AccountGroupMembershipChanged event) {
+        if (event.deleted()) {
+            groups.remove(event.accountGroupId());
+            return;
+        }
+        int[] added = event.addedAccountIds().stream().mapToInt(interner::intern).toArray();
+        int[] removed = event.removedAccountIds().stream().mapToInt(interner::idOf).toArray();
+        groups.computeIfPresent(event.accountGroupId(), (id, snapshot) ->
+            new Snapshot(snapshot.members().with(added, removed), snapshot.loadedAt()));
+    }
+
+    /**
+     * Drop a group changed on another node. Local changes arrive as deltas above instead.
+     * Loading happens inside {@code compute}, so a load racing this removal either finishes
+     * first and is removed, or starts after and reads the committed change.
+     */
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidated event) {
+        if (event.remote() && CacheNames.ACCOUNT_GROUPS.equals(event.cacheName())) {
+            groups.remove(UUID.fromString(event.key()));
+        }
+    }
+
+    int loadedGroupCount() {
+        return groups.size();
+    }
+
+    private Snapshot snapshot(UUID accountGroupId) {
+        Snapshot snapshot = groups.get(accountGroupId);
+        if (snapshot != null && !isExpired(snapshot)) {
+            return snapshot;
+        }
+        return groups.compute(accountGroupId, (id, current) ->
+            current != null && !isExpired(current) ? current : load(id));
+    }
+
+    private Snapshot load(UUID accountGroupId) {
+        AccountBitmap members = accountGroupRepository.findById(new AccountGroupId(accountGroupId))
+            .map(AccountGroup::accounts)
+            .map(this::toBitmap)
+            .orElse(AccountBitmap.EMPTY);
+        return new Snapshot(members, clock.instant());
+    }
+
+    private AccountBitmap toBitmap(Collection<ClientAccountId> accounts) {
+        return AccountBitmap.of(accounts.stream().map(ClientAccountId::urn).mapToInt(interner::intern).toArray());
+    }
+
+    private boolean isExpired(Snapshot snapshot) {
+        return !snapshot.loadedAt().plus(maxAge).isAfter(clock.instant());
+    }
+
+    private record Snapshot(AccountBitmap members, Instant loadedAt) {
+    }
+}
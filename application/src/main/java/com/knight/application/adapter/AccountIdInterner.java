@@ -0,0 +1,36 @@
+package com.knight.application.adapter;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns each account URN a stable small int so account groups can be held as bitmaps.
+ * Numbers are handed out in first-seen order and never reused for the life of the process.
+ */
+class AccountIdInterner {
+
+    static final int UNKNOWN = -1;
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Get the number for an account, assigning one if the account has not been seen.
+     */
+    int intern(String accountId) {
+        return ids.computeIfAbsent(accountId, key -> next.getAndIncrement());
+    }
+
+    /**
+     * Get the number for an account without assigning one; {@link #UNKNOWN} if never interned.
+     * Lookups use this so arbitrary resource IDs being authorized do not grow the table.
+     */
+    int idOf(String accountId) {
+        Integer id = ids.get(accountId);
+        return id != null ? id : UNKNOWN;
+    }
+
+    int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,37 @@
+package com.knight.application.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-key invalidation counters that let a cache refuse to store a value loaded before an
+ * invalidation it has not seen yet.
+ *
+ * A cache that loads outside its own lock takes a {@link #stamp} before reading the database and
+ * stores the result only if {@link #isCurrent} still holds afterwards. Keys share a fixed number of
+ * counters, so memory stays constant; a collision only skips caching one load.
+ */
+@Component
+public class CacheGenerations {
+
+    private static final int STRIPES = 4096;
+
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    public long stamp(String cacheName, String key) {
+        return generations.get(stripe(cacheName, key));
+    }
+
+    public boolean isCurrent(String cacheName, String key, long stamp) {
+        return generations.get(stripe(cacheName, key)) == stamp;
+    }
+
+    void advance(String cacheName, String key) {
+        generations.incrementAndGet(stripe(cacheName, key));
+    }
+
+    private static int stripe(String cacheName, String key) {
+        return Math.floorMod(31 * cacheName.hashCode() + key.hashCode(), STRIPES);
+    }
+}
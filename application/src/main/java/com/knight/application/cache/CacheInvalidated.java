@@ -0,0 +1,11 @@
+package com.knight.application.cache;
+
+/**
+ * Application event telling local caches to drop an entry.
+ *
+ * @param cacheName one of {@link CacheNames}
+ * @param key       the entry's key
+ * @param remote    true when the write happened on another node; false for writes committed here
+ */
+public record CacheInvalidated(String cacheName, String key, boolean remote) {
+}
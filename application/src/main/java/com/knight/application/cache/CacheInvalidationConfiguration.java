@@ -0,0 +1,27 @@
+package com.knight.application.cache;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Schedules sending of queued cache invalidations at the configured flush interval.
+ */
+@Configuration
+@EnableScheduling
+public class CacheInvalidationConfiguration implements SchedulingConfigurer {
+
+    private final CacheInvalidationPublisher publisher;
+    private final CacheInvalidationProperties properties;
+
+    public CacheInvalidationConfiguration(CacheInvalidationPublisher publisher, CacheInvalidationProperties properties) {
+        this.publisher = publisher;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(publisher::flush, properties.getFlushInterval());
+    }
+}
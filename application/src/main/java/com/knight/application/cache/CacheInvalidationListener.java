@@ -0,0 +1,68 @@
+package com.knight.application.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies cache invalidations broadcast by other nodes.
+ *
+ * Each node consumes in its own consumer group, named after the node so that it stays the same
+ * across restarts; a node joining for the first time starts from the latest offset. A restarted
+ * node resumes where it left off, which only re-evicts entries it cannot have cached yet.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.kafka.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationListener {
+
+    private final CacheInvalidationPublisher publisher;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<String, Long> lastSequence = new ConcurrentHashMap<>();
+
+    public CacheInvalidationListener(CacheInvalidationPublisher publisher, ObjectMapper objectMapper) {
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+    }
+
+    @KafkaListener(
+        topics = "${knight.cache.invalidation.topic:cache-invalidations}",
+        groupId = "${knight.cache.invalidation.group-id:knight-cache-${HOSTNAME:localhost}}",
+        properties = "auto.offset.reset=latest"
+    )
+    public void onMessage(@Payload String payload) {
+        CacheInvalidationMessage message;
+        try {
+            message = objectMapper.readValue(payload, CacheInvalidationMessage.class);
+        } catch (Exception e) {
+            log.error("Ignoring unreadable cache invalidation: {}", payload, e);
+            return;
+        }
+        apply(message);
+    }
+
+    void apply(CacheInvalidationMessage message) {
+        if (publisher.origin().equals(message.origin()) || !isNew(message)) {
+            return;
+        }
+        publisher.applyRemote(message.entries());
+    }
+
+    /**
+     * Messages from one origin share a key and so arrive in order; anything at or below the last
+     * sequence seen is a redelivery.
+     */
+    private boolean isNew(CacheInvalidationMessage message) {
+        long[] previous = new long[1];
+        lastSequence.merge(message.origin(), message.sequence(), (current, incoming) -> {
+            previous[0] = current;
+            return Math.max(current, incoming);
+        });
+        return previous[0] < message.sequence();
+    }
+}
@@ -0,0 +1,16 @@
+package com.knight.application.cache;
+
+import java.util.List;
+
+/**
+ * Invalidations broadcast by one node, as sent over Kafka.
+ *
+ * @param origin   the sending node; nodes ignore their own messages
+ * @param sequence increases with every message from the origin, so receivers can drop replays
+ * @param entries  the invalidated entries, each at most once
+ */
+public record CacheInvalidationMessage(String origin, long sequence, List<Entry> entries) {
+
+    public record Entry(String cache, String key) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.knight.application.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for cross-node cache invalidation.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "knight.cache.invalidation")
+public class CacheInvalidationProperties {
+
+    /**
+     * Kafka topic invalidations are broadcast on. Every node reads all of it.
+     */
+    private String topic = "cache-invalidations";
+
+    /**
+     * Consumer group of this node. Must differ between nodes, since each reads every message, and
+     * should stay the same across restarts of a node so that groups do not pile up on the broker.
+     */
+    private String groupId = "knight-cache-localhost";
+
+    /**
+     * How long invalidations are collected before being sent; a burst of writes to the same
+     * entries within one interval goes out as a single message.
+     */
+    private Duration flushInterval = Duration.ofMillis(100);
+
+    /**
+     * Most entries sent in one message.
+     */
+    private int maxBatchSize = 500;
+
+    /**
+     * Longest a send may wait for broker metadata or buffer space. Flushes run on the shared
+     * scheduler, so an unreachable broker must not hold them for Kafka's default minute.
+     */
+    private Duration maxBlock = Duration.ofSeconds(5);
+}
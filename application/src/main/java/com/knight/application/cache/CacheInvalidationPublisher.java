@@ -0,0 +1,174 @@
+package com.knight.application.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Invalidates cached copies of an aggregate on every node after a write commits.
+ *
+ * Repository adapters call {@link #invalidate} from their write paths. Once the transaction
+ * commits, caches on this node are told at once through a {@link CacheInvalidated} event, and the
+ * key is queued for broadcast. {@link #flush} sends everything queued as one Kafka message, so a
+ * burst of writes to the same entries costs one message per flush interval. Without Kafka the
+ * local half still works and nothing is sent.
+ *
+ * Messages go through a producer of their own whose sends block for at most
+ * {@link CacheInvalidationProperties#getMaxBlock()}, so a broker outage cannot stall the flush.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheGenerations generations;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationProperties properties;
+    private final String origin;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Set<CacheInvalidationMessage.Entry> pending = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public CacheInvalidationPublisher(ApplicationEventPublisher eventPublisher, CacheGenerations generations,
+                                      ObjectProvider<ProducerFactory<String, String>> producerFactory,
+                                      ObjectMapper objectMapper, CacheInvalidationProperties properties) {
+        this(eventPublisher, generations, boundedTemplate(producerFactory.getIfAvailable(), properties.getMaxBlock()),
+            objectMapper, properties, nodeName() + "-" + UUID.randomUUID().toString().substring(0, 8));
+    }
+
+    /**
+     * @param kafkaTemplate template to broadcast with, or null without Kafka
+     */
+    CacheInvalidationPublisher(ApplicationEventPublisher eventPublisher, CacheGenerations generations,
+                               KafkaTemplate<String, String> kafkaTemplate,
+                               ObjectMapper objectMapper, CacheInvalidationProperties properties, String origin) {
+        this.eventPublisher = eventPublisher;
+        this.generations = generations;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.origin = origin;
+    }
+
+    /**
+     * This node's name on the bus. Unique per run, since sequences restart with the node.
+     */
+    public String origin() {
+        return origin;
+    }
+
+    /**
+     * Invalidate an entry everywhere once the current transaction commits, or now if there is none.
+     * Nothing happens if the transaction rolls back.
+     */
+    public void invalidate(String cacheName, String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            committed(cacheName, key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                committed(cacheName, key);
+            }
+        });
+    }
+
+    /**
+     * Send queued invalidations. Called on a fixed delay; safe to call at any time.
+     */
+    public void flush() {
+        List<CacheInvalidationMessage.Entry> batch = new ArrayList<>();
+        Iterator<CacheInvalidationMessage.Entry> queued = pending.iterator();
+        while (queued.hasNext()) {
+            batch.add(queued.next());
+            queued.remove();
+            if (batch.size() == properties.getMaxBatchSize() || !queued.hasNext()) {
+                if (kafkaTemplate != null) {
+                    send(batch);
+                }
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (kafkaTemplate != null) {
+            kafkaTemplate.destroy();
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Apply invalidations from another node to caches here.
+     */
+    void applyRemote(List<CacheInvalidationMessage.Entry> entries) {
+        for (CacheInvalidationMessage.Entry entry : entries) {
+            evictLocally(entry.cache(), entry.key(), true);
+        }
+    }
+
+    private void committed(String cacheName, String key) {
+        evictLocally(cacheName, key, false);
+        pending.add(new CacheInvalidationMessage.Entry(cacheName, key));
+    }
+
+    private void evictLocally(String cacheName, String key, boolean remote) {
+        // Advance first, so a load that finishes between the two steps is not stored
+        generations.advance(cacheName, key);
+        eventPublisher.publishEvent(new CacheInvalidated(cacheName, key, remote));
+    }
+
+    private void send(List<CacheInvalidationMessage.Entry> entries) {
+        CacheInvalidationMessage message = new CacheInvalidationMessage(origin, sequence.incrementAndGet(), entries);
+        try {
+            kafkaTemplate.send(properties.getTopic(), origin, objectMapper.writeValueAsString(message))
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        log.warn("Failed to broadcast {} cache invalidations; other nodes will serve them until expiry",
+                            entries.size(), error);
+                    }
+                });
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize cache invalidation", e);
+        }
+    }
+
+    private static KafkaTemplate<String, String> boundedTemplate(ProducerFactory<String, String> producerFactory,
+                                                                 Duration maxBlock) {
+        if (producerFactory == null) {
+            return null;
+        }
+        return new KafkaTemplate<>(producerFactory, Map.of(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlock.toMillis()));
+    }
+
+    private static String nodeName() {
+        String host = System.getenv("HOSTNAME");
+        return host != null && !host.isBlank() ? host : "node";
+    }
+}
@@ -0,0 +1,18 @@
+package com.knight.application.cache;
+
+/**
+ * Names of the caches kept coherent across nodes by {@link CacheInvalidationPublisher}.
+ * Keys are the aggregate's identifier in its usual string form (URN or UUID).
+ */
+public final class CacheNames {
+
+    public static final String USERS = "users";
+    public static final String CLIENTS = "clients";
+    public static final String CLIENT_ACCOUNTS = "client-accounts";
+    public static final String INDIRECT_CLIENTS = "indirect-clients";
+    public static final String PERMISSION_POLICIES = "permission-policies";
+    public static final String ACCOUNT_GROUPS = "account-groups";
+
+    private CacheNames() {
+    }
+}
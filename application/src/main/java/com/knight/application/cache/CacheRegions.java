@@ -0,0 +1,35 @@
+package com.knight.application.cache;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level cache regions. Each is a JCache cache sized and expired from
+ * {@link SecondLevelCacheProperties}.
+ */
+public final class CacheRegions {
+
+    public static final String CLIENTS = "clients";
+    public static final String CLIENT_ACCOUNTS = "client-accounts";
+    public static final String CLIENT_ACCOUNTS_BY_CLIENT = "client-accounts-by-client";
+    public static final String INDIRECT_CLIENTS = "indirect-clients";
+    public static final String INDIRECT_CLIENT_PERSONS = "indirect-client-persons";
+
+    /**
+     * Hibernate's record of when each table last changed. Query results older than their tables
+     * are discarded, so this region must never evict or expire.
+     */
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    /**
+     * Where cacheable queries without a region of their own are kept.
+     */
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+
+    static final List<String> ALL = List.of(
+        CLIENTS, CLIENT_ACCOUNTS, CLIENT_ACCOUNTS_BY_CLIENT, INDIRECT_CLIENTS, INDIRECT_CLIENT_PERSONS,
+        DEFAULT_QUERY_RESULTS
+    );
+
+    private CacheRegions() {
+    }
+}
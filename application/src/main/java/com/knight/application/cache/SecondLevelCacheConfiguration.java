@@ -0,0 +1,98 @@
+package com.knight.application.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache on JCache, backed by Caffeine.
+ *
+ * Entities and collections opt in with {@code @Cache} and a region from {@link CacheRegions};
+ * queries opt in with the {@code org.hibernate.cacheable} hint. Hibernate keeps the regions
+ * current for writes made on this node; {@link SecondLevelCacheEvictor} drops entries written on
+ * other nodes, and drops written entries again once a lagging replica can no longer serve the
+ * old rows. The cache is off unless {@code knight.cache.second-level.enabled=true}; until then
+ * everything is read from the database.
+ */
+@Configuration
+public class SecondLevelCacheConfiguration {
+
+    private static final String ENABLED = "knight.cache.second-level.enabled";
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(SecondLevelCacheProperties properties,
+                                                                    ObjectProvider<CacheManager> cacheManager) {
+        return hibernateProperties -> {
+            if (!properties.isEnabled()) {
+                // hibernate-jcache is on the classpath, so Hibernate would otherwise enable it by itself
+                hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+                return;
+            }
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager.getObject());
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        // The provider keeps one manager per URI, and test contexts share a JVM
+        URI uri = URI.create("knight:hibernate:" + UUID.randomUUID());
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(uri, getClass().getClassLoader());
+
+        Set<String> regions = new LinkedHashSet<>(CacheRegions.ALL);
+        regions.addAll(properties.getRegions().keySet());
+        regions.remove(CacheRegions.UPDATE_TIMESTAMPS);
+        for (String region : regions) {
+            SecondLevelCacheProperties.Region limits = properties.region(region);
+            cacheManager.createCache(region, configuration()
+                .setMaximumSize(OptionalLong.of(limits.getMaxEntries()))
+                .setExpireAfterWrite(OptionalLong.of(limits.getTtl().toNanos())));
+        }
+        cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS, configuration());
+        return cacheManager;
+    }
+
+    /**
+     * Exports each region's hits, misses, puts and evictions as {@code cache.*} meters.
+     */
+    @Bean
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true")
+    public MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+        return registry -> {
+            for (String name : secondLevelCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(name), Tags.of("layer", "hibernate"));
+            }
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate caches its own disassembled copies; copying them again buys nothing
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
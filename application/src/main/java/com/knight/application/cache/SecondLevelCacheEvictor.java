@@ -0,0 +1,94 @@
+package com.knight.application.cache;
+
+import com.knight.application.persistence.clients.entity.ClientAccountEntity;
+import com.knight.application.persistence.clients.entity.ClientEntity;
+import com.knight.application.persistence.indirectclients.entity.IndirectClientEntity;
+import com.knight.application.persistence.indirectclients.entity.RelatedPersonEntity;
+import com.knight.application.persistence.routing.ReplicaProperties;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drops second-level cache entries for rows written on other nodes.
+ *
+ * Writes on this node update the cache as part of the transaction; remote invalidations are
+ * evicted as they arrive. Read-only transactions may load from a replica that is still behind
+ * the write, and would put the old row back. So while reads are routed to a replica, every
+ * invalidated entry, local or remote, is evicted once more after the longest lag the replica is
+ * allowed before reads go back to the primary.
+ */
+@Component
+public class SecondLevelCacheEvictor {
+
+    private static final String RELATED_PERSONS_ROLE = IndirectClientEntity.class.getName() + ".relatedPersons";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ScheduledExecutorService scheduler;
+    private final Duration replicaLagWindow;
+
+    @Autowired
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory, ReplicaProperties replicaProperties) {
+        this(entityManagerFactory,
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("l2-evictor-")),
+            // Lag is only measured every check interval, so it can exceed max-lag for that long
+            replicaProperties.isEnabled()
+                ? replicaProperties.getMaxLag().plus(replicaProperties.getCheckInterval())
+                : null);
+    }
+
+    /**
+     * @param replicaLagWindow delay before evicting again, or null when reads are not routed to a replica
+     */
+    SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory, ScheduledExecutorService scheduler,
+                            Duration replicaLagWindow) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.scheduler = scheduler;
+        this.replicaLagWindow = replicaLagWindow;
+    }
+
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidated event) {
+        if (event.remote()) {
+            evict(event.cacheName(), event.key());
+        }
+        if (replicaLagWindow != null) {
+            scheduler.schedule(() -> evict(event.cacheName(), event.key()),
+                replicaLagWindow.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void evict(String cacheName, String key) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        switch (cacheName) {
+            case CacheNames.CLIENTS -> cache.evictEntityData(ClientEntity.class, key);
+            case CacheNames.CLIENT_ACCOUNTS -> {
+                cache.evictEntityData(ClientAccountEntity.class, key);
+                // The key does not say which client's list changed
+                cache.evictQueryRegion(CacheRegions.CLIENT_ACCOUNTS_BY_CLIENT);
+            }
+            case CacheNames.INDIRECT_CLIENTS -> {
+                cache.evictEntityData(IndirectClientEntity.class, key);
+                cache.evictCollectionData(RELATED_PERSONS_ROLE, key);
+                // Persons are replaced under the same IDs on update
+                cache.evictEntityData(RelatedPersonEntity.class);
+            }
+            default -> {
+            }
+        }
+    }
+}
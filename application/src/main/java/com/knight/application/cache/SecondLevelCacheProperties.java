@@ -0,0 +1,52 @@
+package com.knight.application.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the Hibernate second-level cache.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "knight.cache.second-level")
+public class SecondLevelCacheProperties {
+
+    /**
+     * Whether entities and cacheable queries are kept between sessions. Off by default, so
+     * every read goes to the database until a deployment opts in.
+     */
+    private boolean enabled;
+
+    /**
+     * Per-region limits, keyed by region name (see {@link CacheRegions}). Regions not listed
+     * use the defaults of {@link Region}.
+     */
+    private Map<String, Region> regions = new HashMap<>();
+
+    public Region region(String name) {
+        return regions.getOrDefault(name, new Region());
+    }
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        /**
+         * Most entries kept; the least recently used beyond this are evicted.
+         */
+        private long maxEntries = 10_000;
+
+        /**
+         * How long an entry is served after it was cached. Bounds staleness when an
+         * invalidation from another node is lost.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,119 @@
+package com.knight.application.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs commands against versioned aggregates, running a command again when it loses an
+ * optimistic-lock conflict to a concurrent writer.
+ *
+ * Each attempt must be its own transaction, so that it reloads the aggregate and re-checks the
+ * command against the winner's changes; a command joining a transaction that is already running
+ * is not retried, and the conflict is left to whoever owns that transaction. Retries wait a random,
+ * exponentially growing, bounded time. Every command run and every conflict is counted, by command,
+ * so the conflict rate of each aggregate can be watched.
+ */
+@Slf4j
+@Component
+public class ConflictRetry {
+
+    public static final String EXECUTIONS_METRIC = "knight.commands.executions";
+    public static final String CONFLICTS_METRIC = "knight.commands.conflicts";
+
+    /**
+     * Waits between attempts; replaced in tests.
+     */
+    interface Sleeper {
+        void sleep(Duration duration) throws InterruptedException;
+    }
+
+    private final ConflictRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Sleeper sleeper;
+
+    @Autowired
+    public ConflictRetry(ConflictRetryProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, duration -> Thread.sleep(duration.toMillis()));
+    }
+
+    ConflictRetry(ConflictRetryProperties properties, MeterRegistry meterRegistry, Sleeper sleeper) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Run a command, retrying it on optimistic-lock conflicts.
+     *
+     * @param command name the command is counted under
+     * @throws OptimisticLockingFailureException if the last attempt also conflicted
+     */
+    public <T> T execute(String command, Supplier<T> action) {
+        counter(EXECUTIONS_METRIC, command, null).increment();
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+        int attempt = 1;
+        while (true) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= properties.getMaxAttempts() || !pause(attempt)) {
+                    counter(CONFLICTS_METRIC, command, "exhausted").increment();
+                    log.warn("{} still conflicted after {} attempts", command, attempt);
+                    throw e;
+                }
+                counter(CONFLICTS_METRIC, command, "retried").increment();
+                log.debug("{} conflicted with a concurrent write; retrying (attempt {})", command, attempt + 1);
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * Run a command with no result, retrying it on optimistic-lock conflicts.
+     */
+    public void run(String command, Runnable action) {
+        execute(command, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Wait before the retry following the given attempt.
+     *
+     * @return false if interrupted
+     */
+    private boolean pause(int attempt) {
+        long bound = properties.getInitialBackoff().toNanos() << Math.min(attempt - 1, 20);
+        bound = Math.min(bound, properties.getMaxBackoff().toNanos());
+        if (bound <= 0) {
+            return true;
+        }
+        try {
+            sleeper.sleep(Duration.ofNanos(ThreadLocalRandom.current().nextLong(bound + 1)));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Counter counter(String name, String command, String outcome) {
+        Counter.Builder builder = Counter.builder(name).tag("command", command);
+        if (outcome != null) {
+            builder.tag("outcome", outcome);
+        }
+        return builder.register(meterRegistry);
+    }
+}
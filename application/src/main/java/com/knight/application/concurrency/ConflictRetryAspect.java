@@ -0,0 +1,46 @@
+package com.knight.application.concurrency;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Retries commands on the aggregates most often written concurrently when they lose an
+ * optimistic-lock conflict.
+ *
+ * Ordered ahead of the transaction advice, so each attempt runs in a fresh transaction. User
+ * commands are left out: they call Auth0 before saving, and running them again would repeat
+ * those calls.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ConflictRetryAspect {
+
+    private final ConflictRetry conflictRetry;
+
+    @Around("execution(* com.knight.domain.approvalworkflows.api.commands.ApprovalWorkflowCommands.*(..))"
+        + " || execution(* com.knight.domain.batch.api.commands.BatchCommands.*(..))"
+        + " || execution(* com.knight.domain.serviceprofiles.api.commands.ProfileCommands.*(..))"
+        + " || execution(* com.knight.domain.users.api.commands.UserGroupCommands.*(..))")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint) {
+        String command = joinPoint.getSignature().getDeclaringType().getSimpleName()
+            + "." + joinPoint.getSignature().getName();
+        return conflictRetry.execute(command, () -> {
+            try {
+                return joinPoint.proceed();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.knight.application.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for retrying commands that lose an optimistic-lock conflict.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "knight.concurrency.retry")
+public class ConflictRetryProperties {
+
+    /**
+     * Attempts at a command, including the first, before a conflict is reported to the caller.
+     */
+    private int maxAttempts = 4;
+
+    /**
+     * Upper bound of the wait before the first retry; it doubles with each further retry.
+     * The actual wait is random below the bound, so writers that collided do not collide again.
+     */
+    private Duration initialBackoff = Duration.ofMillis(10);
+
+    /**
+     * Most a single retry waits, however many attempts have failed.
+     */
+    private Duration maxBackoff = Duration.ofMillis(200);
+}
@@ -1,10 +1,13 @@
 package com.knight.application.config;
 
+import com.knight.domain.auth0identity.config.Auth0BulkImportConfig;
 import com.knight.domain.auth0identity.config.Auth0Config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * Configuration for Auth0 identity provider.
  */
@@ -19,6 +22,7 @@ public class Auth0ConfigProperties {
     private String managementAudience = "";
     private String connection = "Username-Password-Authentication";
     private String passwordResetResultUrl = "http://localhost:8080/";
+    private BulkImport bulkImport = new BulkImport();
 
     @Bean
     public Auth0Config auth0Config() {
@@ -33,6 +37,16 @@ public class Auth0ConfigProperties {
         );
     }
 
+    @Bean
+    public Auth0BulkImportConfig auth0BulkImportConfig() {
+        return new Auth0BulkImportConfig(
+            bulkImport.getMinUsers(),
+            bulkImport.getMaxUsersPerJob(),
+            bulkImport.getPollInterval(),
+            bulkImport.getTimeout()
+        );
+    }
+
     public String getDomain() { return domain; }
     public void setDomain(String domain) { this.domain = domain; }
     public String getClientId() { return clientId; }
@@ -47,4 +61,25 @@ public class Auth0ConfigProperties {
     public void setConnection(String connection) { this.connection = connection; }
     public String getPasswordResetResultUrl() { return passwordResetResultUrl; }
     public void setPasswordResetResultUrl(String passwordResetResultUrl) { this.passwordResetResultUrl = passwordResetResultUrl; }
+    public BulkImport getBulkImport() { return bulkImport; }
+    public void setBulkImport(BulkImport bulkImport) { this.bulkImport = bulkImport; }
+
+    /**
+     * Auth0 bulk users-import settings, used when many users are provisioned together.
+     */
+    public static class BulkImport {
+        private int minUsers = Auth0BulkImportConfig.defaults().minUsers();
+        private int maxUsersPerJob = Auth0BulkImportConfig.defaults().maxUsersPerJob();
+        private Duration pollInterval = Auth0BulkImportConfig.defaults().pollInterval();
+        private Duration timeout = Auth0BulkImportConfig.defaults().timeout();
+
+        public int getMinUsers() { return minUsers; }
+        public void setMinUsers(int minUsers) { this.minUsers = minUsers; }
+        public int getMaxUsersPerJob() { return maxUsersPerJob; }
+        public void setMaxUsersPerJob(int maxUsersPerJob) { this.maxUsersPerJob = maxUsersPerJob; }
+        public Duration getPollInterval() { return pollInterval; }
+        public void setPollInterval(Duration pollInterval) { this.pollInterval = pollInterval; }
+        public Duration getTimeout() { return timeout; }
+        public void setTimeout(Duration timeout) { this.timeout = timeout; }
+    }
 }
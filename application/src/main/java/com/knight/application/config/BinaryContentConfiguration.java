@@ -0,0 +1,35 @@
+package com.knight.application.config;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Jackson Smile encoding for the portals.
+ *
+ * Clients that list {@code application/x-jackson-smile} in Accept get the compact binary form;
+ * everyone else gets JSON as before, which the server gzips when large. Smile is built from the
+ * same Jackson settings as JSON, so both encodings carry the same fields and date formats.
+ */
+@Configuration
+public class BinaryContentConfiguration {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+            builder.createXmlMapper(false).factory(smileFactory()).build());
+    }
+
+    /**
+     * Back-references for repeated short values (statuses, client and service IDs) as well as
+     * field names; readers resolve them without any setting of their own.
+     */
+    static SmileFactory smileFactory() {
+        return SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+    }
+}
@@ -1,9 +1,13 @@
 package com.knight.application.config;
 
 import com.knight.application.security.ForbiddenException;
+import com.knight.application.security.ratelimit.RateLimitExceededException;
 import com.knight.domain.auth0identity.api.UserAlreadyExistsException;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -17,7 +21,8 @@ import java.util.stream.Collectors;
  * Global Exception Handler
  *
  * Provides centralized exception handling across all REST controllers.
- * Ensures consistent error response format.
+ * Ensures consistent error response format. Errors are always answered in JSON, even to
+ * clients that prefer Smile: the portals show the body's message as text.
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -35,7 +40,7 @@ public class GlobalExceptionHandler {
             ex.getMessage() != null ? ex.getMessage() : "Entity not found"
         );
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        return errorStatus(HttpStatus.NOT_FOUND).body(error);
     }
 
     /**
@@ -51,7 +56,7 @@ public class GlobalExceptionHandler {
             ex.getMessage()
         );
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        return errorStatus(HttpStatus.BAD_REQUEST).body(error);
     }
 
     /**
@@ -71,7 +76,7 @@ public class GlobalExceptionHandler {
             message
         );
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        return errorStatus(HttpStatus.BAD_REQUEST).body(error);
     }
 
     /**
@@ -87,7 +92,23 @@ public class GlobalExceptionHandler {
             ex.getMessage()
         );
 
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        return errorStatus(HttpStatus.CONFLICT).body(error);
+    }
+
+    /**
+     * Handle writes that kept losing to concurrent changes of the same resource
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentModification(
+            OptimisticLockingFailureException ex,
+            WebRequest request) {
+
+        ErrorResponse error = new ErrorResponse(
+            "CONCURRENT_MODIFICATION",
+            "The resource was changed by someone else; reload it and try again"
+        );
+
+        return errorStatus(HttpStatus.CONFLICT).body(error);
     }
 
     /**
@@ -103,7 +124,25 @@ public class GlobalExceptionHandler {
             ex.getMessage()
         );
 
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
+        return errorStatus(HttpStatus.FORBIDDEN).body(error);
+    }
+
+    /**
+     * Handle login API rate limit rejections
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(
+            RateLimitExceededException ex,
+            WebRequest request) {
+
+        ErrorResponse error = new ErrorResponse(
+            "TOO_MANY_REQUESTS",
+            ex.getMessage()
+        );
+
+        return errorStatus(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(error);
     }
 
     /**
@@ -119,7 +158,7 @@ public class GlobalExceptionHandler {
             ex.getMessage()
         );
 
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        return errorStatus(HttpStatus.CONFLICT).body(error);
     }
 
     /**
@@ -138,6 +177,13 @@ public class GlobalExceptionHandler {
         // Log the full exception for debugging
         ex.printStackTrace();
 
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        return errorStatus(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    }
+
+    /**
+     * Fixes the content type, so content negotiation does not pick Smile for the error body
+     */
+    private static ResponseEntity.BodyBuilder errorStatus(HttpStatus status) {
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON);
     }
 }
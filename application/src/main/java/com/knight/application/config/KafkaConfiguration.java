@@ -18,6 +18,9 @@ public class KafkaConfiguration {
     @Value("${kafka.platform-events-topic:platform-events}")
     private String platformEventsTopic;
 
+    @Value("${knight.cache.invalidation.topic:cache-invalidations}")
+    private String cacheInvalidationTopic;
+
     /**
      * Creates the platform-events topic for cross-application event messaging.
      * This topic is used for events like USER_PASSWORD_SET, USER_MFA_ENROLLED, USER_ONBOARDING_COMPLETE.
@@ -31,4 +34,19 @@ public class KafkaConfiguration {
                 .replicas(1)
                 .build();
     }
+
+    /**
+     * Creates the topic nodes use to tell each other which cache entries a write made stale.
+     * Messages are only useful for a moment, so the topic keeps them briefly.
+     *
+     * @return NewTopic configuration that will be auto-created by Spring Kafka
+     */
+    @Bean
+    public NewTopic cacheInvalidationTopic() {
+        return TopicBuilder.name(cacheInvalidationTopic)
+                .partitions(1)
+                .replicas(1)
+                .config("retention.ms", "3600000")
+                .build();
+    }
 }
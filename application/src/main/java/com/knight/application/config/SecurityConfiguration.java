@@ -1,6 +1,7 @@
 package com.knight.application.config;
 
 import com.knight.application.security.MultiIssuerJwtDecoder;
+import com.knight.application.timing.SegmentTimer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -35,6 +36,7 @@ import java.util.Map;
 public class SecurityConfiguration {
 
     private final JwtProperties jwtProperties;
+    private final SegmentTimer segmentTimer;
 
     @Bean
     @org.springframework.core.annotation.Order(2)
@@ -128,7 +130,7 @@ public class SecurityConfiguration {
         log.info("Multi-issuer JWT decoder configured with {} issuer(s): {}",
             decoders.size(), decoders.keySet());
 
-        return new MultiIssuerJwtDecoder(decoders);
+        return new MultiIssuerJwtDecoder(decoders, segmentTimer);
     }
 
     /**
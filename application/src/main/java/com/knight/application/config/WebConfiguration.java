@@ -1,18 +1,30 @@
 package com.knight.application.config;
 
+import com.knight.application.security.ratelimit.LoginRateLimitInterceptor;
+import com.knight.application.timing.SerializationTimingAdvice;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * Web MVC Configuration
  *
  * Configures CORS settings to allow the Employee Portal (running on port 8081)
- * to communicate with the REST API.
+ * to communicate with the REST API, and registers the login API rate limiter.
  */
 @Configuration
 public class WebConfiguration implements WebMvcConfigurer {
 
+    private final LoginRateLimitInterceptor loginRateLimitInterceptor;
+    private final SerializationTimingAdvice serializationTimingAdvice;
+
+    public WebConfiguration(LoginRateLimitInterceptor loginRateLimitInterceptor,
+                            SerializationTimingAdvice serializationTimingAdvice) {
+        this.loginRateLimitInterceptor = loginRateLimitInterceptor;
+        this.serializationTimingAdvice = serializationTimingAdvice;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -22,4 +34,11 @@ public class WebConfiguration implements WebMvcConfigurer {
             .allowCredentials(true)
             .maxAge(3600); // Cache preflight response for 1 hour
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(loginRateLimitInterceptor)
+            .addPathPatterns("/api/login/**");
+        registry.addInterceptor(serializationTimingAdvice);
+    }
 }
@@ -0,0 +1,31 @@
+package com.knight.application.jobs;
+
+import com.knight.application.service.reconciliation.Auth0ReconciliationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs Auth0 reconciliation. The job reference is fixed, so at most one run is active; the run
+ * is checkpointed under the job ID, so a retried or recovered job resumes where the last attempt stopped.
+ */
+@Component
+@RequiredArgsConstructor
+public class Auth0ReconciliationJobHandler implements JobHandler {
+
+    private final Auth0ReconciliationService reconciliationService;
+
+    @Override
+    public JobType type() {
+        return JobType.AUTH0_RECONCILIATION;
+    }
+
+    @Override
+    public void run(JobContext context) {
+        reconciliationService.run(context.jobId(), context::shouldStop);
+    }
+
+    @Override
+    public void abandon(String referenceId, String reason) {
+        reconciliationService.abandon(reason);
+    }
+}
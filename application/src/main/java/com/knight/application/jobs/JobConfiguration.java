@@ -0,0 +1,47 @@
+package com.knight.application.jobs;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Schedules job polling, heartbeats and stale-job recovery at the configured intervals.
+ * Nothing is scheduled when {@code knight.jobs.enabled} is false.
+ *
+ * Heartbeats run on a thread of their own rather than the shared scheduler: a heartbeat held up
+ * behind another task for longer than {@code stale-after} gets a job that is still running
+ * requeued on another node.
+ */
+@Configuration
+@EnableScheduling
+public class JobConfiguration implements SchedulingConfigurer {
+
+    private final JobRunner jobRunner;
+    private final JobProperties properties;
+    private final ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+
+    public JobConfiguration(JobRunner jobRunner, JobProperties properties) {
+        this.jobRunner = jobRunner;
+        this.properties = properties;
+        heartbeatScheduler.setThreadNamePrefix("job-heartbeat-");
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        registrar.addFixedDelayTask(jobRunner::dispatch, properties.getPollInterval());
+        registrar.addFixedDelayTask(jobRunner::recoverStale, properties.getHeartbeatInterval());
+        heartbeatScheduler.initialize();
+        heartbeatScheduler.scheduleWithFixedDelay(jobRunner::heartbeat, properties.getHeartbeatInterval());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdown();
+    }
+}
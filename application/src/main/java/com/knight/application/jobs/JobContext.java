@@ -0,0 +1,57 @@
+package com.knight.application.jobs;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A job claimed by this node, and the signals that tell its handler to stop.
+ */
+public final class JobContext {
+
+    private final UUID jobId;
+    private final JobType type;
+    private final String referenceId;
+    private final int attempt;
+    private final Instant enqueuedAt;
+    private volatile boolean cancelRequested;
+    private volatile boolean ownershipLost;
+    private volatile boolean released;
+
+    JobContext(UUID jobId, JobType type, String referenceId, int attempt, Instant enqueuedAt, boolean cancelRequested) {
+        this.jobId = jobId;
+        this.type = type;
+        this.referenceId = referenceId;
+        this.attempt = attempt;
+        this.enqueuedAt = enqueuedAt;
+        this.cancelRequested = cancelRequested;
+    }
+
+    public UUID jobId() { return jobId; }
+    public JobType type() { return type; }
+    public String referenceId() { return referenceId; }
+    public int attempt() { return attempt; }
+    public Instant enqueuedAt() { return enqueuedAt; }
+
+    /**
+     * Whether the handler should stop before its next unit of work.
+     */
+    public boolean shouldStop() {
+        return cancelRequested || ownershipLost || released;
+    }
+
+    boolean isCancelRequested() { return cancelRequested; }
+    boolean isOwnershipLost() { return ownershipLost; }
+    boolean isReleased() { return released; }
+
+    void requestCancel() { this.cancelRequested = true; }
+
+    /**
+     * Another node has taken the job over after missed heartbeats.
+     */
+    void loseOwnership() { this.ownershipLost = true; }
+
+    /**
+     * This node is shutting down and hands the job back to the queue.
+     */
+    void release() { this.released = true; }
+}
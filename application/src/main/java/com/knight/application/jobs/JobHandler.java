@@ -0,0 +1,25 @@
+package com.knight.application.jobs;
+
+/**
+ * Runs one type of background job.
+ *
+ * Jobs can be interrupted at any point and run again, on this node or another, so
+ * {@link #run} must be able to pick up work left part-done by an earlier attempt.
+ */
+public interface JobHandler {
+
+    JobType type();
+
+    /**
+     * Do the work referenced by the job. Long-running handlers check
+     * {@link JobContext#shouldStop()} between units of work and return early when it is set;
+     * the runner then decides whether the job was cancelled, handed off or lost.
+     */
+    void run(JobContext context) throws Exception;
+
+    /**
+     * The job will not run again: it was cancelled, or its attempts are exhausted.
+     * Put the referenced work into a final state so it does not stay pending forever.
+     */
+    void abandon(String referenceId, String reason);
+}
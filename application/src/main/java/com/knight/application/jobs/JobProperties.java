@@ -0,0 +1,62 @@
+package com.knight.application.jobs;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the background job subsystem.
+ * Jobs are persisted, so every node polls the same queue; the limits below apply per node
+ * except {@link #maxRunningPerProfile}, which is enforced across the cluster.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "knight.jobs")
+public class JobProperties {
+
+    /**
+     * Whether this node claims and runs jobs. Nodes with workers disabled can still enqueue.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Size of the worker pool; at most this many jobs run on this node at once.
+     */
+    private int workers = 4;
+
+    /**
+     * Maximum jobs running at once for one profile, so a profile submitting many
+     * batches cannot hold every worker while other profiles wait.
+     */
+    private int maxRunningPerProfile = 1;
+
+    /**
+     * How often idle workers look for queued jobs.
+     */
+    private Duration pollInterval = Duration.ofSeconds(2);
+
+    /**
+     * How often running jobs record that they are alive and pick up cancellation requests.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(10);
+
+    /**
+     * A running job without a heartbeat for this long is considered orphaned and requeued.
+     * Must be several heartbeat intervals.
+     */
+    private Duration staleAfter = Duration.ofMinutes(1);
+
+    /**
+     * Attempts before a job that keeps failing or being orphaned is given up.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Number of oldest queued jobs considered per poll when choosing what to run next.
+     */
+    private int dispatchWindow = 100;
+}
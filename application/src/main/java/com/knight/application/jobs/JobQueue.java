@@ -0,0 +1,242 @@
+package com.knight.application.jobs;
+
+import com.knight.application.persistence.jobs.entity.BackgroundJobEntity;
+import com.knight.application.persistence.jobs.repository.BackgroundJobJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Persistent queue of background jobs.
+ *
+ * Controllers enqueue and cancel jobs here; {@link JobRunner} claims and settles them.
+ * Every state change is a conditional update, so nodes polling the same table never
+ * both run a job, and a node that lost a job through missed heartbeats cannot settle it.
+ */
+@Slf4j
+@Service
+public class JobQueue {
+
+    static final String CANCELLED_REASON = "Cancelled before this item was processed";
+    private static final int MAX_ERROR_LENGTH = 2000;
+    private static final List<String> ACTIVE_STATUSES = List.of(JobStatus.QUEUED.name(), JobStatus.RUNNING.name());
+
+    /**
+     * Result of a cancellation request.
+     */
+    public enum CancelOutcome {
+        /** The job had not started and will not run. */
+        CANCELLED,
+        /** The job is running; its worker stops before the next unit of work. */
+        CANCEL_REQUESTED,
+        /** There is no queued or running job for the reference. */
+        NOT_ACTIVE
+    }
+
+    private final BackgroundJobJpaRepository repository;
+    private final Map<JobType, JobHandler> handlers;
+    private final Clock clock;
+
+    @Autowired
+    public JobQueue(BackgroundJobJpaRepository repository, List<JobHandler> handlers) {
+        this(repository, handlers, Clock.systemUTC());
+    }
+
+    JobQueue(BackgroundJobJpaRepository repository, List<JobHandler> handlers, Clock clock) {
+        this.repository = repository;
+        this.handlers = new EnumMap<>(handlers.stream()
+            .collect(Collectors.toMap(JobHandler::type, Function.identity())));
+        this.clock = clock;
+    }
+
+    /**
+     * Queue a job, or return the job already queued or running for the same reference.
+     *
+     * @param partitionKey the owner of the work (a profile); running jobs are spread across partitions
+     */
+    @Transactional
+    public UUID enqueue(JobType type, String referenceId, String partitionKey) {
+        Optional<BackgroundJobEntity> active = repository.findFirstByJobTypeAndReferenceIdAndStatusIn(
+            type.name(), referenceId, ACTIVE_STATUSES);
+        if (active.isPresent()) {
+            return active.get().getJobId();
+        }
+
+        BackgroundJobEntity job = new BackgroundJobEntity();
+        job.setJobId(UUID.randomUUID());
+        job.setJobType(type.name());
+        job.setReferenceId(referenceId);
+        job.setPartitionKey(partitionKey);
+        job.setStatus(JobStatus.QUEUED.name());
+        job.setEnqueuedAt(clock.instant());
+        repository.save(job);
+        log.info("Queued {} job {} for {}", type, job.getJobId(), referenceId);
+        return job.getJobId();
+    }
+
+    /**
+     * Cancel the active job for a reference. A queued job is cancelled at once; a running
+     * job is flagged and stops within one heartbeat interval.
+     */
+    @Transactional
+    public CancelOutcome cancel(JobType type, String referenceId) {
+        Optional<BackgroundJobEntity> active = repository.findFirstByJobTypeAndReferenceIdAndStatusIn(
+            type.name(), referenceId, ACTIVE_STATUSES);
+        if (active.isEmpty()) {
+            return CancelOutcome.NOT_ACTIVE;
+        }
+        UUID jobId = active.get().getJobId();
+        if (repository.cancelQueued(jobId, clock.instant()) == 1) {
+            handlerFor(type).abandon(referenceId, CANCELLED_REASON);
+            log.info("Cancelled queued {} job {}", type, jobId);
+            return CancelOutcome.CANCELLED;
+        }
+        if (repository.requestCancel(jobId) == 1) {
+            log.info("Requested cancellation of running {} job {}", type, jobId);
+            return CancelOutcome.CANCEL_REQUESTED;
+        }
+        return CancelOutcome.NOT_ACTIVE;
+    }
+
+    // ========== Used by JobRunner ==========
+
+    @Transactional(readOnly = true)
+    public long queueDepth() {
+        return repository.countByStatus(JobStatus.QUEUED.name());
+    }
+
+    /**
+     * The oldest queued jobs, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public List<BackgroundJobEntity> queued(int limit) {
+        return repository.findByStatusOrderByEnqueuedAtAsc(JobStatus.QUEUED.name(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * Running job counts per partition, across all nodes.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> runningPerPartition() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : repository.countRunningByPartition()) {
+            counts.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    /**
+     * Claim a queued job for this node.
+     *
+     * @return the claimed job, or empty if another node claimed or cancelled it first
+     */
+    @Transactional
+    public Optional<BackgroundJobEntity> claim(UUID jobId, String owner) {
+        if (repository.claim(jobId, owner, clock.instant()) == 0) {
+            return Optional.empty();
+        }
+        return repository.findById(jobId);
+    }
+
+    /**
+     * Record a heartbeat for this node's running jobs and return their current rows, so the
+     * caller can pick up cancellation requests and notice jobs taken over by another node.
+     */
+    @Transactional
+    public Map<UUID, BackgroundJobEntity> heartbeat(String owner, Collection<UUID> jobIds) {
+        repository.heartbeat(jobIds, owner, clock.instant());
+        return repository.findAllById(jobIds).stream()
+            .collect(Collectors.toMap(BackgroundJobEntity::getJobId, Function.identity()));
+    }
+
+    @Transactional
+    public void succeed(UUID jobId, String owner) {
+        repository.finish(jobId, owner, JobStatus.SUCCEEDED.name(), null, clock.instant());
+    }
+
+    /**
+     * Settle a running job whose cancellation was requested.
+     */
+    @Transactional
+    public void cancelled(JobContext context, String owner) {
+        if (repository.finish(context.jobId(), owner, JobStatus.CANCELLED.name(), null, clock.instant()) == 1) {
+            handlerFor(context.type()).abandon(context.referenceId(), CANCELLED_REASON);
+        }
+    }
+
+    /**
+     * Settle a failed attempt: retry at the back of the queue, or give up once attempts are exhausted.
+     *
+     * @return true if the job will be retried
+     */
+    @Transactional
+    public boolean failed(JobContext context, String owner, Throwable error, int maxAttempts) {
+        String message = truncate(String.valueOf(error.getMessage()));
+        if (context.attempt() < maxAttempts) {
+            return repository.retry(context.jobId(), owner, message, clock.instant()) == 1;
+        }
+        if (repository.finish(context.jobId(), owner, JobStatus.FAILED.name(), message, clock.instant()) == 1) {
+            handlerFor(context.type()).abandon(context.referenceId(), truncate("Processing failed: " + message));
+        }
+        return false;
+    }
+
+    /**
+     * Hand a running job back to the queue without counting the attempt.
+     */
+    @Transactional
+    public void release(UUID jobId, String owner) {
+        repository.release(jobId, owner);
+    }
+
+    /**
+     * Requeue running jobs whose worker stopped sending heartbeats, or give up on
+     * them once attempts are exhausted.
+     *
+     * @return the number of jobs recovered
+     */
+    @Transactional
+    public int recoverStale(Instant cutoff, int maxAttempts) {
+        int recovered = 0;
+        for (BackgroundJobEntity job : repository.findByStatusAndHeartbeatAtBefore(JobStatus.RUNNING.name(), cutoff)) {
+            if (job.getAttempts() < maxAttempts) {
+                if (repository.requeueStale(job.getJobId(), cutoff) == 1) {
+                    log.warn("Requeued orphaned {} job {} last owned by {}", job.getJobType(), job.getJobId(), job.getOwner());
+                    recovered++;
+                }
+            } else if (repository.failStale(job.getJobId(), cutoff, clock.instant()) == 1) {
+                log.error("Gave up on orphaned {} job {} after {} attempts", job.getJobType(), job.getJobId(), job.getAttempts());
+                handlerFor(JobType.valueOf(job.getJobType()))
+                    .abandon(job.getReferenceId(), "Processing was interrupted too many times");
+                recovered++;
+            }
+        }
+        return recovered;
+    }
+
+    public JobHandler handlerFor(JobType type) {
+        JobHandler handler = handlers.get(type);
+        if (handler == null) {
+            throw new IllegalStateException("No handler registered for job type " + type);
+        }
+        return handler;
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
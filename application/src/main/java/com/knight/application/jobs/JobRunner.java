@@ -0,0 +1,267 @@
+package com.knight.application.jobs;
+
+import com.knight.application.persistence.jobs.entity.BackgroundJobEntity;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Claims queued jobs and runs them on a bounded worker pool.
+ *
+ * Polling, heartbeats and stale-job recovery are driven by {@link JobConfiguration}. A job is
+ * only claimed when a worker is free, so the pool never queues work in memory: everything
+ * waiting is in the database, visible to every node and safe across restarts.
+ */
+@Slf4j
+@Component
+public class JobRunner {
+
+    public static final String QUEUE_DEPTH_METRIC = "knight.jobs.queue.depth";
+    public static final String RUNNING_METRIC = "knight.jobs.running";
+    public static final String WAIT_METRIC = "knight.jobs.wait";
+    public static final String RUN_METRIC = "knight.jobs.run";
+    private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(30);
+
+    private final JobQueue jobQueue;
+    private final JobProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final ExecutorService workers;
+    private final String owner;
+    private final Map<UUID, JobContext> running = new ConcurrentHashMap<>();
+    private final AtomicLong queueDepth = new AtomicLong();
+    private volatile boolean stopping;
+
+    @Autowired
+    public JobRunner(JobQueue jobQueue, JobProperties properties, MeterRegistry meterRegistry) {
+        this(jobQueue, properties, meterRegistry, Clock.systemUTC(),
+            Executors.newFixedThreadPool(properties.getWorkers(), new CustomizableThreadFactory("job-worker-")),
+            nodeName() + "-" + UUID.randomUUID().toString().substring(0, 8));
+    }
+
+    JobRunner(JobQueue jobQueue, JobProperties properties, MeterRegistry meterRegistry, Clock clock,
+              ExecutorService workers, String owner) {
+        this.jobQueue = jobQueue;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.workers = workers;
+        this.owner = owner;
+
+        Gauge.builder(QUEUE_DEPTH_METRIC, queueDepth, AtomicLong::get)
+            .description("Background jobs waiting for a worker, as of the last poll")
+            .register(meterRegistry);
+        Gauge.builder(RUNNING_METRIC, running, Map::size)
+            .description("Background jobs running on this node")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Claim as many queued jobs as there are free workers, spread fairly across profiles.
+     */
+    public void dispatch() {
+        if (stopping) {
+            return;
+        }
+        try {
+            queueDepth.set(jobQueue.queueDepth());
+            int free = properties.getWorkers() - running.size();
+            if (free <= 0 || queueDepth.get() == 0) {
+                return;
+            }
+            List<BackgroundJobEntity> selected = selectFair(jobQueue.queued(properties.getDispatchWindow()),
+                jobQueue.runningPerPartition(), free, properties.getMaxRunningPerProfile());
+            for (BackgroundJobEntity candidate : selected) {
+                jobQueue.claim(candidate.getJobId(), owner).ifPresent(this::start);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Job dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Keep this node's running jobs alive and pass on cancellation requests. A job whose row
+     * no longer names this node was requeued after missed heartbeats; its handler is told to stop.
+     */
+    public void heartbeat() {
+        if (running.isEmpty()) {
+            return;
+        }
+        try {
+            Map<UUID, BackgroundJobEntity> current = jobQueue.heartbeat(owner, running.keySet());
+            for (JobContext context : running.values()) {
+                BackgroundJobEntity job = current.get(context.jobId());
+                if (job == null || !owner.equals(job.getOwner())
+                        || !JobStatus.RUNNING.name().equals(job.getStatus())) {
+                    log.warn("Lost ownership of {} job {}", context.type(), context.jobId());
+                    context.loseOwnership();
+                } else if (job.isCancelRequested()) {
+                    context.requestCancel();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Job heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Requeue jobs orphaned by a node that died or stalled.
+     */
+    public void recoverStale() {
+        try {
+            jobQueue.recoverStale(clock.instant().minus(properties.getStaleAfter()), properties.getMaxAttempts());
+        } catch (RuntimeException e) {
+            log.warn("Stale job recovery failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stop claiming, ask running handlers to stop, and hand their jobs back to the queue
+     * so another node can continue them without waiting for heartbeats to lapse.
+     */
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        running.values().forEach(JobContext::release);
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_GRACE.toMillis(), TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    int runningCount() {
+        return running.size();
+    }
+
+    private void start(BackgroundJobEntity job) {
+        JobType type = JobType.valueOf(job.getJobType());
+        JobContext context = new JobContext(job.getJobId(), type, job.getReferenceId(), job.getAttempts(),
+            job.getEnqueuedAt(), job.isCancelRequested());
+        running.put(context.jobId(), context);
+        Timer.builder(WAIT_METRIC)
+            .description("Time from enqueue to a worker starting the job")
+            .tag("type", type.name())
+            .register(meterRegistry)
+            .record(Duration.between(job.getEnqueuedAt(), job.getStartedAt()));
+        workers.execute(() -> run(context));
+    }
+
+    private void run(JobContext context) {
+        long startNanos = System.nanoTime();
+        String outcome;
+        try {
+            jobQueue.handlerFor(context.type()).run(context);
+            outcome = settle(context);
+        } catch (Exception e) {
+            outcome = settleFailure(context, e);
+        } finally {
+            running.remove(context.jobId());
+        }
+        Timer.builder(RUN_METRIC)
+            .description("Time a worker spent on a job attempt")
+            .tag("type", context.type().name())
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private String settle(JobContext context) {
+        try {
+            if (context.isOwnershipLost()) {
+                return "lost";
+            }
+            if (context.isCancelRequested()) {
+                jobQueue.cancelled(context, owner);
+                return "cancelled";
+            }
+            if (context.isReleased()) {
+                jobQueue.release(context.jobId(), owner);
+                return "released";
+            }
+            jobQueue.succeed(context.jobId(), owner);
+            return "succeeded";
+        } catch (RuntimeException e) {
+            log.error("Failed to settle {} job {}; it will be recovered once stale", context.type(), context.jobId(), e);
+            return "unsettled";
+        }
+    }
+
+    private String settleFailure(JobContext context, Exception error) {
+        log.error("{} job {} failed on attempt {}", context.type(), context.jobId(), context.attempt(), error);
+        if (context.isOwnershipLost()) {
+            return "lost";
+        }
+        try {
+            return jobQueue.failed(context, owner, error, properties.getMaxAttempts()) ? "retried" : "failed";
+        } catch (RuntimeException e) {
+            log.error("Failed to settle {} job {}; it will be recovered once stale", context.type(), context.jobId(), e);
+            return "unsettled";
+        }
+    }
+
+    /**
+     * Choose up to {@code slots} jobs from the queued jobs (oldest first). Each pick goes to the
+     * partition with the fewest running jobs that is below {@code maxPerPartition}; ties go to the
+     * partition whose oldest job has waited longest. One busy profile therefore cannot hold all
+     * workers while other profiles have work queued.
+     */
+    static List<BackgroundJobEntity> selectFair(List<BackgroundJobEntity> queued, Map<String, Long> runningPerPartition,
+                                                int slots, int maxPerPartition) {
+        Map<String, Deque<BackgroundJobEntity>> byPartition = new LinkedHashMap<>();
+        for (BackgroundJobEntity job : queued) {
+            byPartition.computeIfAbsent(job.getPartitionKey(), key -> new ArrayDeque<>()).add(job);
+        }
+        Map<String, Long> load = new HashMap<>(runningPerPartition);
+        List<BackgroundJobEntity> selected = new ArrayList<>();
+
+        while (selected.size() < slots) {
+            String next = null;
+            long nextLoad = Long.MAX_VALUE;
+            for (Map.Entry<String, Deque<BackgroundJobEntity>> entry : byPartition.entrySet()) {
+                long partitionLoad = load.getOrDefault(entry.getKey(), 0L);
+                if (!entry.getValue().isEmpty() && partitionLoad < maxPerPartition && partitionLoad < nextLoad) {
+                    next = entry.getKey();
+                    nextLoad = partitionLoad;
+                }
+            }
+            if (next == null) {
+                break;
+            }
+            selected.add(byPartition.get(next).poll());
+            load.merge(next, 1L, Long::sum);
+        }
+        return selected;
+    }
+
+    private static String nodeName() {
+        String host = System.getenv("HOSTNAME");
+        return host != null && !host.isBlank() ? host : "node";
+    }
+}
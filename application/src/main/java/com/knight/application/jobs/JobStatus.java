@@ -0,0 +1,16 @@
+package com.knight.application.jobs;
+
+/**
+ * Lifecycle of a background job.
+ */
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELLED;
+
+    public boolean isActive() {
+        return this == QUEUED || this == RUNNING;
+    }
+}
@@ -0,0 +1,9 @@
+package com.knight.application.jobs;
+
+/**
+ * Kind of background job. Each type has exactly one {@link JobHandler}.
+ */
+public enum JobType {
+    PAYOR_ENROLMENT,
+    AUTH0_RECONCILIATION
+}
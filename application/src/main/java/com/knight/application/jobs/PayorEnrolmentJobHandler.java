@@ -0,0 +1,36 @@
+package com.knight.application.jobs;
+
+import com.knight.domain.batch.service.PayorEnrolmentService;
+import com.knight.domain.batch.types.BatchStatus;
+import com.knight.platform.sharedkernel.BatchId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs payor enrolment batches. The job reference is the batch ID.
+ * Batch progress is saved per item, so a retried or recovered job resumes where the last attempt stopped.
+ */
+@Component
+@RequiredArgsConstructor
+public class PayorEnrolmentJobHandler implements JobHandler {
+
+    private final PayorEnrolmentService payorEnrolmentService;
+
+    @Override
+    public JobType type() {
+        return JobType.PAYOR_ENROLMENT;
+    }
+
+    @Override
+    public void run(JobContext context) {
+        payorEnrolmentService.execute(BatchId.of(context.referenceId()), context::shouldStop);
+    }
+
+    @Override
+    public void abandon(String referenceId, String reason) {
+        BatchId batchId = BatchId.of(referenceId);
+        payorEnrolmentService.getBatch(batchId)
+            .filter(batch -> batch.status() == BatchStatus.PENDING || batch.status() == BatchStatus.IN_PROGRESS)
+            .ifPresent(batch -> payorEnrolmentService.cancel(batchId, reason));
+    }
+}
@@ -0,0 +1,62 @@
+package com.knight.application.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * Optimistic concurrency for aggregates stored as an entity with child rows.
+ *
+ * Hibernate checks an entity's version when it writes the row, but only against the version it
+ * loaded itself, while the aggregate being saved may have been read in an earlier transaction.
+ * Nor does it count a change to child rows alone as a change of the parent, so adding an approval
+ * or a group member would not move the version. Adapters check the aggregate's version against the
+ * stored one and make sure every save of an existing aggregate moves the version, once.
+ */
+public final class AggregateVersions {
+
+    private AggregateVersions() {
+    }
+
+    /**
+     * Fail if the aggregate was loaded at a version other than the stored one.
+     *
+     * @param loaded the version the aggregate was loaded or last saved at; null skips the check
+     * @throws ObjectOptimisticLockingFailureException if the row has changed since
+     */
+    public static void requireCurrent(Class<?> entityType, Object id, Long stored, Long loaded) {
+        if (loaded != null && !loaded.equals(stored)) {
+            throw new ObjectOptimisticLockingFailureException(entityType, id);
+        }
+    }
+
+    /**
+     * The version a managed entity will be stored at once the transaction commits: its own, or the
+     * next one when a force increment from an earlier save in the transaction is still pending.
+     */
+    public static Long stored(EntityManager entityManager, Object entity, Long version) {
+        return version != null && incrementPending(entityManager, entity) ? version + 1 : version;
+    }
+
+    /**
+     * Make sure a save of an existing aggregate moves its version, after its changes are flushed.
+     * When the flush moved it, the entity's own columns changed and nothing more is needed. When it
+     * did not, only child rows changed, and the version is moved with an UPDATE conditional on the
+     * version it was loaded at, run when the transaction commits; a concurrent writer then fails
+     * there, to be retried, rather than being held back by a lock.
+     *
+     * @param beforeFlush the entity's version before its changes were flushed
+     * @param afterFlush  its version after
+     * @return the version the aggregate is stored at once committed
+     */
+    public static Long increment(EntityManager entityManager, Object entity, Long beforeFlush, Long afterFlush) {
+        if (afterFlush != null && afterFlush.equals(beforeFlush) && !incrementPending(entityManager, entity)) {
+            entityManager.lock(entity, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        }
+        return stored(entityManager, entity, afterFlush);
+    }
+
+    private static boolean incrementPending(EntityManager entityManager, Object entity) {
+        return entityManager.getLockMode(entity) == LockModeType.OPTIMISTIC_FORCE_INCREMENT;
+    }
+}
@@ -0,0 +1,18 @@
+package com.knight.application.persistence.accountgroups.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Account group header with its member count, projected without loading members.
+ */
+public record AccountGroupSummaryRow(
+    UUID groupId,
+    String profileId,
+    String name,
+    String description,
+    long accountCount,
+    Instant createdAt,
+    String createdBy,
+    Instant updatedAt
+) {}
@@ -1,12 +1,14 @@
 package com.knight.application.persistence.accountgroups.mapper;
 
 import com.knight.application.persistence.accountgroups.entity.AccountGroupEntity;
+import com.knight.application.persistence.accountgroups.entity.AccountGroupMemberEmbeddable;
 import com.knight.domain.serviceprofiles.aggregate.AccountGroup;
 import com.knight.domain.serviceprofiles.types.AccountGroupId;
 import com.knight.platform.sharedkernel.ClientAccountId;
 import com.knight.platform.sharedkernel.ProfileId;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -31,6 +33,27 @@ public class AccountGroupMapper {
         return entity;
     }
 
+    /**
+     * Copy the group onto a managed entity, adding and removing members in place so
+     * unchanged member rows are left alone.
+     */
+    public AccountGroupEntity updateEntity(AccountGroupEntity entity, AccountGroup group) {
+        entity.setName(group.name());
+        entity.setDescription(group.description());
+        entity.setUpdatedAt(group.updatedAt());
+
+        Set<String> accountIds = group.accounts().stream()
+            .map(ClientAccountId::urn)
+            .collect(Collectors.toSet());
+        entity.getMembers().removeIf(member -> !accountIds.contains(member.getAccountId()));
+        accountIds.removeAll(entity.getAccountIds());
+        Instant now = Instant.now();
+        for (String accountId : accountIds) {
+            entity.getMembers().add(new AccountGroupMemberEmbeddable(accountId, now));
+        }
+        return entity;
+    }
+
     public AccountGroup toDomain(AccountGroupEntity entity) {
         Set<ClientAccountId> accounts = entity.getAccountIds().stream()
             .map(ClientAccountId::of)
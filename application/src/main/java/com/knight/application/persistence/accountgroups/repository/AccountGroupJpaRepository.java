@@ -1,9 +1,14 @@
 package com.knight.application.persistence.accountgroups.repository;
 
 import com.knight.application.persistence.accountgroups.entity.AccountGroupEntity;
+import com.knight.application.persistence.accountgroups.entity.AccountGroupSummaryRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,9 +16,37 @@ import java.util.UUID;
 @Repository
 public interface AccountGroupJpaRepository extends JpaRepository<AccountGroupEntity, UUID> {
 
+    String SUMMARY_SELECT = """
+        SELECT new com.knight.application.persistence.accountgroups.entity.AccountGroupSummaryRow(
+            g.groupId, g.profileId, g.name, g.description, COUNT(m.accountId), g.createdAt, g.createdBy, g.updatedAt)
+        FROM AccountGroupEntity g LEFT JOIN g.members m
+        """;
+
+    String SUMMARY_GROUP_BY = """
+        GROUP BY g.groupId, g.profileId, g.name, g.description, g.createdAt, g.createdBy, g.updatedAt
+        """;
+
     List<AccountGroupEntity> findByProfileId(String profileId);
 
     Optional<AccountGroupEntity> findByProfileIdAndName(String profileId, String name);
 
     boolean existsByProfileIdAndName(String profileId, String name);
+
+    @Query(SUMMARY_SELECT + " WHERE g.groupId = :groupId " + SUMMARY_GROUP_BY)
+    Optional<AccountGroupSummaryRow> findSummaryById(@Param("groupId") UUID groupId);
+
+    @Query(SUMMARY_SELECT + " WHERE g.profileId = :profileId " + SUMMARY_GROUP_BY + " ORDER BY g.name")
+    List<AccountGroupSummaryRow> findSummariesByProfileId(@Param("profileId") String profileId);
+
+    @Query(SUMMARY_SELECT + """
+         WHERE g.profileId = :profileId
+           AND g.groupId IN (SELECT g2.groupId FROM AccountGroupEntity g2 JOIN g2.members m2
+                             WHERE m2.accountId = :accountId)
+        """ + SUMMARY_GROUP_BY + " ORDER BY g.name")
+    List<AccountGroupSummaryRow> findSummariesContainingAccount(@Param("profileId") String profileId,
+                                                                @Param("accountId") String accountId);
+
+    @Modifying
+    @Query("UPDATE AccountGroupEntity g SET g.updatedAt = :updatedAt WHERE g.groupId = :groupId")
+    int touch(@Param("groupId") UUID groupId, @Param("updatedAt") Instant updatedAt);
 }
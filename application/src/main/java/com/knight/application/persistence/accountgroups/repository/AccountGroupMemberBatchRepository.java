@@ -0,0 +1,76 @@
+package com.knight.application.persistence.accountgroups.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Row-level access to account_group_members for membership deltas.
+ *
+ * Hibernate treats the members element collection as one value, so changing it through the
+ * entity can rewrite every row. These statements touch only the rows being added or removed,
+ * in JDBC batches, and never load the rest of the group.
+ */
+@Repository
+public class AccountGroupMemberBatchRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO account_group_members (group_id, account_id, added_at) VALUES (?, ?, ?)";
+    private static final String DELETE_SQL =
+        "DELETE FROM account_group_members WHERE group_id = ? AND account_id = ?";
+    private static final String EXISTING_SQL =
+        "SELECT account_id FROM account_group_members WHERE group_id = :groupId AND account_id IN (:accountIds)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public AccountGroupMemberBatchRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    /**
+     * Of the given accounts, those already in the group. Looked up in chunks to stay under
+     * the driver's parameter limit.
+     */
+    public Set<String> findExisting(UUID groupId, Collection<String> accountIds) {
+        Set<String> existing = new HashSet<>();
+        List<String> ids = List.copyOf(accountIds);
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("groupId", groupId.toString())
+                .addValue("accountIds", ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+            existing.addAll(namedJdbcTemplate.queryForList(EXISTING_SQL, params, String.class));
+        }
+        return existing;
+    }
+
+    public void insert(UUID groupId, Collection<String> accountIds, Instant addedAt) {
+        LocalDateTime addedAtUtc = LocalDateTime.ofInstant(addedAt, ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(INSERT_SQL, new ArrayList<>(accountIds), BATCH_SIZE, (ps, accountId) -> {
+            ps.setString(1, groupId.toString());
+            ps.setString(2, accountId);
+            ps.setObject(3, addedAtUtc);
+        });
+    }
+
+    public void delete(UUID groupId, Collection<String> accountIds) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, new ArrayList<>(accountIds), BATCH_SIZE, (ps, accountId) -> {
+            ps.setString(1, groupId.toString());
+            ps.setString(2, accountId);
+        });
+    }
+}
@@ -1,31 +1,56 @@
 package com.knight.application.persistence.accountgroups.repository;
 
+import com.knight.application.cache.CacheInvalidationPublisher;
+import com.knight.application.cache.CacheNames;
 import com.knight.application.persistence.accountgroups.entity.AccountGroupEntity;
+import com.knight.application.persistence.accountgroups.entity.AccountGroupSummaryRow;
 import com.knight.application.persistence.accountgroups.mapper.AccountGroupMapper;
 import com.knight.domain.serviceprofiles.aggregate.AccountGroup;
 import com.knight.domain.serviceprofiles.types.AccountGroupId;
 import com.knight.domain.serviceprofiles.repository.AccountGroupRepository;
+import com.knight.platform.sharedkernel.ClientAccountId;
 import com.knight.platform.sharedkernel.ProfileId;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Repository
 public class AccountGroupRepositoryAdapter implements AccountGroupRepository {
 
     private final AccountGroupJpaRepository jpaRepository;
     private final AccountGroupMapper mapper;
+    private final AccountGroupMemberBatchRepository memberRepository;
+    private final CacheInvalidationPublisher cacheInvalidation;
 
-    public AccountGroupRepositoryAdapter(AccountGroupJpaRepository jpaRepository, AccountGroupMapper mapper) {
+    public AccountGroupRepositoryAdapter(AccountGroupJpaRepository jpaRepository, AccountGroupMapper mapper,
+                                         AccountGroupMemberBatchRepository memberRepository,
+                                         CacheInvalidationPublisher cacheInvalidation) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.memberRepository = memberRepository;
+        this.cacheInvalidation = cacheInvalidation;
     }
 
+    /**
+     * Saves header changes and applies membership changes to the managed member set in place,
+     * so Hibernate deletes and inserts only the rows that changed.
+     */
     @Override
+    @Transactional
     public void save(AccountGroup group) {
-        AccountGroupEntity entity = mapper.toEntity(group);
+        AccountGroupEntity entity = jpaRepository.findById(group.id().value())
+            .map(existing -> mapper.updateEntity(existing, group))
+            .orElseGet(() -> mapper.toEntity(group));
         jpaRepository.save(entity);
+        invalidate(group.id());
     }
 
     @Override
@@ -48,6 +73,7 @@ public class AccountGroupRepositoryAdapter implements AccountGroupRepository {
     @Override
     public void delete(AccountGroup group) {
         jpaRepository.deleteById(group.id().value());
+        invalidate(group.id());
     }
 
     @Override
@@ -59,4 +85,71 @@ public class AccountGroupRepositoryAdapter implements AccountGroupRepository {
     public boolean existsByProfileIdAndName(ProfileId profileId, String name) {
         return jpaRepository.existsByProfileIdAndName(profileId.urn(), name);
     }
+
+    @Override
+    @Transactional
+    public Set<ClientAccountId> addMembers(AccountGroupId id, Collection<ClientAccountId> accountIds, Instant addedAt) {
+        Map<String, ClientAccountId> candidates = byUrn(accountIds);
+        candidates.keySet().removeAll(memberRepository.findExisting(id.value(), candidates.keySet()));
+        if (!candidates.isEmpty()) {
+            memberRepository.insert(id.value(), candidates.keySet(), addedAt);
+            jpaRepository.touch(id.value(), addedAt);
+            invalidate(id);
+        }
+        return Set.copyOf(candidates.values());
+    }
+
+    @Override
+    @Transactional
+    public Set<ClientAccountId> removeMembers(AccountGroupId id, Collection<ClientAccountId> accountIds, Instant removedAt) {
+        Map<String, ClientAccountId> candidates = byUrn(accountIds);
+        candidates.keySet().retainAll(memberRepository.findExisting(id.value(), candidates.keySet()));
+        if (!candidates.isEmpty()) {
+            memberRepository.delete(id.value(), candidates.keySet());
+            jpaRepository.touch(id.value(), removedAt);
+            invalidate(id);
+        }
+        return Set.copyOf(candidates.values());
+    }
+
+    @Override
+    public Optional<GroupSummary> findSummaryById(AccountGroupId id) {
+        return jpaRepository.findSummaryById(id.value()).map(this::toSummary);
+    }
+
+    @Override
+    public List<GroupSummary> findSummariesByProfileId(ProfileId profileId) {
+        return jpaRepository.findSummariesByProfileId(profileId.urn()).stream()
+            .map(this::toSummary)
+            .toList();
+    }
+
+    @Override
+    public List<GroupSummary> findSummariesContainingAccount(ProfileId profileId, ClientAccountId accountId) {
+        return jpaRepository.findSummariesContainingAccount(profileId.urn(), accountId.urn()).stream()
+            .map(this::toSummary)
+            .toList();
+    }
+
+    private GroupSummary toSummary(AccountGroupSummaryRow row) {
+        return new GroupSummary(
+            new AccountGroupId(row.groupId()),
+            ProfileId.fromUrn(row.profileId()),
+            row.name(),
+            row.description(),
+            (int) row.accountCount(),
+            row.createdAt(),
+            row.createdBy(),
+            row.updatedAt()
+        );
+    }
+
+    private static Map<String, ClientAccountId> byUrn(Collection<ClientAccountId> accountIds) {
+        return accountIds.stream()
+            .collect(Collectors.toMap(ClientAccountId::urn, accountId -> accountId, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    private void invalidate(AccountGroupId id) {
+        cacheInvalidation.invalidate(CacheNames.ACCOUNT_GROUPS, id.value().toString());
+    }
 }
@@ -39,9 +39,16 @@ public class ApprovalWorkflowEntity {
     @Column(name = "initiated_by", nullable = false, length = 255)
     private String initiatedBy;
 
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
     @Column(name = "completed_at")
     private Instant completedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "workflow", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     private List<ApprovalEntity> approvals = new ArrayList<>();
 
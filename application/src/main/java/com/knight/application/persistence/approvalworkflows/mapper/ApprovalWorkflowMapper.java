@@ -21,7 +21,9 @@ public class ApprovalWorkflowMapper {
         entity.setStatus(workflow.status().name());
         entity.setInitiatedAt(workflow.initiatedAt());
         entity.setInitiatedBy(workflow.initiatedBy());
+        entity.setExpiresAt(workflow.expiresAt());
         entity.setCompletedAt(workflow.completedAt());
+        entity.setVersion(workflow.version());
 
         List<ApprovalEntity> approvalEntities = new ArrayList<>();
         for (ApprovalWorkflow.Approval approval : workflow.approvals()) {
@@ -52,7 +54,7 @@ public class ApprovalWorkflowMapper {
             approvals.add(approval);
         }
 
-        return ApprovalWorkflow.reconstitute(
+        ApprovalWorkflow workflow = ApprovalWorkflow.reconstitute(
             entity.getId().toString(),
             entity.getResourceType(),
             entity.getResourceId(),
@@ -61,7 +63,12 @@ public class ApprovalWorkflowMapper {
             approvals,
             entity.getInitiatedAt(),
             entity.getInitiatedBy(),
+            entity.getExpiresAt(),
             entity.getCompletedAt()
         );
+        if (entity.getVersion() != null) {
+            workflow.markPersisted(entity.getVersion());
+        }
+        return workflow;
     }
 }
@@ -0,0 +1,119 @@
+package com.knight.application.persistence.approvalworkflows.repository;
+
+import com.knight.domain.approvalworkflows.repository.ApprovalWorkflowRepository.PendingEntry;
+import com.knight.domain.approvalworkflows.repository.ApprovalWorkflowRepository.PendingFilter;
+import com.knight.domain.approvalworkflows.repository.ApprovalWorkflowRepository.PendingKey;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * Keyset-paged reads of pending approval workflows for approvers' inboxes.
+ *
+ * Rows are read straight from approval_workflows, with the approvals received so far counted in
+ * the same query, so a page never loads workflows' approvals. The status is matched as a literal
+ * so SQL Server can use the indexes filtered on pending workflows.
+ */
+@Repository
+public class ApprovalWorkflowInboxRepository {
+
+    private static final String SELECT_SQL = """
+        SELECT w.id, w.resource_type, w.resource_id, w.required_approvals, w.initiated_at, w.initiated_by,
+               w.expires_at,
+               (SELECT COUNT(*) FROM approvals a WHERE a.workflow_id = w.id AND a.decision = 'APPROVE')
+                   AS received_approvals
+        FROM approval_workflows w
+        WHERE w.status = 'PENDING'""";
+
+    private static final String COUNT_SQL =
+        "SELECT COUNT(*) FROM approval_workflows w WHERE w.status = 'PENDING'";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ApprovalWorkflowInboxRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<PendingEntry> findPending(PendingFilter filter, PendingKey after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        appendFilter(sql, params, filter);
+
+        if (after != null) {
+            sql.append(" AND (w.initiated_at > :afterInitiatedAt")
+                .append(" OR (w.initiated_at = :afterInitiatedAt AND w.id > :afterId))");
+            params.addValue("afterInitiatedAt", OffsetDateTime.ofInstant(after.initiatedAt(), ZoneOffset.UTC));
+            params.addValue("afterId", UUID.fromString(after.workflowId()));
+        }
+
+        sql.append(" ORDER BY w.initiated_at, w.id OFFSET 0 ROWS FETCH NEXT :limit ROWS ONLY");
+        params.addValue("limit", limit);
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> toEntry(rs));
+    }
+
+    public long countPending(PendingFilter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder(COUNT_SQL);
+        appendFilter(sql, params, filter);
+        Long count = jdbcTemplate.queryForObject(sql.toString(), params, Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static void appendFilter(StringBuilder sql, MapSqlParameterSource params, PendingFilter filter) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.resourceType() != null) {
+            sql.append(" AND w.resource_type = :resourceType");
+            params.addValue("resourceType", filter.resourceType());
+        }
+        if (filter.resourceId() != null) {
+            sql.append(" AND w.resource_id = :resourceId");
+            params.addValue("resourceId", filter.resourceId());
+        }
+        if (filter.initiatedBy() != null) {
+            sql.append(" AND w.initiated_by = :initiatedBy");
+            params.addValue("initiatedBy", filter.initiatedBy());
+        }
+    }
+
+    private static PendingEntry toEntry(ResultSet rs) throws SQLException {
+        return new PendingEntry(
+            normalizeId(rs.getString("id")),
+            rs.getString("resource_type"),
+            rs.getString("resource_id"),
+            rs.getInt("required_approvals"),
+            rs.getInt("received_approvals"),
+            instant(rs, "initiated_at"),
+            rs.getString("initiated_by"),
+            instant(rs, "expires_at")
+        );
+    }
+
+    /**
+     * Timestamps are stored in UTC; read DATETIME2 columns as UTC rather than the JVM zone.
+     */
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column, Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC)));
+        return value != null ? value.toInstant() : null;
+    }
+
+    /**
+     * SQL Server returns UNIQUEIDENTIFIER in upper case; workflow IDs are lower case everywhere else.
+     */
+    private static String normalizeId(String workflowId) {
+        return workflowId.toLowerCase();
+    }
+}
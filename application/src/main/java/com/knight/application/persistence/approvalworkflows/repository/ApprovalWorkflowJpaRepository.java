@@ -1,11 +1,35 @@
 package com.knight.application.persistence.approvalworkflows.repository;
 
 import com.knight.application.persistence.approvalworkflows.entity.ApprovalWorkflowEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface ApprovalWorkflowJpaRepository extends JpaRepository<ApprovalWorkflowEntity, UUID> {
+
+    /**
+     * IDs of pending workflows whose expiry time has passed, the longest overdue first.
+     */
+    @Query("SELECT w.id FROM ApprovalWorkflowEntity w " +
+           "WHERE w.status = 'PENDING' AND w.expiresAt <= :now ORDER BY w.expiresAt, w.id")
+    List<UUID> findOverdueIds(@Param("now") Instant now, Pageable page);
+
+    /**
+     * Expire the given workflows, skipping any that were decided since they were selected.
+     *
+     * @return the number of workflows expired
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ApprovalWorkflowEntity w SET w.status = 'EXPIRED', w.completedAt = :now, w.version = w.version + 1 " +
+           "WHERE w.id IN :ids AND w.status = 'PENDING'")
+    int expire(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
 }
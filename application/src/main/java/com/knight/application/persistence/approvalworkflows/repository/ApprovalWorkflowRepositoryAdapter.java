@@ -1,14 +1,19 @@
 package com.knight.application.persistence.approvalworkflows.repository;
 
+import com.knight.application.persistence.AggregateVersions;
 import com.knight.application.persistence.approvalworkflows.entity.ApprovalWorkflowEntity;
 import com.knight.application.persistence.approvalworkflows.mapper.ApprovalWorkflowMapper;
 import com.knight.domain.approvalworkflows.aggregate.ApprovalWorkflow;
 import com.knight.domain.approvalworkflows.repository.ApprovalWorkflowRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,6 +24,8 @@ public class ApprovalWorkflowRepositoryAdapter implements ApprovalWorkflowReposi
 
     private final ApprovalWorkflowJpaRepository jpaRepository;
     private final ApprovalWorkflowMapper mapper;
+    private final ApprovalWorkflowInboxRepository inboxRepository;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
@@ -26,8 +33,12 @@ public class ApprovalWorkflowRepositoryAdapter implements ApprovalWorkflowReposi
         // Check if entity already exists (for updates with child approvals)
         Optional<ApprovalWorkflowEntity> existing = jpaRepository.findById(UUID.fromString(workflow.id()));
         ApprovalWorkflowEntity entity;
+        Long loadedVersion = null;
         if (existing.isPresent()) {
             entity = existing.get();
+            loadedVersion = entity.getVersion();
+            AggregateVersions.requireCurrent(ApprovalWorkflowEntity.class, entity.getId(),
+                AggregateVersions.stored(entityManager, entity, loadedVersion), workflow.version());
             entity.setStatus(workflow.status().name());
             entity.setCompletedAt(workflow.completedAt());
             // Clear and re-add approvals
@@ -46,7 +57,11 @@ public class ApprovalWorkflowRepositoryAdapter implements ApprovalWorkflowReposi
         } else {
             entity = mapper.toEntity(workflow);
         }
-        jpaRepository.save(entity);
+        // Flushed so the new version is known
+        ApprovalWorkflowEntity saved = jpaRepository.saveAndFlush(entity);
+        workflow.markPersisted(loadedVersion != null
+            ? AggregateVersions.increment(entityManager, saved, loadedVersion, saved.getVersion())
+            : saved.getVersion());
     }
 
     @Override
@@ -55,4 +70,26 @@ public class ApprovalWorkflowRepositoryAdapter implements ApprovalWorkflowReposi
         return jpaRepository.findById(UUID.fromString(workflowId))
             .map(mapper::toDomain);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PendingEntry> findPending(PendingFilter filter, PendingKey after, int limit) {
+        // The inbox is read over JDBC, which does not trigger Hibernate's auto-flush
+        jpaRepository.flush();
+        return inboxRepository.findPending(filter, after, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPending(PendingFilter filter) {
+        jpaRepository.flush();
+        return inboxRepository.countPending(filter);
+    }
+
+    @Override
+    @Transactional
+    public int expireOverdue(Instant now, int limit) {
+        List<UUID> ids = jpaRepository.findOverdueIds(now, PageRequest.of(0, limit));
+        return ids.isEmpty() ? 0 : jpaRepository.expire(ids, now);
+    }
 }
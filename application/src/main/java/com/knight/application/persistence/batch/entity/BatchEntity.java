@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -54,8 +55,14 @@ public class BatchEntity {
     @Column(name = "completed_at")
     private Instant completedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Batch listings load the items of up to 50 batches per query instead of one query per batch
     @OneToMany(mappedBy = "batch", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     @OrderBy("sequenceNumber ASC")
+    @BatchSize(size = 50)
     private List<BatchItemEntity> items = new ArrayList<>();
 
     public void addItem(BatchItemEntity item) {
@@ -36,6 +36,7 @@ public class BatchMapper {
         entity.setCreatedBy(batch.createdBy());
         entity.setStartedAt(batch.startedAt());
         entity.setCompletedAt(batch.completedAt());
+        entity.setVersion(batch.version());
 
         // Map items
         for (Batch.BatchItem item : batch.items()) {
@@ -54,7 +55,7 @@ public class BatchMapper {
                 .map(this::toItemDomain)
                 .collect(Collectors.toList());
 
-        return Batch.reconstitute(
+        Batch batch = Batch.reconstitute(
                 BatchId.of(entity.getBatchId()),
                 BatchType.valueOf(entity.getBatchType()),
                 ProfileId.fromUrn(entity.getSourceProfileId()),
@@ -68,6 +69,10 @@ public class BatchMapper {
                 entity.getStartedAt(),
                 entity.getCompletedAt()
         );
+        if (entity.getVersion() != null) {
+            batch.markPersisted(entity.getVersion());
+        }
+        return batch;
     }
 
     private BatchItemEntity toItemEntity(Batch.BatchItem item) {
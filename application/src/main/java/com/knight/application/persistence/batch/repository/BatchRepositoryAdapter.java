@@ -1,5 +1,6 @@
 package com.knight.application.persistence.batch.repository;
 
+import com.knight.application.persistence.AggregateVersions;
 import com.knight.application.persistence.batch.entity.BatchEntity;
 import com.knight.application.persistence.batch.mapper.BatchMapper;
 import com.knight.domain.batch.aggregate.Batch;
@@ -7,7 +8,9 @@ import com.knight.domain.batch.repository.BatchRepository;
 import com.knight.domain.batch.types.BatchStatus;
 import com.knight.platform.sharedkernel.BatchId;
 import com.knight.platform.sharedkernel.ProfileId;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,16 +24,34 @@ public class BatchRepositoryAdapter implements BatchRepository {
 
     private final BatchJpaRepository jpaRepository;
     private final BatchMapper mapper;
+    private final EntityManager entityManager;
 
-    public BatchRepositoryAdapter(BatchJpaRepository jpaRepository, BatchMapper mapper) {
+    public BatchRepositoryAdapter(BatchJpaRepository jpaRepository, BatchMapper mapper, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public Batch save(Batch batch) {
+        // A batch loaded earlier is rejected if the row has changed since, then merged at the stored
+        // version; flushed so the new version is known
         BatchEntity entity = mapper.toEntity(batch);
+        BatchEntity stored = batch.version() != null
+            ? entityManager.find(BatchEntity.class, entity.getBatchId())
+            : null;
+        if (stored != null) {
+            AggregateVersions.requireCurrent(BatchEntity.class, entity.getBatchId(),
+                AggregateVersions.stored(entityManager, stored, stored.getVersion()), batch.version());
+            entity.setVersion(stored.getVersion());
+        }
+        Long loadedVersion = entity.getVersion();
         BatchEntity saved = jpaRepository.save(entity);
+        jpaRepository.flush();
+        batch.markPersisted(stored != null
+            ? AggregateVersions.increment(entityManager, saved, loadedVersion, saved.getVersion())
+            : saved.getVersion());
         return mapper.toDomain(saved);
     }
 
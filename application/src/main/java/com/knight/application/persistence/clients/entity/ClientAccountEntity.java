@@ -1,11 +1,14 @@
 package com.knight.application.persistence.clients.entity;
 
+import com.knight.application.cache.CacheRegions;
 import com.knight.platform.sharedkernel.AccountStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 
@@ -20,6 +23,7 @@ import java.time.Instant;
  */
 @Entity
 @Table(name = "client_accounts")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CLIENT_ACCOUNTS)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,9 +1,12 @@
 package com.knight.application.persistence.clients.entity;
 
+import com.knight.application.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 
@@ -14,6 +17,7 @@ import java.time.Instant;
  */
 @Entity
 @Table(name = "clients")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CLIENTS)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,9 +1,13 @@
 package com.knight.application.persistence.clients.repository;
 
+import com.knight.application.cache.CacheRegions;
 import com.knight.application.persistence.clients.entity.ClientAccountEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,10 +21,15 @@ public interface ClientAccountJpaRepository extends JpaRepository<ClientAccountE
 
     /**
      * Finds all accounts belonging to a specific client.
+     * Results are kept in the query cache until client_accounts changes.
      *
      * @param clientId the client ID as URN string
      * @return list of account entities for the given client
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CLIENT_ACCOUNTS_BY_CLIENT)
+    })
     List<ClientAccountEntity> findByClientId(String clientId);
 
     /**
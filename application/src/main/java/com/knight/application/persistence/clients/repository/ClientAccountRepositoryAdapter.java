@@ -1,5 +1,7 @@
 package com.knight.application.persistence.clients.repository;
 
+import com.knight.application.cache.CacheInvalidationPublisher;
+import com.knight.application.cache.CacheNames;
 import com.knight.application.persistence.clients.entity.ClientAccountEntity;
 import com.knight.application.persistence.clients.mapper.ClientAccountMapper;
 import com.knight.domain.clients.aggregate.ClientAccount;
@@ -22,12 +24,15 @@ import java.util.Optional;
 public class ClientAccountRepositoryAdapter implements ClientAccountRepository {
     private final ClientAccountJpaRepository jpaRepository;
     private final ClientAccountMapper mapper;
+    private final CacheInvalidationPublisher cacheInvalidation;
 
     public ClientAccountRepositoryAdapter(
             ClientAccountJpaRepository jpaRepository,
-            ClientAccountMapper mapper) {
+            ClientAccountMapper mapper,
+            CacheInvalidationPublisher cacheInvalidation) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.cacheInvalidation = cacheInvalidation;
     }
 
     @Override
@@ -66,6 +71,7 @@ public class ClientAccountRepositoryAdapter implements ClientAccountRepository {
     public void save(ClientAccount account) {
         ClientAccountEntity entity = mapper.toEntity(account);
         jpaRepository.save(entity);
+        cacheInvalidation.invalidate(CacheNames.CLIENT_ACCOUNTS, entity.getAccountId());
     }
 
     @Override
@@ -4,8 +4,13 @@ import com.knight.application.persistence.clients.entity.ClientEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Spring Data JPA repository for ClientEntity.
  * Provides CRUD operations and custom query methods.
@@ -42,4 +47,13 @@ public interface ClientJpaRepository extends JpaRepository<ClientEntity, String>
      */
     Page<ClientEntity> findByClientIdStartingWithIgnoreCaseAndNameContainingIgnoreCase(
             String clientIdPrefix, String nameQuery, Pageable pageable);
+
+    /**
+     * Finds the names of the given clients without loading the entities.
+     *
+     * @param clientIds the client IDs
+     * @return client ID and name pairs for the clients that exist
+     */
+    @Query("SELECT c.clientId, c.name FROM ClientEntity c WHERE c.clientId IN :clientIds")
+    List<Object[]> findNamesByClientIdIn(@Param("clientIds") Collection<String> clientIds);
 }
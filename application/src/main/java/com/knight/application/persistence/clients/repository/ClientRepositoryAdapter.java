@@ -1,5 +1,7 @@
 package com.knight.application.persistence.clients.repository;
 
+import com.knight.application.cache.CacheInvalidationPublisher;
+import com.knight.application.cache.CacheNames;
 import com.knight.application.persistence.clients.entity.ClientEntity;
 import com.knight.application.persistence.clients.mapper.ClientMapper;
 import com.knight.domain.clients.aggregate.Client;
@@ -12,8 +14,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * JPA-based implementation of ClientRepository.
@@ -24,14 +31,19 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ClientRepositoryAdapter implements ClientRepository {
 
+    // Keeps each IN list well under SQL Server's 2100-parameter limit
+    private static final int NAME_LOOKUP_BATCH_SIZE = 1000;
+
     private final ClientJpaRepository jpaRepository;
     private final ClientMapper mapper;
+    private final CacheInvalidationPublisher cacheInvalidation;
 
     @Override
     @Transactional
     public void save(Client client) {
         ClientEntity entity = mapper.toEntity(client);
         jpaRepository.save(entity);
+        cacheInvalidation.invalidate(CacheNames.CLIENTS, client.clientId().urn());
     }
 
     @Override
@@ -60,6 +72,22 @@ public class ClientRepositoryAdapter implements ClientRepository {
         return jpaRepository.existsById(urn);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<ClientId, String> findNamesByIds(Collection<ClientId> ids) {
+        Map<String, ClientId> idsByUrn = ids.stream()
+            .collect(Collectors.toMap(ClientId::urn, Function.identity(), (first, duplicate) -> first));
+        List<String> urns = List.copyOf(idsByUrn.keySet());
+        Map<ClientId, String> names = new HashMap<>();
+        for (int from = 0; from < urns.size(); from += NAME_LOOKUP_BATCH_SIZE) {
+            List<String> batch = urns.subList(from, Math.min(from + NAME_LOOKUP_BATCH_SIZE, urns.size()));
+            for (Object[] row : jpaRepository.findNamesByClientIdIn(batch)) {
+                names.put(idsByUrn.get((String) row[0]), (String) row[1]);
+            }
+        }
+        return names;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PageResult<Client> searchByClientId(String clientIdQuery, int page, int size) {
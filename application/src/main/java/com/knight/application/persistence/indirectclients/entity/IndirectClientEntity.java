@@ -1,9 +1,12 @@
 package com.knight.application.persistence.indirectclients.entity;
 
+import com.knight.application.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -11,6 +14,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "indirect_clients")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.INDIRECT_CLIENTS)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -44,6 +48,7 @@ public class IndirectClientEntity {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.INDIRECT_CLIENT_PERSONS)
     @OneToMany(mappedBy = "indirectClient", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     private List<RelatedPersonEntity> relatedPersons = new ArrayList<>();
 
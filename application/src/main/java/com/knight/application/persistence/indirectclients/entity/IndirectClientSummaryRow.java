@@ -0,0 +1,18 @@
+package com.knight.application.persistence.indirectclients.entity;
+
+import java.time.Instant;
+
+/**
+ * An indirect client's listing columns with its related person and OFI account counts.
+ */
+public record IndirectClientSummaryRow(
+    String clientId,
+    String parentClientId,
+    String clientType,
+    String name,
+    String externalReference,
+    String status,
+    long personCount,
+    long accountCount,
+    Instant createdAt
+) {}
@@ -1,15 +1,19 @@
 package com.knight.application.persistence.indirectclients.entity;
 
+import com.knight.application.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.UUID;
 
 @Entity
 @Table(name = "indirect_client_persons")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.INDIRECT_CLIENT_PERSONS)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
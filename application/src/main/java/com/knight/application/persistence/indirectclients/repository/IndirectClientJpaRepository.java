@@ -1,7 +1,10 @@
 package com.knight.application.persistence.indirectclients.repository;
 
 import com.knight.application.persistence.indirectclients.entity.IndirectClientEntity;
+import com.knight.application.persistence.indirectclients.entity.IndirectClientSummaryRow;
 import com.knight.application.persistence.profiles.entity.ClientEnrollmentEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -42,4 +45,37 @@ public interface IndirectClientJpaRepository extends JpaRepository<IndirectClien
      * Find an indirect client by external reference within a profile.
      */
     Optional<IndirectClientEntity> findByParentProfileIdAndExternalReference(String parentProfileId, String externalReference);
+
+    /**
+     * Summaries of a parent client's indirect clients. Counts come from correlated subqueries,
+     * so neither related persons nor accounts are loaded.
+     */
+    @Query(value = """
+        SELECT new com.knight.application.persistence.indirectclients.entity.IndirectClientSummaryRow(
+            ic.clientId, ic.parentClientId, ic.clientType, ic.name, ic.externalReference, ic.status,
+            (SELECT COUNT(p) FROM RelatedPersonEntity p WHERE p.indirectClient = ic),
+            (SELECT COUNT(a) FROM ClientAccountEntity a WHERE a.indirectClientId = ic.clientId),
+            ic.createdAt)
+        FROM IndirectClientEntity ic
+        WHERE ic.parentClientId = :parentClientId
+        """,
+        countQuery = "SELECT COUNT(ic) FROM IndirectClientEntity ic WHERE ic.parentClientId = :parentClientId")
+    Page<IndirectClientSummaryRow> findSummariesByParentClientId(
+        @Param("parentClientId") String parentClientId, Pageable pageable);
+
+    /**
+     * Summaries of a parent profile's indirect clients, counted as in {@link #findSummariesByParentClientId}.
+     */
+    @Query(value = """
+        SELECT new com.knight.application.persistence.indirectclients.entity.IndirectClientSummaryRow(
+            ic.clientId, ic.parentClientId, ic.clientType, ic.name, ic.externalReference, ic.status,
+            (SELECT COUNT(p) FROM RelatedPersonEntity p WHERE p.indirectClient = ic),
+            (SELECT COUNT(a) FROM ClientAccountEntity a WHERE a.indirectClientId = ic.clientId),
+            ic.createdAt)
+        FROM IndirectClientEntity ic
+        WHERE ic.parentProfileId = :parentProfileId
+        """,
+        countQuery = "SELECT COUNT(ic) FROM IndirectClientEntity ic WHERE ic.parentProfileId = :parentProfileId")
+    Page<IndirectClientSummaryRow> findSummariesByParentProfileId(
+        @Param("parentProfileId") String parentProfileId, Pageable pageable);
 }
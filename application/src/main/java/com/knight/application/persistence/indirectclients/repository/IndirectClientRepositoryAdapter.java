@@ -1,6 +1,9 @@
 package com.knight.application.persistence.indirectclients.repository;
 
+import com.knight.application.cache.CacheInvalidationPublisher;
+import com.knight.application.cache.CacheNames;
 import com.knight.application.persistence.indirectclients.entity.IndirectClientEntity;
+import com.knight.application.persistence.indirectclients.entity.IndirectClientSummaryRow;
 import com.knight.application.persistence.indirectclients.entity.RelatedPersonEntity;
 import com.knight.application.persistence.indirectclients.mapper.IndirectClientMapper;
 import com.knight.domain.indirectclients.aggregate.IndirectClient;
@@ -10,6 +13,10 @@ import com.knight.platform.sharedkernel.IndirectClientId;
 import com.knight.platform.sharedkernel.ProfileId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,8 +28,11 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class IndirectClientRepositoryAdapter implements IndirectClientRepository {
 
+    static final int MAX_PAGE_SIZE = 200;
+
     private final IndirectClientJpaRepository jpaRepository;
     private final IndirectClientMapper mapper;
+    private final CacheInvalidationPublisher cacheInvalidation;
 
     @Override
     @Transactional
@@ -55,6 +65,7 @@ public class IndirectClientRepositoryAdapter implements IndirectClientRepository
             entity = mapper.toEntity(indirectClient);
         }
         jpaRepository.save(entity);
+        cacheInvalidation.invalidate(CacheNames.INDIRECT_CLIENTS, entity.getClientId());
     }
 
     @Override
@@ -107,4 +118,37 @@ public class IndirectClientRepositoryAdapter implements IndirectClientRepository
         return jpaRepository.findByParentProfileIdAndExternalReference(parentProfileId.urn(), externalReference)
             .map(mapper::toDomain);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResult<IndirectClientSummary> findSummariesByParentClientId(ClientId parentClientId, int page, int size) {
+        return toPageResult(jpaRepository.findSummariesByParentClientId(parentClientId.urn(), summaryPage(page, size)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResult<IndirectClientSummary> findSummariesByParentProfileId(ProfileId parentProfileId, int page, int size) {
+        return toPageResult(jpaRepository.findSummariesByParentProfileId(parentProfileId.urn(), summaryPage(page, size)));
+    }
+
+    private static Pageable summaryPage(int page, int size) {
+        return PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), Sort.by("name", "clientId"));
+    }
+
+    private static PageResult<IndirectClientSummary> toPageResult(Page<IndirectClientSummaryRow> rows) {
+        List<IndirectClientSummary> content = rows.getContent().stream()
+            .map(row -> new IndirectClientSummary(
+                IndirectClientId.fromUrn(row.clientId()),
+                ClientId.of(row.parentClientId()),
+                IndirectClient.ClientType.valueOf(row.clientType()),
+                row.name(),
+                row.externalReference(),
+                IndirectClient.Status.valueOf(row.status()),
+                (int) row.personCount(),
+                (int) row.accountCount(),
+                row.createdAt()
+            ))
+            .toList();
+        return new PageResult<>(content, rows.getTotalElements(), rows.getNumber(), rows.getSize());
+    }
 }
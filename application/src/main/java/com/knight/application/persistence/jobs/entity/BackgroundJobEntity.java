@@ -0,0 +1,63 @@
+package com.knight.application.persistence.jobs.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA entity for a persisted background job.
+ */
+@Entity
+@Table(name = "background_jobs", indexes = {
+    @Index(name = "idx_background_jobs_status", columnList = "status, enqueued_at"),
+    @Index(name = "idx_background_jobs_reference", columnList = "reference_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackgroundJobEntity {
+
+    @Id
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "job_type", nullable = false, length = 50)
+    private String jobType;
+
+    @Column(name = "reference_id", nullable = false, length = 100)
+    private String referenceId;
+
+    @Column(name = "partition_key", nullable = false, length = 200)
+    private String partitionKey;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "cancel_requested", nullable = false)
+    private boolean cancelRequested;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Column(name = "enqueued_at", nullable = false)
+    private Instant enqueuedAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "heartbeat_at")
+    private Instant heartbeatAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "last_error", length = 2000)
+    private String lastError;
+}
@@ -0,0 +1,130 @@
+package com.knight.application.persistence.jobs.repository;
+
+import com.knight.application.persistence.jobs.entity.BackgroundJobEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for BackgroundJobEntity.
+ * State transitions are conditional updates so that concurrent nodes cannot both win a job.
+ */
+@Repository
+public interface BackgroundJobJpaRepository extends JpaRepository<BackgroundJobEntity, UUID> {
+
+    /**
+     * Find jobs in a status, oldest first.
+     */
+    List<BackgroundJobEntity> findByStatusOrderByEnqueuedAtAsc(String status, Pageable pageable);
+
+    /**
+     * Count jobs in a status.
+     */
+    long countByStatus(String status);
+
+    /**
+     * Find the job for a reference in one of the given statuses.
+     */
+    Optional<BackgroundJobEntity> findFirstByJobTypeAndReferenceIdAndStatusIn(
+        String jobType, String referenceId, Collection<String> statuses);
+
+    /**
+     * Find running jobs whose last heartbeat is older than the cutoff.
+     */
+    List<BackgroundJobEntity> findByStatusAndHeartbeatAtBefore(String status, Instant cutoff);
+
+    /**
+     * Running job counts per partition, as [partitionKey, count] rows.
+     */
+    @Query("SELECT j.partitionKey, COUNT(j) FROM BackgroundJobEntity j WHERE j.status = 'RUNNING' GROUP BY j.partitionKey")
+    List<Object[]> countRunningByPartition();
+
+    /**
+     * Claim a queued job for an owner.
+     * @return 1 if claimed, 0 if another node got it first or it was cancelled
+     */
+    @Modifying
+    @Query("UPDATE BackgroundJobEntity j SET j.status = 'RUNNING', j.owner = :owner, j.startedAt = :now, " +
+           "j.heartbeatAt = :now, j.attempts = j.attempts + 1 WHERE j.jobId = :jobId AND j.status = 'QUEUED'")
+    int claim(@Param("jobId") UUID jobId, @Param("owner") String owner, @Param("now") Instant now);
+
+    /**
+     * Record a heartbeat for the owner's running jobs.
+     */
+    @Modifying
+    @Query("UPDATE BackgroundJobEntity j SET j.heartbeatAt = :now " +
+           "WHERE j.jobId IN :jobIds AND j.owner = :owner AND j.status = 'RUNNING'")
+    int heartbeat(@Param("jobIds") Collection<UUID> jobIds, @Param("owner") String owner, @Param("now") Instant now);
+
+    /**
+     * Finish a running job, provided the owner still holds it.
+     */
+    @Modifying
+    @Query("UPDATE BackgroundJobEntity j SET j.status = :status, j.completedAt = :now, j.lastError = :error " +
+           "WHERE j.jobId = :jobId AND j.owner = :owner AND j.status = 'RUNNING'")
+    int finish(@Param("jobId") UUID jobId, @Param("owner") String owner, @Param("status") String status,
+               @Param("error") String error, @Param("now") Instant now);
+
+    /**
+     * Put a running job back at the end of the queue after a failed attempt,
+     * provided the owner still holds it.
+     */
+    @Modifying
+    @Query("UPDATE BackgroundJobEntity j SET j.status = 'QUEUED', j.owner = NULL, j.heartbeatAt = NULL, " +
+           "j.lastError = :error, j.enqueuedAt = :now " +
+           "WHERE j.jobId = :jobId AND j.owner = :owner AND j.status = 'RUNNING'")
+    int retry(@Param("jobId") UUID jobId, @Param("owner") String owner, @Param("error") String error,
+              @Param("now") Instant now);
+
+    /**
+     * Hand a running job back to the queue without counting the attempt, keeping its
+     * place in line, provided the owner still holds it.
+     */
+    @Modifying
+    @Query("UPDATE BackgroundJobEntity j SET j.status = 'QUEUED', j.owner = NULL, j.heartbeatAt = NULL, " +
+           "j.attempts = j.attempts - 1 " +
+           "WHERE j.jobId = :jobId AND j.owner = :owner AND j.status = 'RUNNING'")
+    int release(@Param("jobId") UUID jobId, @Param("owner") String owner);
+
+    /**
+     * Requeue an orphaned job, provided it is still stale.
+     */
+    @Modifying
+    @Query("UPDATE BackgroundJobEntity j SET j.status = 'QUEUED', j.owner = NULL, j.heartbeatAt = NULL, " +
+           "j.lastError = 'Worker stopped sending heartbeats' " +
+           "WHERE j.jobId = :jobId AND j.status = 'RUNNING' AND j.heartbeatAt < :cutoff")
+    int requeueStale(@Param("jobId") UUID jobId, @Param("cutoff") Instant cutoff);
+
+    /**
+     * Give up on an orphaned job, provided it is still stale.
+     */
+    @Modifying
+    @Query("UPDATE BackgroundJobEntity j SET j.status = 'FAILED', j.owner = NULL, j.completedAt = :now, " +
+           "j.lastError = 'Worker stopped sending heartbeats; attempts exhausted' " +
+           "WHERE j.jobId = :jobId AND j.status = 'RUNNING' AND j.heartbeatAt < :cutoff")
+    int failStale(@Param("jobId") UUID jobId, @Param("cutoff") Instant cutoff, @Param("now") Instant now);
+
+    /**
+     * Cancel a job that has not started.
+     */
+    @Modifying
+    @Query("UPDATE BackgroundJobEntity j SET j.status = 'CANCELLED', j.completedAt = :now " +
+           "WHERE j.jobId = :jobId AND j.status = 'QUEUED'")
+    int cancelQueued(@Param("jobId") UUID jobId, @Param("now") Instant now);
+
+    /**
+     * Ask the owner of a running job to stop it.
+     */
+    @Modifying
+    @Query("UPDATE BackgroundJobEntity j SET j.cancelRequested = true WHERE j.jobId = :jobId AND j.status = 'RUNNING'")
+    int requestCancel(@Param("jobId") UUID jobId);
+}
@@ -1,5 +1,7 @@
 package com.knight.application.persistence.policies.repository;
 
+import com.knight.application.cache.CacheInvalidationPublisher;
+import com.knight.application.cache.CacheNames;
 import com.knight.application.persistence.policies.entity.PermissionPolicyEntity;
 import com.knight.application.persistence.policies.mapper.PermissionPolicyMapper;
 import com.knight.domain.policy.aggregate.PermissionPolicy;
@@ -23,12 +25,14 @@ public class PermissionPolicyRepositoryAdapter implements PermissionPolicyReposi
 
     private final PermissionPolicyJpaRepository jpaRepository;
     private final PermissionPolicyMapper mapper;
+    private final CacheInvalidationPublisher cacheInvalidation;
 
     @Override
     @Transactional
     public void save(PermissionPolicy policy) {
         PermissionPolicyEntity entity = mapper.toEntity(policy);
         jpaRepository.save(entity);
+        cacheInvalidation.invalidate(CacheNames.PERMISSION_POLICIES, policy.id());
     }
 
     @Override
@@ -81,6 +85,7 @@ public class PermissionPolicyRepositoryAdapter implements PermissionPolicyReposi
     @Transactional
     public void deleteById(String policyId) {
         jpaRepository.deleteById(UUID.fromString(policyId));
+        cacheInvalidation.invalidate(CacheNames.PERMISSION_POLICIES, policyId);
     }
 
     @Override
@@ -253,7 +253,7 @@ public interface ServicingProfileMapper {
             }
 
             // Use reconstitute factory method - no reflection needed for final fields
-            return Profile.reconstitute(
+            Profile profile = Profile.reconstitute(
                 profileId,
                 profileType,
                 entity.getName(),
@@ -265,6 +265,10 @@ public interface ServicingProfileMapper {
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
             );
+            if (entity.getVersion() != null) {
+                profile.markPersisted(entity.getVersion());
+            }
+            return profile;
 
         } catch (Exception e) {
             throw new RuntimeException("Failed to map ProfileEntity to Profile", e);
@@ -1,11 +1,13 @@
 package com.knight.application.persistence.profiles.repository;
 
+import com.knight.application.persistence.AggregateVersions;
 import com.knight.application.persistence.profiles.entity.ProfileEntity;
 import com.knight.application.persistence.profiles.mapper.ServicingProfileMapper;
 import com.knight.domain.serviceprofiles.aggregate.Profile;
 import com.knight.domain.serviceprofiles.repository.ServicingProfileRepository;
 import com.knight.platform.sharedkernel.ClientId;
 import com.knight.platform.sharedkernel.ProfileId;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -29,6 +31,7 @@ public class ProfileRepositoryAdapter implements ServicingProfileRepository {
 
     private final ProfileJpaRepository jpaRepository;
     private final ServicingProfileMapper mapper;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
@@ -41,12 +44,17 @@ public class ProfileRepositoryAdapter implements ServicingProfileRepository {
         if (existingOpt.isPresent()) {
             // Update existing entity to preserve JPA-managed collections
             ProfileEntity existing = existingOpt.get();
+            Long loadedVersion = existing.getVersion();
+            AggregateVersions.requireCurrent(ProfileEntity.class, profileUrn,
+                AggregateVersions.stored(entityManager, existing, loadedVersion), profile.version());
             mapper.updateEntity(existing, profile);
-            jpaRepository.save(existing);
+            // Flushed so the new version is known
+            ProfileEntity saved = jpaRepository.saveAndFlush(existing);
+            profile.markPersisted(AggregateVersions.increment(entityManager, saved, loadedVersion, saved.getVersion()));
         } else {
             // New entity - create fresh
             ProfileEntity entity = mapper.toEntity(profile);
-            jpaRepository.save(entity);
+            profile.markPersisted(jpaRepository.save(entity).getVersion());
         }
     }
 
@@ -0,0 +1,94 @@
+package com.knight.application.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the single auto-configured pool with a primary pool for writes and a replica pool
+ * for read-only transactions. Each pool reports Hikari metrics under its own pool name.
+ * Flyway migrates through the primary pool directly.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "knight.datasource.replica", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceRoutingConfiguration implements SchedulingConfigurer {
+
+    static final String PRIMARY_POOL = "primary";
+    static final String REPLICA_POOL = "replica";
+
+    private final ReplicaProperties replicaProperties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<ReplicaLagMonitor> lagMonitor;
+
+    public DataSourceRoutingConfiguration(ReplicaProperties replicaProperties, MeterRegistry meterRegistry,
+                                          ObjectProvider<ReplicaLagMonitor> lagMonitor) {
+        this.replicaProperties = replicaProperties;
+        this.meterRegistry = meterRegistry;
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        return withMetrics(dataSource, PRIMARY_POOL);
+    }
+
+    @Bean
+    @ConfigurationProperties("knight.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create(properties.getClassLoader())
+            .type(HikariDataSource.class)
+            .driverClassName(properties.determineDriverClassName())
+            .url(orDefault(replicaProperties.getUrl(), properties.determineUrl()))
+            .username(orDefault(replicaProperties.getUsername(), properties.determineUsername()))
+            .password(orDefault(replicaProperties.getPassword(), properties.determinePassword()))
+            .build();
+        return withMetrics(dataSource, REPLICA_POOL);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource replicaDataSource) {
+        return new ReplicaLagMonitor(replicaDataSource, replicaProperties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        return new LazyConnectionDataSourceProxy(
+            new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry));
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(() -> lagMonitor.getObject().check(), replicaProperties.getCheckInterval());
+    }
+
+    private HikariDataSource withMetrics(HikariDataSource dataSource, String poolName) {
+        dataSource.setPoolName(poolName);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    private static String orDefault(String value, String fallback) {
+        return value != null && !value.isBlank() ? value : fallback;
+    }
+}
@@ -0,0 +1,79 @@
+package com.knight.application.persistence.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Sends connections for read-only transactions to the replica pool and everything else to the
+ * primary. Reads fall back to the primary while the replica is lagging or unreachable.
+ *
+ * The routing decision reads the current transaction's read-only flag, which Spring only sets
+ * after the transaction has begun. This data source must therefore sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the physical
+ * connection is fetched at the first statement rather than at transaction start.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    public static final String ROUTING_METRIC = "knight.datasource.routing";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final MeterRegistry meterRegistry;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(ConnectionOpener opener) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return open(opener, primary, "primary", "read-write");
+        }
+        ReplicaLagMonitor.Status status = lagMonitor.status();
+        if (status != ReplicaLagMonitor.Status.AVAILABLE) {
+            return open(opener, primary, "primary", status == ReplicaLagMonitor.Status.LAGGING ? "replica-lagging" : "replica-down");
+        }
+        try {
+            return open(opener, replica, "replica", "read-only");
+        } catch (SQLException e) {
+            lagMonitor.markDown(e);
+            return open(opener, primary, "primary", "replica-down");
+        }
+    }
+
+    private Connection open(ConnectionOpener opener, DataSource target, String pool, String reason) throws SQLException {
+        Connection connection = opener.open(target);
+        Counter.builder(ROUTING_METRIC)
+            .description("Connections handed out by the read/write router")
+            .tag("pool", pool)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+        return connection;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
@@ -0,0 +1,105 @@
+package com.knight.application.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks whether the replica is reachable and close enough to the primary to serve reads.
+ * {@link #check()} runs on a schedule; a failed replica connection marks it down immediately
+ * so reads stop trying it until the next successful check.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    public static final String LAG_METRIC = "knight.datasource.replica.lag";
+    public static final String STATUS_METRIC = "knight.datasource.replica.available";
+
+    /**
+     * Replica state as of the last check.
+     */
+    public enum Status {
+        AVAILABLE,
+        LAGGING,
+        DOWN
+    }
+
+    private final DataSource replica;
+    private final ReplicaProperties properties;
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private volatile Status status = Status.AVAILABLE;
+
+    public ReplicaLagMonitor(DataSource replica, ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.properties = properties;
+
+        Gauge.builder(LAG_METRIC, lagSeconds, AtomicLong::get)
+            .description("Replica lag behind the primary as of the last check")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder(STATUS_METRIC, this, monitor -> monitor.status == Status.AVAILABLE ? 1 : 0)
+            .description("Whether read-only transactions are currently routed to the replica")
+            .register(meterRegistry);
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    public boolean isAvailable() {
+        return status == Status.AVAILABLE;
+    }
+
+    /**
+     * Measure lag and connectivity and update the status.
+     */
+    public void check() {
+        try (Connection connection = replica.getConnection()) {
+            long lag = measureLag(connection);
+            lagSeconds.set(lag);
+            transition(lag > properties.getMaxLag().toSeconds() ? Status.LAGGING : Status.AVAILABLE, null);
+        } catch (SQLException | RuntimeException e) {
+            transition(Status.DOWN, e);
+        }
+    }
+
+    /**
+     * Take the replica out of rotation after a connection failure, until the next check succeeds.
+     */
+    public void markDown(Exception cause) {
+        transition(Status.DOWN, cause);
+    }
+
+    private long measureLag(Connection connection) throws SQLException {
+        String query = properties.getLagQuery();
+        if (query == null || query.isBlank()) {
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(query)) {
+            return resultSet.next() ? Math.max(resultSet.getLong(1), 0) : 0;
+        }
+    }
+
+    private void transition(Status next, Exception cause) {
+        Status previous = status;
+        status = next;
+        if (previous == next) {
+            return;
+        }
+        switch (next) {
+            case AVAILABLE -> log.info("Replica available again, routing read-only transactions to it");
+            case LAGGING -> log.warn("Replica is {}s behind (limit {}s), routing reads to the primary",
+                lagSeconds.get(), properties.getMaxLag().toSeconds());
+            case DOWN -> log.warn("Replica unavailable, routing reads to the primary: {}",
+                cause != null ? cause.getMessage() : "unknown");
+        }
+    }
+}
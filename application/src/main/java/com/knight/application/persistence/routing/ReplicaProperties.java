@@ -0,0 +1,53 @@
+package com.knight.application.persistence.routing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the read replica that serves read-only transactions.
+ * Connection settings left unset fall back to {@code spring.datasource.*}, so without a replica
+ * the read pool points at the primary database but still keeps reads off the write pool.
+ * Pool sizing is bound separately from {@code knight.datasource.replica.hikari.*}.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "knight.datasource.replica")
+public class ReplicaProperties {
+
+    /**
+     * Whether read-only transactions are routed to a separate pool. When false the
+     * application uses the single auto-configured pool.
+     */
+    private boolean enabled = true;
+
+    /**
+     * JDBC URL of the replica. For a SQL Server readable secondary add
+     * {@code applicationIntent=ReadOnly} to the listener URL.
+     */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * Reads go back to the primary while the replica is this far behind.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Query run on the replica that returns its lag in whole seconds. When blank, only
+     * connectivity is checked.
+     */
+    private String lagQuery;
+
+    /**
+     * How often replica lag and connectivity are checked.
+     */
+    private Duration checkInterval = Duration.ofSeconds(5);
+}
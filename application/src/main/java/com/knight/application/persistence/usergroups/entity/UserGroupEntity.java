@@ -1,6 +1,8 @@
 package com.knight.application.persistence.usergroups.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
@@ -32,7 +34,13 @@ public class UserGroupEntity {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Group listings load the members of up to 50 groups per query instead of one query per group
     @OneToMany(mappedBy = "group", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @BatchSize(size = 50)
     private Set<UserGroupMemberEntity> members = new HashSet<>();
 
     public UserGroupEntity() {}
@@ -95,6 +103,14 @@ public class UserGroupEntity {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Set<UserGroupMemberEntity> getMembers() {
         return members;
     }
@@ -24,7 +24,7 @@ public class UserGroupMapper {
             ))
             .collect(Collectors.toSet());
 
-        return UserGroup.reconstitute(
+        UserGroup group = UserGroup.reconstitute(
             new UserGroupId(entity.getGroupId()),
             ProfileId.fromUrn(entity.getProfileId()),
             entity.getName(),
@@ -34,6 +34,10 @@ public class UserGroupMapper {
             entity.getCreatedBy(),
             entity.getUpdatedAt()
         );
+        if (entity.getVersion() != null) {
+            group.markPersisted(entity.getVersion());
+        }
+        return group;
     }
 
     public UserGroupEntity toEntity(UserGroup group) {
@@ -45,6 +49,7 @@ public class UserGroupMapper {
         entity.setCreatedAt(group.createdAt());
         entity.setCreatedBy(group.createdBy());
         entity.setUpdatedAt(group.updatedAt());
+        entity.setVersion(group.version());
 
         // Clear existing members and add new ones
         entity.clearMembers();
@@ -1,5 +1,6 @@
 package com.knight.application.persistence.usergroups.repository;
 
+import com.knight.application.persistence.AggregateVersions;
 import com.knight.application.persistence.usergroups.entity.UserGroupEntity;
 import com.knight.application.persistence.usergroups.mapper.UserGroupMapper;
 import com.knight.domain.users.aggregate.UserGroup;
@@ -7,7 +8,9 @@ import com.knight.domain.users.types.UserGroupId;
 import com.knight.domain.users.repository.UserGroupRepository;
 import com.knight.platform.sharedkernel.ProfileId;
 import com.knight.platform.sharedkernel.UserId;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,16 +20,35 @@ public class UserGroupRepositoryAdapter implements UserGroupRepository {
 
     private final UserGroupJpaRepository jpaRepository;
     private final UserGroupMapper mapper;
+    private final EntityManager entityManager;
 
-    public UserGroupRepositoryAdapter(UserGroupJpaRepository jpaRepository, UserGroupMapper mapper) {
+    public UserGroupRepositoryAdapter(UserGroupJpaRepository jpaRepository, UserGroupMapper mapper,
+                                      EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public void save(UserGroup group) {
+        // A group loaded earlier is rejected if the row has changed since, then merged at the stored
+        // version; flushed so the new version is known
         UserGroupEntity entity = mapper.toEntity(group);
-        jpaRepository.save(entity);
+        UserGroupEntity stored = group.version() != null
+            ? entityManager.find(UserGroupEntity.class, entity.getGroupId())
+            : null;
+        if (stored != null) {
+            AggregateVersions.requireCurrent(UserGroupEntity.class, entity.getGroupId(),
+                AggregateVersions.stored(entityManager, stored, stored.getVersion()), group.version());
+            entity.setVersion(stored.getVersion());
+        }
+        Long loadedVersion = entity.getVersion();
+        UserGroupEntity saved = jpaRepository.save(entity);
+        jpaRepository.flush();
+        group.markPersisted(stored != null
+            ? AggregateVersions.increment(entityManager, saved, loadedVersion, saved.getVersion())
+            : saved.getVersion());
     }
 
     @Override
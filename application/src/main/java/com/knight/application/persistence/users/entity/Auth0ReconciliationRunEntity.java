@@ -0,0 +1,50 @@
+package com.knight.application.persistence.users.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA entity for one Auth0 reconciliation run and its checkpoint.
+ */
+@Entity
+@Table(name = "auth0_reconciliation_runs", indexes = {
+    @Index(name = "idx_auth0_reconciliation_runs_completed", columnList = "status, completed_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Auth0ReconciliationRunEntity {
+
+    @Id
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "checkpoint_created_at")
+    private Instant checkpointCreatedAt;
+
+    @Column(name = "checkpoint_user_ids", columnDefinition = "NVARCHAR(MAX)")
+    private String checkpointUserIds;
+
+    @Column(name = "users_scanned", nullable = false)
+    private long usersScanned;
+
+    @Column(name = "users_updated", nullable = false)
+    private long usersUpdated;
+
+    @Column(name = "failure_reason", length = 2000)
+    private String failureReason;
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GeneratedColumn;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -33,6 +34,13 @@ public class UserEntity {
     @Column(name = "last_name", length = 100)
     private String lastName;
 
+    /**
+     * Last name in user directory order; computed by the database.
+     */
+    @GeneratedColumn("COALESCE(last_name, '')")
+    @Column(name = "sort_last_name", length = 100, insertable = false, updatable = false)
+    private String sortLastName;
+
     @Column(name = "user_type", nullable = false, length = 20)
     private String userType;
 
@@ -96,6 +104,10 @@ public class UserEntity {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     private List<UserRoleEntity> roles = new ArrayList<>();
 
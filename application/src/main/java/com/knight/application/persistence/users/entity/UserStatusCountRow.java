@@ -0,0 +1,9 @@
+package com.knight.application.persistence.users.entity;
+
+/**
+ * Number of a profile's users in one status.
+ */
+public record UserStatusCountRow(
+    String status,
+    long count
+) {}
@@ -43,6 +43,7 @@ public class UserMapper {
         entity.setCreatedAt(user.createdAt());
         entity.setCreatedBy(user.createdBy());
         entity.setUpdatedAt(user.updatedAt());
+        // The version is left unset: a user is written whole only when its row is inserted
 
         // Map roles
         for (User.Role role : user.roles()) {
@@ -71,7 +72,7 @@ public class UserMapper {
             mfaPreference = User.MfaPreference.valueOf(entity.getMfaPreference());
         }
 
-        return User.reconstitute(
+        User user = User.reconstitute(
             userId,
             entity.getLoginId(),
             entity.getEmail(),
@@ -100,5 +101,9 @@ public class UserMapper {
             entity.getCreatedBy(),
             entity.getUpdatedAt()
         );
+        if (entity.getVersion() != null) {
+            user.markPersisted(entity.getVersion());
+        }
+        return user;
     }
 }
@@ -0,0 +1,23 @@
+package com.knight.application.persistence.users.repository;
+
+import com.knight.application.persistence.users.entity.Auth0ReconciliationRunEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for Auth0ReconciliationRunEntity.
+ */
+@Repository
+public interface Auth0ReconciliationRunJpaRepository extends JpaRepository<Auth0ReconciliationRunEntity, UUID> {
+
+    /**
+     * Find the most recently completed run in a status.
+     */
+    Optional<Auth0ReconciliationRunEntity> findFirstByStatusOrderByCompletedAtDesc(String status);
+
+    List<Auth0ReconciliationRunEntity> findByStatus(String status);
+}
@@ -0,0 +1,47 @@
+package com.knight.application.persistence.users.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * Batched writes of users' last login time.
+ *
+ * Only {@code last_logged_in_at} is set; the user aggregate is not loaded and {@code updated_at}
+ * and the version are left alone, since logging in does not change the user and must not make
+ * a concurrent edit of it fail. A row is never moved back in time, so flushes from several
+ * nodes can arrive in any order.
+ */
+@Repository
+public class LoginActivityRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String UPDATE_SQL =
+        "UPDATE users SET last_logged_in_at = ? "
+            + "WHERE login_id = ? AND (last_logged_in_at IS NULL OR last_logged_in_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LoginActivityRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Set each login ID's last login time, as one JDBC batch of the same statement.
+     * Unknown login IDs are ignored.
+     */
+    public void updateLastLoggedInAt(Map<String, Instant> loginsByLoginId) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, new ArrayList<>(loginsByLoginId.entrySet()), BATCH_SIZE, (ps, login) -> {
+            LocalDateTime loggedInAtUtc = LocalDateTime.ofInstant(login.getValue(), ZoneOffset.UTC);
+            ps.setObject(1, loggedInAtUtc);
+            ps.setString(2, login.getKey());
+            ps.setObject(3, loggedInAtUtc);
+        });
+    }
+}
@@ -0,0 +1,178 @@
+package com.knight.application.persistence.users.repository;
+
+import com.knight.domain.users.aggregate.User;
+import com.knight.domain.users.repository.UserRepository.DirectoryEntry;
+import com.knight.domain.users.repository.UserRepository.DirectoryQuery;
+import com.knight.domain.users.repository.UserRepository.DirectorySort;
+import com.knight.platform.sharedkernel.ProfileId;
+import com.knight.platform.sharedkernel.UserId;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * Keyset-paged reads of a profile's users for the user directory.
+ *
+ * Each page is one query over users, bounded by the page size and positioned after the previous
+ * page's last (sort value, user ID), plus one query for the roles of the users on that page.
+ * Neither touches users outside the page, however large the profile is.
+ */
+@Repository
+public class UserDirectoryRepository {
+
+    private static final String SELECT_SQL = """
+        SELECT u.user_id, u.login_id, u.email, u.first_name, u.last_name, u.status, u.lock_type,
+               u.created_at, u.last_logged_in_at
+        FROM users u
+        WHERE u.profile_id = :profileId""";
+
+    private static final String ROLES_SQL =
+        "SELECT user_id, role FROM user_roles WHERE user_id IN (:userIds)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public UserDirectoryRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<DirectoryEntry> search(ProfileId profileId, DirectoryQuery query) {
+        MapSqlParameterSource params = new MapSqlParameterSource("profileId", profileId.urn());
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+
+        if (!query.statuses().isEmpty()) {
+            sql.append(" AND u.status IN (:statuses)");
+            params.addValue("statuses", query.statuses().stream().map(Enum::name).toList());
+        }
+        if (query.role() != null) {
+            sql.append(" AND EXISTS (SELECT 1 FROM user_roles r WHERE r.user_id = u.user_id AND r.role = :role)");
+            params.addValue("role", query.role().name());
+        }
+        if (query.prefix() != null) {
+            // Plain LIKE 'x%' stays index-friendly; the SQL Server collation makes it case-insensitive
+            sql.append(" AND (u.email LIKE :prefix ESCAPE '\\' OR u.login_id LIKE :prefix ESCAPE '\\'")
+                .append(" OR u.first_name LIKE :prefix ESCAPE '\\' OR u.last_name LIKE :prefix ESCAPE '\\')");
+            params.addValue("prefix", escapeLike(query.prefix()) + "%");
+        }
+
+        String column = sortColumn(query.sort());
+        String direction = query.descending() ? "DESC" : "ASC";
+        if (query.after() != null) {
+            String comparison = query.descending() ? "<" : ">";
+            sql.append(" AND (").append(column).append(' ').append(comparison).append(" :afterValue")
+                .append(" OR (").append(column).append(" = :afterValue AND u.user_id ")
+                .append(comparison).append(" :afterId))");
+            params.addValue("afterValue", sortValue(query.sort(), query.after().sortValue()));
+            params.addValue("afterId", query.after().userId().id());
+        }
+
+        sql.append(" ORDER BY ").append(column).append(' ').append(direction)
+            .append(", u.user_id ").append(direction)
+            .append(" OFFSET 0 ROWS FETCH NEXT :limit ROWS ONLY");
+        params.addValue("limit", query.limit());
+
+        List<Row> rows = jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> toRow(rs));
+        Map<String, Set<User.Role>> roles = findRoles(rows);
+
+        List<DirectoryEntry> entries = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            entries.add(new DirectoryEntry(
+                UserId.of(row.userId()), row.loginId(), row.email(), row.firstName(), row.lastName(),
+                User.Status.valueOf(row.status()), User.LockType.valueOf(row.lockType()),
+                roles.getOrDefault(row.userId(), Set.of()), row.createdAt(), row.lastLoggedInAt()
+            ));
+        }
+        return entries;
+    }
+
+    private Map<String, Set<User.Role>> findRoles(List<Row> rows) {
+        Map<String, Set<User.Role>> roles = new HashMap<>();
+        if (rows.isEmpty()) {
+            return roles;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("userIds", rows.stream().map(Row::userId).toList());
+        jdbcTemplate.query(ROLES_SQL, params, rs -> {
+            roles.computeIfAbsent(normalizeId(rs.getString("user_id")), id -> EnumSet.noneOf(User.Role.class))
+                .add(User.Role.valueOf(rs.getString("role")));
+        });
+        return roles;
+    }
+
+    private static String sortColumn(DirectorySort sort) {
+        return switch (sort) {
+            case EMAIL -> "u.email";
+            case LAST_NAME -> "u.sort_last_name";
+            case CREATED_AT -> "u.created_at";
+        };
+    }
+
+    private static Object sortValue(DirectorySort sort, String value) {
+        if (sort != DirectorySort.CREATED_AT) {
+            return value;
+        }
+        try {
+            return OffsetDateTime.ofInstant(Instant.parse(value), ZoneOffset.UTC);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_").replace("[", "\\[");
+    }
+
+    private static Row toRow(ResultSet rs) throws SQLException {
+        return new Row(
+            normalizeId(rs.getString("user_id")),
+            rs.getString("login_id"),
+            rs.getString("email"),
+            rs.getString("first_name"),
+            rs.getString("last_name"),
+            rs.getString("status"),
+            rs.getString("lock_type"),
+            instant(rs, "created_at"),
+            instant(rs, "last_logged_in_at")
+        );
+    }
+
+    /**
+     * Timestamps are stored in UTC; read DATETIME2 columns as UTC rather than the JVM zone.
+     */
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column, Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC)));
+        return value != null ? value.toInstant() : null;
+    }
+
+    /**
+     * SQL Server returns UNIQUEIDENTIFIER in upper case; user IDs are lower case everywhere else.
+     */
+    private static String normalizeId(String userId) {
+        return userId.toLowerCase();
+    }
+
+    private record Row(
+        String userId,
+        String loginId,
+        String email,
+        String firstName,
+        String lastName,
+        String status,
+        String lockType,
+        Instant createdAt,
+        Instant lastLoggedInAt
+    ) {}
+}
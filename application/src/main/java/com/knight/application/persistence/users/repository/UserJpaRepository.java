@@ -1,7 +1,10 @@
 package com.knight.application.persistence.users.repository;
 
 import com.knight.application.persistence.users.entity.UserEntity;
+import com.knight.application.persistence.users.entity.UserStatusCountRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,4 +23,12 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
     List<UserEntity> findByProfileId(String profileId);
 
     boolean existsByEmail(String email);
+
+    @Query("""
+        SELECT new com.knight.application.persistence.users.entity.UserStatusCountRow(u.status, COUNT(u))
+        FROM UserEntity u
+        WHERE u.profileId = :profileId
+        GROUP BY u.status
+        """)
+    List<UserStatusCountRow> countByStatus(@Param("profileId") String profileId);
 }
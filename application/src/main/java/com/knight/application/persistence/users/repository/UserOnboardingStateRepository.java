@@ -0,0 +1,110 @@
+package com.knight.application.persistence.users.repository;
+
+import com.knight.domain.users.aggregate.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bulk reads and writes of users' onboarding state, for reconciliation against the identity provider.
+ *
+ * Updates are conditional on the state that was read, so a change made in between (an onboarding
+ * event, an admin action) is never overwritten; such a user is simply picked up by the next run.
+ */
+@Repository
+public class UserOnboardingStateRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_SQL = """
+        SELECT user_id, identity_provider_user_id, password_set, mfa_enrolled, status
+        FROM users
+        WHERE identity_provider_user_id IN (:identityProviderUserIds)""";
+
+    private static final String UPDATE_SQL =
+        "UPDATE users SET password_set = ?, mfa_enrolled = ?, status = ?, last_synced_at = ?, updated_at = ?, "
+            + "version = version + 1 "
+            + "WHERE user_id = ? AND password_set = ? AND mfa_enrolled = ? AND status = ?";
+
+    /**
+     * A user's onboarding state as stored locally.
+     */
+    public record OnboardingState(UUID userId, boolean passwordSet, boolean mfaEnrolled, User.Status status) {
+    }
+
+    /**
+     * A change from one onboarding state to another.
+     */
+    public record OnboardingChange(OnboardingState from, boolean passwordSet, boolean mfaEnrolled, User.Status status) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public UserOnboardingStateRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    /**
+     * Onboarding state of the local users with the given identity provider IDs, keyed by that ID.
+     * IDs with no local user are absent.
+     */
+    public Map<String, OnboardingState> findByIdentityProviderUserIds(Collection<String> identityProviderUserIds) {
+        Map<String, OnboardingState> states = new HashMap<>();
+        if (identityProviderUserIds.isEmpty()) {
+            return states;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("identityProviderUserIds", identityProviderUserIds);
+        namedJdbcTemplate.query(SELECT_SQL, params, rs -> {
+            states.put(rs.getString("identity_provider_user_id"), new OnboardingState(
+                UUID.fromString(rs.getString("user_id")),
+                rs.getBoolean("password_set"),
+                rs.getBoolean("mfa_enrolled"),
+                User.Status.valueOf(rs.getString("status"))));
+        });
+        return states;
+    }
+
+    /**
+     * Apply the changes as one JDBC batch.
+     *
+     * @return the users actually updated; those changed by someone else since they were read are skipped
+     */
+    public List<UUID> apply(List<OnboardingChange> changes, Instant syncedAt) {
+        LocalDateTime syncedAtUtc = LocalDateTime.ofInstant(syncedAt, ZoneOffset.UTC);
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, changes, BATCH_SIZE, (ps, change) -> {
+            ps.setBoolean(1, change.passwordSet());
+            ps.setBoolean(2, change.mfaEnrolled());
+            ps.setString(3, change.status().name());
+            ps.setObject(4, syncedAtUtc);
+            ps.setObject(5, syncedAtUtc);
+            ps.setString(6, change.from().userId().toString());
+            ps.setBoolean(7, change.from().passwordSet());
+            ps.setBoolean(8, change.from().mfaEnrolled());
+            ps.setString(9, change.from().status().name());
+        });
+        List<UUID> updated = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count != 0) {
+                    updated.add(changes.get(index).from().userId());
+                }
+                index++;
+            }
+        }
+        return updated;
+    }
+}
@@ -1,19 +1,25 @@
 package com.knight.application.persistence.users.repository;
 
+import com.knight.application.cache.CacheInvalidationPublisher;
+import com.knight.application.cache.CacheNames;
 import com.knight.application.persistence.users.entity.UserEntity;
-import com.knight.application.persistence.users.entity.UserRoleEntity;
+import com.knight.application.persistence.users.entity.UserStatusCountRow;
 import com.knight.application.persistence.users.mapper.UserMapper;
 import com.knight.domain.users.aggregate.User;
 import com.knight.domain.users.repository.UserRepository;
 import com.knight.platform.sharedkernel.ProfileId;
 import com.knight.platform.sharedkernel.UserId;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,49 +30,51 @@ public class UserRepositoryAdapter implements UserRepository {
 
     private final UserJpaRepository jpaRepository;
     private final UserMapper mapper;
+    private final UserDirectoryRepository directoryRepository;
+    private final CacheInvalidationPublisher cacheInvalidation;
+    private final UserUpdateRepository updateRepository;
+    private final EntityManager entityManager;
 
+    /**
+     * Write the user. A user loaded from the database only has its changed fields and roles
+     * written, without reading the row first; a new user, or one whose row has since gone,
+     * is inserted whole.
+     *
+     * @throws ObjectOptimisticLockingFailureException if the user has changed since it was loaded
+     */
     @Override
     @Transactional
     public void save(User user) {
+        if (user.persisted() && !user.hasChanges()) {
+            return;
+        }
         UUID userId = UUID.fromString(user.id().id());
-        Optional<UserEntity> existing = jpaRepository.findById(userId);
-
-        UserEntity entity;
-        if (existing.isPresent()) {
-            // Update existing entity
-            entity = existing.get();
-            entity.setFirstName(user.firstName());
-            entity.setLastName(user.lastName());
-            entity.setIdentityProviderUserId(user.identityProviderUserId());
-            entity.setEmailVerified(user.emailVerified());
-            entity.setPasswordSet(user.passwordSet());
-            entity.setMfaEnrolled(user.mfaEnrolled());
-            entity.setLastSyncedAt(user.lastSyncedAt());
-            entity.setLastLoggedInAt(user.lastLoggedInAt());
-            entity.setStatus(user.status().name());
-            entity.setLockType(user.lockType().name());
-            entity.setLockedBy(user.lockedBy());
-            entity.setLockedAt(user.lockedAt());
-            entity.setDeactivationReason(user.deactivationReason());
-            entity.setUpdatedAt(user.updatedAt());
-
-            // Update roles - clear and re-add
-            entity.getRoles().clear();
-            for (User.Role role : user.roles()) {
-                UserRoleEntity roleEntity = new UserRoleEntity(
-                    userId,
-                    role.name(),
-                    Instant.now(),
-                    user.createdBy()
-                );
-                entity.getRoles().add(roleEntity);
+        if (user.persisted() && writeChanges(userId, user)) {
+            if (user.version() != null) {
+                user.markPersisted(user.version() + 1);
+            } else {
+                user.markPersisted();
             }
         } else {
-            // Create new entity
-            entity = mapper.toEntity(user);
+            user.markPersisted(jpaRepository.save(mapper.toEntity(user)).getVersion());
         }
+        cacheInvalidation.invalidate(CacheNames.USERS, user.id().id());
+    }
 
-        jpaRepository.save(entity);
+    private boolean writeChanges(UUID userId, User user) {
+        // Statements below go straight to JDBC, so pending inserts must reach the database first
+        jpaRepository.flush();
+        if (!updateRepository.updateChangedFields(userId, user)) {
+            if (updateRepository.exists(userId)) {
+                throw new ObjectOptimisticLockingFailureException(UserEntity.class, userId);
+            }
+            return false;
+        }
+        updateRepository.deleteRoles(userId, user.removedRoles());
+        updateRepository.insertRoles(userId, user.addedRoles(), Instant.now(), user.createdBy());
+        // A copy of the row loaded earlier in this transaction is now stale
+        entityManager.detach(entityManager.getReference(UserEntity.class, userId));
+        return true;
     }
 
     @Override
@@ -106,6 +114,24 @@ public class UserRepositoryAdapter implements UserRepository {
             .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<DirectoryEntry> searchDirectory(ProfileId profileId, DirectoryQuery query) {
+        // The directory is read over JDBC, which does not trigger Hibernate's auto-flush
+        jpaRepository.flush();
+        return directoryRepository.search(profileId, query);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<User.Status, Long> countByStatus(ProfileId profileId) {
+        Map<User.Status, Long> counts = new EnumMap<>(User.Status.class);
+        for (UserStatusCountRow row : jpaRepository.countByStatus(profileId.urn())) {
+            counts.put(User.Status.valueOf(row.status()), row.count());
+        }
+        return counts;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
@@ -116,5 +142,6 @@ public class UserRepositoryAdapter implements UserRepository {
     @Transactional
     public void deleteById(UserId userId) {
         jpaRepository.deleteById(UUID.fromString(userId.id()));
+        cacheInvalidation.invalidate(CacheNames.USERS, userId.id());
     }
 }
@@ -0,0 +1,132 @@
+package com.knight.application.persistence.users.repository;
+
+import com.knight.domain.users.aggregate.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Targeted writes of a persisted user's changes.
+ *
+ * The UPDATE sets only the columns of the aggregate's changed fields, and roles are inserted or
+ * deleted one row each, so a lock or an onboarding flag no longer rewrites the whole row and
+ * every role. Nothing is read first. The UPDATE is conditional on the version the user was
+ * loaded at and bumps it, so changes made by someone else since are never overwritten.
+ */
+@Repository
+public class UserUpdateRepository {
+
+    private static final String INSERT_ROLE_SQL =
+        "INSERT INTO user_roles (user_id, role, assigned_at, assigned_by) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_ROLE_SQL =
+        "DELETE FROM user_roles WHERE user_id = ? AND role = ?";
+    private static final String EXISTS_SQL =
+        "SELECT COUNT(*) FROM users WHERE user_id = ?";
+
+    record Column(String name, Function<User, Object> value) {
+    }
+
+    static final Map<User.Field, Column> COLUMNS = new EnumMap<>(User.Field.class);
+
+    static {
+        COLUMNS.put(User.Field.EMAIL, new Column("email", User::email));
+        COLUMNS.put(User.Field.FIRST_NAME, new Column("first_name", User::firstName));
+        COLUMNS.put(User.Field.LAST_NAME, new Column("last_name", User::lastName));
+        COLUMNS.put(User.Field.IDENTITY_PROVIDER_USER_ID,
+            new Column("identity_provider_user_id", User::identityProviderUserId));
+        COLUMNS.put(User.Field.EMAIL_VERIFIED, new Column("email_verified", User::emailVerified));
+        COLUMNS.put(User.Field.PASSWORD_SET, new Column("password_set", User::passwordSet));
+        COLUMNS.put(User.Field.MFA_ENROLLED, new Column("mfa_enrolled", User::mfaEnrolled));
+        COLUMNS.put(User.Field.LAST_SYNCED_AT, new Column("last_synced_at", user -> utc(user.lastSyncedAt())));
+        COLUMNS.put(User.Field.LAST_LOGGED_IN_AT,
+            new Column("last_logged_in_at", user -> utc(user.lastLoggedInAt())));
+        COLUMNS.put(User.Field.MFA_PREFERENCE, new Column("mfa_preference", user -> name(user.mfaPreference())));
+        COLUMNS.put(User.Field.ALLOW_MFA_REENROLLMENT,
+            new Column("allow_mfa_reenrollment", User::allowMfaReenrollment));
+        COLUMNS.put(User.Field.MFA_REENROLLMENT_REQUESTED_AT,
+            new Column("mfa_reenrollment_requested_at", user -> utc(user.mfaReenrollmentRequestedAt())));
+        COLUMNS.put(User.Field.MFA_REENROLLMENT_REQUESTED_BY,
+            new Column("mfa_reenrollment_requested_by", User::mfaReenrollmentRequestedBy));
+        COLUMNS.put(User.Field.STATUS, new Column("status", user -> name(user.status())));
+        COLUMNS.put(User.Field.LOCK_TYPE, new Column("lock_type", user -> name(user.lockType())));
+        COLUMNS.put(User.Field.LOCKED_BY, new Column("locked_by", User::lockedBy));
+        COLUMNS.put(User.Field.LOCKED_AT, new Column("locked_at", user -> utc(user.lockedAt())));
+        COLUMNS.put(User.Field.DEACTIVATION_REASON, new Column("deactivation_reason", User::deactivationReason));
+        COLUMNS.put(User.Field.UPDATED_AT, new Column("updated_at", user -> utc(user.updatedAt())));
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserUpdateRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Write the user's changed fields and move the row to the next version. The version moves
+     * even when only roles changed, as roles are part of the user.
+     *
+     * @return false if there is no row for the user at the version it was loaded at
+     */
+    public boolean updateChangedFields(UUID userId, User user) {
+        StringBuilder sql = new StringBuilder("UPDATE users SET ");
+        List<Object> args = new ArrayList<>();
+        for (User.Field field : user.changedFields()) {
+            Column column = COLUMNS.get(field);
+            sql.append(column.name()).append(" = ?, ");
+            args.add(column.value().apply(user));
+        }
+        sql.append("version = version + 1 WHERE user_id = ?");
+        args.add(userId.toString());
+        if (user.version() != null) {
+            sql.append(" AND version = ?");
+            args.add(user.version());
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray()) > 0;
+    }
+
+    public boolean exists(UUID userId) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, userId.toString());
+        return count != null && count > 0;
+    }
+
+    public void insertRoles(UUID userId, Collection<User.Role> roles, Instant assignedAt, String assignedBy) {
+        if (roles.isEmpty()) {
+            return;
+        }
+        LocalDateTime assignedAtUtc = utc(assignedAt);
+        jdbcTemplate.batchUpdate(INSERT_ROLE_SQL, new ArrayList<>(roles), roles.size(), (ps, role) -> {
+            ps.setString(1, userId.toString());
+            ps.setString(2, role.name());
+            ps.setObject(3, assignedAtUtc);
+            ps.setString(4, assignedBy);
+        });
+    }
+
+    public void deleteRoles(UUID userId, Collection<User.Role> roles) {
+        if (roles.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_ROLE_SQL, new ArrayList<>(roles), roles.size(), (ps, role) -> {
+            ps.setString(1, userId.toString());
+            ps.setString(2, role.name());
+        });
+    }
+
+    private static LocalDateTime utc(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
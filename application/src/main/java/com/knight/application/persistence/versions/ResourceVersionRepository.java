@@ -0,0 +1,167 @@
+package com.knight.application.persistence.versions;
+
+import com.knight.platform.sharedkernel.ProfileId;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Version fingerprints of read-heavy resources, for conditional GETs.
+ *
+ * Each fingerprint is one query over the aggregate's {@code updated_at} column and the row
+ * counts of its child tables, so it changes whenever the resource does without loading it.
+ * Counts catch removals, which leave no newer timestamp behind.
+ */
+@Repository
+public class ResourceVersionRepository {
+
+    private static final String INDIRECT_CLIENT_OF_PROFILE = """
+        ic.client_id IN (SELECT ce.client_id FROM profile_client_enrollments ce
+                         WHERE ce.profile_id = :profileId AND ce.is_primary = :primary)""";
+
+    private static final String OWN_INDIRECT_CLIENT_SQL = """
+        SELECT ic.client_id, ic.updated_at,
+               (SELECT COUNT(*) FROM indirect_client_persons p WHERE p.indirect_client_id = ic.client_id),
+               (SELECT COUNT(*) FROM client_accounts a WHERE a.indirect_client_id = ic.client_id),
+               (SELECT MAX(a.updated_at) FROM client_accounts a WHERE a.indirect_client_id = ic.client_id)
+        FROM indirect_clients ic
+        WHERE\s""" + INDIRECT_CLIENT_OF_PROFILE;
+
+    private static final String OWN_INDIRECT_CLIENT_ACCOUNTS_SQL = """
+        SELECT ic.client_id,
+               (SELECT COUNT(*) FROM client_accounts a WHERE a.indirect_client_id = ic.client_id),
+               (SELECT MAX(a.updated_at) FROM client_accounts a WHERE a.indirect_client_id = ic.client_id)
+        FROM indirect_clients ic
+        WHERE\s""" + INDIRECT_CLIENT_OF_PROFILE;
+
+    private static final String USER_GROUPS_SQL = """
+        SELECT COUNT(*), MAX(g.updated_at),
+               (SELECT COUNT(*) FROM user_group_members m JOIN user_groups mg ON mg.group_id = m.group_id
+                WHERE mg.profile_id = :profileId)
+        FROM user_groups g
+        WHERE g.profile_id = :profileId""";
+
+    private static final String ACCOUNT_GROUPS_SQL = """
+        SELECT COUNT(*), MAX(g.updated_at),
+               (SELECT COUNT(*) FROM account_group_members m JOIN account_groups mg ON mg.group_id = m.group_id
+                WHERE mg.profile_id = :profileId)
+        FROM account_groups g
+        WHERE g.profile_id = :profileId""";
+
+    private static final String PROFILE_DETAIL_COLUMNS = """
+        p.updated_at,
+               (SELECT COUNT(*) FROM profile_client_enrollments ce WHERE ce.profile_id = p.profile_id),
+               (SELECT COUNT(*) FROM service_enrollments se
+                WHERE se.profile_id = p.profile_id AND se.status = 'ACTIVE'),
+               (SELECT COUNT(*) FROM service_enrollments se WHERE se.profile_id = p.profile_id),
+               (SELECT COUNT(*) FROM account_enrollments ae
+                WHERE ae.profile_id = p.profile_id AND ae.status = 'ACTIVE'),
+               (SELECT COUNT(*) FROM account_enrollments ae WHERE ae.profile_id = p.profile_id),
+               (SELECT MAX(c.updated_at) FROM clients c
+                JOIN profile_client_enrollments ce ON ce.client_id = c.client_id
+                WHERE ce.profile_id = p.profile_id),
+               (SELECT MAX(ic.updated_at) FROM indirect_clients ic
+                JOIN profile_client_enrollments ce ON ce.client_id = ic.client_id
+                WHERE ce.profile_id = p.profile_id)""";
+
+    private static final String PROFILE_DETAIL_SQL = "SELECT " + PROFILE_DETAIL_COLUMNS + """
+
+        FROM profiles p
+        WHERE p.profile_id = :profileId""";
+
+    private static final String PROFILE_VIEW_SQL = "SELECT " + PROFILE_DETAIL_COLUMNS + """
+        ,
+               (SELECT COUNT(*) FROM users u WHERE u.profile_id = p.profile_id),
+               (SELECT MAX(u.updated_at) FROM users u WHERE u.profile_id = p.profile_id),
+               (SELECT COUNT(*) FROM user_roles r JOIN users u ON u.user_id = r.user_id
+                WHERE u.profile_id = p.profile_id),
+               (SELECT COUNT(*) FROM indirect_clients ic WHERE ic.parent_profile_id = p.profile_id),
+               (SELECT MAX(ic.updated_at) FROM indirect_clients ic WHERE ic.parent_profile_id = p.profile_id),
+               (SELECT COUNT(*) FROM indirect_client_persons ip
+                JOIN indirect_clients ic ON ic.client_id = ip.indirect_client_id
+                WHERE ic.parent_profile_id = p.profile_id),
+               (SELECT COUNT(*) FROM client_accounts a
+                JOIN indirect_clients ic ON ic.client_id = a.indirect_client_id
+                WHERE ic.parent_profile_id = p.profile_id),
+               (SELECT COUNT(*) FROM permission_policies pp WHERE pp.profile_id = p.profile_id),
+               (SELECT MAX(pp.updated_at) FROM permission_policies pp WHERE pp.profile_id = p.profile_id),
+               (SELECT COUNT(*) FROM user_groups g WHERE g.profile_id = p.profile_id),
+               (SELECT MAX(g.updated_at) FROM user_groups g WHERE g.profile_id = p.profile_id),
+               (SELECT COUNT(*) FROM user_group_members m JOIN user_groups mg ON mg.group_id = m.group_id
+                WHERE mg.profile_id = p.profile_id),
+               (SELECT COUNT(*) FROM account_groups g WHERE g.profile_id = p.profile_id),
+               (SELECT MAX(g.updated_at) FROM account_groups g WHERE g.profile_id = p.profile_id),
+               (SELECT COUNT(*) FROM account_group_members m JOIN account_groups mg ON mg.group_id = m.group_id
+                WHERE mg.profile_id = p.profile_id)
+        FROM profiles p
+        WHERE p.profile_id = :profileId""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ResourceVersionRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * The indirect client owned by an indirect profile, with its persons and OFI accounts.
+     */
+    public Optional<String> ownIndirectClient(ProfileId profileId) {
+        return fingerprint("indirect-client", OWN_INDIRECT_CLIENT_SQL, profileId, true);
+    }
+
+    /**
+     * The OFI accounts of the indirect client owned by an indirect profile.
+     */
+    public Optional<String> ownIndirectClientAccounts(ProfileId profileId) {
+        return fingerprint("indirect-client-accounts", OWN_INDIRECT_CLIENT_ACCOUNTS_SQL, profileId, true);
+    }
+
+    public Optional<String> userGroups(ProfileId profileId) {
+        return fingerprint("user-groups", USER_GROUPS_SQL, profileId, false);
+    }
+
+    public Optional<String> accountGroups(ProfileId profileId) {
+        return fingerprint("account-groups", ACCOUNT_GROUPS_SQL, profileId, false);
+    }
+
+    /**
+     * A profile with its enrollments and the names of its enrolled clients.
+     */
+    public Optional<String> profileDetail(ProfileId profileId) {
+        return fingerprint("profile-detail", PROFILE_DETAIL_SQL, profileId, false);
+    }
+
+    /**
+     * Everything the profile screen can show at once: the profile detail, its users and their
+     * roles, its indirect clients, permission policies, and user and account groups.
+     */
+    public Optional<String> profileView(ProfileId profileId) {
+        return fingerprint("profile-view", PROFILE_VIEW_SQL, profileId, false);
+    }
+
+    private Optional<String> fingerprint(String resource, String sql, ProfileId profileId, boolean primaryOnly) {
+        MapSqlParameterSource params = new MapSqlParameterSource("profileId", profileId.urn());
+        if (primaryOnly) {
+            params.addValue("primary", true);
+        }
+        List<String> rows = jdbcTemplate.query(sql, params, (rs, rowNum) -> columns(rs));
+        if (rows.size() != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(resource + "|" + profileId.urn() + "|" + rows.get(0));
+    }
+
+    private static String columns(ResultSet rs) throws SQLException {
+        StringBuilder columns = new StringBuilder();
+        int count = rs.getMetaData().getColumnCount();
+        for (int i = 1; i <= count; i++) {
+            columns.append(rs.getObject(i)).append('|');
+        }
+        return columns.toString();
+    }
+}
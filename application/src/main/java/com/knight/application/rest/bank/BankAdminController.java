@@ -1,10 +1,15 @@
 package com.knight.application.rest.bank;
 
+import com.knight.application.jobs.JobQueue;
+import com.knight.application.jobs.JobType;
 import com.knight.application.persistence.indirectclients.repository.IndirectClientJpaRepository;
 import com.knight.application.persistence.profiles.repository.ProfileJpaRepository;
+import com.knight.application.persistence.versions.ResourceVersionRepository;
+import com.knight.application.rest.batch.BatchProgressBroadcaster;
 import com.knight.application.rest.batch.dto.*;
 import com.knight.application.rest.clients.ClientRestMapper;
 import com.knight.application.rest.clients.dto.*;
+import com.knight.application.rest.etag.ConditionalGet;
 import com.knight.application.rest.indirectclients.dto.*;
 import com.knight.application.rest.indirectprofiles.dto.*;
 import com.knight.application.rest.accountgroups.dto.*;
@@ -70,7 +75,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -119,6 +126,10 @@ public class BankAdminController {
     private final UserGroupQueries userGroupQueries;
     private final PayorEnrolmentService payorEnrolmentService;
     private final ObjectMapper objectMapper;
+    private final BatchProgressBroadcaster batchProgressBroadcaster;
+    private final JobQueue jobQueue;
+    private final ResourceVersionRepository resourceVersions;
+    private final ProfileViewAssembler profileViewAssembler;
 
     // ==================== Client Endpoints ====================
 
@@ -235,10 +246,33 @@ public class BankAdminController {
 
     @GetMapping("/profiles/{profileId}/detail")
     public ResponseEntity<ProfileDetailDto> getProfileDetail(
-            @PathVariable String profileId) {
+            @PathVariable String profileId,
+            WebRequest request) {
+
+        ProfileId id = ProfileId.fromUrn(profileId);
+        return ConditionalGet.ifModified(request, resourceVersions.profileDetail(id), () -> {
+            ProfileDetail detail = profileQueries.getProfileDetail(id);
+            return ResponseEntity.ok(toProfileDetailDto(detail));
+        });
+    }
+
+    /**
+     * The profile screen in one request: the sections named in {@code fields}, read in parallel.
+     * Answered with 304 while nothing the screen can show has changed.
+     */
+    @GetMapping("/profiles/{profileId}/view")
+    public ResponseEntity<ProfileViewDto> getProfileView(
+            @PathVariable String profileId,
+            @RequestParam(required = false) Set<String> fields,
+            @RequestParam(defaultValue = "50") int size,
+            WebRequest request) {
 
-        ProfileDetail detail = profileQueries.getProfileDetail(ProfileId.fromUrn(profileId));
-        return ResponseEntity.ok(toProfileDetailDto(detail));
+        ProfileId id = ProfileId.fromUrn(profileId);
+        Set<ProfileViewAssembler.Section> sections = ProfileViewAssembler.Section.parse(fields);
+        return ConditionalGet.ifModified(request, resourceVersions.profileView(id), () -> {
+            ProfileViewAssembler.ProfileView view = profileViewAssembler.assemble(id, sections, size);
+            return ResponseEntity.ok(toProfileViewDto(view));
+        });
     }
 
     @PostMapping("/profiles/search")
@@ -443,25 +477,25 @@ public class BankAdminController {
     // ==================== Indirect Client Endpoints ====================
 
     @GetMapping("/indirect-clients/by-client/{clientId}")
-    public List<IndirectClientDto> getIndirectClientsByClient(
-            @PathVariable @NotBlank String clientId) {
+    public PageResponseDto<IndirectClientDto> getIndirectClientsByClient(
+            @PathVariable @NotBlank String clientId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
 
+        requireValidPage(page, size);
         ClientId id = ClientId.of(clientId);
-        return indirectClientRepository.findByParentClientId(id)
-            .stream()
-            .map(this::toIndirectClientDto)
-            .toList();
+        return toIndirectClientPage(indirectClientRepository.findSummariesByParentClientId(id, page, size));
     }
 
     @GetMapping("/indirect-clients/by-profile")
-    public List<IndirectClientDto> getIndirectClientsByProfile(
-            @RequestParam @NotBlank String parentProfileId) {
+    public PageResponseDto<IndirectClientDto> getIndirectClientsByProfile(
+            @RequestParam @NotBlank String parentProfileId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
 
+        requireValidPage(page, size);
         ProfileId id = ProfileId.fromUrn(parentProfileId);
-        return indirectClientRepository.findByParentProfileId(id)
-            .stream()
-            .map(this::toIndirectClientDto)
-            .toList();
+        return toIndirectClientPage(indirectClientRepository.findSummariesByParentProfileId(id, page, size));
     }
 
     @GetMapping("/indirect-clients/{id}")
@@ -600,19 +634,25 @@ public class BankAdminController {
     // ==================== User Management Endpoints ====================
 
     @GetMapping("/profiles/{profileId}/users")
-    public ResponseEntity<List<ProfileUserDto>> listProfileUsers(
-            @PathVariable String profileId) {
+    public ResponseEntity<ProfileUserPageDto> listProfileUsers(
+            @PathVariable String profileId,
+            @RequestParam(required = false) Set<String> status,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "email") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
 
         log.info("Listing users for profile: {}", profileId);
 
         ProfileId profId = ProfileId.fromUrn(profileId);
-        List<ProfileUserSummary> users = userQueries.listUsersByProfile(profId);
-
-        List<ProfileUserDto> dtos = users.stream()
-            .map(this::toProfileUserDto)
-            .toList();
-
-        return ResponseEntity.ok(dtos);
+        ProfileUserPage page = userQueries.searchUsersByProfile(profId, new UserSearchRequest(status, role, q, sortBy, sortDir, cursor, size).toSearch());
+        return ResponseEntity.ok(new ProfileUserPageDto(
+            page.users().stream().map(this::toProfileUserDto).toList(),
+            page.nextCursor(),
+            page.hasMore()
+        ));
     }
 
     @PostMapping("/profiles/{profileId}/users")
@@ -1211,7 +1251,7 @@ public class BankAdminController {
             @RequestBody ExecuteBatchRequest request) {
 
         String requestedBy = getSubject(jwt);
-        log.info("Starting batch execution {} for profile {} by {}", request.batchId(), profileId, requestedBy);
+        log.info("Queueing batch execution {} for profile {} by {}", request.batchId(), profileId, requestedBy);
 
         BatchId batchId = BatchId.of(request.batchId());
 
@@ -1223,10 +1263,10 @@ public class BankAdminController {
                 .body(new ExecuteBatchResponse(request.batchId(), "ERROR", 0, "Batch does not belong to this profile"));
         }
 
-        payorEnrolmentService.execute(batchId);
+        jobQueue.enqueue(JobType.PAYOR_ENROLMENT, batch.id().toString(), batch.sourceProfileId().urn());
 
         return ResponseEntity.accepted().body(new ExecuteBatchResponse(
-            batch.id().toString(), "IN_PROGRESS", batch.totalItems(), "Batch execution started"
+            batch.id().toString(), "QUEUED", batch.totalItems(), "Batch queued for execution"
         ));
     }
 
@@ -1274,6 +1314,35 @@ public class BankAdminController {
         return ResponseEntity.ok(items);
     }
 
+    /**
+     * Stream batch progress as Server-Sent Events.
+     * Sends the current state first, then one compact event per processed item, and
+     * completes when the batch finishes.
+     */
+    @GetMapping(value = "/batches/{batchId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBatchProgress(@PathVariable String batchId) {
+        log.info("Streaming batch progress for {}", batchId);
+
+        Batch batch = payorEnrolmentService.getBatch(BatchId.of(batchId))
+            .orElseThrow(() -> new IllegalArgumentException("Batch not found: " + batchId));
+
+        return batchProgressBroadcaster.subscribe(batch);
+    }
+
+    /**
+     * Cancel a queued or running batch.
+     * Items already processed keep their outcome; the rest are marked failed as cancelled.
+     */
+    @PostMapping("/batches/{batchId}/cancel")
+    public ResponseEntity<ExecuteBatchResponse> cancelBatch(@PathVariable String batchId) {
+        log.info("Cancelling batch {}", batchId);
+
+        Batch batch = payorEnrolmentService.getBatch(BatchId.of(batchId))
+            .orElseThrow(() -> new IllegalArgumentException("Batch not found: " + batchId));
+
+        return toCancelResponse(batch, jobQueue.cancel(JobType.PAYOR_ENROLMENT, batch.id().toString()));
+    }
+
     // ==================== Helper Methods ====================
 
     private PageResultDto<ClientSearchResponseDto> toClientPageResultDto(PageResult<Client> pageResult) {
@@ -1354,6 +1423,23 @@ public class BankAdminController {
         );
     }
 
+    private ProfileViewDto toProfileViewDto(ProfileViewAssembler.ProfileView view) {
+        return new ProfileViewDto(
+            view.detail() != null ? toProfileDetailDto(view.detail()) : null,
+            view.users() != null ? new ProfileUserPageDto(
+                view.users().users().stream().map(this::toProfileUserDto).toList(),
+                view.users().nextCursor(),
+                view.users().hasMore()
+            ) : null,
+            view.userCounts(),
+            view.indirectClients() != null ? toIndirectClientPage(view.indirectClients()) : null,
+            view.permissionPolicies() != null
+                ? view.permissionPolicies().stream().map(this::toPermissionPolicyDto).toList() : null,
+            view.userGroups() != null ? view.userGroups().stream().map(this::toUserGroupDto).toList() : null,
+            view.accountGroups() != null ? view.accountGroups().stream().map(this::toAccountGroupDto).toList() : null
+        );
+    }
+
     private IndirectProfileSummaryDto toIndirectProfileDto(
             com.knight.application.persistence.profiles.entity.ProfileEntity entity) {
         return new IndirectProfileSummaryDto(
@@ -1364,10 +1450,31 @@ public class BankAdminController {
         );
     }
 
-    private IndirectClientDto toIndirectClientDto(IndirectClient client) {
+    private IndirectClientDto toIndirectClientDto(IndirectClientRepository.IndirectClientSummary summary) {
         return new IndirectClientDto(
-            client.id().urn(), client.parentClientId().urn(), client.clientType().name(),
-            client.name(), client.status().name(), client.relatedPersons().size(), client.createdAt()
+            summary.id().urn(), summary.parentClientId().urn(), summary.clientType().name(),
+            summary.name(), summary.externalReference(), summary.status().name(),
+            summary.personCount(), summary.accountCount(), summary.createdAt()
+        );
+    }
+
+    /**
+     * Rejects a page the repository cannot ask for, as a bad request rather than a failed query
+     */
+    private static void requireValidPage(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative: " + page);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+    }
+
+    private PageResponseDto<IndirectClientDto> toIndirectClientPage(
+            IndirectClientRepository.PageResult<IndirectClientRepository.IndirectClientSummary> result) {
+        return new PageResponseDto<>(
+            result.content().stream().map(this::toIndirectClientDto).toList(),
+            result.totalElements(), result.page(), result.size(), result.totalPages()
         );
     }
 
@@ -1490,6 +1597,18 @@ public class BankAdminController {
         );
     }
 
+    private ResponseEntity<ExecuteBatchResponse> toCancelResponse(Batch batch, JobQueue.CancelOutcome outcome) {
+        String id = batch.id().toString();
+        return switch (outcome) {
+            case CANCELLED -> ResponseEntity.ok(new ExecuteBatchResponse(
+                id, outcome.name(), batch.totalItems(), "Batch cancelled before execution started"));
+            case CANCEL_REQUESTED -> ResponseEntity.accepted().body(new ExecuteBatchResponse(
+                id, outcome.name(), batch.totalItems(), "Batch will stop before its next item"));
+            case NOT_ACTIVE -> ResponseEntity.status(HttpStatus.CONFLICT).body(new ExecuteBatchResponse(
+                id, outcome.name(), batch.totalItems(), "Batch is not queued or running"));
+        };
+    }
+
     private BatchDetailDto toBatchDetailDto(Batch batch) {
         return new BatchDetailDto(
             batch.id().toString(), batch.type().name(), batch.type().displayName(),
@@ -0,0 +1,189 @@
+package com.knight.application.rest.bank;
+
+import com.knight.application.rest.users.dto.UserSearchRequest;
+import com.knight.domain.indirectclients.repository.IndirectClientRepository;
+import com.knight.domain.indirectclients.repository.IndirectClientRepository.IndirectClientSummary;
+import com.knight.domain.policy.api.queries.PermissionPolicyQueries;
+import com.knight.domain.policy.api.types.PolicyDto;
+import com.knight.domain.serviceprofiles.api.queries.AccountGroupQueries;
+import com.knight.domain.serviceprofiles.api.queries.AccountGroupQueries.AccountGroupSummary;
+import com.knight.domain.serviceprofiles.api.queries.ProfileQueries;
+import com.knight.domain.serviceprofiles.api.queries.ProfileQueries.ProfileDetail;
+import com.knight.domain.users.api.queries.UserGroupQueries;
+import com.knight.domain.users.api.queries.UserGroupQueries.UserGroupSummary;
+import com.knight.domain.users.api.queries.UserQueries;
+import com.knight.domain.users.api.queries.UserQueries.ProfileUserPage;
+import com.knight.platform.sharedkernel.ProfileId;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Assembles the employee portal's profile screen in one server-side pass.
+ *
+ * The profile is loaded once, up front, so a missing profile fails the view before any section
+ * runs. The selected sections are then independent reads of that profile, so they run in parallel
+ * on a small pool instead of one portal round trip each. The pool's queue is bounded; when it is
+ * full, the request thread reads its sections itself rather than queueing more work. Every section
+ * reads in its own transaction; the view is a set of current reads, not a snapshot.
+ */
+@Component
+public class ProfileViewAssembler {
+
+    private static final int THREADS = 4;
+    private static final int QUEUE_CAPACITY = 64;
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    public enum Section {
+        DETAIL("detail"),
+        USERS("users"),
+        USER_COUNTS("userCounts"),
+        INDIRECT_CLIENTS("indirectClients"),
+        PERMISSION_POLICIES("permissionPolicies"),
+        USER_GROUPS("userGroups"),
+        ACCOUNT_GROUPS("accountGroups");
+
+        private final String field;
+
+        Section(String field) {
+            this.field = field;
+        }
+
+        public String field() {
+            return field;
+        }
+
+        /**
+         * Sections named by the {@code fields} parameter; no fields means what the profile screen opens with.
+         */
+        public static Set<Section> parse(Collection<String> fields) {
+            if (fields == null || fields.isEmpty()) {
+                return EnumSet.of(DETAIL, USERS, INDIRECT_CLIENTS);
+            }
+            Set<Section> sections = EnumSet.noneOf(Section.class);
+            for (String field : fields) {
+                sections.add(fromField(field.trim()));
+            }
+            return sections;
+        }
+
+        private static Section fromField(String field) {
+            for (Section section : values()) {
+                if (section.field.equals(field)) {
+                    return section;
+                }
+            }
+            throw new IllegalArgumentException("Unknown field: " + field);
+        }
+    }
+
+    /**
+     * The assembled sections; sections that were not selected are null.
+     */
+    public record ProfileView(
+        ProfileDetail detail,
+        ProfileUserPage users,
+        Map<String, Integer> userCounts,
+        IndirectClientRepository.PageResult<IndirectClientSummary> indirectClients,
+        List<PolicyDto> permissionPolicies,
+        List<UserGroupSummary> userGroups,
+        List<AccountGroupSummary> accountGroups
+    ) {}
+
+    private final ProfileQueries profileQueries;
+    private final UserQueries userQueries;
+    private final IndirectClientRepository indirectClientRepository;
+    private final PermissionPolicyQueries policyQueries;
+    private final UserGroupQueries userGroupQueries;
+    private final AccountGroupQueries accountGroupQueries;
+    private final ExecutorService executor;
+
+    @Autowired
+    public ProfileViewAssembler(ProfileQueries profileQueries, UserQueries userQueries,
+                                IndirectClientRepository indirectClientRepository,
+                                PermissionPolicyQueries policyQueries, UserGroupQueries userGroupQueries,
+                                AccountGroupQueries accountGroupQueries) {
+        this(profileQueries, userQueries, indirectClientRepository, policyQueries, userGroupQueries,
+            accountGroupQueries, new ThreadPoolExecutor(THREADS, THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), new CustomizableThreadFactory("profile-view-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()));
+    }
+
+    ProfileViewAssembler(ProfileQueries profileQueries, UserQueries userQueries,
+                         IndirectClientRepository indirectClientRepository,
+                         PermissionPolicyQueries policyQueries, UserGroupQueries userGroupQueries,
+                         AccountGroupQueries accountGroupQueries, ExecutorService executor) {
+        this.profileQueries = profileQueries;
+        this.userQueries = userQueries;
+        this.indirectClientRepository = indirectClientRepository;
+        this.policyQueries = policyQueries;
+        this.userGroupQueries = userGroupQueries;
+        this.accountGroupQueries = accountGroupQueries;
+        // Sections run as the caller, like the single-section endpoints do
+        this.executor = new DelegatingSecurityContextExecutorService(executor);
+    }
+
+    /**
+     * Read the selected sections in parallel. {@code pageSize} bounds the first page of users and
+     * indirect clients, within the limits of their own endpoints; further pages come from those.
+     */
+    public ProfileView assemble(ProfileId profileId, Set<Section> sections, int pageSize) {
+        int size = pageSize <= 0 ? DEFAULT_PAGE_SIZE : Math.min(pageSize, MAX_PAGE_SIZE);
+        ProfileDetail profile = profileQueries.getProfileDetail(profileId);
+        ProfileId id = ProfileId.fromUrn(profile.profileId());
+
+        var detail = CompletableFuture.completedFuture(sections.contains(Section.DETAIL) ? profile : null);
+        var users = section(sections, Section.USERS, () -> userQueries.searchUsersByProfile(id,
+            new UserSearchRequest(null, null, null, "email", "asc", null, size).toSearch()));
+        var userCounts = section(sections, Section.USER_COUNTS,
+            () -> userQueries.countUsersByStatusForProfile(id));
+        var indirectClients = section(sections, Section.INDIRECT_CLIENTS,
+            () -> indirectClientRepository.findSummariesByParentProfileId(id, 0, size));
+        var policies = section(sections, Section.PERMISSION_POLICIES,
+            () -> policyQueries.listPoliciesByProfile(id));
+        var userGroups = section(sections, Section.USER_GROUPS,
+            () -> userGroupQueries.listGroupsByProfile(id));
+        var accountGroups = section(sections, Section.ACCOUNT_GROUPS,
+            () -> accountGroupQueries.listGroupsByProfile(id));
+
+        try {
+            CompletableFuture.allOf(detail, users, userCounts, indirectClients, policies, userGroups, accountGroups).join();
+        } catch (CompletionException e) {
+            // Surface the failing section's own exception so it maps to the same status as its endpoint
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return new ProfileView(detail.join(), users.join(), userCounts.join(), indirectClients.join(),
+            policies.join(), userGroups.join(), accountGroups.join());
+    }
+
+    private <T> CompletableFuture<T> section(Set<Section> sections, Section section, Supplier<T> read) {
+        if (!sections.contains(section)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(read, executor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
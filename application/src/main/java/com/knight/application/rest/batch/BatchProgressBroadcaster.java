@@ -0,0 +1,380 @@
+package com.knight.application.rest.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knight.application.rest.batch.dto.BatchProgressDto;
+import com.knight.application.rest.batch.dto.BatchProgressDto.ItemChangeDto;
+import com.knight.domain.batch.aggregate.Batch;
+import com.knight.domain.batch.api.events.BatchProgressed;
+import com.knight.domain.batch.types.BatchItemStatus;
+import com.knight.domain.batch.types.BatchStatus;
+import com.knight.domain.batch.types.PayorEnrolmentRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams batch progress to watchers over Server-Sent Events.
+ *
+ * Listens for {@link BatchProgressed} events from the batch executor and forwards each one,
+ * unchanged in size, to the emitters watching that batch. Per running batch it keeps the
+ * latest counts and the failed items so far, so a watcher joining mid-run starts from live
+ * state. Nothing is reloaded per event: the cost per watcher is proportional to the changes,
+ * not the batch size.
+ *
+ * The executor thread only queues events; a small pool of sender threads writes them out, so
+ * a slow watcher never holds up the batch. Each watcher queues at most
+ * {@value #MAX_PENDING_EVENTS} events; one that falls further behind has its backlog replaced
+ * by the current state. A batch's live state is dropped a while after its final event, or
+ * once no event has arrived for as long as a stream may stay open.
+ */
+@Slf4j
+@Component
+public class BatchProgressBroadcaster {
+
+    static final String EVENT_NAME = "progress";
+    static final int MAX_PENDING_EVENTS = 64;
+    private static final long EMITTER_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+    private static final long FINISHED_RETENTION_MILLIS = Duration.ofMinutes(2).toMillis();
+    private static final long PURGE_INTERVAL_MILLIS = Duration.ofMinutes(1).toMillis();
+    private static final int SENDER_THREADS = 4;
+    private static final int MAX_QUEUED_SENDS = 1_000;
+
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Executor senders;
+    private final AtomicLong lastPurgeMillis = new AtomicLong();
+
+    @Autowired
+    public BatchProgressBroadcaster(ObjectMapper objectMapper) {
+        this(objectMapper, Clock.systemUTC(), new ThreadPoolExecutor(SENDER_THREADS, SENDER_THREADS,
+            0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(MAX_QUEUED_SENDS),
+            new CustomizableThreadFactory("batch-progress-")));
+    }
+
+    BatchProgressBroadcaster(ObjectMapper objectMapper, Clock clock, Executor senders) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.senders = senders;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (senders instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+
+    /**
+     * Open a progress stream for a batch. The first event is the current state: live state if
+     * the batch is running on this node, otherwise the given persisted batch. The stream
+     * completes after the final event.
+     */
+    public SseEmitter subscribe(Batch batch) {
+        return register(batch, new SseEmitter(EMITTER_TIMEOUT_MILLIS));
+    }
+
+    SseEmitter register(Batch batch, SseEmitter emitter) {
+        purgeIfDue();
+        String batchId = batch.id().toString();
+        Channel channel = channels.get(batchId);
+        if (channel == null && isFinal(batch.status())) {
+            if (send(emitter, snapshotOf(batch))) {
+                emitter.complete();
+            }
+            return emitter;
+        }
+        if (channel == null) {
+            channel = channels.computeIfAbsent(batchId, id -> new Channel(clock.millis()));
+        }
+
+        Watcher watcher = new Watcher(emitter, channel);
+        synchronized (channel) {
+            watcher.enqueue(channel.latest != null ? channel.snapshot() : snapshotOf(batch));
+            if (channel.finishedAtMillis > 0) {
+                watcher.complete();
+                return emitter;
+            }
+            channel.watchers.add(watcher);
+        }
+        emitter.onCompletion(watcher::close);
+        emitter.onTimeout(watcher::close);
+        emitter.onError(error -> watcher.close());
+        return emitter;
+    }
+
+    /**
+     * Forward an executor event to the batch's watchers. Runs on the executor thread, so it
+     * never throws and never writes to a watcher itself: a slow or failing watcher must not
+     * hold up or fail the batch.
+     */
+    @EventListener
+    public void onProgress(BatchProgressed event) {
+        try {
+            broadcast(event);
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast progress for batch {}", event.batchId(), e);
+        }
+    }
+
+    private void broadcast(BatchProgressed event) {
+        Channel channel = channels.computeIfAbsent(event.batchId(), id -> new Channel(clock.millis()));
+        BatchProgressDto progress = toDto(event);
+
+        synchronized (channel) {
+            channel.latest = progress;
+            channel.lastEventMillis = clock.millis();
+            for (ItemChangeDto change : progress.changedItems()) {
+                if (BatchItemStatus.FAILED.name().equals(change.status())) {
+                    channel.failures.add(change);
+                }
+            }
+            for (Watcher watcher : channel.watchers) {
+                watcher.enqueue(progress);
+            }
+            if (event.isFinal()) {
+                channel.finishedAtMillis = clock.millis();
+                for (Watcher watcher : channel.watchers) {
+                    watcher.complete();
+                }
+                channel.watchers.clear();
+            }
+        }
+        purgeIfDue();
+    }
+
+    int watcherCount(String batchId) {
+        Channel channel = channels.get(batchId);
+        return channel == null ? 0 : channel.watchers.size();
+    }
+
+    int channelCount() {
+        return channels.size();
+    }
+
+    private boolean send(SseEmitter emitter, BatchProgressDto progress) {
+        try {
+            emitter.send(SseEmitter.event()
+                .name(EVENT_NAME)
+                .id(Long.toString(progress.sequence()))
+                .data(progress, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping progress watcher for batch {}: {}", progress.batchId(), e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * Finished batches are kept briefly so watchers that subscribe just after the final event
+     * still get the final state and failures without a database read. Batches that stopped
+     * sending events without a final one (the node running them went down) are kept until
+     * any stream on them would have timed out.
+     */
+    private void purgeIfDue() {
+        long now = clock.millis();
+        long last = lastPurgeMillis.get();
+        if (now - last < PURGE_INTERVAL_MILLIS || !lastPurgeMillis.compareAndSet(last, now)) {
+            return;
+        }
+        channels.entrySet().removeIf(entry -> {
+            Channel channel = entry.getValue();
+            boolean expired = channel.finishedAtMillis > 0
+                ? channel.finishedAtMillis < now - FINISHED_RETENTION_MILLIS
+                : channel.lastEventMillis < now - EMITTER_TIMEOUT_MILLIS;
+            if (expired) {
+                synchronized (channel) {
+                    channel.watchers.forEach(Watcher::complete);
+                    channel.watchers.clear();
+                }
+            }
+            return expired;
+        });
+    }
+
+    private BatchProgressDto snapshotOf(Batch batch) {
+        List<ItemChangeDto> failures = batch.items().stream()
+            .filter(item -> item.status() == BatchItemStatus.FAILED)
+            .map(item -> new ItemChangeDto(item.sequenceNumber(), extractBusinessName(item.inputData()),
+                item.status().name(), item.errorMessage()))
+            .toList();
+        return new BatchProgressDto(
+            batch.id().toString(), 0, batch.status().name(), batch.status().displayName(),
+            batch.totalItems(), batch.successCount(), batch.failedCount(), batch.pendingCount(),
+            failures
+        );
+    }
+
+    private static BatchProgressDto toDto(BatchProgressed event) {
+        List<ItemChangeDto> changes = event.changedItems().stream()
+            .map(change -> new ItemChangeDto(change.sequenceNumber(), change.businessName(),
+                change.status(), change.errorMessage()))
+            .toList();
+        return new BatchProgressDto(
+            event.batchId(), event.sequence(), event.status(), event.statusDisplayName(),
+            event.totalItems(), event.successCount(), event.failedCount(), event.pendingCount(),
+            changes
+        );
+    }
+
+    private static boolean isFinal(BatchStatus status) {
+        return status == BatchStatus.COMPLETED
+            || status == BatchStatus.COMPLETED_WITH_ERRORS
+            || status == BatchStatus.FAILED;
+    }
+
+    private String extractBusinessName(String inputData) {
+        try {
+            return objectMapper.readValue(inputData, PayorEnrolmentRequest.class).businessName();
+        } catch (Exception e) {
+            return "Unknown";
+        }
+    }
+
+    /**
+     * Watchers and live state for one batch. Mutations are guarded by the channel's monitor.
+     */
+    private static final class Channel {
+        private final List<Watcher> watchers = new CopyOnWriteArrayList<>();
+        private final List<ItemChangeDto> failures = new ArrayList<>();
+        private BatchProgressDto latest;
+        private long lastEventMillis;
+        private long finishedAtMillis;
+
+        Channel(long createdAtMillis) {
+            this.lastEventMillis = createdAtMillis;
+        }
+
+        BatchProgressDto snapshot() {
+            return new BatchProgressDto(
+                latest.batchId(), latest.sequence(), latest.status(), latest.statusDisplayName(),
+                latest.totalItems(), latest.successCount(), latest.failedCount(), latest.pendingCount(),
+                List.copyOf(failures)
+            );
+        }
+    }
+
+    /**
+     * One emitter's queue of events not yet sent. Events are queued under the channel's monitor,
+     * so they keep the channel's order, and sent by one sender task at a time.
+     */
+    private final class Watcher {
+        private final SseEmitter emitter;
+        private final Channel channel;
+        private final ArrayDeque<BatchProgressDto> pending = new ArrayDeque<>();
+        private boolean sending;
+        private boolean completing;
+        private boolean closed;
+
+        Watcher(SseEmitter emitter, Channel channel) {
+            this.emitter = emitter;
+            this.channel = channel;
+        }
+
+        /**
+         * Queue an event. A watcher that has fallen too far behind gets the channel's current
+         * state in place of its backlog: the counts are absolute, and it keeps the failures.
+         */
+        void enqueue(BatchProgressDto progress) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (pending.size() >= MAX_PENDING_EVENTS) {
+                    pending.clear();
+                    pending.add(channel.latest != null ? channel.snapshot() : progress);
+                } else {
+                    pending.add(progress);
+                }
+            }
+            schedule();
+        }
+
+        /**
+         * Complete the stream once the queued events are sent.
+         */
+        void complete() {
+            synchronized (this) {
+                completing = true;
+            }
+            schedule();
+        }
+
+        void close() {
+            synchronized (this) {
+                closed = true;
+                pending.clear();
+            }
+            channel.watchers.remove(this);
+        }
+
+        private void schedule() {
+            synchronized (this) {
+                if (sending || closed) {
+                    return;
+                }
+                sending = true;
+            }
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                log.warn("Dropping progress watcher: no sender available");
+                close();
+                emitter.completeWithError(e);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                BatchProgressDto next;
+                boolean complete = false;
+                synchronized (this) {
+                    next = closed ? null : pending.poll();
+                    if (next == null) {
+                        sending = false;
+                        if (completing && !closed) {
+                            closed = true;
+                            complete = true;
+                        }
+                    }
+                }
+                if (next == null) {
+                    if (complete) {
+                        emitter.complete();
+                    }
+                    return;
+                }
+                if (!send(emitter, next)) {
+                    close();
+                    synchronized (this) {
+                        sending = false;
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.knight.application.rest.batch.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a batch progress event streamed to watchers.
+ * Carries running counts and only the items that changed since the previous event;
+ * the first event of a stream carries the failed items so far.
+ */
+public record BatchProgressDto(
+        String batchId,
+        long sequence,
+        String status,
+        String statusDisplayName,
+        int totalItems,
+        int successCount,
+        int failedCount,
+        int pendingCount,
+        List<ItemChangeDto> changedItems
+) {
+    public record ItemChangeDto(
+            int sequenceNumber,
+            String businessName,
+            String status,
+            String errorMessage
+    ) {}
+}
@@ -1,8 +1,12 @@
 package com.knight.application.rest.client;
 
+import com.knight.application.jobs.JobQueue;
+import com.knight.application.jobs.JobType;
+import com.knight.application.rest.batch.BatchProgressBroadcaster;
 import com.knight.application.rest.batch.dto.*;
 import com.knight.application.rest.indirectclients.dto.*;
 import com.knight.application.rest.policies.dto.*;
+import com.knight.application.rest.serviceprofiles.dto.PageResponseDto;
 import com.knight.application.rest.users.dto.*;
 import com.knight.application.security.ForbiddenException;
 import com.knight.application.security.access.ClientAccess;
@@ -36,6 +40,7 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 import java.io.IOException;
@@ -43,6 +48,7 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -77,6 +83,8 @@ public class DirectClientController {
     private final PermissionPolicyQueries policyQueries;
     private final PayorEnrolmentService payorEnrolmentService;
     private final ObjectMapper objectMapper;
+    private final BatchProgressBroadcaster batchProgressBroadcaster;
+    private final JobQueue jobQueue;
 
     // ==================== Helper Methods ====================
 
@@ -92,15 +100,17 @@ public class DirectClientController {
     // ==================== Indirect Client Management ====================
 
     /**
-     * Get all indirect clients under this client's profile.
+     * Get indirect clients under this client's profile, one page at a time.
      * ProfileId derived from JWT.
      */
     @GetMapping("/indirect-clients")
-    public ResponseEntity<List<IndirectClientDto>> getMyIndirectClients() {
+    public ResponseEntity<PageResponseDto<IndirectClientDto>> getMyIndirectClients(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        requireValidPage(page, size);
         ProfileId profileId = getProfileIdFromContext();
-        List<IndirectClient> clients = indirectClientRepository.findByParentProfileId(profileId);
-
-        return ResponseEntity.ok(clients.stream().map(this::toIndirectClientDto).toList());
+        return ResponseEntity.ok(toIndirectClientPage(
+            indirectClientRepository.findSummariesByParentProfileId(profileId, page, size)));
     }
 
     /**
@@ -329,7 +339,7 @@ public class DirectClientController {
     public ResponseEntity<ExecuteBatchResponse> executePayorEnrolment(@RequestBody ExecuteBatchRequest request) {
         ProfileId profileId = getProfileIdFromContext();
 
-        log.info("Starting batch execution {} for profile {}", request.batchId(), profileId.urn());
+        log.info("Queueing batch execution {} for profile {}", request.batchId(), profileId.urn());
 
         BatchId batchId = BatchId.of(request.batchId());
 
@@ -342,10 +352,10 @@ public class DirectClientController {
                 .body(new ExecuteBatchResponse(request.batchId(), "ERROR", 0, "Batch does not belong to this profile"));
         }
 
-        payorEnrolmentService.execute(batchId);
+        jobQueue.enqueue(JobType.PAYOR_ENROLMENT, batch.id().toString(), batch.sourceProfileId().urn());
 
         return ResponseEntity.accepted().body(new ExecuteBatchResponse(
-            batch.id().toString(), "IN_PROGRESS", batch.totalItems(), "Batch execution started"
+            batch.id().toString(), "QUEUED", batch.totalItems(), "Batch queued for execution"
         ));
     }
 
@@ -406,22 +416,68 @@ public class DirectClientController {
         return ResponseEntity.ok(items);
     }
 
-    // ==================== User Management (Within Own Profile) ====================
+    /**
+     * Stream batch progress as Server-Sent Events.
+     * Sends the current state first, then one compact event per processed item, and
+     * completes when the batch finishes. Replaces polling {@code GET /batches/{batchId}}.
+     */
+    @GetMapping(value = "/batches/{batchId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamBatchProgress(@PathVariable String batchId) {
+        ProfileId profileId = getProfileIdFromContext();
+
+        Batch batch = payorEnrolmentService.getBatch(BatchId.of(batchId))
+            .orElseThrow(() -> new IllegalArgumentException("Batch not found: " + batchId));
+
+        // Verify batch belongs to this profile
+        if (!batch.sourceProfileId().equals(profileId)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(batchProgressBroadcaster.subscribe(batch));
+    }
 
     /**
-     * List users in this profile.
+     * Cancel a queued or running batch.
+     * Items already processed keep their outcome; the rest are marked failed as cancelled.
      */
-    @GetMapping("/users")
-    public ResponseEntity<List<ProfileUserDto>> listUsers() {
+    @PostMapping("/batches/{batchId}/cancel")
+    public ResponseEntity<ExecuteBatchResponse> cancelBatch(@PathVariable String batchId) {
         ProfileId profileId = getProfileIdFromContext();
 
-        List<ProfileUserSummary> users = userQueries.listUsersByProfile(profileId);
+        Batch batch = payorEnrolmentService.getBatch(BatchId.of(batchId))
+            .orElseThrow(() -> new IllegalArgumentException("Batch not found: " + batchId));
 
-        List<ProfileUserDto> dtos = users.stream()
-            .map(this::toProfileUserDto)
-            .toList();
+        // Verify batch belongs to this profile
+        if (!batch.sourceProfileId().equals(profileId)) {
+            return ResponseEntity.notFound().build();
+        }
 
-        return ResponseEntity.ok(dtos);
+        log.info("Cancelling batch {} for profile {}", batchId, profileId.urn());
+        return toCancelResponse(batch, jobQueue.cancel(JobType.PAYOR_ENROLMENT, batch.id().toString()));
+    }
+
+    // ==================== User Management (Within Own Profile) ====================
+
+    /**
+     * List users in this profile, one page at a time.
+     */
+    @GetMapping("/users")
+    public ResponseEntity<ProfileUserPageDto> listUsers(
+            @RequestParam(required = false) Set<String> status,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "email") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        ProfileId profileId = getProfileIdFromContext();
+
+        ProfileUserPage page = userQueries.searchUsersByProfile(profileId, new UserSearchRequest(status, role, q, sortBy, sortDir, cursor, size).toSearch());
+        return ResponseEntity.ok(new ProfileUserPageDto(
+            page.users().stream().map(this::toProfileUserDto).toList(),
+            page.nextCursor(),
+            page.hasMore()
+        ));
     }
 
     /**
@@ -660,10 +716,31 @@ public class DirectClientController {
 
     // ==================== DTO Conversion Helpers ====================
 
-    private IndirectClientDto toIndirectClientDto(IndirectClient client) {
+    private IndirectClientDto toIndirectClientDto(IndirectClientRepository.IndirectClientSummary summary) {
         return new IndirectClientDto(
-            client.id().urn(), client.parentClientId().urn(), client.clientType().name(),
-            client.name(), client.status().name(), client.relatedPersons().size(), client.createdAt()
+            summary.id().urn(), summary.parentClientId().urn(), summary.clientType().name(),
+            summary.name(), summary.externalReference(), summary.status().name(),
+            summary.personCount(), summary.accountCount(), summary.createdAt()
+        );
+    }
+
+    /**
+     * Rejects a page the repository cannot ask for, as a bad request rather than a failed query
+     */
+    private static void requireValidPage(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative: " + page);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+    }
+
+    private PageResponseDto<IndirectClientDto> toIndirectClientPage(
+            IndirectClientRepository.PageResult<IndirectClientRepository.IndirectClientSummary> result) {
+        return new PageResponseDto<>(
+            result.content().stream().map(this::toIndirectClientDto).toList(),
+            result.totalElements(), result.page(), result.size(), result.totalPages()
         );
     }
 
@@ -750,6 +827,18 @@ public class DirectClientController {
         );
     }
 
+    private ResponseEntity<ExecuteBatchResponse> toCancelResponse(Batch batch, JobQueue.CancelOutcome outcome) {
+        String id = batch.id().toString();
+        return switch (outcome) {
+            case CANCELLED -> ResponseEntity.ok(new ExecuteBatchResponse(
+                id, outcome.name(), batch.totalItems(), "Batch cancelled before execution started"));
+            case CANCEL_REQUESTED -> ResponseEntity.accepted().body(new ExecuteBatchResponse(
+                id, outcome.name(), batch.totalItems(), "Batch will stop before its next item"));
+            case NOT_ACTIVE -> ResponseEntity.status(HttpStatus.CONFLICT).body(new ExecuteBatchResponse(
+                id, outcome.name(), batch.totalItems(), "Batch is not queued or running"));
+        };
+    }
+
     private BatchDetailDto toBatchDetailDto(Batch batch) {
         return new BatchDetailDto(
             batch.id().toString(), batch.type().name(), batch.type().displayName(),
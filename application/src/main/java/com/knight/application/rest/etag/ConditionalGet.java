@@ -0,0 +1,53 @@
+package com.knight.application.rest.etag;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Answers GETs with 304 Not Modified when the client already has the current version.
+ *
+ * The ETag is a weak tag over a version fingerprint (see ResourceVersionRepository), checked
+ * before the resource is loaded. A write landing between the check and the load leaves the
+ * client with newer content under an older tag, which only costs it one more full response.
+ */
+public final class ConditionalGet {
+
+    /**
+     * Clients may keep a copy but must revalidate it on every use; shared caches must not keep it.
+     */
+    static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    public static <T> ResponseEntity<T> ifModified(WebRequest request, Optional<String> version,
+                                                   Supplier<ResponseEntity<T>> response) {
+        if (version.isEmpty()) {
+            return response.get();
+        }
+        String etag = etag(version.get());
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CACHE_CONTROL).build();
+        }
+        ResponseEntity<T> full = response.get();
+        if (!full.getStatusCode().is2xxSuccessful()) {
+            return full;
+        }
+        return ResponseEntity.status(full.getStatusCode())
+            .headers(full.getHeaders())
+            .eTag(etag)
+            .cacheControl(CACHE_CONTROL)
+            .body(full.getBody());
+    }
+
+    static String etag(String version) {
+        return "W/\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
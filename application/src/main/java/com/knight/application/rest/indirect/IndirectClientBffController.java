@@ -1,6 +1,8 @@
 package com.knight.application.rest.indirect;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.knight.application.persistence.versions.ResourceVersionRepository;
+import com.knight.application.rest.etag.ConditionalGet;
 import com.knight.application.rest.indirectclients.dto.*;
 import com.knight.application.rest.policies.dto.*;
 import com.knight.application.rest.users.dto.*;
@@ -35,6 +37,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
@@ -78,6 +81,7 @@ public class IndirectClientBffController {
     private final UserRepository userRepository;
     private final AccountGroupCommands accountGroupCommands;
     private final AccountGroupQueries accountGroupQueries;
+    private final ResourceVersionRepository resourceVersions;
 
     // ==================== Helper Methods ====================
 
@@ -108,15 +112,20 @@ public class IndirectClientBffController {
     /**
      * Get my indirect client details.
      * The indirect client is determined by the user's profile.
+     * Answers 304 when the caller's If-None-Match is still current.
      */
     @GetMapping("/me")
-    public ResponseEntity<IndirectClientDetailDto> getMyIndirectClient() {
-        IndirectClientId clientId = getIndirectClientIdFromContext();
+    public ResponseEntity<IndirectClientDetailDto> getMyIndirectClient(WebRequest request) {
+        ProfileId profileId = getProfileIdFromContext();
 
-        return indirectClientRepository.findById(clientId)
-            .map(this::toIndirectClientDetailDto)
-            .map(ResponseEntity::ok)
-            .orElse(ResponseEntity.notFound().build());
+        return ConditionalGet.ifModified(request, resourceVersions.ownIndirectClient(profileId), () -> {
+            IndirectClientId clientId = getIndirectClientIdFromContext();
+
+            return indirectClientRepository.findById(clientId)
+                .map(this::toIndirectClientDetailDto)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+        });
     }
 
     // ==================== Related Persons Management ====================
@@ -205,17 +214,22 @@ public class IndirectClientBffController {
 
     /**
      * Get my OFI accounts.
+     * Answers 304 when the caller's If-None-Match is still current.
      */
     @GetMapping("/accounts")
-    public ResponseEntity<List<OfiAccountDto>> getMyAccounts() {
-        IndirectClientId clientId = getIndirectClientIdFromContext();
+    public ResponseEntity<List<OfiAccountDto>> getMyAccounts(WebRequest request) {
+        ProfileId profileId = getProfileIdFromContext();
 
-        List<OfiAccountDto> accounts = clientAccountRepository.findByIndirectClientId(clientId.urn())
-            .stream()
-            .map(this::toOfiAccountDto)
-            .toList();
+        return ConditionalGet.ifModified(request, resourceVersions.ownIndirectClientAccounts(profileId), () -> {
+            IndirectClientId clientId = getIndirectClientIdFromContext();
+
+            List<OfiAccountDto> accounts = clientAccountRepository.findByIndirectClientId(clientId.urn())
+                .stream()
+                .map(this::toOfiAccountDto)
+                .toList();
 
-        return ResponseEntity.ok(accounts);
+            return ResponseEntity.ok(accounts);
+        });
     }
 
     /**
@@ -344,14 +358,25 @@ public class IndirectClientBffController {
     }
 
     /**
-     * List users in my profile (co-workers).
+     * List users in my profile (co-workers), one page at a time.
      */
     @GetMapping("/users")
-    public ResponseEntity<List<ProfileUserDto>> listProfileUsers() {
+    public ResponseEntity<ProfileUserPageDto> listProfileUsers(
+            @RequestParam(required = false) Set<String> status,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "email") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
         ProfileId profileId = getProfileIdFromContext();
 
-        List<ProfileUserSummary> users = userQueries.listUsersByProfile(profileId);
-        return ResponseEntity.ok(users.stream().map(this::toProfileUserDto).toList());
+        ProfileUserPage page = userQueries.searchUsersByProfile(profileId, new UserSearchRequest(status, role, q, sortBy, sortDir, cursor, size).toSearch());
+        return ResponseEntity.ok(new ProfileUserPageDto(
+            page.users().stream().map(this::toProfileUserDto).toList(),
+            page.nextCursor(),
+            page.hasMore()
+        ));
     }
 
     /**
@@ -377,10 +402,7 @@ public class IndirectClientBffController {
         // Provision to Auth0
         ProvisionResult provision = userCommands.provisionUser(new ProvisionUserCmd(userId));
 
-        ProfileUserSummary summary = userQueries.listUsersByProfile(profileId).stream()
-            .filter(u -> u.userId().equals(userId.id()))
-            .findFirst()
-            .orElseThrow();
+        ProfileUserSummary summary = userQueries.getProfileUserSummary(userId);
 
         return ResponseEntity
             .created(URI.create("/api/v1/indirect/users/" + userId.id()))
@@ -495,10 +517,7 @@ public class IndirectClientBffController {
             }
         }
 
-        ProfileUserSummary summary = userQueries.listUsersByProfile(profileId).stream()
-            .filter(u -> u.userId().equals(userId))
-            .findFirst()
-            .orElseThrow();
+        ProfileUserSummary summary = userQueries.getProfileUserSummary(uid);
 
         return ResponseEntity.ok(toProfileUserDto(summary));
     }
@@ -590,13 +609,16 @@ public class IndirectClientBffController {
 
     /**
      * List all user groups in my profile.
+     * Answers 304 when the caller's If-None-Match is still current.
      */
     @GetMapping("/groups")
-    public ResponseEntity<List<UserGroupSummaryDto>> listUserGroups() {
+    public ResponseEntity<List<UserGroupSummaryDto>> listUserGroups(WebRequest request) {
         ProfileId profileId = getProfileIdFromContext();
 
-        List<UserGroupSummary> groups = userGroupQueries.listGroupsByProfile(profileId);
-        return ResponseEntity.ok(groups.stream().map(this::toUserGroupSummaryDto).toList());
+        return ConditionalGet.ifModified(request, resourceVersions.userGroups(profileId), () -> {
+            List<UserGroupSummary> groups = userGroupQueries.listGroupsByProfile(profileId);
+            return ResponseEntity.ok(groups.stream().map(this::toUserGroupSummaryDto).toList());
+        });
     }
 
     /**
@@ -742,13 +764,16 @@ public class IndirectClientBffController {
 
     /**
      * List all account groups in my profile.
+     * Answers 304 when the caller's If-None-Match is still current.
      */
     @GetMapping("/account-groups")
-    public ResponseEntity<List<AccountGroupSummaryDto>> listAccountGroups() {
+    public ResponseEntity<List<AccountGroupSummaryDto>> listAccountGroups(WebRequest request) {
         ProfileId profileId = getProfileIdFromContext();
 
-        List<AccountGroupSummary> groups = accountGroupQueries.listGroupsByProfile(profileId);
-        return ResponseEntity.ok(groups.stream().map(this::toAccountGroupSummaryDto).toList());
+        return ConditionalGet.ifModified(request, resourceVersions.accountGroups(profileId), () -> {
+            List<AccountGroupSummary> groups = accountGroupQueries.listGroupsByProfile(profileId);
+            return ResponseEntity.ok(groups.stream().map(this::toAccountGroupSummaryDto).toList());
+        });
     }
 
     /**
@@ -4,14 +4,16 @@ import java.time.Instant;
 
 /**
  * REST DTO for indirect client list view.
- * Contains summary information for displaying indirect clients.
+ * Contains summary information for displaying indirect clients; persons and accounts are counts only.
  */
 public record IndirectClientDto(
     String id,
     String parentClientId,
     String clientType,
     String businessName,
+    String externalReference,
     String status,
     int relatedPersonCount,
+    int accountCount,
     Instant createdAt
 ) {}
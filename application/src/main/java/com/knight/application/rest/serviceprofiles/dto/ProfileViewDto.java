@@ -0,0 +1,26 @@
+package com.knight.application.rest.serviceprofiles.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.knight.application.rest.accountgroups.dto.AccountGroupDto;
+import com.knight.application.rest.indirectclients.dto.IndirectClientDto;
+import com.knight.application.rest.policies.dto.PermissionPolicyDto;
+import com.knight.application.rest.usergroups.dto.UserGroupDto;
+import com.knight.application.rest.users.dto.ProfileUserPageDto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the profile screen shows, in one response. Sections not asked for in
+ * {@code fields} are left out.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProfileViewDto(
+    ProfileDetailDto detail,
+    ProfileUserPageDto users,
+    Map<String, Integer> userCounts,
+    PageResponseDto<IndirectClientDto> indirectClients,
+    List<PermissionPolicyDto> permissionPolicies,
+    List<UserGroupDto> userGroups,
+    List<AccountGroupDto> accountGroups
+) {}
@@ -0,0 +1,12 @@
+package com.knight.application.rest.users.dto;
+
+import java.util.List;
+
+/**
+ * One page of the profile user directory. Pass {@code nextCursor} back to get the next page.
+ */
+public record ProfileUserPageDto(
+    List<ProfileUserDto> users,
+    String nextCursor,
+    boolean hasMore
+) {}
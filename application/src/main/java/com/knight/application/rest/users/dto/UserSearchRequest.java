@@ -0,0 +1,29 @@
+package com.knight.application.rest.users.dto;
+
+import com.knight.domain.users.api.queries.UserQueries.UserSearch;
+import com.knight.domain.users.api.queries.UserQueries.UserSort;
+
+import java.util.Set;
+
+/**
+ * Query parameters of the paged user directory endpoints.
+ */
+public record UserSearchRequest(
+    Set<String> status,     // Any of these statuses (null = all)
+    String role,            // Users holding this role (optional)
+    String q,               // Prefix of email, login ID, first or last name (optional)
+    String sortBy,          // email, name or createdAt
+    String sortDir,         // asc or desc
+    String cursor,          // nextCursor of the previous page (null = first page)
+    int size
+) {
+    public UserSearch toSearch() {
+        UserSort sort = switch (sortBy == null ? "email" : sortBy) {
+            case "email" -> UserSort.EMAIL;
+            case "name" -> UserSort.NAME;
+            case "createdAt" -> UserSort.CREATED_AT;
+            default -> throw new IllegalArgumentException("Unknown sortBy: " + sortBy);
+        };
+        return new UserSearch(status, role, q, sort, "desc".equalsIgnoreCase(sortDir), cursor, size);
+    }
+}
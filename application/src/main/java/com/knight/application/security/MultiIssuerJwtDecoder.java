@@ -1,5 +1,7 @@
 package com.knight.application.security;
 
+import com.knight.application.timing.SegmentTimer;
+import com.knight.application.timing.TimedSegment;
 import com.nimbusds.jwt.JWT;
 import com.nimbusds.jwt.JWTParser;
 import lombok.extern.slf4j.Slf4j;
@@ -13,18 +15,25 @@ import java.util.Map;
 /**
  * JWT Decoder that delegates to issuer-specific decoders.
  * Supports tokens from multiple issuers (Entra ID and Employee Portal).
+ * Decoding is timed as the {@link TimedSegment#JWT} segment.
  */
 @Slf4j
 public class MultiIssuerJwtDecoder implements JwtDecoder {
 
     private final Map<String, JwtDecoder> decoders;
+    private final SegmentTimer segmentTimer;
 
-    public MultiIssuerJwtDecoder(Map<String, JwtDecoder> decoders) {
+    public MultiIssuerJwtDecoder(Map<String, JwtDecoder> decoders, SegmentTimer segmentTimer) {
         this.decoders = decoders;
+        this.segmentTimer = segmentTimer;
     }
 
     @Override
     public Jwt decode(String token) throws JwtException {
+        return segmentTimer.time(TimedSegment.JWT, "decode", () -> decodeByIssuer(token));
+    }
+
+    private Jwt decodeByIssuer(String token) {
         String issuer = extractIssuer(token);
         log.debug("Token issuer: {}", issuer);
 
@@ -1,6 +1,8 @@
 package com.knight.application.security.auth0;
 
 import com.knight.application.config.JwtProperties;
+import com.knight.application.timing.SegmentTimer;
+import com.knight.application.timing.TimedSegment;
 import com.knight.domain.users.aggregate.User;
 import com.knight.domain.users.repository.UserRepository;
 import jakarta.servlet.FilterChain;
@@ -30,6 +32,8 @@ import java.util.Optional;
  * Loads:
  * - JWT claims (sub, iss, scope, azp)
  * - User by identity_provider_user_id (JWT sub claim)
+ *
+ * Loading the user is timed as the {@link TimedSegment#PRINCIPAL} segment.
  */
 @Slf4j
 @Component
@@ -40,6 +44,7 @@ public class Auth0UserContextFilter extends OncePerRequestFilter {
     private final JwtProperties jwtProperties;
     private final Auth0UserContext auth0UserContext;
     private final UserRepository userRepository;
+    private final SegmentTimer segmentTimer;
 
     @Override
     protected void doFilterInternal(
@@ -93,7 +98,8 @@ public class Auth0UserContextFilter extends OncePerRequestFilter {
         String authorizedParty = jwt.getClaimAsString("azp");
 
         // Load user by identity_provider_user_id
-        Optional<User> userOpt = userRepository.findByIdentityProviderUserId(subject);
+        Optional<User> userOpt = segmentTimer.time(TimedSegment.PRINCIPAL, "auth0",
+            () -> userRepository.findByIdentityProviderUserId(subject));
 
         if (userOpt.isEmpty()) {
             log.warn("No user found for Auth0 subject: {}", subject);
@@ -0,0 +1,74 @@
+package com.knight.application.security.ratelimit;
+
+import com.knight.application.rest.login.AuthenticationController;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Applies the login ID rate limit to login API request bodies once they are read,
+ * before the controller looks the user up.
+ *
+ * The login ID is taken from the first of the record components {@code loginId},
+ * {@code username} or {@code email}; the accessor is resolved once per request type.
+ */
+@ControllerAdvice(basePackageClasses = AuthenticationController.class)
+public class LoginIdRateLimitAdvice extends RequestBodyAdviceAdapter {
+
+    private static final List<String> LOGIN_ID_COMPONENTS = List.of("loginId", "username", "email");
+
+    private static final ClassValue<Method> LOGIN_ID_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            if (!type.isRecord()) {
+                return null;
+            }
+            for (String name : LOGIN_ID_COMPONENTS) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    if (component.getName().equals(name) && component.getType() == String.class) {
+                        return component.getAccessor();
+                    }
+                }
+            }
+            return null;
+        }
+    };
+
+    private final LoginRateLimiter rateLimiter;
+
+    public LoginIdRateLimitAdvice(LoginRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return rateLimiter.isEnabled()
+            && LOGIN_ID_ACCESSORS.get(methodParameter.getParameterType()) != null;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        Method accessor = LOGIN_ID_ACCESSORS.get(body.getClass());
+        if (accessor != null) {
+            rateLimiter.checkLoginId(readLoginId(accessor, body));
+        }
+        return body;
+    }
+
+    private static String readLoginId(Method accessor, Object body) {
+        try {
+            return (String) accessor.invoke(body);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to read login ID from " + body.getClass().getSimpleName(), e);
+        }
+    }
+}
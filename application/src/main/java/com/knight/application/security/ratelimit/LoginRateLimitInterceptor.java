@@ -0,0 +1,46 @@
+package com.knight.application.security.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Applies the client IP and endpoint rate limits to /api/login/** before the
+ * controller runs, and the login ID limit for endpoints that take the login ID
+ * as a path variable. Login IDs sent in request bodies are handled by
+ * {@link LoginIdRateLimitAdvice}.
+ */
+@Component
+public class LoginRateLimitInterceptor implements HandlerInterceptor {
+
+    static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final String LOGIN_ID_VARIABLE = "loginId";
+
+    private final LoginRateLimiter rateLimiter;
+
+    public LoginRateLimitInterceptor(LoginRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!rateLimiter.isEnabled()) {
+            return true;
+        }
+
+        String endpoint = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        rateLimiter.checkClient(endpoint, request.getHeader(FORWARDED_FOR_HEADER), request.getRemoteAddr());
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables =
+            (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables != null) {
+            rateLimiter.checkLoginId(pathVariables.get(LOGIN_ID_VARIABLE));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,223 @@
+package com.knight.application.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limiter for the /api/login/** endpoints.
+ *
+ * Requests are counted per client IP, per endpoint and client IP, and per login ID
+ * in lock-free sliding-window counter tables. The counting neither allocates nor blocks:
+ * keys are hashed in place, and a rejection rethrows a pre-built
+ * {@link RateLimitExceededException} for the limit that was hit.
+ *
+ * Logins arrive through the login gateway, which passes the client IP in X-Forwarded-For.
+ * The header is only believed on requests from a configured trusted proxy; anyone else is
+ * keyed on their own address.
+ *
+ * Every decision is counted in the {@value #METRIC_NAME} meter, tagged by dimension,
+ * endpoint and outcome.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginRateLimiter.class);
+
+    public static final String METRIC_NAME = "knight.login.ratelimit.decisions";
+    private static final String DEFAULT_ENDPOINT_TAG = "default";
+    private static final String ALL_ENDPOINTS_TAG = "all";
+    static final long UNKNOWN_CLIENT = Long.MIN_VALUE;
+
+    private final boolean enabled;
+    private final List<IpAddressMatcher> trustedProxies;
+    private final LongSupplier clock;
+
+    private final Rule ipRule;
+    private final Rule loginIdRule;
+    private final Rule defaultEndpointRule;
+    private final Map<String, Rule> endpointRules;
+
+    @Autowired
+    public LoginRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    LoginRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.enabled = properties.isEnabled();
+        this.trustedProxies = properties.getTrustedProxies().stream().map(IpAddressMatcher::new).toList();
+        this.clock = clock;
+
+        int slots = properties.getSlots();
+        this.ipRule = new Rule(RateLimitDimension.IP, ALL_ENDPOINTS_TAG,
+            properties.getIp(), slots, meterRegistry);
+        this.loginIdRule = new Rule(RateLimitDimension.LOGIN_ID, ALL_ENDPOINTS_TAG,
+            properties.getLoginId(), slots, meterRegistry);
+        this.defaultEndpointRule = new Rule(RateLimitDimension.ENDPOINT, DEFAULT_ENDPOINT_TAG,
+            properties.getEndpoint(), slots, meterRegistry);
+
+        Map<String, Rule> rules = new HashMap<>();
+        properties.getEndpoints().forEach((endpoint, limit) ->
+            rules.put(endpoint, new Rule(RateLimitDimension.ENDPOINT, endpoint, limit, slots, meterRegistry)));
+        this.endpointRules = Map.copyOf(rules);
+
+        log.info("Login rate limiting {} (ip={}/{}, loginId={}/{}, endpoint={}/{}, overrides={}, trustedProxies={})",
+            enabled ? "enabled" : "disabled",
+            properties.getIp().getMaxRequests(), properties.getIp().getWindow(),
+            properties.getLoginId().getMaxRequests(), properties.getLoginId().getWindow(),
+            properties.getEndpoint().getMaxRequests(), properties.getEndpoint().getWindow(),
+            endpointRules.keySet(), properties.getTrustedProxies());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Count a request against the client IP and endpoint limits. Requests from a trusted
+     * proxy that does not name the client are not counted.
+     *
+     * @param endpoint request mapping pattern of the endpoint (e.g. "/api/login/auth/login")
+     * @param forwardedFor X-Forwarded-For header value, may be null
+     * @param remoteAddr remote address of the connection
+     * @throws RateLimitExceededException if either limit is exceeded
+     */
+    public void checkClient(String endpoint, String forwardedFor, String remoteAddr) {
+        if (!enabled) {
+            return;
+        }
+        long clientIp = clientIpHash(forwardedFor, remoteAddr);
+        if (clientIp == UNKNOWN_CLIENT) {
+            return;
+        }
+        long now = clock.getAsLong();
+        int ipHash = (int) clientIp;
+        ipRule.check(ipHash, now);
+
+        Rule endpointRule = endpoint != null
+            ? endpointRules.getOrDefault(endpoint, defaultEndpointRule)
+            : defaultEndpointRule;
+        int endpointHash = endpoint != null ? endpoint.hashCode() : 0;
+        endpointRule.check(31 * endpointHash + ipHash, now);
+    }
+
+    /**
+     * Count a request against the login ID limit.
+     * Login IDs are compared case-insensitively, ignoring surrounding whitespace.
+     *
+     * @param loginId login ID, username or email from the request; ignored when blank
+     * @throws RateLimitExceededException if the limit is exceeded
+     */
+    public void checkLoginId(CharSequence loginId) {
+        if (!enabled || loginId == null) {
+            return;
+        }
+        int start = 0;
+        int end = loginId.length();
+        while (start < end && Character.isWhitespace(loginId.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(loginId.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return;
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + Character.toLowerCase(loginId.charAt(i));
+        }
+        loginIdRule.check(hash, clock.getAsLong());
+    }
+
+    /**
+     * Hash of the client IP: the first X-Forwarded-For entry on requests from a trusted proxy,
+     * otherwise the remote address. Computed in place without creating substrings.
+     *
+     * @return the hash, or {@link #UNKNOWN_CLIENT} for a trusted proxy that sent no client IP
+     */
+    long clientIpHash(String forwardedFor, String remoteAddr) {
+        if (!isTrustedProxy(remoteAddr)) {
+            return remoteAddr != null ? remoteAddr.hashCode() : 0;
+        }
+        if (forwardedFor != null) {
+            int start = 0;
+            int end = forwardedFor.indexOf(',');
+            if (end < 0) {
+                end = forwardedFor.length();
+            }
+            while (start < end && forwardedFor.charAt(start) == ' ') {
+                start++;
+            }
+            while (end > start && forwardedFor.charAt(end - 1) == ' ') {
+                end--;
+            }
+            if (start < end) {
+                int hash = 0;
+                for (int i = start; i < end; i++) {
+                    hash = 31 * hash + forwardedFor.charAt(i);
+                }
+                return hash;
+            }
+        }
+        return UNKNOWN_CLIENT;
+    }
+
+    private boolean isTrustedProxy(String remoteAddr) {
+        if (remoteAddr == null || trustedProxies.isEmpty()) {
+            return false;
+        }
+        for (IpAddressMatcher proxy : trustedProxies) {
+            if (proxy.matches(remoteAddr)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A counter table together with its pre-built rejection and decision meters.
+     */
+    private static final class Rule {
+        private final SlidingWindowCounter counter;
+        private final RateLimitExceededException rejection;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        Rule(RateLimitDimension dimension, String endpointTag, RateLimitProperties.Limit limit,
+             int slots, MeterRegistry meterRegistry) {
+            this.counter = new SlidingWindowCounter(slots, limit.getMaxRequests(), limit.getWindow());
+            this.rejection = new RateLimitExceededException(dimension, counter.windowSeconds());
+            this.allowed = Counter.builder(METRIC_NAME)
+                .description("Login API rate limiter decisions")
+                .tag("dimension", dimension.tag())
+                .tag("endpoint", endpointTag)
+                .tag("outcome", "allowed")
+                .register(meterRegistry);
+            this.rejected = Counter.builder(METRIC_NAME)
+                .description("Login API rate limiter decisions")
+                .tag("dimension", dimension.tag())
+                .tag("endpoint", endpointTag)
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+        }
+
+        void check(int keyHash, long now) {
+            if (counter.tryAcquire(keyHash, now)) {
+                allowed.increment();
+                return;
+            }
+            rejected.increment();
+            throw rejection;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.knight.application.security.ratelimit;
+
+/**
+ * Key dimension a login API rate limit is applied to.
+ */
+public enum RateLimitDimension {
+    IP("ip"),
+    LOGIN_ID("login_id"),
+    ENDPOINT("endpoint");
+
+    private final String tag;
+
+    RateLimitDimension(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * Value used for the "dimension" metric tag.
+     */
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,27 @@
+package com.knight.application.security.ratelimit;
+
+/**
+ * Exception thrown when a login API request exceeds a rate limit.
+ *
+ * Instances are created once per limit and rethrown for every rejection,
+ * so the exception carries no stack trace and must stay immutable.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final RateLimitDimension dimension;
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(RateLimitDimension dimension, long retryAfterSeconds) {
+        super("Too many requests. Please try again later.", null, false, false);
+        this.dimension = dimension;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public RateLimitDimension getDimension() {
+        return dimension;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,85 @@
+package com.knight.application.security.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration properties for login API rate limiting.
+ * Limits are applied per client IP, per login ID and per endpoint (per client IP).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "login.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Whether rate limiting of /api/login/** is enabled.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of counter slots per dimension (rounded up to a power of two).
+     * Distinct keys hashing to the same slot share a counter, so a larger
+     * table means fewer keys throttled early by a noisy neighbour.
+     */
+    private int slots = 65_536;
+
+    /**
+     * Addresses or CIDR ranges of the login gateway. On requests from these, the client IP is
+     * the first X-Forwarded-For entry; without that header the client IP and endpoint limits
+     * are skipped, since the gateway's own address would stand for every user behind it.
+     */
+    private List<String> trustedProxies = new ArrayList<>();
+
+    /**
+     * Limit per client IP across all login endpoints.
+     */
+    private Limit ip = new Limit(300, Duration.ofMinutes(1));
+
+    /**
+     * Limit per login ID (login ID, username or email) across all login endpoints.
+     */
+    private Limit loginId = new Limit(20, Duration.ofMinutes(5));
+
+    /**
+     * Default limit per endpoint and client IP.
+     */
+    private Limit endpoint = new Limit(60, Duration.ofMinutes(1));
+
+    /**
+     * Per-endpoint overrides keyed by request mapping pattern
+     * (e.g. "/api/login/auth/login").
+     */
+    private Map<String, Limit> endpoints = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Limit {
+        /**
+         * Maximum requests allowed in the sliding window (at most 65535).
+         */
+        private int maxRequests;
+
+        /**
+         * Length of the sliding window.
+         */
+        private Duration window;
+
+        public Limit() {
+        }
+
+        public Limit(int maxRequests, Duration window) {
+            this.maxRequests = maxRequests;
+            this.window = window;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.knight.application.security.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, fixed-size table of sliding-window counters.
+ *
+ * Each slot packs the window index (high 32 bits), the previous window's count
+ * (16 bits) and the current window's count (low 16 bits) into a single long that
+ * is updated with compare-and-set. The request rate over the trailing window is
+ * estimated by weighting the previous window's count by the fraction of it that
+ * still overlaps the sliding window.
+ *
+ * Keys are reduced to a hash and mapped onto a slot; colliding keys share a
+ * counter, so a key can only ever be throttled early, never late. A rejected
+ * request performs no write, so a key that is over its limit never contends
+ * with other threads on its slot.
+ */
+final class SlidingWindowCounter {
+
+    private static final long COUNT_MASK = 0xFFFFL;
+    static final int MAX_LIMIT = (int) COUNT_MASK;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final int limit;
+    private final long windowMillis;
+
+    SlidingWindowCounter(int slotCount, int limit, Duration window) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Rate limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+        if (window == null || window.toMillis() < 1) {
+            throw new IllegalArgumentException("Rate limit window must be positive");
+        }
+        int size = slotCount <= 1 ? 1 : Integer.highestOneBit(slotCount - 1) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+    }
+
+    /**
+     * Count a request for the key and report whether it is within the limit.
+     *
+     * @param keyHash hash of the rate-limit key
+     * @param nowMillis current time in epoch milliseconds
+     * @return true if the request is allowed, false if the key is over its limit
+     */
+    boolean tryAcquire(int keyHash, long nowMillis) {
+        int index = spread(keyHash) & mask;
+        long window = nowMillis / windowMillis;
+        long remainingInPrevious = windowMillis - (nowMillis - window * windowMillis);
+        int windowTag = (int) window;
+
+        while (true) {
+            long packed = slots.get(index);
+            int storedWindow = (int) (packed >>> 32);
+            long previous;
+            long current;
+            if (storedWindow == windowTag) {
+                previous = (packed >>> 16) & COUNT_MASK;
+                current = packed & COUNT_MASK;
+            } else if (storedWindow == windowTag - 1) {
+                previous = packed & COUNT_MASK;
+                current = 0;
+            } else {
+                previous = 0;
+                current = 0;
+            }
+
+            long estimate = previous * remainingInPrevious / windowMillis + current;
+            if (estimate >= limit) {
+                return false;
+            }
+
+            long next = ((long) windowTag << 32) | (previous << 16) | (current + 1);
+            if (slots.compareAndSet(index, packed, next)) {
+                return true;
+            }
+        }
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    long windowSeconds() {
+        return Math.max(1, windowMillis / 1000);
+    }
+
+    int size() {
+        return slots.length();
+    }
+
+    /**
+     * Murmur3 finalizer, so that poorly distributed String hashes still spread across the table.
+     */
+    static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
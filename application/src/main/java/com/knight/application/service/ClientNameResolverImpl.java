@@ -9,6 +9,11 @@ import com.knight.platform.sharedkernel.ClientNameResolver;
 import com.knight.platform.sharedkernel.IndirectClientId;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -41,4 +46,20 @@ public class ClientNameResolverImpl implements ClientNameResolver {
                 .map(Client::name);
         }
     }
+
+    @Override
+    public Map<ClientId, String> resolveNames(Collection<ClientId> clientIds) {
+        // Regular clients in one bulk lookup; a profile has at most a handful of indirect clients
+        List<ClientId> regular = new ArrayList<>();
+        Map<ClientId, String> names = new HashMap<>();
+        for (ClientId clientId : clientIds) {
+            if (clientId.urn().startsWith("ind:")) {
+                resolveName(clientId).ifPresent(name -> names.put(clientId, name));
+            } else {
+                regular.add(clientId);
+            }
+        }
+        names.putAll(clientRepository.findNamesByIds(regular));
+        return names;
+    }
 }
@@ -123,16 +123,8 @@ public class PayorEnrolmentProcessorImpl implements PayorEnrolmentProcessor {
                         createdBy
                 ));
 
+                // Provisioned to Auth0 with the rest of the batch's users, see provisionUsers
                 userIds.add(userId.id());
-
-                // Provision to Auth0
-                try {
-                    userCommands.provisionUser(new UserCommands.ProvisionUserCmd(userId));
-                    log.info("Successfully provisioned user {} to Auth0", userId.id());
-                } catch (Exception e) {
-                    // Log but don't fail the entire import - user can be provisioned later
-                    log.error("Failed to provision user {} to Auth0: {}", userId.id(), e.getMessage(), e);
-                }
             }
         }
 
@@ -143,6 +135,19 @@ public class PayorEnrolmentProcessorImpl implements PayorEnrolmentProcessor {
         );
     }
 
+    @Override
+    public void provisionUsers(List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        UserCommands.ProvisionUsersResult result = userCommands.provisionUsers(
+                new UserCommands.ProvisionUsersCmd(userIds.stream().map(UserId::of).toList()));
+        log.info("Provisioned {} of {} payor users to Auth0", result.provisioned().size(), userIds.size());
+        // Don't fail the import - users left pending creation can be provisioned later
+        result.failed().forEach((userId, reason) ->
+                log.error("Failed to provision user {} to Auth0: {}", userId.id(), reason));
+    }
+
     @Override
     public boolean existsByBusinessName(ProfileId parentProfileId, String name) {
         return indirectClientRepository.existsByParentProfileIdAndName(parentProfileId, name);
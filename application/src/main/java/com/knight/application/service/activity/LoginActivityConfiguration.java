@@ -0,0 +1,27 @@
+package com.knight.application.service.activity;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Schedules writing of recorded logins at the configured flush interval.
+ */
+@Configuration
+@EnableScheduling
+public class LoginActivityConfiguration implements SchedulingConfigurer {
+
+    private final LoginActivityRecorder recorder;
+    private final LoginActivityProperties properties;
+
+    public LoginActivityConfiguration(LoginActivityRecorder recorder, LoginActivityProperties properties) {
+        this.recorder = recorder;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(recorder::flush, properties.getFlushInterval());
+    }
+}
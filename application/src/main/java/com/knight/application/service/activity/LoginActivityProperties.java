@@ -0,0 +1,30 @@
+package com.knight.application.service.activity;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for write-behind login activity.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "knight.login-activity")
+public class LoginActivityProperties {
+
+    /**
+     * How long logins are collected before being written; repeated logins by the same user
+     * within one interval cost a single row update.
+     */
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    /**
+     * Most users with an unwritten login held in memory. Logins by further users are dropped
+     * (and counted) until the next flush makes room.
+     */
+    private int maxPending = 10_000;
+}
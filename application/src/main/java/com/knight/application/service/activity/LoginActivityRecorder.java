@@ -0,0 +1,149 @@
+package com.knight.application.service.activity;
+
+import com.knight.application.persistence.users.repository.LoginActivityRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind record of users' last login time.
+ *
+ * Login paths call {@link #recordLogin}, which only updates an in-memory map keyed by login ID,
+ * so repeated logins by one user coalesce into their latest time. {@link #flush} writes
+ * everything collected as one batched UPDATE of {@code last_logged_in_at}; it runs on a fixed
+ * delay from {@link LoginActivityConfiguration} and once more at shutdown. A failed flush keeps
+ * its logins for the next one.
+ *
+ * The map holds at most about {@code maxPending} users; logins by further users are dropped
+ * until a flush makes room, so a database outage costs recency, not memory.
+ */
+@Slf4j
+@Component
+public class LoginActivityRecorder {
+
+    public static final String PENDING_METRIC = "knight.login.activity.pending";
+    public static final String FLUSH_LAG_METRIC = "knight.login.activity.flush.lag";
+    public static final String DROPPED_METRIC = "knight.login.activity.dropped";
+
+    /**
+     * Latest login of a user not yet written, and when the first of the coalesced logins arrived.
+     */
+    private record Pending(Instant loggedInAt, Instant since) {
+
+        Pending merge(Pending other) {
+            return new Pending(
+                loggedInAt.isAfter(other.loggedInAt) ? loggedInAt : other.loggedInAt,
+                since.isBefore(other.since) ? since : other.since);
+        }
+    }
+
+    private final LoginActivityRepository repository;
+    private final LoginActivityProperties properties;
+    private final Clock clock;
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Timer flushLag;
+    private final Counter dropped;
+
+    @Autowired
+    public LoginActivityRecorder(LoginActivityRepository repository, LoginActivityProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this(repository, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    LoginActivityRecorder(LoginActivityRepository repository, LoginActivityProperties properties,
+                          MeterRegistry meterRegistry, Clock clock) {
+        this.repository = repository;
+        this.properties = properties;
+        this.clock = clock;
+
+        Gauge.builder(PENDING_METRIC, pending, Map::size)
+            .description("Users with a login not yet written")
+            .register(meterRegistry);
+        this.flushLag = Timer.builder(FLUSH_LAG_METRIC)
+            .description("Age of the oldest login written by each flush")
+            .register(meterRegistry);
+        this.dropped = Counter.builder(DROPPED_METRIC)
+            .description("Logins not recorded because the buffer was full")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Note a successful login. Constant time and no I/O; safe on the request path.
+     */
+    public void recordLogin(String loginId) {
+        if (loginId == null || loginId.isBlank()) {
+            return;
+        }
+        if (pending.size() >= properties.getMaxPending() && !pending.containsKey(loginId)) {
+            dropped.increment();
+            return;
+        }
+        Instant now = clock.instant();
+        pending.merge(loginId, new Pending(now, now), Pending::merge);
+    }
+
+    /**
+     * Write collected logins. Called on a fixed delay; safe to call at any time.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<String, Pending> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+            Map<String, Instant> logins = new HashMap<>(batch.size() * 2);
+            Instant oldest = null;
+            for (Map.Entry<String, Pending> entry : batch.entrySet()) {
+                logins.put(entry.getKey(), entry.getValue().loggedInAt());
+                if (oldest == null || entry.getValue().since().isBefore(oldest)) {
+                    oldest = entry.getValue().since();
+                }
+            }
+            try {
+                repository.updateLastLoggedInAt(logins);
+                flushLag.record(Duration.between(oldest, clock.instant()));
+            } catch (DataAccessException e) {
+                log.warn("Failed to write {} logins; keeping them for the next flush: {}", logins.size(), e.getMessage());
+                batch.forEach((loginId, login) -> pending.merge(loginId, login, Pending::merge));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private Map<String, Pending> drain() {
+        Map<String, Pending> batch = new HashMap<>();
+        for (String loginId : pending.keySet()) {
+            Pending login = pending.remove(loginId);
+            if (login != null) {
+                batch.put(loginId, login);
+            }
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,50 @@
+package com.knight.application.service.approvals;
+
+import com.knight.domain.approvalworkflows.api.commands.ApprovalWorkflowCommands;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Schedules expiry of overdue approval workflows at the configured sweep interval.
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+public class ApprovalExpiryConfiguration implements SchedulingConfigurer {
+
+    private final ApprovalWorkflowCommands commands;
+    private final ApprovalExpiryProperties properties;
+
+    public ApprovalExpiryConfiguration(ApprovalWorkflowCommands commands, ApprovalExpiryProperties properties) {
+        this.commands = commands;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (properties.isEnabled()) {
+            registrar.addFixedDelayTask(this::sweep, properties.getSweepInterval());
+        }
+    }
+
+    /**
+     * Expire overdue workflows in batches until a batch comes back short.
+     *
+     * @return the number of workflows expired
+     */
+    int sweep() {
+        int total = 0;
+        int expired;
+        do {
+            expired = commands.expireOverdueWorkflows(properties.getBatchSize());
+            total += expired;
+        } while (expired == properties.getBatchSize());
+        if (total > 0) {
+            log.info("Expired {} overdue approval workflows", total);
+        }
+        return total;
+    }
+}
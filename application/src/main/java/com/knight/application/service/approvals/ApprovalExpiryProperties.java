@@ -0,0 +1,33 @@
+package com.knight.application.service.approvals;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for expiring overdue approval workflows.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "knight.approvals.expiry")
+public class ApprovalExpiryProperties {
+
+    /**
+     * Whether overdue workflows are expired on a schedule.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Time between sweeps; a workflow stays pending for up to this long after it is due.
+     */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    /**
+     * Most workflows expired in one statement. A sweep repeats batches until it finds fewer.
+     */
+    private int batchSize = 500;
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.knight.application.service.activity.LoginActivityRecorder;
 import com.knight.domain.users.repository.UserRepository;
 import com.knight.platform.sharedkernel.PortalType;
 import org.slf4j.Logger;
@@ -32,17 +33,20 @@ public class Auth0Adapter {
     private final Auth0Properties properties;
     private final ObjectMapper objectMapper;
     private final UserRepository userRepository;
+    private final LoginActivityRecorder loginActivity;
 
     // Management token cache
     private String managementToken;
     private long managementTokenExpiresAt;
 
     public Auth0Adapter(RestClient auth0RestClient, Auth0Properties properties,
-                        ObjectMapper objectMapper, UserRepository userRepository) {
+                        ObjectMapper objectMapper, UserRepository userRepository,
+                        LoginActivityRecorder loginActivity) {
         this.restClient = auth0RestClient;
         this.properties = properties;
         this.objectMapper = objectMapper;
         this.userRepository = userRepository;
+        this.loginActivity = loginActivity;
     }
 
     // ========================================
@@ -394,6 +398,7 @@ public class Auth0Adapter {
             if (!authResult.has("mfa_required") || !authResult.get("mfa_required").asBoolean()) {
                 // User logged in without MFA - they have password set but possibly not MFA enrolled
                 syncUserStatus(email, true, true, false);
+                loginActivity.recordLogin(email);
             }
         }
 
@@ -616,6 +621,7 @@ public class Auth0Adapter {
 
             // Sync user status after successful MFA verification
             syncUserStatus(email, true, true, true);
+            loginActivity.recordLogin(email);
 
             return result
                 .put("success", true)
@@ -704,6 +710,7 @@ public class Auth0Adapter {
 
             // Sync user status after successful MFA verification
             syncUserStatus(email, true, true, true);
+            loginActivity.recordLogin(email);
 
             // Determine portal type for routing
             PortalType portalType = determinePortalType(email);
@@ -922,6 +929,7 @@ public class Auth0Adapter {
                 .body(String.class);
 
             JsonNode data = objectMapper.readTree(response);
+            loginActivity.recordLogin(email);
 
             // Determine portal type for routing
             PortalType portalType = determinePortalType(email);
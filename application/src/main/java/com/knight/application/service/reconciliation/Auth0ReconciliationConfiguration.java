@@ -0,0 +1,54 @@
+package com.knight.application.service.reconciliation;
+
+import com.knight.application.jobs.JobQueue;
+import com.knight.application.jobs.JobType;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Queues an Auth0 reconciliation run once the last completed run is older than the configured
+ * interval. Every node checks; the job queue keeps at most one run active.
+ * Nothing is scheduled when {@code knight.auth0.reconciliation.enabled} is false.
+ */
+@Configuration
+@EnableScheduling
+public class Auth0ReconciliationConfiguration implements SchedulingConfigurer {
+
+    /**
+     * Reference of every reconciliation job; the queue allows one active job per reference.
+     */
+    public static final String REFERENCE_ID = "auth0-users";
+    static final String PARTITION_KEY = "auth0-reconciliation";
+
+    private final Auth0ReconciliationStore store;
+    private final JobQueue jobQueue;
+    private final Auth0ReconciliationProperties properties;
+
+    public Auth0ReconciliationConfiguration(Auth0ReconciliationStore store, JobQueue jobQueue,
+                                            Auth0ReconciliationProperties properties) {
+        this.store = store;
+        this.jobQueue = jobQueue;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        registrar.addFixedDelayTask(this::startIfDue, properties.getCheckInterval());
+    }
+
+    void startIfDue() {
+        Optional<Instant> lastCompleted = store.lastCompletedAt();
+        if (lastCompleted.isPresent() && lastCompleted.get().plus(properties.getInterval()).isAfter(Instant.now())) {
+            return;
+        }
+        jobQueue.enqueue(JobType.AUTH0_RECONCILIATION, REFERENCE_ID, PARTITION_KEY);
+    }
+}
@@ -0,0 +1,49 @@
+package com.knight.application.service.reconciliation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for reconciling users' onboarding state with Auth0.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "knight.auth0.reconciliation")
+public class Auth0ReconciliationProperties {
+
+    /**
+     * Whether runs are started on a schedule. Off by default, since every run reads the whole tenant.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Minimum time from the end of one completed run to the start of the next.
+     */
+    private Duration interval = Duration.ofHours(24);
+
+    /**
+     * How often each node checks whether a run is due.
+     */
+    private Duration checkInterval = Duration.ofMinutes(15);
+
+    /**
+     * Auth0 users requested per call; the Management API allows at most 100.
+     */
+    private int pageSize = 100;
+
+    /**
+     * Pause between pages, keeping the run well inside the Management API rate limit that
+     * provisioning and login flows share.
+     */
+    private Duration pageInterval = Duration.ofMillis(500);
+
+    /**
+     * Longest wait for a rate limit to reset before the attempt fails and the job is retried.
+     */
+    private Duration maxRateLimitWait = Duration.ofMinutes(1);
+}
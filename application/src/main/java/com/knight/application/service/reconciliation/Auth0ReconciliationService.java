@@ -0,0 +1,123 @@
+package com.knight.application.service.reconciliation;
+
+import com.knight.application.persistence.users.entity.Auth0ReconciliationRunEntity;
+import com.knight.application.service.reconciliation.Auth0ReconciliationStore.Checkpoint;
+import com.knight.domain.auth0identity.api.Auth0RateLimitException;
+import com.knight.domain.auth0identity.api.Auth0UserDirectory;
+import com.knight.domain.auth0identity.api.Auth0UserDirectory.UserState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Reconciles users' onboarding state (password set, MFA enrolled, and the status they imply)
+ * with Auth0, for users whose onboarding events were missed.
+ *
+ * A run walks every Auth0 user in pages ordered by creation time, diffs each page against the
+ * local users in memory and applies the differences as one batched update. Runs are background
+ * jobs: the checkpoint is saved with every page, so a retried, recovered or handed-off job
+ * resumes where the last attempt stopped. Pages are paced, and a rate-limited call waits for the
+ * limit to reset and is retried.
+ */
+@Slf4j
+@Service
+public class Auth0ReconciliationService {
+
+    private final Auth0UserDirectory directory;
+    private final Auth0ReconciliationStore store;
+    private final Auth0ReconciliationProperties properties;
+
+    public Auth0ReconciliationService(Auth0UserDirectory directory, Auth0ReconciliationStore store,
+                                      Auth0ReconciliationProperties properties) {
+        this.directory = directory;
+        this.store = store;
+        this.properties = properties;
+    }
+
+    /**
+     * Run, or resume, the reconciliation owned by a job.
+     *
+     * @param shouldStop checked between pages; the run returns early, checkpoint saved, when it is set
+     */
+    public void run(UUID jobId, BooleanSupplier shouldStop) {
+        Checkpoint checkpoint = store.startOrResume(jobId);
+        log.info("Reconciling Auth0 users for job {} from {}", jobId,
+            checkpoint.createdAt() != null ? checkpoint.createdAt() : "the start");
+
+        // Pages are requested from the checkpoint time onwards; only when a whole page was created
+        // at that very instant does the next request need to step to the following page
+        int pageAtCheckpoint = 0;
+        while (!shouldStop.getAsBoolean()) {
+            List<UserState> page = fetch(checkpoint, pageAtCheckpoint, shouldStop);
+            if (page == null) {
+                return;
+            }
+            Checkpoint current = checkpoint;
+            List<UserState> unseen = page.stream().filter(user -> !current.covers(user)).toList();
+            if (!unseen.isEmpty()) {
+                Checkpoint next = checkpoint.after(page);
+                int updated = store.applyPage(jobId, unseen, next);
+                log.debug("Reconciled {} Auth0 users, {} updated", unseen.size(), updated);
+                checkpoint = next;
+            }
+            boolean allAtCheckpoint = !page.isEmpty()
+                && page.get(page.size() - 1).createdAt().equals(current.createdAt());
+            pageAtCheckpoint = allAtCheckpoint ? pageAtCheckpoint + 1 : 0;
+            if (page.size() < properties.getPageSize()) {
+                Auth0ReconciliationRunEntity run = store.complete(jobId);
+                log.info("Auth0 reconciliation {} complete: {} users scanned, {} updated",
+                    jobId, run.getUsersScanned(), run.getUsersUpdated());
+                return;
+            }
+            if (!pause(properties.getPageInterval(), shouldStop)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Close a run that will not be resumed.
+     */
+    public void abandon(String reason) {
+        store.abandonRunning(reason);
+    }
+
+    /**
+     * The next page after the checkpoint, waiting out rate limits.
+     *
+     * @return null if asked to stop while waiting
+     */
+    private List<UserState> fetch(Checkpoint checkpoint, int page, BooleanSupplier shouldStop) {
+        while (true) {
+            try {
+                return directory.usersCreatedFrom(checkpoint.createdAt(), page, properties.getPageSize());
+            } catch (Auth0RateLimitException e) {
+                Duration wait = e.getRetryAfter();
+                if (wait.compareTo(properties.getMaxRateLimitWait()) > 0) {
+                    throw e;
+                }
+                log.info("Auth0 rate limit reached; resuming reconciliation in {}", wait);
+                if (!pause(wait, shouldStop)) {
+                    return null;
+                }
+            }
+        }
+    }
+
+    private static boolean pause(Duration duration, BooleanSupplier shouldStop) {
+        if (duration.isZero() || duration.isNegative()) {
+            return !shouldStop.getAsBoolean();
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return !shouldStop.getAsBoolean();
+    }
+}
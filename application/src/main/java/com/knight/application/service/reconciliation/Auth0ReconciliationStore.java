@@ -0,0 +1,177 @@
+package com.knight.application.service.reconciliation;
+
+import com.knight.application.cache.CacheInvalidationPublisher;
+import com.knight.application.cache.CacheNames;
+import com.knight.application.persistence.users.entity.Auth0ReconciliationRunEntity;
+import com.knight.application.persistence.users.repository.Auth0ReconciliationRunJpaRepository;
+import com.knight.application.persistence.users.repository.UserOnboardingStateRepository;
+import com.knight.application.persistence.users.repository.UserOnboardingStateRepository.OnboardingChange;
+import com.knight.application.persistence.users.repository.UserOnboardingStateRepository.OnboardingState;
+import com.knight.domain.auth0identity.api.Auth0UserDirectory.UserState;
+import com.knight.domain.users.aggregate.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Transactional steps of an Auth0 reconciliation run. Each page of users is diffed and applied in
+ * the same transaction that moves the run's checkpoint past it, so a run interrupted at any point
+ * resumes after the last page it applied.
+ */
+@Component
+public class Auth0ReconciliationStore {
+
+    static final String RUNNING = "RUNNING";
+    static final String COMPLETED = "COMPLETED";
+    static final String ABANDONED = "ABANDONED";
+    private static final int MAX_REASON_LENGTH = 2000;
+
+    /**
+     * Statuses whose onboarding flags are reconciled. Users being created, locked or deactivated
+     * are left to the flows that own those states.
+     */
+    private static final Set<User.Status> RECONCILED_STATUSES =
+        EnumSet.of(User.Status.PENDING_VERIFICATION, User.Status.PENDING_MFA, User.Status.ACTIVE);
+
+    /**
+     * Position in the Auth0 users ordered by creation time: everything created before
+     * {@code createdAt}, and the listed users created at exactly that time, has been processed.
+     */
+    public record Checkpoint(Instant createdAt, Set<String> userIds) {
+
+        static final Checkpoint START = new Checkpoint(null, Set.of());
+
+        boolean covers(UserState user) {
+            return createdAt != null
+                && (user.createdAt().isBefore(createdAt)
+                    || user.createdAt().equals(createdAt) && userIds.contains(user.identityProviderUserId()));
+        }
+
+        /**
+         * The checkpoint after processing a page, ordered oldest first.
+         */
+        Checkpoint after(List<UserState> page) {
+            Instant last = page.get(page.size() - 1).createdAt();
+            Set<String> ids = page.stream()
+                .filter(user -> user.createdAt().equals(last))
+                .map(UserState::identityProviderUserId)
+                .collect(Collectors.toSet());
+            if (last.equals(createdAt)) {
+                ids.addAll(userIds);
+            }
+            return new Checkpoint(last, ids);
+        }
+    }
+
+    private final Auth0ReconciliationRunJpaRepository runRepository;
+    private final UserOnboardingStateRepository onboardingStateRepository;
+    private final CacheInvalidationPublisher cacheInvalidation;
+    private final Clock clock;
+
+    @Autowired
+    public Auth0ReconciliationStore(Auth0ReconciliationRunJpaRepository runRepository,
+                                    UserOnboardingStateRepository onboardingStateRepository,
+                                    CacheInvalidationPublisher cacheInvalidation) {
+        this(runRepository, onboardingStateRepository, cacheInvalidation, Clock.systemUTC());
+    }
+
+    Auth0ReconciliationStore(Auth0ReconciliationRunJpaRepository runRepository,
+                             UserOnboardingStateRepository onboardingStateRepository,
+                             CacheInvalidationPublisher cacheInvalidation, Clock clock) {
+        this.runRepository = runRepository;
+        this.onboardingStateRepository = onboardingStateRepository;
+        this.cacheInvalidation = cacheInvalidation;
+        this.clock = clock;
+    }
+
+    /**
+     * The checkpoint of the job's run, starting the run if this is its first attempt.
+     */
+    @Transactional
+    public Checkpoint startOrResume(UUID jobId) {
+        Auth0ReconciliationRunEntity run = runRepository.findById(jobId).orElseGet(() -> {
+            Auth0ReconciliationRunEntity started = new Auth0ReconciliationRunEntity();
+            started.setJobId(jobId);
+            started.setStatus(RUNNING);
+            started.setStartedAt(clock.instant());
+            return runRepository.save(started);
+        });
+        if (run.getCheckpointCreatedAt() == null) {
+            return Checkpoint.START;
+        }
+        Set<String> userIds = run.getCheckpointUserIds() == null || run.getCheckpointUserIds().isEmpty()
+            ? Set.of()
+            : Set.copyOf(Arrays.asList(run.getCheckpointUserIds().split("\n")));
+        return new Checkpoint(run.getCheckpointCreatedAt(), userIds);
+    }
+
+    /**
+     * Bring local users in line with a page of Auth0 users and move the checkpoint past the page.
+     *
+     * @return the number of local users updated
+     */
+    @Transactional
+    public int applyPage(UUID jobId, List<UserState> page, Checkpoint next) {
+        Map<String, OnboardingState> local = onboardingStateRepository.findByIdentityProviderUserIds(
+            page.stream().map(UserState::identityProviderUserId).toList());
+        List<OnboardingChange> changes = new ArrayList<>();
+        for (UserState remote : page) {
+            OnboardingState state = local.get(remote.identityProviderUserId());
+            if (state == null || !RECONCILED_STATUSES.contains(state.status())) {
+                continue;
+            }
+            User.Status status = User.onboardingStatus(state.status(), remote.passwordSet(), remote.mfaEnrolled());
+            if (state.passwordSet() != remote.passwordSet() || state.mfaEnrolled() != remote.mfaEnrolled()
+                    || state.status() != status) {
+                changes.add(new OnboardingChange(state, remote.passwordSet(), remote.mfaEnrolled(), status));
+            }
+        }
+        List<UUID> updated = changes.isEmpty() ? List.of() : onboardingStateRepository.apply(changes, clock.instant());
+        updated.forEach(userId -> cacheInvalidation.invalidate(CacheNames.USERS, userId.toString()));
+
+        Auth0ReconciliationRunEntity run = runRepository.findById(jobId).orElseThrow();
+        run.setCheckpointCreatedAt(next.createdAt());
+        run.setCheckpointUserIds(String.join("\n", next.userIds()));
+        run.setUsersScanned(run.getUsersScanned() + page.size());
+        run.setUsersUpdated(run.getUsersUpdated() + updated.size());
+        return updated.size();
+    }
+
+    @Transactional
+    public Auth0ReconciliationRunEntity complete(UUID jobId) {
+        Auth0ReconciliationRunEntity run = runRepository.findById(jobId).orElseThrow();
+        run.setStatus(COMPLETED);
+        run.setCompletedAt(clock.instant());
+        return run;
+    }
+
+    /**
+     * Close the running run, which will not be resumed.
+     */
+    @Transactional
+    public void abandonRunning(String reason) {
+        for (Auth0ReconciliationRunEntity run : runRepository.findByStatus(RUNNING)) {
+            run.setStatus(ABANDONED);
+            run.setCompletedAt(clock.instant());
+            run.setFailureReason(reason.length() <= MAX_REASON_LENGTH ? reason : reason.substring(0, MAX_REASON_LENGTH));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Instant> lastCompletedAt() {
+        return runRepository.findFirstByStatusOrderByCompletedAtDesc(COMPLETED)
+            .map(Auth0ReconciliationRunEntity::getCompletedAt);
+    }
+}
@@ -0,0 +1,218 @@
+package com.knight.application.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulates the {@link RequestTimings} of each request, records them per endpoint in the
+ * {@value #REQUEST_METRIC} timer, and, when enabled, returns them in a Server-Timing header.
+ *
+ * Ordered ahead of Spring Security, so that JWT decoding falls inside the request. The header has
+ * to go out before the body, so it is written just before the first byte of the body: a body too
+ * large for the serializer's buffer reports the serialization time up to that point only.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_METRIC = "knight.segment.per-request";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final RequestTimingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RequestTimings timings = RequestTimings.start();
+        ServerTimingResponse timed = properties.isServerTimingHeader()
+            ? new ServerTimingResponse(response, timings)
+            : null;
+        try {
+            filterChain.doFilter(request, timed != null ? timed : response);
+        } finally {
+            if (timed != null) {
+                timed.writeServerTiming();
+            }
+            RequestTimings.finish();
+            record(request, timings);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestTimings timings) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        for (TimedSegment segment : TimedSegment.values()) {
+            if (timings.calls(segment) > 0) {
+                Timer.builder(REQUEST_METRIC)
+                    .description("Time a request spent in a segment, over all its calls")
+                    .tag("segment", segment.tag())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(timings.nanos(segment), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Sets the Server-Timing header just before the response is committed.
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+        private boolean written;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        ServerTimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        void writeServerTiming() {
+            if (!written) {
+                written = true;
+                if (!isCommitted()) {
+                    setHeader(SERVER_TIMING_HEADER, timings.serverTiming(System.nanoTime()));
+                }
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new ServerTimingOutputStream(super.getOutputStream(), this);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new ServerTimingWriter(super.getWriter(), this));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+
+    private static final class ServerTimingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final ServerTimingResponse response;
+
+        ServerTimingOutputStream(ServletOutputStream delegate, ServerTimingResponse response) {
+            this.delegate = delegate;
+            this.response = response;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            response.writeServerTiming();
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            response.writeServerTiming();
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            response.writeServerTiming();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            response.writeServerTiming();
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+
+    private static final class ServerTimingWriter extends Writer {
+
+        private final PrintWriter delegate;
+        private final ServerTimingResponse response;
+
+        ServerTimingWriter(PrintWriter delegate, ServerTimingResponse response) {
+            this.delegate = delegate;
+            this.response = response;
+        }
+
+        @Override
+        public void write(char[] buffer, int off, int len) {
+            response.writeServerTiming();
+            delegate.write(buffer, off, len);
+        }
+
+        @Override
+        public void flush() {
+            response.writeServerTiming();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() {
+            response.writeServerTiming();
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.knight.application.timing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for per-request segment timings.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "knight.request-timing")
+public class RequestTimingProperties {
+
+    /**
+     * Send each request's segment timings back in a Server-Timing response header. Off by default:
+     * the header tells any caller where the server spends its time.
+     */
+    private boolean serverTimingHeader = false;
+}
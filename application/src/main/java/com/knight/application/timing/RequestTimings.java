@@ -0,0 +1,96 @@
+package com.knight.application.timing;
+
+import java.util.Locale;
+
+/**
+ * Time spent in each {@link TimedSegment} by one request, accumulated on the thread serving it.
+ *
+ * Only work done on that thread is counted; a segment's time includes any segment nested in it
+ * (a principal lookup includes its database call), so the segments may add up to more than the
+ * request took.
+ */
+public final class RequestTimings {
+
+    private static final TimedSegment[] SEGMENTS = TimedSegment.values();
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt;
+    private final long[] nanos = new long[SEGMENTS.length];
+    private final int[] calls = new int[SEGMENTS.length];
+    private final long[] openedAt = new long[SEGMENTS.length];
+    private final boolean[] open = new boolean[SEGMENTS.length];
+
+    private RequestTimings(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * Start accumulating for a request served by this thread.
+     */
+    static RequestTimings start() {
+        RequestTimings timings = new RequestTimings(System.nanoTime());
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Stop accumulating on this thread.
+     */
+    static void finish() {
+        CURRENT.remove();
+    }
+
+    /**
+     * The timings of the request this thread is serving, or null outside a request.
+     */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    void enter(TimedSegment segment, long now) {
+        openedAt[segment.ordinal()] = now;
+        open[segment.ordinal()] = true;
+    }
+
+    void exit(TimedSegment segment, long now) {
+        open[segment.ordinal()] = false;
+        nanos[segment.ordinal()] += now - openedAt[segment.ordinal()];
+        calls[segment.ordinal()]++;
+    }
+
+    public long nanos(TimedSegment segment) {
+        return nanos[segment.ordinal()];
+    }
+
+    public int calls(TimedSegment segment) {
+        return calls[segment.ordinal()];
+    }
+
+    public long totalNanos(long now) {
+        return now - startedAt;
+    }
+
+    /**
+     * The timings as a Server-Timing header value: each segment the request entered, with its
+     * time and number of calls, then the total so far. A call still running counts up to now;
+     * the header goes out as the body starts, while the body is being written.
+     */
+    String serverTiming(long now) {
+        StringBuilder header = new StringBuilder();
+        for (TimedSegment segment : SEGMENTS) {
+            int i = segment.ordinal();
+            int count = open[i] ? calls[i] + 1 : calls[i];
+            if (count > 0) {
+                long elapsed = open[i] ? nanos[i] + now - openedAt[i] : nanos[i];
+                header.append(segment.tag()).append(";dur=").append(millis(elapsed))
+                    .append(";desc=\"").append(count).append(count == 1 ? " call\", " : " calls\", ");
+            }
+        }
+        return header.append("total;dur=").append(millis(totalNanos(now))).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
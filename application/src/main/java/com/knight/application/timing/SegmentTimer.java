@@ -0,0 +1,99 @@
+package com.knight.application.timing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Times calls into a {@link TimedSegment}.
+ *
+ * Each call is an Observation named {@value #CALLS_METRIC}, tagged by segment and operation: a
+ * timer through the meter registry, and a span once a tracing bridge is on the classpath. Its time
+ * is also added to the {@link RequestTimings} of the request the thread is serving, if any.
+ *
+ * A call made while the thread is already inside the same segment (an adapter calling another
+ * adapter) is not timed again, so that no time is counted twice.
+ */
+@Component
+public class SegmentTimer {
+
+    public static final String CALLS_METRIC = "knight.segment.calls";
+
+    private static final ThreadLocal<int[]> OPEN =
+        ThreadLocal.withInitial(() -> new int[TimedSegment.values().length]);
+
+    private final ObservationRegistry observationRegistry;
+
+    public SegmentTimer(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * Run an action as a call into a segment.
+     *
+     * @param operation what is called, e.g. "UserRepositoryAdapter.findById"; a metric tag, so one
+     *                  of a fixed set of values
+     */
+    public <T> T time(TimedSegment segment, String operation, Supplier<T> action) {
+        Running running = start(segment, operation);
+        try (Observation.Scope scope = running.observation.openScope()) {
+            return action.get();
+        } catch (RuntimeException | Error e) {
+            running.observation.error(e);
+            throw e;
+        } finally {
+            running.stop();
+        }
+    }
+
+    /**
+     * Start a call into a segment that ends elsewhere on this thread, such as writing a response
+     * body. It must be stopped on this thread.
+     */
+    public Running start(TimedSegment segment, String operation) {
+        int[] open = OPEN.get();
+        if (open[segment.ordinal()] > 0) {
+            return new Running(segment, Observation.NOOP, false);
+        }
+        open[segment.ordinal()]++;
+        Observation observation = Observation.createNotStarted(CALLS_METRIC, observationRegistry)
+            .lowCardinalityKeyValue("segment", segment.tag())
+            .lowCardinalityKeyValue("operation", operation)
+            .start();
+        return new Running(segment, observation, true);
+    }
+
+    /**
+     * A call in progress.
+     */
+    public static final class Running {
+
+        private final TimedSegment segment;
+        private final Observation observation;
+        private final boolean counted;
+        private final RequestTimings timings;
+
+        private Running(TimedSegment segment, Observation observation, boolean counted) {
+            this.segment = segment;
+            this.observation = observation;
+            this.counted = counted;
+            this.timings = counted ? RequestTimings.current() : null;
+            if (timings != null) {
+                timings.enter(segment, System.nanoTime());
+            }
+        }
+
+        public void stop() {
+            if (!counted) {
+                return;
+            }
+            if (timings != null) {
+                timings.exit(segment, System.nanoTime());
+            }
+            OPEN.get()[segment.ordinal()]--;
+            observation.stop();
+        }
+    }
+}
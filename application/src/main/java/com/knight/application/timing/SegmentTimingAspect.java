@@ -0,0 +1,61 @@
+package com.knight.application.timing;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times the calls to the repository adapters, the Auth0 clients and the email service.
+ *
+ * Ordered outside the adapters' transaction advice, so that committing counts as database time.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class SegmentTimingAspect {
+
+    private final SegmentTimer segmentTimer;
+    private final Map<Method, String> operations = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.knight.application.persistence..*RepositoryAdapter.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) {
+        return time(TimedSegment.DB, joinPoint);
+    }
+
+    @Around("execution(public * com.knight.application.service.auth0.Auth0Adapter.*(..))"
+        + " || execution(public * com.knight.domain.auth0identity.adapter.Auth0HttpClient.*(..))")
+    public Object timeAuth0(ProceedingJoinPoint joinPoint) {
+        return time(TimedSegment.AUTH0, joinPoint);
+    }
+
+    @Around("execution(public * com.knight.application.service.email.EmailService+.*(..))")
+    public Object timeEmail(ProceedingJoinPoint joinPoint) {
+        return time(TimedSegment.EMAIL, joinPoint);
+    }
+
+    private Object time(TimedSegment segment, ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String operation = operations.computeIfAbsent(method,
+            called -> called.getDeclaringClass().getSimpleName() + "." + called.getName());
+        return segmentTimer.time(segment, operation, () -> {
+            try {
+                return joinPoint.proceed();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        });
+    }
+}
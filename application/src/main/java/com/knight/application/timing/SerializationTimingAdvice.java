@@ -0,0 +1,68 @@
+package com.knight.application.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Times the writing of response bodies as the {@link TimedSegment#SERIALIZATION} segment.
+ *
+ * The body is written between the advice, which runs just before the message converter, and the
+ * handler returning; the interceptor ends the segment there, or on completion when the handler or
+ * the body failed.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class SerializationTimingAdvice implements ResponseBodyAdvice<Object>, HandlerInterceptor {
+
+    private static final String RUNNING_ATTRIBUTE = SerializationTimingAdvice.class.getName() + ".RUNNING";
+
+    private final SegmentTimer segmentTimer;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            HttpServletRequest servlet = servletRequest.getServletRequest();
+            stop(servlet);
+            servlet.setAttribute(RUNNING_ATTRIBUTE,
+                segmentTimer.start(TimedSegment.SERIALIZATION, selectedContentType.getSubtype()));
+        }
+        return body;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        stop(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        stop(request);
+    }
+
+    private static void stop(HttpServletRequest request) {
+        if (request.getAttribute(RUNNING_ATTRIBUTE) instanceof SegmentTimer.Running running) {
+            request.removeAttribute(RUNNING_ATTRIBUTE);
+            running.stop();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.knight.application.timing;
+
+/**
+ * The parts of a request whose time is recorded separately.
+ *
+ * The name is the metric tag and the Server-Timing metric name.
+ */
+public enum TimedSegment {
+
+    /** Decoding and validating the bearer token. */
+    JWT("jwt"),
+
+    /** Loading the authenticated user behind an Auth0 token; includes its database lookup. */
+    PRINCIPAL("principal"),
+
+    /** Repository adapter calls, transaction commit included. */
+    DB("db"),
+
+    /** Calls to the Auth0 Authentication and Management APIs. */
+    AUTH0("auth0"),
+
+    /** Sending email. */
+    EMAIL("email"),
+
+    /** Writing the response body. */
+    SERIALIZATION("serialize");
+
+    private final String tag;
+
+    TimedSegment(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,34 @@
+-- =====================================================
+-- BACKGROUND JOBS
+-- Persistent queue for work that must not run on request threads
+-- =====================================================
+
+CREATE TABLE background_jobs (
+    job_id UNIQUEIDENTIFIER PRIMARY KEY,
+    job_type VARCHAR(50) NOT NULL,
+    reference_id VARCHAR(100) NOT NULL,           -- e.g. batch ID
+    partition_key VARCHAR(200) NOT NULL,          -- profile URN, for fair scheduling
+    status VARCHAR(20) NOT NULL,
+    cancel_requested BIT NOT NULL DEFAULT 0,
+    attempts INT NOT NULL DEFAULT 0,
+    owner VARCHAR(100),                           -- node running the job
+    enqueued_at DATETIME2 NOT NULL,
+    started_at DATETIME2,
+    heartbeat_at DATETIME2,
+    completed_at DATETIME2,
+    last_error NVARCHAR(2000),
+
+    CONSTRAINT CHK_background_job_status CHECK (status IN (
+        'QUEUED', 'RUNNING', 'SUCCEEDED', 'FAILED', 'CANCELLED'
+    )),
+    CONSTRAINT CHK_background_job_type CHECK (job_type IN (
+        'PAYOR_ENROLMENT'
+    ))
+);
+
+CREATE INDEX idx_background_jobs_status ON background_jobs(status, enqueued_at);
+CREATE INDEX idx_background_jobs_reference ON background_jobs(reference_id);
+
+-- At most one queued or running job per reference
+CREATE UNIQUE INDEX UQ_background_jobs_active_reference ON background_jobs(job_type, reference_id)
+    WHERE status IN ('QUEUED', 'RUNNING');
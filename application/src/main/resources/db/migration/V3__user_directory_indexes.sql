@@ -0,0 +1,11 @@
+-- =====================================================
+-- USER DIRECTORY
+-- Keyset pages of a profile's users: seek on profile, read in sort order
+-- =====================================================
+
+CREATE INDEX idx_users_profile_email ON users(profile_id, email, user_id);
+CREATE INDEX idx_users_profile_created ON users(profile_id, created_at, user_id);
+CREATE INDEX idx_users_profile_status ON users(profile_id, status);
+
+-- Superseded by the composite indexes above
+DROP INDEX idx_users_profile ON users;
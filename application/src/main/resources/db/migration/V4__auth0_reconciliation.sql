@@ -0,0 +1,26 @@
+-- =====================================================
+-- AUTH0 RECONCILIATION
+-- Checkpointed runs that bring local onboarding state in line with Auth0
+-- =====================================================
+
+ALTER TABLE background_jobs DROP CONSTRAINT CHK_background_job_type;
+ALTER TABLE background_jobs ADD CONSTRAINT CHK_background_job_type CHECK (job_type IN (
+    'PAYOR_ENROLMENT', 'AUTH0_RECONCILIATION'
+));
+
+CREATE TABLE auth0_reconciliation_runs (
+    job_id UNIQUEIDENTIFIER PRIMARY KEY,          -- background job running the reconciliation
+    status VARCHAR(20) NOT NULL,
+    started_at DATETIME2 NOT NULL,
+    completed_at DATETIME2,
+    checkpoint_created_at DATETIME2,              -- creation time of the last Auth0 user processed
+    checkpoint_user_ids NVARCHAR(MAX),            -- users already processed at that creation time
+    users_scanned BIGINT NOT NULL DEFAULT 0,
+    users_updated BIGINT NOT NULL DEFAULT 0,
+    failure_reason NVARCHAR(2000),
+
+    CONSTRAINT CHK_auth0_reconciliation_status CHECK (status IN ('RUNNING', 'COMPLETED', 'ABANDONED'))
+);
+
+CREATE INDEX idx_auth0_reconciliation_runs_completed ON auth0_reconciliation_runs(status, completed_at);
+
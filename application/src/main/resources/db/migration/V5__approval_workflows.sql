@@ -0,0 +1,45 @@
+-- =====================================================
+-- APPROVAL WORKFLOWS
+-- Multi-party approvals of resources, with optional expiry
+-- =====================================================
+
+CREATE TABLE approval_workflows (
+    id UNIQUEIDENTIFIER PRIMARY KEY,
+    resource_type VARCHAR(100) NOT NULL,
+    resource_id VARCHAR(255) NOT NULL,
+    required_approvals INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    initiated_at DATETIME2 NOT NULL,
+    initiated_by VARCHAR(255) NOT NULL,
+    expires_at DATETIME2,                          -- pending workflows past this time are expired
+    completed_at DATETIME2,
+
+    CONSTRAINT CHK_approval_workflow_status CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED', 'EXPIRED'))
+);
+
+CREATE TABLE approvals (
+    id UNIQUEIDENTIFIER PRIMARY KEY,
+    workflow_id UNIQUEIDENTIFIER NOT NULL,
+    approver_user_id VARCHAR(255) NOT NULL,
+    decision VARCHAR(20) NOT NULL,
+    comments NVARCHAR(1000),
+    approved_at DATETIME2 NOT NULL,
+
+    CONSTRAINT FK_approval_workflow FOREIGN KEY (workflow_id) REFERENCES approval_workflows(id) ON DELETE CASCADE,
+    CONSTRAINT CHK_approval_decision CHECK (decision IN ('APPROVE', 'REJECT'))
+);
+
+CREATE INDEX idx_approvals_workflow ON approvals(workflow_id, decision);
+
+-- Inbox pages: pending workflows oldest first, by resource, by initiator or unfiltered.
+-- Filtered to pending rows so decided workflows, the bulk of the table over time, cost nothing.
+CREATE INDEX idx_approval_workflows_pending_resource ON approval_workflows(resource_type, resource_id, initiated_at, id)
+    WHERE status = 'PENDING';
+CREATE INDEX idx_approval_workflows_pending_initiator ON approval_workflows(initiated_by, initiated_at, id)
+    WHERE status = 'PENDING';
+CREATE INDEX idx_approval_workflows_pending ON approval_workflows(initiated_at, id)
+    WHERE status = 'PENDING';
+
+-- Expiry sweep: pending workflows that can expire, soonest due first
+CREATE INDEX idx_approval_workflows_pending_expiry ON approval_workflows(expires_at)
+    WHERE status = 'PENDING' AND expires_at IS NOT NULL;
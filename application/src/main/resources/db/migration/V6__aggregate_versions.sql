@@ -0,0 +1,11 @@
+-- =====================================================
+-- AGGREGATE VERSIONS
+-- Optimistic concurrency: every write of an aggregate checks the version it was loaded at
+-- and moves the row to the next one
+-- =====================================================
+
+ALTER TABLE approval_workflows ADD version BIGINT NOT NULL CONSTRAINT DF_approval_workflows_version DEFAULT 0;
+ALTER TABLE batches ADD version BIGINT NOT NULL CONSTRAINT DF_batches_version DEFAULT 0;
+ALTER TABLE profiles ADD version BIGINT NOT NULL CONSTRAINT DF_profiles_version DEFAULT 0;
+ALTER TABLE users ADD version BIGINT NOT NULL CONSTRAINT DF_users_version DEFAULT 0;
+ALTER TABLE user_groups ADD version BIGINT NOT NULL CONSTRAINT DF_user_groups_version DEFAULT 0;
@@ -0,0 +1,9 @@
+-- =====================================================
+-- USER DIRECTORY NAME SORT
+-- Users without a last name sort as an empty one; a persisted computed column lets an index
+-- serve that order, as the email and creation-time orders are served
+-- =====================================================
+
+ALTER TABLE users ADD sort_last_name AS COALESCE(last_name, '') PERSISTED;
+
+CREATE INDEX idx_users_profile_last_name ON users(profile_id, sort_last_name, user_id);
@@ -0,0 +1,60 @@
+package com.knight.application.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AccountBitmap.
+ */
+class AccountBitmapTest {
+
+    @Test
+    @DisplayName("should report members and non-members across chunks")
+    void shouldReportMembership() {
+        AccountBitmap bitmap = AccountBitmap.of(1, 70_000, 5_000_000);
+
+        assertThat(bitmap.contains(1)).isTrue();
+        assertThat(bitmap.contains(70_000)).isTrue();
+        assertThat(bitmap.contains(5_000_000)).isTrue();
+        assertThat(bitmap.contains(2)).isFalse();
+        assertThat(bitmap.contains(-1)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should switch a chunk between sparse and dense forms as it grows and shrinks")
+    void shouldHandleDenseChunks() {
+        int[] dense = IntStream.range(0, 10_000).toArray();
+        AccountBitmap bitmap = AccountBitmap.of(dense);
+
+        assertThat(bitmap.cardinality()).isEqualTo(10_000);
+        assertThat(bitmap.contains(9_999)).isTrue();
+        assertThat(bitmap.contains(10_000)).isFalse();
+
+        AccountBitmap shrunk = bitmap.with(new int[0], IntStream.range(100, 10_000).toArray());
+        assertThat(shrunk.cardinality()).isEqualTo(100);
+        assertThat(shrunk.contains(99)).isTrue();
+        assertThat(shrunk.contains(100)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should apply changes without modifying the original")
+    void shouldBeImmutable() {
+        AccountBitmap original = AccountBitmap.of(1, 2, 70_000);
+
+        AccountBitmap updated = original.with(new int[]{3}, new int[]{1, 70_000, 999});
+
+        assertThat(original.contains(1)).isTrue();
+        assertThat(original.contains(3)).isFalse();
+        assertThat(original.cardinality()).isEqualTo(3);
+        assertThat(updated.contains(1)).isFalse();
+        assertThat(updated.contains(2)).isTrue();
+        assertThat(updated.contains(3)).isTrue();
+        assertThat(updated.contains(70_000)).isFalse();
+        assertThat(updated.cardinality()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,200 @@
+package com.knight.application.adapter;
+
+import com.knight.application.cache.CacheInvalidated;
+import com.knight.application.cache.CacheNames;
+import com.knight.domain.serviceprofiles.aggregate.AccountGroup;
+import com.knight.domain.serviceprofiles.api.events.AccountGroupMembershipChanged;
+import com.knight.domain.serviceprofiles.repository.AccountGroupRepository;
+import com.knight.domain.serviceprofiles.types.AccountGroupId;
+import com.knight.platform.sharedkernel.ClientAccountId;
+import com.knight.platform.sharedkernel.ProfileId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for AccountGroupMembershipAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountGroupMembershipAdapterTest {
+
+    private static final ProfileId PROFILE_ID = ProfileId.fromUrn("servicing:srf:123456789");
+    private static final ClientAccountId ACCOUNT_1 = ClientAccountId.of("CAN_DDA:DDA:12345:000000000001");
+    private static final ClientAccountId ACCOUNT_2 = ClientAccountId.of("CAN_DDA:DDA:12345:000000000002");
+    private static final ClientAccountId ACCOUNT_3 = ClientAccountId.of("CAN_DDA:DDA:12345:000000000003");
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    @Mock
+    private AccountGroupRepository repository;
+
+    private MutableClock clock;
+    private AccountGroupMembershipAdapter adapter;
+    private AccountGroup group;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        adapter = new AccountGroupMembershipAdapter(repository, clock, Duration.ofMinutes(1));
+        group = AccountGroup.create(PROFILE_ID, "Treasury", "Treasury accounts", "admin");
+        group.addAccounts(Set.of(ACCOUNT_1, ACCOUNT_2));
+    }
+
+    private AccountGroupMembershipChanged change(Set<ClientAccountId> added, Set<ClientAccountId> removed, boolean deleted) {
+        return new AccountGroupMembershipChanged(group.id().value(), PROFILE_ID.urn(),
+            urns(added), urns(removed), deleted, NOW);
+    }
+
+    private static Set<String> urns(Set<ClientAccountId> accounts) {
+        return Set.copyOf(accounts.stream().map(ClientAccountId::urn).toList());
+    }
+
+    @Nested
+    @DisplayName("Lookups")
+    class LookupTests {
+
+        @Test
+        @DisplayName("should load a group once and answer from its bitmap")
+        void shouldLoadOnce() {
+            when(repository.findById(group.id())).thenReturn(Optional.of(group));
+
+            assertThat(adapter.isMember(group.id().value(), ACCOUNT_1.urn())).isTrue();
+            assertThat(adapter.isMember(group.id().value(), ACCOUNT_2.urn())).isTrue();
+            assertThat(adapter.isMember(group.id().value(), ACCOUNT_3.urn())).isFalse();
+            assertThat(adapter.isMember(group.id().value(), "not-an-account")).isFalse();
+
+            verify(repository, times(1)).findById(group.id());
+        }
+
+        @Test
+        @DisplayName("should treat an unknown group as having no members")
+        void shouldHandleUnknownGroup() {
+            when(repository.findById(any(AccountGroupId.class))).thenReturn(Optional.empty());
+
+            assertThat(adapter.isMember(UUID.randomUUID(), ACCOUNT_1.urn())).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reload a group once its snapshot is older than the maximum age")
+        void shouldReloadExpiredSnapshot() {
+            when(repository.findById(group.id())).thenReturn(Optional.of(group));
+            adapter.isMember(group.id().value(), ACCOUNT_1.urn());
+
+            group.removeAccount(ACCOUNT_1);
+            clock.advance(Duration.ofMinutes(2));
+
+            assertThat(adapter.isMember(group.id().value(), ACCOUNT_1.urn())).isFalse();
+            verify(repository, times(2)).findById(group.id());
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental refresh")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("should apply added and removed accounts without reloading the group")
+        void shouldApplyChange() {
+            when(repository.findById(group.id())).thenReturn(Optional.of(group));
+            adapter.isMember(group.id().value(), ACCOUNT_1.urn());
+
+            adapter.onMembershipChanged(change(Set.of(ACCOUNT_3), Set.of(ACCOUNT_1), false));
+
+            assertThat(adapter.isMember(group.id().value(), ACCOUNT_1.urn())).isFalse();
+            assertThat(adapter.isMember(group.id().value(), ACCOUNT_2.urn())).isTrue();
+            assertThat(adapter.isMember(group.id().value(), ACCOUNT_3.urn())).isTrue();
+            verify(repository, times(1)).findById(group.id());
+        }
+
+        @Test
+        @DisplayName("should ignore changes to groups not loaded on this node")
+        void shouldIgnoreUnloadedGroup() {
+            adapter.onMembershipChanged(change(Set.of(ACCOUNT_3), Set.of(), false));
+
+            assertThat(adapter.loadedGroupCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should drop a deleted group")
+        void shouldDropDeletedGroup() {
+            when(repository.findById(group.id())).thenReturn(Optional.of(group), Optional.empty());
+            adapter.isMember(group.id().value(), ACCOUNT_1.urn());
+
+            adapter.onMembershipChanged(change(Set.of(), Set.of(ACCOUNT_1, ACCOUNT_2), true));
+
+            assertThat(adapter.isMember(group.id().value(), ACCOUNT_1.urn())).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reload a group invalidated by another node")
+        void shouldReloadOnRemoteInvalidation() {
+            when(repository.findById(group.id())).thenReturn(Optional.of(group));
+            adapter.isMember(group.id().value(), ACCOUNT_1.urn());
+
+            group.removeAccount(ACCOUNT_1);
+            adapter.onCacheInvalidated(new CacheInvalidated(CacheNames.ACCOUNT_GROUPS, group.id().value().toString(), true));
+
+            assertThat(adapter.isMember(group.id().value(), ACCOUNT_1.urn())).isFalse();
+            verify(repository, times(2)).findById(group.id());
+        }
+
+        @Test
+        @DisplayName("should keep the snapshot for invalidations of local writes, which arrive as deltas")
+        void shouldIgnoreLocalInvalidation() {
+            when(repository.findById(group.id())).thenReturn(Optional.of(group));
+            adapter.isMember(group.id().value(), ACCOUNT_1.urn());
+
+            adapter.onCacheInvalidated(new CacheInvalidated(CacheNames.ACCOUNT_GROUPS, group.id().value().toString(), false));
+
+            assertThat(adapter.loadedGroupCount()).isEqualTo(1);
+        }
+    }
+
+    /**
+     * Clock that tests can move forward.
+     */
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.knight.application.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for CacheInvalidationListener.
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationListenerTest {
+
+    private static final List<CacheInvalidationMessage.Entry> ENTRIES =
+        List.of(new CacheInvalidationMessage.Entry(CacheNames.USERS, "user-1"));
+
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new CacheInvalidationListener(publisher, objectMapper);
+        lenient().when(publisher.origin()).thenReturn("node-1");
+    }
+
+    @Test
+    @DisplayName("should apply invalidations from other nodes")
+    void shouldApplyRemoteMessage() throws Exception {
+        listener.onMessage(objectMapper.writeValueAsString(new CacheInvalidationMessage("node-2", 1, ENTRIES)));
+
+        verify(publisher).applyRemote(ENTRIES);
+    }
+
+    @Test
+    @DisplayName("should ignore this node's own messages")
+    void shouldIgnoreOwnMessage() {
+        listener.apply(new CacheInvalidationMessage("node-1", 1, ENTRIES));
+
+        verify(publisher, never()).applyRemote(any());
+    }
+
+    @Test
+    @DisplayName("should ignore redelivered messages")
+    void shouldIgnoreRedelivery() {
+        listener.apply(new CacheInvalidationMessage("node-2", 1, ENTRIES));
+        listener.apply(new CacheInvalidationMessage("node-2", 2, ENTRIES));
+        listener.apply(new CacheInvalidationMessage("node-2", 2, ENTRIES));
+        listener.apply(new CacheInvalidationMessage("node-2", 1, ENTRIES));
+
+        verify(publisher, times(2)).applyRemote(ENTRIES);
+    }
+
+    @Test
+    @DisplayName("should skip unreadable messages")
+    void shouldSkipUnreadableMessage() {
+        listener.onMessage("not json");
+
+        verify(publisher, never()).applyRemote(any());
+    }
+}
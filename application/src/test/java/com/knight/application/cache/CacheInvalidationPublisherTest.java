@@ -0,0 +1,180 @@
+package com.knight.application.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CacheInvalidationPublisher.
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationPublisherTest {
+
+    private static final String ORIGIN = "node-1";
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CacheInvalidationProperties properties;
+    private CacheGenerations generations;
+    private CacheInvalidationPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheInvalidationProperties();
+        generations = new CacheGenerations();
+        publisher = new CacheInvalidationPublisher(eventPublisher, generations, kafkaTemplate,
+            objectMapper, properties, ORIGIN);
+        lenient().when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+            .thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private List<CacheInvalidationMessage> sentMessages(int count) throws Exception {
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(kafkaTemplate, times(count)).send(eq(properties.getTopic()), eq(ORIGIN), payload.capture());
+        List<CacheInvalidationMessage> messages = new ArrayList<>();
+        for (String json : payload.getAllValues()) {
+            messages.add(objectMapper.readValue(json, CacheInvalidationMessage.class));
+        }
+        return messages;
+    }
+
+    @Nested
+    @DisplayName("Local eviction")
+    class LocalTests {
+
+        @Test
+        @DisplayName("should evict local caches at once outside a transaction")
+        void shouldEvictImmediately() {
+            long stamp = generations.stamp(CacheNames.USERS, "user-1");
+
+            publisher.invalidate(CacheNames.USERS, "user-1");
+
+            verify(eventPublisher).publishEvent(new CacheInvalidated(CacheNames.USERS, "user-1", false));
+            assertThat(generations.isCurrent(CacheNames.USERS, "user-1", stamp)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should wait for the transaction to commit")
+        void shouldWaitForCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            publisher.invalidate(CacheNames.USERS, "user-1");
+            verify(eventPublisher, never()).publishEvent(any());
+            assertThat(publisher.pendingCount()).isZero();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            verify(eventPublisher).publishEvent(new CacheInvalidated(CacheNames.USERS, "user-1", false));
+            assertThat(publisher.pendingCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should do nothing when the transaction rolls back")
+        void shouldIgnoreRollback() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            publisher.invalidate(CacheNames.USERS, "user-1");
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            verify(eventPublisher, never()).publishEvent(any());
+            assertThat(publisher.pendingCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Broadcast")
+    class BroadcastTests {
+
+        @Test
+        @DisplayName("should coalesce repeated invalidations of an entry into one message")
+        void shouldCoalesceBurst() throws Exception {
+            for (int i = 0; i < 5; i++) {
+                publisher.invalidate(CacheNames.USERS, "user-1");
+            }
+            publisher.invalidate(CacheNames.CLIENTS, "srf:123456789");
+
+            publisher.flush();
+
+            CacheInvalidationMessage message = sentMessages(1).get(0);
+            assertThat(message.origin()).isEqualTo(ORIGIN);
+            assertThat(message.entries()).containsExactlyInAnyOrder(
+                new CacheInvalidationMessage.Entry(CacheNames.USERS, "user-1"),
+                new CacheInvalidationMessage.Entry(CacheNames.CLIENTS, "srf:123456789"));
+            assertThat(publisher.pendingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should split large bursts and number messages in order")
+        void shouldSplitBatches() throws Exception {
+            properties.setMaxBatchSize(2);
+            for (int i = 0; i < 5; i++) {
+                publisher.invalidate(CacheNames.USERS, "user-" + i);
+            }
+
+            publisher.flush();
+
+            List<CacheInvalidationMessage> messages = sentMessages(3);
+            assertThat(messages).extracting(CacheInvalidationMessage::sequence).containsExactly(1L, 2L, 3L);
+            assertThat(messages).flatExtracting(CacheInvalidationMessage::entries).hasSize(5);
+        }
+
+        @Test
+        @DisplayName("should send nothing when nothing is queued")
+        void shouldSkipEmptyFlush() {
+            publisher.flush();
+
+            verify(kafkaTemplate, never()).send(anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("should still evict locally when Kafka is not configured")
+        void shouldWorkWithoutKafka() {
+            publisher = new CacheInvalidationPublisher(eventPublisher, generations, null,
+                objectMapper, properties, ORIGIN);
+            publisher.invalidate(CacheNames.USERS, "user-1");
+
+            publisher.flush();
+
+            verify(eventPublisher).publishEvent(new CacheInvalidated(CacheNames.USERS, "user-1", false));
+            assertThat(publisher.pendingCount()).isZero();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.knight.application.cache;
+
+import com.knight.application.adapter.AccountGroupMembershipAdapter;
+import com.knight.domain.serviceprofiles.repository.AccountGroupRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Round trip of a cache invalidation between two nodes over an embedded Kafka broker.
+ * Each node is its own application context with only the invalidation beans and one cache.
+ */
+@EmbeddedKafka(partitions = 1, topics = "cache-invalidations")
+class CacheInvalidationRoundTripTest {
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    private ConfigurableApplicationContext startNode(EmbeddedKafkaBroker broker, String name) {
+        ConfigurableApplicationContext node = new SpringApplicationBuilder(Node.class)
+            .web(WebApplicationType.NONE)
+            .run("--spring.kafka.bootstrap-servers=" + broker.getBrokersAsString(),
+                "--knight.cache.invalidation.group-id=knight-cache-" + name,
+                "--knight.cache.invalidation.flush-interval=50ms");
+        nodes.add(node);
+        for (MessageListenerContainer container : node.getBean(KafkaListenerEndpointRegistry.class).getListenerContainers()) {
+            ContainerTestUtils.waitForAssignment(container, broker.getPartitionsPerTopic());
+        }
+        return node;
+    }
+
+    @Test
+    @DisplayName("should evict on the other node a group changed on this one")
+    void shouldEvictOnOtherNode(EmbeddedKafkaBroker broker) {
+        ConfigurableApplicationContext writer = startNode(broker, "node-a");
+        ConfigurableApplicationContext reader = startNode(broker, "node-b");
+        UUID groupId = UUID.randomUUID();
+        AccountGroupRepository readerRepository = reader.getBean(AccountGroupRepository.class);
+        AccountGroupMembershipAdapter readerCache = reader.getBean(AccountGroupMembershipAdapter.class);
+
+        readerCache.isMember(groupId, "CAN_DDA:DDA:12345:000000000001");
+        readerCache.isMember(groupId, "CAN_DDA:DDA:12345:000000000001");
+        verify(readerRepository, times(1)).findById(any());
+
+        writer.getBean(CacheInvalidationPublisher.class).invalidate(CacheNames.ACCOUNT_GROUPS, groupId.toString());
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            readerCache.isMember(groupId, "CAN_DDA:DDA:12345:000000000001");
+            verify(readerRepository, times(2)).findById(any());
+        });
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({KafkaAutoConfiguration.class, JacksonAutoConfiguration.class})
+    @Import({CacheGenerations.class, CacheInvalidationProperties.class, CacheInvalidationPublisher.class,
+        CacheInvalidationListener.class, CacheInvalidationConfiguration.class, AccountGroupMembershipAdapter.class})
+    static class Node {
+
+        @Bean
+        AccountGroupRepository accountGroupRepository() {
+            AccountGroupRepository repository = mock(AccountGroupRepository.class);
+            when(repository.findById(any())).thenReturn(Optional.empty());
+            return repository;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.knight.application.cache;
+
+import com.knight.application.persistence.clients.entity.ClientEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for SecondLevelCacheEvictor.
+ */
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheEvictorTest {
+
+    private static final Duration LAG_WINDOW = Duration.ofSeconds(10);
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private jakarta.persistence.Cache jpaCache;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+        lenient().when(jpaCache.unwrap(Cache.class)).thenReturn(cache);
+    }
+
+    private Runnable scheduledEviction() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(task.capture(), anyLong(), any(TimeUnit.class));
+        return task.getValue();
+    }
+
+    @Test
+    @DisplayName("should evict a remote write at once and again after the replica lag window")
+    void shouldEvictRemoteWriteTwice() {
+        SecondLevelCacheEvictor evictor = new SecondLevelCacheEvictor(entityManagerFactory, scheduler, LAG_WINDOW);
+
+        evictor.onCacheInvalidated(new CacheInvalidated(CacheNames.CLIENTS, "srf:123", true));
+
+        verify(cache).evictEntityData(ClientEntity.class, "srf:123");
+        scheduledEviction().run();
+        verify(cache, times(2)).evictEntityData(ClientEntity.class, "srf:123");
+    }
+
+    @Test
+    @DisplayName("should evict a local write only after the replica lag window")
+    void shouldEvictLocalWriteLater() {
+        SecondLevelCacheEvictor evictor = new SecondLevelCacheEvictor(entityManagerFactory, scheduler, LAG_WINDOW);
+
+        evictor.onCacheInvalidated(new CacheInvalidated(CacheNames.CLIENTS, "srf:123", false));
+
+        verify(cache, never()).evictEntityData(ClientEntity.class, "srf:123");
+        scheduledEviction().run();
+        verify(cache).evictEntityData(ClientEntity.class, "srf:123");
+    }
+
+    @Test
+    @DisplayName("should not evict again when reads are not routed to a replica")
+    void shouldNotScheduleWithoutReplica() {
+        SecondLevelCacheEvictor evictor = new SecondLevelCacheEvictor(entityManagerFactory, scheduler, null);
+
+        evictor.onCacheInvalidated(new CacheInvalidated(CacheNames.CLIENTS, "srf:123", false));
+
+        verifyNoInteractions(scheduler, entityManagerFactory);
+    }
+}
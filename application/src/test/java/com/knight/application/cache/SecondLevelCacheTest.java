@@ -0,0 +1,145 @@
+package com.knight.application.cache;
+
+import com.knight.application.persistence.clients.entity.ClientAccountEntity;
+import com.knight.application.persistence.clients.entity.ClientEntity;
+import com.knight.application.persistence.clients.repository.ClientAccountJpaRepository;
+import com.knight.application.persistence.clients.repository.ClientJpaRepository;
+import com.knight.domain.clients.aggregate.Client;
+import com.knight.domain.clients.aggregate.ClientAccount;
+import com.knight.domain.clients.repository.ClientAccountRepository;
+import com.knight.domain.clients.repository.ClientRepository;
+import com.knight.domain.clients.types.ClientType;
+import com.knight.platform.sharedkernel.Address;
+import com.knight.platform.sharedkernel.ClientAccountId;
+import com.knight.platform.sharedkernel.ClientId;
+import com.knight.platform.sharedkernel.Currency;
+import com.knight.platform.sharedkernel.SrfClientId;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the Hibernate second-level cache with H2 database.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;MODE=MSSQLServer",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.flyway.enabled=false",
+    "knight.cache.second-level.enabled=true",
+    "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+    "spring.kafka.listener.auto-startup=false",
+    "spring.kafka.consumer.auto-startup=false"
+})
+class SecondLevelCacheTest {
+
+    private static final ClientId CLIENT_ID = new SrfClientId("555000111");
+    private static final ClientAccountId ACCOUNT_ID = ClientAccountId.of("CAN_DDA:DDA:12345:555000111001");
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ClientAccountRepository clientAccountRepository;
+
+    @Autowired
+    private ClientJpaRepository clientJpaRepository;
+
+    @Autowired
+    private ClientAccountJpaRepository clientAccountJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        clientRepository.save(Client.create(CLIENT_ID, "Cached Client Inc", ClientType.BUSINESS,
+            Address.of("123 Main St", null, "Toronto", "ON", "M1A 1A1", "CA")));
+        clientAccountRepository.save(ClientAccount.create(ACCOUNT_ID, CLIENT_ID, Currency.CAD));
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientAccountJpaRepository.deleteById(ACCOUNT_ID.urn());
+        clientJpaRepository.deleteById(CLIENT_ID.urn());
+    }
+
+    private double hits(String region) {
+        return meterRegistry.get("cache.gets").tag("cache", region).tag("result", "hit")
+            .functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("should serve a client from the cache after the first read")
+    void shouldCacheClient() {
+        assertThat(clientRepository.findById(CLIENT_ID)).isPresent();
+
+        assertThat(entityManagerFactory.getCache().contains(ClientEntity.class, CLIENT_ID.urn())).isTrue();
+        double before = hits(CacheRegions.CLIENTS);
+        assertThat(clientRepository.findById(CLIENT_ID)).get()
+            .extracting(Client::name).isEqualTo("Cached Client Inc");
+        assertThat(hits(CacheRegions.CLIENTS)).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("should serve a client's accounts from the query cache until an account changes")
+    void shouldCacheAccountsByClient() {
+        assertThat(clientAccountRepository.findByClientId(CLIENT_ID)).hasSize(1);
+        double before = hits(CacheRegions.CLIENT_ACCOUNTS_BY_CLIENT);
+
+        assertThat(clientAccountRepository.findByClientId(CLIENT_ID)).hasSize(1);
+        assertThat(hits(CacheRegions.CLIENT_ACCOUNTS_BY_CLIENT)).isGreaterThan(before);
+
+        ClientAccount account = clientAccountRepository.findById(ACCOUNT_ID).orElseThrow();
+        account.close();
+        clientAccountRepository.save(account);
+
+        assertThat(clientAccountRepository.findByClientId(CLIENT_ID))
+            .extracting(ClientAccount::status).containsExactly(account.status());
+    }
+
+    @Test
+    @DisplayName("should drop entries invalidated by another node")
+    void shouldEvictOnRemoteInvalidation() {
+        clientRepository.findById(CLIENT_ID);
+        clientAccountRepository.findById(ACCOUNT_ID);
+
+        eventPublisher.publishEvent(new CacheInvalidated(CacheNames.CLIENTS, CLIENT_ID.urn(), true));
+        eventPublisher.publishEvent(new CacheInvalidated(CacheNames.CLIENT_ACCOUNTS, ACCOUNT_ID.urn(), true));
+
+        assertThat(entityManagerFactory.getCache().contains(ClientEntity.class, CLIENT_ID.urn())).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(ClientAccountEntity.class, ACCOUNT_ID.urn())).isFalse();
+    }
+
+    @Test
+    @DisplayName("should ignore invalidations from this node, which Hibernate already handled")
+    void shouldIgnoreLocalInvalidation() {
+        clientRepository.findById(CLIENT_ID);
+
+        eventPublisher.publishEvent(new CacheInvalidated(CacheNames.CLIENTS, CLIENT_ID.urn(), false));
+
+        assertThat(entityManagerFactory.getCache().contains(ClientEntity.class, CLIENT_ID.urn())).isTrue();
+    }
+}
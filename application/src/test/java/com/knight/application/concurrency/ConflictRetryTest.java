@@ -0,0 +1,110 @@
+package com.knight.application.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ConflictRetry.
+ */
+class ConflictRetryTest {
+
+    private static final String COMMAND = "ApprovalWorkflowCommands.recordApproval";
+
+    private SimpleMeterRegistry meterRegistry;
+    private final List<Duration> waits = new ArrayList<>();
+    private ConflictRetry retry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retry = new ConflictRetry(new ConflictRetryProperties(), meterRegistry, waits::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    private Runnable conflictingTimes(AtomicInteger attempts, int conflicts) {
+        return () -> {
+            if (attempts.incrementAndGet() <= conflicts) {
+                throw new ObjectOptimisticLockingFailureException("ApprovalWorkflowEntity", "wf-1");
+            }
+        };
+    }
+
+    private double conflicts(String outcome) {
+        return meterRegistry.get(ConflictRetry.CONFLICTS_METRIC)
+            .tag("command", COMMAND).tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("should run the command again after a conflict, waiting a bounded time")
+    void shouldRetryConflicts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retry.execute(COMMAND, () -> {
+            conflictingTimes(attempts, 2).run();
+            return "approved";
+        });
+
+        assertThat(result).isEqualTo("approved");
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(waits).hasSize(2)
+            .allSatisfy(wait -> assertThat(wait).isBetween(Duration.ZERO, Duration.ofMillis(200)));
+        assertThat(waits.get(0)).isLessThanOrEqualTo(Duration.ofMillis(10));
+        assertThat(conflicts("retried")).isEqualTo(2);
+        assertThat(meterRegistry.get(ConflictRetry.EXECUTIONS_METRIC).tag("command", COMMAND).counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should report the conflict once the attempts are used up")
+    void shouldGiveUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.run(COMMAND, conflictingTimes(attempts, Integer.MAX_VALUE)))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(attempts.get()).isEqualTo(4);
+        assertThat(conflicts("retried")).isEqualTo(3);
+        assertThat(conflicts("exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should leave a conflict inside a running transaction to the transaction's owner")
+    void shouldNotRetryInsideTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.run(COMMAND, conflictingTimes(attempts, 1)))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(waits).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should not retry other failures")
+    void shouldNotRetryOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.run(COMMAND, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("Workflow already decided");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,190 @@
+package com.knight.application.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.knight.application.rest.batch.dto.BatchDetailDto;
+import com.knight.application.rest.batch.dto.BatchItemDto;
+import com.knight.application.rest.serviceprofiles.dto.ProfileDetailDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Payload size and (de)serialization CPU of JSON, gzipped JSON and Smile on the API's largest DTOs.
+ *
+ * Mappers are configured like the application's (ISO dates, Java time module, Smile shared
+ * string values). Times are the median of repeated single-threaded runs after warm-up; gzip
+ * times include compressing or inflating, as a JSON client pays for both.
+ *
+ * Opt-in, as it takes tens of seconds:
+ * <pre>
+ * mvn -pl application test -Dtest=WireFormatBenchmark -Dbenchmarks=true
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class WireFormatBenchmark {
+
+    private static final int ACCOUNT_ENROLLMENTS = 5_000;
+    private static final int BATCH_ITEMS = 2_000;
+    private static final int WARMUP = 200;
+    private static final int RUNS = 200;
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    private final ObjectMapper smile = Jackson2ObjectMapperBuilder.smile()
+        .factory(BinaryContentConfiguration.smileFactory())
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+    @FunctionalInterface
+    private interface Codec {
+        byte[] encode(Object value) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        Object decode(byte[] bytes) throws IOException;
+    }
+
+    @Test
+    void payloadSizeAndCpu() throws Exception {
+        ProfileDetailDto profile = profileDetail();
+        List<BatchItemDto> items = batchItems();
+        BatchDetailDto batch = batchDetail();
+
+        System.out.println();
+        System.out.printf("%-36s %-10s %10s %12s %12s%n", "payload", "format", "bytes", "encode us", "decode us");
+        Result profileJson = measure("ProfileDetailDto (" + ACCOUNT_ENROLLMENTS + " accounts)", profile,
+            new TypeReference<ProfileDetailDto>() {});
+        Result itemsJson = measure("List<BatchItemDto> (" + BATCH_ITEMS + " items)", items,
+            new TypeReference<List<BatchItemDto>>() {});
+        measure("BatchDetailDto", batch, new TypeReference<BatchDetailDto>() {});
+        System.out.println();
+
+        assertThat(profileJson.smileBytes).isLessThan(profileJson.jsonBytes);
+        assertThat(itemsJson.smileBytes).isLessThan(itemsJson.jsonBytes);
+    }
+
+    private record Result(int jsonBytes, int smileBytes) {}
+
+    private <T> Result measure(String label, T value, TypeReference<T> type) throws Exception {
+        byte[] jsonBytes = json.writeValueAsBytes(value);
+        byte[] gzipBytes = gzip(jsonBytes);
+        byte[] smileBytes = smile.writeValueAsBytes(value);
+
+        assertThat(smile.readValue(smileBytes, type)).isEqualTo(json.readValue(jsonBytes, type));
+
+        report(label, "json", jsonBytes.length,
+            encodeTime(value, json::writeValueAsBytes), decodeTime(jsonBytes, bytes -> json.readValue(bytes, type)));
+        report("", "json+gzip", gzipBytes.length,
+            encodeTime(value, v -> gzip(json.writeValueAsBytes(v))), decodeTime(gzipBytes, bytes -> json.readValue(gunzip(bytes), type)));
+        report("", "smile", smileBytes.length,
+            encodeTime(value, smile::writeValueAsBytes), decodeTime(smileBytes, bytes -> smile.readValue(bytes, type)));
+        return new Result(jsonBytes.length, smileBytes.length);
+    }
+
+    private static double encodeTime(Object value, Codec codec) throws IOException {
+        long[] samples = new long[RUNS];
+        for (int i = 0; i < WARMUP; i++) {
+            codec.encode(value);
+        }
+        for (int i = 0; i < RUNS; i++) {
+            long begin = System.nanoTime();
+            codec.encode(value);
+            samples[i] = System.nanoTime() - begin;
+        }
+        return median(samples);
+    }
+
+    private static double decodeTime(byte[] bytes, Decoder decoder) throws IOException {
+        long[] samples = new long[RUNS];
+        for (int i = 0; i < WARMUP; i++) {
+            decoder.decode(bytes);
+        }
+        for (int i = 0; i < RUNS; i++) {
+            long begin = System.nanoTime();
+            decoder.decode(bytes);
+            samples[i] = System.nanoTime() - begin;
+        }
+        return median(samples);
+    }
+
+    private static double median(long[] samples) {
+        Arrays.sort(samples);
+        return samples[samples.length / 2] / 1_000.0;
+    }
+
+    private static void report(String label, String format, int bytes, double encodeMicros, double decodeMicros) {
+        System.out.printf("%-36s %-10s %10d %12.1f %12.1f%n", label, format, bytes, encodeMicros, decodeMicros);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gzip.readAllBytes();
+        }
+    }
+
+    private static ProfileDetailDto profileDetail() {
+        Instant now = Instant.parse("2026-01-15T10:00:00Z");
+        String serviceId = UUID.randomUUID().toString();
+        List<ProfileDetailDto.ClientEnrollmentDto> clients = List.of(
+            new ProfileDetailDto.ClientEnrollmentDto("srf:123456789", "Northwind Holdings Ltd", true, "AUTOMATIC", now),
+            new ProfileDetailDto.ClientEnrollmentDto("srf:987654321", "Northwind Logistics Inc", false, "MANUAL", now));
+        List<ProfileDetailDto.ServiceEnrollmentDto> services = List.of(
+            new ProfileDetailDto.ServiceEnrollmentDto(serviceId, "RECEIVABLES", "ACTIVE", "{\"limit\":1000000}", now));
+        List<ProfileDetailDto.AccountEnrollmentDto> accounts = new ArrayList<>(ACCOUNT_ENROLLMENTS);
+        for (int i = 0; i < ACCOUNT_ENROLLMENTS; i++) {
+            accounts.add(new ProfileDetailDto.AccountEnrollmentDto(
+                UUID.randomUUID().toString(), i % 2 == 0 ? "srf:123456789" : "srf:987654321",
+                "CAN_DDA:DDA:%05d:%012d".formatted(i % 900 + 100, i), i % 3 == 0 ? serviceId : null,
+                "ACTIVE", now.plusSeconds(i)));
+        }
+        return new ProfileDetailDto("servicing:srf:123456789", "Northwind Holdings Ltd", "SERVICING", "ACTIVE",
+            "admin@bank.example", now, now, clients, services, accounts);
+    }
+
+    private static List<BatchItemDto> batchItems() {
+        Instant now = Instant.parse("2026-01-15T10:00:00Z");
+        List<BatchItemDto> items = new ArrayList<>(BATCH_ITEMS);
+        for (int i = 0; i < BATCH_ITEMS; i++) {
+            boolean failed = i % 10 == 0;
+            items.add(new BatchItemDto(
+                UUID.randomUUID().toString(), i + 1, "Payor Business " + i,
+                failed ? "FAILED" : "SUCCESS", failed ? "Failed" : "Success",
+                failed ? null : new BatchItemDto.BatchItemResultDto(
+                    "ind:" + UUID.randomUUID(), "indirect:ind:" + UUID.randomUUID(),
+                    List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString())),
+                failed ? "Duplicate external reference PAYOR-" + i : null,
+                now.plusMillis(i * 37L)));
+        }
+        return items;
+    }
+
+    private static BatchDetailDto batchDetail() {
+        Instant now = Instant.parse("2026-01-15T10:00:00Z");
+        return new BatchDetailDto(UUID.randomUUID().toString(), "PAYOR_ENROLMENT", "Payor Enrolment",
+            "servicing:srf:123456789", "COMPLETED_WITH_ERRORS", "Completed with errors",
+            BATCH_ITEMS, BATCH_ITEMS * 9 / 10, BATCH_ITEMS / 10, 0, now, "admin@bank.example", now, now.plusSeconds(90));
+    }
+}
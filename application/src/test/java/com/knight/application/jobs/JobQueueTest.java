@@ -0,0 +1,190 @@
+package com.knight.application.jobs;
+
+import com.knight.application.persistence.jobs.entity.BackgroundJobEntity;
+import com.knight.application.persistence.jobs.repository.BackgroundJobJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for JobQueue.
+ */
+@ExtendWith(MockitoExtension.class)
+class JobQueueTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+    private static final String OWNER = "node-1";
+    private static final String BATCH_ID = UUID.randomUUID().toString();
+
+    @Mock
+    private BackgroundJobJpaRepository repository;
+
+    @Mock
+    private JobHandler handler;
+
+    private JobQueue jobQueue;
+
+    @BeforeEach
+    void setUp() {
+        when(handler.type()).thenReturn(JobType.PAYOR_ENROLMENT);
+        jobQueue = new JobQueue(repository, List.of(handler), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static BackgroundJobEntity activeJob(JobStatus status, int attempts) {
+        BackgroundJobEntity job = new BackgroundJobEntity();
+        job.setJobId(UUID.randomUUID());
+        job.setJobType(JobType.PAYOR_ENROLMENT.name());
+        job.setReferenceId(BATCH_ID);
+        job.setPartitionKey("profile-a");
+        job.setStatus(status.name());
+        job.setAttempts(attempts);
+        job.setEnqueuedAt(NOW);
+        return job;
+    }
+
+    private static JobContext context(UUID jobId, int attempt) {
+        return new JobContext(jobId, JobType.PAYOR_ENROLMENT, BATCH_ID, attempt, NOW, false);
+    }
+
+    @Nested
+    @DisplayName("Enqueue")
+    class EnqueueTests {
+
+        @Test
+        @DisplayName("should persist a queued job")
+        void shouldPersistQueuedJob() {
+            when(repository.findFirstByJobTypeAndReferenceIdAndStatusIn(eq("PAYOR_ENROLMENT"), eq(BATCH_ID), anyCollection()))
+                .thenReturn(Optional.empty());
+
+            UUID jobId = jobQueue.enqueue(JobType.PAYOR_ENROLMENT, BATCH_ID, "profile-a");
+
+            ArgumentCaptor<BackgroundJobEntity> saved = ArgumentCaptor.forClass(BackgroundJobEntity.class);
+            verify(repository).save(saved.capture());
+            assertThat(saved.getValue().getJobId()).isEqualTo(jobId);
+            assertThat(saved.getValue().getStatus()).isEqualTo("QUEUED");
+            assertThat(saved.getValue().getPartitionKey()).isEqualTo("profile-a");
+            assertThat(saved.getValue().getEnqueuedAt()).isEqualTo(NOW);
+        }
+
+        @Test
+        @DisplayName("should return the active job instead of queueing the same batch twice")
+        void shouldReuseActiveJob() {
+            BackgroundJobEntity existing = activeJob(JobStatus.RUNNING, 1);
+            when(repository.findFirstByJobTypeAndReferenceIdAndStatusIn(eq("PAYOR_ENROLMENT"), eq(BATCH_ID), anyCollection()))
+                .thenReturn(Optional.of(existing));
+
+            assertThat(jobQueue.enqueue(JobType.PAYOR_ENROLMENT, BATCH_ID, "profile-a")).isEqualTo(existing.getJobId());
+            verify(repository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cancel")
+    class CancelTests {
+
+        @Test
+        @DisplayName("should cancel a queued job and abandon its batch")
+        void shouldCancelQueuedJob() {
+            BackgroundJobEntity job = activeJob(JobStatus.QUEUED, 0);
+            when(repository.findFirstByJobTypeAndReferenceIdAndStatusIn(eq("PAYOR_ENROLMENT"), eq(BATCH_ID), anyCollection()))
+                .thenReturn(Optional.of(job));
+            when(repository.cancelQueued(job.getJobId(), NOW)).thenReturn(1);
+
+            assertThat(jobQueue.cancel(JobType.PAYOR_ENROLMENT, BATCH_ID)).isEqualTo(JobQueue.CancelOutcome.CANCELLED);
+            verify(handler).abandon(BATCH_ID, JobQueue.CANCELLED_REASON);
+        }
+
+        @Test
+        @DisplayName("should flag a running job and leave the batch to its worker")
+        void shouldFlagRunningJob() {
+            BackgroundJobEntity job = activeJob(JobStatus.RUNNING, 1);
+            when(repository.findFirstByJobTypeAndReferenceIdAndStatusIn(eq("PAYOR_ENROLMENT"), eq(BATCH_ID), anyCollection()))
+                .thenReturn(Optional.of(job));
+            when(repository.cancelQueued(job.getJobId(), NOW)).thenReturn(0);
+            when(repository.requestCancel(job.getJobId())).thenReturn(1);
+
+            assertThat(jobQueue.cancel(JobType.PAYOR_ENROLMENT, BATCH_ID)).isEqualTo(JobQueue.CancelOutcome.CANCEL_REQUESTED);
+            verify(handler, never()).abandon(any(), any());
+        }
+
+        @Test
+        @DisplayName("should report when there is nothing to cancel")
+        void shouldReportNotActive() {
+            when(repository.findFirstByJobTypeAndReferenceIdAndStatusIn(eq("PAYOR_ENROLMENT"), eq(BATCH_ID), anyCollection()))
+                .thenReturn(Optional.empty());
+
+            assertThat(jobQueue.cancel(JobType.PAYOR_ENROLMENT, BATCH_ID)).isEqualTo(JobQueue.CancelOutcome.NOT_ACTIVE);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failures and recovery")
+    class FailureTests {
+
+        @Test
+        @DisplayName("should retry a failed attempt while attempts remain")
+        void shouldRetryFailedAttempt() {
+            UUID jobId = UUID.randomUUID();
+            when(repository.retry(jobId, OWNER, "boom", NOW)).thenReturn(1);
+
+            assertThat(jobQueue.failed(context(jobId, 1), OWNER, new IllegalStateException("boom"), 3)).isTrue();
+            verify(handler, never()).abandon(any(), any());
+        }
+
+        @Test
+        @DisplayName("should give up and abandon the batch on the last attempt")
+        void shouldGiveUpOnLastAttempt() {
+            UUID jobId = UUID.randomUUID();
+            when(repository.finish(jobId, OWNER, "FAILED", "boom", NOW)).thenReturn(1);
+
+            assertThat(jobQueue.failed(context(jobId, 3), OWNER, new IllegalStateException("boom"), 3)).isFalse();
+            verify(handler).abandon(BATCH_ID, "Processing failed: boom");
+        }
+
+        @Test
+        @DisplayName("should not abandon the batch when settling a cancelled job another node already settled")
+        void shouldIgnoreCancelOfLostJob() {
+            UUID jobId = UUID.randomUUID();
+            when(repository.finish(eq(jobId), eq(OWNER), eq("CANCELLED"), isNull(), eq(NOW))).thenReturn(0);
+
+            jobQueue.cancelled(context(jobId, 1), OWNER);
+
+            verify(handler, never()).abandon(any(), any());
+        }
+
+        @Test
+        @DisplayName("should requeue orphaned jobs and give up on those out of attempts")
+        void shouldRecoverStaleJobs() {
+            Instant cutoff = NOW.minusSeconds(60);
+            BackgroundJobEntity retryable = activeJob(JobStatus.RUNNING, 1);
+            BackgroundJobEntity exhausted = activeJob(JobStatus.RUNNING, 3);
+            when(repository.findByStatusAndHeartbeatAtBefore("RUNNING", cutoff)).thenReturn(List.of(retryable, exhausted));
+            when(repository.requeueStale(retryable.getJobId(), cutoff)).thenReturn(1);
+            when(repository.failStale(exhausted.getJobId(), cutoff, NOW)).thenReturn(1);
+
+            assertThat(jobQueue.recoverStale(cutoff, 3)).isEqualTo(2);
+            verify(handler).abandon(BATCH_ID, "Processing was interrupted too many times");
+        }
+    }
+}
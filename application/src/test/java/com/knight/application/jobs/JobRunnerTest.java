@@ -0,0 +1,262 @@
+package com.knight.application.jobs;
+
+import com.knight.application.persistence.jobs.entity.BackgroundJobEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for JobRunner.
+ */
+class JobRunnerTest {
+
+    private static final String OWNER = "node-1";
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    private JobQueue jobQueue;
+    private JobProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService workers;
+    private BlockingHandler handler;
+    private JobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        jobQueue = mock(JobQueue.class);
+        properties = new JobProperties();
+        properties.setWorkers(2);
+        meterRegistry = new SimpleMeterRegistry();
+        workers = Executors.newFixedThreadPool(2);
+        handler = new BlockingHandler();
+        when(jobQueue.handlerFor(JobType.PAYOR_ENROLMENT)).thenReturn(handler);
+        runner = new JobRunner(jobQueue, properties, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC), workers, OWNER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.finish.countDown();
+        workers.shutdownNow();
+    }
+
+    private static BackgroundJobEntity job(String partition, int ageSeconds) {
+        BackgroundJobEntity job = new BackgroundJobEntity();
+        job.setJobId(UUID.randomUUID());
+        job.setJobType(JobType.PAYOR_ENROLMENT.name());
+        job.setReferenceId(UUID.randomUUID().toString());
+        job.setPartitionKey(partition);
+        job.setStatus(JobStatus.QUEUED.name());
+        job.setAttempts(1);
+        job.setEnqueuedAt(NOW.minusSeconds(ageSeconds));
+        job.setStartedAt(NOW);
+        return job;
+    }
+
+    private BackgroundJobEntity queueOne() {
+        BackgroundJobEntity job = job("profile-a", 5);
+        when(jobQueue.queueDepth()).thenReturn(1L);
+        when(jobQueue.queued(anyInt())).thenReturn(List.of(job));
+        when(jobQueue.runningPerPartition()).thenReturn(Map.of());
+        when(jobQueue.claim(job.getJobId(), OWNER)).thenReturn(Optional.of(job));
+        return job;
+    }
+
+    @Nested
+    @DisplayName("Fair selection")
+    class FairSelectionTests {
+
+        @Test
+        @DisplayName("should spread free workers across profiles instead of draining the oldest profile")
+        void shouldSpreadAcrossProfiles() {
+            BackgroundJobEntity a1 = job("a", 50);
+            BackgroundJobEntity a2 = job("a", 40);
+            BackgroundJobEntity a3 = job("a", 30);
+            BackgroundJobEntity b1 = job("b", 20);
+            BackgroundJobEntity c1 = job("c", 10);
+
+            List<BackgroundJobEntity> selected = JobRunner.selectFair(
+                List.of(a1, a2, a3, b1, c1), Map.of(), 3, 2);
+
+            assertThat(selected).containsExactly(a1, b1, c1);
+        }
+
+        @Test
+        @DisplayName("should skip profiles already at their running limit")
+        void shouldRespectRunningLimit() {
+            BackgroundJobEntity a1 = job("a", 50);
+            BackgroundJobEntity b1 = job("b", 20);
+
+            List<BackgroundJobEntity> selected = JobRunner.selectFair(
+                List.of(a1, b1), Map.of("a", 1L), 2, 1);
+
+            assertThat(selected).containsExactly(b1);
+        }
+
+        @Test
+        @DisplayName("should prefer the least busy profile over the oldest job")
+        void shouldPreferLeastBusyProfile() {
+            BackgroundJobEntity a1 = job("a", 50);
+            BackgroundJobEntity b1 = job("b", 20);
+
+            List<BackgroundJobEntity> selected = JobRunner.selectFair(
+                List.of(a1, b1), Map.of("a", 1L), 1, 3);
+
+            assertThat(selected).containsExactly(b1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Running jobs")
+    class RunTests {
+
+        @Test
+        @DisplayName("should run a claimed job on a worker and mark it succeeded")
+        void shouldRunAndSucceed() {
+            BackgroundJobEntity job = queueOne();
+
+            runner.dispatch();
+            handler.finish.countDown();
+
+            verify(jobQueue, timeout(2000)).succeed(job.getJobId(), OWNER);
+            await().atMost(2, TimeUnit.SECONDS).until(() -> runner.runningCount() == 0);
+            assertThat(meterRegistry.get(JobRunner.WAIT_METRIC).timer().totalTime(TimeUnit.SECONDS)).isEqualTo(5);
+            assertThat(meterRegistry.get(JobRunner.RUN_METRIC).tag("outcome", "succeeded").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should not claim more jobs than there are free workers")
+        void shouldNotClaimBeyondFreeWorkers() throws Exception {
+            properties.setWorkers(1);
+            BackgroundJobEntity job = queueOne();
+
+            runner.dispatch();
+            assertThat(handler.started.await(2, TimeUnit.SECONDS)).isTrue();
+            runner.dispatch();
+
+            verify(jobQueue, timeout(2000).times(1)).claim(job.getJobId(), OWNER);
+            assertThat(meterRegistry.get(JobRunner.QUEUE_DEPTH_METRIC).gauge().value()).isEqualTo(1);
+            assertThat(meterRegistry.get(JobRunner.RUNNING_METRIC).gauge().value()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should stop and settle as cancelled when a heartbeat sees a cancellation request")
+        void shouldPropagateCancellation() throws Exception {
+            BackgroundJobEntity job = queueOne();
+            runner.dispatch();
+            assertThat(handler.started.await(2, TimeUnit.SECONDS)).isTrue();
+
+            BackgroundJobEntity current = job("profile-a", 5);
+            current.setJobId(job.getJobId());
+            current.setOwner(OWNER);
+            current.setStatus(JobStatus.RUNNING.name());
+            current.setCancelRequested(true);
+            when(jobQueue.heartbeat(eq(OWNER), anyCollection())).thenReturn(Map.of(job.getJobId(), current));
+
+            runner.heartbeat();
+
+            verify(jobQueue, timeout(2000)).cancelled(any(JobContext.class), eq(OWNER));
+            verify(jobQueue, never()).succeed(any(), any());
+        }
+
+        @Test
+        @DisplayName("should leave a job alone once another node has taken it over")
+        void shouldNotSettleLostJob() throws Exception {
+            BackgroundJobEntity job = queueOne();
+            runner.dispatch();
+            assertThat(handler.started.await(2, TimeUnit.SECONDS)).isTrue();
+
+            BackgroundJobEntity current = job("profile-a", 5);
+            current.setJobId(job.getJobId());
+            current.setOwner("node-2");
+            current.setStatus(JobStatus.RUNNING.name());
+            when(jobQueue.heartbeat(eq(OWNER), anyCollection())).thenReturn(Map.of(job.getJobId(), current));
+
+            runner.heartbeat();
+
+            await().atMost(2, TimeUnit.SECONDS).until(() -> runner.runningCount() == 0);
+            verify(jobQueue, never()).succeed(any(), any());
+            verify(jobQueue, never()).cancelled(any(), any());
+        }
+
+        @Test
+        @DisplayName("should report a failed attempt to the queue")
+        void shouldReportFailure() {
+            BackgroundJobEntity job = queueOne();
+            handler.failure = new IllegalStateException("boom");
+
+            runner.dispatch();
+            handler.finish.countDown();
+
+            verify(jobQueue, timeout(2000)).failed(any(JobContext.class), eq(OWNER), eq(handler.failure), eq(3));
+            verify(jobQueue, never()).succeed(job.getJobId(), OWNER);
+        }
+
+        @Test
+        @DisplayName("should hand running jobs back to the queue on shutdown")
+        void shouldReleaseOnShutdown() throws Exception {
+            BackgroundJobEntity job = queueOne();
+            runner.dispatch();
+            assertThat(handler.started.await(2, TimeUnit.SECONDS)).isTrue();
+
+            runner.shutdown();
+
+            verify(jobQueue).release(job.getJobId(), OWNER);
+            verify(jobQueue, never()).succeed(any(), any());
+        }
+    }
+
+    /**
+     * Handler that runs until finished or told to stop.
+     */
+    static final class BlockingHandler implements JobHandler {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch finish = new CountDownLatch(1);
+        volatile RuntimeException failure;
+
+        @Override
+        public JobType type() {
+            return JobType.PAYOR_ENROLMENT;
+        }
+
+        @Override
+        public void run(JobContext context) throws Exception {
+            started.countDown();
+            while (!context.shouldStop() && !finish.await(10, TimeUnit.MILLISECONDS)) {
+                // simulate work between stop checks
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        @Override
+        public void abandon(String referenceId, String reason) {
+        }
+    }
+}
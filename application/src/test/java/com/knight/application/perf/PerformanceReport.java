@@ -0,0 +1,136 @@
+package com.knight.application.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latency and statement-count figures per endpoint from a performance run, and the comparison of
+ * a run against a baseline run.
+ *
+ * Percentiles are nearest-rank over the measured (post warm-up) samples. A report is written as
+ * JSON so that the report of an accepted run can be kept and passed back in as the baseline.
+ */
+public class PerformanceReport {
+
+    /**
+     * Figures for one endpoint.
+     *
+     * @param samples        measured requests
+     * @param p50Millis      median latency
+     * @param p99Millis      99th percentile latency
+     * @param maxMillis      slowest request
+     * @param meanStatements statements per request, on average
+     * @param maxStatements  statements of the request that ran the most
+     */
+    public record EndpointFigures(int samples, double p50Millis, double p99Millis, double maxMillis,
+                                  double meanStatements, long maxStatements) {
+    }
+
+    /**
+     * The dataset a run was made against, and its figures by endpoint.
+     */
+    public record Run(Map<String, Object> dataset, Map<String, EndpointFigures> endpoints) {
+    }
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<String, Object> dataset;
+    private final Map<String, List<long[]>> samples = new LinkedHashMap<>();
+
+    public PerformanceReport(Map<String, Object> dataset) {
+        this.dataset = dataset;
+    }
+
+    /**
+     * Record one measured request.
+     */
+    public void record(String endpoint, long latencyNanos, long statements) {
+        samples.computeIfAbsent(endpoint, name -> new ArrayList<>()).add(new long[] {latencyNanos, statements});
+    }
+
+    public Run run() {
+        Map<String, EndpointFigures> endpoints = new LinkedHashMap<>();
+        samples.forEach((endpoint, recorded) -> endpoints.put(endpoint, figures(recorded)));
+        return new Run(dataset, endpoints);
+    }
+
+    static EndpointFigures figures(List<long[]> recorded) {
+        long[] latencies = recorded.stream().mapToLong(sample -> sample[0]).sorted().toArray();
+        long[] statements = recorded.stream().mapToLong(sample -> sample[1]).toArray();
+        return new EndpointFigures(
+            latencies.length,
+            millis(percentile(latencies, 50)),
+            millis(percentile(latencies, 99)),
+            millis(latencies[latencies.length - 1]),
+            Arrays.stream(statements).average().orElse(0),
+            Arrays.stream(statements).max().orElse(0));
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values.
+     */
+    static long percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        JSON.writeValue(file.toFile(), run());
+    }
+
+    public static Run read(Path file) throws IOException {
+        return JSON.readValue(file.toFile(), Run.class);
+    }
+
+    /**
+     * Where this run is worse than the baseline: a p99 latency more than the tolerance above the
+     * baseline's, or any request running more statements than the baseline's worst. Endpoints
+     * missing from the baseline are not compared.
+     *
+     * @param latencyTolerance allowed p99 growth, as a fraction (0.25 allows 25%)
+     */
+    public List<String> regressionsAgainst(Run baseline, double latencyTolerance) {
+        List<String> regressions = new ArrayList<>();
+        run().endpoints().forEach((endpoint, current) -> {
+            EndpointFigures before = baseline.endpoints().get(endpoint);
+            if (before == null) {
+                return;
+            }
+            if (current.p99Millis() > before.p99Millis() * (1 + latencyTolerance)) {
+                regressions.add(String.format("%s: p99 %.2f ms, baseline %.2f ms",
+                    endpoint, current.p99Millis(), before.p99Millis()));
+            }
+            if (current.maxStatements() > before.maxStatements()) {
+                regressions.add(String.format("%s: up to %d statements per request, baseline %d",
+                    endpoint, current.maxStatements(), before.maxStatements()));
+            }
+        });
+        return regressions;
+    }
+
+    /**
+     * The figures as a fixed-width table, for the log.
+     */
+    public String table() {
+        StringBuilder table = new StringBuilder(String.format("%-36s %8s %10s %10s %10s %12s %10s%n",
+            "endpoint", "samples", "p50 ms", "p99 ms", "max ms", "mean stmts", "max stmts"));
+        run().endpoints().forEach((endpoint, figures) -> table.append(String.format(
+            "%-36s %8d %10.2f %10.2f %10.2f %12.1f %10d%n", endpoint, figures.samples(), figures.p50Millis(),
+            figures.p99Millis(), figures.maxMillis(), figures.meanStatements(), figures.maxStatements())));
+        return table.toString();
+    }
+}
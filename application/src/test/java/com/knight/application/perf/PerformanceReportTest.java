@@ -0,0 +1,68 @@
+package com.knight.application.perf;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerformanceReportTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void percentilesAreNearestRank() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i + 1;
+        }
+
+        assertThat(PerformanceReport.percentile(sorted, 50)).isEqualTo(50);
+        assertThat(PerformanceReport.percentile(sorted, 99)).isEqualTo(99);
+        assertThat(PerformanceReport.percentile(new long[] {7}, 99)).isEqualTo(7);
+    }
+
+    @Test
+    void figuresSummariseLatencyAndStatements() {
+        PerformanceReport report = new PerformanceReport(Map.of());
+        report.record("search", 3 * MS, 2);
+        report.record("search", 1 * MS, 1);
+        report.record("search", 2 * MS, 3);
+
+        PerformanceReport.EndpointFigures figures = report.run().endpoints().get("search");
+
+        assertThat(figures.samples()).isEqualTo(3);
+        assertThat(figures.p50Millis()).isEqualTo(2.0);
+        assertThat(figures.maxMillis()).isEqualTo(3.0);
+        assertThat(figures.meanStatements()).isEqualTo(2.0);
+        assertThat(figures.maxStatements()).isEqualTo(3);
+    }
+
+    @Test
+    void reportsReadBackAsBaselines(@TempDir Path dir) throws Exception {
+        PerformanceReport report = new PerformanceReport(Map.of("clients", 500));
+        report.record("search", 2 * MS, 1);
+        Path file = dir.resolve("report.json");
+
+        report.write(file);
+
+        assertThat(PerformanceReport.read(file)).isEqualTo(report.run());
+    }
+
+    @Test
+    void flagsSlowerP99AndExtraStatements() {
+        PerformanceReport baseline = new PerformanceReport(Map.of());
+        baseline.record("search", 10 * MS, 1);
+        baseline.record("detail", 10 * MS, 4);
+        PerformanceReport current = new PerformanceReport(Map.of());
+        current.record("search", 12 * MS, 1);
+        current.record("detail", 13 * MS, 5);
+        current.record("new endpoint", 100 * MS, 50);
+
+        assertThat(current.regressionsAgainst(baseline.run(), 0.25)).containsExactly(
+            "detail: p99 13.00 ms, baseline 10.00 ms",
+            "detail: up to 5 statements per request, baseline 4");
+    }
+}
@@ -0,0 +1,154 @@
+package com.knight.application.perf;
+
+import com.knight.application.testdata.ScaleDataGenerator;
+import com.knight.application.testdata.ScaleDataGenerator.ScaleDataset;
+import com.knight.application.testdata.ScaleDataSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Performance regression suite: loads a scale dataset, drives the key bank endpoints against it
+ * and records p50/p99 latency and SQL statements per request to {@code target/performance/report.json}.
+ *
+ * The endpoints are client search, the profile detail of the large profile and of a single-client
+ * profile, an authorization check for a user in several large groups, and queueing a batch for
+ * execution (job workers are off, so only the request itself is measured).
+ *
+ * Given a baseline report ({@code -Dperf.baseline=path/to/report.json}) the run fails when an
+ * endpoint's p99 grows by more than {@code perf.latency-tolerance} (default 0.25) or a request
+ * runs more statements than the baseline's worst. Latency is only comparable between runs on the
+ * same machine and database; statement counts are comparable anywhere.
+ *
+ * Usage:
+ * ./scripts/run-performance-suite.sh
+ *
+ * The "perf" profile goes after a database profile. With "h2,perf" the suite runs against in-memory
+ * H2, loading the "ci" scale by default; see {@link ScaleDataSpec} for the {@code scale.*} properties.
+ * With "test,perf" it runs against SQL Server; load the dataset there once with
+ * {@link com.knight.application.testdata.ScaleDataRunner} and run with {@code -Dperf.generate=false}.
+ * Jobs queued by earlier runs are cleared first, so reruns measure the same work.
+ *
+ * This test only runs when RUN_PERFORMANCE_SUITE environment variable is set to "true".
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+@Import(StatementCountingConfiguration.class)
+@EnabledIfEnvironmentVariable(named = "RUN_PERFORMANCE_SUITE", matches = "true")
+class PerformanceSuiteRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PerformanceSuiteRunner.class);
+
+    private static final String[] SEARCH_TERMS = {"Northwind", "Maple", "Summit", "Harbour", "Granite", "Aurora"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final int warmup = Integer.getInteger("perf.warmup", 50);
+    private final int iterations = Integer.getInteger("perf.iterations", 200);
+
+    @Test
+    void runPerformanceSuite() throws Exception {
+        ScaleDataSpec spec = ScaleDataSpec.fromSystemProperties(ScaleDataSpec.ci());
+        assertThat(spec.batches()).as("one pending batch per batch execute request")
+            .isGreaterThanOrEqualTo(warmup + iterations);
+        ScaleDataset dataset = Boolean.parseBoolean(System.getProperty("perf.generate", "true"))
+            ? new ScaleDataGenerator(jdbcTemplate, transactionManager).generate(spec)
+            : new ScaleDataset(spec);
+        jdbcTemplate.update("DELETE FROM background_jobs WHERE partition_key = ?", dataset.largeProfileUrn());
+
+        Map<String, Object> described = new LinkedHashMap<>();
+        described.put("spec", spec);
+        described.put("database", jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        PerformanceReport report = new PerformanceReport(described);
+
+        String large = dataset.largeProfileUrn();
+        String single = dataset.profileUrn(spec.clients() - 1);
+        String groupMember = dataset.userId(dataset.groupMember(0, 0)).toString();
+        String account = dataset.accountUrn(0, 0);
+
+        measure(report, "client search by name", i -> get("/api/v1/bank/clients")
+            .param("name", SEARCH_TERMS[i % SEARCH_TERMS.length])
+            .param("page", String.valueOf(i % 5))
+            .param("size", "20"));
+        measure(report, "client search by id", i -> get("/api/v1/bank/clients")
+            .param("clientId", dataset.clientUrn(i % spec.clients())));
+        measure(report, "profile detail (large)", i -> get("/api/v1/bank/profiles/{profileId}/detail", large));
+        measure(report, "profile detail (single client)", i -> get("/api/v1/bank/profiles/{profileId}/detail", single));
+        measure(report, "authorization check", i -> post("/api/v1/bank/profiles/{profileId}/authorize", large)
+            .header("X-User-Id", groupMember)
+            .header("X-User-Roles", "READER,CREATOR")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"action\": \"payments.wire.approve\", \"resourceId\": \"" + account + "\"}"));
+        measure(report, "batch execute", i -> post("/api/v1/bank/profiles/{profileId}/payor-enrolment/execute", large)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"batchId\": \"" + dataset.batchId(i) + "\"}"));
+
+        Path output = Path.of(System.getProperty("perf.report", "target/performance/report.json"));
+        report.write(output);
+        log.info("Performance report written to {}\n{}", output.toAbsolutePath(), report.table());
+
+        String baseline = System.getProperty("perf.baseline");
+        if (baseline != null && Files.exists(Path.of(baseline))) {
+            double tolerance = Double.parseDouble(System.getProperty("perf.latency-tolerance", "0.25"));
+            List<String> regressions = report.regressionsAgainst(PerformanceReport.read(Path.of(baseline)), tolerance);
+            assertThat(regressions).as("regressions against %s", baseline).isEmpty();
+        }
+    }
+
+    /**
+     * Sends the warm-up requests, then the measured ones. Requests are numbered on across both
+     * phases, so a request that consumes something (a pending batch) never reuses a warm-up's.
+     */
+    private void measure(PerformanceReport report, String endpoint, IntFunction<RequestBuilder> request) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            send(endpoint, request.apply(i));
+        }
+        for (int i = warmup; i < warmup + iterations; i++) {
+            RequestBuilder builder = request.apply(i);
+            StatementCounter.start();
+            long started = System.nanoTime();
+            try {
+                send(endpoint, builder);
+            } finally {
+                long latency = System.nanoTime() - started;
+                report.record(endpoint, latency, StatementCounter.stop().statements());
+            }
+        }
+    }
+
+    private void send(String endpoint, RequestBuilder request) throws Exception {
+        int status = mockMvc.perform(request).andReturn().getResponse().getStatus();
+        assertThat(status).as("%s status", endpoint).isBetween(200, 299);
+    }
+}
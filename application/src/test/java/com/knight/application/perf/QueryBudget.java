@@ -0,0 +1,44 @@
+package com.knight.application.perf;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The most a single MockMvc request in the annotated test may cost: SQL statements, rows read
+ * back and bytes allocated by the request thread. On a class it applies to every test in it,
+ * nested classes included; a test's own budget replaces its class's.
+ *
+ * The test's Spring context needs {@link QueryBudgetConfiguration}, which measures the requests.
+ * Each request starts from an empty persistence context, so entities a {@code @Transactional}
+ * test saved beforehand are read back from the database rather than served from the session.
+ *
+ * Statement and row counts are exact and stable. Allocation varies with the JIT and with what a
+ * request is the first to use, so allocation budgets should leave headroom; the first request in
+ * a Spring context, which initialises the dispatcher servlet, is not held to one.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /**
+     * Most SQL statements per request.
+     */
+    int max();
+
+    /**
+     * Most rows read from result sets per request.
+     */
+    long maxRows() default Long.MAX_VALUE;
+
+    /**
+     * Most bytes allocated by the request thread per request.
+     */
+    long maxAllocatedBytes() default Long.MAX_VALUE;
+}
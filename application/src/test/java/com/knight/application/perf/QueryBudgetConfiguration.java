@@ -0,0 +1,26 @@
+package com.knight.application.perf;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+
+/**
+ * Measures MockMvc requests for {@link QueryBudget} tests. Import it into the test's context
+ * alongside {@code @AutoConfigureMockMvc}.
+ */
+@TestConfiguration
+@Import(StatementCountingConfiguration.class)
+public class QueryBudgetConfiguration {
+
+    @Bean
+    FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(EntityManagerFactory entityManagerFactory) {
+        FilterRegistrationBean<QueryBudgetFilter> registration =
+            new FilterRegistrationBean<>(new QueryBudgetFilter(entityManagerFactory));
+        // Outermost, so that security and every other filter count against the request
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
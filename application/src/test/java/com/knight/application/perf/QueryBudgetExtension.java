@@ -0,0 +1,95 @@
+package com.knight.application.perf;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Holds a {@link QueryBudget}-annotated test to its budget: every request
+ * {@link QueryBudgetFilter} measures while the test runs must stay within it.
+ */
+public class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    /**
+     * What one request cost.
+     *
+     * @param request        method and URI
+     * @param statements     SQL statements executed
+     * @param rows           rows read back
+     * @param allocatedBytes bytes allocated by the request thread, or -1 where not measured
+     */
+    public record RequestCost(String request, long statements, long rows, long allocatedBytes) {
+    }
+
+    private static final ThreadLocal<List<RequestCost>> RECORDED = new ThreadLocal<>();
+
+    /**
+     * Whether a budgeted test is running on this thread.
+     */
+    static boolean recording() {
+        return RECORDED.get() != null;
+    }
+
+    static void record(RequestCost cost) {
+        List<RequestCost> recorded = RECORDED.get();
+        if (recorded != null) {
+            recorded.add(cost);
+        }
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        RECORDED.set(new ArrayList<>());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        List<RequestCost> recorded = RECORDED.get();
+        RECORDED.remove();
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        QueryBudget budget = budgetOf(context).orElseThrow();
+        if (recorded.isEmpty()) {
+            throw new AssertionError("@QueryBudget test made no measured requests; "
+                + "is QueryBudgetConfiguration imported into its context?");
+        }
+        List<String> overruns = new ArrayList<>();
+        for (RequestCost cost : recorded) {
+            if (cost.statements() > budget.max()) {
+                overruns.add(String.format("%s ran %d statements, budget %d",
+                    cost.request(), cost.statements(), budget.max()));
+            }
+            if (cost.rows() > budget.maxRows()) {
+                overruns.add(String.format("%s read %d rows, budget %d",
+                    cost.request(), cost.rows(), budget.maxRows()));
+            }
+            if (cost.allocatedBytes() >= 0 && cost.allocatedBytes() > budget.maxAllocatedBytes()) {
+                overruns.add(String.format("%s allocated %d bytes, budget %d",
+                    cost.request(), cost.allocatedBytes(), budget.maxAllocatedBytes()));
+            }
+        }
+        if (!overruns.isEmpty()) {
+            throw new AssertionError("Query budget exceeded:\n  " + String.join("\n  ", overruns));
+        }
+    }
+
+    /**
+     * The budget on the test method, else on the nearest enclosing class that has one.
+     */
+    private static Optional<QueryBudget> budgetOf(ExtensionContext context) {
+        for (Optional<ExtensionContext> current = Optional.of(context); current.isPresent();
+             current = current.get().getParent()) {
+            Optional<QueryBudget> budget = AnnotationSupport.findAnnotation(current.get().getElement(), QueryBudget.class);
+            if (budget.isPresent()) {
+                return budget;
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,82 @@
+package com.knight.application.perf;
+
+import com.knight.application.perf.QueryBudgetExtension.RequestCost;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures each request made while a {@link QueryBudget} test runs and hands the cost to
+ * {@link QueryBudgetExtension}. MockMvc runs requests on the test's own thread, which is what
+ * lets statement counting and thread allocation be attributed to the request.
+ */
+class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AtomicBoolean initialised = new AtomicBoolean();
+
+    QueryBudgetFilter(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!QueryBudgetExtension.recording()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        startFromEmptySession();
+        // The context's first request initialises the dispatcher servlet: its allocation is not the endpoint's
+        boolean first = initialised.compareAndSet(false, true);
+        long allocatedBefore = first ? -1 : allocatedBytes();
+        StatementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            StatementCounter.Counts counts = StatementCounter.stop();
+            long allocatedAfter = allocatedBytes();
+            QueryBudgetExtension.record(new RequestCost(
+                request.getMethod() + " " + request.getRequestURI(),
+                counts.statements(),
+                counts.rows(),
+                allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore));
+        }
+    }
+
+    /**
+     * Writes out and forgets what a transactional test has in the session, so the request loads
+     * everything it needs as it would in production.
+     */
+    private void startFromEmptySession() {
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager != null) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        }
+        return null;
+    }
+}
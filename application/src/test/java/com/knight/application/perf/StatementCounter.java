@@ -0,0 +1,136 @@
+package com.knight.application.perf;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Counts the SQL statements the current thread sends to the database, whether issued by
+ * Hibernate or by a JdbcTemplate, and the rows their result sets return. A JDBC batch counts
+ * once: it is one round trip.
+ *
+ * Counting is per thread and only between {@link #start()} and {@link #stop()}, so work done
+ * by background jobs and schedulers while a request is measured is not counted against it.
+ */
+public final class StatementCounter {
+
+    /**
+     * What the thread sent and got back while counting.
+     *
+     * @param statements statements executed
+     * @param rows       rows read from their result sets
+     */
+    public record Counts(long statements, long rows) {
+    }
+
+    private static final int STATEMENTS = 0;
+    private static final int ROWS = 1;
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    /**
+     * Start counting on this thread, from zero.
+     */
+    public static void start() {
+        COUNT.set(new long[2]);
+    }
+
+    /**
+     * Stop counting on this thread.
+     *
+     * @return the statements executed and rows read since {@link #start()}
+     */
+    public static Counts stop() {
+        long[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? new Counts(count[STATEMENTS], count[ROWS]) : new Counts(0, 0);
+    }
+
+    /**
+     * The data source wrapped so that statements executed through it are counted.
+     */
+    public static DataSource counting(DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return countingConnection(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return countingConnection(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof CallableStatement statement) {
+                return countingStatement(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return countingStatement(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return countingStatement(Statement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private static <T extends Statement> T countingStatement(Class<T> type, T statement) {
+        return proxy(type, (method, args) -> {
+            long[] count = COUNT.get();
+            if (count != null && method.getName().startsWith("execute")) {
+                count[STATEMENTS]++;
+            }
+            Object result = invoke(statement, method, args);
+            return result instanceof ResultSet resultSet ? countingResultSet(resultSet) : result;
+        });
+    }
+
+    private static ResultSet countingResultSet(ResultSet resultSet) {
+        return proxy(ResultSet.class, (method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            long[] count = COUNT.get();
+            if (count != null && method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                count[ROWS]++;
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Handles a call made through a proxy.
+     */
+    private interface Call {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, Call call) {
+        InvocationHandler handler = (proxy, method, args) -> call.handle(method, args);
+        return type.cast(Proxy.newProxyInstance(StatementCounter.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.knight.application.perf;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Test configuration that counts the statements sent through the application's data source;
+ * see {@link StatementCounter}. Pools used directly, by Flyway or the replica lag check, are not counted.
+ */
+@TestConfiguration
+public class StatementCountingConfiguration {
+
+    @Bean
+    static BeanPostProcessor statementCountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return StatementCounter.counting(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,171 @@
+package com.knight.application.persistence.accountgroups.repository;
+
+import com.knight.domain.serviceprofiles.aggregate.AccountGroup;
+import com.knight.domain.serviceprofiles.repository.AccountGroupRepository;
+import com.knight.domain.serviceprofiles.repository.AccountGroupRepository.GroupSummary;
+import com.knight.platform.sharedkernel.ClientAccountId;
+import com.knight.platform.sharedkernel.ProfileId;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for AccountGroupRepositoryAdapter.
+ * Tests membership deltas and summaries with H2 database.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;MODE=MSSQLServer",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.flyway.enabled=false",
+    "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+    "spring.kafka.listener.auto-startup=false",
+    "spring.kafka.consumer.auto-startup=false"
+})
+class AccountGroupRepositoryAdapterTest {
+
+    @Autowired
+    private AccountGroupRepository repository;
+
+    @Autowired
+    private AccountGroupJpaRepository jpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final ProfileId PROFILE_ID = ProfileId.fromUrn("servicing:srf:123456789");
+    private static final ClientAccountId ACCOUNT_ID_1 = ClientAccountId.of("CAN_DDA:DDA:12345:000000000001");
+    private static final ClientAccountId ACCOUNT_ID_2 = ClientAccountId.of("CAN_DDA:DDA:12345:000000000002");
+    private static final ClientAccountId ACCOUNT_ID_3 = ClientAccountId.of("CAN_DDA:DDA:12345:000000000003");
+
+    private AccountGroup group;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository.deleteAll();
+        group = AccountGroup.create(PROFILE_ID, "Treasury", "Treasury accounts", "testUser");
+        group.addAccounts(Set.of(ACCOUNT_ID_1, ACCOUNT_ID_2));
+        repository.save(group);
+        flushAndClear();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Timestamp addedAt(ClientAccountId accountId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT added_at FROM account_group_members WHERE group_id = ? AND account_id = ?",
+            Timestamp.class, group.id().value(), accountId.urn());
+    }
+
+    // ==================== Membership Deltas ====================
+
+    @Nested
+    @DisplayName("Membership Deltas")
+    class MembershipDeltaTests {
+
+        @Test
+        @DisplayName("should insert only accounts not already in the group")
+        void shouldAddOnlyNewMembers() {
+            Set<ClientAccountId> added = repository.addMembers(group.id(), List.of(ACCOUNT_ID_2, ACCOUNT_ID_3), Instant.now());
+            flushAndClear();
+
+            assertThat(added).containsExactly(ACCOUNT_ID_3);
+            assertThat(repository.findById(group.id()).orElseThrow().accounts())
+                .containsExactlyInAnyOrder(ACCOUNT_ID_1, ACCOUNT_ID_2, ACCOUNT_ID_3);
+        }
+
+        @Test
+        @DisplayName("should delete only accounts that are in the group")
+        void shouldRemoveOnlyExistingMembers() {
+            Set<ClientAccountId> removed = repository.removeMembers(group.id(), List.of(ACCOUNT_ID_1, ACCOUNT_ID_3), Instant.now());
+            flushAndClear();
+
+            assertThat(removed).containsExactly(ACCOUNT_ID_1);
+            assertThat(repository.findById(group.id()).orElseThrow().accounts()).containsExactly(ACCOUNT_ID_2);
+        }
+
+        @Test
+        @DisplayName("should leave unchanged member rows alone when saving the aggregate")
+        void shouldNotRewriteUnchangedMembers() {
+            Timestamp before = addedAt(ACCOUNT_ID_1);
+
+            AccountGroup loaded = repository.findById(group.id()).orElseThrow();
+            loaded.update("Treasury Ops", "Renamed");
+            loaded.removeAccount(ACCOUNT_ID_2);
+            loaded.addAccount(ACCOUNT_ID_3);
+            repository.save(loaded);
+            flushAndClear();
+
+            assertThat(addedAt(ACCOUNT_ID_1)).isEqualTo(before);
+            AccountGroup saved = repository.findById(group.id()).orElseThrow();
+            assertThat(saved.name()).isEqualTo("Treasury Ops");
+            assertThat(saved.accounts()).containsExactlyInAnyOrder(ACCOUNT_ID_1, ACCOUNT_ID_3);
+        }
+    }
+
+    // ==================== Summaries ====================
+
+    @Nested
+    @DisplayName("Summaries")
+    class SummaryTests {
+
+        @Test
+        @DisplayName("should count members per group, including empty groups")
+        void shouldSummarizeByProfile() {
+            repository.save(AccountGroup.create(PROFILE_ID, "Empty", null, "testUser"));
+            flushAndClear();
+
+            List<GroupSummary> summaries = repository.findSummariesByProfileId(PROFILE_ID);
+
+            assertThat(summaries).extracting(GroupSummary::name).containsExactly("Empty", "Treasury");
+            assertThat(summaries).extracting(GroupSummary::accountCount).containsExactly(0, 2);
+        }
+
+        @Test
+        @DisplayName("should find a group summary by ID")
+        void shouldFindSummaryById() {
+            GroupSummary summary = repository.findSummaryById(group.id()).orElseThrow();
+
+            assertThat(summary.profileId()).isEqualTo(PROFILE_ID);
+            assertThat(summary.accountCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should list groups containing an account with their full member count")
+        void shouldFindSummariesContainingAccount() {
+            AccountGroup other = AccountGroup.create(PROFILE_ID, "Payroll", null, "testUser");
+            other.addAccount(ACCOUNT_ID_3);
+            repository.save(other);
+            flushAndClear();
+
+            List<GroupSummary> summaries = repository.findSummariesContainingAccount(PROFILE_ID, ACCOUNT_ID_1);
+
+            assertThat(summaries).extracting(GroupSummary::name).containsExactly("Treasury");
+            assertThat(summaries.get(0).accountCount()).isEqualTo(2);
+        }
+    }
+}
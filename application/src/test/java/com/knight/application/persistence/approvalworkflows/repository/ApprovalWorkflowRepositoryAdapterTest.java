@@ -1,18 +1,35 @@
 package com.knight.application.persistence.approvalworkflows.repository;
 
 import com.knight.domain.approvalworkflows.aggregate.ApprovalWorkflow;
+import com.knight.domain.approvalworkflows.repository.ApprovalWorkflowRepository.PendingEntry;
+import com.knight.domain.approvalworkflows.repository.ApprovalWorkflowRepository.PendingFilter;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @Transactional
@@ -38,11 +55,20 @@ class ApprovalWorkflowRepositoryAdapterTest {
     @Autowired
     private ApprovalWorkflowJpaRepository jpaRepository;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @BeforeEach
     void setUp() {
         jpaRepository.deleteAll();
     }
 
+    @AfterEach
+    void tearDown() {
+        // Removes what the committing tests left behind
+        jpaRepository.deleteAll();
+    }
+
     @Nested
     @DisplayName("save()")
     class SaveTests {
@@ -99,6 +125,96 @@ class ApprovalWorkflowRepositoryAdapterTest {
             assertThat(found).isPresent();
             assertThat(found.get().status()).isEqualTo(ApprovalWorkflow.Status.APPROVED);
         }
+
+        // The version tests commit: a change to approvals alone moves the version at commit
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        @DisplayName("should reject an approval made on a stale copy")
+        void shouldRejectStaleWorkflow() {
+            ApprovalWorkflow workflow = ApprovalWorkflow.initiate("PAYMENT", "pay-001", 3, "user:maker");
+            repository.save(workflow);
+            ApprovalWorkflow first = repository.findById(workflow.id()).orElseThrow();
+            ApprovalWorkflow second = repository.findById(workflow.id()).orElseThrow();
+
+            first.recordApproval("user:checker1", ApprovalWorkflow.Decision.APPROVE, null);
+            repository.save(first);
+            second.recordApproval("user:checker2", ApprovalWorkflow.Decision.APPROVE, null);
+
+            assertThatThrownBy(() -> repository.save(second))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+            ApprovalWorkflow reloaded = repository.findById(workflow.id()).orElseThrow();
+            assertThat(reloaded.approvals()).extracting(ApprovalWorkflow.Approval::approverUserId)
+                .containsExactly("user:checker1");
+            assertThat(reloaded.version()).isEqualTo(first.version()).isEqualTo(second.version() + 1);
+        }
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        @DisplayName("should reject the later of two concurrent approvals when it commits, without blocking it")
+        void shouldRejectConcurrentApprovalAtCommit() throws Exception {
+            ApprovalWorkflow workflow = ApprovalWorkflow.initiate("PAYMENT", "pay-002", 3, "user:maker");
+            repository.save(workflow);
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            CountDownLatch bothSaved = new CountDownLatch(2);
+            CountDownLatch firstCommitted = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<?> first = executor.submit(() -> transaction.executeWithoutResult(status -> {
+                    approve(workflow.id(), "user:checker1");
+                    bothSaved.countDown();
+                    await(bothSaved);
+                }));
+                Future<?> second = executor.submit(() -> transaction.executeWithoutResult(status -> {
+                    approve(workflow.id(), "user:checker2");
+                    bothSaved.countDown();
+                    await(firstCommitted);
+                }));
+
+                first.get(10, TimeUnit.SECONDS);
+                firstCommitted.countDown();
+
+                assertThatThrownBy(() -> second.get(10, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(OptimisticLockingFailureException.class);
+            } finally {
+                executor.shutdownNow();
+            }
+            ApprovalWorkflow reloaded = repository.findById(workflow.id()).orElseThrow();
+            assertThat(reloaded.approvals()).extracting(ApprovalWorkflow.Approval::approverUserId)
+                .containsExactly("user:checker1");
+            assertThat(reloaded.version()).isEqualTo(workflow.version() + 1);
+        }
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        @DisplayName("should move the version once when the workflow itself changes")
+        void shouldVersionChangedWorkflowOnce() {
+            ApprovalWorkflow workflow = ApprovalWorkflow.initiate("PAYMENT", "pay-003", 1, "user:maker");
+            repository.save(workflow);
+            long version = workflow.version();
+
+            workflow.recordApproval("user:checker1", ApprovalWorkflow.Decision.APPROVE, null);
+            repository.save(workflow);
+
+            ApprovalWorkflow reloaded = repository.findById(workflow.id()).orElseThrow();
+            assertThat(reloaded.status()).isEqualTo(ApprovalWorkflow.Status.APPROVED);
+            assertThat(reloaded.version()).isEqualTo(workflow.version()).isEqualTo(version + 1);
+        }
+
+        private void approve(String workflowId, String approver) {
+            ApprovalWorkflow copy = repository.findById(workflowId).orElseThrow();
+            copy.recordApproval(approver, ApprovalWorkflow.Decision.APPROVE, null);
+            repository.save(copy);
+        }
+
+        private void await(CountDownLatch latch) {
+            try {
+                assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
     }
 
     @Nested
@@ -153,4 +269,84 @@ class ApprovalWorkflowRepositoryAdapterTest {
             assertThat(approval.decision()).isEqualTo(ApprovalWorkflow.Decision.APPROVE);
         }
     }
+
+    @Nested
+    @DisplayName("findPending()")
+    class FindPendingTests {
+
+        private static final PendingFilter ALL = new PendingFilter(null, null, null);
+
+        @Test
+        @DisplayName("should page through pending workflows oldest first with approvals counted")
+        void shouldPageThroughPendingWorkflows() {
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                ApprovalWorkflow workflow = ApprovalWorkflow.initiate("PAYMENT", "pay-" + i, 2, "user:maker");
+                if (i == 0) {
+                    workflow.recordApproval("user:checker", ApprovalWorkflow.Decision.APPROVE, null);
+                }
+                repository.save(workflow);
+                ids.add(workflow.id());
+            }
+            ApprovalWorkflow decided = ApprovalWorkflow.initiate("PAYMENT", "pay-decided", 1, "user:maker");
+            decided.recordApproval("user:checker", ApprovalWorkflow.Decision.REJECT, "No");
+            repository.save(decided);
+
+            List<PendingEntry> seen = new ArrayList<>();
+            List<PendingEntry> page = repository.findPending(ALL, null, 2);
+            while (!page.isEmpty()) {
+                seen.addAll(page);
+                page = repository.findPending(ALL, page.get(page.size() - 1).key(), 2);
+            }
+
+            assertThat(seen).extracting(PendingEntry::workflowId).containsExactlyInAnyOrderElementsOf(ids);
+            assertThat(seen).extracting(PendingEntry::initiatedAt).isSorted();
+            PendingEntry first = seen.stream().filter(e -> e.resourceId().equals("pay-0")).findFirst().orElseThrow();
+            assertThat(first.receivedApprovals()).isEqualTo(1);
+            assertThat(first.requiredApprovals()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should filter by resource and initiator")
+        void shouldFilter() {
+            repository.save(ApprovalWorkflow.initiate("PAYMENT", "pay-1", 1, "user:alice"));
+            repository.save(ApprovalWorkflow.initiate("PAYMENT", "pay-2", 1, "user:bob"));
+            repository.save(ApprovalWorkflow.initiate("PAYEE", "payee-1", 1, "user:alice"));
+
+            assertThat(repository.findPending(new PendingFilter("PAYMENT", "pay-2", null), null, 10))
+                .extracting(PendingEntry::resourceId).containsExactly("pay-2");
+            assertThat(repository.findPending(new PendingFilter(null, null, "user:alice"), null, 10))
+                .extracting(PendingEntry::resourceId).containsExactlyInAnyOrder("pay-1", "payee-1");
+            assertThat(repository.countPending(new PendingFilter("PAYMENT", null, null))).isEqualTo(2);
+            assertThat(repository.countPending(ALL)).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("expireOverdue()")
+    class ExpireOverdueTests {
+
+        @Test
+        @DisplayName("should expire only pending workflows past their expiry, up to the limit")
+        void shouldExpireOverdueWorkflows() {
+            Instant now = Instant.now();
+            ApprovalWorkflow overdue1 = ApprovalWorkflow.initiate("PAYMENT", "pay-1", 1, "user:maker", now.minusSeconds(120));
+            ApprovalWorkflow overdue2 = ApprovalWorkflow.initiate("PAYMENT", "pay-2", 1, "user:maker", now.minusSeconds(60));
+            ApprovalWorkflow notDue = ApprovalWorkflow.initiate("PAYMENT", "pay-3", 1, "user:maker", now.plusSeconds(60));
+            ApprovalWorkflow noExpiry = ApprovalWorkflow.initiate("PAYMENT", "pay-4", 1, "user:maker");
+            List.of(overdue1, overdue2, notDue, noExpiry).forEach(repository::save);
+
+            assertThat(repository.expireOverdue(now, 1)).isEqualTo(1);
+            assertThat(repository.findById(overdue1.id()).orElseThrow().status()).isEqualTo(ApprovalWorkflow.Status.EXPIRED);
+            assertThat(repository.findById(overdue2.id()).orElseThrow().status()).isEqualTo(ApprovalWorkflow.Status.PENDING);
+
+            assertThat(repository.expireOverdue(now, 10)).isEqualTo(1);
+            assertThat(repository.expireOverdue(now, 10)).isZero();
+            ApprovalWorkflow expired = repository.findById(overdue2.id()).orElseThrow();
+            assertThat(expired.status()).isEqualTo(ApprovalWorkflow.Status.EXPIRED);
+            assertThat(expired.completedAt()).isNotNull();
+            assertThat(repository.findById(notDue.id()).orElseThrow().status()).isEqualTo(ApprovalWorkflow.Status.PENDING);
+            assertThat(repository.findById(noExpiry.id()).orElseThrow().expiresAt()).isNull();
+        }
+    }
 }
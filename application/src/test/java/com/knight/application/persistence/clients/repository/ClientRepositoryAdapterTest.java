@@ -1,5 +1,7 @@
 package com.knight.application.persistence.clients.repository;
 
+import com.knight.application.cache.CacheInvalidationPublisher;
+import com.knight.application.cache.CacheNames;
 import com.knight.application.persistence.clients.entity.ClientEntity;
 import com.knight.application.persistence.clients.mapper.ClientMapper;
 import com.knight.application.persistence.clients.mapper.ClientMapperImpl;
@@ -18,14 +20,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.test.context.TestPropertySource;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
 
 /**
  * Integration tests for ClientRepositoryAdapter using H2 in-memory database.
@@ -55,6 +62,9 @@ class ClientRepositoryAdapterTest {
     @Autowired
     private ClientJpaRepository jpaRepository;
 
+    @MockBean
+    private CacheInvalidationPublisher cacheInvalidation;
+
     private Client srfClient1;
     private Client srfClient2;
     private Client cdrClient1;
@@ -141,6 +151,7 @@ class ClientRepositoryAdapterTest {
             assertThat(found).isPresent();
             assertThat(found.get().name()).isEqualTo("New Test Company");
             assertThat(found.get().clientType()).isEqualTo(ClientType.BUSINESS);
+            verify(cacheInvalidation).invalidate(CacheNames.CLIENTS, newClientId.urn());
         }
 
         @Test
@@ -233,6 +244,45 @@ class ClientRepositoryAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("findNamesByIds() tests")
+    class FindNamesByIdsTests {
+
+        @Test
+        @DisplayName("should return the names of the clients that exist")
+        void shouldReturnNamesOfExistingClients() {
+            // Given
+            ClientId nonExistentId = new CdrClientId("999999");
+
+            // When
+            Map<ClientId, String> names = clientRepository.findNamesByIds(
+                List.of(srfClient1.clientId(), cdrClient1.clientId(), nonExistentId));
+
+            // Then
+            assertThat(names).containsExactlyInAnyOrderEntriesOf(Map.of(
+                srfClient1.clientId(), "Acme Corporation",
+                cdrClient1.clientId(), "Beta Solutions Inc."));
+        }
+
+        @Test
+        @DisplayName("should look up more clients than fit in one IN list")
+        void shouldLookUpMoreClientsThanFitInOneBatch() {
+            // Given
+            List<ClientId> ids = new ArrayList<>();
+            for (int i = 0; i < 1500; i++) {
+                ids.add(new SrfClientId(String.format("5%08d", i)));
+            }
+            ids.add(srfClient2.clientId());
+            ids.add(srfClient2.clientId());
+
+            // When
+            Map<ClientId, String> names = clientRepository.findNamesByIds(ids);
+
+            // Then
+            assertThat(names).containsExactlyEntriesOf(Map.of(srfClient2.clientId(), "Alpha Industries Ltd."));
+        }
+    }
+
     @Nested
     @DisplayName("searchByName() with pagination tests")
     class SearchByNamePaginatedTests {
@@ -0,0 +1,132 @@
+package com.knight.application.persistence.indirectclients.repository;
+
+import com.knight.domain.clients.aggregate.ClientAccount;
+import com.knight.domain.clients.repository.ClientAccountRepository;
+import com.knight.domain.indirectclients.aggregate.IndirectClient;
+import com.knight.domain.indirectclients.repository.IndirectClientRepository;
+import com.knight.domain.indirectclients.repository.IndirectClientRepository.IndirectClientSummary;
+import com.knight.domain.indirectclients.repository.IndirectClientRepository.PageResult;
+import com.knight.domain.indirectclients.types.PersonRole;
+import com.knight.platform.sharedkernel.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for IndirectClientRepositoryAdapter.
+ * Tests the paged summary projections with H2 database.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;MODE=MSSQLServer",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.flyway.enabled=false",
+    "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+    "spring.kafka.listener.auto-startup=false",
+    "spring.kafka.consumer.auto-startup=false"
+})
+class IndirectClientRepositoryAdapterTest {
+
+    @Autowired
+    private IndirectClientRepository repository;
+
+    @Autowired
+    private ClientAccountRepository clientAccountRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static final ClientId PARENT_CLIENT_ID = ClientId.of("srf:123456789");
+    private static final ProfileId PARENT_PROFILE_ID = ProfileId.fromUrn("servicing:srf:123456789");
+    private static final ProfileId OTHER_PROFILE_ID = ProfileId.fromUrn("servicing:srf:987654321");
+
+    private IndirectClient acme;
+
+    @BeforeEach
+    void setUp() {
+        acme = indirectClient("Acme", PARENT_PROFILE_ID);
+        acme.addRelatedPerson("Alice", PersonRole.ADMIN, null, null);
+        acme.addRelatedPerson("Bob", PersonRole.CONTACT, null, null);
+        repository.save(acme);
+        repository.save(indirectClient("Zenith", PARENT_PROFILE_ID));
+        repository.save(indirectClient("Beta", PARENT_PROFILE_ID));
+        repository.save(indirectClient("Other", OTHER_PROFILE_ID));
+
+        clientAccountRepository.save(ofiAccount(acme, "000000000001"));
+        clientAccountRepository.save(ofiAccount(acme, "000000000002"));
+        clientAccountRepository.save(ofiAccount(acme, "000000000003"));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static IndirectClient indirectClient(String name, ProfileId parentProfileId) {
+        return IndirectClient.create(IndirectClientId.generate(), PARENT_CLIENT_ID, parentProfileId, name, "system");
+    }
+
+    private static ClientAccount ofiAccount(IndirectClient owner, String accountNumber) {
+        return ClientAccount.createOfiAccount(
+            new ClientAccountId(AccountSystem.OFI, "CAN", "001:12345:" + accountNumber),
+            owner.id().urn(), Currency.CAD, owner.name());
+    }
+
+    @Nested
+    @DisplayName("Summaries")
+    class SummaryTests {
+
+        @Test
+        @DisplayName("should count related persons and OFI accounts without loading them")
+        void shouldCountPersonsAndAccounts() {
+            PageResult<IndirectClientSummary> result = repository.findSummariesByParentProfileId(PARENT_PROFILE_ID, 0, 10);
+
+            IndirectClientSummary summary = result.content().get(0);
+            assertThat(summary.id()).isEqualTo(acme.id());
+            assertThat(summary.name()).isEqualTo("Acme");
+            assertThat(summary.personCount()).isEqualTo(2);
+            assertThat(summary.accountCount()).isEqualTo(3);
+            assertThat(result.content().get(1).personCount()).isZero();
+            assertThat(result.content().get(1).accountCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should page a profile's indirect clients in name order")
+        void shouldPageByProfile() {
+            PageResult<IndirectClientSummary> first = repository.findSummariesByParentProfileId(PARENT_PROFILE_ID, 0, 2);
+            PageResult<IndirectClientSummary> second = repository.findSummariesByParentProfileId(PARENT_PROFILE_ID, 1, 2);
+
+            assertThat(first.content()).extracting(IndirectClientSummary::name).containsExactly("Acme", "Beta");
+            assertThat(second.content()).extracting(IndirectClientSummary::name).containsExactly("Zenith");
+            assertThat(first.totalElements()).isEqualTo(3);
+            assertThat(first.totalPages()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should list every indirect client of the parent client")
+        void shouldListByParentClient() {
+            PageResult<IndirectClientSummary> result = repository.findSummariesByParentClientId(PARENT_CLIENT_ID, 0, 10);
+
+            assertThat(result.content()).extracting(IndirectClientSummary::name)
+                .containsExactly("Acme", "Beta", "Other", "Zenith");
+        }
+
+        @Test
+        @DisplayName("should cap the page size")
+        void shouldCapPageSize() {
+            PageResult<IndirectClientSummary> result = repository.findSummariesByParentProfileId(PARENT_PROFILE_ID, 0, 10_000);
+
+            assertThat(result.size()).isEqualTo(IndirectClientRepositoryAdapter.MAX_PAGE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.knight.application.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ReadWriteRoutingDataSource.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private SimpleMeterRegistry meterRegistry;
+    private ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ReadWriteRoutingDataSource(primary, replica, lagMonitor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private double routed(String pool, String reason) {
+        return meterRegistry.get(ReadWriteRoutingDataSource.ROUTING_METRIC)
+            .tag("pool", pool).tag("reason", reason).counter().count();
+    }
+
+    @Nested
+    @DisplayName("Routing")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("should send read-write transactions to the primary")
+        void shouldRouteWritesToPrimary() throws SQLException {
+            when(primary.getConnection()).thenReturn(primaryConnection);
+
+            assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+            verify(replica, never()).getConnection();
+            assertThat(routed("primary", "read-write")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should send read-only transactions to the replica")
+        void shouldRouteReadsToReplica() throws SQLException {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            when(lagMonitor.status()).thenReturn(ReplicaLagMonitor.Status.AVAILABLE);
+            when(replica.getConnection()).thenReturn(replicaConnection);
+
+            assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+            assertThat(routed("replica", "read-only")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Fallback")
+    class FallbackTests {
+
+        @Test
+        @DisplayName("should read from the primary while the replica is lagging")
+        void shouldFallBackWhenLagging() throws SQLException {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            when(lagMonitor.status()).thenReturn(ReplicaLagMonitor.Status.LAGGING);
+            when(primary.getConnection()).thenReturn(primaryConnection);
+
+            assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+            verify(replica, never()).getConnection();
+            assertThat(routed("primary", "replica-lagging")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should read from the primary and mark the replica down when it refuses a connection")
+        void shouldFallBackWhenReplicaFails() throws SQLException {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            SQLException failure = new SQLException("Connection refused");
+            when(lagMonitor.status()).thenReturn(ReplicaLagMonitor.Status.AVAILABLE);
+            when(replica.getConnection()).thenThrow(failure);
+            when(primary.getConnection()).thenReturn(primaryConnection);
+
+            assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+            verify(lagMonitor).markDown(failure);
+            assertThat(routed("primary", "replica-down")).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.knight.application.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ReplicaLagMonitor.
+ */
+class ReplicaLagMonitorTest {
+
+    private ReplicaProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcDataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReplicaProperties();
+        properties.setMaxLag(Duration.ofSeconds(5));
+        meterRegistry = new SimpleMeterRegistry();
+        replica = new JdbcDataSource();
+        replica.setURL("jdbc:h2:mem:replica-lag;DB_CLOSE_DELAY=-1");
+    }
+
+    private ReplicaLagMonitor monitor(DataSource dataSource) {
+        return new ReplicaLagMonitor(dataSource, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should stay available when only connectivity is checked")
+    void shouldBeAvailableWithoutLagQuery() {
+        ReplicaLagMonitor monitor = monitor(replica);
+
+        monitor.check();
+
+        assertThat(monitor.status()).isEqualTo(ReplicaLagMonitor.Status.AVAILABLE);
+        assertThat(meterRegistry.get(ReplicaLagMonitor.STATUS_METRIC).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should take the replica out of rotation while it lags beyond the limit and restore it once caught up")
+    void shouldTrackLag() {
+        ReplicaLagMonitor monitor = monitor(replica);
+
+        properties.setLagQuery("SELECT 12");
+        monitor.check();
+        assertThat(monitor.status()).isEqualTo(ReplicaLagMonitor.Status.LAGGING);
+        assertThat(meterRegistry.get(ReplicaLagMonitor.LAG_METRIC).gauge().value()).isEqualTo(12);
+        assertThat(meterRegistry.get(ReplicaLagMonitor.STATUS_METRIC).gauge().value()).isZero();
+
+        properties.setLagQuery("SELECT NULL");
+        monitor.check();
+        assertThat(monitor.status()).isEqualTo(ReplicaLagMonitor.Status.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("should mark the replica down when it cannot be reached")
+    void shouldMarkDownWhenUnreachable() throws SQLException {
+        DataSource unreachable = mock(DataSource.class);
+        when(unreachable.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaLagMonitor monitor = monitor(unreachable);
+
+        monitor.check();
+
+        assertThat(monitor.status()).isEqualTo(ReplicaLagMonitor.Status.DOWN);
+    }
+}
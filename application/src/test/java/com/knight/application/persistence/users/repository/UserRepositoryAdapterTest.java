@@ -0,0 +1,343 @@
+package com.knight.application.persistence.users.repository;
+
+import com.knight.domain.users.aggregate.User;
+import com.knight.domain.users.repository.UserRepository;
+import com.knight.domain.users.repository.UserRepository.DirectoryEntry;
+import com.knight.domain.users.repository.UserRepository.DirectoryQuery;
+import com.knight.domain.users.repository.UserRepository.DirectorySort;
+import com.knight.platform.sharedkernel.ProfileId;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for UserRepositoryAdapter.
+ * Tests targeted saves, the keyset-paged user directory and status counts with H2 database.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;MODE=MSSQLServer",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.flyway.enabled=false",
+    "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+    "spring.kafka.listener.auto-startup=false",
+    "spring.kafka.consumer.auto-startup=false"
+})
+class UserRepositoryAdapterTest {
+
+    @Autowired
+    private UserRepository repository;
+
+    @Autowired
+    private UserJpaRepository jpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final ProfileId PROFILE_ID = ProfileId.fromUrn("online:srf:123456789");
+    private static final ProfileId OTHER_PROFILE_ID = ProfileId.fromUrn("online:srf:987654321");
+
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository.deleteAll();
+        users = new ArrayList<>(List.of(
+            user("alice@example.com", "alice", "Smith", PROFILE_ID, User.Role.SECURITY_ADMIN, User.Role.READER),
+            user("bob@example.com", "bob", "Jones", PROFILE_ID, User.Role.READER),
+            user("carol@example.com", "carol", null, PROFILE_ID, User.Role.APPROVER),
+            user("dave@example.com", "dave", "Adams", PROFILE_ID, User.Role.CREATOR),
+            user("erin@example.com", "erin", "Smith", PROFILE_ID, User.Role.READER)
+        ));
+        users.get(0).activate();
+        users.get(1).activate();
+        users.get(3).deactivate("left");
+        users.forEach(repository::save);
+        repository.save(user("zed@example.com", "zed", "Zulu", OTHER_PROFILE_ID, User.Role.READER));
+        flushAndClear();
+    }
+
+    private static User user(String email, String firstName, String lastName, ProfileId profileId, User.Role... roles) {
+        User user = User.create(email, email, firstName, lastName, User.UserType.CLIENT_USER,
+            User.IdentityProvider.AUTH0, profileId, Set.of(roles), "admin@example.com");
+        user.markProvisioned("auth0|" + firstName);
+        return user;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private User load(int index) {
+        return repository.findById(users.get(index).id()).orElseThrow();
+    }
+
+    private Timestamp roleAssignedAt(User user, User.Role role) {
+        return jdbcTemplate.queryForObject("SELECT assigned_at FROM user_roles WHERE user_id = ? AND role = ?",
+            Timestamp.class, user.id().id(), role.name());
+    }
+
+    private List<DirectoryEntry> readAll(DirectorySort sort, boolean descending, int pageSize) {
+        List<DirectoryEntry> all = new ArrayList<>();
+        UserRepository.DirectoryKey after = null;
+        while (true) {
+            List<DirectoryEntry> page = repository.searchDirectory(PROFILE_ID,
+                new DirectoryQuery(Set.of(), null, null, sort, descending, after, pageSize));
+            all.addAll(page);
+            if (page.size() < pageSize) {
+                return all;
+            }
+            after = page.get(page.size() - 1).key(sort);
+        }
+    }
+
+    // ==================== Save ====================
+
+    @Nested
+    @DisplayName("Save")
+    class SaveTests {
+
+        @Test
+        @DisplayName("should write only the changed columns of a loaded user")
+        void shouldWriteOnlyChangedColumns() {
+            User alice = load(0);
+            jdbcTemplate.update("UPDATE users SET first_name = 'Alicia' WHERE user_id = ?", alice.id().id());
+
+            alice.lock(User.LockType.CLIENT, "admin@example.com");
+            repository.save(alice);
+            flushAndClear();
+
+            User reloaded = load(0);
+            assertThat(reloaded.status()).isEqualTo(User.Status.LOCKED);
+            assertThat(reloaded.lockType()).isEqualTo(User.LockType.CLIENT);
+            assertThat(reloaded.lockedBy()).isEqualTo("admin@example.com");
+            assertThat(reloaded.firstName()).isEqualTo("Alicia");
+            assertThat(alice.hasChanges()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should clear email verification when the email changes")
+        void shouldUnverifyChangedEmail() {
+            User alice = load(0);
+            alice.markEmailVerified();
+            repository.save(alice);
+            flushAndClear();
+            assertThat(load(0).emailVerified()).isTrue();
+
+            User verified = load(0);
+            verified.updateEmail("alice.smith@example.com");
+            repository.save(verified);
+            flushAndClear();
+
+            User reloaded = load(0);
+            assertThat(reloaded.email()).isEqualTo("alice.smith@example.com");
+            assertThat(reloaded.emailVerified()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should add and remove only the changed roles")
+        void shouldApplyRoleDeltas() {
+            User alice = load(0);
+            Timestamp securityAdminAssignedAt = roleAssignedAt(alice, User.Role.SECURITY_ADMIN);
+
+            alice.addRole(User.Role.APPROVER);
+            alice.removeRole(User.Role.READER);
+            repository.save(alice);
+            flushAndClear();
+
+            assertThat(load(0).roles()).containsExactlyInAnyOrder(User.Role.SECURITY_ADMIN, User.Role.APPROVER);
+            assertThat(roleAssignedAt(alice, User.Role.SECURITY_ADMIN)).isEqualTo(securityAdminAssignedAt);
+        }
+
+        @Test
+        @DisplayName("should return the saved state when the user is read again in the same transaction")
+        void shouldNotReturnStaleCopy() {
+            User bob = load(1);
+
+            bob.lock(User.LockType.BANK, "banker@example.com");
+            repository.save(bob);
+
+            assertThat(load(1).status()).isEqualTo(User.Status.LOCKED);
+        }
+
+        @Test
+        @DisplayName("should insert a loaded user whose row has gone")
+        void shouldInsertWhenRowIsGone() {
+            User carol = load(2);
+            jpaRepository.deleteById(UUID.fromString(carol.id().id()));
+            flushAndClear();
+
+            carol.updateName("Carol", "Cooper");
+            repository.save(carol);
+            flushAndClear();
+
+            User reloaded = load(2);
+            assertThat(reloaded.lastName()).isEqualTo("Cooper");
+            assertThat(reloaded.roles()).containsExactly(User.Role.APPROVER);
+        }
+
+        @Test
+        @DisplayName("should reject saving a user that has changed since it was loaded")
+        void shouldRejectStaleUser() {
+            User first = load(0);
+            User second = load(0);
+
+            first.lock(User.LockType.CLIENT, "admin@example.com");
+            repository.save(first);
+            second.updateName("Alicia", "Smith");
+
+            assertThatThrownBy(() -> repository.save(second))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+            flushAndClear();
+            User reloaded = load(0);
+            assertThat(reloaded.version()).isEqualTo(first.version()).isEqualTo(second.version() + 1);
+            assertThat(reloaded.firstName()).isEqualTo("alice");
+        }
+
+        @Test
+        @DisplayName("should move the version on a role change alone")
+        void shouldVersionRoleChanges() {
+            User alice = load(0);
+            long version = alice.version();
+
+            alice.addRole(User.Role.APPROVER);
+            repository.save(alice);
+            flushAndClear();
+
+            assertThat(load(0).version()).isEqualTo(version + 1);
+        }
+    }
+
+    // ==================== Directory ====================
+
+    @Nested
+    @DisplayName("Directory Paging")
+    class DirectoryPagingTests {
+
+        @Test
+        @DisplayName("should walk every user of the profile once, in email order")
+        void shouldPageByEmail() {
+            List<DirectoryEntry> all = readAll(DirectorySort.EMAIL, false, 2);
+
+            assertThat(all).extracting(DirectoryEntry::email).containsExactly(
+                "alice@example.com", "bob@example.com", "carol@example.com", "dave@example.com", "erin@example.com");
+        }
+
+        @Test
+        @DisplayName("should walk descending and break last-name ties on user ID")
+        void shouldPageByLastNameDescending() {
+            List<DirectoryEntry> all = readAll(DirectorySort.LAST_NAME, true, 2);
+
+            assertThat(all).hasSize(5);
+            assertThat(all).extracting(DirectoryEntry::lastName)
+                .containsExactly("Smith", "Smith", "Jones", "Adams", null);
+            assertThat(all.subList(0, 2)).extracting(entry -> entry.userId().id())
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        }
+
+        @Test
+        @DisplayName("should page by creation time without skipping or repeating users")
+        void shouldPageByCreatedAt() {
+            List<DirectoryEntry> all = readAll(DirectorySort.CREATED_AT, false, 2);
+
+            assertThat(all).extracting(DirectoryEntry::email).containsExactlyInAnyOrderElementsOf(
+                users.stream().map(User::email).toList());
+            assertThat(all).extracting(DirectoryEntry::createdAt).isSorted();
+        }
+
+        @Test
+        @DisplayName("should return each user's roles with the page")
+        void shouldReturnRoles() {
+            List<DirectoryEntry> page = repository.searchDirectory(PROFILE_ID,
+                new DirectoryQuery(Set.of(), null, null, DirectorySort.EMAIL, false, null, 1));
+
+            assertThat(page).hasSize(1);
+            assertThat(page.get(0).roles()).containsExactlyInAnyOrder(User.Role.SECURITY_ADMIN, User.Role.READER);
+            assertThat(page.get(0).status()).isEqualTo(User.Status.ACTIVE);
+        }
+    }
+
+    @Nested
+    @DisplayName("Directory Filters")
+    class DirectoryFilterTests {
+
+        @Test
+        @DisplayName("should filter by status")
+        void shouldFilterByStatus() {
+            List<DirectoryEntry> page = repository.searchDirectory(PROFILE_ID, new DirectoryQuery(
+                Set.of(User.Status.ACTIVE, User.Status.DEACTIVATED), null, null, DirectorySort.EMAIL, false, null, 10));
+
+            assertThat(page).extracting(DirectoryEntry::email)
+                .containsExactly("alice@example.com", "bob@example.com", "dave@example.com");
+        }
+
+        @Test
+        @DisplayName("should filter by role")
+        void shouldFilterByRole() {
+            List<DirectoryEntry> page = repository.searchDirectory(PROFILE_ID, new DirectoryQuery(
+                Set.of(), User.Role.READER, null, DirectorySort.EMAIL, false, null, 10));
+
+            assertThat(page).extracting(DirectoryEntry::email)
+                .containsExactly("alice@example.com", "bob@example.com", "erin@example.com");
+            assertThat(page.get(0).roles()).contains(User.Role.SECURITY_ADMIN);
+        }
+
+        @Test
+        @DisplayName("should match the prefix against email and names")
+        void shouldFilterByPrefix() {
+            List<DirectoryEntry> byName = repository.searchDirectory(PROFILE_ID, new DirectoryQuery(
+                Set.of(), null, "Smi", DirectorySort.EMAIL, false, null, 10));
+            List<DirectoryEntry> byEmail = repository.searchDirectory(PROFILE_ID, new DirectoryQuery(
+                Set.of(), null, "car", DirectorySort.EMAIL, false, null, 10));
+            List<DirectoryEntry> wildcard = repository.searchDirectory(PROFILE_ID, new DirectoryQuery(
+                Set.of(), null, "%", DirectorySort.EMAIL, false, null, 10));
+
+            assertThat(byName).extracting(DirectoryEntry::email).containsExactly("alice@example.com", "erin@example.com");
+            assertThat(byEmail).extracting(DirectoryEntry::email).containsExactly("carol@example.com");
+            assertThat(wildcard).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Status Counts")
+    class StatusCountTests {
+
+        @Test
+        @DisplayName("should count the profile's users per status")
+        void shouldCountByStatus() {
+            Map<User.Status, Long> counts = repository.countByStatus(PROFILE_ID);
+
+            assertThat(counts).containsOnly(
+                Map.entry(User.Status.ACTIVE, 2L),
+                Map.entry(User.Status.PENDING_VERIFICATION, 2L),
+                Map.entry(User.Status.DEACTIVATED, 1L));
+        }
+    }
+}
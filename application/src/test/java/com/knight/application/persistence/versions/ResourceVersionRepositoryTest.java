@@ -0,0 +1,137 @@
+package com.knight.application.persistence.versions;
+
+import com.knight.domain.serviceprofiles.aggregate.AccountGroup;
+import com.knight.domain.serviceprofiles.repository.AccountGroupRepository;
+import com.knight.platform.sharedkernel.ClientAccountId;
+import com.knight.platform.sharedkernel.ProfileId;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for ResourceVersionRepository.
+ * Tests that fingerprints follow changes to the resources with H2 database.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;MODE=MSSQLServer",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.flyway.enabled=false",
+    "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+    "spring.kafka.listener.auto-startup=false",
+    "spring.kafka.consumer.auto-startup=false"
+})
+class ResourceVersionRepositoryTest {
+
+    @Autowired
+    private ResourceVersionRepository resourceVersions;
+
+    @Autowired
+    private AccountGroupRepository accountGroupRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static final ProfileId PROFILE_ID = ProfileId.fromUrn("servicing:srf:123456789");
+    private static final ProfileId OTHER_PROFILE_ID = ProfileId.fromUrn("servicing:srf:987654321");
+    private static final ClientAccountId ACCOUNT_ID_1 = ClientAccountId.of("CAN_DDA:DDA:12345:000000000001");
+    private static final ClientAccountId ACCOUNT_ID_2 = ClientAccountId.of("CAN_DDA:DDA:12345:000000000002");
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // ==================== Account Groups ====================
+
+    @Nested
+    @DisplayName("Account Groups")
+    class AccountGroupTests {
+
+        @Test
+        @DisplayName("should stay the same while nothing changes")
+        void shouldBeStable() {
+            accountGroupRepository.save(AccountGroup.create(PROFILE_ID, "Treasury", null, "testUser"));
+            flushAndClear();
+
+            assertThat(resourceVersions.accountGroups(PROFILE_ID)).isEqualTo(resourceVersions.accountGroups(PROFILE_ID));
+        }
+
+        @Test
+        @DisplayName("should change when members are added or removed")
+        void shouldFollowMembership() {
+            AccountGroup group = AccountGroup.create(PROFILE_ID, "Treasury", null, "testUser");
+            accountGroupRepository.save(group);
+            flushAndClear();
+            String initial = resourceVersions.accountGroups(PROFILE_ID).orElseThrow();
+
+            accountGroupRepository.addMembers(group.id(), List.of(ACCOUNT_ID_1, ACCOUNT_ID_2), Instant.now());
+            flushAndClear();
+            String added = resourceVersions.accountGroups(PROFILE_ID).orElseThrow();
+
+            accountGroupRepository.removeMembers(group.id(), List.of(ACCOUNT_ID_1), Instant.now());
+            flushAndClear();
+            String removed = resourceVersions.accountGroups(PROFILE_ID).orElseThrow();
+
+            assertThat(added).isNotEqualTo(initial);
+            assertThat(removed).isNotEqualTo(added);
+        }
+
+        @Test
+        @DisplayName("should change when a group is deleted")
+        void shouldFollowDeletes() {
+            AccountGroup kept = AccountGroup.create(PROFILE_ID, "Treasury", null, "testUser");
+            AccountGroup deleted = AccountGroup.create(PROFILE_ID, "Payroll", null, "testUser");
+            accountGroupRepository.save(kept);
+            accountGroupRepository.save(deleted);
+            flushAndClear();
+            String before = resourceVersions.accountGroups(PROFILE_ID).orElseThrow();
+
+            accountGroupRepository.delete(deleted);
+            flushAndClear();
+
+            assertThat(resourceVersions.accountGroups(PROFILE_ID).orElseThrow()).isNotEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("should not change for another profile's groups")
+        void shouldIgnoreOtherProfiles() {
+            String before = resourceVersions.accountGroups(PROFILE_ID).orElseThrow();
+
+            accountGroupRepository.save(AccountGroup.create(OTHER_PROFILE_ID, "Treasury", null, "testUser"));
+            flushAndClear();
+
+            assertThat(resourceVersions.accountGroups(PROFILE_ID).orElseThrow()).isEqualTo(before);
+        }
+    }
+
+    // ==================== Profiles ====================
+
+    @Nested
+    @DisplayName("Profiles")
+    class ProfileTests {
+
+        @Test
+        @DisplayName("should have no version for an unknown profile")
+        void shouldBeEmptyForUnknownProfile() {
+            assertThat(resourceVersions.profileDetail(PROFILE_ID)).isEmpty();
+            assertThat(resourceVersions.profileView(PROFILE_ID)).isEmpty();
+            assertThat(resourceVersions.ownIndirectClient(PROFILE_ID)).isEmpty();
+        }
+    }
+}
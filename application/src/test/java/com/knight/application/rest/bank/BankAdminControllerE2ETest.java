@@ -1,6 +1,10 @@
 package com.knight.application.rest.bank;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.knight.application.perf.QueryBudget;
+import com.knight.application.perf.QueryBudgetConfiguration;
 import com.knight.application.persistence.clients.repository.ClientAccountJpaRepository;
 import com.knight.application.persistence.clients.repository.ClientJpaRepository;
 import com.knight.application.persistence.indirectclients.repository.IndirectClientJpaRepository;
@@ -26,15 +30,18 @@ import com.knight.platform.sharedkernel.Currency;
 import java.time.Instant;
 import org.junit.jupiter.api.*;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -48,6 +55,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @SpringBootTest
 @AutoConfigureMockMvc
+@Import(QueryBudgetConfiguration.class)
 @Transactional
 @TestPropertySource(properties = {
     "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;MODE=MSSQLServer",
@@ -362,6 +370,117 @@ class BankAdminControllerE2ETest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.profileId").value(profile.profileId().urn()));
         }
+
+        @Test
+        @DisplayName("should answer in Smile when the client asks for it")
+        void shouldNegotiateSmile() throws Exception {
+            Profile profile = createTestProfile(testClient.clientId(), ProfileType.SERVICING);
+            MediaType smile = MediaType.valueOf("application/x-jackson-smile");
+
+            byte[] body = mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/detail", profile.profileId().urn())
+                    .accept(smile, MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(smile))
+                .andReturn().getResponse().getContentAsByteArray();
+
+            JsonNode detail = new ObjectMapper(new SmileFactory()).readTree(body);
+            assertThat(detail.get("profileId").asText()).isEqualTo(profile.profileId().urn());
+        }
+
+        @Test
+        @DisplayName("should answer errors in JSON even when the client prefers Smile")
+        void shouldAnswerErrorsInJson() throws Exception {
+            MediaType smile = MediaType.valueOf("application/x-jackson-smile");
+
+            mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/detail", "invalid")
+                    .accept(smile, MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message").exists());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/bank/profiles/{profileId}/view - Get Profile View")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    class GetProfileViewTests {
+
+        // Sections are read on worker threads, which cannot see a test transaction's uncommitted rows
+
+        @AfterEach
+        void tearDown() {
+            userJpaRepository.deleteAll();
+            profileJpaRepository.deleteAll();
+            clientAccountJpaRepository.deleteAll();
+            clientJpaRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("should return the profile screen's default sections")
+        void shouldReturnDefaultSections() throws Exception {
+            Profile profile = createTestProfile(testClient.clientId(), ProfileType.ONLINE);
+            User user = User.create("viewer@example.com", "viewer@example.com", "View", "Er",
+                User.UserType.CLIENT_USER, User.IdentityProvider.AUTH0, profile.profileId(),
+                Set.of(User.Role.READER), "admin@example.com");
+            userRepository.save(user);
+
+            mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/view", profile.profileId().urn()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.detail.profileId").value(profile.profileId().urn()))
+                .andExpect(jsonPath("$.users.users[0].email").value("viewer@example.com"))
+                .andExpect(jsonPath("$.indirectClients.content").isArray())
+                .andExpect(jsonPath("$.userCounts").doesNotExist())
+                .andExpect(jsonPath("$.accountGroups").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("should return only the requested sections")
+        void shouldReturnRequestedSections() throws Exception {
+            Profile profile = createTestProfile(testClient.clientId(), ProfileType.SERVICING);
+
+            mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/view", profile.profileId().urn())
+                    .param("fields", "userCounts,accountGroups,userGroups"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.detail").doesNotExist())
+                .andExpect(jsonPath("$.users").doesNotExist())
+                .andExpect(jsonPath("$.userCounts").exists())
+                .andExpect(jsonPath("$.accountGroups").isEmpty())
+                .andExpect(jsonPath("$.userGroups").isEmpty());
+        }
+
+        @Test
+        @DisplayName("should answer 304 until something on the screen changes")
+        void shouldRevalidateWithETag() throws Exception {
+            Profile profile = createTestProfile(testClient.clientId(), ProfileType.ONLINE);
+
+            String etag = mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/view", profile.profileId().urn()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+            mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/view", profile.profileId().urn())
+                    .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+            userRepository.save(User.create("viewer@example.com", "viewer@example.com", "View", "Er",
+                User.UserType.CLIENT_USER, User.IdentityProvider.AUTH0, profile.profileId(),
+                Set.of(User.Role.READER), "admin@example.com"));
+
+            mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/view", profile.profileId().urn())
+                    .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.users[0].email").value("viewer@example.com"));
+        }
+
+        @Test
+        @DisplayName("should reject an unknown section")
+        void shouldRejectUnknownSection() throws Exception {
+            Profile profile = createTestProfile(testClient.clientId(), ProfileType.SERVICING);
+
+            mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/view", profile.profileId().urn())
+                    .param("fields", "detail,everything"))
+                .andExpect(status().isBadRequest());
+        }
     }
 
     @Nested
@@ -598,7 +717,18 @@ class BankAdminControllerE2ETest {
 
             mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/users", profile.profileId().urn()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.users").isArray())
+                .andExpect(jsonPath("$.hasMore").value(false));
+        }
+
+        @Test
+        @DisplayName("should return 400 for an unknown status filter")
+        void shouldReturn400ForUnknownStatus() throws Exception {
+            Profile profile = createTestProfile(testClient.clientId(), ProfileType.SERVICING);
+
+            mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/users", profile.profileId().urn())
+                    .param("status", "SLEEPING"))
+                .andExpect(status().isBadRequest());
         }
     }
 
@@ -1337,7 +1467,19 @@ class BankAdminControllerE2ETest {
         void shouldGetIndirectClientsByClientId() throws Exception {
             mockMvc.perform(get("/api/v1/bank/indirect-clients/by-client/{clientId}", testClient.clientId().urn()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.content").isArray());
+        }
+
+        @Test
+        @DisplayName("should return 400 for a negative page or an empty page size")
+        void shouldReturn400ForInvalidPage() throws Exception {
+            mockMvc.perform(get("/api/v1/bank/indirect-clients/by-client/{clientId}", testClient.clientId().urn())
+                    .param("page", "-1"))
+                .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/bank/indirect-clients/by-profile")
+                    .param("parentProfileId", indirectProfile.profileId().urn())
+                    .param("size", "0"))
+                .andExpect(status().isBadRequest());
         }
 
         @Test
@@ -1346,7 +1488,7 @@ class BankAdminControllerE2ETest {
             mockMvc.perform(get("/api/v1/bank/indirect-clients/by-profile")
                     .param("parentProfileId", indirectProfile.profileId().urn()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.content").isArray());
         }
 
         @Test
@@ -2199,7 +2341,7 @@ class BankAdminControllerE2ETest {
             // Listing users should include LOCKED users with canDeactivate=true
             mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/users", profile.profileId().urn()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[?(@.loginId=='lockedlistu@king.com')].canDeactivate").value(true));
+                .andExpect(jsonPath("$.users[?(@.loginId=='lockedlistu@king.com')].canDeactivate").value(true));
         }
 
         @Test
@@ -2386,8 +2528,121 @@ class BankAdminControllerE2ETest {
             // 3. List Users
             mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/users", profileId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[0].email").value(email));
+                .andExpect(jsonPath("$.users").isArray())
+                .andExpect(jsonPath("$.users[0].email").value(email));
+        }
+    }
+
+    // ==================== Query Budgets ====================
+
+    @Nested
+    @DisplayName("Query budgets - cost per request does not grow with the data")
+    class QueryBudgetTests {
+
+        // Statement budgets hold whatever MANY is; a lookup per client, account or user breaks them
+
+        private static final int MANY = 5;
+        private static final long MB = 1024 * 1024;
+
+        private Profile createProfileWithSecondaryClients() {
+            Profile profile = Profile.create(testClient.clientId(), ProfileType.ONLINE, "system");
+            profile.enrollAccount(testClient.clientId(), testAccount.accountId());
+            for (int i = 0; i < MANY; i++) {
+                Client client = createAndSaveClient(new SrfClientId(String.format("2000000%02d", i)), "Secondary " + i);
+                ClientAccount first = createAndSaveAccount(client.clientId(), String.format("200000000%02d1", i));
+                ClientAccount second = createAndSaveAccount(client.clientId(), String.format("200000000%02d2", i));
+                profile.addSecondaryClient(client.clientId(), AccountEnrollmentType.MANUAL,
+                    List.of(first.accountId(), second.accountId()));
+            }
+            profileRepository.save(profile);
+            return profile;
+        }
+
+        private User createUser(Profile profile, int i) {
+            User user = User.create(
+                "budgetuser" + i + "@king.com",
+                "budgetuser" + i + "@bank.com",
+                "Budget",
+                "User " + i,
+                User.UserType.CLIENT_USER,
+                User.IdentityProvider.AUTH0,
+                profile.profileId(),
+                Set.of(User.Role.READER, User.Role.CREATOR),
+                "system"
+            );
+            user.markProvisioned("auth0|budgetuser" + i);
+            userRepository.save(user);
+            return user;
+        }
+
+        @Test
+        @QueryBudget(max = 1, maxRows = MANY, maxAllocatedBytes = 2 * MB)
+        @DisplayName("client search by name")
+        void clientSearchByName() throws Exception {
+            for (int i = 0; i < MANY; i++) {
+                createAndSaveClient(new SrfClientId(String.format("3000000%02d", i)), "Budget Client " + i);
+            }
+
+            mockMvc.perform(get("/api/v1/bank/clients").param("name", "Budget"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(MANY));
+        }
+
+        @Test
+        @QueryBudget(max = 2, maxRows = MANY + 1, maxAllocatedBytes = 2 * MB)
+        @DisplayName("client accounts")
+        void clientAccounts() throws Exception {
+            for (int i = 2; i <= MANY; i++) {
+                createAndSaveAccount(testClient.clientId(), String.format("00000000000%d", i));
+            }
+
+            mockMvc.perform(get("/api/v1/bank/clients/{clientId}/accounts", testClient.clientId().urn()))
+                .andExpect(status().isOk());
+        }
+
+        @Test
+        @QueryBudget(max = 5, maxRows = 24, maxAllocatedBytes = 8 * MB)
+        @DisplayName("profile detail")
+        void profileDetail() throws Exception {
+            Profile profile = createProfileWithSecondaryClients();
+
+            mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/detail", profile.profileId().urn()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.profileId").value(profile.profileId().urn()));
+        }
+
+        @Test
+        @QueryBudget(max = 2, maxRows = 3 * MANY, maxAllocatedBytes = 4 * MB)
+        @DisplayName("profile users")
+        void profileUsers() throws Exception {
+            Profile profile = createProfileWithSecondaryClients();
+            for (int i = 0; i < MANY; i++) {
+                createUser(profile, i);
+            }
+
+            mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/users", profile.profileId().urn()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(MANY));
+        }
+
+        @Test
+        @QueryBudget(max = 2, maxRows = 10, maxAllocatedBytes = 8 * MB)
+        @DisplayName("authorization check")
+        void authorizationCheck() throws Exception {
+            Profile profile = createProfileWithSecondaryClients();
+            User user = createUser(profile, 0);
+
+            mockMvc.perform(post("/api/v1/bank/profiles/{profileId}/authorize", profile.profileId().urn())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("X-User-Id", user.id().id())
+                    .header("X-User-Roles", "READER,CREATOR")
+                    .content("""
+                        {
+                            "action": "payments.wire.view",
+                            "resourceId": "%s"
+                        }
+                        """.formatted(testAccount.accountId().urn())))
+                .andExpect(status().isOk());
         }
     }
 }
@@ -0,0 +1,175 @@
+package com.knight.application.rest.bank;
+
+import com.knight.application.rest.bank.ProfileViewAssembler.ProfileView;
+import com.knight.application.rest.bank.ProfileViewAssembler.Section;
+import com.knight.domain.indirectclients.repository.IndirectClientRepository;
+import com.knight.domain.policy.api.queries.PermissionPolicyQueries;
+import com.knight.domain.serviceprofiles.api.queries.AccountGroupQueries;
+import com.knight.domain.serviceprofiles.api.queries.ProfileQueries;
+import com.knight.domain.serviceprofiles.api.queries.ProfileQueries.ProfileDetail;
+import com.knight.domain.users.api.queries.UserGroupQueries;
+import com.knight.domain.users.api.queries.UserQueries;
+import com.knight.platform.sharedkernel.ProfileId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ProfileViewAssembler.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProfileViewAssemblerTest {
+
+    private static final ProfileId PROFILE_ID = ProfileId.fromUrn("servicing:srf:123456789");
+
+    @Mock
+    private ProfileQueries profileQueries;
+
+    @Mock
+    private UserQueries userQueries;
+
+    @Mock
+    private IndirectClientRepository indirectClientRepository;
+
+    @Mock
+    private PermissionPolicyQueries policyQueries;
+
+    @Mock
+    private UserGroupQueries userGroupQueries;
+
+    @Mock
+    private AccountGroupQueries accountGroupQueries;
+
+    private ExecutorService executor;
+    private ProfileViewAssembler assembler;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        assembler = new ProfileViewAssembler(profileQueries, userQueries, indirectClientRepository,
+            policyQueries, userGroupQueries, accountGroupQueries, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Sections")
+    class SectionTests {
+
+        @Test
+        @DisplayName("should default to what the profile screen opens with")
+        void shouldDefaultToScreenSections() {
+            assertThat(Section.parse(null)).containsExactlyInAnyOrder(Section.DETAIL, Section.USERS, Section.INDIRECT_CLIENTS);
+            assertThat(Section.parse(List.of("userCounts", " accountGroups")))
+                .containsExactlyInAnyOrder(Section.USER_COUNTS, Section.ACCOUNT_GROUPS);
+        }
+
+        @Test
+        @DisplayName("should reject unknown fields")
+        void shouldRejectUnknownField() {
+            assertThatThrownBy(() -> Section.parse(Set.of("everything")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("everything");
+        }
+    }
+
+    @Nested
+    @DisplayName("Assembly")
+    class AssemblyTests {
+
+        @Test
+        @DisplayName("should load the profile once and read only the selected sections")
+        void shouldReadSelectedSections() {
+            when(profileQueries.getProfileDetail(PROFILE_ID)).thenReturn(profileDetail());
+            when(userQueries.countUsersByStatusForProfile(PROFILE_ID)).thenReturn(Map.of("ACTIVE", 2));
+            when(accountGroupQueries.listGroupsByProfile(PROFILE_ID)).thenReturn(List.of());
+
+            ProfileView view = assembler.assemble(PROFILE_ID, EnumSet.of(Section.USER_COUNTS, Section.ACCOUNT_GROUPS), 50);
+
+            assertThat(view.userCounts()).containsEntry("ACTIVE", 2);
+            assertThat(view.accountGroups()).isEmpty();
+            assertThat(view.detail()).isNull();
+            assertThat(view.users()).isNull();
+            verify(profileQueries, times(1)).getProfileDetail(PROFILE_ID);
+            verifyNoInteractions(indirectClientRepository, policyQueries, userGroupQueries);
+        }
+
+        @Test
+        @DisplayName("should return the loaded profile as the detail section")
+        void shouldReuseLoadedProfile() {
+            ProfileDetail detail = profileDetail();
+            when(profileQueries.getProfileDetail(PROFILE_ID)).thenReturn(detail);
+
+            ProfileView view = assembler.assemble(PROFILE_ID, EnumSet.of(Section.DETAIL), 50);
+
+            assertThat(view.detail()).isSameAs(detail);
+            verify(profileQueries, times(1)).getProfileDetail(PROFILE_ID);
+        }
+
+        @Test
+        @DisplayName("should fail for a missing profile before reading any section")
+        void shouldFailForMissingProfile() {
+            when(profileQueries.getProfileDetail(PROFILE_ID))
+                .thenThrow(new IllegalArgumentException("Profile not found: " + PROFILE_ID.urn()));
+
+            assertThatThrownBy(() -> assembler.assemble(PROFILE_ID, EnumSet.of(Section.DETAIL, Section.USERS), 50))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Profile not found");
+            verifyNoInteractions(userQueries);
+        }
+
+        @Test
+        @DisplayName("should surface a failing section's own exception")
+        void shouldSurfaceSectionFailure() {
+            when(profileQueries.getProfileDetail(PROFILE_ID)).thenReturn(profileDetail());
+            when(policyQueries.listPoliciesByProfile(PROFILE_ID))
+                .thenThrow(new IllegalArgumentException("Unknown subject"));
+
+            assertThatThrownBy(() -> assembler.assemble(PROFILE_ID, EnumSet.of(Section.PERMISSION_POLICIES), 50))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown subject");
+        }
+
+        @Test
+        @DisplayName("should keep the page size within the paged endpoints' limits")
+        void shouldClampPageSize() {
+            when(profileQueries.getProfileDetail(PROFILE_ID)).thenReturn(profileDetail());
+
+            assembler.assemble(PROFILE_ID, EnumSet.of(Section.INDIRECT_CLIENTS), 10_000);
+            assembler.assemble(PROFILE_ID, EnumSet.of(Section.INDIRECT_CLIENTS), 0);
+
+            verify(indirectClientRepository).findSummariesByParentProfileId(PROFILE_ID, 0,
+                ProfileViewAssembler.MAX_PAGE_SIZE);
+            verify(indirectClientRepository).findSummariesByParentProfileId(PROFILE_ID, 0,
+                ProfileViewAssembler.DEFAULT_PAGE_SIZE);
+        }
+    }
+
+    private static ProfileDetail profileDetail() {
+        return new ProfileDetail(PROFILE_ID.urn(), "Acme Servicing", "SERVICING", "ACTIVE", "admin@example.com",
+            Instant.now(), Instant.now(), List.of(), List.of(), List.of());
+    }
+}
@@ -386,7 +386,7 @@ class BatchImportE2ETest {
                     .content(executeRequest))
                 .andExpect(status().isAccepted())
                 .andExpect(jsonPath("$.batchId").value(batchId))
-                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+                .andExpect(jsonPath("$.status").value("QUEUED"));
 
             // Step 3: Wait for batch processing to complete
             waitForBatchCompletion(batchId);
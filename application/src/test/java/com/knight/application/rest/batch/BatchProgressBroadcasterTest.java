@@ -0,0 +1,284 @@
+package com.knight.application.rest.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knight.application.rest.batch.dto.BatchProgressDto;
+import com.knight.domain.batch.aggregate.Batch;
+import com.knight.domain.batch.api.events.BatchProgressed;
+import com.knight.domain.batch.types.BatchType;
+import com.knight.platform.sharedkernel.BankClientId;
+import com.knight.platform.sharedkernel.ProfileId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BatchProgressBroadcaster.
+ */
+class BatchProgressBroadcasterTest {
+
+    private static final ProfileId PROFILE_ID = ProfileId.of(BankClientId.of("srf:123456789"));
+
+    private BatchProgressBroadcaster broadcaster;
+    private Batch batch;
+    private String batchId;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new BatchProgressBroadcaster(new ObjectMapper(),
+            Clock.fixed(Instant.parse("2026-01-15T10:00:00Z"), ZoneOffset.UTC), Runnable::run);
+        batch = Batch.create(BatchType.PAYOR_ENROLMENT, PROFILE_ID, "admin@example.com");
+        batch.addItem("{\"businessName\":\"Acme\"}");
+        batch.addItem("{\"businessName\":\"Beta\"}");
+        batch.addItem("{\"businessName\":\"Gamma\"}");
+        batchId = batch.id().toString();
+    }
+
+    private BatchProgressed progress(long sequence, String status, int success, int failed,
+                                     BatchProgressed.ItemChange... changes) {
+        return new BatchProgressed(batchId, PROFILE_ID.urn(), sequence, status, status,
+            3, success, failed, 3 - success - failed, List.of(changes), Instant.now());
+    }
+
+    @Nested
+    @DisplayName("Streaming")
+    class StreamingTests {
+
+        @Test
+        @DisplayName("should send the persisted state first, then only the changes")
+        void shouldSendSnapshotThenChanges() {
+            RecordingEmitter emitter = new RecordingEmitter();
+            broadcaster.register(batch, emitter);
+
+            broadcaster.onProgress(progress(1, "IN_PROGRESS", 0, 0));
+            broadcaster.onProgress(progress(2, "IN_PROGRESS", 1, 0,
+                new BatchProgressed.ItemChange(1, "Acme", "SUCCESS", null)));
+
+            assertThat(emitter.events).hasSize(3);
+            assertThat(emitter.events.get(0).sequence()).isZero();
+            assertThat(emitter.events.get(0).status()).isEqualTo("PENDING");
+            assertThat(emitter.events.get(2).successCount()).isEqualTo(1);
+            assertThat(emitter.events.get(2).changedItems()).singleElement()
+                .satisfies(change -> assertThat(change.businessName()).isEqualTo("Acme"));
+        }
+
+        @Test
+        @DisplayName("should give late watchers the live counts and failures so far")
+        void shouldCatchUpLateWatchers() {
+            broadcaster.onProgress(progress(1, "IN_PROGRESS", 0, 0));
+            broadcaster.onProgress(progress(2, "IN_PROGRESS", 0, 1,
+                new BatchProgressed.ItemChange(1, "Acme", "FAILED", "Duplicate email")));
+            broadcaster.onProgress(progress(3, "IN_PROGRESS", 1, 1,
+                new BatchProgressed.ItemChange(2, "Beta", "SUCCESS", null)));
+
+            RecordingEmitter late = new RecordingEmitter();
+            broadcaster.register(batch, late);
+
+            BatchProgressDto first = late.events.get(0);
+            assertThat(first.sequence()).isEqualTo(3);
+            assertThat(first.successCount()).isEqualTo(1);
+            assertThat(first.changedItems()).extracting(BatchProgressDto.ItemChangeDto::businessName)
+                .containsExactly("Acme");
+        }
+
+        @Test
+        @DisplayName("should complete watchers on the final event")
+        void shouldCompleteOnFinalEvent() {
+            RecordingEmitter emitter = new RecordingEmitter();
+            broadcaster.register(batch, emitter);
+
+            broadcaster.onProgress(progress(1, "COMPLETED", 3, 0));
+
+            assertThat(emitter.completed).isTrue();
+            assertThat(broadcaster.watcherCount(batchId)).isZero();
+        }
+
+        @Test
+        @DisplayName("should send the final state and complete when subscribing to a finished batch")
+        void shouldCompleteImmediatelyForFinishedBatch() {
+            broadcaster.onProgress(progress(1, "COMPLETED_WITH_ERRORS", 2, 1));
+
+            RecordingEmitter emitter = new RecordingEmitter();
+            broadcaster.register(batch, emitter);
+
+            assertThat(emitter.events).singleElement()
+                .satisfies(event -> assertThat(event.status()).isEqualTo("COMPLETED_WITH_ERRORS"));
+            assertThat(emitter.completed).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Watcher failures")
+    class WatcherFailureTests {
+
+        @Test
+        @DisplayName("should drop a broken watcher without affecting others or the executor")
+        void shouldDropBrokenWatcher() {
+            RecordingEmitter healthy = new RecordingEmitter();
+            RecordingEmitter broken = new RecordingEmitter();
+            broadcaster.register(batch, healthy);
+            broadcaster.register(batch, broken);
+            broken.failSends = true;
+
+            broadcaster.onProgress(progress(1, "IN_PROGRESS", 0, 0));
+
+            assertThat(broadcaster.watcherCount(batchId)).isEqualTo(1);
+            assertThat(healthy.events).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("should forget finished batches after the retention period")
+        void shouldPurgeFinishedBatches() {
+            MutableClock clock = new MutableClock();
+            broadcaster = new BatchProgressBroadcaster(new ObjectMapper(), clock, Runnable::run);
+            broadcaster.onProgress(progress(1, "COMPLETED", 3, 0));
+            assertThat(broadcaster.channelCount()).isEqualTo(1);
+
+            clock.now = clock.now.plus(Duration.ofMinutes(3));
+            broadcaster.register(batch, new RecordingEmitter());
+
+            assertThat(broadcaster.channelCount()).isEqualTo(1);
+            assertThat(broadcaster.watcherCount(batchId)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Slow watchers")
+    class SlowWatcherTests {
+
+        private final List<Runnable> sends = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            broadcaster = new BatchProgressBroadcaster(new ObjectMapper(),
+                Clock.fixed(Instant.parse("2026-01-15T10:00:00Z"), ZoneOffset.UTC), sends::add);
+        }
+
+        private void runSends() {
+            while (!sends.isEmpty()) {
+                sends.remove(0).run();
+            }
+        }
+
+        @Test
+        @DisplayName("should send on the sender threads, not the executor thread")
+        void shouldNotSendOnExecutorThread() {
+            RecordingEmitter emitter = new RecordingEmitter();
+            broadcaster.register(batch, emitter);
+
+            broadcaster.onProgress(progress(1, "IN_PROGRESS", 0, 0));
+            broadcaster.onProgress(progress(2, "COMPLETED", 3, 0));
+
+            assertThat(emitter.events).isEmpty();
+            assertThat(emitter.completed).isFalse();
+            assertThat(sends).hasSize(1);
+
+            runSends();
+
+            assertThat(emitter.events).extracting(BatchProgressDto::sequence).containsExactly(0L, 1L, 2L);
+            assertThat(emitter.completed).isTrue();
+        }
+
+        @Test
+        @DisplayName("should replace a lagging watcher's backlog with the current state")
+        void shouldResyncLaggingWatcher() {
+            RecordingEmitter emitter = new RecordingEmitter();
+            broadcaster.register(batch, emitter);
+
+            broadcaster.onProgress(progress(1, "IN_PROGRESS", 0, 1,
+                new BatchProgressed.ItemChange(2, "Beta", "FAILED", "Duplicate")));
+            for (int i = 2; i <= BatchProgressBroadcaster.MAX_PENDING_EVENTS + 5; i++) {
+                broadcaster.onProgress(progress(i, "IN_PROGRESS", 0, 1));
+            }
+            runSends();
+
+            assertThat(emitter.events).hasSizeLessThan(BatchProgressBroadcaster.MAX_PENDING_EVENTS);
+            BatchProgressDto resync = emitter.events.get(0);
+            assertThat(resync.failedCount()).isEqualTo(1);
+            assertThat(resync.changedItems()).singleElement()
+                .satisfies(change -> assertThat(change.businessName()).isEqualTo("Beta"));
+            assertThat(emitter.events.get(emitter.events.size() - 1).sequence())
+                .isEqualTo(BatchProgressBroadcaster.MAX_PENDING_EVENTS + 5L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Abandoned batches")
+    class AbandonedBatchTests {
+
+        @Test
+        @DisplayName("should forget a batch that stopped sending events, closing its watchers")
+        void shouldPurgeIdleBatches() {
+            MutableClock clock = new MutableClock();
+            broadcaster = new BatchProgressBroadcaster(new ObjectMapper(), clock, Runnable::run);
+            RecordingEmitter emitter = new RecordingEmitter();
+            broadcaster.register(batch, emitter);
+            broadcaster.onProgress(progress(1, "IN_PROGRESS", 1, 0));
+
+            clock.now = clock.now.plus(Duration.ofMinutes(31));
+            Batch other = Batch.create(BatchType.PAYOR_ENROLMENT, PROFILE_ID, "admin@example.com");
+            broadcaster.register(other, new RecordingEmitter());
+
+            assertThat(broadcaster.channelCount()).isEqualTo(1);
+            assertThat(broadcaster.watcherCount(batchId)).isZero();
+            assertThat(emitter.completed).isTrue();
+        }
+    }
+
+    /**
+     * Emitter that records the progress payloads it is asked to send.
+     */
+    static final class RecordingEmitter extends SseEmitter {
+        final List<BatchProgressDto> events = new ArrayList<>();
+        boolean failSends;
+        boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failSends) {
+                throw new IOException("Broken pipe");
+            }
+            builder.build().stream()
+                .map(part -> part.getData())
+                .filter(BatchProgressDto.class::isInstance)
+                .map(BatchProgressDto.class::cast)
+                .forEach(events::add);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    static final class MutableClock extends Clock {
+        Instant now = Instant.parse("2026-01-15T10:00:00Z");
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.knight.application.rest.client;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knight.application.perf.QueryBudget;
+import com.knight.application.perf.QueryBudgetConfiguration;
 import com.knight.application.persistence.clients.repository.ClientAccountJpaRepository;
 import com.knight.application.persistence.clients.repository.ClientJpaRepository;
 import com.knight.application.persistence.indirectclients.repository.IndirectClientJpaRepository;
@@ -29,6 +31,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.TestPropertySource;
@@ -54,6 +57,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @SpringBootTest
 @AutoConfigureMockMvc
+@Import(QueryBudgetConfiguration.class)
 @Transactional
 @TestPropertySource(properties = {
     "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;MODE=MSSQLServer",
@@ -196,8 +200,8 @@ class DirectClientControllerE2ETest {
             mockMvc.perform(get("/api/v1/client/indirect-clients")
                     .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$").isEmpty());
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content").isEmpty());
         }
 
         @Test
@@ -216,9 +220,9 @@ class DirectClientControllerE2ETest {
             mockMvc.perform(get("/api/v1/client/indirect-clients")
                     .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].businessName").value("Acme Corporation"));
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].businessName").value("Acme Corporation"))
+                .andExpect(jsonPath("$.content[0].accountCount").value(0));
         }
 
         @Test
@@ -239,7 +243,8 @@ class DirectClientControllerE2ETest {
             mockMvc.perform(get("/api/v1/client/indirect-clients")
                     .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(3));
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.totalElements").value(3));
         }
     }
 
@@ -629,7 +634,7 @@ class DirectClientControllerE2ETest {
             mockMvc.perform(get("/api/v1/client/users")
                     .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.users").isArray());
         }
     }
 
@@ -2175,7 +2180,7 @@ class DirectClientControllerE2ETest {
             mockMvc.perform(get("/api/v1/client/users")
                     .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[?(@.email=='pendinguser@company.com')].canResendInvitation").value(true));
+                .andExpect(jsonPath("$.users[?(@.email=='pendinguser@company.com')].canResendInvitation").value(true));
         }
 
         @Test
@@ -2199,8 +2204,8 @@ class DirectClientControllerE2ETest {
             mockMvc.perform(get("/api/v1/client/users")
                     .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[?(@.email=='activeuser@company.com')].canLock").value(true))
-                .andExpect(jsonPath("$[?(@.email=='activeuser@company.com')].canDeactivate").value(true));
+                .andExpect(jsonPath("$.users[?(@.email=='activeuser@company.com')].canLock").value(true))
+                .andExpect(jsonPath("$.users[?(@.email=='activeuser@company.com')].canDeactivate").value(true));
         }
 
         @Test
@@ -2225,8 +2230,8 @@ class DirectClientControllerE2ETest {
             mockMvc.perform(get("/api/v1/client/users")
                     .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[?(@.email=='lockeduser2@company.com')].canDeactivate").value(true))
-                .andExpect(jsonPath("$[?(@.email=='lockeduser2@company.com')].canLock").value(false));
+                .andExpect(jsonPath("$.users[?(@.email=='lockeduser2@company.com')].canDeactivate").value(true))
+                .andExpect(jsonPath("$.users[?(@.email=='lockeduser2@company.com')].canLock").value(false));
         }
     }
 
@@ -2281,4 +2286,107 @@ class DirectClientControllerE2ETest {
                 .andExpect(jsonPath("$.relatedPersons[0].phone").value("1234567890"));
         }
     }
+
+    // ==================== Query Budgets ====================
+
+    @Nested
+    @DisplayName("Query budgets - cost per request does not grow with the data")
+    class QueryBudgetTests {
+
+        // Statement budgets hold whatever MANY is; a lookup per indirect client, person, user or batch breaks them
+
+        private static final int MANY = 5;
+        private static final long MB = 1024 * 1024;
+
+        private IndirectClient createIndirectClientWithPersons(String name) {
+            IndirectClient indirectClient = IndirectClient.create(
+                IndirectClientId.generate(),
+                testClient.clientId(),
+                testProfile.profileId(),
+                name,
+                "test@directclient.com"
+            );
+            for (int i = 0; i < MANY; i++) {
+                indirectClient.addRelatedPerson("Person " + i,
+                    com.knight.domain.indirectclients.types.PersonRole.CONTACT,
+                    com.knight.domain.indirectclients.types.Email.of("person" + i + "@company.com"),
+                    null);
+            }
+            indirectClientRepository.save(indirectClient);
+            return indirectClient;
+        }
+
+        @Test
+        @QueryBudget(max = 1, maxRows = MANY, maxAllocatedBytes = 4 * MB)
+        @DisplayName("indirect client list")
+        void indirectClientList() throws Exception {
+            for (int i = 0; i < MANY; i++) {
+                createIndirectClientWithPersons("Company " + i);
+            }
+
+            mockMvc.perform(get("/api/v1/client/indirect-clients")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(MANY));
+        }
+
+        @Test
+        @QueryBudget(max = 2, maxRows = MANY, maxAllocatedBytes = 4 * MB)
+        @DisplayName("indirect client detail")
+        void indirectClientDetail() throws Exception {
+            IndirectClient indirectClient = createIndirectClientWithPersons("Acme Corporation");
+
+            mockMvc.perform(get("/api/v1/client/indirect-clients/{id}", indirectClient.id().urn())
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.relatedPersons.length()").value(MANY));
+        }
+
+        @Test
+        @QueryBudget(max = 2, maxRows = 3 * MANY, maxAllocatedBytes = 4 * MB)
+        @DisplayName("profile users")
+        void profileUsers() throws Exception {
+            for (int i = 0; i < MANY; i++) {
+                User user = User.create(
+                    "budgetuser" + i + "@king.com",
+                    "budgetuser" + i + "@directclient.com",
+                    "Budget",
+                    "User " + i,
+                    User.UserType.CLIENT_USER,
+                    User.IdentityProvider.AUTH0,
+                    testProfile.profileId(),
+                    Set.of(User.Role.READER, User.Role.CREATOR),
+                    "system"
+                );
+                user.markProvisioned("auth0|budgetuser" + i);
+                userRepository.save(user);
+            }
+
+            mockMvc.perform(get("/api/v1/client/users")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(MANY));
+        }
+
+        @Test
+        @QueryBudget(max = 2, maxRows = 3 * MANY, maxAllocatedBytes = 4 * MB)
+        @DisplayName("payor enrolment batches")
+        void payorEnrolmentBatches() throws Exception {
+            for (int i = 0; i < MANY; i++) {
+                Batch batch = Batch.create(
+                    BatchType.PAYOR_ENROLMENT,
+                    testProfile.profileId(),
+                    "test@directclient.com"
+                );
+                batch.addItem("{\"businessName\":\"Payor " + i + "a\"}");
+                batch.addItem("{\"businessName\":\"Payor " + i + "b\"}");
+                batchRepository.save(batch);
+            }
+
+            mockMvc.perform(get("/api/v1/client/payor-enrolment/batches")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(MANY));
+        }
+    }
 }
@@ -1,11 +1,19 @@
 package com.knight.application.rest.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knight.application.jobs.JobQueue;
+import com.knight.application.jobs.JobType;
+import com.knight.application.rest.batch.BatchProgressBroadcaster;
+import com.knight.application.rest.batch.dto.ExecuteBatchRequest;
+import com.knight.application.rest.batch.dto.ExecuteBatchResponse;
 import com.knight.application.rest.indirectclients.dto.*;
+import com.knight.application.rest.serviceprofiles.dto.PageResponseDto;
 import com.knight.application.rest.users.dto.*;
 import com.knight.application.security.ForbiddenException;
 import com.knight.application.security.auth0.Auth0UserContext;
+import com.knight.domain.batch.aggregate.Batch;
 import com.knight.domain.batch.service.PayorEnrolmentService;
+import com.knight.domain.batch.types.BatchType;
 import com.knight.domain.clients.repository.ClientAccountRepository;
 import com.knight.domain.indirectclients.aggregate.IndirectClient;
 import com.knight.domain.indirectclients.repository.IndirectClientRepository;
@@ -13,7 +21,9 @@ import com.knight.domain.policy.api.queries.PermissionPolicyQueries;
 import com.knight.domain.users.api.commands.UserCommands;
 import com.knight.domain.users.api.commands.UserCommands.ProvisionResult;
 import com.knight.domain.users.api.queries.UserQueries;
+import com.knight.domain.users.api.queries.UserQueries.ProfileUserPage;
 import com.knight.domain.users.api.queries.UserQueries.ProfileUserSummary;
+import com.knight.domain.users.api.queries.UserQueries.UserSearch;
 import com.knight.platform.sharedkernel.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +34,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Instant;
 import java.util.*;
@@ -60,6 +71,12 @@ class DirectClientControllerTest {
     @Mock
     private PayorEnrolmentService payorEnrolmentService;
 
+    @Mock
+    private BatchProgressBroadcaster batchProgressBroadcaster;
+
+    @Mock
+    private JobQueue jobQueue;
+
     private ObjectMapper objectMapper;
     private DirectClientController controller;
 
@@ -78,7 +95,9 @@ class DirectClientControllerTest {
             userQueries,
             policyQueries,
             payorEnrolmentService,
-            objectMapper
+            objectMapper,
+            batchProgressBroadcaster,
+            jobQueue
         );
     }
 
@@ -97,16 +116,22 @@ class DirectClientControllerTest {
     class GetMyIndirectClientsTests {
 
         @Test
-        @DisplayName("should return all indirect clients")
+        @DisplayName("should return a page of indirect client summaries")
         void shouldReturnAllIndirectClients() {
             when(auth0UserContext.getProfileId()).thenReturn(Optional.of(TEST_PROFILE_ID));
-            IndirectClient client = createTestIndirectClient();
-            when(indirectClientRepository.findByParentProfileId(TEST_PROFILE_ID)).thenReturn(List.of(client));
+            IndirectClientRepository.IndirectClientSummary summary = new IndirectClientRepository.IndirectClientSummary(
+                TEST_INDIRECT_CLIENT_ID, ClientId.of("srf:123456789"), IndirectClient.ClientType.BUSINESS,
+                "Test Indirect Client", null, IndirectClient.Status.ACTIVE, 2, 3, Instant.now());
+            when(indirectClientRepository.findSummariesByParentProfileId(TEST_PROFILE_ID, 0, 50))
+                .thenReturn(new IndirectClientRepository.PageResult<>(List.of(summary), 1, 0, 50));
 
-            ResponseEntity<List<IndirectClientDto>> response = controller.getMyIndirectClients();
+            ResponseEntity<PageResponseDto<IndirectClientDto>> response = controller.getMyIndirectClients(0, 50);
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-            assertThat(response.getBody()).hasSize(1);
+            assertThat(response.getBody().content()).hasSize(1);
+            assertThat(response.getBody().content().get(0).relatedPersonCount()).isEqualTo(2);
+            assertThat(response.getBody().content().get(0).accountCount()).isEqualTo(3);
+            assertThat(response.getBody().totalPages()).isEqualTo(1);
         }
 
         @Test
@@ -114,9 +139,19 @@ class DirectClientControllerTest {
         void shouldThrowWhenProfileNotFound() {
             when(auth0UserContext.getProfileId()).thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> controller.getMyIndirectClients())
+            assertThatThrownBy(() -> controller.getMyIndirectClients(0, 50))
                 .isInstanceOf(ForbiddenException.class);
         }
+
+        @Test
+        @DisplayName("should reject a negative page or an empty page size")
+        void shouldRejectInvalidPage() {
+            assertThatThrownBy(() -> controller.getMyIndirectClients(-1, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> controller.getMyIndirectClients(0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(indirectClientRepository);
+        }
     }
 
     @Nested
@@ -423,24 +458,27 @@ class DirectClientControllerTest {
                 "user-1", "testuser", TEST_EMAIL, "Test", "User",
                 "ACTIVE", "Active", null, Set.of("READER"), Instant.now(), null
             );
-            when(userQueries.listUsersByProfile(TEST_PROFILE_ID)).thenReturn(List.of(summary));
+            when(userQueries.searchUsersByProfile(TEST_PROFILE_ID, UserSearch.firstPage()))
+                .thenReturn(new ProfileUserPage(List.of(summary), null));
 
-            ResponseEntity<List<ProfileUserDto>> response = controller.listUsers();
+            ResponseEntity<ProfileUserPageDto> response = controller.listUsers(null, null, null, "email", "asc", null, 50);
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-            assertThat(response.getBody()).hasSize(1);
+            assertThat(response.getBody().users()).hasSize(1);
+            assertThat(response.getBody().hasMore()).isFalse();
         }
 
         @Test
         @DisplayName("should return empty list when no users")
         void shouldReturnEmptyList() {
             when(auth0UserContext.getProfileId()).thenReturn(Optional.of(TEST_PROFILE_ID));
-            when(userQueries.listUsersByProfile(TEST_PROFILE_ID)).thenReturn(List.of());
+            when(userQueries.searchUsersByProfile(eq(TEST_PROFILE_ID), any()))
+                .thenReturn(new ProfileUserPage(List.of(), null));
 
-            ResponseEntity<List<ProfileUserDto>> response = controller.listUsers();
+            ResponseEntity<ProfileUserPageDto> response = controller.listUsers(null, null, null, "email", "asc", null, 50);
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-            assertThat(response.getBody()).isEmpty();
+            assertThat(response.getBody().users()).isEmpty();
         }
     }
 
@@ -567,4 +605,101 @@ class DirectClientControllerTest {
             verify(userCommands, never()).resetUserMfa(any());
         }
     }
+
+    @Nested
+    @DisplayName("Stream Batch Progress")
+    class StreamBatchProgressTests {
+
+        @Test
+        @DisplayName("should subscribe to progress for own batch")
+        void shouldSubscribeForOwnBatch() {
+            Batch batch = Batch.create(BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID, TEST_EMAIL);
+            SseEmitter emitter = new SseEmitter();
+            when(auth0UserContext.getProfileId()).thenReturn(Optional.of(TEST_PROFILE_ID));
+            when(payorEnrolmentService.getBatch(batch.id())).thenReturn(Optional.of(batch));
+            when(batchProgressBroadcaster.subscribe(batch)).thenReturn(emitter);
+
+            ResponseEntity<SseEmitter> response = controller.streamBatchProgress(batch.id().toString());
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isSameAs(emitter);
+        }
+
+        @Test
+        @DisplayName("should return 404 when batch belongs to another profile")
+        void shouldReturn404ForOtherProfile() {
+            ProfileId otherProfile = ProfileId.of(BankClientId.of("srf:987654321"));
+            Batch batch = Batch.create(BatchType.PAYOR_ENROLMENT, otherProfile, TEST_EMAIL);
+            when(auth0UserContext.getProfileId()).thenReturn(Optional.of(TEST_PROFILE_ID));
+            when(payorEnrolmentService.getBatch(batch.id())).thenReturn(Optional.of(batch));
+
+            ResponseEntity<SseEmitter> response = controller.streamBatchProgress(batch.id().toString());
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            verifyNoInteractions(batchProgressBroadcaster);
+        }
+    }
+
+    @Nested
+    @DisplayName("Execute and Cancel Batch")
+    class BatchJobTests {
+
+        @Test
+        @DisplayName("should queue execution instead of running it on the request thread")
+        void shouldQueueExecution() {
+            Batch batch = Batch.create(BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID, TEST_EMAIL);
+            when(auth0UserContext.getProfileId()).thenReturn(Optional.of(TEST_PROFILE_ID));
+            when(payorEnrolmentService.getBatch(batch.id())).thenReturn(Optional.of(batch));
+
+            ResponseEntity<ExecuteBatchResponse> response =
+                controller.executePayorEnrolment(new ExecuteBatchRequest(batch.id().toString()));
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+            assertThat(response.getBody().status()).isEqualTo("QUEUED");
+            verify(jobQueue).enqueue(JobType.PAYOR_ENROLMENT, batch.id().toString(), TEST_PROFILE_ID.urn());
+            verify(payorEnrolmentService, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("should report a cancellation request for a running batch")
+        void shouldRequestCancellation() {
+            Batch batch = Batch.create(BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID, TEST_EMAIL);
+            when(auth0UserContext.getProfileId()).thenReturn(Optional.of(TEST_PROFILE_ID));
+            when(payorEnrolmentService.getBatch(batch.id())).thenReturn(Optional.of(batch));
+            when(jobQueue.cancel(JobType.PAYOR_ENROLMENT, batch.id().toString()))
+                .thenReturn(JobQueue.CancelOutcome.CANCEL_REQUESTED);
+
+            ResponseEntity<ExecuteBatchResponse> response = controller.cancelBatch(batch.id().toString());
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+            assertThat(response.getBody().status()).isEqualTo("CANCEL_REQUESTED");
+        }
+
+        @Test
+        @DisplayName("should return 409 when the batch has no active job")
+        void shouldRejectCancelOfInactiveBatch() {
+            Batch batch = Batch.create(BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID, TEST_EMAIL);
+            when(auth0UserContext.getProfileId()).thenReturn(Optional.of(TEST_PROFILE_ID));
+            when(payorEnrolmentService.getBatch(batch.id())).thenReturn(Optional.of(batch));
+            when(jobQueue.cancel(JobType.PAYOR_ENROLMENT, batch.id().toString()))
+                .thenReturn(JobQueue.CancelOutcome.NOT_ACTIVE);
+
+            ResponseEntity<ExecuteBatchResponse> response = controller.cancelBatch(batch.id().toString());
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        }
+
+        @Test
+        @DisplayName("should not cancel another profile's batch")
+        void shouldNotCancelOtherProfilesBatch() {
+            Batch batch = Batch.create(BatchType.PAYOR_ENROLMENT, ProfileId.of(BankClientId.of("srf:987654321")), TEST_EMAIL);
+            when(auth0UserContext.getProfileId()).thenReturn(Optional.of(TEST_PROFILE_ID));
+            when(payorEnrolmentService.getBatch(batch.id())).thenReturn(Optional.of(batch));
+
+            ResponseEntity<ExecuteBatchResponse> response = controller.cancelBatch(batch.id().toString());
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            verifyNoInteractions(jobQueue);
+        }
+    }
 }
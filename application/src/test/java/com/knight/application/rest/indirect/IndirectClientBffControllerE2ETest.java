@@ -1,6 +1,8 @@
 package com.knight.application.rest.indirect;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knight.application.perf.QueryBudget;
+import com.knight.application.perf.QueryBudgetConfiguration;
 import com.knight.application.persistence.clients.entity.ClientAccountEntity;
 import com.knight.application.persistence.clients.repository.ClientAccountJpaRepository;
 import com.knight.application.persistence.clients.repository.ClientJpaRepository;
@@ -10,6 +12,9 @@ import com.knight.application.persistence.profiles.entity.ProfileEntity;
 import com.knight.application.persistence.profiles.repository.ProfileJpaRepository;
 import com.knight.application.persistence.users.repository.UserJpaRepository;
 import com.knight.application.security.auth0.Auth0UserContext;
+import com.knight.application.timing.RequestTimingFilter;
+import com.knight.application.timing.RequestTimingProperties;
+import com.knight.application.timing.SegmentTimer;
 import com.knight.domain.auth0identity.api.Auth0IdentityService;
 import com.knight.domain.clients.aggregate.Client;
 import com.knight.domain.clients.aggregate.ClientAccount;
@@ -25,13 +30,17 @@ import com.knight.domain.serviceprofiles.aggregate.Profile;
 import com.knight.domain.serviceprofiles.repository.ServicingProfileRepository;
 import com.knight.domain.serviceprofiles.types.ProfileType;
 import com.knight.domain.users.aggregate.User;
+import com.knight.domain.users.aggregate.UserGroup;
+import com.knight.domain.users.repository.UserGroupRepository;
 import com.knight.domain.users.repository.UserRepository;
 import com.knight.platform.sharedkernel.*;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
@@ -39,11 +48,14 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -62,6 +74,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @SpringBootTest
 @AutoConfigureMockMvc
+@Import(QueryBudgetConfiguration.class)
 @Transactional
 @TestPropertySource(properties = {
     "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;MODE=MSSQLServer",
@@ -122,6 +135,15 @@ class IndirectClientBffControllerE2ETest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserGroupRepository userGroupRepository;
+
+    @Autowired
+    private RequestTimingProperties requestTimingProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     // Test data
     private Client testBank;
     private Profile testBankProfile;
@@ -640,7 +662,7 @@ class IndirectClientBffControllerE2ETest {
             mockMvc.perform(get("/api/v1/indirect/users")
                     .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.users").isArray());
         }
     }
 
@@ -2193,18 +2215,159 @@ class IndirectClientBffControllerE2ETest {
         void shouldListAllUsersForIndirectProfile() throws Exception {
             mockMvc.perform(get("/api/v1/indirect/users"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.users").isArray());
         }
 
         @Test
         @DisplayName("should list users for profile with pagination")
         void shouldListUsersForProfileWithPagination() throws Exception {
             mockMvc.perform(get("/api/v1/indirect/users")
-                    .param("page", "0")
-                    .param("size", "5"))
+                    .param("size", "5")
+                    .param("sortBy", "name"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.users").isArray())
+                .andExpect(jsonPath("$.hasMore").value(false));
+        }
+    }
+
+
+    // ==================== Query Budgets ====================
+
+    @Nested
+    @DisplayName("Query budgets - cost per request does not grow with the data")
+    class QueryBudgetTests {
+
+        // Statement budgets hold whatever MANY is; a lookup per person, account, user or group breaks them
+
+        private static final int MANY = 5;
+        private static final long MB = 1024 * 1024;
+
+        private List<User> createUsers() {
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < MANY; i++) {
+                User user = User.create(
+                    "budgetuser" + i + "@king.com",
+                    "budgetuser" + i + "@indirect.com",
+                    "Budget",
+                    "User " + i,
+                    User.UserType.INDIRECT_USER,
+                    User.IdentityProvider.AUTH0,
+                    testIndirectProfile.profileId(),
+                    Set.of(User.Role.READER),
+                    "system"
+                );
+                user.markProvisioned("auth0|budgetuser" + i);
+                userRepository.save(user);
+                users.add(user);
+            }
+            return users;
+        }
+
+        @Test
+        @QueryBudget(max = 4, maxRows = MANY + 2, maxAllocatedBytes = 4 * MB)
+        @DisplayName("my indirect client")
+        void myIndirectClient() throws Exception {
+            for (int i = 0; i < MANY; i++) {
+                testIndirectClient.addRelatedPerson("Person " + i, PersonRole.CONTACT,
+                    Email.of("person" + i + "@indirect.com"), null);
+            }
+            indirectClientRepository.save(testIndirectClient);
+
+            mockMvc.perform(get("/api/v1/indirect/me")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.relatedPersons.length()").value(MANY));
+        }
+
+        @Test
+        @QueryBudget(max = 4, maxRows = MANY + 2, maxAllocatedBytes = 4 * MB)
+        @DisplayName("my OFI accounts")
+        void myAccounts() throws Exception {
+            for (int i = 0; i < MANY; i++) {
+                ClientAccountEntity accountEntity = new ClientAccountEntity();
+                accountEntity.setAccountId(String.format("OFI:CAN:001:12345:%012d", i));
+                accountEntity.setAccountSystem("OFI");
+                accountEntity.setAccountType("CAN");
+                accountEntity.setIndirectClientId(testIndirectClient.id().urn());
+                accountEntity.setCurrency("CAD");
+                accountEntity.setAccountHolderName("Account Holder " + i);
+                accountEntity.setStatus(AccountStatus.ACTIVE);
+                accountEntity.setCreatedAt(Instant.now());
+                accountEntity.setUpdatedAt(Instant.now());
+                clientAccountJpaRepository.save(accountEntity);
+            }
+
+            mockMvc.perform(get("/api/v1/indirect/accounts")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(MANY));
+        }
+
+        @Test
+        @QueryBudget(max = 2, maxRows = 2 * MANY, maxAllocatedBytes = 4 * MB)
+        @DisplayName("co-workers")
+        void coWorkers() throws Exception {
+            createUsers();
+
+            mockMvc.perform(get("/api/v1/indirect/users")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(MANY));
+        }
+
+        @Test
+        @QueryBudget(max = 3, maxRows = MANY * MANY + MANY + 1, maxAllocatedBytes = 4 * MB)
+        @DisplayName("user groups")
+        void userGroups() throws Exception {
+            List<User> users = createUsers();
+            for (int g = 0; g < MANY; g++) {
+                UserGroup group = UserGroup.create(testIndirectProfile.profileId(), "Group " + g, null, "system");
+                users.forEach(user -> group.addMember(user.id(), "system"));
+                userGroupRepository.save(group);
+            }
+
+            mockMvc.perform(get("/api/v1/indirect/groups")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(MANY));
         }
     }
 
+    @Nested
+    @DisplayName("Request timings")
+    class RequestTimingTests {
+
+        @Test
+        @DisplayName("should time the database calls and the body of a request")
+        void shouldTimeSegments() throws Exception {
+            mockMvc.perform(get("/api/v1/indirect/users")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(RequestTimingFilter.SERVER_TIMING_HEADER));
+
+            assertThat(meterRegistry.get(RequestTimingFilter.REQUEST_METRIC)
+                .tag("segment", "db").tag("uri", "/api/v1/indirect/users").timer().count()).isPositive();
+            assertThat(meterRegistry.get(RequestTimingFilter.REQUEST_METRIC)
+                .tag("segment", "serialize").tag("uri", "/api/v1/indirect/users").timer().count()).isPositive();
+            assertThat(meterRegistry.get(SegmentTimer.CALLS_METRIC).tag("segment", "db").timers())
+                .extracting(timer -> timer.getId().getTag("operation"))
+                .anySatisfy(operation -> assertThat(operation).startsWith("UserRepositoryAdapter."));
+        }
+
+        @Test
+        @DisplayName("should return the timings in a Server-Timing header when enabled")
+        void shouldSendServerTimingHeader() throws Exception {
+            requestTimingProperties.setServerTimingHeader(true);
+            try {
+                mockMvc.perform(get("/api/v1/indirect/users")
+                        .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(RequestTimingFilter.SERVER_TIMING_HEADER,
+                        matchesPattern(
+                            "db;dur=[0-9.]+;desc=\"\\d+ calls?\", serialize;dur=[0-9.]+;desc=\"1 call\", total;dur=[0-9.]+")));
+            } finally {
+                requestTimingProperties.setServerTimingHeader(false);
+            }
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.knight.application.rest.indirect;
 
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.knight.application.persistence.versions.ResourceVersionRepository;
 import com.knight.application.rest.indirectclients.dto.*;
 import com.knight.application.rest.policies.dto.*;
 import com.knight.application.rest.users.dto.*;
@@ -39,8 +40,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.Instant;
 import java.util.*;
@@ -92,6 +97,9 @@ class IndirectClientBffControllerTest {
     @Mock
     private AccountGroupQueries accountGroupQueries;
 
+    @Mock
+    private ResourceVersionRepository resourceVersions;
+
     private IndirectClientBffController controller;
 
     private static final ProfileId TEST_PROFILE_ID = ProfileId.of(BankClientId.of("srf:123456789"));
@@ -112,10 +120,23 @@ class IndirectClientBffControllerTest {
             auth0Adapter,
             userRepository,
             accountGroupCommands,
-            accountGroupQueries
+            accountGroupQueries,
+            resourceVersions
         );
     }
 
+    private static ServletWebRequest getRequest() {
+        return getRequest(null);
+    }
+
+    private static ServletWebRequest getRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/indirect");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
     private IndirectClient createTestIndirectClient() {
         return IndirectClient.create(
             TEST_INDIRECT_CLIENT_ID,
@@ -153,7 +174,7 @@ class IndirectClientBffControllerTest {
             when(indirectClientRepository.findById(TEST_INDIRECT_CLIENT_ID)).thenReturn(Optional.of(client));
             when(clientAccountRepository.findByIndirectClientId(anyString())).thenReturn(List.of());
 
-            ResponseEntity<IndirectClientDetailDto> response = controller.getMyIndirectClient();
+            ResponseEntity<IndirectClientDetailDto> response = controller.getMyIndirectClient(getRequest());
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).isNotNull();
@@ -167,17 +188,55 @@ class IndirectClientBffControllerTest {
             when(indirectClientRepository.findByProfileId(TEST_PROFILE_ID)).thenReturn(Optional.of(createTestIndirectClient()));
             when(indirectClientRepository.findById(TEST_INDIRECT_CLIENT_ID)).thenReturn(Optional.empty());
 
-            ResponseEntity<IndirectClientDetailDto> response = controller.getMyIndirectClient();
+            ResponseEntity<IndirectClientDetailDto> response = controller.getMyIndirectClient(getRequest());
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
         }
 
+        @Test
+        @DisplayName("should tag the response and answer 304 without loading while the version is unchanged")
+        void shouldAnswerNotModified() {
+            when(auth0UserContext.getProfileId()).thenReturn(Optional.of(TEST_PROFILE_ID));
+            when(resourceVersions.ownIndirectClient(TEST_PROFILE_ID)).thenReturn(Optional.of("v1"));
+            IndirectClient client = createTestIndirectClient();
+            when(indirectClientRepository.findByProfileId(TEST_PROFILE_ID)).thenReturn(Optional.of(client));
+            when(indirectClientRepository.findById(TEST_INDIRECT_CLIENT_ID)).thenReturn(Optional.of(client));
+
+            ResponseEntity<IndirectClientDetailDto> first = controller.getMyIndirectClient(getRequest());
+            String etag = first.getHeaders().getETag();
+            ResponseEntity<IndirectClientDetailDto> repeat = controller.getMyIndirectClient(getRequest(etag));
+
+            assertThat(etag).startsWith("W/\"");
+            assertThat(first.getHeaders().getCacheControl()).contains("no-cache");
+            assertThat(repeat.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(repeat.getBody()).isNull();
+            verify(indirectClientRepository, times(1)).findById(TEST_INDIRECT_CLIENT_ID);
+        }
+
+        @Test
+        @DisplayName("should return the full response once the version changes")
+        void shouldReturnFullResponseWhenChanged() {
+            when(auth0UserContext.getProfileId()).thenReturn(Optional.of(TEST_PROFILE_ID));
+            when(resourceVersions.ownIndirectClient(TEST_PROFILE_ID))
+                .thenReturn(Optional.of("v1"), Optional.of("v2"));
+            IndirectClient client = createTestIndirectClient();
+            when(indirectClientRepository.findByProfileId(TEST_PROFILE_ID)).thenReturn(Optional.of(client));
+            when(indirectClientRepository.findById(TEST_INDIRECT_CLIENT_ID)).thenReturn(Optional.of(client));
+
+            String etag = controller.getMyIndirectClient(getRequest()).getHeaders().getETag();
+            ResponseEntity<IndirectClientDetailDto> repeat = controller.getMyIndirectClient(getRequest(etag));
+
+            assertThat(repeat.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(repeat.getHeaders().getETag()).isNotEqualTo(etag);
+            assertThat(repeat.getBody()).isNotNull();
+        }
+
         @Test
         @DisplayName("should throw ForbiddenException when profile not found")
         void shouldThrowWhenProfileNotFound() {
             when(auth0UserContext.getProfileId()).thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> controller.getMyIndirectClient())
+            assertThatThrownBy(() -> controller.getMyIndirectClient(getRequest()))
                 .isInstanceOf(ForbiddenException.class)
                 .hasMessageContaining("User not found");
         }
@@ -335,7 +394,7 @@ class IndirectClientBffControllerTest {
             ClientAccount account = ClientAccount.createOfiAccount(accountId, TEST_INDIRECT_CLIENT_ID.urn(), com.knight.platform.sharedkernel.Currency.CAD, "Test Holder");
             when(clientAccountRepository.findByIndirectClientId(anyString())).thenReturn(List.of(account));
 
-            ResponseEntity<List<OfiAccountDto>> response = controller.getMyAccounts();
+            ResponseEntity<List<OfiAccountDto>> response = controller.getMyAccounts(getRequest());
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).hasSize(1);
@@ -539,12 +598,27 @@ class IndirectClientBffControllerTest {
                 "user-1", "user1", "user1@example.com", "User", "One",
                 "ACTIVE", "Active", null, Set.of("READER"), Instant.now(), null
             );
-            when(userQueries.listUsersByProfile(TEST_PROFILE_ID)).thenReturn(List.of(summary));
+            when(userQueries.searchUsersByProfile(eq(TEST_PROFILE_ID), any()))
+                .thenReturn(new ProfileUserPage(List.of(summary), "next"));
 
-            ResponseEntity<List<ProfileUserDto>> response = controller.listProfileUsers();
+            ResponseEntity<ProfileUserPageDto> response = controller.listProfileUsers(
+                Set.of("ACTIVE"), "READER", "us", "name", "desc", null, 25);
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-            assertThat(response.getBody()).hasSize(1);
+            assertThat(response.getBody().users()).hasSize(1);
+            assertThat(response.getBody().nextCursor()).isEqualTo("next");
+            assertThat(response.getBody().hasMore()).isTrue();
+            verify(userQueries).searchUsersByProfile(TEST_PROFILE_ID, new UserSearch(
+                Set.of("ACTIVE"), "READER", "us", UserSort.NAME, true, null, 25));
+        }
+
+        @Test
+        @DisplayName("should reject an unknown sort")
+        void shouldRejectUnknownSort() {
+            when(auth0UserContext.getProfileId()).thenReturn(Optional.of(TEST_PROFILE_ID));
+
+            assertThatThrownBy(() -> controller.listProfileUsers(null, null, null, "status", "asc", null, 25))
+                .isInstanceOf(IllegalArgumentException.class);
         }
     }
 
@@ -566,7 +640,7 @@ class IndirectClientBffControllerTest {
                 newUserId.id(), "newuser", "new@example.com", "New", "User",
                 "PENDING_VERIFICATION", "Pending", null, Set.of(), Instant.now(), null
             );
-            when(userQueries.listUsersByProfile(TEST_PROFILE_ID)).thenReturn(List.of(summary));
+            when(userQueries.getProfileUserSummary(newUserId)).thenReturn(summary);
 
             CreateUserRequest request = new CreateUserRequest(
                 "newuser", "new@example.com", "New", "User", Set.of("READER")
@@ -697,7 +771,7 @@ class IndirectClientBffControllerTest {
                 "user-1", "testuser", TEST_EMAIL, "Test", "User",
                 "ACTIVE", "Active", null, Set.of("ADMIN"), Instant.now(), null
             );
-            when(userQueries.listUsersByProfile(TEST_PROFILE_ID)).thenReturn(List.of(summary));
+            when(userQueries.getProfileUserSummary(UserId.of("user-1"))).thenReturn(summary);
 
             UpdateRolesRequest request = new UpdateRolesRequest(Set.of("ADMIN"));
 
@@ -840,7 +914,7 @@ class IndirectClientBffControllerTest {
             );
             when(userGroupQueries.listGroupsByProfile(TEST_PROFILE_ID)).thenReturn(List.of(summary));
 
-            ResponseEntity<List<IndirectClientBffController.UserGroupSummaryDto>> response = controller.listUserGroups();
+            ResponseEntity<List<IndirectClientBffController.UserGroupSummaryDto>> response = controller.listUserGroups(getRequest());
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).hasSize(1);
@@ -889,7 +963,7 @@ class IndirectClientBffControllerTest {
             );
             when(accountGroupQueries.listGroupsByProfile(TEST_PROFILE_ID)).thenReturn(List.of(summary));
 
-            ResponseEntity<List<IndirectClientBffController.AccountGroupSummaryDto>> response = controller.listAccountGroups();
+            ResponseEntity<List<IndirectClientBffController.AccountGroupSummaryDto>> response = controller.listAccountGroups(getRequest());
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).hasSize(1);
@@ -512,8 +512,29 @@ class IndirectClientControllerE2ETest {
                 .andReturn();
 
             JsonNode response = objectMapper.readTree(result.getResponse().getContentAsString());
-            assertThat(response.isArray()).isTrue();
-            assertThat(response.size()).isEqualTo(3);
+            assertThat(response.get("content").size()).isEqualTo(3);
+            assertThat(response.get("totalElements").asLong()).isEqualTo(3);
+            assertThat(response.get("content").get(0).get("businessName").asText()).isEqualTo("Client One");
+            assertThat(response.get("content").get(0).get("relatedPersonCount").asInt()).isZero();
+        }
+
+        @Test
+        @DisplayName("should page through indirect clients in name order")
+        void shouldPageIndirectClients() throws Exception {
+            createIndirectClient("Client One");
+            createIndirectClient("Client Two");
+            createIndirectClient("Client Three");
+
+            mockMvc.perform(get("/api/v1/bank/indirect-clients/by-profile")
+                    .param("parentProfileId", profileIdUrn)
+                    .param("page", "1")
+                    .param("size", "2")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].businessName").value("Client Two"))
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.totalPages").value(2));
         }
 
         @Test
@@ -523,8 +544,8 @@ class IndirectClientControllerE2ETest {
                     .param("parentProfileId", profileIdUrn)
                     .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$").isEmpty());
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content").isEmpty());
         }
 
         private void createIndirectClient(String businessName) throws Exception {
@@ -560,8 +581,7 @@ class IndirectClientControllerE2ETest {
                 .andReturn();
 
             JsonNode response = objectMapper.readTree(result.getResponse().getContentAsString());
-            assertThat(response.isArray()).isTrue();
-            assertThat(response.size()).isEqualTo(2);
+            assertThat(response.get("content").size()).isEqualTo(2);
         }
 
         @Test
@@ -570,8 +590,8 @@ class IndirectClientControllerE2ETest {
             mockMvc.perform(get("/api/v1/bank/indirect-clients/by-client/{clientId}", "srf:999999999")
                     .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$").isEmpty());
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content").isEmpty());
         }
 
         private void createIndirectClient(String businessName) throws Exception {
@@ -1170,8 +1190,8 @@ class IndirectClientControllerE2ETest {
         void shouldReturnEmptyList() throws Exception {
             mockMvc.perform(get("/api/v1/bank/indirect-clients/{id}/accounts", indirectClientId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$").isEmpty());
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content").isEmpty());
         }
 
         @Test
@@ -373,11 +373,11 @@ class UserControllerE2ETest {
             MvcResult result = mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/users", testProfileId.urn())
                     .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$.users").isArray())
                 .andReturn();
 
             JsonNode response = objectMapper.readTree(result.getResponse().getContentAsString());
-            assertThat(response.size()).isEqualTo(3);
+            assertThat(response.get("users").size()).isEqualTo(3);
         }
 
         @Test
@@ -386,8 +386,8 @@ class UserControllerE2ETest {
             mockMvc.perform(get("/api/v1/bank/profiles/{profileId}/users", testProfileId.urn())
                     .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$").isEmpty());
+                .andExpect(jsonPath("$.users").isArray())
+                .andExpect(jsonPath("$.users").isEmpty());
         }
 
         @Test
@@ -401,7 +401,7 @@ class UserControllerE2ETest {
                 .andReturn();
 
             JsonNode response = objectMapper.readTree(result.getResponse().getContentAsString());
-            JsonNode user = response.get(0);
+            JsonNode user = response.get("users").get(0);
 
             assertThat(user.has("userId")).isTrue();
             assertThat(user.has("email")).isTrue();
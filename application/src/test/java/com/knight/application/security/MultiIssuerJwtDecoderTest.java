@@ -1,5 +1,7 @@
 package com.knight.application.security;
 
+import com.knight.application.timing.SegmentTimer;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -36,7 +38,7 @@ class MultiIssuerJwtDecoderTest {
         decoders.put(AUTH0_ISSUER, auth0Decoder);
         decoders.put(ENTRA_ISSUER, entraDecoder);
 
-        multiIssuerDecoder = new MultiIssuerJwtDecoder(decoders);
+        multiIssuerDecoder = new MultiIssuerJwtDecoder(decoders, new SegmentTimer(ObservationRegistry.NOOP));
     }
 
     @Nested
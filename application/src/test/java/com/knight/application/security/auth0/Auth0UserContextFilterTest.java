@@ -1,10 +1,12 @@
 package com.knight.application.security.auth0;
 
 import com.knight.application.config.JwtProperties;
+import com.knight.application.timing.SegmentTimer;
 import com.knight.domain.users.aggregate.User;
 import com.knight.domain.users.repository.UserRepository;
 import com.knight.platform.sharedkernel.BankClientId;
 import com.knight.platform.sharedkernel.ProfileId;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -67,7 +69,8 @@ class Auth0UserContextFilterTest {
 
     @BeforeEach
     void setUp() {
-        filter = new Auth0UserContextFilter(jwtProperties, auth0UserContext, userRepository);
+        filter = new Auth0UserContextFilter(jwtProperties, auth0UserContext, userRepository,
+            new SegmentTimer(ObservationRegistry.NOOP));
         SecurityContextHolder.setContext(securityContext);
     }
 
@@ -0,0 +1,294 @@
+package com.knight.application.security.ratelimit;
+
+import com.knight.application.rest.login.dto.FtrCheckRequest;
+import com.knight.application.rest.login.dto.LoginCommand;
+import com.knight.application.rest.login.dto.RefreshTokenRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LoginRateLimiter and the interceptor and body advice that apply it.
+ */
+class LoginRateLimiterTest {
+
+    private static final String LOGIN_ENDPOINT = "/api/login/auth/login";
+    private static final String CHECK_ENDPOINT = "/api/login/ftr/check";
+
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setSlots(1024);
+        properties.setIp(new RateLimitProperties.Limit(5, Duration.ofMinutes(1)));
+        properties.setLoginId(new RateLimitProperties.Limit(2, Duration.ofMinutes(5)));
+        properties.setEndpoint(new RateLimitProperties.Limit(4, Duration.ofMinutes(1)));
+        properties.getEndpoints().put(LOGIN_ENDPOINT, new RateLimitProperties.Limit(2, Duration.ofMinutes(1)));
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong(1_000_000L * 300_000L);
+    }
+
+    private LoginRateLimiter limiter() {
+        return new LoginRateLimiter(properties, meterRegistry, clock::get);
+    }
+
+    private double decisions(String dimension, String endpoint, String outcome) {
+        return meterRegistry.get(LoginRateLimiter.METRIC_NAME)
+            .tag("dimension", dimension)
+            .tag("endpoint", endpoint)
+            .tag("outcome", outcome)
+            .counter()
+            .count();
+    }
+
+    @Nested
+    @DisplayName("Client limits")
+    class ClientLimitTests {
+
+        @Test
+        @DisplayName("should apply endpoint override per client IP")
+        void shouldApplyEndpointOverride() {
+            LoginRateLimiter limiter = limiter();
+
+            limiter.checkClient(LOGIN_ENDPOINT, null, "10.0.0.1");
+            limiter.checkClient(LOGIN_ENDPOINT, null, "10.0.0.1");
+
+            assertThatThrownBy(() -> limiter.checkClient(LOGIN_ENDPOINT, null, "10.0.0.1"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, ex -> {
+                    assertThat(ex.getDimension()).isEqualTo(RateLimitDimension.ENDPOINT);
+                    assertThat(ex.getRetryAfterSeconds()).isEqualTo(60);
+                });
+            assertThatCode(() -> limiter.checkClient(LOGIN_ENDPOINT, null, "10.0.0.2"))
+                .doesNotThrowAnyException();
+            assertThat(decisions("endpoint", LOGIN_ENDPOINT, "rejected")).isEqualTo(1.0);
+            assertThat(decisions("endpoint", LOGIN_ENDPOINT, "allowed")).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("should apply IP limit across endpoints")
+        void shouldApplyIpLimitAcrossEndpoints() {
+            LoginRateLimiter limiter = limiter();
+
+            for (int i = 0; i < 3; i++) {
+                limiter.checkClient(CHECK_ENDPOINT, null, "10.0.0.1");
+            }
+            limiter.checkClient("/api/login/ftr/verify-otp", null, "10.0.0.1");
+            limiter.checkClient("/api/login/ftr/verify-otp", null, "10.0.0.1");
+
+            assertThatThrownBy(() -> limiter.checkClient("/api/login/mfa/verify", null, "10.0.0.1"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class,
+                    ex -> assertThat(ex.getDimension()).isEqualTo(RateLimitDimension.IP));
+            assertThat(decisions("ip", "all", "rejected")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("should key by first X-Forwarded-For entry on requests from a trusted proxy")
+        void shouldUseForwardedFor() {
+            properties.setTrustedProxies(List.of("10.0.0.0/24"));
+            LoginRateLimiter limiter = limiter();
+
+            limiter.checkClient(LOGIN_ENDPOINT, "203.0.113.7, 10.0.0.1", "10.0.0.1");
+            limiter.checkClient(LOGIN_ENDPOINT, " 203.0.113.7 ", "10.0.0.9");
+
+            assertThatThrownBy(() -> limiter.checkClient(LOGIN_ENDPOINT, "203.0.113.7", "10.0.0.1"))
+                .isInstanceOf(RateLimitExceededException.class);
+            assertThatCode(() -> limiter.checkClient(LOGIN_ENDPOINT, "198.51.100.1", "10.0.0.1"))
+                .doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("should ignore X-Forwarded-For from anyone but a trusted proxy")
+        void shouldIgnoreForwardedForWhenNotTrusted() {
+            properties.setTrustedProxies(List.of("10.0.0.5"));
+            LoginRateLimiter limiter = limiter();
+
+            assertThat(limiter.clientIpHash("203.0.113.7", "10.0.0.1"))
+                .isEqualTo(limiter.clientIpHash("198.51.100.1", "10.0.0.1"));
+        }
+
+        @Test
+        @DisplayName("should not count a trusted proxy that does not name the client")
+        void shouldSkipProxyWithoutForwardedFor() {
+            properties.setTrustedProxies(List.of("10.0.0.5"));
+            LoginRateLimiter limiter = limiter();
+
+            for (int i = 0; i < 10; i++) {
+                limiter.checkClient(LOGIN_ENDPOINT, null, "10.0.0.5");
+            }
+
+            assertThat(limiter.clientIpHash(null, "10.0.0.5")).isEqualTo(LoginRateLimiter.UNKNOWN_CLIENT);
+            assertThat(decisions("ip", "all", "allowed")).isZero();
+        }
+
+        @Test
+        @DisplayName("should admit requests again once the window has slid past")
+        void shouldRecoverAfterWindow() {
+            LoginRateLimiter limiter = limiter();
+            limiter.checkClient(LOGIN_ENDPOINT, null, "10.0.0.1");
+            limiter.checkClient(LOGIN_ENDPOINT, null, "10.0.0.1");
+            assertThatThrownBy(() -> limiter.checkClient(LOGIN_ENDPOINT, null, "10.0.0.1"))
+                .isInstanceOf(RateLimitExceededException.class);
+
+            clock.addAndGet(Duration.ofMinutes(2).toMillis());
+
+            assertThatCode(() -> limiter.checkClient(LOGIN_ENDPOINT, null, "10.0.0.1"))
+                .doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("should rethrow the same pre-built exception for repeated rejections")
+        void shouldReuseRejection() {
+            LoginRateLimiter limiter = limiter();
+            limiter.checkClient(LOGIN_ENDPOINT, null, "10.0.0.1");
+            limiter.checkClient(LOGIN_ENDPOINT, null, "10.0.0.1");
+
+            RateLimitExceededException first = catchRejection(limiter);
+            RateLimitExceededException second = catchRejection(limiter);
+
+            assertThat(first).isSameAs(second);
+            assertThat(first.getStackTrace()).isEmpty();
+        }
+
+        private RateLimitExceededException catchRejection(LoginRateLimiter limiter) {
+            try {
+                limiter.checkClient(LOGIN_ENDPOINT, null, "10.0.0.1");
+            } catch (RateLimitExceededException e) {
+                return e;
+            }
+            throw new AssertionError("Expected rejection");
+        }
+    }
+
+    @Nested
+    @DisplayName("Login ID limit")
+    class LoginIdLimitTests {
+
+        @Test
+        @DisplayName("should match login IDs case-insensitively ignoring whitespace")
+        void shouldNormalizeLoginId() {
+            LoginRateLimiter limiter = limiter();
+
+            limiter.checkLoginId("Alice@Example.com");
+            limiter.checkLoginId("  alice@example.com ");
+
+            assertThatThrownBy(() -> limiter.checkLoginId("ALICE@EXAMPLE.COM"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, ex -> {
+                    assertThat(ex.getDimension()).isEqualTo(RateLimitDimension.LOGIN_ID);
+                    assertThat(ex.getRetryAfterSeconds()).isEqualTo(300);
+                });
+            assertThatCode(() -> limiter.checkLoginId("bob@example.com")).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("should ignore blank login IDs")
+        void shouldIgnoreBlankLoginIds() {
+            LoginRateLimiter limiter = limiter();
+
+            for (int i = 0; i < 5; i++) {
+                limiter.checkLoginId("   ");
+                limiter.checkLoginId(null);
+            }
+
+            assertThat(decisions("login_id", "all", "allowed")).isZero();
+        }
+
+        @Test
+        @DisplayName("should not count anything when disabled")
+        void shouldDoNothingWhenDisabled() {
+            properties.setEnabled(false);
+            LoginRateLimiter limiter = limiter();
+
+            for (int i = 0; i < 10; i++) {
+                limiter.checkLoginId("alice");
+                limiter.checkClient(LOGIN_ENDPOINT, null, "10.0.0.1");
+            }
+
+            assertThat(decisions("login_id", "all", "allowed")).isZero();
+            assertThat(decisions("ip", "all", "allowed")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Interceptor")
+    class InterceptorTests {
+
+        @Test
+        @DisplayName("should limit by matched endpoint pattern and path login ID")
+        void shouldLimitByPatternAndPathLoginId() {
+            LoginRateLimitInterceptor interceptor = new LoginRateLimitInterceptor(limiter());
+
+            assertThat(interceptor.preHandle(statusRequest("alice"), new MockHttpServletResponse(), new Object()))
+                .isTrue();
+            assertThat(interceptor.preHandle(statusRequest("alice"), new MockHttpServletResponse(), new Object()))
+                .isTrue();
+
+            assertThatThrownBy(() ->
+                interceptor.preHandle(statusRequest("alice"), new MockHttpServletResponse(), new Object()))
+                .isInstanceOfSatisfying(RateLimitExceededException.class,
+                    ex -> assertThat(ex.getDimension()).isEqualTo(RateLimitDimension.LOGIN_ID));
+        }
+
+        private MockHttpServletRequest statusRequest(String loginId) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/login/ftr/status/" + loginId);
+            request.setRemoteAddr("10.0.0.1");
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/login/ftr/status/{loginId}");
+            request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("loginId", loginId));
+            return request;
+        }
+    }
+
+    @Nested
+    @DisplayName("Request body advice")
+    class AdviceTests {
+
+        @Test
+        @DisplayName("should support bodies carrying a login ID, username or email")
+        void shouldSupportLoginIdBodies() {
+            LoginIdRateLimitAdvice advice = new LoginIdRateLimitAdvice(limiter());
+
+            assertThat(advice.supports(parameterOf(FtrCheckRequest.class), FtrCheckRequest.class, null)).isTrue();
+            assertThat(advice.supports(parameterOf(LoginCommand.class), LoginCommand.class, null)).isTrue();
+            assertThat(advice.supports(parameterOf(RefreshTokenRequest.class), RefreshTokenRequest.class, null))
+                .isFalse();
+        }
+
+        @Test
+        @DisplayName("should limit by the login ID read from the body")
+        void shouldLimitByBodyLoginId() {
+            LoginIdRateLimitAdvice advice = new LoginIdRateLimitAdvice(limiter());
+            LoginCommand command = new LoginCommand("alice@example.com", "secret");
+
+            advice.afterBodyRead(command, null, null, LoginCommand.class, null);
+            advice.afterBodyRead(new FtrCheckRequest("ALICE@example.com"), null, null, FtrCheckRequest.class, null);
+
+            assertThatThrownBy(() -> advice.afterBodyRead(command, null, null, LoginCommand.class, null))
+                .isInstanceOf(RateLimitExceededException.class);
+        }
+
+        private MethodParameter parameterOf(Class<?> type) {
+            MethodParameter parameter = mock(MethodParameter.class);
+            when(parameter.getParameterType()).thenAnswer(invocation -> type);
+            return parameter;
+        }
+    }
+}
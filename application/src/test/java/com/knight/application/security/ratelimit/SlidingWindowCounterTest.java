@@ -0,0 +1,140 @@
+package com.knight.application.security.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SlidingWindowCounter.
+ */
+class SlidingWindowCounterTest {
+
+    private static final long WINDOW_START = 1_000_000L * 60_000L;
+
+    @Nested
+    @DisplayName("Construction")
+    class ConstructionTests {
+
+        @Test
+        @DisplayName("should round slot count up to a power of two")
+        void shouldRoundSlotCountUp() {
+            assertThat(new SlidingWindowCounter(1000, 5, Duration.ofMinutes(1)).size()).isEqualTo(1024);
+            assertThat(new SlidingWindowCounter(1024, 5, Duration.ofMinutes(1)).size()).isEqualTo(1024);
+            assertThat(new SlidingWindowCounter(1, 5, Duration.ofMinutes(1)).size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should reject limits outside the packed counter range")
+        void shouldRejectInvalidLimits() {
+            assertThatThrownBy(() -> new SlidingWindowCounter(16, 0, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new SlidingWindowCounter(16, 70_000, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new SlidingWindowCounter(16, 5, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sliding window")
+    class SlidingWindowTests {
+
+        @Test
+        @DisplayName("should allow up to the limit and reject beyond it")
+        void shouldAllowUpToLimit() {
+            SlidingWindowCounter counter = new SlidingWindowCounter(64, 3, Duration.ofMinutes(1));
+
+            assertThat(counter.tryAcquire(42, WINDOW_START)).isTrue();
+            assertThat(counter.tryAcquire(42, WINDOW_START + 1)).isTrue();
+            assertThat(counter.tryAcquire(42, WINDOW_START + 2)).isTrue();
+            assertThat(counter.tryAcquire(42, WINDOW_START + 3)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should count keys independently")
+        void shouldCountKeysIndependently() {
+            SlidingWindowCounter counter = new SlidingWindowCounter(1024, 1, Duration.ofMinutes(1));
+
+            assertThat(counter.tryAcquire("alice".hashCode(), WINDOW_START)).isTrue();
+            assertThat(counter.tryAcquire("bob".hashCode(), WINDOW_START)).isTrue();
+            assertThat(counter.tryAcquire("alice".hashCode(), WINDOW_START)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should weight the previous window by its remaining overlap")
+        void shouldWeightPreviousWindow() {
+            SlidingWindowCounter counter = new SlidingWindowCounter(64, 4, Duration.ofMinutes(1));
+            for (int i = 0; i < 4; i++) {
+                assertThat(counter.tryAcquire(7, WINDOW_START + i)).isTrue();
+            }
+
+            // 15s into the next window, 75% of the previous window still counts (3 requests)
+            long quarterIntoNext = WINDOW_START + 60_000 + 15_000;
+            assertThat(counter.tryAcquire(7, quarterIntoNext)).isTrue();
+            assertThat(counter.tryAcquire(7, quarterIntoNext)).isFalse();
+
+            // 45s into the next window only 25% (1 request) of the previous window remains
+            long threeQuartersIntoNext = WINDOW_START + 60_000 + 45_000;
+            assertThat(counter.tryAcquire(7, threeQuartersIntoNext)).isTrue();
+            assertThat(counter.tryAcquire(7, threeQuartersIntoNext)).isTrue();
+            assertThat(counter.tryAcquire(7, threeQuartersIntoNext)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reset after a full idle window")
+        void shouldResetAfterIdleWindow() {
+            SlidingWindowCounter counter = new SlidingWindowCounter(64, 2, Duration.ofMinutes(1));
+            counter.tryAcquire(7, WINDOW_START);
+            counter.tryAcquire(7, WINDOW_START);
+            assertThat(counter.tryAcquire(7, WINDOW_START)).isFalse();
+
+            long twoWindowsLater = WINDOW_START + 120_000;
+            assertThat(counter.tryAcquire(7, twoWindowsLater)).isTrue();
+            assertThat(counter.tryAcquire(7, twoWindowsLater)).isTrue();
+            assertThat(counter.tryAcquire(7, twoWindowsLater)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("should never admit more than the limit under contention")
+        void shouldNeverExceedLimitUnderContention() throws InterruptedException {
+            int limit = 1_000;
+            SlidingWindowCounter counter = new SlidingWindowCounter(16, limit, Duration.ofHours(1));
+            AtomicInteger admitted = new AtomicInteger();
+            int threads = 8;
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 500; i++) {
+                        if (counter.tryAcquire(99, WINDOW_START)) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(admitted.get()).isEqualTo(limit);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.knight.application.service.activity;
+
+import com.knight.application.persistence.users.repository.LoginActivityRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for LoginActivityRecorder.
+ */
+@ExtendWith(MockitoExtension.class)
+class LoginActivityRecorderTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T09:00:00Z");
+
+    @Mock
+    private LoginActivityRepository repository;
+
+    private LoginActivityProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private LoginActivityRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoginActivityProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(T0);
+        recorder = new LoginActivityRecorder(repository, properties, meterRegistry, clock);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Instant> flushedLogins() {
+        ArgumentCaptor<Map<String, Instant>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(repository).updateLastLoggedInAt(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("recordLogin")
+    class RecordLoginTests {
+
+        @Test
+        @DisplayName("should coalesce repeated logins to the latest time")
+        void shouldCoalesceRepeatedLogins() {
+            recorder.recordLogin("alice@example.com");
+            clock.advance(Duration.ofSeconds(3));
+            recorder.recordLogin("alice@example.com");
+            recorder.recordLogin("bob@example.com");
+
+            recorder.flush();
+
+            assertThat(flushedLogins()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "alice@example.com", T0.plusSeconds(3),
+                "bob@example.com", T0.plusSeconds(3)));
+        }
+
+        @Test
+        @DisplayName("should ignore blank login IDs")
+        void shouldIgnoreBlankLoginIds() {
+            recorder.recordLogin(null);
+            recorder.recordLogin(" ");
+
+            assertThat(recorder.pendingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should drop logins by new users when full but still update pending ones")
+        void shouldDropWhenFull() {
+            properties.setMaxPending(2);
+            recorder.recordLogin("a");
+            recorder.recordLogin("b");
+
+            recorder.recordLogin("c");
+            clock.advance(Duration.ofSeconds(1));
+            recorder.recordLogin("a");
+
+            assertThat(recorder.pendingCount()).isEqualTo(2);
+            assertThat(meterRegistry.counter(LoginActivityRecorder.DROPPED_METRIC).count()).isEqualTo(1.0);
+
+            recorder.flush();
+            assertThat(flushedLogins()).containsEntry("a", T0.plusSeconds(1)).doesNotContainKey("c");
+        }
+
+        @Test
+        @DisplayName("should report pending users as a gauge")
+        void shouldReportPendingGauge() {
+            recorder.recordLogin("a");
+            recorder.recordLogin("b");
+
+            assertThat(meterRegistry.get(LoginActivityRecorder.PENDING_METRIC).gauge().value()).isEqualTo(2.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("flush")
+    class FlushTests {
+
+        @Test
+        @DisplayName("should not touch the database when nothing is pending")
+        void shouldSkipEmptyFlush() {
+            recorder.flush();
+
+            verify(repository, never()).updateLastLoggedInAt(anyMap());
+        }
+
+        @Test
+        @DisplayName("should empty the buffer and record the age of the oldest login")
+        void shouldRecordFlushLag() {
+            recorder.recordLogin("a");
+            clock.advance(Duration.ofSeconds(2));
+            recorder.recordLogin("b");
+            clock.advance(Duration.ofSeconds(3));
+
+            recorder.flush();
+
+            assertThat(recorder.pendingCount()).isZero();
+            var lag = meterRegistry.get(LoginActivityRecorder.FLUSH_LAG_METRIC).timer();
+            assertThat(lag.count()).isEqualTo(1);
+            assertThat(lag.max(TimeUnit.SECONDS)).isEqualTo(5.0);
+        }
+
+        @Test
+        @DisplayName("should keep logins for the next flush when the write fails")
+        void shouldRequeueOnFailure() {
+            recorder.recordLogin("a");
+            doThrow(new DataAccessResourceFailureException("down"))
+                .doNothing()
+                .when(repository).updateLastLoggedInAt(any());
+
+            recorder.flush();
+            assertThat(recorder.pendingCount()).isEqualTo(1);
+
+            clock.advance(Duration.ofSeconds(1));
+            recorder.recordLogin("a");
+            recorder.flush();
+
+            ArgumentCaptor<Map<String, Instant>> captor = mapCaptor();
+            verify(repository, times(2)).updateLastLoggedInAt(captor.capture());
+            assertThat(captor.getValue()).containsExactly(Map.entry("a", T0.plusSeconds(1)));
+            assertThat(recorder.pendingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should flush on shutdown")
+        void shouldFlushOnShutdown() {
+            recorder.recordLogin("a");
+
+            recorder.shutdown();
+
+            assertThat(flushedLogins()).containsKey("a");
+        }
+
+        @SuppressWarnings("unchecked")
+        private ArgumentCaptor<Map<String, Instant>> mapCaptor() {
+            return ArgumentCaptor.forClass(Map.class);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
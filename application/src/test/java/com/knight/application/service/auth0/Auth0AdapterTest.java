@@ -3,6 +3,7 @@ package com.knight.application.service.auth0;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.knight.application.service.activity.LoginActivityRecorder;
 import com.knight.domain.users.aggregate.User;
 import com.knight.domain.users.repository.UserRepository;
 import com.knight.platform.sharedkernel.BankClientId;
@@ -46,6 +47,9 @@ class Auth0AdapterTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private LoginActivityRecorder loginActivity;
+
     @Mock
     private RestClient.RequestBodyUriSpec requestBodyUriSpec;
 
@@ -86,7 +90,7 @@ class Auth0AdapterTest {
             "Username-Password-Authentication"
         );
 
-        adapter = new Auth0Adapter(restClient, properties, objectMapper, userRepository);
+        adapter = new Auth0Adapter(restClient, properties, objectMapper, userRepository, loginActivity);
     }
 
     private void setManagementToken(String token, long expiresAt) throws Exception {
@@ -319,6 +323,7 @@ class Auth0AdapterTest {
             assertThat(result.get("access_token").asText()).isEqualTo(TEST_ACCESS_TOKEN);
             assertThat(result.get("id_token").asText()).isEqualTo(TEST_ID_TOKEN);
             assertThat(result.get("client_type").asText()).isEqualTo("CLIENT");
+            verify(loginActivity).recordLogin(TEST_EMAIL);
         }
 
         @Test
@@ -337,6 +342,7 @@ class Auth0AdapterTest {
             assertThat(result.get("mfa_required").asBoolean()).isTrue();
             assertThat(result.get("mfa_token").asText()).isEqualTo(TEST_MFA_TOKEN);
             assertThat(result.get("email").asText()).isEqualTo(TEST_EMAIL);
+            verify(loginActivity, never()).recordLogin(anyString());
         }
 
         @Test
@@ -353,6 +359,7 @@ class Auth0AdapterTest {
 
             assertThat(result.has("error")).isTrue();
             assertThat(result.get("error").asText()).isEqualTo("invalid_grant");
+            verify(loginActivity, never()).recordLogin(anyString());
         }
 
         @Test
@@ -440,6 +447,7 @@ class Auth0AdapterTest {
 
             assertThat(result.get("success").asBoolean()).isTrue();
             assertThat(result.get("access_token").asText()).isEqualTo(TEST_ACCESS_TOKEN);
+            verify(loginActivity).recordLogin(TEST_EMAIL);
         }
 
         @Test
@@ -665,6 +673,7 @@ class Auth0AdapterTest {
             ObjectNode result = adapter.cibaVerify("ciba-req-123", TEST_EMAIL);
 
             assertThat(result.get("access_token").asText()).isEqualTo(TEST_ACCESS_TOKEN);
+            verify(loginActivity).recordLogin(TEST_EMAIL);
         }
 
         @Test
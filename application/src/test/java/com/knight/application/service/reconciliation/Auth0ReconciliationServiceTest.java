@@ -0,0 +1,219 @@
+package com.knight.application.service.reconciliation;
+
+import com.knight.application.persistence.users.entity.Auth0ReconciliationRunEntity;
+import com.knight.application.persistence.users.repository.Auth0ReconciliationRunJpaRepository;
+import com.knight.application.persistence.users.repository.UserJpaRepository;
+import com.knight.domain.auth0identity.api.Auth0RateLimitException;
+import com.knight.domain.auth0identity.api.Auth0UserDirectory;
+import com.knight.domain.users.aggregate.User;
+import com.knight.domain.users.repository.UserRepository;
+import com.knight.platform.sharedkernel.ProfileId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for Auth0ReconciliationService.
+ * Runs reconciliation against an in-memory stand-in for the Auth0 users search, with H2 database.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;MODE=MSSQLServer",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.flyway.enabled=false",
+    "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+    "spring.kafka.listener.auto-startup=false",
+    "spring.kafka.consumer.auto-startup=false",
+    "knight.auth0.reconciliation.page-size=2",
+    "knight.auth0.reconciliation.page-interval=0s"
+})
+class Auth0ReconciliationServiceTest {
+
+    private static final ProfileId PROFILE_ID = ProfileId.fromUrn("online:srf:123456789");
+    private static final Instant T0 = Instant.parse("2026-01-01T09:00:00Z");
+
+    /**
+     * Auth0 users search stand-in: users ordered by creation time, optionally rate limiting calls.
+     */
+    static class StandInDirectory implements Auth0UserDirectory {
+
+        final List<UserState> users = new ArrayList<>();
+        final AtomicInteger calls = new AtomicInteger();
+        volatile int rateLimitedCalls;
+
+        @Override
+        public List<UserState> usersCreatedFrom(Instant createdFrom, int page, int pageSize) {
+            calls.incrementAndGet();
+            if (rateLimitedCalls > 0) {
+                rateLimitedCalls--;
+                throw new Auth0RateLimitException("Too many requests", Duration.ofMillis(10));
+            }
+            return users.stream()
+                .filter(user -> createdFrom == null || !user.createdAt().isBefore(createdFrom))
+                .sorted(Comparator.comparing(UserState::createdAt))
+                .skip((long) page * pageSize)
+                .limit(pageSize)
+                .toList();
+        }
+    }
+
+    @TestConfiguration
+    static class StandInConfiguration {
+
+        @Bean
+        @Primary
+        StandInDirectory standInDirectory() {
+            return new StandInDirectory();
+        }
+    }
+
+    @Autowired
+    private Auth0ReconciliationService service;
+
+    @Autowired
+    private StandInDirectory directory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private Auth0ReconciliationRunJpaRepository runRepository;
+
+    @BeforeEach
+    void setUp() {
+        runRepository.deleteAll();
+        userJpaRepository.deleteAll();
+        directory.users.clear();
+        directory.calls.set(0);
+        directory.rateLimitedCalls = 0;
+    }
+
+    private User localUser(String name) {
+        User user = User.create(name + "@example.com", name + "@example.com", name, "Test",
+            User.UserType.CLIENT_USER, User.IdentityProvider.AUTH0, PROFILE_ID, Set.of(User.Role.READER),
+            "admin@example.com");
+        user.markProvisioned("auth0|" + name);
+        userRepository.save(user);
+        return user;
+    }
+
+    private void remoteUser(String name, boolean passwordSet, boolean mfaEnrolled, Instant createdAt) {
+        directory.users.add(new Auth0UserDirectory.UserState("auth0|" + name, passwordSet, mfaEnrolled, null, createdAt));
+    }
+
+    private User reload(User user) {
+        return userRepository.findById(user.id()).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("should apply drifted onboarding state and leave other users alone")
+    void shouldReconcileDriftedUsers() {
+        User pending = localUser("alice");
+        User passwordOnly = localUser("bob");
+        User locked = localUser("carol");
+        locked.lock(User.LockType.BANK, "banker@example.com");
+        userRepository.save(locked);
+        User inSync = localUser("dave");
+        Instant inSyncUpdatedAt = reload(inSync).updatedAt();
+        remoteUser("alice", true, true, T0);
+        remoteUser("bob", true, false, T0.plusSeconds(1));
+        remoteUser("carol", true, true, T0.plusSeconds(2));
+        remoteUser("dave", false, false, T0.plusSeconds(3));
+        remoteUser("unknown", true, true, T0.plusSeconds(4));
+        UUID jobId = UUID.randomUUID();
+
+        service.run(jobId, () -> false);
+
+        assertThat(reload(pending).status()).isEqualTo(User.Status.ACTIVE);
+        assertThat(reload(pending).mfaEnrolled()).isTrue();
+        assertThat(reload(passwordOnly).status()).isEqualTo(User.Status.PENDING_MFA);
+        assertThat(reload(locked).status()).isEqualTo(User.Status.LOCKED);
+        assertThat(reload(locked).passwordSet()).isFalse();
+        assertThat(reload(inSync).updatedAt()).isEqualTo(inSyncUpdatedAt);
+        Auth0ReconciliationRunEntity run = runRepository.findById(jobId).orElseThrow();
+        assertThat(run.getStatus()).isEqualTo("COMPLETED");
+        assertThat(run.getUsersScanned()).isEqualTo(5);
+        assertThat(run.getUsersUpdated()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should resume a stopped run from its checkpoint")
+    void shouldResumeFromCheckpoint() {
+        for (int i = 0; i < 5; i++) {
+            localUser("user" + i);
+            remoteUser("user" + i, true, false, T0.plusSeconds(i));
+        }
+        UUID jobId = UUID.randomUUID();
+        AtomicInteger pagesBeforeStop = new AtomicInteger(1);
+
+        service.run(jobId, () -> directory.calls.get() > pagesBeforeStop.get());
+        assertThat(runRepository.findById(jobId).orElseThrow().getStatus()).isEqualTo("RUNNING");
+        assertThat(runRepository.findById(jobId).orElseThrow().getUsersScanned()).isEqualTo(3);
+
+        service.run(jobId, () -> false);
+
+        Auth0ReconciliationRunEntity run = runRepository.findById(jobId).orElseThrow();
+        assertThat(run.getStatus()).isEqualTo("COMPLETED");
+        assertThat(run.getUsersScanned()).isEqualTo(5);
+        assertThat(run.getUsersUpdated()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("should page past users created at the same time without repeating them")
+    void shouldPageThroughCreationTimeTies() {
+        for (int i = 0; i < 5; i++) {
+            localUser("tie" + i);
+            remoteUser("tie" + i, true, true, T0);
+        }
+        localUser("later");
+        remoteUser("later", true, true, T0.plusSeconds(1));
+        UUID jobId = UUID.randomUUID();
+
+        service.run(jobId, () -> false);
+
+        Auth0ReconciliationRunEntity run = runRepository.findById(jobId).orElseThrow();
+        assertThat(run.getStatus()).isEqualTo("COMPLETED");
+        assertThat(run.getUsersScanned()).isEqualTo(6);
+        assertThat(run.getUsersUpdated()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("should wait out a rate limit and carry on")
+    void shouldWaitOutRateLimit() {
+        localUser("alice");
+        remoteUser("alice", true, true, T0);
+        directory.rateLimitedCalls = 2;
+        UUID jobId = UUID.randomUUID();
+
+        service.run(jobId, () -> false);
+
+        assertThat(directory.calls.get()).isEqualTo(3);
+        assertThat(runRepository.findById(jobId).orElseThrow().getStatus()).isEqualTo("COMPLETED");
+    }
+}
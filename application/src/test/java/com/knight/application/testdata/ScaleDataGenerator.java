@@ -0,0 +1,497 @@
+package com.knight.application.testdata;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
+
+/**
+ * Bulk-loads production-scale datasets straight into the database with JDBC batch inserts,
+ * bypassing the aggregates and JPA, so that millions of rows load in minutes rather than hours.
+ *
+ * Every value is derived from the spec's seed and the row's position, never from a shared random
+ * stream, so the same spec always produces the same rows and callers can work out any row's keys
+ * (see {@link ScaleDataset}) without reading them back. Rows are written in chunks, one
+ * transaction per chunk, in foreign-key order. The target tables are expected to be empty.
+ *
+ * Works against both the H2 (MSSQLServer mode) test database and SQL Server; UUIDs are bound as
+ * strings, which both convert to their UUID column types.
+ */
+public class ScaleDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(ScaleDataGenerator.class);
+
+    static final int CHUNK_SIZE = 1_000;
+    static final String CREATED_BY = "scale-generator";
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static final String[] NAME_WORDS = {
+        "Northwind", "Maple", "Summit", "Harbour", "Granite", "Aurora", "Cedar", "Prairie", "Atlas", "Beacon",
+        "Frontier", "Lakeshore", "Pinnacle", "Riverside", "Sterling", "Timber", "Vanguard", "Westgate", "Keystone", "Meridian"
+    };
+    private static final String[] INDUSTRIES = {
+        "Logistics", "Foods", "Energy", "Construction", "Health", "Textiles", "Software", "Mining", "Retail", "Transport"
+    };
+    private static final String[] SUFFIXES = {"Inc.", "Ltd.", "Corp.", "Co.", "Group", "Holdings"};
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Jordan", "Sam", "Taylor", "Morgan", "Casey", "Riley", "Jamie", "Avery", "Quinn"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tremblay", "Smith", "Roy", "Martin", "Gagnon", "Lee", "Wilson", "Brown", "Singh", "Chen"
+    };
+    private static final String[] PROVINCES = {"ON", "QC", "BC", "AB", "MB", "SK", "NS", "NB"};
+    private static final String[] STATES = {"NY", "CA", "TX", "IL", "WA", "MA", "FL", "GA"};
+    private static final String[] ROLES = {"SECURITY_ADMIN", "SERVICE_ADMIN", "READER", "CREATOR", "APPROVER"};
+    private static final String[] ACTIONS = {
+        "payments.*", "payments.wire.create", "payments.wire.approve", "receivables.*.view",
+        "receivables.payors.create", "security.users.*", "reports.*.view", "*.view", "*.approve", "accounts.*"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ScaleDataGenerator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Writes one row of a table.
+     */
+    private interface RowWriter {
+        void write(PreparedStatement ps, long row) throws SQLException;
+    }
+
+    /**
+     * Loads the dataset described by the spec.
+     *
+     * @return the keys of the generated rows
+     */
+    public ScaleDataset generate(ScaleDataSpec spec) {
+        ScaleDataset dataset = new ScaleDataset(spec);
+        long started = System.nanoTime();
+        log.info("Generating scale dataset: {} clients, {} accounts, {} users, large profile of {} clients",
+            spec.clients(), spec.accounts(), spec.users(), spec.largeProfileClients());
+
+        insertClients(dataset);
+        insertAccounts(dataset);
+        insertProfiles(dataset);
+        insertUsers(dataset);
+        insertUserGroups(dataset);
+        insertPolicies(dataset);
+        insertBatches(dataset);
+
+        log.info("Scale dataset generated in {} s", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+        return dataset;
+    }
+
+    private void insertClients(ScaleDataset dataset) {
+        ScaleDataSpec spec = dataset.spec();
+        insert("clients", """
+            INSERT INTO clients (client_id, name, client_type, status, address_line1, address_line2, city,
+                                 state_province, zip_postal_code, country_code, created_at, updated_at)
+            VALUES (?, ?, ?, 'ACTIVE', ?, ?, ?, ?, ?, ?, ?, ?)
+            """, spec.clients(), (ps, row) -> {
+            int client = (int) row;
+            long hash = dataset.hash(1, row);
+            boolean canadian = dataset.isSrf(client);
+            ps.setString(1, dataset.clientUrn(client));
+            ps.setString(2, dataset.clientName(client));
+            ps.setString(3, bucket(hash, 5) == 0 ? "INDIVIDUAL" : "BUSINESS");
+            ps.setString(4, (100 + bucket(hash, 9_900)) + " " + pick(NAME_WORDS, hash >>> 8) + " Street");
+            ps.setString(5, bucket(hash >>> 16, 10) < 3 ? "Suite " + (100 + bucket(hash >>> 24, 900)) : null);
+            ps.setString(6, canadian ? "Toronto" : "New York");
+            ps.setString(7, canadian ? pick(PROVINCES, hash >>> 32) : pick(STATES, hash >>> 32));
+            ps.setString(8, canadian ? "M5V 3A" + bucket(hash >>> 40, 10) : String.format("%05d", bucket(hash >>> 40, 100_000)));
+            ps.setString(9, canadian ? "CA" : "US");
+            ps.setTimestamp(10, dataset.timestamp(row));
+            ps.setTimestamp(11, dataset.timestamp(row));
+        });
+    }
+
+    private void insertAccounts(ScaleDataset dataset) {
+        ScaleDataSpec spec = dataset.spec();
+        insert("client_accounts", """
+            INSERT INTO client_accounts (account_id, client_id, account_system, account_type, currency, status,
+                                         created_at, updated_at)
+            VALUES (?, ?, ?, 'DDA', ?, 'ACTIVE', ?, ?)
+            """, spec.accounts(), (ps, row) -> {
+            int client = (int) (row / spec.accountsPerClient());
+            int account = (int) (row % spec.accountsPerClient());
+            boolean canadian = dataset.isSrf(client);
+            ps.setString(1, dataset.accountUrn(client, account));
+            ps.setString(2, dataset.clientUrn(client));
+            ps.setString(3, canadian ? "CAN_DDA" : "US_FIN");
+            ps.setString(4, canadian ? "CAD" : "USD");
+            ps.setTimestamp(5, dataset.timestamp(client));
+            ps.setTimestamp(6, dataset.timestamp(client));
+        });
+    }
+
+    /**
+     * The large profile (keyed by client 0) enrolls the first clients; every other client has an
+     * online profile of its own. All enrollments take every account of the client.
+     */
+    private void insertProfiles(ScaleDataset dataset) {
+        ScaleDataSpec spec = dataset.spec();
+        int large = spec.largeProfileClients();
+        insert("profiles", """
+            INSERT INTO profiles (profile_id, name, profile_type, status, created_at, created_by, updated_at, version)
+            VALUES (?, ?, 'ONLINE', 'ACTIVE', ?, ?, ?, 0)
+            """, spec.clients(), (ps, row) -> {
+            int client = (int) row;
+            ps.setString(1, dataset.profileUrn(client));
+            ps.setString(2, dataset.clientName(client));
+            ps.setTimestamp(3, dataset.timestamp(row));
+            ps.setString(4, CREATED_BY);
+            ps.setTimestamp(5, dataset.timestamp(row));
+        });
+
+        // Rows [0, large) enroll clients in the large profile, the rest enroll client (row - large + 1) in its own
+        long enrollments = large + (spec.clients() - 1L);
+        insert("profile_client_enrollments", """
+            INSERT INTO profile_client_enrollments (id, profile_id, client_id, is_primary, account_enrollment_type,
+                                                    enrolled_at)
+            VALUES (?, ?, ?, ?, 'AUTOMATIC', ?)
+            """, enrollments, (ps, row) -> {
+            boolean inLarge = row < large;
+            int client = inLarge ? (int) row : (int) (row - large + 1);
+            ps.setString(1, dataset.uuid(2, row).toString());
+            ps.setString(2, dataset.profileUrn(inLarge ? 0 : client));
+            ps.setString(3, dataset.clientUrn(client));
+            ps.setBoolean(4, !inLarge || client == 0);
+            ps.setTimestamp(5, dataset.timestamp(row));
+        });
+
+        long largeAccounts = (long) large * spec.accountsPerClient();
+        insert("account_enrollments", """
+            INSERT INTO account_enrollments (enrollment_id, profile_id, client_id, account_id, status, enrolled_at)
+            VALUES (?, ?, ?, ?, 'ACTIVE', ?)
+            """, largeAccounts + (spec.clients() - 1L) * spec.accountsPerClient(), (ps, row) -> {
+            boolean inLarge = row < largeAccounts;
+            long accountRow = inLarge ? row : row - largeAccounts + spec.accountsPerClient();
+            int client = (int) (accountRow / spec.accountsPerClient());
+            ps.setString(1, dataset.uuid(3, row).toString());
+            ps.setString(2, dataset.profileUrn(inLarge ? 0 : client));
+            ps.setString(3, dataset.clientUrn(client));
+            ps.setString(4, dataset.accountUrn(client, (int) (accountRow % spec.accountsPerClient())));
+            ps.setTimestamp(5, dataset.timestamp(row));
+        });
+    }
+
+    private void insertUsers(ScaleDataset dataset) {
+        ScaleDataSpec spec = dataset.spec();
+        insert("users", """
+            INSERT INTO users (user_id, login_id, email, first_name, last_name, user_type, identity_provider,
+                               identity_provider_user_id, profile_id, status, email_verified, password_set,
+                               mfa_enrolled, allow_mfa_reenrollment, lock_type, created_at, created_by, updated_at,
+                               version)
+            VALUES (?, ?, ?, ?, ?, 'CLIENT_USER', 'AUTH0', ?, ?, 'ACTIVE', ?, ?, ?, ?, 'NONE', ?, ?, ?, 0)
+            """, spec.users(), (ps, row) -> {
+            int user = (int) row;
+            long hash = dataset.hash(4, row);
+            ps.setString(1, dataset.userId(user).toString());
+            ps.setString(2, dataset.loginId(user));
+            ps.setString(3, dataset.loginId(user) + "@scale.example.com");
+            ps.setString(4, pick(FIRST_NAMES, hash));
+            ps.setString(5, pick(LAST_NAMES, hash >>> 8));
+            ps.setString(6, "auth0|" + dataset.loginId(user));
+            ps.setString(7, dataset.profileUrn(dataset.userProfileClient(user)));
+            ps.setBoolean(8, true);
+            ps.setBoolean(9, true);
+            ps.setBoolean(10, true);
+            ps.setBoolean(11, false);
+            ps.setTimestamp(12, dataset.timestamp(row));
+            ps.setString(13, CREATED_BY);
+            ps.setTimestamp(14, dataset.timestamp(row));
+        });
+
+        // Every user reads; every fifth also creates and every tenth also approves
+        String[] roles = {"READER", "CREATOR", "APPROVER"};
+        insert("user_roles", """
+            INSERT INTO user_roles (user_id, role, assigned_at, assigned_by)
+            VALUES (?, ?, ?, ?)
+            """, spec.users() * 3L, (ps, row) -> {
+            int user = (int) (row / 3);
+            ps.setString(1, dataset.userId(user).toString());
+            ps.setString(2, roles[(int) (row % 3)]);
+            ps.setTimestamp(3, dataset.timestamp(user));
+            ps.setString(4, CREATED_BY);
+        }, row -> {
+            int user = (int) (row / 3);
+            int role = (int) (row % 3);
+            return role == 0 || role == 1 && user % 5 == 0 || role == 2 && user % 10 == 0;
+        });
+    }
+
+    private void insertUserGroups(ScaleDataset dataset) {
+        ScaleDataSpec spec = dataset.spec();
+        insert("user_groups", """
+            INSERT INTO user_groups (group_id, profile_id, name, description, created_at, created_by, updated_at,
+                                     version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, 0)
+            """, spec.userGroups(), (ps, row) -> {
+            ps.setString(1, dataset.groupId((int) row).toString());
+            ps.setString(2, dataset.largeProfileUrn());
+            ps.setString(3, String.format("Scale Group %04d", row));
+            ps.setString(4, "Generated group of " + spec.userGroupSize() + " users");
+            ps.setTimestamp(5, dataset.timestamp(row));
+            ps.setString(6, CREATED_BY);
+            ps.setTimestamp(7, dataset.timestamp(row));
+        });
+
+        insert("user_group_members", """
+            INSERT INTO user_group_members (group_id, user_id, added_at, added_by)
+            VALUES (?, ?, ?, ?)
+            """, (long) spec.userGroups() * spec.userGroupSize(), (ps, row) -> {
+            int group = (int) (row / spec.userGroupSize());
+            int member = (int) (row % spec.userGroupSize());
+            ps.setString(1, dataset.groupId(group).toString());
+            ps.setString(2, dataset.userId(dataset.groupMember(group, member)).toString());
+            ps.setTimestamp(3, dataset.timestamp(row));
+            ps.setString(4, CREATED_BY);
+        });
+    }
+
+    /**
+     * Policies in the large profile: two in five on roles, two in five on groups, one in five on users.
+     */
+    private void insertPolicies(ScaleDataset dataset) {
+        ScaleDataSpec spec = dataset.spec();
+        insert("permission_policies", """
+            INSERT INTO permission_policies (id, profile_id, subject_type, subject_identifier, action_pattern,
+                                             resource_pattern, effect, description, created_at, created_by, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """, spec.policies(), (ps, row) -> {
+            long hash = dataset.hash(5, row);
+            int kind = (int) (row % 5);
+            String subjectType;
+            String subject;
+            if (kind < 2 || spec.userGroups() == 0 && kind < 4) {
+                subjectType = "ROLE";
+                subject = pick(ROLES, hash);
+            } else if (kind < 4) {
+                subjectType = "GROUP";
+                subject = dataset.groupId(bucket(hash >>> 8, spec.userGroups())).toString();
+            } else {
+                subjectType = "USER";
+                subject = dataset.userId(bucket(hash >>> 8, spec.largeProfileUsers())).toString();
+            }
+            int resourceKind = bucket(hash >>> 24, 4);
+            String resource = resourceKind < 2 ? "*"
+                : resourceKind == 2 ? "CAN_DDA:DDA:*"
+                : dataset.accountUrn(bucket(hash >>> 32, spec.largeProfileClients()), 0);
+            ps.setString(1, dataset.uuid(6, row).toString());
+            ps.setString(2, dataset.largeProfileUrn());
+            ps.setString(3, subjectType);
+            ps.setString(4, subject);
+            ps.setString(5, pick(ACTIONS, hash >>> 16));
+            ps.setString(6, resource);
+            ps.setString(7, bucket(hash >>> 40, 10) == 0 ? "DENY" : "ALLOW");
+            ps.setString(8, "Generated policy " + row);
+            ps.setTimestamp(9, dataset.timestamp(row));
+            ps.setString(10, CREATED_BY);
+            ps.setTimestamp(11, dataset.timestamp(row));
+        });
+    }
+
+    private void insertBatches(ScaleDataset dataset) {
+        ScaleDataSpec spec = dataset.spec();
+        insert("batches", """
+            INSERT INTO batches (batch_id, batch_type, source_profile_id, status, total_items, success_count,
+                                 failed_count, created_at, created_by, version)
+            VALUES (?, 'PAYOR_ENROLMENT', ?, 'PENDING', ?, 0, 0, ?, ?, 0)
+            """, spec.batches(), (ps, row) -> {
+            ps.setString(1, dataset.batchId((int) row).toString());
+            ps.setString(2, dataset.largeProfileUrn());
+            ps.setInt(3, spec.batchItems());
+            ps.setTimestamp(4, dataset.timestamp(row));
+            ps.setString(5, CREATED_BY);
+        });
+
+        insert("batch_items", """
+            INSERT INTO batch_items (batch_item_id, batch_id, sequence_number, input_data, status)
+            VALUES (?, ?, ?, ?, 'PENDING')
+            """, (long) spec.batches() * spec.batchItems(), (ps, row) -> {
+            int batch = (int) (row / spec.batchItems());
+            int item = (int) (row % spec.batchItems());
+            String payor = "Payor " + batch + "-" + item;
+            ps.setString(1, dataset.uuid(7, row).toString());
+            ps.setString(2, dataset.batchId(batch).toString());
+            ps.setInt(3, item + 1);
+            ps.setString(4, "{\"businessName\":\"" + payor + "\",\"externalReference\":\"EXT-" + row + "\","
+                + "\"persons\":[{\"name\":\"" + pick(FIRST_NAMES, row) + " " + pick(LAST_NAMES, row / 10) + "\","
+                + "\"email\":\"payor" + row + "@scale.example.com\",\"role\":\"ADMIN\"}]}");
+        });
+    }
+
+    private void insert(String table, String sql, long rows, RowWriter writer) {
+        insert(table, sql, rows, writer, row -> true);
+    }
+
+    /**
+     * Inserts rows {@code [0, rows)} of a table, skipping those the filter rejects.
+     */
+    private void insert(String table, String sql, long rows, RowWriter writer, LongPredicate filter) {
+        long started = System.nanoTime();
+        long written = 0;
+        long[] chunk = new long[CHUNK_SIZE];
+        long next = 0;
+        while (next < rows) {
+            int size = 0;
+            while (size < CHUNK_SIZE && next < rows) {
+                if (filter.test(next)) {
+                    chunk[size++] = next;
+                }
+                next++;
+            }
+            if (size == 0) {
+                continue;
+            }
+            int chunkSize = size;
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        writer.write(ps, chunk[i]);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunkSize;
+                    }
+                }));
+            written += size;
+            if (written % (CHUNK_SIZE * 100L) < size) {
+                log.info("  {}: {} rows", table, written);
+            }
+        }
+        long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        log.info("Inserted {} rows into {} in {} ms ({} rows/s)", written, table, millis, written * 1000 / millis);
+    }
+
+    private static String pick(String[] values, long hash) {
+        return values[(int) Math.floorMod(hash, (long) values.length)];
+    }
+
+    private static int bucket(long hash, int buckets) {
+        return (int) Math.floorMod(hash, (long) buckets);
+    }
+
+    /**
+     * Keys and derived values of a generated dataset, computed from the spec alone.
+     */
+    public static final class ScaleDataset {
+
+        private final ScaleDataSpec spec;
+        private final int srfClients;
+
+        /**
+         * The keys of the dataset the spec generates, or generated earlier.
+         */
+        public ScaleDataset(ScaleDataSpec spec) {
+            this.spec = spec;
+            this.srfClients = spec.clients() * 6 / 10;
+        }
+
+        public ScaleDataSpec spec() {
+            return spec;
+        }
+
+        boolean isSrf(int client) {
+            return client < srfClients || srfClients == 0;
+        }
+
+        public String clientUrn(int client) {
+            return isSrf(client)
+                ? String.format("srf:%09d", client + 1)
+                : String.format("cdr:%06d", client - srfClients + 1);
+        }
+
+        public String clientName(int client) {
+            long hash = hash(0, client);
+            return pick(NAME_WORDS, hash) + " " + pick(INDUSTRIES, hash >>> 8) + " " + pick(SUFFIXES, hash >>> 16);
+        }
+
+        public String accountUrn(int client, int account) {
+            long sequence = (long) client * spec.accountsPerClient() + account;
+            return isSrf(client)
+                ? String.format("CAN_DDA:DDA:%05d:%012d", sequence % 100_000, sequence)
+                : String.format("US_FIN:DDA:%010d", sequence);
+        }
+
+        /**
+         * The online profile whose primary client is the given client; client 0's is the large profile.
+         */
+        public String profileUrn(int client) {
+            return "online:" + clientUrn(client);
+        }
+
+        public String largeProfileUrn() {
+            return profileUrn(0);
+        }
+
+        /**
+         * The client whose profile a user belongs to: the first users are in the large profile,
+         * the rest are spread over the other profiles.
+         */
+        int userProfileClient(int user) {
+            if (user < spec.largeProfileUsers() || spec.clients() == 1) {
+                return 0;
+            }
+            return 1 + (user - spec.largeProfileUsers()) % (spec.clients() - 1);
+        }
+
+        public UUID userId(int user) {
+            return uuid(10, user);
+        }
+
+        public String loginId(int user) {
+            return String.format("scale%07d", user);
+        }
+
+        public UUID groupId(int group) {
+            return uuid(11, group);
+        }
+
+        /**
+         * A member of a user group, drawn from the large profile's users; groups overlap.
+         */
+        public int groupMember(int group, int member) {
+            return (int) (((long) group * spec.userGroupSize() / 2 + member) % spec.largeProfileUsers());
+        }
+
+        public UUID batchId(int batch) {
+            return uuid(12, batch);
+        }
+
+        UUID uuid(int stream, long row) {
+            return UUID.nameUUIDFromBytes((spec.seed() + ":" + stream + ":" + row).getBytes(StandardCharsets.UTF_8));
+        }
+
+        Timestamp timestamp(long row) {
+            return Timestamp.from(EPOCH.plusSeconds(row));
+        }
+
+        /**
+         * SplitMix64 of the seed, stream and row: well spread bits for picking values.
+         */
+        long hash(int stream, long row) {
+            long z = spec.seed() + stream * 0x9E3779B97F4A7C15L + row * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.knight.application.testdata;
+
+import com.knight.application.testdata.ScaleDataGenerator.ScaleDataset;
+import com.knight.domain.batch.aggregate.Batch;
+import com.knight.domain.batch.repository.BatchRepository;
+import com.knight.domain.batch.types.BatchStatus;
+import com.knight.domain.policy.repository.PermissionPolicyRepository;
+import com.knight.domain.serviceprofiles.aggregate.Profile;
+import com.knight.domain.serviceprofiles.repository.ServicingProfileRepository;
+import com.knight.domain.users.aggregate.User;
+import com.knight.domain.users.aggregate.UserGroup;
+import com.knight.domain.users.repository.UserGroupRepository;
+import com.knight.domain.users.repository.UserRepository;
+import com.knight.domain.users.types.UserGroupId;
+import com.knight.platform.sharedkernel.BatchId;
+import com.knight.platform.sharedkernel.ProfileId;
+import com.knight.platform.sharedkernel.UserId;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Generates a tiny scale dataset and reads it back through the repositories, so that the
+ * generator's hand-written inserts stay in step with the entity mappings.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:scaledb;DB_CLOSE_DELAY=-1;MODE=MSSQLServer",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.flyway.enabled=false",
+    "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+    "spring.kafka.listener.auto-startup=false",
+    "spring.kafka.consumer.auto-startup=false",
+    "knight.jobs.enabled=false"
+})
+class ScaleDataGeneratorTest {
+
+    // 50 clients (30 SRF, 20 CDR) with 3 accounts each; the large profile enrolls 10 of them
+    private static final ScaleDataSpec SPEC = new ScaleDataSpec(50, 3, 10, 30, 20, 2, 8, 5, 4, 3, 7L);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ServicingProfileRepository profileRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserGroupRepository userGroupRepository;
+
+    @Autowired
+    private PermissionPolicyRepository policyRepository;
+
+    @Autowired
+    private BatchRepository batchRepository;
+
+    private ScaleDataset dataset;
+
+    @BeforeAll
+    void generate() {
+        dataset = new ScaleDataGenerator(jdbcTemplate, transactionManager).generate(SPEC);
+    }
+
+    @Test
+    void insertsTheRowsTheSpecAsksFor() {
+        assertThat(count("clients")).isEqualTo(50);
+        assertThat(count("client_accounts")).isEqualTo(150);
+        assertThat(count("profiles")).isEqualTo(50);
+        // The large profile's 10 clients, and one own profile for each of the other 49
+        assertThat(count("profile_client_enrollments")).isEqualTo(59);
+        assertThat(count("account_enrollments")).isEqualTo(177);
+        assertThat(count("users")).isEqualTo(30);
+        assertThat(count("user_groups")).isEqualTo(2);
+        assertThat(count("user_group_members")).isEqualTo(16);
+        assertThat(count("permission_policies")).isEqualTo(5);
+        assertThat(count("batches")).isEqualTo(4);
+        assertThat(count("batch_items")).isEqualTo(12);
+    }
+
+    @Test
+    void largeProfileLoadsWithAllItsEnrollments() {
+        Profile profile = profileRepository.findById(ProfileId.fromUrn(dataset.largeProfileUrn())).orElseThrow();
+
+        assertThat(profile.clientEnrollments()).hasSize(10);
+        assertThat(profile.accountEnrollments()).hasSize(30);
+        assertThat(policyRepository.findByProfileId(profile.profileId())).hasSize(5);
+    }
+
+    @Test
+    void usersAndGroupsLoad() {
+        User user = userRepository.findById(UserId.of(dataset.userId(0).toString())).orElseThrow();
+        UserGroup group = userGroupRepository.findById(UserGroupId.of(dataset.groupId(1).toString())).orElseThrow();
+
+        assertThat(user.loginId()).isEqualTo(dataset.loginId(0));
+        assertThat(group.members()).hasSize(8);
+        assertThat(userGroupRepository.findByUserId(UserId.of(dataset.userId(dataset.groupMember(0, 0)).toString())))
+            .isNotEmpty();
+    }
+
+    @Test
+    void batchesArePendingWithTheirItems() {
+        Batch batch = batchRepository.findById(BatchId.of(dataset.batchId(3))).orElseThrow();
+
+        assertThat(batch.status()).isEqualTo(BatchStatus.PENDING);
+        assertThat(batch.items()).hasSize(3);
+    }
+
+    @Test
+    void keysAreReproducibleFromTheSpec() {
+        ScaleDataset again = new ScaleDataset(SPEC);
+
+        assertThat(again.userId(7)).isEqualTo(dataset.userId(7));
+        assertThat(again.batchId(2)).isEqualTo(dataset.batchId(2));
+        assertThat(again.clientUrn(42)).isEqualTo(dataset.clientUrn(42));
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.knight.application.testdata;
+
+import com.knight.application.testdata.ScaleDataGenerator.ScaleDataset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Spring Boot test runner for loading a production-scale dataset into the configured database,
+ * typically SQL Server through the "test" profile, for the performance suite or manual testing.
+ *
+ * Loads {@link ScaleDataSpec#production()} unless {@code scale.preset} or other {@code scale.*}
+ * properties say otherwise. The database must not already hold generated data.
+ *
+ * Usage:
+ * ./scripts/generate-scale-data.sh
+ *
+ * This test only runs when GENERATE_SCALE_DATA environment variable is set to "true".
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "GENERATE_SCALE_DATA", matches = "true")
+public class ScaleDataRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ScaleDataRunner.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void generateScaleData() {
+        ScaleDataSpec spec = ScaleDataSpec.fromSystemProperties(ScaleDataSpec.production());
+        ScaleDataset dataset = new ScaleDataGenerator(jdbcTemplate, transactionManager).generate(spec);
+
+        log.info("=================================================================");
+        log.info("Scale Data Generation Complete");
+        log.info("=================================================================");
+        log.info("  - Spec: {}", spec);
+        log.info("  - Large profile: {}", dataset.largeProfileUrn());
+        log.info("  - Sample client: {} ({})", dataset.clientUrn(0), dataset.clientName(0));
+        log.info("  - Sample group member: {}", dataset.userId(dataset.groupMember(0, 0)));
+        log.info("=================================================================");
+    }
+}
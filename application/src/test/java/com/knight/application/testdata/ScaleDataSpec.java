@@ -0,0 +1,104 @@
+package com.knight.application.testdata;
+
+/**
+ * Shape of a generated scale dataset.
+ *
+ * One profile is "large": it enrolls many clients with all their accounts, owns the big user
+ * group and the policy set, and receives the pending batches. The other clients each get an
+ * online profile of their own, and the users are spread across those profiles.
+ *
+ * @param clients            clients to create, 60% SRF and 40% CDR
+ * @param accountsPerClient  accounts each client holds
+ * @param largeProfileClients clients enrolled in the large profile, its primary client included
+ * @param users              users, a share of them in the large profile
+ * @param largeProfileUsers  users in the large profile
+ * @param userGroups         user groups in the large profile
+ * @param userGroupSize      members of each of those groups
+ * @param policies           permission policies in the large profile
+ * @param batches            pending payor enrolment batches on the large profile
+ * @param batchItems         items in each batch
+ * @param seed               random seed; the same spec and seed always produce the same rows
+ */
+public record ScaleDataSpec(
+    int clients,
+    int accountsPerClient,
+    int largeProfileClients,
+    int users,
+    int largeProfileUsers,
+    int userGroups,
+    int userGroupSize,
+    int policies,
+    int batches,
+    int batchItems,
+    long seed
+) {
+
+    /** CDR client numbers are six digits. */
+    private static final int MAX_CDR_CLIENTS = 1_000_000;
+
+    public ScaleDataSpec {
+        if (clients < 1 || accountsPerClient < 1) {
+            throw new IllegalArgumentException("A dataset needs at least one client with one account");
+        }
+        if (largeProfileClients < 1 || largeProfileClients > clients) {
+            throw new IllegalArgumentException("The large profile must enroll between 1 and " + clients + " clients");
+        }
+        if (clients - clients * 6 / 10 > MAX_CDR_CLIENTS) {
+            throw new IllegalArgumentException("Too many clients for six-digit CDR client numbers: " + clients);
+        }
+        if (largeProfileUsers < 1 || largeProfileUsers > users || userGroupSize > largeProfileUsers) {
+            throw new IllegalArgumentException("User groups are drawn from the large profile's users, "
+                + "which are drawn from all users");
+        }
+    }
+
+    /**
+     * Production scale: 500k clients, 5M accounts, a 10k-client profile and 100k users.
+     */
+    public static ScaleDataSpec production() {
+        return new ScaleDataSpec(500_000, 10, 10_000, 100_000, 20_000, 50, 5_000, 2_000, 300, 500, 42L);
+    }
+
+    /**
+     * Small enough for an in-memory database in a CI run, with the same shape as production.
+     */
+    public static ScaleDataSpec ci() {
+        return new ScaleDataSpec(5_000, 10, 1_000, 2_000, 1_000, 10, 500, 200, 300, 50, 42L);
+    }
+
+    /**
+     * Overrides from {@code scale.*} system properties, for example {@code -Dscale.clients=100000}.
+     */
+    public ScaleDataSpec withSystemOverrides() {
+        return new ScaleDataSpec(
+            Integer.getInteger("scale.clients", clients),
+            Integer.getInteger("scale.accounts-per-client", accountsPerClient),
+            Integer.getInteger("scale.large-profile-clients", largeProfileClients),
+            Integer.getInteger("scale.users", users),
+            Integer.getInteger("scale.large-profile-users", largeProfileUsers),
+            Integer.getInteger("scale.user-groups", userGroups),
+            Integer.getInteger("scale.user-group-size", userGroupSize),
+            Integer.getInteger("scale.policies", policies),
+            Integer.getInteger("scale.batches", batches),
+            Integer.getInteger("scale.batch-items", batchItems),
+            Long.getLong("scale.seed", seed));
+    }
+
+    /**
+     * The preset named by the {@code scale.preset} system property ("production" or "ci"),
+     * with any other {@code scale.*} overrides applied.
+     */
+    public static ScaleDataSpec fromSystemProperties(ScaleDataSpec fallback) {
+        String preset = System.getProperty("scale.preset");
+        ScaleDataSpec base = preset == null ? fallback : switch (preset) {
+            case "production" -> production();
+            case "ci" -> ci();
+            default -> throw new IllegalArgumentException("Unknown scale preset: " + preset);
+        };
+        return base.withSystemOverrides();
+    }
+
+    public long accounts() {
+        return (long) clients * accountsPerClient;
+    }
+}
@@ -0,0 +1,104 @@
+package com.knight.application.timing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RequestTimingFilter.
+ */
+class RequestTimingFilterTest {
+
+    private static final String URI_PATTERN = "/api/v1/indirect/users";
+
+    private RequestTimingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private SegmentTimer segmentTimer;
+    private RequestTimingFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RequestTimingProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        segmentTimer = new SegmentTimer(ObservationRegistry.NOOP);
+        filter = new RequestTimingFilter(properties, meterRegistry);
+        request = new MockHttpServletRequest("GET", URI_PATTERN);
+        response = new MockHttpServletResponse();
+    }
+
+    /**
+     * A request that loads from the database twice, then writes its body.
+     */
+    private FilterChain endpoint() {
+        return (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI_PATTERN);
+            segmentTimer.time(TimedSegment.DB, "UserRepositoryAdapter.findByProfileId", () -> null);
+            segmentTimer.time(TimedSegment.DB, "UserGroupRepositoryAdapter.findByUserId", () -> null);
+            SegmentTimer.Running serialization = segmentTimer.start(TimedSegment.SERIALIZATION, "json");
+            servletResponse.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+            servletResponse.flushBuffer();
+            serialization.stop();
+        };
+    }
+
+    @Test
+    @DisplayName("should not send the Server-Timing header unless enabled")
+    void shouldNotSendHeaderByDefault() throws Exception {
+        filter.doFilter(request, response, endpoint());
+
+        assertThat(response.getHeader(RequestTimingFilter.SERVER_TIMING_HEADER)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("should send the segment timings before the body, counting the body being written")
+    void shouldSendHeaderBeforeBody() throws Exception {
+        properties.setServerTimingHeader(true);
+
+        filter.doFilter(request, response, endpoint());
+
+        assertThat(response.getHeader(RequestTimingFilter.SERVER_TIMING_HEADER))
+            .matches("db;dur=\\d+\\.\\d{2};desc=\"2 calls\", "
+                + "serialize;dur=\\d+\\.\\d{2};desc=\"1 call\", "
+                + "total;dur=\\d+\\.\\d{2}");
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("should send the header on a response without a body")
+    void shouldSendHeaderWithoutBody() throws Exception {
+        properties.setServerTimingHeader(true);
+
+        filter.doFilter(request, response, (servletRequest, servletResponse) ->
+            segmentTimer.time(TimedSegment.JWT, "decode", () -> null));
+
+        assertThat(response.getHeader(RequestTimingFilter.SERVER_TIMING_HEADER))
+            .startsWith("jwt;dur=").contains("total;dur=");
+    }
+
+    @Test
+    @DisplayName("should record each segment's time per request by endpoint")
+    void shouldRecordPerRequestTimers() throws Exception {
+        filter.doFilter(request, response, endpoint());
+        filter.doFilter(request, new MockHttpServletResponse(), endpoint());
+
+        assertThat(meterRegistry.get(RequestTimingFilter.REQUEST_METRIC)
+            .tag("segment", "db").tag("uri", URI_PATTERN).timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(RequestTimingFilter.REQUEST_METRIC)
+            .tag("segment", "serialize").tag("uri", URI_PATTERN).timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.find(RequestTimingFilter.REQUEST_METRIC).tag("segment", "auth0").timer()).isNull();
+        assertThat(RequestTimings.current()).isNull();
+    }
+}
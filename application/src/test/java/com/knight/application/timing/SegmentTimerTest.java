@@ -0,0 +1,116 @@
+package com.knight.application.timing;
+
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SegmentTimer.
+ */
+class SegmentTimerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SegmentTimer segmentTimer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        segmentTimer = new SegmentTimer(observationRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.finish();
+    }
+
+    private long calls(String segment, String operation) {
+        return meterRegistry.get(SegmentTimer.CALLS_METRIC)
+            .tag("segment", segment).tag("operation", operation).timer().count();
+    }
+
+    @Test
+    @DisplayName("should time each call by segment and operation")
+    void shouldTimeCalls() {
+        String result = segmentTimer.time(TimedSegment.DB, "UserRepositoryAdapter.findById", () -> "user");
+        segmentTimer.time(TimedSegment.DB, "UserRepositoryAdapter.findById", () -> "user");
+
+        assertThat(result).isEqualTo("user");
+        assertThat(calls("db", "UserRepositoryAdapter.findById")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should add calls to the timings of the current request")
+    void shouldAccumulateRequestTimings() {
+        RequestTimings timings = RequestTimings.start();
+
+        segmentTimer.time(TimedSegment.AUTH0, "Auth0Adapter.login", () -> null);
+        segmentTimer.time(TimedSegment.AUTH0, "Auth0Adapter.getMfaEnrollments", () -> null);
+
+        assertThat(timings.calls(TimedSegment.AUTH0)).isEqualTo(2);
+        assertThat(timings.calls(TimedSegment.DB)).isZero();
+        assertThat(timings.nanos(TimedSegment.AUTH0)).isPositive();
+    }
+
+    @Test
+    @DisplayName("should not time a call nested in the same segment again")
+    void shouldNotCountNestedCallsTwice() {
+        RequestTimings timings = RequestTimings.start();
+
+        segmentTimer.time(TimedSegment.DB, "ProfileRepositoryAdapter.save",
+            () -> segmentTimer.time(TimedSegment.DB, "UserRepositoryAdapter.findById", () -> null));
+        segmentTimer.time(TimedSegment.PRINCIPAL, "auth0",
+            () -> segmentTimer.time(TimedSegment.DB, "UserRepositoryAdapter.findByIdentityProviderUserId", () -> null));
+
+        assertThat(timings.calls(TimedSegment.DB)).isEqualTo(2);
+        assertThat(timings.calls(TimedSegment.PRINCIPAL)).isEqualTo(1);
+        assertThat(meterRegistry.find(SegmentTimer.CALLS_METRIC).tag("operation", "UserRepositoryAdapter.findById")
+            .timer()).isNull();
+        assertThat(calls("db", "UserRepositoryAdapter.findByIdentityProviderUserId")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should time a failed call and tag it with the error")
+    void shouldTimeFailedCalls() {
+        RequestTimings timings = RequestTimings.start();
+
+        assertThatThrownBy(() -> segmentTimer.time(TimedSegment.EMAIL, "AhaSendEmailService.send", () -> {
+            throw new IllegalStateException("provider down");
+        })).isInstanceOf(IllegalStateException.class);
+        segmentTimer.time(TimedSegment.EMAIL, "AhaSendEmailService.send", () -> null);
+
+        assertThat(timings.calls(TimedSegment.EMAIL)).isEqualTo(2);
+        assertThat(meterRegistry.get(SegmentTimer.CALLS_METRIC).tag("error", "IllegalStateException").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should time a call started and stopped separately")
+    void shouldTimeStartedCalls() {
+        RequestTimings timings = RequestTimings.start();
+
+        SegmentTimer.Running running = segmentTimer.start(TimedSegment.SERIALIZATION, "json");
+        assertThat(timings.calls(TimedSegment.SERIALIZATION)).isZero();
+        running.stop();
+
+        assertThat(timings.calls(TimedSegment.SERIALIZATION)).isEqualTo(1);
+        assertThat(calls("serialize", "json")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should time calls made outside a request")
+    void shouldTimeCallsOutsideRequests() {
+        segmentTimer.time(TimedSegment.DB, "BatchRepositoryAdapter.save", () -> null);
+
+        assertThat(RequestTimings.current()).isNull();
+        assertThat(calls("db", "BatchRepositoryAdapter.save")).isEqualTo(1);
+    }
+}
@@ -32,7 +32,9 @@ function _M.proxy_request(path, body)
         body = body,
         headers = {
             ["Content-Type"] = "application/json",
-            ["Authorization"] = auth_header
+            ["Authorization"] = auth_header,
+            -- The platform rate-limits logins per client IP, see conf.d/default.conf
+            ["X-Forwarded-For"] = ngx.var.remote_addr
         }
     })
 
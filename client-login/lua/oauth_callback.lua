@@ -59,7 +59,8 @@ if access_token and id_token then
             body = check_body,
             headers = {
                 ["Content-Type"] = "application/json",
-                ["Authorization"] = auth_header
+                ["Authorization"] = auth_header,
+                ["X-Forwarded-For"] = ngx.var.remote_addr
             },
             ssl_verify = false
         })
@@ -257,7 +258,8 @@ if login_api_password then
         body = check_body,
         headers = {
             ["Content-Type"] = "application/json",
-            ["Authorization"] = auth_header
+            ["Authorization"] = auth_header,
+            ["X-Forwarded-For"] = ngx.var.remote_addr
         },
         ssl_verify = false
     })
@@ -0,0 +1,41 @@
+import { injectGlobalWebcomponentCss } from 'Frontend/generated/jar-resources/theme-util.js';
+
+import '@vaadin/common-frontend/ConnectionIndicator.js';
+import '@vaadin/polymer-legacy-adapter/style-modules.js';
+import '@vaadin/vaadin-lumo-styles/sizing.js';
+import '@vaadin/vaadin-lumo-styles/spacing.js';
+import '@vaadin/vaadin-lumo-styles/style.js';
+import '@vaadin/vaadin-lumo-styles/vaadin-iconset.js';
+import 'Frontend/generated/jar-resources/ReactRouterOutletElement.tsx';
+
+const loadOnDemand = (key) => {
+  const pending = [];
+  if (key === 'b923756fb3059f4529bd806d214ab663da217885334e044879b3ab88b0319332') {
+    pending.push(import('./chunks/chunk-90503ea6a060f3b805e5a3866d3d89b0b835187aaad1f7360fe7f4b04a1b74ce.js'));
+  }
+  if (key === 'dc232d22c84ad159d3dc1bdb87dd79967a4fd062dbe959a64137944b1e6922d3') {
+    pending.push(import('./chunks/chunk-90503ea6a060f3b805e5a3866d3d89b0b835187aaad1f7360fe7f4b04a1b74ce.js'));
+  }
+  if (key === '37e5d781e71b8b1d96229172a7dd0e1754e9d80f2c338d522487adedf9b23ab9') {
+    pending.push(import('./chunks/chunk-90503ea6a060f3b805e5a3866d3d89b0b835187aaad1f7360fe7f4b04a1b74ce.js'));
+  }
+  if (key === '1f47411a4b6ecca80573909e7d1c26256c7430d83244f53c3ab92fe5bf4334ee') {
+    pending.push(import('./chunks/chunk-388e52dd061df31f85e6a6e29790c50e410d3382df6bb8f43de3df8bc521f170.js'));
+  }
+  if (key === '67f5a4a909b137f2dd3a7488d790e7c3da4a33eea1e13a228e954150a3923d0d') {
+    pending.push(import('./chunks/chunk-b5ade032cf48a5ac8ccc8d5e2e28e577760e7abf9d303cc00c0917fe03668d97.js'));
+  }
+  if (key === '1e6e8e135a90a161227c51279c794cee930113b8ffd861ff1e168a95d354ccb6') {
+    pending.push(import('./chunks/chunk-781f2ec31a6d037201e4be9f7c79f8afb470745d16078c25ccafddf92e67994f.js'));
+  }
+  return Promise.all(pending);
+}
+
+window.Vaadin = window.Vaadin || {};
+window.Vaadin.Flow = window.Vaadin.Flow || {};
+window.Vaadin.Flow.loadOnDemand = loadOnDemand;
+window.Vaadin.Flow.resetFocus = () => {
+ let ae=document.activeElement;
+ while(ae&&ae.shadowRoot) ae = ae.shadowRoot.activeElement;
+ return !ae || ae.blur() || ae.focus() || true;
+}
\ No newline at end of file
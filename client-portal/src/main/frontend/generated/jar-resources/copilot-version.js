@@ -0,0 +1 @@
+// Full cdn version: 24.9.7-undefined
\ No newline at end of file
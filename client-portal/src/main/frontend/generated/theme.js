@@ -0,0 +1,2 @@
+import {applyTheme as _applyTheme} from './theme-clientportal.generated.js';
+export const applyTheme = _applyTheme;
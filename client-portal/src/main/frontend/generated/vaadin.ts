@@ -0,0 +1,8 @@
+import './vaadin-featureflags.js';
+
+import './index';
+
+import './vaadin-react.js';
+import './theme-clientportal.global.generated.js';
+import { applyTheme } from './theme.js';
+applyTheme(document);
@@ -1,11 +1,13 @@
 package com.knight.clientportal;
 
 import com.vaadin.flow.component.page.AppShellConfigurator;
+import com.vaadin.flow.component.page.Push;
 import com.vaadin.flow.theme.Theme;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication
+@Push
 @Theme("clientportal")
 public class ClientPortalApplication implements AppShellConfigurator {
 
@@ -1,7 +1,11 @@
 package com.knight.clientportal.config;
 
 import com.knight.clientportal.security.JwtAuthenticationToken;
+import com.knight.portalcommon.http.PortalHttpClientProperties;
+import com.knight.portalcommon.http.PortalHttpClients;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -11,7 +15,8 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 /**
- * Configuration for WebClient used to communicate with the Platform API.
+ * Configuration for WebClient used to communicate with the Platform API,
+ * on the pooled, instrumented transport from {@link PortalHttpClients}.
  */
 @Configuration
 public class WebClientConfig {
@@ -20,9 +25,20 @@ public class WebClientConfig {
     private String apiBaseUrl;
 
     @Bean
-    public WebClient apiWebClient() {
-        return WebClient.builder()
-                .baseUrl(apiBaseUrl)
+    @ConfigurationProperties("api.client")
+    public PortalHttpClientProperties apiClientProperties() {
+        return new PortalHttpClientProperties();
+    }
+
+    @Bean
+    public PortalHttpClients portalHttpClients(PortalHttpClientProperties apiClientProperties,
+                                               ObservationRegistry observationRegistry) {
+        return new PortalHttpClients("platform-api", apiBaseUrl, apiClientProperties, observationRegistry);
+    }
+
+    @Bean
+    public WebClient apiWebClient(PortalHttpClients portalHttpClients) {
+        return portalHttpClients.webClient()
                 .filter(addAuthorizationHeader())
                 .build();
     }
@@ -8,6 +8,7 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
 import com.knight.clientportal.model.UserInfo;
+import com.knight.portalcommon.security.JwtValidationCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -15,9 +16,9 @@ import org.springframework.stereotype.Component;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -34,16 +35,12 @@ public class JwtValidator {
     private final JwtProperties properties;
     private final JwkProvider jwkProvider;
 
-    // Cache validated tokens to avoid repeated JWKS lookups
-    // Key: token hash, Value: cached result with expiry
-    private final ConcurrentHashMap<String, CachedValidation> tokenCache = new ConcurrentHashMap<>();
-    private static final int MAX_CACHE_SIZE = 1000;
-
-    private record CachedValidation(UserInfo userInfo, Instant expiresAt) {
-        boolean isValid() {
-            return userInfo != null && Instant.now().isBefore(expiresAt);
-        }
-    }
+    // Cache verified tokens to avoid repeated signature checks and JWKS lookups.
+    // Only the verified token is cached; gateway headers are applied on every request.
+    private static final int MAX_CACHE_SIZE = 16_384;
+    private static final Duration MAX_CACHE_TTL = Duration.ofHours(1);
+    private final JwtValidationCache<DecodedJWT> tokenCache =
+        new JwtValidationCache<>(MAX_CACHE_SIZE, MAX_CACHE_TTL, DecodedJWT::getExpiresAtAsInstant);
 
     public JwtValidator(JwtProperties properties) {
         this.properties = properties;
@@ -69,103 +66,89 @@ public class JwtValidator {
      * @return UserInfo if valid, null if invalid
      */
     public UserInfo validateAndExtract(String token, Map<String, String> headers) {
-        // Check cache first using token hash
-        String tokenHash = Integer.toHexString(token.hashCode());
-        CachedValidation cached = tokenCache.get(tokenHash);
-        if (cached != null && cached.isValid()) {
-            log.debug("Token validated from cache for user: {}", cached.userInfo().userId());
-            return cached.userInfo();
-        }
-
         try {
-            // Decode without verification first to get the key ID
-            DecodedJWT unverified = JWT.decode(token);
-            String keyId = unverified.getKeyId();
-
-            // Get public key from JWKS
-            Jwk jwk = jwkProvider.get(keyId);
-            Algorithm algorithm = Algorithm.RSA256((RSAPublicKey) jwk.getPublicKey(), null);
-
-            // Build verifier with all validations
-            JWTVerifier verifier = JWT.require(algorithm)
-                .withIssuer(properties.issuer())
-                .withAudience(properties.audience())
-                .acceptLeeway(60) // 60 seconds leeway for clock skew
-                .build();
-
-            // Verify token
-            DecodedJWT jwt = verifier.verify(token);
-
-            // Extract claims
-            String userId = jwt.getSubject();
-            String email = jwt.getClaim("email").asString();
-            String name = jwt.getClaim("name").asString();
-            String picture = jwt.getClaim("picture").asString();
-            String scope = jwt.getClaim("scope").asString();
-
-            Instant issuedAt = jwt.getIssuedAtAsInstant();
-            Instant expiresAt = jwt.getExpiresAtAsInstant();
-
-            List<String> audience = jwt.getAudience();
-
-            // Extract custom claims
-            Map<String, Object> customClaims = new HashMap<>();
-            jwt.getClaims().forEach((key, claim) -> {
-                if (!STANDARD_CLAIMS.contains(key) && !claim.isNull()) {
-                    Object value = claim.as(Object.class);
-                    if (value != null) {
-                        customClaims.put(key, value);
-                    }
-                }
-            });
-
-            // Get additional info from headers (set by client-login gateway)
-            String ivUser = headers.getOrDefault("iv-user", email);
-            boolean mfaTokenValid = "true".equalsIgnoreCase(headers.get("x-mfa-token-valid"));
-            boolean hasGuardian = "true".equalsIgnoreCase(headers.get("x-auth-has-guardian"));
+            DecodedJWT jwt = tokenCache.getOrValidate(token, this::verify);
+            return toUserInfo(jwt, headers);
+        } catch (Exception e) {
+            log.warn("JWT validation failed: {}", e.getMessage());
+            return null;
+        }
+    }
 
-            // Override with header values if present
-            if (headers.containsKey("x-auth-user-email") && email == null) {
-                email = headers.get("x-auth-user-email");
-            }
-            if (headers.containsKey("x-auth-user-name") && name == null) {
-                name = headers.get("x-auth-user-name");
-            }
+    private DecodedJWT verify(String token) throws Exception {
+        // Decode without verification first to get the key ID
+        DecodedJWT unverified = JWT.decode(token);
+        String keyId = unverified.getKeyId();
+
+        // Get public key from JWKS
+        Jwk jwk = jwkProvider.get(keyId);
+        Algorithm algorithm = Algorithm.RSA256((RSAPublicKey) jwk.getPublicKey(), null);
+
+        // Build verifier with all validations
+        JWTVerifier verifier = JWT.require(algorithm)
+            .withIssuer(properties.issuer())
+            .withAudience(properties.audience())
+            .acceptLeeway(60) // 60 seconds leeway for clock skew
+            .build();
+
+        // Verify token
+        DecodedJWT jwt = verifier.verify(token);
+        log.debug("JWT validated for user: {}", jwt.getSubject());
+        return jwt;
+    }
 
-            log.debug("JWT validated for user: {}", userId);
-
-            UserInfo userInfo = new UserInfo(
-                userId,
-                email,
-                name,
-                picture,
-                ivUser,
-                mfaTokenValid,
-                hasGuardian,
-                issuedAt,
-                expiresAt,
-                jwt.getIssuer(),
-                audience,
-                scope,
-                customClaims
-            );
-
-            // Cache the validated token
-            if (expiresAt != null) {
-                // Clean up old entries if cache is too large
-                if (tokenCache.size() > MAX_CACHE_SIZE) {
-                    Instant now = Instant.now();
-                    tokenCache.entrySet().removeIf(entry -> !entry.getValue().isValid());
+    private UserInfo toUserInfo(DecodedJWT jwt, Map<String, String> headers) {
+        // Extract claims
+        String userId = jwt.getSubject();
+        String email = jwt.getClaim("email").asString();
+        String name = jwt.getClaim("name").asString();
+        String picture = jwt.getClaim("picture").asString();
+        String scope = jwt.getClaim("scope").asString();
+
+        Instant issuedAt = jwt.getIssuedAtAsInstant();
+        Instant expiresAt = jwt.getExpiresAtAsInstant();
+
+        List<String> audience = jwt.getAudience();
+
+        // Extract custom claims
+        Map<String, Object> customClaims = new HashMap<>();
+        jwt.getClaims().forEach((key, claim) -> {
+            if (!STANDARD_CLAIMS.contains(key) && !claim.isNull()) {
+                Object value = claim.as(Object.class);
+                if (value != null) {
+                    customClaims.put(key, value);
                 }
-                tokenCache.put(tokenHash, new CachedValidation(userInfo, expiresAt));
             }
+        });
 
-            return userInfo;
+        // Get additional info from headers (set by client-login gateway)
+        String ivUser = headers.getOrDefault("iv-user", email);
+        boolean mfaTokenValid = "true".equalsIgnoreCase(headers.get("x-mfa-token-valid"));
+        boolean hasGuardian = "true".equalsIgnoreCase(headers.get("x-auth-has-guardian"));
 
-        } catch (Exception e) {
-            log.warn("JWT validation failed: {}", e.getMessage());
-            return null;
+        // Override with header values if present
+        if (headers.containsKey("x-auth-user-email") && email == null) {
+            email = headers.get("x-auth-user-email");
         }
+        if (headers.containsKey("x-auth-user-name") && name == null) {
+            name = headers.get("x-auth-user-name");
+        }
+
+        return new UserInfo(
+            userId,
+            email,
+            name,
+            picture,
+            ivUser,
+            mfaTokenValid,
+            hasGuardian,
+            issuedAt,
+            expiresAt,
+            jwt.getIssuer(),
+            audience,
+            scope,
+            customClaims
+        );
     }
 
     /**
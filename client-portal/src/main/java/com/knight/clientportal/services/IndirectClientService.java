@@ -1,17 +1,14 @@
 package com.knight.clientportal.services;
 
 import com.knight.clientportal.services.dto.IndirectClientDetail;
-import com.knight.clientportal.services.dto.IndirectClientSummary;
+import com.knight.clientportal.services.dto.IndirectClientPage;
 import com.knight.clientportal.services.dto.RelatedPersonRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
-
 /**
  * Service for indirect client operations via Platform API.
  * Uses /api/v1/client endpoints for direct client to manage their indirect clients.
@@ -24,24 +21,41 @@ public class IndirectClientService {
     private final WebClient apiWebClient;
 
     /**
-     * Get all indirect clients for the current client.
+     * Get one page of indirect clients for the current client, ordered by name.
+     */
+    public IndirectClientPage getIndirectClients(int page, int size) {
+        return getIndirectClientsAsync(page, size).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getIndirectClients}, for loading alongside other calls.
      */
-    public List<IndirectClientSummary> getIndirectClients() {
+    public Mono<IndirectClientPage> getIndirectClientsAsync(int page, int size) {
         return apiWebClient.get()
-                .uri("/indirect-clients")
+                .uri(uriBuilder -> uriBuilder
+                        .path("/indirect-clients")
+                        .queryParam("page", page)
+                        .queryParam("size", size)
+                        .build())
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<IndirectClientSummary>>() {})
+                .bodyToMono(IndirectClientPage.class)
                 .onErrorResume(e -> {
                     log.error("Failed to fetch indirect clients", e);
-                    return Mono.just(List.of());
-                })
-                .block();
+                    return Mono.just(new IndirectClientPage());
+                });
     }
 
     /**
      * Get detailed information about an indirect client.
      */
     public IndirectClientDetail getIndirectClient(String indirectClientId) {
+        return getIndirectClientAsync(indirectClientId).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getIndirectClient}, for loading alongside other calls.
+     */
+    public Mono<IndirectClientDetail> getIndirectClientAsync(String indirectClientId) {
         return apiWebClient.get()
                 .uri("/indirect-clients/{id}", indirectClientId)
                 .retrieve()
@@ -49,8 +63,7 @@ public class IndirectClientService {
                 .onErrorResume(e -> {
                     log.error("Failed to fetch indirect client detail", e);
                     return Mono.empty();
-                })
-                .block();
+                });
     }
 
     /**
@@ -2,6 +2,7 @@ package com.knight.clientportal.services;
 
 import com.knight.clientportal.services.dto.BatchDetailDto;
 import com.knight.clientportal.services.dto.BatchItemDto;
+import com.knight.clientportal.services.dto.BatchProgressDto;
 import com.knight.clientportal.services.dto.ValidationResultDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,8 +10,10 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -96,4 +99,19 @@ public class PayorEnrolmentService {
                 })
                 .block();
     }
+
+    /**
+     * Stream batch progress. Emits the current state first, then one event per processed
+     * item, and completes once the batch has finished. Subscribe from a request thread so
+     * the caller's token is attached.
+     */
+    public Flux<BatchProgressDto> streamBatchProgress(String batchId) {
+        return apiWebClient.get()
+                .uri("/batches/{batchId}/progress", batchId)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<BatchProgressDto>>() {})
+                .mapNotNull(ServerSentEvent::data)
+                .doOnError(e -> log.error("Batch progress stream failed", e));
+    }
 }
@@ -0,0 +1,30 @@
+package com.knight.clientportal.services.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One event of a batch progress stream: current counts plus the items that changed since
+ * the previous event. The first event of a stream carries the failed items so far.
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BatchProgressDto {
+    private String batchId;
+    private long sequence;
+    private String status;
+    private String statusDisplayName;
+    private int totalItems;
+    private int successCount;
+    private int failedCount;
+    private int pendingCount;
+    private List<BatchItemDto> changedItems = List.of();
+
+    public boolean isFinished() {
+        return "COMPLETED".equals(status) || "COMPLETED_WITH_ERRORS".equals(status) || "FAILED".equals(status);
+    }
+}
@@ -0,0 +1,21 @@
+package com.knight.clientportal.services.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the client's indirect clients.
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class IndirectClientPage {
+    private List<IndirectClientSummary> content = List.of();
+    private long totalElements;
+    private int page;
+    private int size;
+    private int totalPages;
+}
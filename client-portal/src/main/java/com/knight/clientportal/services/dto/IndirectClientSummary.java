@@ -1,5 +1,6 @@
 package com.knight.clientportal.services.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -15,6 +16,7 @@ public class IndirectClientSummary {
     private String externalReference;
     private String status;
     private int accountCount;
+    @JsonAlias("relatedPersonCount")
     private int personCount;
     private Instant createdAt;
 }
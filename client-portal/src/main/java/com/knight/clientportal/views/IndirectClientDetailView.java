@@ -5,6 +5,8 @@ import com.knight.clientportal.services.dto.IndirectClientDetail;
 import com.knight.clientportal.services.dto.IndirectClientDetail.OfiAccount;
 import com.knight.clientportal.services.dto.IndirectClientDetail.RelatedPerson;
 import com.knight.clientportal.services.dto.RelatedPersonRequest;
+import com.knight.portalcommon.loading.ViewLoadTimeoutException;
+import com.knight.portalcommon.loading.ViewLoader;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -44,6 +46,7 @@ import java.time.format.DateTimeFormatter;
 public class IndirectClientDetailView extends VerticalLayout implements HasUrlParameter<String>, AfterNavigationObserver {
 
     private final IndirectClientService indirectClientService;
+    private final ViewLoader loader = new ViewLoader();
 
     private String indirectClientId;
     private IndirectClientDetail clientDetail;
@@ -61,6 +64,9 @@ public class IndirectClientDetailView extends VerticalLayout implements HasUrlPa
         setSizeFull();
         setPadding(true);
         setSpacing(true);
+
+        // Drop any load still in flight once the view leaves the UI
+        addDetachListener(event -> loader.cancel());
     }
 
     @Override
@@ -72,7 +78,7 @@ public class IndirectClientDetailView extends VerticalLayout implements HasUrlPa
 
     private void loadClientDetails() {
         try {
-            clientDetail = indirectClientService.getIndirectClient(indirectClientId);
+            clientDetail = loader.await(indirectClientService.getIndirectClientAsync(indirectClientId));
 
             if (clientDetail == null) {
                 Notification.show("Indirect client not found", 5000, Notification.Position.TOP_CENTER)
@@ -83,6 +89,10 @@ public class IndirectClientDetailView extends VerticalLayout implements HasUrlPa
 
             buildUI();
 
+        } catch (ViewLoadTimeoutException e) {
+            Notification.show("Indirect client took too long to load, please try again",
+                    5000, Notification.Position.TOP_CENTER)
+                    .addThemeVariants(NotificationVariant.LUMO_ERROR);
         } catch (Exception e) {
             Notification.show("Error loading indirect client: " + e.getMessage(),
                     5000, Notification.Position.TOP_CENTER)
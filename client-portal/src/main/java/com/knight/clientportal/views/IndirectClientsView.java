@@ -24,7 +24,6 @@ import static com.knight.clientportal.views.components.Breadcrumb.BreadcrumbItem
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 
 /**
  * View for managing indirect clients (payors).
@@ -106,8 +105,9 @@ public class IndirectClientsView extends VerticalLayout implements AfterNavigati
 
     private void loadIndirectClients() {
         try {
-            List<IndirectClientSummary> clients = indirectClientService.getIndirectClients();
-            grid.setItems(clients);
+            grid.setItems(query -> indirectClientService
+                    .getIndirectClients(query.getPage(), query.getPageSize())
+                    .getContent().stream());
         } catch (Exception e) {
             Notification.show("Error loading indirect clients: " + e.getMessage(),
                     5000, Notification.Position.TOP_CENTER)
@@ -73,10 +73,13 @@ public class ApprovalWorkflow {
     private final List<Approval> approvals;
     private final Instant initiatedAt;
     private final String initiatedBy;
+    private final Instant expiresAt;
     private Instant completedAt;
+    // Stored version this copy was loaded or saved at; null until first saved
+    private Long version;
 
     private ApprovalWorkflow(String id, String resourceType, String resourceId,
-                            int requiredApprovals, String initiatedBy) {
+                            int requiredApprovals, String initiatedBy, Instant expiresAt) {
         this.id = Objects.requireNonNull(id, "id cannot be null");
         this.resourceType = Objects.requireNonNull(resourceType, "resourceType cannot be null");
         this.resourceId = Objects.requireNonNull(resourceId, "resourceId cannot be null");
@@ -85,10 +88,19 @@ public class ApprovalWorkflow {
         this.status = Status.PENDING;
         this.approvals = new ArrayList<>();
         this.initiatedAt = Instant.now();
+        this.expiresAt = expiresAt;
     }
 
     public static ApprovalWorkflow initiate(String resourceType, String resourceId,
                                            int requiredApprovals, String initiatedBy) {
+        return initiate(resourceType, resourceId, requiredApprovals, initiatedBy, null);
+    }
+
+    /**
+     * Initiates a workflow that expires, if still pending, at {@code expiresAt}; null for never.
+     */
+    public static ApprovalWorkflow initiate(String resourceType, String resourceId,
+                                           int requiredApprovals, String initiatedBy, Instant expiresAt) {
         if (resourceType == null || resourceType.isBlank()) {
             throw new IllegalArgumentException("Resource type cannot be null or blank");
         }
@@ -103,7 +115,7 @@ public class ApprovalWorkflow {
         }
 
         String id = UUID.randomUUID().toString();
-        return new ApprovalWorkflow(id, resourceType, resourceId, requiredApprovals, initiatedBy);
+        return new ApprovalWorkflow(id, resourceType, resourceId, requiredApprovals, initiatedBy, expiresAt);
     }
 
     public void recordApproval(String approverUserId, Decision decision, String comments) {
@@ -157,7 +169,19 @@ public class ApprovalWorkflow {
                                                  int requiredApprovals, Status status,
                                                  List<Approval> approvals, Instant initiatedAt,
                                                  String initiatedBy, Instant completedAt) {
-        ApprovalWorkflow workflow = new ApprovalWorkflow(id, resourceType, resourceId, requiredApprovals, initiatedBy);
+        return reconstitute(id, resourceType, resourceId, requiredApprovals, status, approvals,
+            initiatedAt, initiatedBy, null, completedAt);
+    }
+
+    /**
+     * Reconstitutes an ApprovalWorkflow with an expiry time from persistence.
+     */
+    public static ApprovalWorkflow reconstitute(String id, String resourceType, String resourceId,
+                                                 int requiredApprovals, Status status,
+                                                 List<Approval> approvals, Instant initiatedAt,
+                                                 String initiatedBy, Instant expiresAt, Instant completedAt) {
+        ApprovalWorkflow workflow = new ApprovalWorkflow(id, resourceType, resourceId, requiredApprovals,
+            initiatedBy, expiresAt);
         try {
             java.lang.reflect.Field statusField = ApprovalWorkflow.class.getDeclaredField("status");
             statusField.setAccessible(true);
@@ -182,6 +206,15 @@ public class ApprovalWorkflow {
         return workflow;
     }
 
+    /**
+     * Called by the repository with the stored version once the workflow has been loaded or saved.
+     * Saving a copy whose version is no longer the stored one fails rather than overwriting
+     * the changes made since.
+     */
+    public void markPersisted(long version) {
+        this.version = version;
+    }
+
     // Getters
     public String id() { return id; }
     public String resourceType() { return resourceType; }
@@ -191,5 +224,7 @@ public class ApprovalWorkflow {
     public List<Approval> approvals() { return List.copyOf(approvals); }
     public Instant initiatedAt() { return initiatedAt; }
     public String initiatedBy() { return initiatedBy; }
+    public Instant expiresAt() { return expiresAt; }
     public Instant completedAt() { return completedAt; }
+    public Long version() { return version; }
 }
@@ -1,5 +1,7 @@
 package com.knight.domain.approvalworkflows.api.commands;
 
+import java.time.Instant;
+
 /**
  * Command interface for Approval Workflow Management.
  * Defines contract for initiating and managing approval workflows.
@@ -12,8 +14,13 @@ public interface ApprovalWorkflowCommands {
         String resourceType,
         String resourceId,
         int requiredApprovals,
-        String initiatedBy
-    ) {}
+        String initiatedBy,
+        Instant expiresAt       // null if the workflow never expires
+    ) {
+        public InitiateWorkflowCmd(String resourceType, String resourceId, int requiredApprovals, String initiatedBy) {
+            this(resourceType, resourceId, requiredApprovals, initiatedBy, null);
+        }
+    }
 
     void recordApproval(RecordApprovalCmd cmd);
 
@@ -27,4 +34,11 @@ public interface ApprovalWorkflowCommands {
     void expireWorkflow(ExpireWorkflowCmd cmd);
 
     record ExpireWorkflowCmd(String workflowId) {}
+
+    /**
+     * Expires up to {@code limit} pending workflows past their expiry time, in one statement.
+     *
+     * @return the number of workflows expired; fewer than {@code limit} when none are left overdue
+     */
+    int expireOverdueWorkflows(int limit);
 }
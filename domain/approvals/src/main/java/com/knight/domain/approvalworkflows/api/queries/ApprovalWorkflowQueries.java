@@ -1,5 +1,8 @@
 package com.knight.domain.approvalworkflows.api.queries;
 
+import java.time.Instant;
+import java.util.List;
+
 /**
  * Query interface for Approval Workflow Management.
  */
@@ -15,4 +18,58 @@ public interface ApprovalWorkflowQueries {
     ) {}
 
     ApprovalWorkflowSummary getWorkflowSummary(String workflowId);
+
+    // ==================== Pending Workflows ====================
+
+    /**
+     * List pending workflows one page at a time, oldest first, without loading their approvals.
+     * Pass the previous page's {@code nextCursor} to continue.
+     */
+    PendingWorkflowPage findPendingWorkflows(PendingWorkflowSearch search);
+
+    /**
+     * Count pending workflows, e.g. for a badge. Null filters match every pending workflow.
+     */
+    long countPendingWorkflows(String resourceType, String resourceId, String initiatedBy);
+
+    /**
+     * Pending workflow filters and paging. Null filters match every pending workflow.
+     */
+    record PendingWorkflowSearch(
+        String resourceType,
+        String resourceId,
+        String initiatedBy,
+        String cursor,
+        int size
+    ) {
+        public static final int DEFAULT_SIZE = 50;
+        public static final int MAX_SIZE = 200;
+
+        public PendingWorkflowSearch {
+            if (size <= 0) {
+                size = DEFAULT_SIZE;
+            }
+            size = Math.min(size, MAX_SIZE);
+        }
+    }
+
+    record PendingWorkflowPage(
+        List<PendingWorkflowSummary> workflows,
+        String nextCursor
+    ) {
+        public boolean hasMore() {
+            return nextCursor != null;
+        }
+    }
+
+    record PendingWorkflowSummary(
+        String workflowId,
+        String resourceType,
+        String resourceId,
+        int requiredApprovals,
+        int receivedApprovals,
+        Instant initiatedAt,
+        String initiatedBy,
+        Instant expiresAt
+    ) {}
 }
@@ -2,6 +2,8 @@ package com.knight.domain.approvalworkflows.repository;
 
 import com.knight.domain.approvalworkflows.aggregate.ApprovalWorkflow;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,4 +26,65 @@ public interface ApprovalWorkflowRepository {
      * @return the approval workflow if found
      */
     Optional<ApprovalWorkflow> findById(String workflowId);
+
+    // ==================== Pending Workflows ====================
+
+    /**
+     * Filters on pending workflows. Null filters match every pending workflow.
+     */
+    record PendingFilter(
+        String resourceType,
+        String resourceId,
+        String initiatedBy
+    ) {}
+
+    /**
+     * Position of the last row of a page; the next page starts strictly after it.
+     */
+    record PendingKey(Instant initiatedAt, String workflowId) {}
+
+    /**
+     * One pending workflow, read without loading its approvals.
+     */
+    record PendingEntry(
+        String workflowId,
+        String resourceType,
+        String resourceId,
+        int requiredApprovals,
+        int receivedApprovals,
+        Instant initiatedAt,
+        String initiatedBy,
+        Instant expiresAt
+    ) {
+        public PendingKey key() {
+            return new PendingKey(initiatedAt, workflowId);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} pending workflows, oldest first, starting after {@code after} when set.
+     *
+     * @param filter the filters to apply
+     * @param after the last row of the previous page, or null for the first page
+     * @param limit the most rows to return
+     * @return the matching rows, in order
+     */
+    List<PendingEntry> findPending(PendingFilter filter, PendingKey after, int limit);
+
+    /**
+     * Counts pending workflows.
+     *
+     * @param filter the filters to apply
+     * @return the number of matching pending workflows
+     */
+    long countPending(PendingFilter filter);
+
+    /**
+     * Expires pending workflows whose expiry time has passed, oldest due first.
+     *
+     * @param now the current time
+     * @param limit the most workflows to expire
+     * @return the number of workflows expired
+     */
+    int expireOverdue(Instant now, int limit);
 }
@@ -5,11 +5,20 @@ import com.knight.domain.approvalworkflows.api.commands.ApprovalWorkflowCommands
 import com.knight.domain.approvalworkflows.api.events.WorkflowInitiated;
 import com.knight.domain.approvalworkflows.api.queries.ApprovalWorkflowQueries;
 import com.knight.domain.approvalworkflows.repository.ApprovalWorkflowRepository;
+import com.knight.domain.approvalworkflows.repository.ApprovalWorkflowRepository.PendingEntry;
+import com.knight.domain.approvalworkflows.repository.ApprovalWorkflowRepository.PendingFilter;
+import com.knight.domain.approvalworkflows.repository.ApprovalWorkflowRepository.PendingKey;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
  * Application service for Approval Workflow Engine.
@@ -18,6 +27,8 @@ import java.time.Instant;
 @Service
 public class ApprovalWorkflowApplicationService implements ApprovalWorkflowCommands, ApprovalWorkflowQueries {
 
+    private static final String CURSOR_SEPARATOR = "|";
+
     private final ApprovalWorkflowRepository repository;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -36,7 +47,8 @@ public class ApprovalWorkflowApplicationService implements ApprovalWorkflowComma
             cmd.resourceType(),
             cmd.resourceId(),
             cmd.requiredApprovals(),
-            cmd.initiatedBy()
+            cmd.initiatedBy(),
+            cmd.expiresAt()
         );
 
         repository.save(workflow);
@@ -76,6 +88,12 @@ public class ApprovalWorkflowApplicationService implements ApprovalWorkflowComma
         repository.save(workflow);
     }
 
+    @Override
+    @Transactional
+    public int expireOverdueWorkflows(int limit) {
+        return repository.expireOverdue(Instant.now(), limit);
+    }
+
     @Override
     public ApprovalWorkflowSummary getWorkflowSummary(String workflowId) {
         ApprovalWorkflow workflow = repository.findById(workflowId)
@@ -94,4 +112,72 @@ public class ApprovalWorkflowApplicationService implements ApprovalWorkflowComma
             (int) approveCount
         );
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PendingWorkflowPage findPendingWorkflows(PendingWorkflowSearch search) {
+        // Ask for one extra row to learn whether another page follows
+        List<PendingEntry> rows = repository.findPending(
+            filter(search.resourceType(), search.resourceId(), search.initiatedBy()),
+            decodeCursor(search.cursor()),
+            search.size() + 1
+        );
+
+        boolean hasMore = rows.size() > search.size();
+        List<PendingEntry> page = hasMore ? rows.subList(0, search.size()) : rows;
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1).key()) : null;
+
+        return new PendingWorkflowPage(page.stream().map(this::toPendingWorkflowSummary).toList(), nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPendingWorkflows(String resourceType, String resourceId, String initiatedBy) {
+        return repository.countPending(filter(resourceType, resourceId, initiatedBy));
+    }
+
+    private static PendingFilter filter(String resourceType, String resourceId, String initiatedBy) {
+        return new PendingFilter(blankToNull(resourceType), blankToNull(resourceId), blankToNull(initiatedBy));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private PendingWorkflowSummary toPendingWorkflowSummary(PendingEntry entry) {
+        return new PendingWorkflowSummary(
+            entry.workflowId(),
+            entry.resourceType(),
+            entry.resourceId(),
+            entry.requiredApprovals(),
+            entry.receivedApprovals(),
+            entry.initiatedAt(),
+            entry.initiatedBy(),
+            entry.expiresAt()
+        );
+    }
+
+    /**
+     * Cursors are opaque to callers: the last row's workflow ID, then its initiation time.
+     */
+    private static String encodeCursor(PendingKey key) {
+        String raw = key.workflowId() + CURSOR_SEPARATOR + key.initiatedAt();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PendingKey decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(Pattern.quote(CURSOR_SEPARATOR), 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new PendingKey(Instant.parse(parts[1]), UUID.fromString(parts[0]).toString());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
 }
@@ -46,9 +46,21 @@ class ApprovalWorkflowTest {
             assertThat(workflow.status()).isEqualTo(Status.PENDING);
             assertThat(workflow.approvals()).isEmpty();
             assertThat(workflow.initiatedAt()).isNotNull();
+            assertThat(workflow.expiresAt()).isNull();
             assertThat(workflow.completedAt()).isNull();
         }
 
+        @Test
+        @DisplayName("should create workflow with an expiry time")
+        void shouldCreateWorkflowWithExpiryTime() {
+            Instant expiresAt = Instant.now().plusSeconds(3600);
+
+            ApprovalWorkflow workflow = ApprovalWorkflow.initiate(RESOURCE_TYPE, RESOURCE_ID, 1, INITIATED_BY, expiresAt);
+
+            assertThat(workflow.expiresAt()).isEqualTo(expiresAt);
+            assertThat(workflow.status()).isEqualTo(Status.PENDING);
+        }
+
         @Test
         @DisplayName("should generate unique IDs for each workflow")
         void shouldGenerateUniqueIdsForEachWorkflow() {
@@ -301,6 +313,17 @@ class ApprovalWorkflowTest {
             assertThat(workflow.status()).isEqualTo(Status.PENDING);
             assertThat(workflow.completedAt()).isNull();
         }
+
+        @Test
+        @DisplayName("should carry the stored version it was loaded at")
+        void shouldCarryStoredVersion() {
+            ApprovalWorkflow workflow = ApprovalWorkflow.initiate(RESOURCE_TYPE, RESOURCE_ID, 1, INITIATED_BY);
+            assertThat(workflow.version()).isNull();
+
+            workflow.markPersisted(7);
+
+            assertThat(workflow.version()).isEqualTo(7);
+        }
     }
 
     // ==================== Approval Value Object Tests ====================
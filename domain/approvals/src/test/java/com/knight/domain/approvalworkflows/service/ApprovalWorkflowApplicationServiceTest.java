@@ -6,7 +6,12 @@ import com.knight.domain.approvalworkflows.aggregate.ApprovalWorkflow.Status;
 import com.knight.domain.approvalworkflows.api.commands.ApprovalWorkflowCommands.*;
 import com.knight.domain.approvalworkflows.api.events.WorkflowInitiated;
 import com.knight.domain.approvalworkflows.api.queries.ApprovalWorkflowQueries.ApprovalWorkflowSummary;
+import com.knight.domain.approvalworkflows.api.queries.ApprovalWorkflowQueries.PendingWorkflowPage;
+import com.knight.domain.approvalworkflows.api.queries.ApprovalWorkflowQueries.PendingWorkflowSearch;
+import com.knight.domain.approvalworkflows.api.queries.ApprovalWorkflowQueries.PendingWorkflowSummary;
 import com.knight.domain.approvalworkflows.repository.ApprovalWorkflowRepository;
+import com.knight.domain.approvalworkflows.repository.ApprovalWorkflowRepository.PendingEntry;
+import com.knight.domain.approvalworkflows.repository.ApprovalWorkflowRepository.PendingFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,11 +23,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -245,4 +254,69 @@ class ApprovalWorkflowApplicationServiceTest {
             assertThat(summary.receivedApprovals()).isEqualTo(1);
         }
     }
+
+    // ==================== Pending Workflow Tests ====================
+
+    @Nested
+    @DisplayName("findPendingWorkflows()")
+    class FindPendingWorkflowsTests {
+
+        private PendingEntry entry(int second) {
+            return new PendingEntry(UUID.randomUUID().toString(), RESOURCE_TYPE, RESOURCE_ID + second, 2, 1,
+                Instant.parse("2026-01-01T09:00:00Z").plusSeconds(second), INITIATED_BY, null);
+        }
+
+        @Test
+        @DisplayName("should return a page and a cursor that continues after its last row")
+        void shouldPageWithCursor() {
+            List<PendingEntry> rows = List.of(entry(1), entry(2), entry(3));
+            when(repository.findPending(new PendingFilter(RESOURCE_TYPE, null, null), null, 3)).thenReturn(rows);
+
+            PendingWorkflowPage page = service.findPendingWorkflows(
+                new PendingWorkflowSearch(RESOURCE_TYPE, " ", null, null, 2));
+
+            assertThat(page.workflows()).extracting(PendingWorkflowSummary::workflowId)
+                .containsExactly(rows.get(0).workflowId(), rows.get(1).workflowId());
+            assertThat(page.hasMore()).isTrue();
+
+            when(repository.findPending(any(), eq(rows.get(1).key()), eq(3))).thenReturn(List.of(rows.get(2)));
+            PendingWorkflowPage next = service.findPendingWorkflows(
+                new PendingWorkflowSearch(RESOURCE_TYPE, null, null, page.nextCursor(), 2));
+
+            assertThat(next.workflows()).extracting(PendingWorkflowSummary::workflowId)
+                .containsExactly(rows.get(2).workflowId());
+            assertThat(next.hasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reject a malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThatThrownBy(() -> service.findPendingWorkflows(
+                new PendingWorkflowSearch(null, null, null, "not-a-cursor", 10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        }
+
+        @Test
+        @DisplayName("should count pending workflows through the repository")
+        void shouldCountPending() {
+            when(repository.countPending(new PendingFilter(null, null, INITIATED_BY))).thenReturn(4L);
+
+            assertThat(service.countPendingWorkflows(null, "", INITIATED_BY)).isEqualTo(4L);
+        }
+    }
+
+    @Nested
+    @DisplayName("expireOverdueWorkflows()")
+    class ExpireOverdueWorkflowsTests {
+
+        @Test
+        @DisplayName("should expire overdue workflows in one repository call")
+        void shouldExpireOverdue() {
+            when(repository.expireOverdue(any(Instant.class), eq(100))).thenReturn(7);
+
+            assertThat(service.expireOverdueWorkflows(100)).isEqualTo(7);
+            verify(repository, never()).findById(any());
+        }
+    }
 }
@@ -1,19 +1,26 @@
 package com.knight.domain.auth0identity.adapter;
 
 import com.knight.domain.auth0identity.api.Auth0IntegrationException;
+import com.knight.domain.auth0identity.api.Auth0RateLimitException;
 import com.knight.domain.auth0identity.api.Auth0TokenService;
 import com.knight.domain.auth0identity.config.Auth0Config;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
 import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestClient;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
 
 /**
  * HTTP client for Auth0 Management API.
@@ -23,20 +30,31 @@ import java.nio.charset.StandardCharsets;
 public class Auth0HttpClient {
 
     private static final Logger log = LoggerFactory.getLogger(Auth0HttpClient.class);
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
 
     private final RestClient restClient;
     private final Auth0TokenService tokenService;
 
+    @Autowired
     public Auth0HttpClient(Auth0Config config, Auth0TokenService tokenService) {
+        this(config.getManagementApiUrl(), tokenService);
+    }
+
+    Auth0HttpClient(String managementApiUrl, Auth0TokenService tokenService) {
         this.tokenService = tokenService;
         this.restClient = RestClient.builder()
-            .baseUrl(config.getManagementApiUrl())
+            .baseUrl(managementApiUrl)
             .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
             .build();
     }
 
     private void handleError(String method, String uri, org.springframework.http.client.ClientHttpResponse response) {
         try {
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                Duration retryAfter = retryAfter(response.getHeaders());
+                log.warn("Auth0 rate limit reached for {} {}; resets in {}", method, uri, retryAfter);
+                throw new Auth0RateLimitException("Auth0 rate limit reached for " + method + " " + uri, retryAfter);
+            }
             String body = StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
             String message = String.format("Auth0 API error: %s for %s %s. Body: %s", response.getStatusCode(), method, uri, body);
             log.error(message);
@@ -73,6 +91,44 @@ public class Auth0HttpClient {
         return result;
     }
 
+    /**
+     * GET with query parameters, each encoded as a URI variable so search syntax passes through intact.
+     */
+    public <T> T getWithQueryParams(String uri, Map<String, ?> params, Class<T> responseType) {
+        log.debug("GET {} {}", uri, params);
+        return restClient.get()
+            .uri(builder -> {
+                builder.path(uri);
+                params.keySet().forEach(name -> builder.queryParam(name, "{" + name + "}"));
+                return builder.build(params);
+            })
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.getManagementApiToken())
+            .retrieve()
+            .onStatus(HttpStatusCode::isError, (request, response) -> handleError("GET", uri, response))
+            .body(responseType);
+    }
+
+    /**
+     * Time until the rate limit resets: Auth0 sends the reset as epoch seconds in
+     * {@code X-RateLimit-Reset}; {@code Retry-After} is honoured as well.
+     */
+    private static Duration retryAfter(HttpHeaders headers) {
+        try {
+            String reset = headers.getFirst("X-RateLimit-Reset");
+            if (reset != null) {
+                Duration untilReset = Duration.between(Instant.now(), Instant.ofEpochSecond(Long.parseLong(reset)));
+                return untilReset.isNegative() ? Duration.ZERO : untilReset;
+            }
+            String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null) {
+                return Duration.ofSeconds(Long.parseLong(retryAfter));
+            }
+        } catch (NumberFormatException e) {
+            log.debug("Unparseable rate limit header: {}", e.getMessage());
+        }
+        return DEFAULT_RETRY_AFTER;
+    }
+
     public <T> T post(String uri, Object body, Class<T> responseType) {
         log.debug("POST {}", uri);
         return restClient.post()
@@ -84,6 +140,21 @@ public class Auth0HttpClient {
             .body(responseType);
     }
 
+    /**
+     * POST as multipart/form-data, for Management API endpoints that take a file upload.
+     */
+    public <T> T postMultipart(String uri, MultiValueMap<String, ?> parts, Class<T> responseType) {
+        log.debug("POST {} (multipart)", uri);
+        return restClient.post()
+            .uri(uri)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.getManagementApiToken())
+            .contentType(MediaType.MULTIPART_FORM_DATA)
+            .body(parts)
+            .retrieve()
+            .onStatus(HttpStatusCode::isError, (request, response) -> handleError("POST", uri, response))
+            .body(responseType);
+    }
+
     public <T> T patch(String uri, Object body, Class<T> responseType) {
         log.debug("PATCH {}", uri);
         return restClient.patch()
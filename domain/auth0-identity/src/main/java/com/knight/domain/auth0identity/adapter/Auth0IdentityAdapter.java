@@ -16,7 +16,10 @@ import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
@@ -33,16 +36,19 @@ public class Auth0IdentityAdapter implements Auth0IdentityService {
 
     private final Auth0Config config;
     private final Auth0HttpClient httpClient;
+    private final Auth0UserImporter importer;
     private final ApplicationEventPublisher eventPublisher;
     private final SecureRandom secureRandom = new SecureRandom();
 
     public Auth0IdentityAdapter(
         Auth0Config config,
         Auth0HttpClient httpClient,
+        Auth0UserImporter importer,
         ApplicationEventPublisher eventPublisher
     ) {
         this.config = config;
         this.httpClient = httpClient;
+        this.importer = importer;
         this.eventPublisher = eventPublisher;
     }
 
@@ -75,14 +81,7 @@ public class Auth0IdentityAdapter implements Auth0IdentityService {
             request.lastName(),
             true,   // emailVerifiedStatus - set to true (we verify via our own OTP)
             false,  // triggerEmailVerificationOnCreate - don't send Auth0 verification email
-            new Auth0CreateUserRequest.AppMetadata(
-                request.internalUserId(),
-                request.profileId(),
-                "knight_platform",
-                Instant.now().toString(),
-                "pending",
-                false
-            )
+            appMetadata(request)
         );
 
         // 4. Create user in Auth0
@@ -127,6 +126,38 @@ public class Auth0IdentityAdapter implements Auth0IdentityService {
         return new ProvisionUserResult(auth0UserId, resetUrl, Instant.now());
     }
 
+    @Override
+    public List<ProvisionUserOutcome> provisionUsers(List<ProvisionUserRequest> requests) {
+        if (!importer.shouldImport(requests.size())) {
+            return requests.stream().map(this::provisionIndividually).toList();
+        }
+
+        List<ProvisionUserOutcome> outcomes = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += importer.maxUsersPerJob()) {
+            List<ProvisionUserRequest> chunk = requests.subList(from,
+                Math.min(from + importer.maxUsersPerJob(), requests.size()));
+            Map<String, String> rejected;
+            try {
+                rejected = importer.importUsers(chunk.stream().map(this::toImportUser).toList());
+            } catch (Auth0IntegrationException e) {
+                log.warn("Auth0 users import failed, provisioning {} users one by one: {}", chunk.size(), e.getMessage());
+                rejected = null;
+            }
+            for (ProvisionUserRequest request : chunk) {
+                String rejection = rejected != null ? rejected.get(request.loginId().toLowerCase(Locale.ROOT)) : null;
+                if (rejected != null && rejection == null) {
+                    outcomes.add(imported(request));
+                } else {
+                    if (rejection != null) {
+                        log.info("Auth0 users import rejected {} ({}); provisioning individually", request.loginId(), rejection);
+                    }
+                    outcomes.add(provisionIndividually(request));
+                }
+            }
+        }
+        return outcomes;
+    }
+
     @Override
     public OnboardingStatus getOnboardingStatus(String identityProviderUserId) {
         log.debug("Getting onboarding status for: {}", identityProviderUserId);
@@ -369,6 +400,63 @@ public class Auth0IdentityAdapter implements Auth0IdentityService {
 
     // ==================== Helper Methods ====================
 
+    /**
+     * The Auth0 user ID an imported user gets: the internal user ID, prefixed by the connection strategy.
+     */
+    static String importedUserId(ProvisionUserRequest request) {
+        return "auth0|" + request.internalUserId();
+    }
+
+    private Auth0ImportUser toImportUser(ProvisionUserRequest request) {
+        return new Auth0ImportUser(
+            request.internalUserId(),
+            request.loginId(),   // Use loginId as Auth0 email field
+            true,                // we verify via our own OTP
+            buildFullName(request.firstName(), request.lastName()),
+            request.firstName(),
+            request.lastName(),
+            appMetadata(request)
+        );
+    }
+
+    private ProvisionUserOutcome imported(ProvisionUserRequest request) {
+        String auth0UserId = importedUserId(request);
+        eventPublisher.publishEvent(new Auth0UserCreated(
+            auth0UserId,
+            request.loginId(),
+            buildFullName(request.firstName(), request.lastName()),
+            Instant.now()
+        ));
+        return new ProvisionUserOutcome(request, new ProvisionUserResult(auth0UserId, null, Instant.now()), null);
+    }
+
+    private ProvisionUserOutcome provisionIndividually(ProvisionUserRequest request) {
+        try {
+            return new ProvisionUserOutcome(request, provisionUser(request), null);
+        } catch (UserAlreadyExistsException e) {
+            // An import that timed out may still have created the user
+            if (importedUserId(request).equals(e.getExistingUserId())) {
+                return new ProvisionUserOutcome(request,
+                    new ProvisionUserResult(e.getExistingUserId(), null, Instant.now()), null);
+            }
+            return new ProvisionUserOutcome(request, null, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Failed to provision user {}: {}", request.loginId(), e.getMessage());
+            return new ProvisionUserOutcome(request, null, e.getMessage());
+        }
+    }
+
+    private Auth0CreateUserRequest.AppMetadata appMetadata(ProvisionUserRequest request) {
+        return new Auth0CreateUserRequest.AppMetadata(
+            request.internalUserId(),
+            request.profileId(),
+            "knight_platform",
+            Instant.now().toString(),
+            "pending",
+            false
+        );
+    }
+
     private OnboardingState determineOnboardingState(boolean passwordSet, boolean mfaEnrolled) {
         if (!passwordSet) {
             return OnboardingState.PENDING_PASSWORD;
@@ -0,0 +1,62 @@
+package com.knight.domain.auth0identity.adapter;
+
+import com.knight.domain.auth0identity.adapter.dto.Auth0UserListEntry;
+import com.knight.domain.auth0identity.api.Auth0UserDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Auth0 user directory backed by the Management API users search.
+ *
+ * Pages are keyed on creation time rather than page number, because the search returns at
+ * most 1000 results per query; asking for "created at or after the last user seen" walks a
+ * tenant of any size, and page numbers are only needed within a single creation instant.
+ *
+ * MFA enrollment comes from the {@code multifactor} attribute of each user, so no per-user
+ * enrollments call is needed.
+ */
+@Service
+public class Auth0UserDirectoryAdapter implements Auth0UserDirectory {
+
+    private static final Logger log = LoggerFactory.getLogger(Auth0UserDirectoryAdapter.class);
+    static final String FIELDS = "user_id,email_verified,multifactor,last_login,created_at";
+
+    private final Auth0HttpClient httpClient;
+
+    public Auth0UserDirectoryAdapter(Auth0HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public List<UserState> usersCreatedFrom(Instant createdFrom, int page, int pageSize) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("q", "created_at:[" + (createdFrom != null ? createdFrom.toString() : "*") + " TO *]");
+        params.put("sort", "created_at:1");
+        params.put("per_page", pageSize);
+        params.put("page", page);
+        params.put("fields", FIELDS);
+        params.put("include_fields", true);
+        params.put("search_engine", "v3");
+
+        Auth0UserListEntry[] users = httpClient.getWithQueryParams("/users", params, Auth0UserListEntry[].class);
+        log.debug("Listed {} Auth0 users created from {} (page {})", users != null ? users.length : 0, createdFrom, page);
+        if (users == null) {
+            return List.of();
+        }
+        return Arrays.stream(users)
+            .map(user -> new UserState(
+                user.userId(),
+                user.emailVerifiedStatus(), // Proxy: verified after password reset
+                user.multifactor() != null && !user.multifactor().isEmpty(),
+                user.lastLogin() != null ? Instant.parse(user.lastLogin()) : null,
+                user.createdAt() != null ? Instant.parse(user.createdAt()) : null))
+            .toList();
+    }
+}
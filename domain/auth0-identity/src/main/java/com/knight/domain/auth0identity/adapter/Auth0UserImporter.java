@@ -0,0 +1,153 @@
+package com.knight.domain.auth0identity.adapter;
+
+import com.knight.domain.auth0identity.adapter.dto.Auth0Connection;
+import com.knight.domain.auth0identity.adapter.dto.Auth0ImportError;
+import com.knight.domain.auth0identity.adapter.dto.Auth0ImportUser;
+import com.knight.domain.auth0identity.adapter.dto.Auth0Job;
+import com.knight.domain.auth0identity.api.Auth0IntegrationException;
+import com.knight.domain.auth0identity.api.Auth0RateLimitException;
+import com.knight.domain.auth0identity.config.Auth0BulkImportConfig;
+import com.knight.domain.auth0identity.config.Auth0Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Creates users through Auth0 bulk users-import jobs.
+ * A job is submitted with the users as a JSON file, polled until it finishes, and its errors
+ * fetched to tell which users were not imported. Jobs are run one at a time; Auth0 allows
+ * only a couple of concurrent imports per tenant.
+ */
+@Component
+public class Auth0UserImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(Auth0UserImporter.class);
+    private static final Set<String> UNFINISHED = Set.of("pending", "processing");
+
+    private final Auth0Config config;
+    private final Auth0BulkImportConfig importConfig;
+    private final Auth0HttpClient httpClient;
+    private volatile String connectionId;
+
+    public Auth0UserImporter(Auth0Config config, Auth0BulkImportConfig importConfig, Auth0HttpClient httpClient) {
+        this.config = config;
+        this.importConfig = importConfig;
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Whether this many users are worth an import job rather than one create call each.
+     */
+    public boolean shouldImport(int userCount) {
+        return userCount >= importConfig.minUsers();
+    }
+
+    public int maxUsersPerJob() {
+        return importConfig.maxUsersPerJob();
+    }
+
+    /**
+     * Imports the users as one job and waits for it to finish.
+     *
+     * @return the users Auth0 did not import, by lower-cased email, with the reason
+     * @throws Auth0IntegrationException if the job could not be submitted, failed or did not finish in time
+     */
+    public Map<String, String> importUsers(List<Auth0ImportUser> users) {
+        HttpHeaders fileHeaders = new HttpHeaders();
+        fileHeaders.setContentType(MediaType.APPLICATION_JSON);
+        fileHeaders.setContentDisposition(ContentDisposition.formData().name("users").filename("users.json").build());
+        MultiValueMap<String, Object> parts = new LinkedMultiValueMap<>();
+        parts.add("users", new HttpEntity<>(users, fileHeaders));
+        parts.add("connection_id", connectionId());
+        parts.add("upsert", "false");
+        parts.add("send_completion_email", "false");
+
+        Auth0Job job = httpClient.postMultipart("/jobs/users-imports", parts, Auth0Job.class);
+        if (job == null || job.id() == null) {
+            throw new Auth0IntegrationException("Failed to submit Auth0 users import");
+        }
+        log.info("Submitted Auth0 users import {} for {} users", job.id(), users.size());
+
+        awaitCompletion(job.id());
+
+        Auth0ImportError[] errors = httpClient.get("/jobs/" + job.id() + "/errors", Auth0ImportError[].class);
+        Map<String, String> rejected = new HashMap<>();
+        if (errors != null) {
+            for (Auth0ImportError error : errors) {
+                if (error.user() != null && error.user().email() != null) {
+                    rejected.put(error.user().email().toLowerCase(Locale.ROOT), describe(error));
+                }
+            }
+        }
+        log.info("Auth0 users import {} finished: {} imported, {} rejected",
+            job.id(), users.size() - rejected.size(), rejected.size());
+        return rejected;
+    }
+
+    private void awaitCompletion(String jobId) {
+        Instant deadline = Instant.now().plus(importConfig.timeout());
+        while (true) {
+            Duration wait = importConfig.pollInterval();
+            try {
+                Auth0Job job = httpClient.get("/jobs/" + jobId, Auth0Job.class);
+                if (job != null && "completed".equals(job.status())) {
+                    return;
+                }
+                if (job == null || !UNFINISHED.contains(job.status())) {
+                    throw new Auth0IntegrationException("Auth0 users import " + jobId + " did not complete: "
+                        + (job != null ? job.status() : "job not found"));
+                }
+            } catch (Auth0RateLimitException e) {
+                wait = e.getRetryAfter().compareTo(wait) > 0 ? e.getRetryAfter() : wait;
+            }
+            if (Instant.now().plus(wait).isAfter(deadline)) {
+                throw new Auth0IntegrationException("Auth0 users import " + jobId + " did not finish within "
+                    + importConfig.timeout());
+            }
+            try {
+                Thread.sleep(wait.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new Auth0IntegrationException("Interrupted waiting for Auth0 users import " + jobId);
+            }
+        }
+    }
+
+    private String connectionId() {
+        String id = connectionId;
+        if (id == null) {
+            Auth0Connection[] connections = httpClient.getWithQueryParams("/connections",
+                Map.of("name", config.connection(), "fields", "id,name"), Auth0Connection[].class);
+            if (connections == null || connections.length == 0) {
+                throw new Auth0IntegrationException("Auth0 connection not found: " + config.connection());
+            }
+            id = connections[0].id();
+            connectionId = id;
+        }
+        return id;
+    }
+
+    private static String describe(Auth0ImportError error) {
+        if (error.errors() == null || error.errors().isEmpty()) {
+            return "Rejected by Auth0 users import";
+        }
+        return error.errors().stream()
+            .map(e -> e.code() + ": " + e.message())
+            .collect(Collectors.joining("; "));
+    }
+}
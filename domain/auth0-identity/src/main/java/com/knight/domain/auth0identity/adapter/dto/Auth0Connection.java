@@ -0,0 +1,9 @@
+package com.knight.domain.auth0identity.adapter.dto;
+
+/**
+ * Response DTO for an Auth0 connection.
+ */
+public record Auth0Connection(
+    String id,
+    String name
+) {}
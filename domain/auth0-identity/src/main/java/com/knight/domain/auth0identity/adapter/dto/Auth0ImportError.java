@@ -0,0 +1,15 @@
+package com.knight.domain.auth0identity.adapter.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for a user an Auth0 users-import job could not import.
+ */
+public record Auth0ImportError(
+    User user,
+    List<Error> errors
+) {
+    public record User(String email) {}
+
+    public record Error(String code, String message) {}
+}
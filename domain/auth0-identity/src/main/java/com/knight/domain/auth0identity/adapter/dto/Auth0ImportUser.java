@@ -0,0 +1,19 @@
+package com.knight.domain.auth0identity.adapter.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One user of an Auth0 users-import file.
+ * The user ID is prefixed by the connection strategy on import, e.g. {@code auth0|<user_id>}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record Auth0ImportUser(
+    @JsonProperty("user_id") String userId,
+    String email,
+    @JsonProperty("email_verified") boolean emailVerifiedStatus,
+    String name,
+    @JsonProperty("given_name") String givenName,
+    @JsonProperty("family_name") String familyName,
+    @JsonProperty("app_metadata") Auth0CreateUserRequest.AppMetadata appMetadata
+) {}
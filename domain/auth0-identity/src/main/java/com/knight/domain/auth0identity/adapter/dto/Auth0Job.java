@@ -0,0 +1,11 @@
+package com.knight.domain.auth0identity.adapter.dto;
+
+/**
+ * Response DTO for an Auth0 job (users import).
+ * Status is pending or processing until the job is completed or failed.
+ */
+public record Auth0Job(
+    String id,
+    String status,
+    String type
+) {}
@@ -0,0 +1,16 @@
+package com.knight.domain.auth0identity.adapter.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Response DTO for one user of the Auth0 users list, limited to the fields requested.
+ */
+public record Auth0UserListEntry(
+    @JsonProperty("user_id") String userId,
+    @JsonProperty("email_verified") boolean emailVerifiedStatus,
+    List<String> multifactor,
+    @JsonProperty("last_login") String lastLogin,
+    @JsonProperty("created_at") String createdAt
+) {}
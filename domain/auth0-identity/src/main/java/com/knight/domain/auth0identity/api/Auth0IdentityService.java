@@ -3,6 +3,7 @@ package com.knight.domain.auth0identity.api;
 import com.knight.platform.sharedkernel.UserId;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -38,6 +39,27 @@ public interface Auth0IdentityService {
         Instant provisionedAt
     ) {}
 
+    /**
+     * Provisions many users at once.
+     * Large enough sets are created through Auth0 bulk import jobs, without a password reset
+     * ticket; users the import rejects, and smaller sets, are provisioned one by one.
+     * A failure for one user does not stop the others.
+     *
+     * @param requests the provisioning requests
+     * @return one outcome per request, in request order
+     */
+    List<ProvisionUserOutcome> provisionUsers(List<ProvisionUserRequest> requests);
+
+    record ProvisionUserOutcome(
+        ProvisionUserRequest request,
+        ProvisionUserResult result,     // null if the user could not be provisioned
+        String failureReason
+    ) {
+        public boolean succeeded() {
+            return result != null;
+        }
+    }
+
     // ==================== Onboarding Status ====================
 
     /**
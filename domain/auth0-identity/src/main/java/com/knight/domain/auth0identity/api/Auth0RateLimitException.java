@@ -0,0 +1,23 @@
+package com.knight.domain.auth0identity.api;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when the Auth0 Management API rejects a call for exceeding its rate limit.
+ */
+public class Auth0RateLimitException extends Auth0IntegrationException {
+
+    private final Duration retryAfter;
+
+    public Auth0RateLimitException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * How long until the limit resets, as reported by Auth0.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,30 @@
+package com.knight.domain.auth0identity.api;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Bulk, read-only view of the users in Auth0, for reconciling local state.
+ * One call returns many users' onboarding state, where {@link Auth0IdentityService#getOnboardingStatus}
+ * costs two Management API calls per user.
+ */
+public interface Auth0UserDirectory {
+
+    /**
+     * Users created at or after {@code createdFrom}, oldest first.
+     *
+     * @param createdFrom earliest creation time to include; null to start from the oldest user
+     * @param page zero-based page of the results; only needed to step through more than a page
+     *             of users created at the same instant
+     * @param pageSize maximum number of users returned
+     */
+    List<UserState> usersCreatedFrom(Instant createdFrom, int page, int pageSize);
+
+    record UserState(
+        String identityProviderUserId,
+        boolean passwordSet,
+        boolean mfaEnrolled,
+        Instant lastLogin,
+        Instant createdAt
+    ) {}
+}
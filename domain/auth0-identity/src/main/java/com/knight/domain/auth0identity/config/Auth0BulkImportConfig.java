@@ -0,0 +1,22 @@
+package com.knight.domain.auth0identity.config;
+
+import java.time.Duration;
+
+/**
+ * Auth0 bulk users-import settings.
+ *
+ * @param minUsers       fewest users provisioned together that go through an import job; fewer are created one by one
+ * @param maxUsersPerJob most users in one import job (Auth0 limits the import file to 500KB)
+ * @param pollInterval   time between import job status checks
+ * @param timeout        longest wait for an import job to finish
+ */
+public record Auth0BulkImportConfig(
+    int minUsers,
+    int maxUsersPerJob,
+    Duration pollInterval,
+    Duration timeout
+) {
+    public static Auth0BulkImportConfig defaults() {
+        return new Auth0BulkImportConfig(20, 500, Duration.ofSeconds(2), Duration.ofMinutes(10));
+    }
+}
@@ -20,11 +20,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +39,9 @@ class Auth0IdentityAdapterTest {
     @Mock
     private Auth0HttpClient httpClient;
 
+    @Mock
+    private Auth0UserImporter importer;
+
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
@@ -68,7 +73,7 @@ class Auth0IdentityAdapterTest {
             "Username-Password-Authentication",
             "https://app.example.com/reset"
         );
-        adapter = new Auth0IdentityAdapter(config, httpClient, eventPublisher);
+        adapter = new Auth0IdentityAdapter(config, httpClient, importer, eventPublisher);
     }
 
     // Helper method to create Auth0UserResponse
@@ -162,6 +167,95 @@ class Auth0IdentityAdapterTest {
         }
     }
 
+    // ==================== Provision Users Tests ====================
+
+    @Nested
+    @DisplayName("provisionUsers()")
+    class ProvisionUsersTests {
+
+        private ProvisionUserRequest request(String name) {
+            return new ProvisionUserRequest(name + "@king.com", name + "@example.com", FIRST_NAME, LAST_NAME,
+                "internal-" + name, "profile-456");
+        }
+
+        private void stubIndividualProvisioning(String loginId, String auth0UserId) {
+            when(httpClient.getWithQueryParam(eq("/users-by-email"), eq("email"), eq(loginId), eq(Auth0UserResponse[].class)))
+                .thenReturn(new Auth0UserResponse[0]);
+            when(httpClient.post(eq("/users"), argThat(body -> body instanceof Auth0CreateUserRequest create
+                    && loginId.equals(create.email())), eq(Auth0UserResponse.class)))
+                .thenReturn(createUserResponse(auth0UserId, loginId, "John Doe", true, false, null, null));
+        }
+
+        @Test
+        @DisplayName("should import users and map them back by internal user ID")
+        @SuppressWarnings("unchecked")
+        void shouldImportUsers() {
+            when(importer.shouldImport(2)).thenReturn(true);
+            when(importer.maxUsersPerJob()).thenReturn(500);
+            when(importer.importUsers(any())).thenReturn(Map.of());
+
+            List<ProvisionUserOutcome> outcomes = adapter.provisionUsers(List.of(request("alice"), request("bob")));
+
+            assertThat(outcomes).extracting(outcome -> outcome.result().identityProviderUserId())
+                .containsExactly("auth0|internal-alice", "auth0|internal-bob");
+            ArgumentCaptor<List<Auth0ImportUser>> users = ArgumentCaptor.forClass(List.class);
+            verify(importer).importUsers(users.capture());
+            assertThat(users.getValue()).extracting(Auth0ImportUser::userId, Auth0ImportUser::email)
+                .containsExactly(tuple("internal-alice", "alice@king.com"), tuple("internal-bob", "bob@king.com"));
+            verify(eventPublisher, times(2)).publishEvent(any(Auth0UserCreated.class));
+            verify(httpClient, never()).post(eq("/users"), any(), any());
+        }
+
+        @Test
+        @DisplayName("should provision users the import rejected one by one")
+        void shouldFallBackForRejectedUsers() {
+            when(importer.shouldImport(2)).thenReturn(true);
+            when(importer.maxUsersPerJob()).thenReturn(500);
+            when(importer.importUsers(any())).thenReturn(Map.of("bob@king.com", "DUPLICATED_USER: exists"));
+            stubIndividualProvisioning("bob@king.com", AUTH0_USER_ID);
+
+            List<ProvisionUserOutcome> outcomes = adapter.provisionUsers(List.of(request("alice"), request("bob")));
+
+            assertThat(outcomes).extracting(outcome -> outcome.result().identityProviderUserId())
+                .containsExactly("auth0|internal-alice", AUTH0_USER_ID);
+        }
+
+        @Test
+        @DisplayName("should provision every user one by one when the import job fails")
+        void shouldFallBackWhenImportFails() {
+            when(importer.shouldImport(2)).thenReturn(true);
+            when(importer.maxUsersPerJob()).thenReturn(500);
+            when(importer.importUsers(any())).thenThrow(new Auth0IntegrationException("import did not finish"));
+            stubIndividualProvisioning("alice@king.com", "auth0|a");
+            // The timed-out import created bob after all
+            when(httpClient.getWithQueryParam(eq("/users-by-email"), eq("email"), eq("bob@king.com"), eq(Auth0UserResponse[].class)))
+                .thenReturn(new Auth0UserResponse[]{
+                    createUserResponse("auth0|internal-bob", "bob@king.com", "John Doe", true, false, null, null)});
+
+            List<ProvisionUserOutcome> outcomes = adapter.provisionUsers(List.of(request("alice"), request("bob")));
+
+            assertThat(outcomes).allMatch(ProvisionUserOutcome::succeeded);
+            assertThat(outcomes).extracting(outcome -> outcome.result().identityProviderUserId())
+                .containsExactly("auth0|a", "auth0|internal-bob");
+        }
+
+        @Test
+        @DisplayName("should provision a small set one by one and report failures per user")
+        void shouldProvisionSmallSetIndividually() {
+            when(importer.shouldImport(2)).thenReturn(false);
+            stubIndividualProvisioning("alice@king.com", "auth0|a");
+            when(httpClient.getWithQueryParam(eq("/users-by-email"), eq("email"), eq("bob@king.com"), eq(Auth0UserResponse[].class)))
+                .thenThrow(new Auth0IntegrationException("Auth0 API error"));
+
+            List<ProvisionUserOutcome> outcomes = adapter.provisionUsers(List.of(request("alice"), request("bob")));
+
+            assertThat(outcomes.get(0).succeeded()).isTrue();
+            assertThat(outcomes.get(1).succeeded()).isFalse();
+            assertThat(outcomes.get(1).failureReason()).isEqualTo("Auth0 API error");
+            verify(importer, never()).importUsers(any());
+        }
+    }
+
     // ==================== Get Onboarding Status Tests ====================
 
     @Nested
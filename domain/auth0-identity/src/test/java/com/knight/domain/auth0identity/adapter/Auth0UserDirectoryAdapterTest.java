@@ -0,0 +1,115 @@
+package com.knight.domain.auth0identity.adapter;
+
+import com.knight.domain.auth0identity.api.Auth0RateLimitException;
+import com.knight.domain.auth0identity.api.Auth0TokenService;
+import com.knight.domain.auth0identity.api.Auth0UserDirectory.UserState;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for Auth0UserDirectoryAdapter, against a local stand-in for the Management API users endpoint.
+ */
+@ExtendWith(MockitoExtension.class)
+class Auth0UserDirectoryAdapterTest {
+
+    private static final String USERS_JSON = """
+        [
+          {"user_id": "auth0|1", "email_verified": true, "multifactor": ["guardian"],
+           "last_login": "2026-01-02T10:00:00.000Z", "created_at": "2026-01-01T09:00:00.000Z"},
+          {"user_id": "auth0|2", "email_verified": false, "created_at": "2026-01-01T09:00:01.000Z"}
+        ]
+        """;
+
+    @Mock
+    private Auth0TokenService tokenService;
+
+    private HttpServer server;
+    private final AtomicReference<String> lastQuery = new AtomicReference<>();
+    private final AtomicReference<String> lastAuthorization = new AtomicReference<>();
+    private volatile int status = 200;
+    private Auth0UserDirectoryAdapter directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v2/users", exchange -> {
+            lastQuery.set(URLDecoder.decode(exchange.getRequestURI().getRawQuery(), StandardCharsets.UTF_8));
+            lastAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            byte[] body = (status == 200 ? USERS_JSON : "{\"statusCode\":429}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if (status == 429) {
+                exchange.getResponseHeaders().add("Retry-After", "7");
+            }
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        when(tokenService.getManagementApiToken()).thenReturn("mgmt-token");
+        Auth0HttpClient httpClient = new Auth0HttpClient(
+            "http://localhost:" + server.getAddress().getPort() + "/api/v2", tokenService);
+        directory = new Auth0UserDirectoryAdapter(httpClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("should page by creation time and map onboarding state from the listed fields")
+    void shouldListUsersCreatedFrom() {
+        List<UserState> users = directory.usersCreatedFrom(Instant.parse("2026-01-01T09:00:00Z"), 1, 50);
+
+        assertThat(lastQuery.get())
+            .contains("q=created_at:[2026-01-01T09:00:00Z TO *]")
+            .contains("sort=created_at:1")
+            .contains("per_page=50")
+            .contains("page=1")
+            .contains("fields=" + Auth0UserDirectoryAdapter.FIELDS);
+        assertThat(lastAuthorization.get()).isEqualTo("Bearer mgmt-token");
+        assertThat(users).containsExactly(
+            new UserState("auth0|1", true, true, Instant.parse("2026-01-02T10:00:00Z"),
+                Instant.parse("2026-01-01T09:00:00Z")),
+            new UserState("auth0|2", false, false, null, Instant.parse("2026-01-01T09:00:01Z")));
+    }
+
+    @Test
+    @DisplayName("should start from the oldest user when no creation time is given")
+    void shouldListFromTheStart() {
+        directory.usersCreatedFrom(null, 0, 100);
+
+        assertThat(lastQuery.get()).contains("q=created_at:[* TO *]");
+    }
+
+    @Test
+    @DisplayName("should report a rate-limited call with the time until the limit resets")
+    void shouldReportRateLimit() {
+        status = 429;
+
+        assertThatThrownBy(() -> directory.usersCreatedFrom(null, 0, 100))
+            .isInstanceOfSatisfying(Auth0RateLimitException.class,
+                e -> assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(7)));
+    }
+}
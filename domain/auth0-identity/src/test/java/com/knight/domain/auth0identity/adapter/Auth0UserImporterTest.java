@@ -0,0 +1,168 @@
+package com.knight.domain.auth0identity.adapter;
+
+import com.knight.domain.auth0identity.adapter.dto.Auth0ImportUser;
+import com.knight.domain.auth0identity.api.Auth0IntegrationException;
+import com.knight.domain.auth0identity.api.Auth0TokenService;
+import com.knight.domain.auth0identity.config.Auth0BulkImportConfig;
+import com.knight.domain.auth0identity.config.Auth0Config;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * Unit tests for Auth0UserImporter, against a local stand-in for the Management API jobs endpoints.
+ */
+@ExtendWith(MockitoExtension.class)
+class Auth0UserImporterTest {
+
+    private static final String ERRORS_JSON = """
+        [
+          {"user": {"email": "bob@king.com", "user_id": "internal-bob"},
+           "errors": [{"code": "DUPLICATED_USER", "message": "The user already exists."}]}
+        ]
+        """;
+
+    @Mock
+    private Auth0TokenService tokenService;
+
+    private HttpServer server;
+    private final AtomicReference<String> submittedBody = new AtomicReference<>();
+    private final AtomicReference<String> submittedContentType = new AtomicReference<>();
+    private final AtomicInteger connectionLookups = new AtomicInteger();
+    private final Deque<String> jobStatuses = new ArrayDeque<>();
+    private volatile String errorsJson = ERRORS_JSON;
+    private Auth0UserImporter importer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v2/connections", exchange -> {
+            connectionLookups.incrementAndGet();
+            respond(exchange, 200, "[{\"id\": \"con_123\", \"name\": \"Username-Password-Authentication\"}]");
+        });
+        server.createContext("/api/v2/jobs", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if (path.endsWith("/users-imports")) {
+                submittedContentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+                submittedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                respond(exchange, 201, "{\"id\": \"job_1\", \"status\": \"pending\", \"type\": \"users_import\"}");
+            } else if (path.endsWith("/job_1/errors")) {
+                if (errorsJson == null) {
+                    exchange.sendResponseHeaders(204, -1);
+                    exchange.close();
+                } else {
+                    respond(exchange, 200, errorsJson);
+                }
+            } else {
+                String status = jobStatuses.size() > 1 ? jobStatuses.poll() : jobStatuses.peek();
+                respond(exchange, 200, "{\"id\": \"job_1\", \"status\": \"" + status + "\"}");
+            }
+        });
+        server.start();
+        lenient().when(tokenService.getManagementApiToken()).thenReturn("mgmt-token");
+        Auth0Config config = new Auth0Config("example.auth0.com", "client-id", "client-secret",
+            "https://api.example.com", "https://example.auth0.com/api/v2/", "Username-Password-Authentication", null);
+        Auth0HttpClient httpClient = new Auth0HttpClient(
+            "http://localhost:" + server.getAddress().getPort() + "/api/v2", tokenService);
+        importer = new Auth0UserImporter(config,
+            new Auth0BulkImportConfig(20, 500, Duration.ofMillis(10), Duration.ofMillis(500)), httpClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Auth0ImportUser user(String name) {
+        return new Auth0ImportUser("internal-" + name, name + "@king.com", true, name, name, null, null);
+    }
+
+    @Test
+    @DisplayName("should submit the users file, wait for the job and report rejected users")
+    void shouldImportUsers() {
+        jobStatuses.addAll(List.of("pending", "processing", "completed"));
+
+        Map<String, String> rejected = importer.importUsers(List.of(user("alice"), user("bob")));
+
+        assertThat(rejected).containsOnlyKeys("bob@king.com");
+        assertThat(rejected.get("bob@king.com")).isEqualTo("DUPLICATED_USER: The user already exists.");
+        assertThat(submittedContentType.get()).startsWith("multipart/form-data");
+        assertThat(submittedBody.get())
+            .contains("filename=\"users.json\"")
+            .contains("\"user_id\":\"internal-alice\"")
+            .contains("\"email\":\"bob@king.com\"")
+            .contains("con_123")
+            .doesNotContain("family_name");
+        assertThat(jobStatuses).containsExactly("completed");
+    }
+
+    @Test
+    @DisplayName("should report no rejections when the job has no errors, looking the connection up once")
+    void shouldImportWithoutErrors() {
+        jobStatuses.add("completed");
+        errorsJson = null;
+
+        assertThat(importer.importUsers(List.of(user("alice")))).isEmpty();
+        assertThat(importer.importUsers(List.of(user("bob")))).isEmpty();
+        assertThat(connectionLookups.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should fail when the job fails")
+    void shouldFailWhenJobFails() {
+        jobStatuses.add("failed");
+
+        assertThatThrownBy(() -> importer.importUsers(List.of(user("alice"))))
+            .isInstanceOf(Auth0IntegrationException.class)
+            .hasMessageContaining("failed");
+    }
+
+    @Test
+    @DisplayName("should give up on a job that does not finish in time")
+    void shouldTimeOut() {
+        jobStatuses.add("processing");
+
+        assertThatThrownBy(() -> importer.importUsers(List.of(user("alice"))))
+            .isInstanceOf(Auth0IntegrationException.class)
+            .hasMessageContaining("did not finish within");
+    }
+
+    @Test
+    @DisplayName("should use an import job only for enough users")
+    void shouldImportOnlyEnoughUsers() {
+        assertThat(importer.shouldImport(19)).isFalse();
+        assertThat(importer.shouldImport(20)).isTrue();
+        assertThat(importer.maxUsersPerJob()).isEqualTo(500);
+    }
+}
@@ -75,6 +75,19 @@ public class Batch {
             this.processedAt = Instant.now();
         }
 
+        /**
+         * Fail an item that will not be (or was not fully) processed,
+         * e.g. because the batch was cancelled or its worker died mid-item.
+         */
+        public void markAbandoned(String reason) {
+            if (this.status != BatchItemStatus.PENDING && this.status != BatchItemStatus.IN_PROGRESS) {
+                throw new IllegalStateException("Can only abandon PENDING or IN_PROGRESS items");
+            }
+            this.status = BatchItemStatus.FAILED;
+            this.errorMessage = reason;
+            this.processedAt = Instant.now();
+        }
+
         // Getters
         public BatchItemId id() { return id; }
         public int sequenceNumber() { return sequenceNumber; }
@@ -97,6 +110,8 @@ public class Batch {
     private final String createdBy;
     private Instant startedAt;
     private Instant completedAt;
+    // Stored version this copy was loaded or saved at; null until first saved
+    private Long version;
 
     private Batch(BatchId id, BatchType type, ProfileId sourceProfileId, String createdBy) {
         this.id = Objects.requireNonNull(id, "id cannot be null");
@@ -176,6 +191,54 @@ public class Batch {
         this.startedAt = Instant.now();
     }
 
+    /**
+     * Resume an IN_PROGRESS batch whose previous run stopped before completing.
+     * The item that was being processed when the run stopped may or may not have
+     * taken effect, so it is failed rather than retried.
+     *
+     * @return the items failed by the resume
+     */
+    public List<BatchItem> resume(String interruptedReason) {
+        if (this.status != BatchStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Can only resume IN_PROGRESS batches");
+        }
+        List<BatchItem> interrupted = new ArrayList<>();
+        for (BatchItem item : this.items) {
+            if (item.status() == BatchItemStatus.IN_PROGRESS) {
+                item.markAbandoned(interruptedReason);
+                this.failedCount++;
+                interrupted.add(item);
+            }
+        }
+        return interrupted;
+    }
+
+    /**
+     * Cancel a PENDING or IN_PROGRESS batch: remaining items are failed with the
+     * given reason and the batch is completed with the counts so far.
+     *
+     * @return the items failed by the cancellation
+     */
+    public List<BatchItem> cancel(String reason) {
+        if (this.status != BatchStatus.PENDING && this.status != BatchStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Can only cancel PENDING or IN_PROGRESS batches");
+        }
+        if (this.status == BatchStatus.PENDING) {
+            this.status = BatchStatus.IN_PROGRESS;
+            this.startedAt = Instant.now();
+        }
+        List<BatchItem> cancelled = new ArrayList<>();
+        for (BatchItem item : this.items) {
+            if (item.status() == BatchItemStatus.PENDING || item.status() == BatchItemStatus.IN_PROGRESS) {
+                item.markAbandoned(reason);
+                this.failedCount++;
+                cancelled.add(item);
+            }
+        }
+        complete();
+        return cancelled;
+    }
+
     /**
      * Increment success count after an item succeeds.
      */
@@ -238,6 +301,15 @@ public class Batch {
         return this.totalItems - this.successCount - this.failedCount;
     }
 
+    /**
+     * Called by the repository with the stored version once the batch has been loaded or saved.
+     * Saving a copy whose version is no longer the stored one fails rather than overwriting
+     * the changes made since.
+     */
+    public void markPersisted(long version) {
+        this.version = version;
+    }
+
     // Getters
     public BatchId id() { return id; }
     public BatchType type() { return type; }
@@ -251,4 +323,5 @@ public class Batch {
     public String createdBy() { return createdBy; }
     public Instant startedAt() { return startedAt; }
     public Instant completedAt() { return completedAt; }
+    public Long version() { return version; }
 }
@@ -0,0 +1,44 @@
+package com.knight.domain.batch.api.events;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Domain event published as a batch executes: once when it starts, once per processed item
+ * and once when it completes.
+ *
+ * Carries the running counts and only the items that changed since the previous event,
+ * so progress watchers never need to reload the batch. The sequence only grows for a batch,
+ * also when it is resumed or cancelled.
+ */
+public record BatchProgressed(
+    String batchId,
+    String sourceProfileId,
+    long sequence,
+    String status,
+    String statusDisplayName,
+    int totalItems,
+    int successCount,
+    int failedCount,
+    int pendingCount,
+    List<ItemChange> changedItems,
+    Instant occurredAt
+) {
+
+    /**
+     * An item whose status changed.
+     */
+    public record ItemChange(
+        int sequenceNumber,
+        String businessName,
+        String status,
+        String errorMessage
+    ) {}
+
+    /**
+     * Whether the batch has finished and no further events will follow.
+     */
+    public boolean isFinal() {
+        return "COMPLETED".equals(status) || "COMPLETED_WITH_ERRORS".equals(status) || "FAILED".equals(status);
+    }
+}
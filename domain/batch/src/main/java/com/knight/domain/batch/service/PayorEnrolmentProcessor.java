@@ -4,6 +4,8 @@ import com.knight.domain.batch.types.BatchItemResult;
 import com.knight.domain.batch.types.PayorEnrolmentRequest;
 import com.knight.platform.sharedkernel.ProfileId;
 
+import java.util.List;
+
 /**
  * Interface for processing individual payor enrolments.
  * Implementations coordinate the creation of indirect clients, profiles, and users.
@@ -20,6 +22,14 @@ public interface PayorEnrolmentProcessor {
      */
     BatchItemResult processPayor(ProfileId sourceProfileId, PayorEnrolmentRequest request, String createdBy);
 
+    /**
+     * Provision the users created by processed payors to the identity provider, together.
+     * Users already provisioned are skipped, so this can be repeated when a batch is resumed.
+     *
+     * @param userIds the users created for the batch's payors
+     */
+    void provisionUsers(List<String> userIds);
+
     /**
      * Check if a business name already exists under the profile.
      */
@@ -4,25 +4,30 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.knight.domain.batch.aggregate.Batch;
+import com.knight.domain.batch.api.events.BatchProgressed;
 import com.knight.domain.batch.repository.BatchRepository;
 import com.knight.domain.batch.types.*;
 import com.knight.platform.sharedkernel.BatchId;
 import com.knight.platform.sharedkernel.ProfileId;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.*;
+import java.util.function.BooleanSupplier;
 import java.util.regex.Pattern;
 
 /**
  * Application service for payor enrolment batch operations.
- * Orchestrates validation and async execution of payor imports.
+ * Orchestrates validation and execution of payor imports.
  */
 @Service
 public class PayorEnrolmentService {
 
     private static final int MAX_PAYORS_PER_FILE = 500;
+    private static final String INTERRUPTED_REASON =
+            "Processing was interrupted; check whether this payor was created before importing it again";
     private static final Pattern EMAIL_PATTERN = Pattern.compile(
             "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$"
     );
@@ -30,14 +35,17 @@ public class PayorEnrolmentService {
     private final BatchRepository batchRepository;
     private final PayorEnrolmentProcessor processor;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PayorEnrolmentService(
             BatchRepository batchRepository,
             PayorEnrolmentProcessor processor,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher) {
         this.batchRepository = batchRepository;
         this.processor = processor;
         this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -117,25 +125,54 @@ public class PayorEnrolmentService {
     }
 
     /**
-     * Phase 2: Execute batch asynchronously.
-     * This starts processing in the background and returns immediately.
+     * Phase 2: Execute batch.
+     * Called from a background job worker, never on a request thread. Progress is saved
+     * after every item, so a run that stops early can be resumed by executing again.
+     * The users created for the payors are provisioned together once every item is processed,
+     * or when the batch is cancelled.
      */
-    @Async
-    @Transactional
     public void execute(BatchId batchId) {
+        execute(batchId, () -> false);
+    }
+
+    /**
+     * Execute batch, checking before each item whether to stop.
+     * A PENDING batch is started; an IN_PROGRESS batch is resumed, failing the item
+     * that was being processed when the previous run stopped.
+     *
+     * @return true if the batch is finished, false if it stopped with items still pending
+     */
+    public boolean execute(BatchId batchId, BooleanSupplier stopRequested) {
         Batch batch = batchRepository.findById(batchId)
                 .orElseThrow(() -> new IllegalArgumentException("Batch not found: " + batchId));
 
-        batch.start();
+        List<BatchProgressed.ItemChange> initialChanges;
+        if (batch.status() == BatchStatus.PENDING) {
+            batch.start();
+            initialChanges = List.of();
+        } else if (batch.status() == BatchStatus.IN_PROGRESS) {
+            initialChanges = toChanges(batch.resume(INTERRUPTED_REASON));
+        } else {
+            return true;
+        }
         batchRepository.save(batch);
+        publishProgress(batch, initialChanges);
 
         for (Batch.BatchItem item : batch.items()) {
+            if (item.status() != BatchItemStatus.PENDING) {
+                continue;
+            }
+            if (stopRequested.getAsBoolean()) {
+                return false;
+            }
+            String businessName = null;
             try {
                 item.markInProgress();
                 batchRepository.save(batch);
 
                 PayorEnrolmentRequest request = objectMapper.readValue(
                         item.inputData(), PayorEnrolmentRequest.class);
+                businessName = request.businessName();
 
                 BatchItemResult result = processor.processPayor(batch.sourceProfileId(), request, batch.createdBy());
 
@@ -148,10 +185,33 @@ public class PayorEnrolmentService {
                 batch.incrementFailed();
             }
             batchRepository.save(batch);
+            publishProgress(batch, List.of(new BatchProgressed.ItemChange(
+                    item.sequenceNumber(), businessName, item.status().name(), item.errorMessage())));
         }
 
+        processor.provisionUsers(createdUserIds(batch));
+
         batch.complete();
         batchRepository.save(batch);
+        publishProgress(batch, List.of());
+        return true;
+    }
+
+    /**
+     * Cancel a batch that has not finished. Items not yet processed are failed with
+     * the given reason; items already processed keep their outcome, and the users they
+     * created are provisioned as a finished run would have.
+     */
+    @Transactional
+    public void cancel(BatchId batchId, String reason) {
+        Batch batch = batchRepository.findById(batchId)
+                .orElseThrow(() -> new IllegalArgumentException("Batch not found: " + batchId));
+
+        processor.provisionUsers(createdUserIds(batch));
+
+        List<BatchProgressed.ItemChange> changes = toChanges(batch.cancel(reason));
+        batchRepository.save(batch);
+        publishProgress(batch, changes);
     }
 
     /**
@@ -170,6 +230,68 @@ public class PayorEnrolmentService {
 
     // ========== Private Methods ==========
 
+    private List<BatchProgressed.ItemChange> toChanges(List<Batch.BatchItem> items) {
+        return items.stream()
+                .map(item -> new BatchProgressed.ItemChange(item.sequenceNumber(), businessNameOf(item),
+                        item.status().name(), item.errorMessage()))
+                .toList();
+    }
+
+    private List<String> createdUserIds(Batch batch) {
+        List<String> userIds = new ArrayList<>();
+        for (Batch.BatchItem item : batch.items()) {
+            if (item.status() != BatchItemStatus.SUCCESS || item.resultData() == null) {
+                continue;
+            }
+            try {
+                BatchItemResult result = objectMapper.readValue(item.resultData(), BatchItemResult.class);
+                if (result.userIds() != null) {
+                    userIds.addAll(result.userIds());
+                }
+            } catch (JsonProcessingException e) {
+                // Written by execute; an unreadable result has no users to provision
+            }
+        }
+        return userIds;
+    }
+
+    private String businessNameOf(Batch.BatchItem item) {
+        try {
+            return objectMapper.readValue(item.inputData(), PayorEnrolmentRequest.class).businessName();
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Event sequence derived from the saved counts, so it keeps growing across runs: a resumed
+     * or cancelled batch continues where the previous run left off. Running events are one past
+     * the items processed; the final event comes after all of them. A resume that fails no
+     * interrupted item repeats the previous sequence, with the same counts.
+     */
+    private static long sequenceOf(Batch batch) {
+        if (batch.status() != BatchStatus.IN_PROGRESS) {
+            return batch.totalItems() + 2L;
+        }
+        return batch.successCount() + batch.failedCount() + 1L;
+    }
+
+    private void publishProgress(Batch batch, List<BatchProgressed.ItemChange> changedItems) {
+        eventPublisher.publishEvent(new BatchProgressed(
+                batch.id().toString(),
+                batch.sourceProfileId().urn(),
+                sequenceOf(batch),
+                batch.status().name(),
+                batch.status().displayName(),
+                batch.totalItems(),
+                batch.successCount(),
+                batch.failedCount(),
+                batch.pendingCount(),
+                changedItems,
+                Instant.now()
+        ));
+    }
+
     private List<PayorEnrolmentRequest> parseJson(String jsonContent) throws JsonProcessingException {
         // Try parsing as { "payors": [...] } format first
         try {
@@ -388,6 +388,94 @@ class BatchTest {
         }
     }
 
+    @Nested
+    @DisplayName("Resuming and Cancelling Batch")
+    class ResumeAndCancelTests {
+
+        @Test
+        @DisplayName("resume() should fail the interrupted item and leave pending items")
+        void resumeFailsInterruptedItem() {
+            // Given
+            Batch batch = Batch.create(BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID, TEST_USER);
+            Batch.BatchItem interrupted = batch.addItem("data-1");
+            Batch.BatchItem pending = batch.addItem("data-2");
+            batch.start();
+            interrupted.markInProgress();
+
+            // When
+            List<Batch.BatchItem> failed = batch.resume("Interrupted");
+
+            // Then
+            assertThat(failed).containsExactly(interrupted);
+            assertThat(interrupted.status()).isEqualTo(BatchItemStatus.FAILED);
+            assertThat(interrupted.errorMessage()).isEqualTo("Interrupted");
+            assertThat(pending.status()).isEqualTo(BatchItemStatus.PENDING);
+            assertThat(batch.failedCount()).isEqualTo(1);
+            assertThat(batch.status()).isEqualTo(BatchStatus.IN_PROGRESS);
+        }
+
+        @Test
+        @DisplayName("resume() should fail when batch is not IN_PROGRESS")
+        void resumeRequiresInProgress() {
+            Batch batch = Batch.create(BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID, TEST_USER);
+            batch.addItem("data-1");
+
+            assertThatThrownBy(() -> batch.resume("Interrupted"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Can only resume IN_PROGRESS batches");
+        }
+
+        @Test
+        @DisplayName("cancel() should fail remaining items and keep processed outcomes")
+        void cancelFailsRemainingItems() {
+            // Given
+            Batch batch = Batch.create(BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID, TEST_USER);
+            Batch.BatchItem done = batch.addItem("data-1");
+            batch.addItem("data-2");
+            batch.addItem("data-3");
+            batch.start();
+            done.markInProgress();
+            done.markSuccess("{}");
+            batch.incrementSuccess();
+
+            // When
+            List<Batch.BatchItem> cancelled = batch.cancel("Cancelled");
+
+            // Then
+            assertThat(cancelled).hasSize(2).allSatisfy(item -> {
+                assertThat(item.status()).isEqualTo(BatchItemStatus.FAILED);
+                assertThat(item.errorMessage()).isEqualTo("Cancelled");
+            });
+            assertThat(done.status()).isEqualTo(BatchItemStatus.SUCCESS);
+            assertThat(batch.status()).isEqualTo(BatchStatus.COMPLETED_WITH_ERRORS);
+            assertThat(batch.pendingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("cancel() should complete a PENDING batch as FAILED")
+        void cancelPendingBatch() {
+            Batch batch = Batch.create(BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID, TEST_USER);
+            batch.addItem("data-1");
+
+            batch.cancel("Cancelled");
+
+            assertThat(batch.status()).isEqualTo(BatchStatus.FAILED);
+            assertThat(batch.startedAt()).isNotNull();
+            assertThat(batch.completedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("cancel() should fail when batch is already finished")
+        void cancelRequiresUnfinishedBatch() {
+            Batch batch = Batch.create(BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID, TEST_USER);
+            batch.addItem("data-1");
+            batch.cancel("Cancelled");
+
+            assertThatThrownBy(() -> batch.cancel("Again"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Pending Item Operations")
     class PendingItemTests {
@@ -2,6 +2,7 @@ package com.knight.domain.batch.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.knight.domain.batch.aggregate.Batch;
+import com.knight.domain.batch.api.events.BatchProgressed;
 import com.knight.domain.batch.repository.BatchRepository;
 import com.knight.domain.batch.types.*;
 import com.knight.platform.sharedkernel.BatchId;
@@ -16,9 +17,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -34,6 +38,9 @@ class PayorEnrolmentServiceTest {
     @Mock
     private PayorEnrolmentProcessor processor;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private PayorEnrolmentService service;
     private ObjectMapper objectMapper;
 
@@ -46,7 +53,7 @@ class PayorEnrolmentServiceTest {
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        service = new PayorEnrolmentService(batchRepository, processor, objectMapper);
+        service = new PayorEnrolmentService(batchRepository, processor, objectMapper, eventPublisher);
     }
 
     @Nested
@@ -724,6 +731,7 @@ class PayorEnrolmentServiceTest {
             assertThat(finalBatch.successCount()).isEqualTo(2);
             assertThat(finalBatch.failedCount()).isZero();
             assertThat(finalBatch.completedAt()).isNotNull();
+            verify(processor).provisionUsers(List.of("user-1", "user-2"));
         }
 
         @Test
@@ -771,6 +779,63 @@ class PayorEnrolmentServiceTest {
             assertThat(finalBatch.failedCount()).isEqualTo(1);
         }
 
+        @Test
+        @DisplayName("execute() should publish progress with only the changed item per event")
+        void executePublishesIncrementalProgress() throws Exception {
+            // Given
+            BatchId batchId = BatchId.generate();
+            Batch batch = Batch.create(BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID, TEST_USER);
+            batch.addItem("{\"businessName\":\"Acme\",\"persons\":[{\"name\":\"John\",\"email\":\"john@acme.com\",\"role\":\"ADMIN\"}]}");
+            batch.addItem("{\"businessName\":\"Beta\",\"persons\":[{\"name\":\"Jane\",\"email\":\"jane@beta.com\",\"role\":\"ADMIN\"}]}");
+
+            Batch reconstitutedBatch = Batch.reconstitute(
+                    batchId,
+                    batch.type(),
+                    batch.sourceProfileId(),
+                    batch.status(),
+                    batch.totalItems(),
+                    batch.successCount(),
+                    batch.failedCount(),
+                    new java.util.ArrayList<>(batch.items()),
+                    batch.createdAt(),
+                    batch.createdBy(),
+                    batch.startedAt(),
+                    batch.completedAt()
+            );
+
+            when(batchRepository.findById(batchId)).thenReturn(Optional.of(reconstitutedBatch));
+            when(batchRepository.save(any(Batch.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(processor.processPayor(eq(TEST_PROFILE_ID), any(), eq(TEST_USER)))
+                    .thenReturn(new BatchItemResult("client-1", "profile-1", List.of("user-1")))
+                    .thenThrow(new RuntimeException("Processing failed"));
+
+            // When
+            service.execute(batchId);
+
+            // Then
+            ArgumentCaptor<BatchProgressed> events = ArgumentCaptor.forClass(BatchProgressed.class);
+            verify(eventPublisher, times(4)).publishEvent(events.capture());
+            List<BatchProgressed> published = events.getAllValues();
+
+            assertThat(published).extracting(BatchProgressed::sequence).containsExactly(1L, 2L, 3L, 4L);
+            assertThat(published.get(0).status()).isEqualTo("IN_PROGRESS");
+            assertThat(published.get(0).changedItems()).isEmpty();
+
+            assertThat(published.get(1).successCount()).isEqualTo(1);
+            assertThat(published.get(1).pendingCount()).isEqualTo(1);
+            assertThat(published.get(1).changedItems()).containsExactly(
+                    new BatchProgressed.ItemChange(1, "Acme", "SUCCESS", null));
+
+            assertThat(published.get(2).changedItems()).containsExactly(
+                    new BatchProgressed.ItemChange(2, "Beta", "FAILED", "Processing failed"));
+
+            BatchProgressed last = published.get(3);
+            assertThat(last.status()).isEqualTo("COMPLETED_WITH_ERRORS");
+            assertThat(last.isFinal()).isTrue();
+            assertThat(last.batchId()).isEqualTo(batchId.toString());
+            assertThat(last.sourceProfileId()).isEqualTo(TEST_PROFILE_ID.urn());
+        }
+
         @Test
         @DisplayName("execute() should fail all items when processing fails")
         void executeWithAllFailures() throws Exception {
@@ -812,6 +877,144 @@ class PayorEnrolmentServiceTest {
             assertThat(finalBatch.failedCount()).isEqualTo(1);
         }
 
+        @Test
+        @DisplayName("execute() should stop before the next item when asked to")
+        void executeStopsWhenRequested() throws Exception {
+            // Given
+            BatchId batchId = BatchId.generate();
+            Batch batch = Batch.reconstitute(batchId, BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID,
+                    BatchStatus.PENDING, 0, 0, 0, new java.util.ArrayList<>(), Instant.now(), TEST_USER, null, null);
+            batch.addItem("{\"businessName\":\"Acme\"}");
+            batch.addItem("{\"businessName\":\"Beta\"}");
+            when(batchRepository.findById(batchId)).thenReturn(Optional.of(batch));
+            when(batchRepository.save(any(Batch.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(processor.processPayor(eq(TEST_PROFILE_ID), any(), eq(TEST_USER)))
+                    .thenReturn(new BatchItemResult("client-1", "profile-1", List.of("user-1")));
+            AtomicInteger checks = new AtomicInteger();
+
+            // When - stop after the first item
+            boolean finished = service.execute(batchId, () -> checks.incrementAndGet() > 1);
+
+            // Then
+            assertThat(finished).isFalse();
+            assertThat(batch.status()).isEqualTo(BatchStatus.IN_PROGRESS);
+            assertThat(batch.successCount()).isEqualTo(1);
+            assertThat(batch.pendingCount()).isEqualTo(1);
+            verify(processor, times(1)).processPayor(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("execute() should resume an IN_PROGRESS batch without reprocessing finished items")
+        void executeResumesInterruptedBatch() throws Exception {
+            // Given - first item succeeded, second was mid-flight when the worker died
+            BatchId batchId = BatchId.generate();
+            Batch batch = Batch.reconstitute(batchId, BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID,
+                    BatchStatus.PENDING, 0, 0, 0, new java.util.ArrayList<>(), Instant.now(), TEST_USER, null, null);
+            Batch.BatchItem first = batch.addItem("{\"businessName\":\"Acme\"}");
+            Batch.BatchItem second = batch.addItem("{\"businessName\":\"Beta\"}");
+            batch.addItem("{\"businessName\":\"Gamma\"}");
+            batch.start();
+            first.markInProgress();
+            first.markSuccess("{}");
+            batch.incrementSuccess();
+            second.markInProgress();
+
+            when(batchRepository.findById(batchId)).thenReturn(Optional.of(batch));
+            when(batchRepository.save(any(Batch.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(processor.processPayor(eq(TEST_PROFILE_ID), any(), eq(TEST_USER)))
+                    .thenReturn(new BatchItemResult("client-3", "profile-3", List.of("user-3")));
+
+            // When
+            boolean finished = service.execute(batchId, () -> false);
+
+            // Then
+            assertThat(finished).isTrue();
+            assertThat(second.status()).isEqualTo(BatchItemStatus.FAILED);
+            assertThat(batch.successCount()).isEqualTo(2);
+            assertThat(batch.failedCount()).isEqualTo(1);
+            assertThat(batch.status()).isEqualTo(BatchStatus.COMPLETED_WITH_ERRORS);
+            verify(processor, times(1)).processPayor(any(), any(), any());
+
+            // The previous run published 1 (start) and 2 (first item)
+            ArgumentCaptor<BatchProgressed> events = ArgumentCaptor.forClass(BatchProgressed.class);
+            verify(eventPublisher, times(3)).publishEvent(events.capture());
+            assertThat(events.getAllValues()).extracting(BatchProgressed::sequence).containsExactly(3L, 4L, 5L);
+        }
+
+        @Test
+        @DisplayName("execute() should do nothing for a finished batch")
+        void executeSkipsFinishedBatch() {
+            // Given
+            BatchId batchId = BatchId.generate();
+            Batch batch = Batch.reconstitute(batchId, BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID,
+                    BatchStatus.COMPLETED, 1, 1, 0, List.of(), Instant.now(), TEST_USER, Instant.now(), Instant.now());
+            when(batchRepository.findById(batchId)).thenReturn(Optional.of(batch));
+
+            // When
+            boolean finished = service.execute(batchId, () -> false);
+
+            // Then
+            assertThat(finished).isTrue();
+            verify(batchRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("cancel() should fail remaining items and publish the final state")
+        void cancelFailsRemainingItems() {
+            // Given
+            BatchId batchId = BatchId.generate();
+            Batch batch = Batch.reconstitute(batchId, BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID,
+                    BatchStatus.PENDING, 0, 0, 0, new java.util.ArrayList<>(), Instant.now(), TEST_USER, null, null);
+            batch.addItem("{\"businessName\":\"Acme\"}");
+            when(batchRepository.findById(batchId)).thenReturn(Optional.of(batch));
+
+            // When
+            service.cancel(batchId, "Cancelled by user");
+
+            // Then
+            verify(batchRepository).save(batch);
+            ArgumentCaptor<BatchProgressed> events = ArgumentCaptor.forClass(BatchProgressed.class);
+            verify(eventPublisher).publishEvent(events.capture());
+            BatchProgressed event = events.getValue();
+            assertThat(event.isFinal()).isTrue();
+            assertThat(event.changedItems()).singleElement().satisfies(change -> {
+                assertThat(change.businessName()).isEqualTo("Acme");
+                assertThat(change.errorMessage()).isEqualTo("Cancelled by user");
+            });
+        }
+
+        @Test
+        @DisplayName("cancel() should provision the users of payors already processed")
+        void cancelProvisionsCreatedUsers() throws Exception {
+            // Given - first item succeeded, the second is still pending
+            BatchId batchId = BatchId.generate();
+            Batch batch = Batch.reconstitute(batchId, BatchType.PAYOR_ENROLMENT, TEST_PROFILE_ID,
+                    BatchStatus.PENDING, 0, 0, 0, new java.util.ArrayList<>(), Instant.now(), TEST_USER, null, null);
+            Batch.BatchItem first = batch.addItem("{\"businessName\":\"Acme\"}");
+            batch.addItem("{\"businessName\":\"Beta\"}");
+            batch.start();
+            first.markInProgress();
+            first.markSuccess(objectMapper.writeValueAsString(
+                    new BatchItemResult("client-1", "profile-1", List.of("user-1", "user-2"))));
+            batch.incrementSuccess();
+            when(batchRepository.findById(batchId)).thenReturn(Optional.of(batch));
+
+            // When
+            service.cancel(batchId, "Cancelled by user");
+
+            // Then
+            verify(processor).provisionUsers(List.of("user-1", "user-2"));
+            assertThat(batch.status()).isEqualTo(BatchStatus.COMPLETED_WITH_ERRORS);
+            assertThat(batch.successCount()).isEqualTo(1);
+            assertThat(batch.failedCount()).isEqualTo(1);
+
+            // Continues after the events of the first item, rather than starting again at 1
+            ArgumentCaptor<BatchProgressed> events = ArgumentCaptor.forClass(BatchProgressed.class);
+            verify(eventPublisher).publishEvent(events.capture());
+            assertThat(events.getValue().sequence()).isEqualTo(4L);
+        }
+
         @Test
         @DisplayName("execute() should throw exception when batch not found")
         void executeThrowsWhenBatchNotFound() {
@@ -4,6 +4,8 @@ import com.knight.domain.clients.aggregate.Client;
 import com.knight.domain.clients.api.PageResult;
 import com.knight.platform.sharedkernel.ClientId;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -45,6 +47,14 @@ public interface ClientRepository {
      */
     boolean existsById(ClientId id);
 
+    /**
+     * Finds the names of the given clients in bulk.
+     *
+     * @param ids the client identifiers
+     * @return the names of the clients that exist, by client identifier
+     */
+    Map<ClientId, String> findNamesByIds(Collection<ClientId> ids);
+
     /**
      * Searches for clients by client ID with pagination.
      *
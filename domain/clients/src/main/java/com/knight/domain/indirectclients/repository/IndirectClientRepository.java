@@ -5,6 +5,7 @@ import com.knight.platform.sharedkernel.ClientId;
 import com.knight.platform.sharedkernel.IndirectClientId;
 import com.knight.platform.sharedkernel.ProfileId;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -83,4 +84,51 @@ public interface IndirectClientRepository {
      * @return the indirect client if found
      */
     Optional<IndirectClient> findByExternalReference(ProfileId parentProfileId, String externalReference);
+
+    // ==================== Summaries ====================
+
+    /**
+     * Listing row for an indirect client: counts of related persons and OFI accounts
+     * instead of the persons and accounts themselves.
+     */
+    record IndirectClientSummary(
+        IndirectClientId id,
+        ClientId parentClientId,
+        IndirectClient.ClientType clientType,
+        String name,
+        String externalReference,
+        IndirectClient.Status status,
+        int personCount,
+        int accountCount,
+        Instant createdAt
+    ) {}
+
+    /**
+     * Page result for summary queries.
+     */
+    record PageResult<T>(List<T> content, long totalElements, int page, int size) {
+        public int totalPages() {
+            return size > 0 ? (int) Math.ceil((double) totalElements / size) : 0;
+        }
+    }
+
+    /**
+     * Finds one page of indirect client summaries for a parent client, ordered by name.
+     *
+     * @param parentClientId the parent client identifier
+     * @param page zero-based page number
+     * @param size page size
+     * @return the page of summaries
+     */
+    PageResult<IndirectClientSummary> findSummariesByParentClientId(ClientId parentClientId, int page, int size);
+
+    /**
+     * Finds one page of indirect client summaries for a parent profile, ordered by name.
+     *
+     * @param parentProfileId the parent profile identifier
+     * @param page zero-based page number
+     * @param size page size
+     * @return the page of summaries
+     */
+    PageResult<IndirectClientSummary> findSummariesByParentProfileId(ProfileId parentProfileId, int page, int size);
 }
@@ -1,5 +1,6 @@
 package com.knight.domain.policy.aggregate;
 
+import com.knight.domain.policy.port.AccountGroupMembership;
 import com.knight.domain.policy.types.Action;
 import com.knight.domain.policy.types.PredefinedRole;
 import com.knight.domain.policy.types.Resource;
@@ -245,6 +246,14 @@ public class PermissionPolicy {
         return this.action.matches(requestedAction) && this.resource.matches(resourceId);
     }
 
+    /**
+     * Check if this policy matches the given action and resource, resolving
+     * account group references through the given membership lookup.
+     */
+    public boolean matches(Action requestedAction, String resourceId, AccountGroupMembership membership) {
+        return this.action.matches(requestedAction) && this.resource.matches(resourceId, membership);
+    }
+
     /**
      * Check if this policy matches the given action (ignoring resource).
      */
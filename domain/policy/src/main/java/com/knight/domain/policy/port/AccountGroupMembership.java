@@ -0,0 +1,20 @@
+package com.knight.domain.policy.port;
+
+import java.util.UUID;
+
+/**
+ * Port for checking account group membership.
+ * Lets policies reference an account group from the profiles module
+ * ({@code account-group:{uuid}}) instead of listing every account.
+ */
+public interface AccountGroupMembership {
+
+    /**
+     * Check whether an account belongs to an account group.
+     *
+     * @param accountGroupId the account group
+     * @param accountId the account URN being authorized
+     * @return true if the group exists and contains the account
+     */
+    boolean isMember(UUID accountGroupId, String accountId);
+}
@@ -1,6 +1,7 @@
 package com.knight.domain.policy.service;
 
 import com.knight.domain.policy.aggregate.PermissionPolicy;
+import com.knight.domain.policy.port.AccountGroupMembership;
 import com.knight.domain.policy.port.UserGroupLookup;
 import com.knight.domain.policy.repository.PermissionPolicyRepository;
 import com.knight.domain.policy.types.Action;
@@ -22,12 +23,15 @@ public class PermissionAuthorizationServiceImpl implements PermissionAuthorizati
 
     private final PermissionPolicyRepository policyRepository;
     private final UserGroupLookup userGroupLookup;
+    private final AccountGroupMembership accountGroupMembership;
 
     public PermissionAuthorizationServiceImpl(
             PermissionPolicyRepository policyRepository,
-            UserGroupLookup userGroupLookup) {
+            UserGroupLookup userGroupLookup,
+            AccountGroupMembership accountGroupMembership) {
         this.policyRepository = policyRepository;
         this.userGroupLookup = userGroupLookup;
+        this.accountGroupMembership = accountGroupMembership;
     }
 
     @Override
@@ -47,7 +51,7 @@ public class PermissionAuthorizationServiceImpl implements PermissionAuthorizati
         // Find matching policies
         List<PermissionPolicy> matchingPolicies = allPolicies.stream()
             .filter(p -> p.appliesToAny(subjects))
-            .filter(p -> p.matches(action, resourceId))
+            .filter(p -> p.matches(action, resourceId, accountGroupMembership))
             .toList();
 
         return evaluatePolicies(matchingPolicies, action.value());
@@ -1,26 +1,48 @@
 package com.knight.domain.policy.types;
 
+import com.knight.domain.policy.port.AccountGroupMembership;
+
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 import java.util.regex.Pattern;
 
 /**
  * Resource value object representing the scope of resources a policy applies to.
  * Supports wildcards and comma-separated lists.
- * Format: {system}:{type}:{identifier} with wildcards
+ * Format: {system}:{type}:{identifier} with wildcards, or
+ * account-group:{uuid} to match every account in an account group.
  */
 public record Resource(String value) {
 
+    public static final String ACCOUNT_GROUP_PREFIX = "account-group:";
+
     public Resource {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException("Resource cannot be null or blank");
         }
+        if (value.contains(ACCOUNT_GROUP_PREFIX)) {
+            // Reject malformed group references up front rather than at evaluation time
+            Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(pattern -> pattern.startsWith(ACCOUNT_GROUP_PREFIX))
+                .forEach(Resource::accountGroupId);
+        }
     }
 
     /**
      * Check if this resource pattern matches the given resource.
+     * Account group references never match without a membership lookup.
      */
     public boolean matches(String resourceId) {
+        return matches(resourceId, null);
+    }
+
+    /**
+     * Check if this resource pattern matches the given resource, resolving
+     * account group references through the given membership lookup.
+     */
+    public boolean matches(String resourceId, AccountGroupMembership membership) {
         if ("*".equals(this.value)) {
             return true;
         }
@@ -28,13 +50,28 @@ public record Resource(String value) {
         // Check each pattern in comma-separated list
         String[] patterns = this.value.split(",");
         for (String pattern : patterns) {
-            if (matchesPattern(pattern.trim(), resourceId)) {
+            String trimmed = pattern.trim();
+            if (trimmed.startsWith(ACCOUNT_GROUP_PREFIX)) {
+                if (membership != null && membership.isMember(accountGroupId(trimmed), resourceId)) {
+                    return true;
+                }
+            } else if (matchesPattern(trimmed, resourceId)) {
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * Get the account groups referenced by this resource.
+     */
+    public List<UUID> accountGroupIds() {
+        return patterns().stream()
+            .filter(pattern -> pattern.startsWith(ACCOUNT_GROUP_PREFIX))
+            .map(Resource::accountGroupId)
+            .toList();
+    }
+
     private boolean matchesPattern(String pattern, String resourceId) {
         if ("*".equals(pattern)) {
             return true;
@@ -68,4 +105,16 @@ public record Resource(String value) {
     public static Resource ofList(List<String> resourceIds) {
         return new Resource(String.join(",", resourceIds));
     }
+
+    public static Resource accountGroup(UUID accountGroupId) {
+        return new Resource(ACCOUNT_GROUP_PREFIX + accountGroupId);
+    }
+
+    private static UUID accountGroupId(String pattern) {
+        try {
+            return UUID.fromString(pattern.substring(ACCOUNT_GROUP_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid account group reference: " + pattern);
+        }
+    }
 }
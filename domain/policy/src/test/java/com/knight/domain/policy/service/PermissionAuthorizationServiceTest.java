@@ -1,6 +1,7 @@
 package com.knight.domain.policy.service;
 
 import com.knight.domain.policy.aggregate.PermissionPolicy;
+import com.knight.domain.policy.port.AccountGroupMembership;
 import com.knight.domain.policy.port.UserGroupLookup;
 import com.knight.domain.policy.repository.PermissionPolicyRepository;
 import com.knight.domain.policy.types.Action;
@@ -35,6 +36,9 @@ class PermissionAuthorizationServiceTest {
     @Mock
     private UserGroupLookup userGroupLookup;
 
+    @Mock
+    private AccountGroupMembership accountGroupMembership;
+
     private PermissionAuthorizationServiceImpl authorizationService;
 
     private static final ProfileId TEST_PROFILE_ID = ProfileId.of("servicing", SrfClientId.of("srf:123456789"));
@@ -45,7 +49,7 @@ class PermissionAuthorizationServiceTest {
     void setUp() {
         // By default, user has no group memberships
         when(userGroupLookup.getGroupsForUser(any())).thenReturn(Set.of());
-        authorizationService = new PermissionAuthorizationServiceImpl(policyRepository, userGroupLookup);
+        authorizationService = new PermissionAuthorizationServiceImpl(policyRepository, userGroupLookup, accountGroupMembership);
     }
 
     @Nested
@@ -252,6 +256,34 @@ class PermissionAuthorizationServiceTest {
             assertThat(result.allowed()).isTrue();
             assertThat(result.matchingPolicies()).contains(customPolicy);
         }
+
+        @Test
+        @DisplayName("should resolve account group resources through the membership lookup")
+        void shouldResolveAccountGroupResources() {
+            // Given
+            UUID accountGroupId = UUID.randomUUID();
+            String accountId = "CAN_DDA:DDA:12345:000000000001";
+            Action action = Action.of("payments.view");
+            PermissionPolicy groupPolicy = PermissionPolicy.create(
+                TEST_PROFILE_ID,
+                Subject.user(TEST_USER_ID.id()),
+                action,
+                Resource.accountGroup(accountGroupId),
+                PermissionPolicy.Effect.ALLOW,
+                "Group policy",
+                "admin"
+            );
+
+            when(policyRepository.findByProfileIdAndSubjects(any(), anyList()))
+                .thenReturn(List.of(groupPolicy));
+            when(accountGroupMembership.isMember(accountGroupId, accountId)).thenReturn(true);
+
+            // When/Then
+            assertThat(authorizationService.checkPermission(
+                TEST_PROFILE_ID, TEST_USER_ID, Set.of(), action, accountId).allowed()).isTrue();
+            assertThat(authorizationService.checkPermission(
+                TEST_PROFILE_ID, TEST_USER_ID, Set.of(), action, "CAN_DDA:DDA:12345:000000000002").allowed()).isFalse();
+        }
     }
 
     @Nested
@@ -1,10 +1,12 @@
 package com.knight.domain.policy.types;
 
+import com.knight.domain.policy.port.AccountGroupMembership;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -246,6 +248,58 @@ class ResourceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Account Group Reference Tests")
+    class AccountGroupReferenceTests {
+
+        private final UUID groupId = UUID.randomUUID();
+
+        @Test
+        @DisplayName("should match accounts the membership lookup reports as members")
+        void shouldMatchGroupMembers() {
+            // Given
+            Resource resource = Resource.accountGroup(groupId);
+            AccountGroupMembership membership = (group, accountId) ->
+                group.equals(groupId) && accountId.equals("CAN_DDA:DDA:12345:000000000001");
+
+            // When/Then
+            assertThat(resource.matches("CAN_DDA:DDA:12345:000000000001", membership)).isTrue();
+            assertThat(resource.matches("CAN_DDA:DDA:12345:000000000002", membership)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should not match a group reference without a membership lookup")
+        void shouldNotMatchWithoutMembership() {
+            // Given
+            Resource resource = Resource.accountGroup(groupId);
+
+            // When/Then
+            assertThat(resource.matches("account-group:" + groupId)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should combine group references with literal patterns")
+        void shouldCombineWithLiteralPatterns() {
+            // Given
+            Resource resource = Resource.of("resource:1,account-group:" + groupId);
+            AccountGroupMembership membership = (group, accountId) -> accountId.equals("resource:2");
+
+            // When/Then
+            assertThat(resource.matches("resource:1", membership)).isTrue();
+            assertThat(resource.matches("resource:2", membership)).isTrue();
+            assertThat(resource.matches("resource:3", membership)).isFalse();
+            assertThat(resource.accountGroupIds()).containsExactly(groupId);
+        }
+
+        @Test
+        @DisplayName("should reject a malformed group reference")
+        void shouldRejectMalformedGroupReference() {
+            assertThatThrownBy(() -> Resource.of("account-group:not-a-uuid"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid account group reference");
+        }
+    }
+
     @Nested
     @DisplayName("patterns() Tests")
     class PatternsTests {
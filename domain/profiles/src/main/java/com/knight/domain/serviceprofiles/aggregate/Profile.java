@@ -167,6 +167,8 @@ public class Profile {
     private final Instant createdAt;
     private final String createdBy;
     private Instant updatedAt;
+    // Stored version this copy was loaded or saved at; null until first saved
+    private Long version;
 
     private Profile(ProfileId profileId, ProfileType profileType, String name, String createdBy) {
         this.profileId = Objects.requireNonNull(profileId, "profileId cannot be null");
@@ -515,6 +517,15 @@ public class Profile {
             .orElseThrow(() -> new IllegalStateException("Profile must have a primary client"));
     }
 
+    /**
+     * Called by the repository with the stored version once the profile has been loaded or saved.
+     * Saving a copy whose version is no longer the stored one fails rather than overwriting
+     * the changes made since.
+     */
+    public void markPersisted(long version) {
+        this.version = version;
+    }
+
     // Getters
     public ProfileId profileId() { return profileId; }
     public String name() { return name; }
@@ -526,4 +537,5 @@ public class Profile {
     public Instant createdAt() { return createdAt; }
     public String createdBy() { return createdBy; }
     public Instant updatedAt() { return updatedAt; }
+    public Long version() { return version; }
 }
@@ -0,0 +1,19 @@
+package com.knight.domain.serviceprofiles.api.events;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Domain event published when accounts are added to or removed from an account group.
+ * Carries only the accounts that actually changed. A deleted group is reported with
+ * {@code deleted} set and its remaining accounts as removed.
+ */
+public record AccountGroupMembershipChanged(
+    UUID accountGroupId,
+    String profileId,
+    Set<String> addedAccountIds,
+    Set<String> removedAccountIds,
+    boolean deleted,
+    Instant changedAt
+) {}
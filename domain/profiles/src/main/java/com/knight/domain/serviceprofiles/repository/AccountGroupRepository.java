@@ -2,10 +2,14 @@ package com.knight.domain.serviceprofiles.repository;
 
 import com.knight.domain.serviceprofiles.aggregate.AccountGroup;
 import com.knight.domain.serviceprofiles.types.AccountGroupId;
+import com.knight.platform.sharedkernel.ClientAccountId;
 import com.knight.platform.sharedkernel.ProfileId;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for AccountGroup aggregate.
@@ -25,4 +29,44 @@ public interface AccountGroupRepository {
     boolean existsById(AccountGroupId id);
 
     boolean existsByProfileIdAndName(ProfileId profileId, String name);
+
+    // ==================== Membership deltas ====================
+
+    /**
+     * Add accounts to a group without loading its existing members.
+     * Accounts already in the group are skipped.
+     *
+     * @return the accounts that were actually added
+     */
+    Set<ClientAccountId> addMembers(AccountGroupId id, Collection<ClientAccountId> accountIds, Instant addedAt);
+
+    /**
+     * Remove accounts from a group without loading its remaining members.
+     * Accounts not in the group are skipped.
+     *
+     * @return the accounts that were actually removed
+     */
+    Set<ClientAccountId> removeMembers(AccountGroupId id, Collection<ClientAccountId> accountIds, Instant removedAt);
+
+    // ==================== Summaries ====================
+
+    /**
+     * Group header with its member count, read without loading members.
+     */
+    Optional<GroupSummary> findSummaryById(AccountGroupId id);
+
+    List<GroupSummary> findSummariesByProfileId(ProfileId profileId);
+
+    List<GroupSummary> findSummariesContainingAccount(ProfileId profileId, ClientAccountId accountId);
+
+    record GroupSummary(
+        AccountGroupId id,
+        ProfileId profileId,
+        String name,
+        String description,
+        int accountCount,
+        Instant createdAt,
+        String createdBy,
+        Instant updatedAt
+    ) {}
 }
@@ -1,16 +1,22 @@
 package com.knight.domain.serviceprofiles.service;
 
 import com.knight.domain.serviceprofiles.aggregate.AccountGroup;
+import com.knight.domain.serviceprofiles.api.events.AccountGroupMembershipChanged;
 import com.knight.domain.serviceprofiles.types.AccountGroupId;
 import com.knight.domain.serviceprofiles.api.commands.AccountGroupCommands;
 import com.knight.domain.serviceprofiles.api.queries.AccountGroupQueries;
 import com.knight.domain.serviceprofiles.repository.AccountGroupRepository;
 import com.knight.platform.sharedkernel.ClientAccountId;
 import com.knight.platform.sharedkernel.ProfileId;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -22,9 +28,11 @@ import java.util.stream.Collectors;
 public class AccountGroupApplicationService implements AccountGroupCommands, AccountGroupQueries {
 
     private final AccountGroupRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AccountGroupApplicationService(AccountGroupRepository repository) {
+    public AccountGroupApplicationService(AccountGroupRepository repository, ApplicationEventPublisher eventPublisher) {
         this.repository = repository;
+        this.eventPublisher = eventPublisher;
     }
 
     // ==================== Commands ====================
@@ -49,6 +57,7 @@ public class AccountGroupApplicationService implements AccountGroupCommands, Acc
         }
 
         repository.save(group);
+        publishMembershipChange(group, Set.of(), false);
         return group.id();
     }
 
@@ -75,30 +84,25 @@ public class AccountGroupApplicationService implements AccountGroupCommands, Acc
             .orElseThrow(() -> new IllegalArgumentException("Account group not found: " + cmd.groupId().id()));
 
         repository.delete(group);
+        publishMembershipChange(group, group.accounts(), true);
     }
 
     @Override
     @Transactional
     public void addAccounts(AddAccountsCmd cmd) {
-        AccountGroup group = repository.findById(cmd.groupId())
-            .orElseThrow(() -> new IllegalArgumentException("Account group not found: " + cmd.groupId().id()));
+        AccountGroupRepository.GroupSummary group = requireSummary(cmd.groupId());
 
-        group.addAccounts(cmd.accountIds());
-        repository.save(group);
+        Set<ClientAccountId> added = repository.addMembers(cmd.groupId(), nonNull(cmd.accountIds()), Instant.now());
+        publishMembershipChange(group, added, Set.of());
     }
 
     @Override
     @Transactional
     public void removeAccounts(RemoveAccountsCmd cmd) {
-        AccountGroup group = repository.findById(cmd.groupId())
-            .orElseThrow(() -> new IllegalArgumentException("Account group not found: " + cmd.groupId().id()));
+        AccountGroupRepository.GroupSummary group = requireSummary(cmd.groupId());
 
-        for (ClientAccountId accountId : cmd.accountIds()) {
-            if (group.containsAccount(accountId)) {
-                group.removeAccount(accountId);
-            }
-        }
-        repository.save(group);
+        Set<ClientAccountId> removed = repository.removeMembers(cmd.groupId(), nonNull(cmd.accountIds()), Instant.now());
+        publishMembershipChange(group, Set.of(), removed);
     }
 
     @Override
@@ -107,9 +111,11 @@ public class AccountGroupApplicationService implements AccountGroupCommands, Acc
         AccountGroup group = repository.findById(cmd.groupId())
             .orElseThrow(() -> new IllegalArgumentException("Account group not found: " + cmd.groupId().id()));
 
+        Set<ClientAccountId> before = Set.copyOf(group.accounts());
         group.clearAccounts();
         group.addAccounts(cmd.accountIds());
         repository.save(group);
+        publishMembershipChange(group, before, false);
     }
 
     // ==================== Queries ====================
@@ -123,7 +129,7 @@ public class AccountGroupApplicationService implements AccountGroupCommands, Acc
     @Override
     @Transactional(readOnly = true)
     public List<AccountGroupSummary> listGroupsByProfile(ProfileId profileId) {
-        return repository.findByProfileId(profileId).stream()
+        return repository.findSummariesByProfileId(profileId).stream()
             .map(this::toSummary)
             .toList();
     }
@@ -131,8 +137,7 @@ public class AccountGroupApplicationService implements AccountGroupCommands, Acc
     @Override
     @Transactional(readOnly = true)
     public List<AccountGroupSummary> findGroupsContainingAccount(ProfileId profileId, ClientAccountId accountId) {
-        return repository.findByProfileId(profileId).stream()
-            .filter(group -> group.containsAccount(accountId))
+        return repository.findSummariesContainingAccount(profileId, accountId).stream()
             .map(this::toSummary)
             .toList();
     }
@@ -143,9 +148,63 @@ public class AccountGroupApplicationService implements AccountGroupCommands, Acc
         return repository.existsByProfileIdAndName(profileId, name);
     }
 
+    private AccountGroupRepository.GroupSummary requireSummary(AccountGroupId groupId) {
+        return repository.findSummaryById(groupId)
+            .orElseThrow(() -> new IllegalArgumentException("Account group not found: " + groupId.id()));
+    }
+
+    private static List<ClientAccountId> nonNull(Collection<ClientAccountId> accountIds) {
+        return accountIds == null ? List.of() : accountIds.stream().filter(Objects::nonNull).toList();
+    }
+
+    // ==================== Events ====================
+
+    /**
+     * Publish the accounts that changed since {@code before}, if any.
+     * A deleted group reports all of {@code before} as removed.
+     */
+    private void publishMembershipChange(AccountGroup group, Set<ClientAccountId> before, boolean deleted) {
+        Set<ClientAccountId> after = deleted ? Set.of() : group.accounts();
+        publishMembershipChange(group.id(), group.profileId(), difference(after, before), difference(before, after), deleted);
+    }
+
+    private void publishMembershipChange(AccountGroupRepository.GroupSummary group,
+                                         Set<ClientAccountId> added, Set<ClientAccountId> removed) {
+        publishMembershipChange(group.id(), group.profileId(), urns(added), urns(removed), false);
+    }
+
+    private void publishMembershipChange(AccountGroupId groupId, ProfileId profileId,
+                                         Set<String> added, Set<String> removed, boolean deleted) {
+        if (!deleted && added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new AccountGroupMembershipChanged(
+            groupId.value(),
+            profileId.urn(),
+            added,
+            removed,
+            deleted,
+            Instant.now()
+        ));
+    }
+
+    private static Set<String> urns(Set<ClientAccountId> accountIds) {
+        return accountIds.stream().map(ClientAccountId::urn).collect(Collectors.toSet());
+    }
+
+    private static Set<String> difference(Set<ClientAccountId> from, Set<ClientAccountId> minus) {
+        Set<String> result = new HashSet<>();
+        for (ClientAccountId accountId : from) {
+            if (!minus.contains(accountId)) {
+                result.add(accountId.urn());
+            }
+        }
+        return result;
+    }
+
     // ==================== Mappers ====================
 
-    private AccountGroupSummary toSummary(AccountGroup group) {
+    private AccountGroupSummary toSummary(AccountGroupRepository.GroupSummary group) {
         return new AccountGroupSummary(
             group.id().id(),
             group.profileId().urn(),
@@ -21,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -271,14 +272,6 @@ public class ProfileApplicationService implements ProfileCommands, ProfileQuerie
             .orElseThrow(() -> new IllegalArgumentException("Client not found: " + clientId.urn()));
     }
 
-    /**
-     * Safely resolves the client name, returning "Unknown" if client is not found.
-     * Used for display purposes where failure shouldn't break the operation.
-     */
-    private String resolveClientNameSafe(ClientId clientId) {
-        return clientNameResolver.resolveNameOrDefault(clientId, "Unknown");
-    }
-
     /**
      * Finds all active accounts for a client.
      * Handles both regular clients and indirect clients.
@@ -372,17 +365,18 @@ public class ProfileApplicationService implements ProfileCommands, ProfileQuerie
         Profile profile = repository.findById(profileId)
             .orElseThrow(() -> new IllegalArgumentException("Profile not found: " + profileId.urn()));
 
+        // One bulk name lookup, not one per enrolled client
+        Map<ClientId, String> clientNames = clientNameResolver.resolveNames(
+            profile.clientEnrollments().stream().map(Profile.ClientEnrollment::clientId).toList());
+
         List<ClientEnrollmentInfo> clientInfos = profile.clientEnrollments().stream()
-            .map(ce -> {
-                String clientName = resolveClientNameSafe(ce.clientId());
-                return new ClientEnrollmentInfo(
-                    ce.clientId().urn(),
-                    clientName,
-                    ce.isPrimary(),
-                    ce.accountEnrollmentType().name(),
-                    ce.enrolledAt()
-                );
-            })
+            .map(ce -> new ClientEnrollmentInfo(
+                ce.clientId().urn(),
+                clientNames.getOrDefault(ce.clientId(), "Unknown"),
+                ce.isPrimary(),
+                ce.accountEnrollmentType().name(),
+                ce.enrolledAt()
+            ))
             .toList();
 
         List<ServiceEnrollmentInfo> serviceInfos = profile.serviceEnrollments().stream()
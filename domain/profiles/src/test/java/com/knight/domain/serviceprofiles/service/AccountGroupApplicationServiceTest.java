@@ -2,6 +2,7 @@ package com.knight.domain.serviceprofiles.service;
 
 import com.knight.domain.serviceprofiles.aggregate.AccountGroup;
 import com.knight.domain.serviceprofiles.api.commands.AccountGroupCommands.*;
+import com.knight.domain.serviceprofiles.api.events.AccountGroupMembershipChanged;
 import com.knight.domain.serviceprofiles.api.queries.AccountGroupQueries.*;
 import com.knight.domain.serviceprofiles.repository.AccountGroupRepository;
 import com.knight.domain.serviceprofiles.types.AccountGroupId;
@@ -13,7 +14,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -36,9 +39,17 @@ class AccountGroupApplicationServiceTest {
     @Mock
     private AccountGroupRepository repository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AccountGroupApplicationService service;
 
+    private static AccountGroupRepository.GroupSummary summary(AccountGroupId id, String name, int accountCount) {
+        Instant now = Instant.now();
+        return new AccountGroupRepository.GroupSummary(id, PROFILE_ID, name, "Desc", accountCount, now, CREATED_BY, now);
+    }
+
     // ==================== Create Group ====================
 
     @Nested
@@ -164,6 +175,21 @@ class AccountGroupApplicationServiceTest {
             verify(repository).delete(existingGroup);
         }
 
+        @Test
+        @DisplayName("should publish the deletion with the remaining accounts as removed")
+        void shouldPublishDeletion() {
+            AccountGroup existingGroup = AccountGroup.create(PROFILE_ID, "To Delete", "Desc", CREATED_BY);
+            existingGroup.addAccount(ACCOUNT_ID_1);
+            when(repository.findById(any(AccountGroupId.class))).thenReturn(Optional.of(existingGroup));
+
+            service.deleteGroup(new DeleteGroupCmd(existingGroup.id()));
+
+            ArgumentCaptor<AccountGroupMembershipChanged> captor = ArgumentCaptor.forClass(AccountGroupMembershipChanged.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().deleted()).isTrue();
+            assertThat(captor.getValue().removedAccountIds()).containsExactly(ACCOUNT_ID_1.urn());
+        }
+
         @Test
         @DisplayName("should reject delete for non-existent group")
         void shouldRejectDeleteForNonExistentGroup() {
@@ -185,23 +211,53 @@ class AccountGroupApplicationServiceTest {
     class AddAccountsTests {
 
         @Test
-        @DisplayName("should add accounts to group")
+        @DisplayName("should add accounts through the repository without loading the group")
         void shouldAddAccountsToGroup() {
-            AccountGroup existingGroup = AccountGroup.create(PROFILE_ID, "Test", "Desc", CREATED_BY);
-            when(repository.findById(any(AccountGroupId.class))).thenReturn(Optional.of(existingGroup));
+            AccountGroupId groupId = AccountGroupId.generate();
+            when(repository.findSummaryById(groupId)).thenReturn(Optional.of(summary(groupId, "Test", 0)));
+            when(repository.addMembers(eq(groupId), anyCollection(), any())).thenReturn(Set.of(ACCOUNT_ID_1, ACCOUNT_ID_2));
 
-            AddAccountsCmd cmd = new AddAccountsCmd(existingGroup.id(), Set.of(ACCOUNT_ID_1, ACCOUNT_ID_2));
+            AddAccountsCmd cmd = new AddAccountsCmd(groupId, Set.of(ACCOUNT_ID_1, ACCOUNT_ID_2));
             service.addAccounts(cmd);
 
-            assertThat(existingGroup.accounts()).containsExactlyInAnyOrder(ACCOUNT_ID_1, ACCOUNT_ID_2);
-            verify(repository).save(existingGroup);
+            verify(repository).addMembers(eq(groupId), argThat(ids -> ids.containsAll(Set.of(ACCOUNT_ID_1, ACCOUNT_ID_2))), any());
+            verify(repository, never()).findById(any());
+            verify(repository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should publish only the accounts that were newly added")
+        void shouldPublishAddedAccounts() {
+            AccountGroupId groupId = AccountGroupId.generate();
+            when(repository.findSummaryById(groupId)).thenReturn(Optional.of(summary(groupId, "Test", 1)));
+            when(repository.addMembers(eq(groupId), anyCollection(), any())).thenReturn(Set.of(ACCOUNT_ID_2));
+
+            service.addAccounts(new AddAccountsCmd(groupId, Set.of(ACCOUNT_ID_1, ACCOUNT_ID_2)));
+
+            ArgumentCaptor<AccountGroupMembershipChanged> captor = ArgumentCaptor.forClass(AccountGroupMembershipChanged.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().accountGroupId()).isEqualTo(groupId.value());
+            assertThat(captor.getValue().addedAccountIds()).containsExactly(ACCOUNT_ID_2.urn());
+            assertThat(captor.getValue().removedAccountIds()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should not publish when nothing changed")
+        void shouldNotPublishWhenUnchanged() {
+            AccountGroupId groupId = AccountGroupId.generate();
+            when(repository.findSummaryById(groupId)).thenReturn(Optional.of(summary(groupId, "Test", 1)));
+            when(repository.addMembers(eq(groupId), anyCollection(), any())).thenReturn(Set.of());
+
+            service.addAccounts(new AddAccountsCmd(groupId, Set.of(ACCOUNT_ID_1)));
+
+            verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
         @DisplayName("should reject add accounts for non-existent group")
         void shouldRejectAddAccountsForNonExistentGroup() {
             AccountGroupId nonExistentId = AccountGroupId.generate();
-            when(repository.findById(nonExistentId)).thenReturn(Optional.empty());
+            when(repository.findSummaryById(nonExistentId)).thenReturn(Optional.empty());
 
             AddAccountsCmd cmd = new AddAccountsCmd(nonExistentId, Set.of(ACCOUNT_ID_1));
 
@@ -218,40 +274,38 @@ class AccountGroupApplicationServiceTest {
     class RemoveAccountsTests {
 
         @Test
-        @DisplayName("should remove accounts from group")
+        @DisplayName("should remove accounts and publish the ones that were in the group")
         void shouldRemoveAccountsFromGroup() {
-            AccountGroup existingGroup = AccountGroup.create(PROFILE_ID, "Test", "Desc", CREATED_BY);
-            existingGroup.addAccount(ACCOUNT_ID_1);
-            existingGroup.addAccount(ACCOUNT_ID_2);
-            when(repository.findById(any(AccountGroupId.class))).thenReturn(Optional.of(existingGroup));
+            AccountGroupId groupId = AccountGroupId.generate();
+            when(repository.findSummaryById(groupId)).thenReturn(Optional.of(summary(groupId, "Test", 2)));
+            when(repository.removeMembers(eq(groupId), anyCollection(), any())).thenReturn(Set.of(ACCOUNT_ID_1));
 
-            RemoveAccountsCmd cmd = new RemoveAccountsCmd(existingGroup.id(), Set.of(ACCOUNT_ID_1));
+            RemoveAccountsCmd cmd = new RemoveAccountsCmd(groupId, Set.of(ACCOUNT_ID_1));
             service.removeAccounts(cmd);
 
-            assertThat(existingGroup.accounts()).containsExactly(ACCOUNT_ID_2);
-            verify(repository).save(existingGroup);
+            ArgumentCaptor<AccountGroupMembershipChanged> captor = ArgumentCaptor.forClass(AccountGroupMembershipChanged.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().removedAccountIds()).containsExactly(ACCOUNT_ID_1.urn());
+            verify(repository, never()).save(any());
         }
 
         @Test
         @DisplayName("should skip accounts not in group")
         void shouldSkipAccountsNotInGroup() {
-            AccountGroup existingGroup = AccountGroup.create(PROFILE_ID, "Test", "Desc", CREATED_BY);
-            existingGroup.addAccount(ACCOUNT_ID_1);
-            when(repository.findById(any(AccountGroupId.class))).thenReturn(Optional.of(existingGroup));
+            AccountGroupId groupId = AccountGroupId.generate();
+            when(repository.findSummaryById(groupId)).thenReturn(Optional.of(summary(groupId, "Test", 1)));
+            when(repository.removeMembers(eq(groupId), anyCollection(), any())).thenReturn(Set.of());
 
-            // Try to remove ACCOUNT_ID_2 which is not in the group
-            RemoveAccountsCmd cmd = new RemoveAccountsCmd(existingGroup.id(), Set.of(ACCOUNT_ID_2));
-            service.removeAccounts(cmd);
+            service.removeAccounts(new RemoveAccountsCmd(groupId, Set.of(ACCOUNT_ID_2)));
 
-            assertThat(existingGroup.accounts()).containsExactly(ACCOUNT_ID_1);
-            verify(repository).save(existingGroup);
+            verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
         @DisplayName("should reject remove accounts for non-existent group")
         void shouldRejectRemoveAccountsForNonExistentGroup() {
             AccountGroupId nonExistentId = AccountGroupId.generate();
-            when(repository.findById(nonExistentId)).thenReturn(Optional.empty());
+            when(repository.findSummaryById(nonExistentId)).thenReturn(Optional.empty());
 
             RemoveAccountsCmd cmd = new RemoveAccountsCmd(nonExistentId, Set.of(ACCOUNT_ID_1));
 
@@ -279,6 +333,11 @@ class AccountGroupApplicationServiceTest {
 
             assertThat(existingGroup.accounts()).containsExactly(ACCOUNT_ID_2);
             verify(repository).save(existingGroup);
+
+            ArgumentCaptor<AccountGroupMembershipChanged> captor = ArgumentCaptor.forClass(AccountGroupMembershipChanged.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().addedAccountIds()).containsExactly(ACCOUNT_ID_2.urn());
+            assertThat(captor.getValue().removedAccountIds()).containsExactly(ACCOUNT_ID_1.urn());
         }
 
         @Test
@@ -335,23 +394,25 @@ class AccountGroupApplicationServiceTest {
     class ListGroupsByProfileTests {
 
         @Test
-        @DisplayName("should return groups for profile")
+        @DisplayName("should return group summaries with member counts")
         void shouldReturnGroupsForProfile() {
-            AccountGroup group1 = AccountGroup.create(PROFILE_ID, "Group 1", "Desc 1", CREATED_BY);
-            AccountGroup group2 = AccountGroup.create(PROFILE_ID, "Group 2", "Desc 2", CREATED_BY);
-            when(repository.findByProfileId(PROFILE_ID)).thenReturn(List.of(group1, group2));
+            when(repository.findSummariesByProfileId(PROFILE_ID)).thenReturn(List.of(
+                summary(AccountGroupId.generate(), "Group 1", 2000),
+                summary(AccountGroupId.generate(), "Group 2", 0)));
 
             List<AccountGroupSummary> result = service.listGroupsByProfile(PROFILE_ID);
 
             assertThat(result).hasSize(2);
             assertThat(result).extracting(AccountGroupSummary::name)
                 .containsExactlyInAnyOrder("Group 1", "Group 2");
+            assertThat(result).extracting(AccountGroupSummary::accountCount).containsExactly(2000, 0);
+            verify(repository, never()).findByProfileId(any());
         }
 
         @Test
         @DisplayName("should return empty list when no groups exist")
         void shouldReturnEmptyListWhenNoGroupsExist() {
-            when(repository.findByProfileId(PROFILE_ID)).thenReturn(List.of());
+            when(repository.findSummariesByProfileId(PROFILE_ID)).thenReturn(List.of());
 
             List<AccountGroupSummary> result = service.listGroupsByProfile(PROFILE_ID);
 
@@ -368,11 +429,8 @@ class AccountGroupApplicationServiceTest {
         @Test
         @DisplayName("should return groups containing account")
         void shouldReturnGroupsContainingAccount() {
-            AccountGroup group1 = AccountGroup.create(PROFILE_ID, "Group 1", "Desc", CREATED_BY);
-            group1.addAccount(ACCOUNT_ID_1);
-            AccountGroup group2 = AccountGroup.create(PROFILE_ID, "Group 2", "Desc", CREATED_BY);
-            group2.addAccount(ACCOUNT_ID_2);
-            when(repository.findByProfileId(PROFILE_ID)).thenReturn(List.of(group1, group2));
+            when(repository.findSummariesContainingAccount(PROFILE_ID, ACCOUNT_ID_1))
+                .thenReturn(List.of(summary(AccountGroupId.generate(), "Group 1", 1)));
 
             List<AccountGroupSummary> result = service.findGroupsContainingAccount(PROFILE_ID, ACCOUNT_ID_1);
 
@@ -383,9 +441,7 @@ class AccountGroupApplicationServiceTest {
         @Test
         @DisplayName("should return empty list when account not in any group")
         void shouldReturnEmptyListWhenAccountNotInAnyGroup() {
-            AccountGroup group1 = AccountGroup.create(PROFILE_ID, "Group 1", "Desc", CREATED_BY);
-            group1.addAccount(ACCOUNT_ID_2);
-            when(repository.findByProfileId(PROFILE_ID)).thenReturn(List.of(group1));
+            when(repository.findSummariesContainingAccount(PROFILE_ID, ACCOUNT_ID_1)).thenReturn(List.of());
 
             List<AccountGroupSummary> result = service.findGroupsContainingAccount(PROFILE_ID, ACCOUNT_ID_1);
 
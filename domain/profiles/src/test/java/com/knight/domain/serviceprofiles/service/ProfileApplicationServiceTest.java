@@ -20,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -858,7 +859,7 @@ class ProfileApplicationServiceTest {
             mockProfile.enrollAccount(PRIMARY_CLIENT_ID, ACCOUNT_ID_1);
             ProfileId profileId = mockProfile.profileId();
             when(profileRepository.findById(profileId)).thenReturn(Optional.of(mockProfile));
-            when(clientNameResolver.resolveNameOrDefault(PRIMARY_CLIENT_ID, "Unknown")).thenReturn("Test Client");
+            when(clientNameResolver.resolveNames(List.of(PRIMARY_CLIENT_ID))).thenReturn(Map.of(PRIMARY_CLIENT_ID, "Test Client"));
 
             ProfileDetail detail = service.getProfileDetail(profileId);
 
@@ -878,7 +879,7 @@ class ProfileApplicationServiceTest {
             Profile mockProfile = createMockProfile();
             ProfileId profileId = mockProfile.profileId();
             when(profileRepository.findById(profileId)).thenReturn(Optional.of(mockProfile));
-            when(clientNameResolver.resolveNameOrDefault(PRIMARY_CLIENT_ID, "Unknown")).thenReturn("Unknown");
+            when(clientNameResolver.resolveNames(List.of(PRIMARY_CLIENT_ID))).thenReturn(Map.of());
 
             ProfileDetail detail = service.getProfileDetail(profileId);
 
@@ -905,7 +906,7 @@ class ProfileApplicationServiceTest {
             mockProfile.enrollAccountToService(svcEnrollment.enrollmentId(), PRIMARY_CLIENT_ID, ACCOUNT_ID_1);
             ProfileId profileId = mockProfile.profileId();
             when(profileRepository.findById(profileId)).thenReturn(Optional.of(mockProfile));
-            when(clientNameResolver.resolveNameOrDefault(PRIMARY_CLIENT_ID, "Unknown")).thenReturn("Test Client");
+            when(clientNameResolver.resolveNames(List.of(PRIMARY_CLIENT_ID))).thenReturn(Map.of(PRIMARY_CLIENT_ID, "Test Client"));
 
             ProfileDetail detail = service.getProfileDetail(profileId);
 
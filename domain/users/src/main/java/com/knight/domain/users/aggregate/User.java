@@ -70,6 +70,31 @@ public class User {
         TOTP       // Prefer TOTP authenticator app
     }
 
+    /**
+     * Mutable state tracked for persistence; see {@link #changedFields()}.
+     */
+    public enum Field {
+        EMAIL,
+        FIRST_NAME,
+        LAST_NAME,
+        IDENTITY_PROVIDER_USER_ID,
+        EMAIL_VERIFIED,
+        PASSWORD_SET,
+        MFA_ENROLLED,
+        LAST_SYNCED_AT,
+        LAST_LOGGED_IN_AT,
+        MFA_PREFERENCE,
+        ALLOW_MFA_REENROLLMENT,
+        MFA_REENROLLMENT_REQUESTED_AT,
+        MFA_REENROLLMENT_REQUESTED_BY,
+        STATUS,
+        LOCK_TYPE,
+        LOCKED_BY,
+        LOCKED_AT,
+        DEACTIVATION_REASON,
+        UPDATED_AT
+    }
+
     // Core fields
     private final UserId id;
     private final String loginId;
@@ -110,6 +135,13 @@ public class User {
     private final String createdBy;
     private Instant updatedAt;
 
+    // Change tracking since the last load or save
+    private boolean persisted;
+    private Long version;  // Stored version this copy was loaded or saved at
+    private final Set<Field> changedFields = EnumSet.noneOf(Field.class);
+    private final Set<Role> addedRoles = EnumSet.noneOf(Role.class);
+    private final Set<Role> removedRoles = EnumSet.noneOf(Role.class);
+
     private User(UserId id, String loginId, String email, String firstName, String lastName,
                  UserType userType, IdentityProvider identityProvider,
                  ProfileId profileId, Set<Role> roles, String createdBy) {
@@ -210,6 +242,7 @@ public class User {
             // Ignore - use default
         }
         user.updatedAt = updatedAt;
+        user.persisted = true;
         return user;
     }
 
@@ -245,28 +278,38 @@ public class User {
         if (this.status != Status.PENDING_CREATION) {
             throw new IllegalStateException("User must be in PENDING_CREATION status to be provisioned");
         }
-        this.identityProviderUserId = Objects.requireNonNull(identityProviderUserId);
-        this.status = Status.PENDING_VERIFICATION;
-        this.updatedAt = Instant.now();
+        this.identityProviderUserId = track(Field.IDENTITY_PROVIDER_USER_ID, this.identityProviderUserId,
+            Objects.requireNonNull(identityProviderUserId));
+        this.status = track(Field.STATUS, this.status, Status.PENDING_VERIFICATION);
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
     }
 
     /**
      * Update onboarding status from identity provider events.
      */
     public void updateOnboardingStatus(boolean emailVerified, boolean passwordSet, boolean mfaEnrolled) {
-        this.emailVerified = emailVerified;
-        this.passwordSet = passwordSet;
-        this.mfaEnrolled = mfaEnrolled;
-        this.lastSyncedAt = Instant.now();
-        this.updatedAt = Instant.now();
+        this.emailVerified = track(Field.EMAIL_VERIFIED, this.emailVerified, emailVerified);
+        this.passwordSet = track(Field.PASSWORD_SET, this.passwordSet, passwordSet);
+        this.mfaEnrolled = track(Field.MFA_ENROLLED, this.mfaEnrolled, mfaEnrolled);
+        this.lastSyncedAt = track(Field.LAST_SYNCED_AT, this.lastSyncedAt, Instant.now());
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
 
         // Update status based on onboarding progress
+        this.status = track(Field.STATUS, this.status, onboardingStatus(this.status, passwordSet, mfaEnrolled));
+    }
+
+    /**
+     * Status implied by onboarding progress, as applied by {@link #updateOnboardingStatus}.
+     * Also used by bulk reconciliation, which updates many users without loading them.
+     */
+    public static Status onboardingStatus(Status current, boolean passwordSet, boolean mfaEnrolled) {
         if (passwordSet && mfaEnrolled) {
-            this.status = Status.ACTIVE;
+            return Status.ACTIVE;
         } else if (passwordSet) {
-            this.status = Status.PENDING_MFA;
+            return Status.PENDING_MFA;
         }
         // If neither, status remains PENDING_VERIFICATION
+        return current;
     }
 
     /**
@@ -277,9 +320,9 @@ public class User {
         if (this.emailVerified) {
             return; // Already verified
         }
-        this.emailVerified = true;
-        this.lastSyncedAt = Instant.now();
-        this.updatedAt = Instant.now();
+        this.emailVerified = track(Field.EMAIL_VERIFIED, this.emailVerified, true);
+        this.lastSyncedAt = track(Field.LAST_SYNCED_AT, this.lastSyncedAt, Instant.now());
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
     }
 
     public void activate() {
@@ -289,18 +332,18 @@ public class User {
         if (this.status == Status.ACTIVE) {
             return;
         }
-        this.status = Status.ACTIVE;
-        this.updatedAt = Instant.now();
-        this.deactivationReason = null;
+        this.status = track(Field.STATUS, this.status, Status.ACTIVE);
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
+        this.deactivationReason = track(Field.DEACTIVATION_REASON, this.deactivationReason, null);
     }
 
     public void deactivate(String reason) {
         if (this.status == Status.DEACTIVATED) {
             return;
         }
-        this.status = Status.DEACTIVATED;
-        this.deactivationReason = reason;
-        this.updatedAt = Instant.now();
+        this.status = track(Field.STATUS, this.status, Status.DEACTIVATED);
+        this.deactivationReason = track(Field.DEACTIVATION_REASON, this.deactivationReason, reason);
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
     }
 
     /**
@@ -318,11 +361,11 @@ public class User {
         if (this.status == Status.LOCKED) {
             return;
         }
-        this.status = Status.LOCKED;
-        this.lockType = type;
-        this.lockedBy = actor;
-        this.lockedAt = Instant.now();
-        this.updatedAt = Instant.now();
+        this.status = track(Field.STATUS, this.status, Status.LOCKED);
+        this.lockType = track(Field.LOCK_TYPE, this.lockType, type);
+        this.lockedBy = track(Field.LOCKED_BY, this.lockedBy, actor);
+        this.lockedAt = track(Field.LOCKED_AT, this.lockedAt, Instant.now());
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
     }
 
     /**
@@ -346,16 +389,19 @@ public class User {
                     this.lockType, requesterLevel)
             );
         }
-        this.status = Status.ACTIVE;
-        this.lockType = LockType.NONE;
-        this.lockedBy = null;
-        this.lockedAt = null;
-        this.updatedAt = Instant.now();
+        this.status = track(Field.STATUS, this.status, Status.ACTIVE);
+        this.lockType = track(Field.LOCK_TYPE, this.lockType, LockType.NONE);
+        this.lockedBy = track(Field.LOCKED_BY, this.lockedBy, null);
+        this.lockedAt = track(Field.LOCKED_AT, this.lockedAt, null);
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
     }
 
     public void addRole(Role role) {
         if (this.roles.add(role)) {
-            this.updatedAt = Instant.now();
+            if (!this.removedRoles.remove(role)) {
+                this.addedRoles.add(role);
+            }
+            this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
         }
     }
 
@@ -364,14 +410,17 @@ public class User {
             throw new IllegalStateException("Cannot remove last role. User must have at least one role.");
         }
         if (this.roles.remove(role)) {
-            this.updatedAt = Instant.now();
+            if (!this.addedRoles.remove(role)) {
+                this.removedRoles.add(role);
+            }
+            this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
         }
     }
 
     public void updateName(String firstName, String lastName) {
-        this.firstName = firstName;
-        this.lastName = lastName;
-        this.updatedAt = Instant.now();
+        this.firstName = track(Field.FIRST_NAME, this.firstName, firstName);
+        this.lastName = track(Field.LAST_NAME, this.lastName, lastName);
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
     }
 
     /**
@@ -394,9 +443,9 @@ public class User {
         }
 
         this.previousEmail = this.email;
-        this.email = newEmail;
-        this.emailVerified = false;  // Require re-verification
-        this.updatedAt = Instant.now();
+        this.email = track(Field.EMAIL, this.email, newEmail);
+        this.emailVerified = track(Field.EMAIL_VERIFIED, this.emailVerified, false);  // Require re-verification
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
 
         return this.previousEmail;
     }
@@ -415,8 +464,8 @@ public class User {
      * Does NOT update lastSyncedAt - login and sync are separate events.
      */
     public void recordLogin() {
-        this.lastLoggedInAt = Instant.now();
-        this.updatedAt = Instant.now();
+        this.lastLoggedInAt = track(Field.LAST_LOGGED_IN_AT, this.lastLoggedInAt, Instant.now());
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
     }
 
     /**
@@ -426,8 +475,8 @@ public class User {
      * Does NOT update lastLoggedInAt - login and sync are separate events.
      */
     public void recordSync() {
-        this.lastSyncedAt = Instant.now();
-        this.updatedAt = Instant.now();
+        this.lastSyncedAt = track(Field.LAST_SYNCED_AT, this.lastSyncedAt, Instant.now());
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
     }
 
     // Getters
@@ -463,8 +512,8 @@ public class User {
      * @param preference The preferred MFA method (GUARDIAN or TOTP)
      */
     public void setMfaPreference(MfaPreference preference) {
-        this.mfaPreference = preference;
-        this.updatedAt = Instant.now();
+        this.mfaPreference = track(Field.MFA_PREFERENCE, this.mfaPreference, preference);
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
     }
 
     // MFA Re-enrollment methods
@@ -479,11 +528,11 @@ public class User {
         if (requestedBy == null || requestedBy.isBlank()) {
             throw new IllegalArgumentException("Requester is required for MFA reset operation");
         }
-        this.allowMfaReenrollment = true;
-        this.mfaEnrolled = false;
-        this.mfaReenrollmentRequestedAt = Instant.now();
-        this.mfaReenrollmentRequestedBy = requestedBy;
-        this.updatedAt = Instant.now();
+        this.allowMfaReenrollment = track(Field.ALLOW_MFA_REENROLLMENT, this.allowMfaReenrollment, true);
+        this.mfaEnrolled = track(Field.MFA_ENROLLED, this.mfaEnrolled, false);
+        this.mfaReenrollmentRequestedAt = track(Field.MFA_REENROLLMENT_REQUESTED_AT, this.mfaReenrollmentRequestedAt, Instant.now());
+        this.mfaReenrollmentRequestedBy = track(Field.MFA_REENROLLMENT_REQUESTED_BY, this.mfaReenrollmentRequestedBy, requestedBy);
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
     }
 
     /**
@@ -491,10 +540,10 @@ public class User {
      * Called after user successfully completes MFA enrollment.
      */
     public void clearMfaReenrollmentRequirement() {
-        this.allowMfaReenrollment = false;
-        this.mfaReenrollmentRequestedAt = null;
-        this.mfaReenrollmentRequestedBy = null;
-        this.updatedAt = Instant.now();
+        this.allowMfaReenrollment = track(Field.ALLOW_MFA_REENROLLMENT, this.allowMfaReenrollment, false);
+        this.mfaReenrollmentRequestedAt = track(Field.MFA_REENROLLMENT_REQUESTED_AT, this.mfaReenrollmentRequestedAt, null);
+        this.mfaReenrollmentRequestedBy = track(Field.MFA_REENROLLMENT_REQUESTED_BY, this.mfaReenrollmentRequestedBy, null);
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
     }
 
     /**
@@ -503,21 +552,80 @@ public class User {
      * @param mfaPreference The MFA preference chosen during enrollment
      */
     public void completeMfaReenrollment(MfaPreference mfaPreference) {
-        this.mfaEnrolled = true;
-        this.mfaPreference = mfaPreference;
-        this.allowMfaReenrollment = false;
-        this.mfaReenrollmentRequestedAt = null;
-        this.mfaReenrollmentRequestedBy = null;
-        this.lastSyncedAt = Instant.now();
-        this.updatedAt = Instant.now();
+        this.mfaEnrolled = track(Field.MFA_ENROLLED, this.mfaEnrolled, true);
+        this.mfaPreference = track(Field.MFA_PREFERENCE, this.mfaPreference, mfaPreference);
+        this.allowMfaReenrollment = track(Field.ALLOW_MFA_REENROLLMENT, this.allowMfaReenrollment, false);
+        this.mfaReenrollmentRequestedAt = track(Field.MFA_REENROLLMENT_REQUESTED_AT, this.mfaReenrollmentRequestedAt, null);
+        this.mfaReenrollmentRequestedBy = track(Field.MFA_REENROLLMENT_REQUESTED_BY, this.mfaReenrollmentRequestedBy, null);
+        this.lastSyncedAt = track(Field.LAST_SYNCED_AT, this.lastSyncedAt, Instant.now());
+        this.updatedAt = track(Field.UPDATED_AT, this.updatedAt, Instant.now());
 
         // Update status if needed
         if (this.passwordSet && this.status != Status.ACTIVE && this.status != Status.LOCKED && this.status != Status.DEACTIVATED) {
-            this.status = Status.ACTIVE;
+            this.status = track(Field.STATUS, this.status, Status.ACTIVE);
         }
     }
 
     public boolean allowMfaReenrollment() { return allowMfaReenrollment; }
     public Instant mfaReenrollmentRequestedAt() { return mfaReenrollmentRequestedAt; }
     public String mfaReenrollmentRequestedBy() { return mfaReenrollmentRequestedBy; }
+
+    // Change tracking
+
+    /**
+     * Whether this user was loaded from, or has been saved to, persistence.
+     * A persisted user's row exists, so saving it only needs to write its changes.
+     */
+    public boolean persisted() { return persisted; }
+
+    /**
+     * Stored version this user was loaded or last saved at; null until first saved.
+     */
+    public Long version() { return version; }
+
+    /**
+     * Fields whose value changed since the user was loaded or last saved.
+     */
+    public Set<Field> changedFields() { return Collections.unmodifiableSet(changedFields); }
+
+    /**
+     * Roles granted since the user was loaded or last saved.
+     */
+    public Set<Role> addedRoles() { return Collections.unmodifiableSet(addedRoles); }
+
+    /**
+     * Roles revoked since the user was loaded or last saved.
+     */
+    public Set<Role> removedRoles() { return Collections.unmodifiableSet(removedRoles); }
+
+    public boolean hasChanges() {
+        return !changedFields.isEmpty() || !addedRoles.isEmpty() || !removedRoles.isEmpty();
+    }
+
+    /**
+     * Called by the repository once the user's state has been written.
+     */
+    public void markPersisted() {
+        this.persisted = true;
+        this.changedFields.clear();
+        this.addedRoles.clear();
+        this.removedRoles.clear();
+    }
+
+    /**
+     * Called by the repository once the user has been loaded or saved, with the stored version.
+     * Saving a copy whose version is no longer the stored one fails rather than overwriting
+     * the changes made since.
+     */
+    public void markPersisted(long version) {
+        markPersisted();
+        this.version = version;
+    }
+
+    private <T> T track(Field field, T current, T next) {
+        if (!Objects.equals(current, next)) {
+            changedFields.add(field);
+        }
+        return next;
+    }
 }
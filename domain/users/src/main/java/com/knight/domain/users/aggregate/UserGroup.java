@@ -23,6 +23,8 @@ public class UserGroup {
     private final Instant createdAt;
     private final String createdBy;
     private Instant updatedAt;
+    // Stored version this copy was loaded or saved at; null until first saved
+    private Long version;
 
     private UserGroup(
             UserGroupId id,
@@ -164,6 +166,19 @@ public class UserGroup {
         return updatedAt;
     }
 
+    public Long version() {
+        return version;
+    }
+
+    /**
+     * Called by the repository with the stored version once the group has been loaded or saved.
+     * Saving a copy whose version is no longer the stored one fails rather than overwriting
+     * the changes made since.
+     */
+    public void markPersisted(long version) {
+        this.version = version;
+    }
+
     // ==================== Validation ====================
 
     private static void validateName(String name) {
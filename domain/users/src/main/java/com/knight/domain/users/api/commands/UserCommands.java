@@ -3,6 +3,8 @@ package com.knight.domain.users.api.commands;
 import com.knight.platform.sharedkernel.ProfileId;
 import com.knight.platform.sharedkernel.UserId;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -45,6 +47,20 @@ public interface UserCommands {
         String passwordResetUrl
     ) {}
 
+    /**
+     * Provisions many users to the identity provider together, in bulk where it supports it.
+     * Users that do not exist, are not AUTH0 users or are already provisioned are skipped;
+     * a failure for one user does not stop the others.
+     */
+    ProvisionUsersResult provisionUsers(ProvisionUsersCmd cmd);
+
+    record ProvisionUsersCmd(List<UserId> userIds) {}
+
+    record ProvisionUsersResult(
+        List<UserId> provisioned,
+        Map<UserId, String> failed
+    ) {}
+
     /**
      * Updates onboarding status from identity provider events.
      */
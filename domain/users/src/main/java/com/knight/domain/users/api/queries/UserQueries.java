@@ -16,9 +16,62 @@ public interface UserQueries {
     // ==================== Profile Users ====================
 
     /**
-     * List all users for a profile.
+     * Search a profile's users one page at a time. Pass the previous page's
+     * {@code nextCursor} to continue; a cursor is only valid for the sort it was issued under.
      */
-    List<ProfileUserSummary> listUsersByProfile(ProfileId profileId);
+    ProfileUserPage searchUsersByProfile(ProfileId profileId, UserSearch search);
+
+    /**
+     * Get the directory row for a single user.
+     */
+    ProfileUserSummary getProfileUserSummary(UserId userId);
+
+    enum UserSort {
+        EMAIL,
+        NAME,
+        CREATED_AT
+    }
+
+    /**
+     * Directory filters and paging. Null or empty filters match every user; {@code query}
+     * is a prefix of email, login ID, first name or last name.
+     */
+    record UserSearch(
+        Set<String> statuses,
+        String role,
+        String query,
+        UserSort sort,
+        boolean descending,
+        String cursor,
+        int size
+    ) {
+        public static final int DEFAULT_SIZE = 50;
+        public static final int MAX_SIZE = 200;
+
+        public UserSearch {
+            statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+            if (sort == null) {
+                sort = UserSort.EMAIL;
+            }
+            if (size <= 0) {
+                size = DEFAULT_SIZE;
+            }
+            size = Math.min(size, MAX_SIZE);
+        }
+
+        public static UserSearch firstPage() {
+            return new UserSearch(Set.of(), null, null, UserSort.EMAIL, false, null, DEFAULT_SIZE);
+        }
+    }
+
+    record ProfileUserPage(
+        List<ProfileUserSummary> users,
+        String nextCursor
+    ) {
+        public boolean hasMore() {
+            return nextCursor != null;
+        }
+    }
 
     record ProfileUserSummary(
         String userId,
@@ -35,7 +88,7 @@ public interface UserQueries {
     ) {}
 
     /**
-     * Count users by status for a profile.
+     * Count users by status for a profile. Statuses with no users are absent.
      */
     Map<String, Integer> countUsersByStatusForProfile(ProfileId profileId);
 
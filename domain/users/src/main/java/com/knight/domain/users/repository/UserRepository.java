@@ -4,8 +4,11 @@ import com.knight.domain.users.aggregate.User;
 import com.knight.platform.sharedkernel.ProfileId;
 import com.knight.platform.sharedkernel.UserId;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for User aggregate persistence.
@@ -60,6 +63,91 @@ public interface UserRepository {
      */
     List<User> findByProfileId(ProfileId profileId);
 
+    // ==================== Directory ====================
+
+    /**
+     * Sort keys for the profile user directory. Every sort is tie-broken on user ID,
+     * so a page boundary is always a unique position.
+     */
+    enum DirectorySort {
+        EMAIL,
+        LAST_NAME,
+        CREATED_AT
+    }
+
+    /**
+     * Position of the last row of a page; the next page starts strictly after it.
+     * The sort value is held as a string (ISO-8601 for timestamps, empty for a missing last name).
+     */
+    record DirectoryKey(String sortValue, UserId userId) {}
+
+    /**
+     * Filters, order and page bounds for a directory search. Empty filters match every user.
+     * The prefix is matched against email, login ID, first name and last name.
+     */
+    record DirectoryQuery(
+        Set<User.Status> statuses,
+        User.Role role,
+        String prefix,
+        DirectorySort sort,
+        boolean descending,
+        DirectoryKey after,
+        int limit
+    ) {
+        public DirectoryQuery {
+            statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+            if (sort == null) {
+                sort = DirectorySort.EMAIL;
+            }
+            if (limit <= 0) {
+                throw new IllegalArgumentException("limit must be positive");
+            }
+        }
+    }
+
+    /**
+     * One directory row, read without loading the User aggregate.
+     */
+    record DirectoryEntry(
+        UserId userId,
+        String loginId,
+        String email,
+        String firstName,
+        String lastName,
+        User.Status status,
+        User.LockType lockType,
+        Set<User.Role> roles,
+        Instant createdAt,
+        Instant lastLoggedInAt
+    ) {
+        public DirectoryKey key(DirectorySort sort) {
+            String value = switch (sort) {
+                case EMAIL -> email;
+                case LAST_NAME -> lastName != null ? lastName : "";
+                case CREATED_AT -> createdAt.toString();
+            };
+            return new DirectoryKey(value, userId);
+        }
+    }
+
+    /**
+     * Returns up to {@code query.limit()} users of a profile in directory order,
+     * starting after {@code query.after()} when set.
+     *
+     * @param profileId the profile identifier
+     * @param query filters, sort and page bounds
+     * @return the matching rows, in order
+     */
+    List<DirectoryEntry> searchDirectory(ProfileId profileId, DirectoryQuery query);
+
+    /**
+     * Counts a profile's users per status. Statuses with no users are absent.
+     *
+     * @param profileId the profile identifier
+     * @return user count by status
+     */
+    Map<User.Status, Long> countByStatus(ProfileId profileId);
+
     /**
      * Checks if a user with the given email exists.
      *
@@ -7,17 +7,26 @@ import com.knight.domain.users.api.events.UserCreated;
 import com.knight.domain.users.api.events.UserEmailChanged;
 import com.knight.domain.users.api.queries.UserQueries;
 import com.knight.domain.users.repository.UserRepository;
+import com.knight.domain.users.repository.UserRepository.DirectoryEntry;
+import com.knight.domain.users.repository.UserRepository.DirectoryKey;
+import com.knight.domain.users.repository.UserRepository.DirectoryQuery;
+import com.knight.domain.users.repository.UserRepository.DirectorySort;
 import com.knight.platform.sharedkernel.ProfileId;
 import com.knight.platform.sharedkernel.UserId;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +36,8 @@ import java.util.stream.Collectors;
 @Service
 public class UserApplicationService implements UserCommands, UserQueries {
 
+    private static final String CURSOR_SEPARATOR = "|";
+
     private final UserRepository repository;
     private final Auth0IdentityService auth0IdentityService;
     private final ApplicationEventPublisher eventPublisher;
@@ -124,6 +135,55 @@ public class UserApplicationService implements UserCommands, UserQueries {
         return new ProvisionResult(result.identityProviderUserId(), result.passwordResetUrl());
     }
 
+    /**
+     * Not transactional: the identity provider call can take minutes for a large import, so each
+     * provisioned user is saved in its own transaction once the call returns.
+     */
+    @Override
+    public ProvisionUsersResult provisionUsers(ProvisionUsersCmd cmd) {
+        Map<String, User> pending = new LinkedHashMap<>();
+        for (UserId userId : cmd.userIds()) {
+            repository.findById(userId)
+                .filter(user -> user.identityProvider() == User.IdentityProvider.AUTH0)
+                .filter(user -> user.status() == User.Status.PENDING_CREATION)
+                .ifPresent(user -> pending.put(user.id().id(), user));
+        }
+        if (pending.isEmpty()) {
+            return new ProvisionUsersResult(List.of(), Map.of());
+        }
+
+        List<Auth0IdentityService.ProvisionUserOutcome> outcomes = auth0IdentityService.provisionUsers(
+            pending.values().stream()
+                .map(user -> new Auth0IdentityService.ProvisionUserRequest(
+                    user.loginId(),
+                    user.email(),
+                    user.firstName(),
+                    user.lastName(),
+                    user.id().id(),
+                    user.profileId().urn()
+                ))
+                .toList()
+        );
+
+        List<UserId> provisioned = new ArrayList<>();
+        Map<UserId, String> failed = new LinkedHashMap<>();
+        for (Auth0IdentityService.ProvisionUserOutcome outcome : outcomes) {
+            User user = pending.get(outcome.request().internalUserId());
+            if (!outcome.succeeded()) {
+                failed.put(user.id(), outcome.failureReason());
+                continue;
+            }
+            try {
+                user.markProvisioned(outcome.result().identityProviderUserId());
+                repository.save(user);
+                provisioned.add(user.id());
+            } catch (RuntimeException e) {
+                failed.put(user.id(), e.getMessage());
+            }
+        }
+        return new ProvisionUsersResult(provisioned, failed);
+    }
+
     @Override
     @Transactional
     public void updateOnboardingStatus(UpdateOnboardingStatusCmd cmd) {
@@ -323,21 +383,48 @@ public class UserApplicationService implements UserCommands, UserQueries {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProfileUserSummary> listUsersByProfile(ProfileId profileId) {
-        return repository.findByProfileId(profileId).stream()
-            .map(this::toProfileUserSummary)
-            .toList();
+    public ProfileUserPage searchUsersByProfile(ProfileId profileId, UserSearch search) {
+        DirectorySort sort = switch (search.sort()) {
+            case EMAIL -> DirectorySort.EMAIL;
+            case NAME -> DirectorySort.LAST_NAME;
+            case CREATED_AT -> DirectorySort.CREATED_AT;
+        };
+        Set<User.Status> statuses = search.statuses().stream()
+            .map(status -> parseEnum(User.Status.class, status, "status"))
+            .collect(Collectors.toSet());
+        User.Role role = search.role() == null || search.role().isBlank()
+            ? null : parseEnum(User.Role.class, search.role(), "role");
+        String prefix = search.query() == null || search.query().isBlank() ? null : search.query().trim();
+
+        // Ask for one extra row to learn whether another page follows
+        List<DirectoryEntry> rows = repository.searchDirectory(profileId, new DirectoryQuery(
+            statuses, role, prefix, sort, search.descending(),
+            decodeCursor(search.cursor(), sort, search.descending()), search.size() + 1
+        ));
+
+        boolean hasMore = rows.size() > search.size();
+        List<DirectoryEntry> page = hasMore ? rows.subList(0, search.size()) : rows;
+        String nextCursor = hasMore
+            ? encodeCursor(page.get(page.size() - 1).key(sort), sort, search.descending())
+            : null;
+
+        return new ProfileUserPage(page.stream().map(this::toProfileUserSummary).toList(), nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileUserSummary getProfileUserSummary(UserId userId) {
+        User user = repository.findById(userId)
+            .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId.id()));
+        return toProfileUserSummary(user);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Map<String, Integer> countUsersByStatusForProfile(ProfileId profileId) {
-        List<User> users = repository.findByProfileId(profileId);
         Map<String, Integer> counts = new HashMap<>();
-        for (User user : users) {
-            String status = user.status().name();
-            counts.merge(status, 1, Integer::sum);
-        }
+        repository.countByStatus(profileId)
+            .forEach((status, count) -> counts.put(status.name(), count.intValue()));
         return counts;
     }
 
@@ -408,6 +495,63 @@ public class UserApplicationService implements UserCommands, UserQueries {
         );
     }
 
+    private ProfileUserSummary toProfileUserSummary(DirectoryEntry entry) {
+        Set<String> roles = entry.roles().stream()
+            .map(Enum::name)
+            .collect(Collectors.toSet());
+
+        return new ProfileUserSummary(
+            entry.userId().id(),
+            entry.loginId(),
+            entry.email(),
+            entry.firstName(),
+            entry.lastName(),
+            entry.status().name(),
+            getStatusDisplayName(entry.status()),
+            entry.lockType().name(),
+            roles,
+            entry.createdAt(),
+            entry.lastLoggedInAt()
+        );
+    }
+
+    /**
+     * Cursors are opaque to callers: the sort they were issued under, then the last row's key.
+     */
+    private String encodeCursor(DirectoryKey key, DirectorySort sort, boolean descending) {
+        String raw = sort.name() + CURSOR_SEPARATOR + (descending ? "D" : "A") + CURSOR_SEPARATOR
+            + key.userId().id() + CURSOR_SEPARATOR + key.sortValue();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private DirectoryKey decodeCursor(String cursor, DirectorySort sort, boolean descending) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(Pattern.quote(CURSOR_SEPARATOR), 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (!parts[0].equals(sort.name()) || !parts[1].equals(descending ? "D" : "A")) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+        return new DirectoryKey(parts[3], UserId.of(parts[2]));
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String field) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + field + ": " + value);
+        }
+    }
+
     private UserDetail toUserDetail(User user) {
         Set<String> roles = user.roles().stream()
             .map(Enum::name)
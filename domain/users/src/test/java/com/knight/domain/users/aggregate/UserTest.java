@@ -1476,6 +1476,101 @@ class UserTest {
         }
     }
 
+    @Nested
+    @DisplayName("Change Tracking Tests")
+    class ChangeTrackingTests {
+
+        @Test
+        @DisplayName("should not be persisted until saved")
+        void shouldNotBePersistedWhenCreated() {
+            User user = createValidUser();
+
+            assertThat(user.persisted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should start a loaded user with no changes")
+        void shouldStartReconstitutedUserClean() {
+            User user = User.reconstitute(
+                UserId.of(UUID.randomUUID().toString()), LOGIN_ID, VALID_EMAIL, FIRST_NAME, LAST_NAME,
+                UserType.CLIENT_USER, IdentityProvider.AUTH0, PROFILE_ID, VALID_ROLES, "auth0|123456",
+                true, true, true, null, null, Status.ACTIVE, LockType.NONE, null, null, null,
+                Instant.now(), CREATED_BY, Instant.now());
+
+            assertThat(user.persisted()).isTrue();
+            assertThat(user.hasChanges()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should record only the fields a lock changes")
+        void shouldRecordLockFields() {
+            User user = createActiveUser();
+            user.markPersisted();
+
+            user.lock(LockType.CLIENT, "admin@example.com");
+
+            assertThat(user.changedFields()).containsExactlyInAnyOrder(
+                User.Field.STATUS, User.Field.LOCK_TYPE, User.Field.LOCKED_BY, User.Field.LOCKED_AT,
+                User.Field.UPDATED_AT);
+            assertThat(user.addedRoles()).isEmpty();
+            assertThat(user.removedRoles()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should not record fields set to their current value")
+        void shouldIgnoreUnchangedValues() {
+            User user = createActiveUser();
+            user.markPersisted();
+
+            user.updateOnboardingStatus(true, true, true);
+
+            assertThat(user.changedFields()).containsExactlyInAnyOrder(
+                User.Field.LAST_SYNCED_AT, User.Field.UPDATED_AT);
+        }
+
+        @Test
+        @DisplayName("should record role deltas, cancelling out a role added then removed")
+        void shouldRecordRoleDeltas() {
+            User user = createActiveUser();
+            user.markPersisted();
+
+            user.addRole(Role.APPROVER);
+            user.removeRole(Role.READER);
+            user.addRole(Role.SECURITY_ADMIN);
+            user.removeRole(Role.SECURITY_ADMIN);
+
+            assertThat(user.addedRoles()).containsExactly(Role.APPROVER);
+            assertThat(user.removedRoles()).containsExactly(Role.READER);
+        }
+
+        @Test
+        @DisplayName("should clear changes once persisted")
+        void shouldClearChangesWhenPersisted() {
+            User user = createActiveUser();
+            user.addRole(Role.APPROVER);
+
+            user.markPersisted();
+
+            assertThat(user.persisted()).isTrue();
+            assertThat(user.hasChanges()).isFalse();
+            assertThat(user.addedRoles()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should record the stored version once persisted")
+        void shouldRecordVersionWhenPersisted() {
+            User user = createActiveUser();
+            assertThat(user.version()).isNull();
+
+            user.lock(LockType.CLIENT, "admin@example.com");
+            user.markPersisted(3);
+
+            assertThat(user.version()).isEqualTo(3);
+            assertThat(user.persisted()).isTrue();
+            assertThat(user.hasChanges()).isFalse();
+        }
+    }
+
     // ==================== Helper Methods ====================
 
     private static User createValidUser() {
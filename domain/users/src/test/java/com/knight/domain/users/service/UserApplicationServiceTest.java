@@ -228,6 +228,65 @@ class UserApplicationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Provision Users Tests")
+    class ProvisionUsersTests {
+
+        @Test
+        @DisplayName("should provision pending AUTH0 users together and record failures")
+        @SuppressWarnings("unchecked")
+        void shouldProvisionPendingUsersTogether() {
+            // given
+            User alice = createPendingUser(IdentityProvider.AUTH0);
+            User bob = createPendingUser(IdentityProvider.AUTH0);
+            User provisioned = createProvisionedUser();
+            User anp = createPendingUser(IdentityProvider.ANP);
+            for (User user : List.of(alice, bob, provisioned, anp)) {
+                when(userRepository.findById(user.id())).thenReturn(Optional.of(user));
+            }
+            when(auth0IdentityService.provisionUsers(anyList())).thenAnswer(invocation -> {
+                List<ProvisionUserRequest> requests = invocation.getArgument(0);
+                return List.of(
+                    new Auth0IdentityService.ProvisionUserOutcome(requests.get(0),
+                        new ProvisionUserResult("auth0|" + requests.get(0).internalUserId(), null, Instant.now()), null),
+                    new Auth0IdentityService.ProvisionUserOutcome(requests.get(1), null, "rate limited"));
+            });
+
+            // when
+            ProvisionUsersResult result = service.provisionUsers(new ProvisionUsersCmd(
+                List.of(alice.id(), bob.id(), provisioned.id(), anp.id())));
+
+            // then
+            ArgumentCaptor<List<ProvisionUserRequest>> requests = ArgumentCaptor.forClass(List.class);
+            verify(auth0IdentityService).provisionUsers(requests.capture());
+            assertThat(requests.getValue()).extracting(ProvisionUserRequest::internalUserId)
+                .containsExactly(alice.id().id(), bob.id().id());
+            assertThat(result.provisioned()).containsExactly(alice.id());
+            assertThat(result.failed()).containsExactly(entry(bob.id(), "rate limited"));
+            assertThat(alice.status()).isEqualTo(Status.PENDING_VERIFICATION);
+            assertThat(alice.identityProviderUserId()).isEqualTo("auth0|" + alice.id().id());
+            assertThat(bob.status()).isEqualTo(Status.PENDING_CREATION);
+            verify(userRepository).save(alice);
+            verify(userRepository, never()).save(bob);
+        }
+
+        @Test
+        @DisplayName("should not call the identity provider when no user is pending")
+        void shouldSkipWhenNothingPending() {
+            // given
+            User provisioned = createProvisionedUser();
+            when(userRepository.findById(provisioned.id())).thenReturn(Optional.of(provisioned));
+
+            // when
+            ProvisionUsersResult result = service.provisionUsers(new ProvisionUsersCmd(List.of(provisioned.id())));
+
+            // then
+            assertThat(result.provisioned()).isEmpty();
+            assertThat(result.failed()).isEmpty();
+            verifyNoInteractions(auth0IdentityService);
+        }
+    }
+
     @Nested
     @DisplayName("Update Onboarding Status Tests")
     class UpdateOnboardingStatusTests {
@@ -624,31 +683,91 @@ class UserApplicationServiceTest {
     class QueryMethodsTests {
 
         @Test
-        @DisplayName("should list users by profile")
-        void shouldListUsersByProfile() {
+        @DisplayName("should return a page and a cursor when more users follow")
+        void shouldReturnPageWithCursor() {
             // given
-            User user1 = createActiveUser();
-            User user2 = createProvisionedUser();
+            UserSearch search = new UserSearch(Set.of("active"), "reader", " jo ", UserSort.EMAIL, false, null, 2);
+            when(userRepository.searchDirectory(eq(PROFILE_ID), any())).thenReturn(List.of(
+                directoryEntry("a@example.com"), directoryEntry("b@example.com"), directoryEntry("c@example.com")
+            ));
 
-            when(userRepository.findByProfileId(PROFILE_ID)).thenReturn(List.of(user1, user2));
+            // when
+            ProfileUserPage page = service.searchUsersByProfile(PROFILE_ID, search);
+
+            // then
+            ArgumentCaptor<UserRepository.DirectoryQuery> query = ArgumentCaptor.forClass(UserRepository.DirectoryQuery.class);
+            verify(userRepository).searchDirectory(eq(PROFILE_ID), query.capture());
+            assertThat(query.getValue().statuses()).containsExactly(Status.ACTIVE);
+            assertThat(query.getValue().role()).isEqualTo(Role.READER);
+            assertThat(query.getValue().prefix()).isEqualTo("jo");
+            assertThat(query.getValue().limit()).isEqualTo(3);
+            assertThat(query.getValue().after()).isNull();
+
+            assertThat(page.users()).extracting(ProfileUserSummary::email)
+                .containsExactly("a@example.com", "b@example.com");
+            assertThat(page.users().get(0).statusDisplayName()).isEqualTo("Active");
+            assertThat(page.hasMore()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should continue after the last row of the previous page")
+        void shouldContinueFromCursor() {
+            // given
+            UserRepository.DirectoryEntry last = directoryEntry("b@example.com");
+            when(userRepository.searchDirectory(eq(PROFILE_ID), any()))
+                .thenReturn(List.of(directoryEntry("a@example.com"), last, directoryEntry("c@example.com")))
+                .thenReturn(List.of(directoryEntry("c@example.com")));
+            String cursor = service.searchUsersByProfile(PROFILE_ID,
+                new UserSearch(null, null, null, UserSort.EMAIL, false, null, 2)).nextCursor();
 
             // when
-            List<ProfileUserSummary> results = service.listUsersByProfile(PROFILE_ID);
+            ProfileUserPage next = service.searchUsersByProfile(PROFILE_ID,
+                new UserSearch(null, null, null, UserSort.EMAIL, false, cursor, 2));
 
             // then
-            assertThat(results).hasSize(2);
-            assertThat(results.get(0).email()).isEqualTo(user1.email());
-            assertThat(results.get(1).email()).isEqualTo(user2.email());
+            ArgumentCaptor<UserRepository.DirectoryQuery> query = ArgumentCaptor.forClass(UserRepository.DirectoryQuery.class);
+            verify(userRepository, times(2)).searchDirectory(eq(PROFILE_ID), query.capture());
+            assertThat(query.getAllValues().get(1).after())
+                .isEqualTo(new UserRepository.DirectoryKey("b@example.com", last.userId()));
+            assertThat(next.users()).hasSize(1);
+            assertThat(next.hasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reject a cursor issued under a different sort")
+        void shouldRejectCursorForOtherSort() {
+            // given
+            when(userRepository.searchDirectory(eq(PROFILE_ID), any()))
+                .thenReturn(List.of(directoryEntry("a@example.com"), directoryEntry("b@example.com")));
+            String cursor = service.searchUsersByProfile(PROFILE_ID,
+                new UserSearch(null, null, null, UserSort.EMAIL, false, null, 1)).nextCursor();
+
+            // when/then
+            assertThatThrownBy(() -> service.searchUsersByProfile(PROFILE_ID,
+                new UserSearch(null, null, null, UserSort.EMAIL, true, cursor, 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("does not match");
+            assertThatThrownBy(() -> service.searchUsersByProfile(PROFILE_ID,
+                new UserSearch(null, null, null, UserSort.EMAIL, false, "not a cursor", 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        }
+
+        @Test
+        @DisplayName("should reject an unknown status filter")
+        void shouldRejectUnknownStatus() {
+            assertThatThrownBy(() -> service.searchUsersByProfile(PROFILE_ID,
+                new UserSearch(Set.of("SLEEPING"), null, null, null, false, null, 10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown status: SLEEPING");
         }
 
         @Test
         @DisplayName("should count users by status for profile")
         void shouldCountUsersByStatusForProfile() {
             // given
-            User activeUser = createActiveUser();
-            User pendingUser = createProvisionedUser();
-
-            when(userRepository.findByProfileId(PROFILE_ID)).thenReturn(List.of(activeUser, pendingUser));
+            when(userRepository.countByStatus(PROFILE_ID))
+                .thenReturn(Map.of(Status.ACTIVE, 1L, Status.PENDING_VERIFICATION, 1L));
 
             // when
             Map<String, Integer> counts = service.countUsersByStatusForProfile(PROFILE_ID);
@@ -657,6 +776,22 @@ class UserApplicationServiceTest {
             assertThat(counts).hasSize(2);
             assertThat(counts.get("ACTIVE")).isEqualTo(1);
             assertThat(counts.get("PENDING_VERIFICATION")).isEqualTo(1);
+            verify(userRepository, never()).findByProfileId(any());
+        }
+
+        @Test
+        @DisplayName("should get the directory row for one user")
+        void shouldGetProfileUserSummary() {
+            // given
+            User user = createActiveUser();
+            when(userRepository.findById(user.id())).thenReturn(Optional.of(user));
+
+            // when
+            ProfileUserSummary summary = service.getProfileUserSummary(user.id());
+
+            // then
+            assertThat(summary.userId()).isEqualTo(user.id().id());
+            assertThat(summary.status()).isEqualTo("ACTIVE");
         }
 
         @Test
@@ -777,6 +912,13 @@ class UserApplicationServiceTest {
         return user;
     }
 
+    private UserRepository.DirectoryEntry directoryEntry(String email) {
+        return new UserRepository.DirectoryEntry(
+            UserId.of(UUID.randomUUID().toString()), email, email, FIRST_NAME, LAST_NAME,
+            Status.ACTIVE, User.LockType.NONE, Set.of(Role.READER), Instant.now(), null
+        );
+    }
+
     private User createActiveUser() {
         User user = createProvisionedUser();
         user.updateOnboardingStatus(true, true, true);
@@ -0,0 +1,5 @@
+import { ax as a, aw as i } from "./copilot/copilot-B2WMxP-w.js";
+export {
+  a as _createChildrenDefinitions,
+  i as _registerImporter
+};
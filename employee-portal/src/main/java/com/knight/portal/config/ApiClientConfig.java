@@ -3,14 +3,20 @@ package com.knight.portal.config;
 import com.knight.portal.security.jwt.GatewayTokenHolder;
 import com.knight.portal.security.jwt.JwtTokenService;
 import com.knight.portal.security.ldap.LdapAuthenticatedUser;
+import com.knight.portalcommon.http.ConditionalRequestCache;
+import com.knight.portalcommon.http.PortalHttpClientProperties;
+import com.knight.portalcommon.http.PortalHttpClients;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
@@ -20,6 +26,7 @@ import reactor.core.publisher.Mono;
 /**
  * Configuration for API clients (RestClient and WebClient) with JWT authentication.
  * Supports both pass-through (gateway) and locally-generated tokens.
+ * Both clients share the pooled, instrumented transport from {@link PortalHttpClients}.
  */
 @Slf4j
 @Configuration
@@ -28,6 +35,15 @@ public class ApiClientConfig {
     @Value("${api.base-url:http://localhost:8080}")
     private String apiBaseUrl;
 
+    @Value("${api.conditional-cache.max-entries:500}")
+    private int conditionalCacheMaxEntries;
+
+    @Value("${api.conditional-cache.max-size:16MB}")
+    private DataSize conditionalCacheMaxSize;
+
+    @Value("${api.conditional-cache.max-entry-size:256KB}")
+    private DataSize conditionalCacheMaxEntrySize;
+
     private final JwtTokenService jwtTokenService;
     private final GatewayTokenHolder gatewayTokenHolder;
 
@@ -37,17 +53,29 @@ public class ApiClientConfig {
     }
 
     @Bean
-    public RestClient apiRestClient() {
-        return RestClient.builder()
-                .baseUrl(apiBaseUrl)
+    @ConfigurationProperties("api.client")
+    public PortalHttpClientProperties apiClientProperties() {
+        return new PortalHttpClientProperties();
+    }
+
+    @Bean
+    public PortalHttpClients portalHttpClients(PortalHttpClientProperties apiClientProperties,
+                                               ObservationRegistry observationRegistry) {
+        return new PortalHttpClients("platform-api", apiBaseUrl, apiClientProperties, observationRegistry);
+    }
+
+    @Bean
+    public RestClient apiRestClient(PortalHttpClients portalHttpClients) {
+        return portalHttpClients.restClient()
                 .requestInterceptor(jwtInterceptor())
+                .requestInterceptor(new ConditionalRequestCache(conditionalCacheMaxEntries, conditionalCacheMaxSize,
+                        conditionalCacheMaxEntrySize))
                 .build();
     }
 
     @Bean
-    public WebClient apiWebClient() {
-        return WebClient.builder()
-                .baseUrl(apiBaseUrl)
+    public WebClient apiWebClient(PortalHttpClients portalHttpClients) {
+        return portalHttpClients.webClient()
                 .filter(jwtExchangeFilter())
                 .build();
     }
@@ -29,52 +29,63 @@ public class IndirectClientService {
     }
 
     /**
-     * Get all indirect clients for a parent client.
+     * Get one page of indirect clients for a parent client, ordered by name.
      */
-    public List<IndirectClientSummary> getByParentClient(String clientId) {
+    public PageResponse<IndirectClientSummary> getByParentClient(String clientId, int page, int size) {
         try {
-            List<Map<String, Object>> response = restClient.get()
-                    .uri("/api/v1/bank/indirect-clients/by-client/{clientId}", clientId)
+            PageResponse<Map<String, Object>> response = restClient.get()
+                    .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/bank/indirect-clients/by-client/{clientId}")
+                        .queryParam("page", page)
+                        .queryParam("size", size)
+                        .build(clientId))
                     .retrieve()
-                    .body(new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+                    .body(new ParameterizedTypeReference<PageResponse<Map<String, Object>>>() {});
 
-            if (response == null) {
-                return Collections.emptyList();
-            }
-
-            return response.stream()
-                    .map(item -> objectMapper.convertValue(item, IndirectClientSummary.class))
-                    .toList();
+            return toSummaryPage(response, size);
         } catch (Exception e) {
             System.err.println("Error fetching indirect clients by parent: " + e.getMessage());
-            return Collections.emptyList();
+            return toSummaryPage(null, size);
         }
     }
 
     /**
-     * Get all indirect clients for a profile.
+     * Get one page of indirect clients for a profile, ordered by name.
      */
-    public List<IndirectClientSummary> getByProfile(String profileId) {
+    public PageResponse<IndirectClientSummary> getByProfile(String profileId, int page, int size) {
         try {
-            List<Map<String, Object>> response = restClient.get()
+            PageResponse<Map<String, Object>> response = restClient.get()
                     .uri(uriBuilder -> uriBuilder
                         .path("/api/v1/bank/indirect-clients/by-profile")
                         .queryParam("parentProfileId", profileId)
+                        .queryParam("page", page)
+                        .queryParam("size", size)
                         .build())
                     .retrieve()
-                    .body(new ParameterizedTypeReference<List<Map<String, Object>>>() {});
-
-            if (response == null) {
-                return Collections.emptyList();
-            }
+                    .body(new ParameterizedTypeReference<PageResponse<Map<String, Object>>>() {});
 
-            return response.stream()
-                    .map(item -> objectMapper.convertValue(item, IndirectClientSummary.class))
-                    .toList();
+            return toSummaryPage(response, size);
         } catch (Exception e) {
             System.err.println("Error fetching indirect clients by profile: " + e.getMessage());
-            return Collections.emptyList();
+            return toSummaryPage(null, size);
+        }
+    }
+
+    private PageResponse<IndirectClientSummary> toSummaryPage(PageResponse<Map<String, Object>> response, int size) {
+        PageResponse<IndirectClientSummary> page = new PageResponse<>();
+        if (response == null || response.getContent() == null) {
+            page.setContent(Collections.emptyList());
+            page.setSize(size);
+            return page;
         }
+        page.setContent(response.getContent().stream()
+                .map(item -> objectMapper.convertValue(item, IndirectClientSummary.class))
+                .toList());
+        page.setTotalElements(response.getTotalElements());
+        page.setPage(response.getPage());
+        page.setSize(response.getSize());
+        page.setTotalPages(response.getTotalPages());
+        return page;
     }
 
     /**
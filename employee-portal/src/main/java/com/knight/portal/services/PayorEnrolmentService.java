@@ -8,9 +8,11 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 
 import java.util.Collections;
 import java.util.List;
@@ -140,6 +142,20 @@ public class PayorEnrolmentService {
         }
     }
 
+    /**
+     * Stream batch progress: the current state first, then one event per processed item.
+     * Completes once the batch has finished. Subscribe from a request thread so the
+     * caller's token is attached.
+     */
+    public Flux<BatchProgressDto> streamBatchProgress(String batchId) {
+        return webClient.get()
+                .uri("/api/v1/bank/batches/{batchId}/progress", batchId)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<BatchProgressDto>>() {})
+                .mapNotNull(ServerSentEvent::data);
+    }
+
     /**
      * List batches for a profile.
      */
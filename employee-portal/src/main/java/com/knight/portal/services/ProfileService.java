@@ -188,6 +188,32 @@ public class ProfileService {
         }
     }
 
+    /**
+     * Get the profile screen in one request: detail, the first page of users (by email) and the
+     * first page of indirect clients.
+     */
+    public ProfileView getProfileView(String profileId, int pageSize) {
+        try {
+            Map<String, Object> response = restClient.get()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/api/v1/bank/profiles/{profileId}/view")
+                            .queryParam("fields", "detail,users,indirectClients")
+                            .queryParam("size", pageSize)
+                            .build(profileId))
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<Map<String, Object>>() {});
+
+            if (response == null) {
+                return null;
+            }
+
+            return objectMapper.convertValue(response, ProfileView.class);
+        } catch (Exception e) {
+            System.err.println("Error fetching profile view: " + e.getMessage());
+            return null;
+        }
+    }
+
     // ==================== Secondary Client Management ====================
 
     /**
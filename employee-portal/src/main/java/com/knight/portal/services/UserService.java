@@ -4,7 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.knight.portal.services.dto.AddUserRequest;
 import com.knight.portal.services.dto.AddUserResponse;
-import com.knight.portal.services.dto.ProfileUser;
+import com.knight.portal.services.dto.ProfileUserPage;
 import com.knight.portal.services.dto.UserDetail;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
@@ -12,9 +12,9 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Service for managing users via REST API.
@@ -32,25 +32,25 @@ public class UserService {
     }
 
     /**
-     * Get all users for a profile.
+     * Get one page of a profile's users. A null cursor gets the first page.
      */
-    public List<ProfileUser> getProfileUsers(String profileId) {
+    public ProfileUserPage getProfileUsers(String profileId, String cursor, int size, String sortBy, String sortDir) {
         try {
-            List<Map<String, Object>> response = restClient.get()
-                    .uri("/api/v1/bank/profiles/{profileId}/users", profileId)
+            ProfileUserPage page = restClient.get()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/api/v1/bank/profiles/{profileId}/users")
+                            .queryParam("size", size)
+                            .queryParam("sortBy", sortBy)
+                            .queryParam("sortDir", sortDir)
+                            .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                            .build(profileId))
                     .retrieve()
-                    .body(new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+                    .body(ProfileUserPage.class);
 
-            if (response == null) {
-                return Collections.emptyList();
-            }
-
-            return response.stream()
-                    .map(item -> objectMapper.convertValue(item, ProfileUser.class))
-                    .toList();
+            return page != null ? page : new ProfileUserPage();
         } catch (Exception e) {
             System.err.println("Error fetching profile users: " + e.getMessage());
-            return Collections.emptyList();
+            return new ProfileUserPage();
         }
     }
 
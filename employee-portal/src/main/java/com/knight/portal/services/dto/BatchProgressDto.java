@@ -0,0 +1,51 @@
+package com.knight.portal.services.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+
+/**
+ * DTO for one batch progress event: current counts plus the items changed since the previous event.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BatchProgressDto {
+    private String batchId;
+    private long sequence;
+    private String status;
+    private String statusDisplayName;
+    private int totalItems;
+    private int successCount;
+    private int failedCount;
+    private int pendingCount;
+    private List<BatchItemDto> changedItems = List.of();
+
+    public String getBatchId() { return batchId; }
+    public void setBatchId(String batchId) { this.batchId = batchId; }
+
+    public long getSequence() { return sequence; }
+    public void setSequence(long sequence) { this.sequence = sequence; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getStatusDisplayName() { return statusDisplayName; }
+    public void setStatusDisplayName(String statusDisplayName) { this.statusDisplayName = statusDisplayName; }
+
+    public int getTotalItems() { return totalItems; }
+    public void setTotalItems(int totalItems) { this.totalItems = totalItems; }
+
+    public int getSuccessCount() { return successCount; }
+    public void setSuccessCount(int successCount) { this.successCount = successCount; }
+
+    public int getFailedCount() { return failedCount; }
+    public void setFailedCount(int failedCount) { this.failedCount = failedCount; }
+
+    public int getPendingCount() { return pendingCount; }
+    public void setPendingCount(int pendingCount) { this.pendingCount = pendingCount; }
+
+    public List<BatchItemDto> getChangedItems() { return changedItems; }
+    public void setChangedItems(List<BatchItemDto> changedItems) { this.changedItems = changedItems; }
+
+    public boolean isFinished() {
+        return "COMPLETED".equals(status) || "COMPLETED_WITH_ERRORS".equals(status) || "FAILED".equals(status);
+    }
+}
@@ -14,7 +14,9 @@ public class IndirectClientSummary {
     private String parentClientId;
     private String clientType;
     private String businessName;
+    private String externalReference;
     private String status;
     private int relatedPersonCount;
+    private int accountCount;
     private Instant createdAt;
 }
@@ -0,0 +1,24 @@
+package com.knight.portal.services.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * One page of a profile's users. Pass nextCursor back to get the next page.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProfileUserPage {
+    private List<ProfileUser> users = List.of();
+    private String nextCursor;
+    private boolean hasMore;
+
+    public List<ProfileUser> getUsers() { return users; }
+    public void setUsers(List<ProfileUser> users) { this.users = users; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
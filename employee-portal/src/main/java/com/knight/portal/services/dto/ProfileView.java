@@ -0,0 +1,22 @@
+package com.knight.portal.services.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * The profile screen's sections, fetched in one request.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProfileView {
+    private ProfileDetail detail;
+    private ProfileUserPage users;
+    private PageResponse<IndirectClientSummary> indirectClients;
+
+    public ProfileDetail getDetail() { return detail; }
+    public void setDetail(ProfileDetail detail) { this.detail = detail; }
+
+    public ProfileUserPage getUsers() { return users; }
+    public void setUsers(ProfileUserPage users) { this.users = users; }
+
+    public PageResponse<IndirectClientSummary> getIndirectClients() { return indirectClients; }
+    public void setIndirectClients(PageResponse<IndirectClientSummary> indirectClients) { this.indirectClients = indirectClients; }
+}
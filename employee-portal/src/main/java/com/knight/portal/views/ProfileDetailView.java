@@ -10,18 +10,22 @@ import com.knight.portal.services.dto.AddSecondaryClientRequest;
 import com.knight.portal.services.dto.AddUserRequest;
 import com.knight.portal.services.dto.AddUserResponse;
 import com.knight.portal.services.dto.ProfileUser;
+import com.knight.portal.services.dto.ProfileUserPage;
 import com.knight.portal.services.dto.EnrollServiceRequest;
 import com.knight.portal.services.dto.EnrollServiceResponse;
 import com.knight.portal.services.dto.IndirectClientSummary;
 import com.knight.portal.services.dto.ClientAccount;
 import com.knight.portal.services.dto.ClientSearchResult;
+import com.knight.portal.services.dto.PageResponse;
 import com.knight.portal.services.dto.PageResult;
 import com.knight.portal.services.dto.ProfileDetail;
+import com.knight.portal.services.dto.ProfileView;
 import com.knight.portal.services.dto.ProfileDetail.ClientEnrollment;
 import com.knight.portal.services.dto.ProfileDetail.ServiceEnrollment;
 import com.knight.portal.services.dto.ProfileDetail.AccountEnrollment;
 import com.knight.portal.views.components.Breadcrumb;
 import com.knight.portal.views.components.Breadcrumb.BreadcrumbItem;
+import com.knight.portalcommon.loading.CursorPagedLoader;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -41,6 +45,9 @@ import com.vaadin.flow.component.select.Select;
 import com.vaadin.flow.component.tabs.TabSheet;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
 import com.vaadin.flow.router.*;
 import jakarta.annotation.security.PermitAll;
 
@@ -53,12 +60,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 @Route(value = "profile", layout = MainLayout.class)
 @PageTitle("Profile Detail")
 @PermitAll
 public class ProfileDetailView extends VerticalLayout implements HasUrlParameter<String>, AfterNavigationObserver {
 
+    private static final int USERS_PAGE_SIZE = 50;
+
     private final ProfileService profileService;
     private final ClientService clientService;
     private final IndirectClientService indirectClientService;
@@ -84,6 +95,7 @@ public class ProfileDetailView extends VerticalLayout implements HasUrlParameter
     private Grid<ServiceEnrollment> servicesGrid;
     private Grid<AccountEnrollment> accountsGrid;
     private Grid<ProfileUser> usersGrid;
+    private final CursorPagedLoader<ProfileUser> usersLoader = new CursorPagedLoader<>(USERS_PAGE_SIZE);
     private Button enrollServiceButton;
     private TabSheet tabSheet;
     private VerticalLayout indirectClientsTab;
@@ -250,8 +262,10 @@ public class ProfileDetailView extends VerticalLayout implements HasUrlParameter
 
         // Users grid
         usersGrid = new Grid<>();
-        usersGrid.addColumn(ProfileUser::getFullName).setHeader("Name").setAutoWidth(true);
-        usersGrid.addColumn(ProfileUser::getEmail).setHeader("Email").setAutoWidth(true);
+        usersGrid.addColumn(ProfileUser::getFullName).setHeader("Name").setAutoWidth(true)
+            .setSortable(true).setSortProperty("name");
+        usersGrid.addColumn(ProfileUser::getEmail).setHeader("Email").setAutoWidth(true)
+            .setSortable(true).setSortProperty("email");
         usersGrid.addColumn(ProfileUser::getStatusDisplayName).setHeader("Status").setAutoWidth(true);
         usersGrid.addColumn(user -> user.getRoles() != null ? String.join(", ", user.getRoles()) : "")
                 .setHeader("Roles").setAutoWidth(true);
@@ -299,17 +313,52 @@ public class ProfileDetailView extends VerticalLayout implements HasUrlParameter
     }
 
     private void loadUsers() {
+        loadUsers(null);
+    }
+
+    /**
+     * Show the profile's users, starting from a first page already fetched with the profile if there is one.
+     */
+    private void loadUsers(ProfileUserPage firstPage) {
         if (profileId == null || usersGrid == null) return;
 
         try {
-            List<ProfileUser> users = userService.getProfileUsers(profileId);
-            usersGrid.setItems(users);
+            if (firstPage != null) {
+                usersLoader.prime(usersQuery("email", "asc"),
+                        new CursorPagedLoader.Page<>(firstPage.getUsers(), firstPage.getNextCursor()));
+            } else {
+                usersLoader.reset();
+            }
+            usersGrid.setItems(this::fetchUsers);
         } catch (Exception e) {
             Notification notification = Notification.show("Error loading users: " + e.getMessage());
             notification.addThemeVariants(NotificationVariant.LUMO_ERROR);
         }
     }
 
+    /**
+     * Lazy loading for the users grid: rows come a page at a time in the grid's sort order.
+     */
+    private Stream<ProfileUser> fetchUsers(Query<ProfileUser, Void> query) {
+        String sortBy = "email";
+        String sortDir = "asc";
+        if (!query.getSortOrders().isEmpty()) {
+            QuerySortOrder order = query.getSortOrders().get(0);
+            sortBy = order.getSorted();
+            sortDir = order.getDirection() == SortDirection.DESCENDING ? "desc" : "asc";
+        }
+        String sortByParam = sortBy;
+        String sortDirParam = sortDir;
+        return usersLoader.fetch(usersQuery(sortBy, sortDir), query.getOffset(), query.getLimit(), (cursor, size) -> {
+            ProfileUserPage page = userService.getProfileUsers(profileId, cursor, size, sortByParam, sortDirParam);
+            return new CursorPagedLoader.Page<>(page.getUsers(), page.getNextCursor());
+        });
+    }
+
+    private static String usersQuery(String sortBy, String sortDir) {
+        return sortBy + " " + sortDir;
+    }
+
     private void navigateToUserDetail(ProfileUser user) {
         String path = "user/" + user.getUserId();
         Map<String, List<String>> params = new HashMap<>();
@@ -541,6 +590,8 @@ public class ProfileDetailView extends VerticalLayout implements HasUrlParameter
                 .setHeader("Status").setAutoWidth(true);
         indirectClientsGrid.addColumn(IndirectClientSummary::getRelatedPersonCount)
                 .setHeader("Contacts").setAutoWidth(true);
+        indirectClientsGrid.addColumn(IndirectClientSummary::getAccountCount)
+                .setHeader("Accounts").setAutoWidth(true);
         indirectClientsGrid.addColumn(ic -> formatInstant(ic.getCreatedAt()))
                 .setHeader("Created At").setAutoWidth(true);
 
@@ -568,6 +619,13 @@ public class ProfileDetailView extends VerticalLayout implements HasUrlParameter
     }
 
     private void loadIndirectClients() {
+        loadIndirectClients(null);
+    }
+
+    /**
+     * Show the profile's indirect clients; a first page fetched with the profile serves the grid's first query.
+     */
+    private void loadIndirectClients(PageResponse<IndirectClientSummary> firstPage) {
         if (profileId == null || indirectClientsGrid == null || profileDetail == null) return;
 
         // Only load indirect clients for bank client profiles with RECEIVABLES service
@@ -583,8 +641,17 @@ public class ProfileDetailView extends VerticalLayout implements HasUrlParameter
         }
 
         try {
-            List<IndirectClientSummary> clients = indirectClientService.getByProfile(profileId);
-            indirectClientsGrid.setItems(clients);
+            AtomicReference<PageResponse<IndirectClientSummary>> prefetched = new AtomicReference<>(firstPage);
+            indirectClientsGrid.setItems(query -> {
+                PageResponse<IndirectClientSummary> first = prefetched.getAndSet(null);
+                if (first != null && first.getContent() != null
+                        && query.getPage() == 0 && query.getPageSize() == first.getSize()) {
+                    return first.getContent().stream();
+                }
+                return indirectClientService
+                        .getByProfile(profileId, query.getPage(), query.getPageSize())
+                        .getContent().stream();
+            });
         } catch (Exception e) {
             Notification notification = Notification.show("Error loading indirect clients: " + e.getMessage());
             notification.addThemeVariants(NotificationVariant.LUMO_ERROR);
@@ -770,7 +837,9 @@ public class ProfileDetailView extends VerticalLayout implements HasUrlParameter
 
     private void loadProfileDetails() {
         try {
-            profileDetail = profileService.getProfileDetail(profileId);
+            // One request for the whole screen rather than one per section
+            ProfileView view = profileService.getProfileView(profileId, USERS_PAGE_SIZE);
+            profileDetail = view != null ? view.getDetail() : null;
 
             if (profileDetail == null) {
                 Notification notification = Notification.show("Profile not found");
@@ -793,10 +862,10 @@ public class ProfileDetailView extends VerticalLayout implements HasUrlParameter
             loadEnrollments();
 
             // Load indirect clients
-            loadIndirectClients();
+            loadIndirectClients(view.getIndirectClients());
 
             // Load users
-            loadUsers();
+            loadUsers(view.getUsers());
 
         } catch (Exception e) {
             Notification notification = Notification.show("Error loading profile details: " + e.getMessage());
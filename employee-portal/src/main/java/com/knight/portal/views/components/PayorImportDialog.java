@@ -2,10 +2,13 @@ package com.knight.portal.views.components;
 
 import com.knight.portal.services.PayorEnrolmentService;
 import com.knight.portal.services.dto.*;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.dataview.GridListDataView;
 import com.vaadin.flow.component.html.Anchor;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H3;
@@ -21,14 +24,12 @@ import com.vaadin.flow.component.progressbar.ProgressBar;
 import com.vaadin.flow.component.upload.Upload;
 import com.vaadin.flow.component.upload.receivers.MemoryBuffer;
 import com.vaadin.flow.server.StreamResource;
+import reactor.core.Disposable;
 
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Dialog for importing payors from a JSON file.
@@ -44,8 +45,7 @@ public class PayorImportDialog extends Dialog {
     private String fileName;
     private ValidationResultDto validationResult;
 
-    private ScheduledExecutorService scheduler;
-    private ScheduledFuture<?> pollFuture;
+    private Disposable progressSubscription;
 
     public PayorImportDialog(PayorEnrolmentService payorEnrolmentService, String profileId, Runnable onImportComplete) {
         this.payorEnrolmentService = payorEnrolmentService;
@@ -279,15 +279,14 @@ public class PayorImportDialog extends Dialog {
         failedGrid.setVisible(false);
 
         Button closeButton = new Button("Close", e -> {
-            stopPolling();
             close();
             if (onImportComplete != null) {
                 onImportComplete.run();
             }
         });
 
-        Button refreshButton = new Button("Refresh", e -> updateProgress(batchId, progressBar, statusLabel,
-                successCount, failedCount, pendingCount, failedGrid, closeButton));
+        Button refreshButton = new Button("Refresh", e -> startProgressStream(batchId, progressBar, statusLabel,
+                successCount, failedCount, pendingCount, failedGrid));
 
         HorizontalLayout buttons = new HorizontalLayout(refreshButton, closeButton);
         buttons.setJustifyContentMode(FlexComponent.JustifyContentMode.END);
@@ -296,8 +295,8 @@ public class PayorImportDialog extends Dialog {
         content.add(title, progressBar, statusLabel, counts, failedGrid, buttons);
         content.setAlignItems(FlexComponent.Alignment.CENTER);
 
-        // Start polling for updates
-        startPolling(batchId, progressBar, statusLabel, successCount, failedCount, pendingCount, failedGrid, closeButton);
+        // Follow progress as the server pushes it
+        startProgressStream(batchId, progressBar, statusLabel, successCount, failedCount, pendingCount, failedGrid);
     }
 
     private Div createCountBox(String label, String value, String color) {
@@ -322,58 +321,49 @@ public class PayorImportDialog extends Dialog {
         return box;
     }
 
-    private void startPolling(String batchId, ProgressBar progressBar, Span statusLabel,
-                              Div successCount, Div failedCount, Div pendingCount,
-                              Grid<BatchItemDto> failedGrid, Button closeButton) {
-        scheduler = Executors.newSingleThreadScheduledExecutor();
-        pollFuture = scheduler.scheduleAtFixedRate(() -> {
-            getUI().ifPresent(ui -> ui.access(() -> {
-                updateProgress(batchId, progressBar, statusLabel, successCount, failedCount, pendingCount, failedGrid, closeButton);
-                ui.push();
-            }));
-        }, 0, 2, TimeUnit.SECONDS);
+    private void startProgressStream(String batchId, ProgressBar progressBar, Span statusLabel,
+                                     Div successCount, Div failedCount, Div pendingCount,
+                                     Grid<BatchItemDto> failedGrid) {
+        stopProgressStream();
+        UI ui = UI.getCurrent();
+        // Each stream starts with the failures so far, so a reconnect rebuilds the grid
+        GridListDataView<BatchItemDto> failedItems = failedGrid.setItems(new ArrayList<>());
+        progressSubscription = payorEnrolmentService.streamBatchProgress(batchId)
+                .subscribe(
+                        progress -> ui.access(() -> applyProgress(progress, progressBar, statusLabel,
+                                successCount, failedCount, pendingCount, failedGrid, failedItems)),
+                        error -> ui.access(() -> statusLabel.setText("Lost connection to import progress - click Refresh")));
     }
 
-    private void stopPolling() {
-        if (pollFuture != null) {
-            pollFuture.cancel(true);
-        }
-        if (scheduler != null) {
-            scheduler.shutdown();
+    private void stopProgressStream() {
+        if (progressSubscription != null) {
+            progressSubscription.dispose();
+            progressSubscription = null;
         }
     }
 
-    private void updateProgress(String batchId, ProgressBar progressBar, Span statusLabel,
-                                Div successCount, Div failedCount, Div pendingCount,
-                                Grid<BatchItemDto> failedGrid, Button closeButton) {
-        try {
-            BatchDetailDto batch = payorEnrolmentService.getBatchDetail(batchId);
-            if (batch == null) return;
-
-            int total = batch.getTotalItems();
-            int processed = batch.getSuccessCount() + batch.getFailedCount();
-            double progress = total > 0 ? (double) processed / total : 0;
-
-            progressBar.setValue(progress);
-            statusLabel.setText(batch.getStatusDisplayName() + " - " + processed + "/" + total);
-
-            updateCountBox(successCount, String.valueOf(batch.getSuccessCount()));
-            updateCountBox(failedCount, String.valueOf(batch.getFailedCount()));
-            updateCountBox(pendingCount, String.valueOf(batch.getPendingCount()));
-
-            // Check if completed
-            String status = batch.getStatus();
-            if ("COMPLETED".equals(status) || "COMPLETED_WITH_ERRORS".equals(status) || "FAILED".equals(status)) {
-                stopPolling();
+    private void applyProgress(BatchProgressDto progress, ProgressBar progressBar, Span statusLabel,
+                               Div successCount, Div failedCount, Div pendingCount,
+                               Grid<BatchItemDto> failedGrid, GridListDataView<BatchItemDto> failedItems) {
+        int total = progress.getTotalItems();
+        int processed = progress.getSuccessCount() + progress.getFailedCount();
+        progressBar.setValue(total > 0 ? (double) processed / total : 0);
+        statusLabel.setText(progress.getStatusDisplayName() + " - " + processed + "/" + total);
+
+        updateCountBox(successCount, String.valueOf(progress.getSuccessCount()));
+        updateCountBox(failedCount, String.valueOf(progress.getFailedCount()));
+        updateCountBox(pendingCount, String.valueOf(progress.getPendingCount()));
+
+        List<BatchItemDto> failed = progress.getChangedItems().stream()
+                .filter(item -> "FAILED".equals(item.getStatus()))
+                .toList();
+        if (!failed.isEmpty()) {
+            failedItems.addItems(failed);
+            failedGrid.setVisible(true);
+        }
 
-                if (batch.getFailedCount() > 0) {
-                    List<BatchItemDto> failed = payorEnrolmentService.getBatchItems(batchId, "FAILED");
-                    failedGrid.setItems(failed);
-                    failedGrid.setVisible(true);
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("Error polling batch status: " + e.getMessage());
+        if (progress.isFinished()) {
+            stopProgressStream();
         }
     }
 
@@ -387,7 +377,13 @@ public class PayorImportDialog extends Dialog {
 
     @Override
     public void close() {
-        stopPolling();
+        stopProgressStream();
         super.close();
     }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        stopProgressStream();
+        super.onDetach(detachEvent);
+    }
 }
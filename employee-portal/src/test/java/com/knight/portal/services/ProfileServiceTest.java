@@ -3,14 +3,20 @@ package com.knight.portal.services;
 import com.knight.portal.services.dto.CreateProfileRequest;
 import com.knight.portal.services.dto.CreateProfileResponse;
 import com.knight.portal.services.dto.ProfileSummary;
+import com.knight.portal.services.dto.ProfileUser;
+import com.knight.portal.services.dto.ProfileView;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClient;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 /**
  * Unit tests for ProfileService.
@@ -54,6 +60,45 @@ class ProfileServiceTest {
         }
     }
 
+    // ==================== Get Profile View ====================
+
+    @Nested
+    @DisplayName("Get Profile View")
+    class GetProfileViewTests {
+
+        @Test
+        @DisplayName("should fetch the screen's sections in one request")
+        void shouldFetchSectionsInOneRequest() {
+            RestClient.Builder builder = RestClient.builder().baseUrl(BASE_URL);
+            MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+            ProfileService service = new ProfileService(builder.build());
+            server.expect(requestTo(BASE_URL + "/api/v1/bank/profiles/servicing%3Asrf%3A123/view?fields=detail,users,indirectClients&size=50"))
+                .andRespond(withSuccess("""
+                    {
+                      "detail": {"profileId": "servicing:srf:123", "name": "Test", "clientEnrollments": []},
+                      "users": {"users": [{"userId": "u1", "email": "a@example.com"}], "nextCursor": "c1", "hasMore": true},
+                      "indirectClients": {"content": [], "totalElements": 0, "page": 0, "size": 50, "totalPages": 0}
+                    }
+                    """, MediaType.APPLICATION_JSON));
+
+            ProfileView view = service.getProfileView("servicing:srf:123", 50);
+
+            server.verify();
+            assertThat(view.getDetail().getProfileId()).isEqualTo("servicing:srf:123");
+            assertThat(view.getUsers().getUsers()).extracting(ProfileUser::getEmail).containsExactly("a@example.com");
+            assertThat(view.getUsers().getNextCursor()).isEqualTo("c1");
+            assertThat(view.getIndirectClients().getSize()).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("should return null on error")
+        void shouldReturnNullOnError() {
+            RestClient restClient = RestClient.builder().baseUrl("http://invalid-host:9999").build();
+
+            assertThat(new ProfileService(restClient).getProfileView("servicing:srf:123", 50)).isNull();
+        }
+    }
+
     // ==================== Create Profile ====================
 
     @Nested
@@ -1,32 +1,58 @@
 package com.knight.indirectportal.config;
 
-import lombok.extern.slf4j.Slf4j;
+import com.knight.portalcommon.http.ConditionalRequestCache;
+import com.knight.portalcommon.http.PortalHttpClientProperties;
+import com.knight.portalcommon.http.PortalHttpClients;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 
 /**
- * Configuration for WebClient to communicate with the Platform API.
+ * Configuration for WebClient to communicate with the Platform API,
+ * on the pooled, instrumented transport from {@link PortalHttpClients}.
  */
 @Configuration
-@Slf4j
 public class ApiClientConfig {
 
     @Value("${api.base-url}")
     private String apiBaseUrl;
 
+    @Value("${api.conditional-cache.max-entries:500}")
+    private int conditionalCacheMaxEntries;
+
+    @Value("${api.conditional-cache.max-size:16MB}")
+    private DataSize conditionalCacheMaxSize;
+
+    @Value("${api.conditional-cache.max-entry-size:256KB}")
+    private DataSize conditionalCacheMaxEntrySize;
+
     @Bean
-    public WebClient apiWebClient() {
-        return WebClient.builder()
-                .baseUrl(apiBaseUrl)
+    @ConfigurationProperties("api.client")
+    public PortalHttpClientProperties apiClientProperties() {
+        return new PortalHttpClientProperties();
+    }
+
+    @Bean
+    public PortalHttpClients portalHttpClients(PortalHttpClientProperties apiClientProperties,
+                                               ObservationRegistry observationRegistry) {
+        return new PortalHttpClients("platform-api", apiBaseUrl, apiClientProperties, observationRegistry);
+    }
+
+    @Bean
+    public WebClient apiWebClient(PortalHttpClients portalHttpClients) {
+        return portalHttpClients.webClient()
                 .filter(addAuthTokenFilter())
-                .filter(logRequest())
+                .filter(new ConditionalRequestCache(conditionalCacheMaxEntries, conditionalCacheMaxSize,
+                        conditionalCacheMaxEntrySize))
                 .build();
     }
 
@@ -46,14 +72,4 @@ public class ApiClientConfig {
             return next.exchange(request);
         };
     }
-
-    /**
-     * Filter to log outgoing API requests.
-     */
-    private ExchangeFilterFunction logRequest() {
-        return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
-            log.debug("API Request: {} {}", clientRequest.method(), clientRequest.url());
-            return reactor.core.publisher.Mono.just(clientRequest);
-        });
-    }
 }
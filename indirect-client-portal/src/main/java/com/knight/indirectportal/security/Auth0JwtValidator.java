@@ -7,22 +7,30 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
+import com.knight.portalcommon.security.JwtValidationCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.net.URL;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Validates Auth0 JWT tokens using JWKS.
+ * Verified tokens are cached until they expire, so repeat requests skip signature verification.
  */
 @Component
 @Slf4j
 public class Auth0JwtValidator {
 
+    private static final int MAX_CACHE_SIZE = 16_384;
+    private static final Duration MAX_CACHE_TTL = Duration.ofHours(1);
+
     private final JwtProperties jwtProperties;
     private final JwkProvider jwkProvider;
+    private final JwtValidationCache<DecodedJWT> tokenCache =
+            new JwtValidationCache<>(MAX_CACHE_SIZE, MAX_CACHE_TTL, DecodedJWT::getExpiresAtAsInstant);
 
     public Auth0JwtValidator(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
@@ -44,6 +52,10 @@ public class Auth0JwtValidator {
      * @throws Exception if validation fails
      */
     public DecodedJWT validateToken(String token) throws Exception {
+        return tokenCache.getOrValidate(token, this::verify);
+    }
+
+    private DecodedJWT verify(String token) throws Exception {
         DecodedJWT jwt = JWT.decode(token);
 
         // Get the public key from JWKS
@@ -45,6 +45,13 @@ public class AccountGroupService {
      * Get group details by ID.
      */
     public AccountGroupDetail getGroupById(String groupId) {
+        return getGroupByIdAsync(groupId).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getGroupById}, for loading alongside other calls.
+     */
+    public Mono<AccountGroupDetail> getGroupByIdAsync(String groupId) {
         return apiWebClient.get()
                 .uri("/account-groups/{groupId}", groupId)
                 .retrieve()
@@ -52,8 +59,7 @@ public class AccountGroupService {
                 .onErrorResume(e -> {
                     log.error("Failed to fetch account group detail for {}", groupId, e);
                     return Mono.empty();
-                })
-                .block();
+                });
     }
 
     /**
@@ -25,6 +25,13 @@ public class IndirectClientService {
      * Get the current indirect client's details.
      */
     public IndirectClientDetail getMyClientDetails() {
+        return getMyClientDetailsAsync().block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getMyClientDetails}, for loading alongside other calls.
+     */
+    public Mono<IndirectClientDetail> getMyClientDetailsAsync() {
         return apiWebClient.get()
                 .uri("/me")
                 .retrieve()
@@ -32,14 +39,20 @@ public class IndirectClientService {
                 .onErrorResume(e -> {
                     log.error("Failed to fetch client details", e);
                     return Mono.empty();
-                })
-                .block();
+                });
     }
 
     /**
      * Get OFI accounts for the current indirect client (payor).
      */
     public List<OfiAccountDto> getMyAccounts() {
+        return getMyAccountsAsync().block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getMyAccounts}, for loading alongside other calls.
+     */
+    public Mono<List<OfiAccountDto>> getMyAccountsAsync() {
         return apiWebClient.get()
                 .uri("/accounts")
                 .retrieve()
@@ -47,8 +60,7 @@ public class IndirectClientService {
                 .onErrorResume(e -> {
                     log.error("Failed to fetch accounts", e);
                     return Mono.just(List.of());
-                })
-                .block();
+                });
     }
 
     /**
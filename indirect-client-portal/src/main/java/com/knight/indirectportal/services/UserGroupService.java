@@ -45,6 +45,13 @@ public class UserGroupService {
      * Get group details by ID.
      */
     public UserGroupDetail getGroupById(String groupId) {
+        return getGroupByIdAsync(groupId).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getGroupById}, for loading alongside other calls.
+     */
+    public Mono<UserGroupDetail> getGroupByIdAsync(String groupId) {
         return apiWebClient.get()
                 .uri("/groups/{groupId}", groupId)
                 .retrieve()
@@ -52,8 +59,7 @@ public class UserGroupService {
                 .onErrorResume(e -> {
                     log.error("Failed to fetch group detail for {}", groupId, e);
                     return Mono.empty();
-                })
-                .block();
+                });
     }
 
     /**
@@ -2,9 +2,10 @@ package com.knight.indirectportal.services;
 
 import com.knight.indirectportal.services.dto.CreateUserRequest;
 import com.knight.indirectportal.services.dto.UserDetail;
+import com.knight.indirectportal.services.dto.UserFilter;
+import com.knight.indirectportal.services.dto.UserPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -12,6 +13,7 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service for user operations via Platform API.
@@ -24,25 +26,74 @@ public class UserService {
 
     private final WebClient apiWebClient;
 
+    /**
+     * Largest page the API serves; used when walking every user.
+     */
+    private static final int MAX_PAGE_SIZE = 200;
+
     /**
      * Get all users for the current indirect client (payor).
      */
     public List<UserDetail> getUsers() {
-        return apiWebClient.get()
-                .uri("/users")
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<UserDetail>>() {})
+        return getUsersAsync().block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getUsers}, for loading alongside other calls.
+     * Follows the cursor through every page.
+     */
+    public Mono<List<UserDetail>> getUsersAsync() {
+        return getUsersPageAsync(UserFilter.NONE, null, MAX_PAGE_SIZE)
+                .expand(page -> page.getNextCursor() != null
+                        ? getUsersPageAsync(UserFilter.NONE, page.getNextCursor(), MAX_PAGE_SIZE)
+                        : Mono.empty())
+                .concatMapIterable(UserPage::getUsers)
+                .collectList()
                 .onErrorResume(e -> {
                     log.error("Failed to fetch users", e);
                     return Mono.just(List.of());
+                });
+    }
+
+    /**
+     * Get one page of users matching the filter, starting after the given cursor (null for the first page).
+     */
+    public UserPage getUsersPage(UserFilter filter, String cursor, int size) {
+        return getUsersPageAsync(filter, cursor, size)
+                .onErrorResume(e -> {
+                    log.error("Failed to fetch users", e);
+                    return Mono.just(new UserPage());
                 })
                 .block();
     }
 
+    private Mono<UserPage> getUsersPageAsync(UserFilter filter, String cursor, int size) {
+        return apiWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/users")
+                        .queryParamIfPresent("q", Optional.ofNullable(filter.search()))
+                        .queryParamIfPresent("status", Optional.ofNullable(filter.status()))
+                        .queryParamIfPresent("role", Optional.ofNullable(filter.role()))
+                        .queryParamIfPresent("sortBy", Optional.ofNullable(filter.sortBy()))
+                        .queryParamIfPresent("sortDir", Optional.ofNullable(filter.sortDir()))
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .queryParam("size", size)
+                        .build())
+                .retrieve()
+                .bodyToMono(UserPage.class);
+    }
+
     /**
      * Get details for a specific user.
      */
     public UserDetail getUser(String userId) {
+        return getUserAsync(userId).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getUser}, for loading alongside other calls.
+     */
+    public Mono<UserDetail> getUserAsync(String userId) {
         return apiWebClient.get()
                 .uri("/users/{userId}", userId)
                 .retrieve()
@@ -50,8 +101,7 @@ public class UserService {
                 .onErrorResume(e -> {
                     log.error("Failed to fetch user detail", e);
                     return Mono.empty();
-                })
-                .block();
+                });
     }
 
     /**
@@ -0,0 +1,20 @@
+package com.knight.indirectportal.services.dto;
+
+/**
+ * Filters and sort for listing users. Null fields are left out of the request.
+ *
+ * @param search  prefix of email, login ID, first or last name
+ * @param status  user status, e.g. ACTIVE
+ * @param role    role name, e.g. READER
+ * @param sortBy  email, name or createdAt
+ * @param sortDir asc or desc
+ */
+public record UserFilter(
+    String search,
+    String status,
+    String role,
+    String sortBy,
+    String sortDir
+) {
+    public static final UserFilter NONE = new UserFilter(null, null, null, null, null);
+}
@@ -0,0 +1,19 @@
+package com.knight.indirectportal.services.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the payor's users. Pass nextCursor back to get the next page.
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserPage {
+    private List<UserDetail> users = List.of();
+    private String nextCursor;
+    private boolean hasMore;
+}
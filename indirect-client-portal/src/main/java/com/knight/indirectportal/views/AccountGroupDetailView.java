@@ -5,6 +5,8 @@ import com.knight.indirectportal.services.IndirectClientService;
 import com.knight.indirectportal.services.dto.AccountGroupDetail;
 import com.knight.indirectportal.services.dto.OfiAccountDto;
 import com.knight.indirectportal.views.components.Breadcrumb;
+import com.knight.portalcommon.loading.ViewLoadTimeoutException;
+import com.knight.portalcommon.loading.ViewLoader;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.checkbox.Checkbox;
@@ -26,6 +28,7 @@ import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.router.*;
 import jakarta.annotation.security.PermitAll;
+import reactor.core.publisher.Mono;
 
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -38,7 +41,9 @@ public class AccountGroupDetailView extends VerticalLayout implements BeforeEnte
 
     private final AccountGroupService accountGroupService;
     private final IndirectClientService indirectClientService;
+    private final ViewLoader loader = new ViewLoader();
     private AccountGroupDetail group;
+    private List<OfiAccountDto> allAccounts = List.of();
     private String groupId;
 
     private VerticalLayout contentArea;
@@ -54,6 +59,9 @@ public class AccountGroupDetailView extends VerticalLayout implements BeforeEnte
         setSizeFull();
         setPadding(true);
         setSpacing(true);
+
+        // Drop any load still in flight once the view leaves the UI
+        addDetachListener(event -> loader.cancel());
     }
 
     @Override
@@ -64,7 +72,14 @@ public class AccountGroupDetailView extends VerticalLayout implements BeforeEnte
             return;
         }
 
-        loadGroup();
+        try {
+            loadGroup();
+        } catch (ViewLoadTimeoutException e) {
+            Notification.show("Group took too long to load, please try again", 5000, Notification.Position.TOP_CENTER)
+                .addThemeVariants(NotificationVariant.LUMO_ERROR);
+            event.forwardTo(AccountGroupsView.class);
+            return;
+        }
         if (group == null) {
             Notification.show("Group not found", 3000, Notification.Position.TOP_CENTER)
                 .addThemeVariants(NotificationVariant.LUMO_ERROR);
@@ -80,9 +95,19 @@ public class AccountGroupDetailView extends VerticalLayout implements BeforeEnte
         return group != null ? group.getName() + " - Group Details" : "Group Details";
     }
 
+    /**
+     * Load the group and the OFI accounts it references concurrently, within the view's budget.
+     */
     private void loadGroup() {
         try {
-            group = accountGroupService.getGroupById(groupId);
+            var loaded = loader.await(Mono.zip(
+                accountGroupService.getGroupByIdAsync(groupId),
+                indirectClientService.getMyAccountsAsync()
+            ));
+            group = loaded != null ? loaded.getT1() : null;
+            allAccounts = loaded != null ? loaded.getT2() : List.of();
+        } catch (ViewLoadTimeoutException e) {
+            throw e;
         } catch (Exception e) {
             group = null;
         }
@@ -233,10 +258,9 @@ public class AccountGroupDetailView extends VerticalLayout implements BeforeEnte
             return removeBtn;
         }).setHeader("").setAutoWidth(true).setFlexGrow(0);
 
-        // Load account details
+        // Join account details from the accounts loaded with the group
         List<AccountWithDetail> accountsWithDetails = new ArrayList<>();
         if (group.getAccountIds() != null) {
-            List<OfiAccountDto> allAccounts = indirectClientService.getMyAccounts();
             Map<String, OfiAccountDto> accountMap = allAccounts.stream()
                 .collect(Collectors.toMap(OfiAccountDto::getAccountId, a -> a));
 
@@ -400,8 +424,7 @@ public class AccountGroupDetailView extends VerticalLayout implements BeforeEnte
         dialog.setWidth("600px");
         dialog.setHeight("500px");
 
-        // Get all accounts and filter out existing members
-        List<OfiAccountDto> allAccounts = indirectClientService.getMyAccounts();
+        // Filter out existing members from the accounts loaded with the group
         Set<String> existingAccountIds = group.getAccountIds() != null ? group.getAccountIds() : Set.of();
 
         List<OfiAccountDto> availableAccounts = allAccounts.stream()
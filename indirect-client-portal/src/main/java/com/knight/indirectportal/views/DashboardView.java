@@ -3,6 +3,10 @@ package com.knight.indirectportal.views;
 import com.knight.indirectportal.security.AuthenticatedUser;
 import com.knight.indirectportal.services.IndirectClientService;
 import com.knight.indirectportal.services.dto.IndirectClientDetail;
+import com.knight.portalcommon.loading.ViewLoader;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H2;
 import com.vaadin.flow.component.html.H3;
@@ -23,7 +27,13 @@ import static com.knight.indirectportal.views.components.Breadcrumb.BreadcrumbIt
 @PermitAll
 public class DashboardView extends VerticalLayout implements AfterNavigationObserver {
 
+    private final IndirectClientService indirectClientService;
+    private final ViewLoader loader = new ViewLoader();
+    private final Div clientInfoSlot = new Div();
+
     public DashboardView(AuthenticatedUser authenticatedUser, IndirectClientService indirectClientService) {
+        this.indirectClientService = indirectClientService;
+
         setSizeFull();
         setPadding(true);
         setSpacing(true);
@@ -35,19 +45,40 @@ public class DashboardView extends VerticalLayout implements AfterNavigationObse
         welcome.getStyle().set("margin-bottom", "var(--lumo-space-l)");
         add(welcome);
 
-        // Try to load client info
-        try {
-            IndirectClientDetail clientInfo = indirectClientService.getMyClientDetails();
-            if (clientInfo != null) {
-                add(createClientInfoCard(clientInfo));
-            } else {
-                add(createErrorCard("Unable to load client information at this time."));
-            }
-        } catch (Exception e) {
-            add(createErrorCard("Unable to load client information: " + e.getMessage()));
+        // Client info is pushed in once loaded, so the dashboard renders without waiting for the API
+        Span loading = new Span("Loading client information...");
+        loading.getStyle().set("color", "var(--lumo-secondary-text-color)");
+        clientInfoSlot.add(loading);
+        add(clientInfoSlot);
+    }
+
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        UI ui = attachEvent.getUI();
+        loader.subscribe(indirectClientService.getMyClientDetailsAsync(),
+            clientInfo -> ui.access(() -> showClientInfo(clientInfo)),
+            error -> ui.access(() -> showClientInfoError(error)));
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        loader.cancel();
+    }
+
+    private void showClientInfo(IndirectClientDetail clientInfo) {
+        clientInfoSlot.removeAll();
+        if (clientInfo != null) {
+            clientInfoSlot.add(createClientInfoCard(clientInfo));
+        } else {
+            clientInfoSlot.add(createErrorCard("Unable to load client information at this time."));
         }
     }
 
+    private void showClientInfoError(Throwable error) {
+        clientInfoSlot.removeAll();
+        clientInfoSlot.add(createErrorCard("Unable to load client information: " + error.getMessage()));
+    }
+
     private Div createClientInfoCard(IndirectClientDetail client) {
         Div card = new Div();
         card.getStyle()
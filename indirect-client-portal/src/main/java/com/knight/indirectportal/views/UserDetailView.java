@@ -3,6 +3,8 @@ package com.knight.indirectportal.views;
 import com.knight.indirectportal.services.UserService;
 import com.knight.indirectportal.services.dto.UserDetail;
 import com.knight.indirectportal.views.components.Breadcrumb;
+import com.knight.portalcommon.loading.ViewLoadTimeoutException;
+import com.knight.portalcommon.loading.ViewLoader;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.confirmdialog.ConfirmDialog;
@@ -28,6 +30,7 @@ import java.util.List;
 public class UserDetailView extends VerticalLayout implements BeforeEnterObserver, HasDynamicTitle {
 
     private final UserService userService;
+    private final ViewLoader loader = new ViewLoader();
     private UserDetail user;
     private String userId;
 
@@ -53,6 +56,9 @@ public class UserDetailView extends VerticalLayout implements BeforeEnterObserve
         setSizeFull();
         setPadding(true);
         setSpacing(true);
+
+        // Drop any load still in flight once the view leaves the UI
+        addDetachListener(event -> loader.cancel());
     }
 
     @Override
@@ -63,7 +69,14 @@ public class UserDetailView extends VerticalLayout implements BeforeEnterObserve
             return;
         }
 
-        loadUser();
+        try {
+            loadUser();
+        } catch (ViewLoadTimeoutException e) {
+            Notification.show("User took too long to load, please try again", 5000, Notification.Position.TOP_CENTER)
+                .addThemeVariants(NotificationVariant.LUMO_ERROR);
+            event.forwardTo(UsersView.class);
+            return;
+        }
         if (user == null) {
             Notification.show("User not found", 3000, Notification.Position.TOP_CENTER)
                 .addThemeVariants(NotificationVariant.LUMO_ERROR);
@@ -81,7 +94,9 @@ public class UserDetailView extends VerticalLayout implements BeforeEnterObserve
 
     private void loadUser() {
         try {
-            user = userService.getUserById(userId);
+            user = loader.await(userService.getUserAsync(userId));
+        } catch (ViewLoadTimeoutException e) {
+            throw e;
         } catch (Exception e) {
             user = null;
         }
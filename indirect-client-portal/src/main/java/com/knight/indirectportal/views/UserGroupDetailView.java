@@ -6,6 +6,8 @@ import com.knight.indirectportal.services.dto.UserDetail;
 import com.knight.indirectportal.services.dto.UserGroupDetail;
 import com.knight.indirectportal.services.dto.UserGroupDetail.UserGroupMember;
 import com.knight.indirectportal.views.components.Breadcrumb;
+import com.knight.portalcommon.loading.ViewLoadTimeoutException;
+import com.knight.portalcommon.loading.ViewLoader;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.checkbox.Checkbox;
@@ -27,6 +29,7 @@ import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.router.*;
 import jakarta.annotation.security.PermitAll;
+import reactor.core.publisher.Mono;
 
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -39,7 +42,9 @@ public class UserGroupDetailView extends VerticalLayout implements BeforeEnterOb
 
     private final UserGroupService userGroupService;
     private final UserService userService;
+    private final ViewLoader loader = new ViewLoader();
     private UserGroupDetail group;
+    private List<UserDetail> allUsers = List.of();
     private String groupId;
 
     private VerticalLayout contentArea;
@@ -55,6 +60,9 @@ public class UserGroupDetailView extends VerticalLayout implements BeforeEnterOb
         setSizeFull();
         setPadding(true);
         setSpacing(true);
+
+        // Drop any load still in flight once the view leaves the UI
+        addDetachListener(event -> loader.cancel());
     }
 
     @Override
@@ -65,7 +73,14 @@ public class UserGroupDetailView extends VerticalLayout implements BeforeEnterOb
             return;
         }
 
-        loadGroup();
+        try {
+            loadGroup();
+        } catch (ViewLoadTimeoutException e) {
+            Notification.show("Group took too long to load, please try again", 5000, Notification.Position.TOP_CENTER)
+                .addThemeVariants(NotificationVariant.LUMO_ERROR);
+            event.forwardTo(UserGroupsView.class);
+            return;
+        }
         if (group == null) {
             Notification.show("Group not found", 3000, Notification.Position.TOP_CENTER)
                 .addThemeVariants(NotificationVariant.LUMO_ERROR);
@@ -81,9 +96,19 @@ public class UserGroupDetailView extends VerticalLayout implements BeforeEnterOb
         return group != null ? group.getName() + " - Group Details" : "Group Details";
     }
 
+    /**
+     * Load the group and the users it references concurrently, within the view's budget.
+     */
     private void loadGroup() {
         try {
-            group = userGroupService.getGroupById(groupId);
+            var loaded = loader.await(Mono.zip(
+                userGroupService.getGroupByIdAsync(groupId),
+                userService.getUsersAsync()
+            ));
+            group = loaded != null ? loaded.getT1() : null;
+            allUsers = loaded != null ? loaded.getT2() : List.of();
+        } catch (ViewLoadTimeoutException e) {
+            throw e;
         } catch (Exception e) {
             group = null;
         }
@@ -238,10 +263,9 @@ public class UserGroupDetailView extends VerticalLayout implements BeforeEnterOb
             return removeBtn;
         }).setHeader("").setAutoWidth(true).setFlexGrow(0);
 
-        // Load member details
+        // Join member details from the users loaded with the group
         List<MemberWithDetail> membersWithDetails = new ArrayList<>();
         if (group.getMembers() != null) {
-            List<UserDetail> allUsers = userService.getUsers();
             Map<String, UserDetail> userMap = allUsers.stream()
                 .collect(Collectors.toMap(UserDetail::getUserId, u -> u));
 
@@ -405,8 +429,7 @@ public class UserGroupDetailView extends VerticalLayout implements BeforeEnterOb
         dialog.setWidth("600px");
         dialog.setHeight("500px");
 
-        // Get all users and filter out existing members
-        List<UserDetail> allUsers = userService.getUsers();
+        // Filter out existing members from the users loaded with the group
         Set<String> existingMemberIds = group.getMembers() != null
             ? group.getMembers().stream().map(UserGroupMember::getUserId).collect(Collectors.toSet())
             : Set.of();
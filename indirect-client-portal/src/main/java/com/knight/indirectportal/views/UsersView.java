@@ -2,6 +2,9 @@ package com.knight.indirectportal.views;
 
 import com.knight.indirectportal.services.UserService;
 import com.knight.indirectportal.services.dto.UserDetail;
+import com.knight.indirectportal.services.dto.UserFilter;
+import com.knight.indirectportal.services.dto.UserPage;
+import com.knight.portalcommon.loading.CursorPagedLoader;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.confirmdialog.ConfirmDialog;
@@ -21,7 +24,9 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.select.Select;
 import com.vaadin.flow.component.textfield.TextField;
-import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
 import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.AfterNavigationEvent;
 import com.vaadin.flow.router.AfterNavigationObserver;
@@ -37,8 +42,7 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Route(value = "users", layout = MainLayout.class)
 @PageTitle("Users")
@@ -51,8 +55,7 @@ public class UsersView extends VerticalLayout implements AfterNavigationObserver
     private Select<String> statusFilter;
     private Select<String> roleFilter;
 
-    private List<UserDetail> allUsers = new ArrayList<>();
-    private ListDataProvider<UserDetail> dataProvider;
+    private final CursorPagedLoader<UserDetail> usersLoader = new CursorPagedLoader<>(USERS_PAGE_SIZE);
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter
             .ofPattern("yyyy-MM-dd HH:mm")
@@ -60,6 +63,16 @@ public class UsersView extends VerticalLayout implements AfterNavigationObserver
 
     private static final String ALL_STATUSES = "All Statuses";
     private static final String ALL_ROLES = "All Roles";
+    private static final int USERS_PAGE_SIZE = 50;
+
+    // Roles a user can hold (must match User.Role enum)
+    private static final List<String> ROLES = List.of(
+        "SECURITY_ADMIN",
+        "SERVICE_ADMIN",
+        "READER",
+        "CREATOR",
+        "APPROVER"
+    );
 
     public UsersView(UserService userService) {
         this.userService = userService;
@@ -130,7 +143,10 @@ public class UsersView extends VerticalLayout implements AfterNavigationObserver
         // Role filter
         roleFilter = new Select<>();
         roleFilter.setLabel("Role");
-        roleFilter.setItems(ALL_ROLES);
+        List<String> roleOptions = new ArrayList<>();
+        roleOptions.add(ALL_ROLES);
+        roleOptions.addAll(ROLES);
+        roleFilter.setItems(roleOptions);
         roleFilter.setValue(ALL_ROLES);
         roleFilter.addValueChangeListener(e -> applyFilters());
 
@@ -152,52 +168,35 @@ public class UsersView extends VerticalLayout implements AfterNavigationObserver
         // Email column
         grid.addColumn(UserDetail::getEmail)
                 .setHeader("Email")
-                .setSortable(true)
+                .setSortProperty("email")
                 .setAutoWidth(true)
                 .setFlexGrow(1);
 
         // Name column
         grid.addColumn(UserDetail::getName)
                 .setHeader("Name")
-                .setSortable(true)
+                .setSortProperty("name")
                 .setAutoWidth(true);
 
         // Login ID column
         grid.addColumn(UserDetail::getLoginId)
                 .setHeader("Login ID")
-                .setSortable(true)
                 .setAutoWidth(true);
 
         // Status column with badge
         grid.addComponentColumn(this::createStatusBadge)
                 .setHeader("Status")
-                .setSortable(true)
-                .setAutoWidth(true)
-                .setComparator((u1, u2) -> {
-                    String s1 = u1.getStatus() != null ? u1.getStatus() : "";
-                    String s2 = u2.getStatus() != null ? u2.getStatus() : "";
-                    return s1.compareTo(s2);
-                });
+                .setAutoWidth(true);
 
         // Lock Type column
         grid.addColumn(this::formatLockType)
                 .setHeader("Lock Type")
-                .setSortable(true)
                 .setAutoWidth(true);
 
         // Last Login column
         grid.addColumn(u -> formatInstant(u.getLastLogin()))
                 .setHeader("Last Login")
-                .setSortable(true)
-                .setAutoWidth(true)
-                .setComparator((u1, u2) -> {
-                    Instant i1 = u1.getLastLogin();
-                    Instant i2 = u2.getLastLogin();
-                    if (i1 == null && i2 == null) return 0;
-                    if (i1 == null) return 1;
-                    if (i2 == null) return -1;
-                    return i1.compareTo(i2);
-                });
+                .setAutoWidth(true);
 
         // Roles column
         grid.addComponentColumn(this::createRolesBadge)
@@ -225,74 +224,50 @@ public class UsersView extends VerticalLayout implements AfterNavigationObserver
     }
 
     private void loadUsers() {
-        try {
-            allUsers = userService.getUsers();
-            dataProvider = new ListDataProvider<>(allUsers);
-            grid.setDataProvider(dataProvider);
-            updateRoleFilterOptions();
-        } catch (Exception e) {
-            Notification.show("Error loading users: " + e.getMessage(), 5000, Notification.Position.TOP_CENTER)
-                    .addThemeVariants(NotificationVariant.LUMO_ERROR);
-        }
+        usersLoader.reset();
+        grid.setItems(this::fetchUsers);
     }
 
-    private void updateRoleFilterOptions() {
-        Set<String> allRoles = allUsers.stream()
-                .filter(u -> u.getRoles() != null)
-                .flatMap(u -> u.getRoles().stream())
-                .collect(Collectors.toSet());
-
-        List<String> roleOptions = new ArrayList<>();
-        roleOptions.add(ALL_ROLES);
-        roleOptions.addAll(allRoles.stream().sorted().toList());
-
-        roleFilter.setItems(roleOptions);
-        roleFilter.setValue(ALL_ROLES);
+    /**
+     * Serves the grid from the server a page at a time; filtering and sorting happen in the query.
+     */
+    private Stream<UserDetail> fetchUsers(Query<UserDetail, Void> query) {
+        UserFilter filter = currentFilter(query);
+        return usersLoader.fetch(filter, query.getOffset(), query.getLimit(), (cursor, size) -> {
+            UserPage page = userService.getUsersPage(filter, cursor, size);
+            return new CursorPagedLoader.Page<>(page.getUsers(), page.getNextCursor());
+        });
     }
 
-    private void applyFilters() {
-        dataProvider.clearFilters();
+    private UserFilter currentFilter(Query<UserDetail, Void> query) {
+        String sortBy = "email";
+        String sortDir = "asc";
+        if (!query.getSortOrders().isEmpty()) {
+            QuerySortOrder order = query.getSortOrders().get(0);
+            sortBy = order.getSorted();
+            sortDir = order.getDirection() == SortDirection.DESCENDING ? "desc" : "asc";
+        }
 
         String searchText = searchField.getValue();
-        String statusValue = statusFilter.getValue();
-        String roleValue = roleFilter.getValue();
+        String search = searchText != null && !searchText.isBlank() ? searchText.trim() : null;
 
-        dataProvider.addFilter(user -> {
-            // Search filter
-            if (searchText != null && !searchText.isBlank()) {
-                String lowerSearch = searchText.toLowerCase();
-                boolean matchesEmail = user.getEmail() != null && user.getEmail().toLowerCase().contains(lowerSearch);
-                boolean matchesName = user.getName() != null && user.getName().toLowerCase().contains(lowerSearch);
-                boolean matchesLoginId = user.getLoginId() != null && user.getLoginId().toLowerCase().contains(lowerSearch);
-                if (!matchesEmail && !matchesName && !matchesLoginId) {
-                    return false;
-                }
-            }
+        String statusValue = statusFilter.getValue();
+        String status = statusValue == null ? null : switch (statusValue) {
+            case "Active" -> "ACTIVE";
+            case "Pending" -> "PENDING_VERIFICATION";
+            case "Locked" -> "LOCKED";
+            case "Deactivated" -> "DEACTIVATED";
+            default -> null;
+        };
 
-            // Status filter
-            if (statusValue != null && !ALL_STATUSES.equals(statusValue)) {
-                String userStatus = user.getStatus();
-                boolean matchesStatus = switch (statusValue) {
-                    case "Active" -> "ACTIVE".equals(userStatus);
-                    case "Pending" -> "PENDING_VERIFICATION".equals(userStatus);
-                    case "Locked" -> "LOCKED".equals(userStatus);
-                    case "Deactivated" -> "DEACTIVATED".equals(userStatus);
-                    default -> true;
-                };
-                if (!matchesStatus) {
-                    return false;
-                }
-            }
+        String roleValue = roleFilter.getValue();
+        String role = roleValue != null && !ALL_ROLES.equals(roleValue) ? roleValue : null;
 
-            // Role filter
-            if (roleValue != null && !ALL_ROLES.equals(roleValue)) {
-                if (user.getRoles() == null || !user.getRoles().contains(roleValue)) {
-                    return false;
-                }
-            }
+        return new UserFilter(search, status, role, sortBy, sortDir);
+    }
 
-            return true;
-        });
+    private void applyFilters() {
+        grid.getDataProvider().refreshAll();
     }
 
     private void clearFilters() {
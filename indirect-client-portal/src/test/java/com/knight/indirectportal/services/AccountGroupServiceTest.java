@@ -128,6 +128,24 @@ class AccountGroupServiceTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    void getGroupByIdAsync_completesEmptyOnErrorWithoutBlocking() {
+        // Given
+        String groupId = "non-existent";
+
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        doReturn(requestHeadersSpec).when(requestHeadersUriSpec).uri("/account-groups/{groupId}", groupId);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        doReturn(Mono.error(new RuntimeException("Not found")))
+            .when(responseSpec).bodyToMono(AccountGroupDetail.class);
+
+        // When
+        Mono<AccountGroupDetail> result = accountGroupService.getGroupByIdAsync(groupId);
+
+        // Then - an empty group empties a zipped view load, which the view treats as not found
+        assertThat(Mono.zip(result, Mono.just(List.of())).blockOptional()).isEmpty();
+    }
+
     @Test
     void createGroup_createsAndReturnsGroup() {
         // Given
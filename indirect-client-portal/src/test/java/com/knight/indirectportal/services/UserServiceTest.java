@@ -2,6 +2,8 @@ package com.knight.indirectportal.services;
 
 import com.knight.indirectportal.services.dto.CreateUserRequest;
 import com.knight.indirectportal.services.dto.UserDetail;
+import com.knight.indirectportal.services.dto.UserFilter;
+import com.knight.indirectportal.services.dto.UserPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +18,7 @@ import reactor.core.publisher.Mono;
 import java.time.Instant;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -52,15 +55,15 @@ class UserServiceTest {
     @Test
     void getUsers_returnsListOfUsers() {
         // Given
-        List<UserDetail> expectedUsers = List.of(
+        UserPage page = userPage(null,
             createUserDetail("user-1", "john@example.com", "John", "Doe"),
             createUserDetail("user-2", "jane@example.com", "Jane", "Doe")
         );
 
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        doReturn(requestHeadersSpec).when(requestHeadersUriSpec).uri("/users");
+        doReturn(requestHeadersSpec).when(requestHeadersUriSpec).uri(any(Function.class));
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        doReturn(Mono.just(expectedUsers)).when(responseSpec).bodyToMono(any(ParameterizedTypeReference.class));
+        when(responseSpec.bodyToMono(UserPage.class)).thenReturn(Mono.just(page));
 
         // When
         List<UserDetail> result = userService.getUsers();
@@ -71,14 +74,32 @@ class UserServiceTest {
         assertThat(result.get(1).getEmail()).isEqualTo("jane@example.com");
     }
 
+    @Test
+    void getUsers_followsCursorThroughEveryPage() {
+        // Given
+        UserPage first = userPage("cursor-1", createUserDetail("user-1", "john@example.com", "John", "Doe"));
+        UserPage second = userPage(null, createUserDetail("user-2", "jane@example.com", "Jane", "Doe"));
+
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        doReturn(requestHeadersSpec).when(requestHeadersUriSpec).uri(any(Function.class));
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(UserPage.class)).thenReturn(Mono.just(first), Mono.just(second));
+
+        // When
+        List<UserDetail> result = userService.getUsers();
+
+        // Then
+        assertThat(result).extracting(UserDetail::getUserId).containsExactly("user-1", "user-2");
+        verify(webClient, times(2)).get();
+    }
+
     @Test
     void getUsers_returnsEmptyListOnError() {
         // Given
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        doReturn(requestHeadersSpec).when(requestHeadersUriSpec).uri("/users");
+        doReturn(requestHeadersSpec).when(requestHeadersUriSpec).uri(any(Function.class));
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        doReturn(Mono.error(new RuntimeException("Connection error")))
-            .when(responseSpec).bodyToMono(any(ParameterizedTypeReference.class));
+        when(responseSpec.bodyToMono(UserPage.class)).thenReturn(Mono.error(new RuntimeException("Connection error")));
 
         // When
         List<UserDetail> result = userService.getUsers();
@@ -87,6 +108,39 @@ class UserServiceTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void getUsersAsync_emitsEmptyListOnErrorSoZippedLoadsStillComplete() {
+        // Given
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        doReturn(requestHeadersSpec).when(requestHeadersUriSpec).uri(any(Function.class));
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(UserPage.class)).thenReturn(Mono.error(new RuntimeException("Connection error")));
+
+        // When
+        var result = Mono.zip(Mono.just("group"), userService.getUsersAsync()).block();
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getT1()).isEqualTo("group");
+        assertThat(result.getT2()).isEmpty();
+    }
+
+    @Test
+    void getUsersPage_returnsEmptyPageOnError() {
+        // Given
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        doReturn(requestHeadersSpec).when(requestHeadersUriSpec).uri(any(Function.class));
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(UserPage.class)).thenReturn(Mono.error(new RuntimeException("Connection error")));
+
+        // When
+        UserPage result = userService.getUsersPage(UserFilter.NONE, null, 50);
+
+        // Then
+        assertThat(result.getUsers()).isEmpty();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
     @Test
     void getUser_returnsUserDetail() {
         // Given
@@ -330,4 +384,12 @@ class UserServiceTest {
         user.setCreatedAt(Instant.now());
         return user;
     }
+
+    private UserPage userPage(String nextCursor, UserDetail... users) {
+        UserPage page = new UserPage();
+        page.setUsers(List.of(users));
+        page.setNextCursor(nextCursor);
+        page.setHasMore(nextCursor != null);
+        return page;
+    }
 }
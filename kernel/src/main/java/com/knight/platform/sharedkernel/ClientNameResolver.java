@@ -1,5 +1,8 @@
 package com.knight.platform.sharedkernel;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -27,4 +30,19 @@ public interface ClientNameResolver {
     default String resolveNameOrDefault(ClientId clientId, String defaultName) {
         return resolveName(clientId).orElse(defaultName);
     }
+
+    /**
+     * Resolve the names of several clients at once. Implementations should look them up in
+     * bulk rather than one client at a time.
+     *
+     * @param clientIds the client identifiers
+     * @return the names of the clients found, by client identifier
+     */
+    default Map<ClientId, String> resolveNames(Collection<ClientId> clientIds) {
+        Map<ClientId, String> names = new LinkedHashMap<>();
+        for (ClientId clientId : clientIds) {
+            resolveName(clientId).ifPresent(name -> names.put(clientId, name));
+        }
+        return names;
+    }
 }
@@ -0,0 +1,220 @@
+package com.knight.portalcommon.http;
+
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small conditional-request cache for API GETs, as a RestClient interceptor or a WebClient filter.
+ *
+ * Responses carrying an ETag are kept per user and URL. The next GET of the same URL sends
+ * If-None-Match, and a 304 from the API is answered with the kept body, so repeat views
+ * transfer no payload. Bodies larger than the entry limit are passed through and not kept;
+ * the least recently used entries are dropped beyond the entry count or the total size.
+ */
+public class ConditionalRequestCache implements ClientHttpRequestInterceptor, ExchangeFilterFunction {
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private long bytes;
+
+    public ConditionalRequestCache(int maxEntries, DataSize maxSize, DataSize maxEntrySize) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxSize.toBytes();
+        this.maxEntryBytes = Math.min(maxEntrySize.toBytes(), maxBytes);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String key = cacheKey(request.getMethod(), request.getURI());
+        if (key == null) {
+            return execution.execute(request, body);
+        }
+
+        Entry cached = get(key);
+        if (cached != null) {
+            request.getHeaders().setIfNoneMatch(cached.etag());
+        }
+        ClientHttpResponse response = execution.execute(request, body);
+
+        if (cached != null && response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+            response.close();
+            return cached.toResponse();
+        }
+        String etag = response.getHeaders().getETag();
+        if (etag == null || !response.getStatusCode().is2xxSuccessful() || tooLarge(response.getHeaders())) {
+            remove(key);
+            return response;
+        }
+
+        Entry entry;
+        try (response) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(response.getHeaders());
+            entry = new Entry(etag, response.getStatusCode(), headers, StreamUtils.copyToByteArray(response.getBody()));
+        }
+        put(key, entry);
+        return entry.toResponse();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String key = cacheKey(request.method(), request.url());
+        if (key == null) {
+            return next.exchange(request);
+        }
+
+        Entry cached = get(key);
+        ClientRequest conditional = cached == null ? request : ClientRequest.from(request)
+                .headers(headers -> headers.setIfNoneMatch(cached.etag()))
+                .build();
+
+        return next.exchange(conditional).flatMap(response -> {
+            if (cached != null && response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                return Mono.just(cached.toResponse(response));
+            }
+            HttpHeaders live = response.headers().asHttpHeaders();
+            String etag = live.getETag();
+            if (etag == null || !response.statusCode().is2xxSuccessful() || tooLarge(live)) {
+                remove(key);
+                return Mono.just(response);
+            }
+            return response.bodyToMono(byte[].class)
+                    .defaultIfEmpty(new byte[0])
+                    .map(body -> {
+                        HttpHeaders headers = new HttpHeaders();
+                        headers.putAll(live);
+                        Entry entry = new Entry(etag, response.statusCode(), headers, body);
+                        put(key, entry);
+                        return entry.toResponse(response);
+                    });
+        });
+    }
+
+    /**
+     * Only GETs on behalf of an authenticated user are cached; responses are per user.
+     */
+    private static String cacheKey(HttpMethod method, URI uri) {
+        if (method != HttpMethod.GET) {
+            return null;
+        }
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth.getName() == null) {
+            return null;
+        }
+        return auth.getName() + " " + uri;
+    }
+
+    private boolean tooLarge(HttpHeaders headers) {
+        return headers.getContentLength() > maxEntryBytes;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long bytes() {
+        return bytes;
+    }
+
+    private synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Keep an entry, unless its body is over the entry limit (the length was not known up front),
+     * then drop least recently used entries until both bounds hold.
+     */
+    private synchronized void put(String key, Entry entry) {
+        remove(key);
+        if (entry.body().length > maxEntryBytes) {
+            return;
+        }
+        entries.put(key, entry);
+        bytes += entry.body().length;
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries || bytes > maxBytes) {
+            bytes -= eldest.next().body().length;
+            eldest.remove();
+        }
+    }
+
+    private synchronized void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.body().length;
+        }
+    }
+
+    private record Entry(String etag, HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+        ClientHttpResponse toResponse() {
+            return new ClientHttpResponse() {
+                @Override
+                public HttpStatusCode getStatusCode() {
+                    return status;
+                }
+
+                @Override
+                public String getStatusText() {
+                    return status instanceof HttpStatus known ? known.getReasonPhrase() : "";
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return headers;
+                }
+
+                @Override
+                public InputStream getBody() {
+                    return new ByteArrayInputStream(body);
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+
+        /**
+         * The kept response, built on the live one so it shares its codecs; the live body is discarded.
+         */
+        ClientResponse toResponse(ClientResponse live) {
+            return live.mutate()
+                    .statusCode(status)
+                    .headers(current -> {
+                        current.clear();
+                        current.putAll(headers);
+                    })
+                    .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.knight.portalcommon.http;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Connection pool, timeout and protocol settings for a portal's Platform API clients.
+ *
+ * Portals bind it under {@code api.client}. A zero timeout or budget means no limit, which
+ * long-lived streams (server-sent events) need on their own route.
+ */
+public class PortalHttpClientProperties {
+
+    /**
+     * Time allowed to open a TCP connection.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Longest silence between reads once a request is sent, unless a route says otherwise.
+     */
+    private Duration responseTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Longest wait for response headers, pool acquisition included, unless a route says otherwise.
+     * Blocking (RestClient) requests apply it to each wait rather than to their sum.
+     */
+    private Duration budget = Duration.ofSeconds(15);
+
+    /**
+     * Offer HTTP/2 (h2 over TLS, h2c in clear text), falling back to HTTP/1.1.
+     */
+    private boolean http2 = false;
+
+    private final Pool pool = new Pool();
+
+    /**
+     * Per-route overrides; the first route whose pattern matches the request path wins.
+     */
+    private List<Route> routes = new ArrayList<>();
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getResponseTimeout() {
+        return responseTimeout;
+    }
+
+    public void setResponseTimeout(Duration responseTimeout) {
+        this.responseTimeout = responseTimeout;
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    public void setBudget(Duration budget) {
+        this.budget = budget;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+
+    public Pool getPool() {
+        return pool;
+    }
+
+    public List<Route> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<Route> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * Bounds of the shared connection pool. Callers beyond {@code maxConnections} queue, and
+     * those beyond {@code pendingAcquireMaxCount} or waiting longer than
+     * {@code pendingAcquireTimeout} fail fast instead of piling up.
+     */
+    public static class Pool {
+
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 200;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInBackground = Duration.ofSeconds(30);
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public Duration getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public Duration getMaxLifeTime() {
+            return maxLifeTime;
+        }
+
+        public void setMaxLifeTime(Duration maxLifeTime) {
+            this.maxLifeTime = maxLifeTime;
+        }
+
+        public Duration getEvictInBackground() {
+            return evictInBackground;
+        }
+
+        public void setEvictInBackground(Duration evictInBackground) {
+            this.evictInBackground = evictInBackground;
+        }
+    }
+
+    /**
+     * Timeouts for requests whose path matches {@code pattern}, a Spring path pattern such as
+     * {@code /api/v1/bank/batches/*}{@code /progress}. Unset values fall back to the defaults.
+     */
+    public static class Route {
+
+        private String pattern;
+        private Duration responseTimeout;
+        private Duration budget;
+
+        public Route() {
+        }
+
+        public Route(String pattern, Duration responseTimeout, Duration budget) {
+            this.pattern = pattern;
+            this.responseTimeout = responseTimeout;
+            this.budget = budget;
+        }
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public Duration getResponseTimeout() {
+            return responseTimeout;
+        }
+
+        public void setResponseTimeout(Duration responseTimeout) {
+            this.responseTimeout = responseTimeout;
+        }
+
+        public Duration getBudget() {
+            return budget;
+        }
+
+        public void setBudget(Duration budget) {
+            this.budget = budget;
+        }
+    }
+}
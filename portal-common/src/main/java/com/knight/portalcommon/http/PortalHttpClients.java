@@ -0,0 +1,156 @@
+package com.knight.portalcommon.http;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Platform API clients for a portal, all on one bounded Reactor Netty connection pool.
+ *
+ * <ul>
+ *   <li>Pooled, kept-alive connections with connect, response and per-route budget timeouts
+ *       from {@link PortalHttpClientProperties}; optional HTTP/2.</li>
+ *   <li>Every request is observed as {@code http.client.requests}, tagged by URI template,
+ *       method, status and outcome; the pool publishes its own
+ *       {@code reactor.netty.connection.provider.*} gauges.</li>
+ *   <li>Responses may be gzipped, and JSON bodies are negotiated as Smile, the API's compact
+ *       binary JSON, unless the caller chose a media type.</li>
+ * </ul>
+ *
+ * The returned builders are fresh each time, so a portal adds its own authentication and
+ * caching filters on top. Closing disposes the pool.
+ */
+public final class PortalHttpClients implements AutoCloseable {
+
+    public static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private final String baseUrl;
+    private final String basePath;
+    private final ConnectionProvider connectionProvider;
+    private final HttpClient httpClient;
+    private final RouteTimeouts routes;
+    private final ObservationRegistry observationRegistry;
+
+    public PortalHttpClients(String name, String baseUrl, PortalHttpClientProperties properties,
+                             ObservationRegistry observationRegistry) {
+        this.baseUrl = baseUrl;
+        String path = URI.create(baseUrl).getRawPath();
+        this.basePath = path == null || path.equals("/") ? "" : path.replaceAll("/+$", "");
+        this.connectionProvider = connectionProvider(name, properties.getPool());
+        this.httpClient = httpClient(connectionProvider, baseUrl, properties);
+        this.routes = new RouteTimeouts(properties);
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * A RestClient builder for the API: pooled transport, route timeouts, metrics and Smile.
+     */
+    public RestClient.Builder restClient() {
+        return RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(new RoutedRequestFactory(httpClient, routes))
+                .observationRegistry(observationRegistry)
+                .observationConvention(new UriTemplateConventions.Blocking(basePath))
+                .requestInterceptor(acceptSmileInterceptor())
+                .messageConverters(PortalHttpClients::preferSmile);
+    }
+
+    /**
+     * A WebClient builder for the API: pooled transport, route timeouts, metrics and Smile.
+     */
+    public WebClient.Builder webClient() {
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .observationRegistry(observationRegistry)
+                .observationConvention(new UriTemplateConventions.Reactive(basePath))
+                .filter(new RouteTimeoutFilter(routes))
+                .filter(acceptSmile());
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.dispose();
+    }
+
+    private static ConnectionProvider connectionProvider(String name, PortalHttpClientProperties.Pool pool) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .metrics(true)
+                .build();
+    }
+
+    private static HttpClient httpClient(ConnectionProvider provider, String baseUrl, PortalHttpClientProperties properties) {
+        HttpClient client = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .compress(true);
+        if (!properties.isHttp2()) {
+            return client;
+        }
+        return baseUrl.startsWith("https:")
+                ? client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure()
+                : client.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+    }
+
+    /**
+     * Put the Smile converter just ahead of JSON: RestClient then decodes Smile responses and sends
+     * object bodies as Smile, while String, byte[] and form bodies keep their own converters.
+     */
+    static void preferSmile(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(MappingJackson2SmileHttpMessageConverter.class::isInstance);
+        int json = 0;
+        while (json < converters.size() && !(converters.get(json) instanceof MappingJackson2HttpMessageConverter)) {
+            json++;
+        }
+        converters.add(json, new MappingJackson2SmileHttpMessageConverter());
+    }
+
+    /**
+     * Interceptor for RestClient that asks for Smile ahead of JSON unless the caller chose a media type.
+     */
+    static ClientHttpRequestInterceptor acceptSmileInterceptor() {
+        return (request, body, execution) -> {
+            if (request.getHeaders().getAccept().isEmpty()) {
+                request.getHeaders().setAccept(List.of(SMILE, MediaType.APPLICATION_JSON));
+            }
+            return execution.execute(request, body);
+        };
+    }
+
+    /**
+     * Filter for WebClient that asks for Smile ahead of JSON unless the caller chose a media type.
+     */
+    static ExchangeFilterFunction acceptSmile() {
+        return ExchangeFilterFunction.ofRequestProcessor(request -> {
+            if (!request.headers().getAccept().isEmpty()) {
+                return Mono.just(request);
+            }
+            return Mono.just(ClientRequest.from(request)
+                    .headers(headers -> headers.setAccept(List.of(SMILE, MediaType.APPLICATION_JSON)))
+                    .build());
+        });
+    }
+}
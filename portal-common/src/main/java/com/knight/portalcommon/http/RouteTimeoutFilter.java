@@ -0,0 +1,41 @@
+package com.knight.portalcommon.http;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * WebClient filter that applies each route's timeouts. The response timeout is set on the
+ * Reactor Netty request; an exceeded budget fails like any other I/O error, with a
+ * {@link WebClientRequestException}.
+ */
+final class RouteTimeoutFilter implements ExchangeFilterFunction {
+
+    private final RouteTimeouts routes;
+
+    RouteTimeoutFilter(RouteTimeouts routes) {
+        this.routes = routes;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        RouteTimeouts.Timeouts timeouts = routes.forUri(request.url());
+        ClientRequest timed = timeouts.responseTimeout() == null ? request : ClientRequest.from(request)
+                .httpRequest(http -> http.<HttpClientRequest>getNativeRequest().responseTimeout(timeouts.responseTimeout()))
+                .build();
+
+        Mono<ClientResponse> response = next.exchange(timed);
+        if (timeouts.budget() == null) {
+            return response;
+        }
+        return response.timeout(timeouts.budget(), Mono.error(() -> new WebClientRequestException(
+                new TimeoutException("No response within " + timeouts.budget().toMillis() + "ms"),
+                request.method(), request.url(), request.headers())));
+    }
+}
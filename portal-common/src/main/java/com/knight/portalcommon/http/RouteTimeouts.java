@@ -0,0 +1,59 @@
+package com.knight.portalcommon.http;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves the timeouts that apply to a request from its path.
+ */
+final class RouteTimeouts {
+
+    /**
+     * Effective limits for one request; {@code null} means no limit.
+     */
+    record Timeouts(Duration responseTimeout, Duration budget) {
+
+        static Timeouts of(Duration responseTimeout, Duration budget) {
+            return new Timeouts(limit(responseTimeout), limit(budget));
+        }
+
+        private static Duration limit(Duration duration) {
+            return duration == null || duration.isZero() || duration.isNegative() ? null : duration;
+        }
+    }
+
+    private record Route(PathPattern pattern, Timeouts timeouts) {}
+
+    private final List<Route> routes = new ArrayList<>();
+    private final Timeouts defaults;
+
+    RouteTimeouts(PortalHttpClientProperties properties) {
+        this.defaults = Timeouts.of(properties.getResponseTimeout(), properties.getBudget());
+        for (PortalHttpClientProperties.Route route : properties.getRoutes()) {
+            routes.add(new Route(
+                    PathPatternParser.defaultInstance.parse(route.getPattern()),
+                    Timeouts.of(
+                            route.getResponseTimeout() != null ? route.getResponseTimeout() : properties.getResponseTimeout(),
+                            route.getBudget() != null ? route.getBudget() : properties.getBudget())));
+        }
+    }
+
+    Timeouts forUri(URI uri) {
+        if (routes.isEmpty() || uri.getRawPath() == null) {
+            return defaults;
+        }
+        PathContainer path = PathContainer.parsePath(uri.getRawPath());
+        for (Route route : routes) {
+            if (route.pattern().matches(path)) {
+                return route.timeouts();
+            }
+        }
+        return defaults;
+    }
+}
@@ -0,0 +1,50 @@
+package com.knight.portalcommon.http;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RestClient request factory over the shared Reactor Netty client that applies each route's
+ * timeouts. One delegate is kept per distinct pair of timeouts; all share the connection pool.
+ *
+ * A blocking exchange has no overall deadline of its own, so the budget caps each wait instead:
+ * pool acquisition and connecting have their own limits on the client, and the wait for the
+ * response is cut off at the response timeout or the budget, whichever is shorter.
+ */
+final class RoutedRequestFactory implements ClientHttpRequestFactory {
+
+    private final HttpClient httpClient;
+    private final RouteTimeouts routes;
+    private final Map<RouteTimeouts.Timeouts, ClientHttpRequestFactory> factories = new ConcurrentHashMap<>();
+
+    RoutedRequestFactory(HttpClient httpClient, RouteTimeouts routes) {
+        this.httpClient = httpClient;
+        this.routes = routes;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return factories.computeIfAbsent(routes.forUri(uri), this::factory).createRequest(uri, httpMethod);
+    }
+
+    private ClientHttpRequestFactory factory(RouteTimeouts.Timeouts timeouts) {
+        ReactorClientHttpRequestFactory factory = new ReactorClientHttpRequestFactory(httpClient);
+        Duration readTimeout = timeouts.responseTimeout();
+        if (timeouts.budget() != null && (readTimeout == null || timeouts.budget().compareTo(readTimeout) < 0)) {
+            readTimeout = timeouts.budget();
+        }
+        if (readTimeout != null) {
+            factory.setReadTimeout(readTimeout);
+        }
+        return factory;
+    }
+}
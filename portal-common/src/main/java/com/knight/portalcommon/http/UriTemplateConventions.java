@@ -0,0 +1,88 @@
+package com.knight.portalcommon.http;
+
+import io.micrometer.common.KeyValue;
+
+import java.net.URI;
+import java.util.regex.Pattern;
+
+/**
+ * {@code http.client.requests} observation conventions whose {@code uri} tag is always a
+ * bounded URI template.
+ *
+ * Spring's defaults tag a request with the template string it was built from, base URL and
+ * query included, and with {@code none} when it was built by a URI builder function. Here tags
+ * are relative to the base URL without the query, and builder-made requests are tagged with
+ * their path, identifier segments (anything other than lowercase words and version segments)
+ * replaced by {@code {id}}.
+ */
+final class UriTemplateConventions {
+
+    private static final Pattern SCHEME_AND_AUTHORITY = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.-]*://[^/]*");
+    private static final Pattern LITERAL_SEGMENT = Pattern.compile("[a-z][a-z-]*|v\\d+");
+
+    private UriTemplateConventions() {
+    }
+
+    static String uriTag(String uriTemplate, URI uri, String basePath) {
+        if (uriTemplate != null) {
+            String path = SCHEME_AND_AUTHORITY.matcher(uriTemplate).replaceFirst("");
+            int query = path.indexOf('?');
+            return orRoot(relative(query < 0 ? path : path.substring(0, query), basePath));
+        }
+        if (uri == null || uri.getRawPath() == null) {
+            return "none";
+        }
+        String path = relative(uri.getRawPath(), basePath);
+        StringBuilder template = new StringBuilder();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                template.append('/').append(LITERAL_SEGMENT.matcher(segment).matches() ? segment : "{id}");
+            }
+        }
+        return orRoot(template.toString());
+    }
+
+    private static String relative(String path, String basePath) {
+        return !basePath.isEmpty() && path.startsWith(basePath) ? path.substring(basePath.length()) : path;
+    }
+
+    private static String orRoot(String path) {
+        return path.isEmpty() ? "/" : path;
+    }
+
+    /**
+     * Convention for RestClient.
+     */
+    static final class Blocking extends org.springframework.http.client.observation.DefaultClientRequestObservationConvention {
+
+        private final String basePath;
+
+        Blocking(String basePath) {
+            this.basePath = basePath;
+        }
+
+        @Override
+        protected KeyValue uri(org.springframework.http.client.observation.ClientRequestObservationContext context) {
+            URI uri = context.getCarrier() != null ? context.getCarrier().getURI() : null;
+            return KeyValue.of("uri", uriTag(context.getUriTemplate(), uri, basePath));
+        }
+    }
+
+    /**
+     * Convention for WebClient.
+     */
+    static final class Reactive extends org.springframework.web.reactive.function.client.DefaultClientRequestObservationConvention {
+
+        private final String basePath;
+
+        Reactive(String basePath) {
+            this.basePath = basePath;
+        }
+
+        @Override
+        protected KeyValue uri(org.springframework.web.reactive.function.client.ClientRequestObservationContext context) {
+            URI uri = context.getRequest() != null ? context.getRequest().url() : null;
+            return KeyValue.of("uri", uriTag(context.getUriTemplate(), uri, basePath));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.knight.portalcommon.loading;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Serves a Grid's offset/limit lazy loading from a cursor-paged endpoint.
+ *
+ * Pages are fetched in order and kept, so scrolling back never calls the API again and
+ * scrolling ahead fetches only the pages in between. Loaded rows are dropped whenever the
+ * query (filters and sort) differs from the one they were loaded for.
+ */
+public class CursorPagedLoader<T> {
+
+    /**
+     * One page from the API; a null cursor means there is nothing after it.
+     */
+    public record Page<T>(List<T> items, String nextCursor) {}
+
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+        Page<T> fetch(String cursor, int size);
+    }
+
+    private final int pageSize;
+    private final List<T> loaded = new ArrayList<>();
+    private Object loadedFor;
+    private String nextCursor;
+    private boolean complete;
+
+    public CursorPagedLoader(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Rows {@code offset} to {@code offset + limit} for the given query, fetching pages as needed.
+     */
+    public Stream<T> fetch(Object query, int offset, int limit, PageFetcher<T> fetcher) {
+        if (!Objects.equals(query, loadedFor)) {
+            reset();
+            loadedFor = query;
+        }
+        while (loaded.size() < offset + limit && !complete) {
+            Page<T> page = fetcher.fetch(nextCursor, pageSize);
+            loaded.addAll(page.items());
+            nextCursor = page.nextCursor();
+            complete = nextCursor == null || page.items().isEmpty();
+        }
+        int from = Math.min(offset, loaded.size());
+        int to = Math.min(offset + limit, loaded.size());
+        return new ArrayList<>(loaded.subList(from, to)).stream();
+    }
+
+    /**
+     * Start from a first page fetched elsewhere, e.g. together with the rest of the screen.
+     */
+    public void prime(Object query, Page<T> first) {
+        reset();
+        loadedFor = query;
+        loaded.addAll(first.items());
+        nextCursor = first.nextCursor();
+        complete = nextCursor == null || first.items().isEmpty();
+    }
+
+    /**
+     * Forget loaded rows, e.g. after a change that may move or remove rows.
+     */
+    public void reset() {
+        loaded.clear();
+        loadedFor = null;
+        nextCursor = null;
+        complete = false;
+    }
+}
@@ -0,0 +1,20 @@
+package com.knight.portalcommon.loading;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a view's data does not load within its budget.
+ */
+public class ViewLoadTimeoutException extends RuntimeException {
+
+    private final Duration budget;
+
+    public ViewLoadTimeoutException(Duration budget) {
+        super("View data did not load within " + budget.toMillis() + " ms");
+        this.budget = budget;
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+}
@@ -0,0 +1,127 @@
+package com.knight.portalcommon.loading;
+
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Loads the data behind a portal view within a single time budget.
+ *
+ * <ul>
+ *   <li>Views compose their independent API calls into one {@link Mono} (typically with
+ *       {@link Mono#zip}), so the calls run concurrently and the view waits for the slowest
+ *       call rather than the sum of all calls.</li>
+ *   <li>Every load is bounded by the view's budget; on expiry the outstanding calls are
+ *       cancelled and a {@link ViewLoadTimeoutException} is raised.</li>
+ *   <li>Loads still in flight are tracked and disposed by {@link #cancel()}, which views
+ *       call when they detach from the UI.</li>
+ * </ul>
+ *
+ * One instance per view; it is reusable after {@link #cancel()}.
+ */
+public final class ViewLoader {
+
+    public static final Duration DEFAULT_BUDGET = Duration.ofSeconds(5);
+
+    private final Duration budget;
+    private final Set<Disposable> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ViewLoader() {
+        this(DEFAULT_BUDGET);
+    }
+
+    public ViewLoader(Duration budget) {
+        if (budget == null || budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Load budget must be positive");
+        }
+        this.budget = budget;
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    /**
+     * Subscribe to the load and wait for it within the budget.
+     * The load is subscribed on the calling thread, so thread-bound request state
+     * (e.g. the security context read by WebClient filters) is visible to every call.
+     *
+     * @return the loaded value, or null if the load completed empty
+     * @throws ViewLoadTimeoutException if the budget expires first
+     * @throws CancellationException if {@link #cancel()} is called while waiting
+     */
+    public <T> T await(Mono<T> load) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Disposable subscription = load.timeout(budget)
+            .subscribe(result::complete, result::completeExceptionally, () -> result.complete(null));
+        Disposable tracked = () -> {
+            subscription.dispose();
+            result.cancel(false);
+        };
+        inFlight.add(tracked);
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        } finally {
+            inFlight.remove(tracked);
+        }
+    }
+
+    /**
+     * Subscribe to the load without waiting. Callbacks run on the thread that completes
+     * the load; views must hand UI updates back to the UI thread (e.g. {@code UI.access}).
+     * An empty load completes with null. Nothing is called if the load is cancelled.
+     *
+     * @return the subscription, also disposed by {@link #cancel()}
+     */
+    public <T> Disposable subscribe(Mono<T> load, Consumer<? super T> onLoaded, Consumer<? super Throwable> onError) {
+        Disposable.Swap tracked = Disposables.swap();
+        inFlight.add(tracked);
+        tracked.update(load.timeout(budget)
+            .map(Optional::<T>of)
+            .defaultIfEmpty(Optional.empty())
+            .doFinally(signal -> inFlight.remove(tracked))
+            .subscribe(
+                value -> onLoaded.accept(value.orElse(null)),
+                error -> onError.accept(unwrap(error))));
+        return tracked;
+    }
+
+    /**
+     * Cancel every load still in flight, e.g. when the view detaches.
+     */
+    public void cancel() {
+        for (Disposable disposable : inFlight) {
+            disposable.dispose();
+        }
+        inFlight.clear();
+    }
+
+    /**
+     * Number of loads currently in flight.
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private RuntimeException unwrap(Throwable error) {
+        if (error instanceof TimeoutException) {
+            return new ViewLoadTimeoutException(budget);
+        }
+        if (error instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new IllegalStateException("View load failed", error);
+    }
+}
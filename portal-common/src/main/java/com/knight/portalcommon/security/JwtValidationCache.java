@@ -0,0 +1,230 @@
+package com.knight.portalcommon.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of successful token validations, shared by the portals.
+ *
+ * <ul>
+ *   <li>Keyed by the SHA-256 {@link TokenDigest} of the token, so distinct tokens never share an entry.</li>
+ *   <li>Split into lock-striped segments; each segment is an access-ordered {@link LinkedHashMap},
+ *       so lookups, inserts and LRU evictions are all O(1).</li>
+ *   <li>Entries expire at the token's {@code exp}, capped by a maximum TTL. Expired entries are
+ *       dropped when looked up, and a put also drops a few expired entries from the LRU end,
+ *       so there is never a full scan on the request path.</li>
+ * </ul>
+ *
+ * Validation runs outside the segment lock; two concurrent misses for the same token
+ * may both validate, and the last one wins.
+ *
+ * @param <V> the validated value (e.g. a verified {@code DecodedJWT})
+ */
+public final class JwtValidationCache<V> {
+
+    public static final int DEFAULT_STRIPES = 16;
+    private static final int EXPIRED_PURGE_BATCH = 4;
+
+    private final Segment<V>[] segments;
+    private final int segmentMask;
+    private final long maxTtlMillis;
+    private final Function<V, Instant> expiry;
+    private final Clock clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Functional validator that may throw a checked exception on invalid tokens.
+     */
+    @FunctionalInterface
+    public interface TokenValidator<V, E extends Exception> {
+        V validate(String token) throws E;
+    }
+
+    /**
+     * Snapshot of cache statistics.
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    public JwtValidationCache(int maximumSize, Duration maxTtl, Function<V, Instant> expiry) {
+        this(maximumSize, DEFAULT_STRIPES, maxTtl, expiry, Clock.systemUTC());
+    }
+
+    @SuppressWarnings("unchecked")
+    public JwtValidationCache(int maximumSize, int stripes, Duration maxTtl,
+                              Function<V, Instant> expiry, Clock clock) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        if (maxTtl == null || maxTtl.isNegative() || maxTtl.isZero()) {
+            throw new IllegalArgumentException("Maximum TTL must be positive");
+        }
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(stripes, maximumSize)));
+        int segmentCapacity = Math.max(1, maximumSize / segmentCount);
+
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity, evictions);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.maxTtlMillis = maxTtl.toMillis();
+        this.expiry = expiry;
+        this.clock = clock;
+    }
+
+    /**
+     * Return the cached validation for the token, or validate and cache it.
+     * Values without an expiry are returned but not cached.
+     *
+     * @throws E if the validator rejects the token; failures are never cached
+     */
+    public <E extends Exception> V getOrValidate(String token, TokenValidator<V, E> validator) throws E {
+        TokenDigest key = TokenDigest.of(token);
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        V validated = validator.validate(token);
+        if (validated != null) {
+            put(key, validated);
+        }
+        return validated;
+    }
+
+    /**
+     * Look up a cached validation by token digest.
+     *
+     * @return the cached value, or null if absent or expired
+     */
+    public V get(TokenDigest key) {
+        Segment<V> segment = segmentFor(key);
+        long now = clock.millis();
+        segment.lock.lock();
+        try {
+            CacheEntry<V> entry = segment.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.expiresAtMillis() <= now) {
+                segment.remove(key);
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value();
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Cache a validated value until its expiry (capped by the maximum TTL).
+     */
+    public void put(TokenDigest key, V value) {
+        Instant expiresAt = expiry.apply(value);
+        if (expiresAt == null) {
+            return;
+        }
+        long now = clock.millis();
+        long expiresAtMillis = Math.min(expiresAt.toEpochMilli(), now + maxTtlMillis);
+        if (expiresAtMillis <= now) {
+            return;
+        }
+
+        Segment<V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.purgeExpired(now);
+            segment.put(key, new CacheEntry<>(value, expiresAtMillis));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Remove a token from the cache (e.g. on logout).
+     */
+    public void invalidate(String token) {
+        TokenDigest key = TokenDigest.of(token);
+        Segment<V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private Segment<V> segmentFor(TokenDigest key) {
+        return segments[(int) (key.h1() >>> 32) & segmentMask];
+    }
+
+    private record CacheEntry<V>(V value, long expiresAtMillis) {}
+
+    /**
+     * Access-ordered map guarded by its own lock. The eldest entry is the least recently used.
+     */
+    private static final class Segment<V> extends LinkedHashMap<TokenDigest, CacheEntry<V>> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private final LongAdder evictions;
+
+        Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TokenDigest, CacheEntry<V>> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+
+        void purgeExpired(long now) {
+            Iterator<CacheEntry<V>> iterator = values().iterator();
+            for (int i = 0; i < EXPIRED_PURGE_BATCH && iterator.hasNext(); i++) {
+                if (iterator.next().expiresAtMillis() > now) {
+                    return;
+                }
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.knight.portalcommon.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 digest of a bearer token, used as a cache key.
+ *
+ * Keying by a cryptographic digest keeps the raw token out of the cache and makes
+ * accidental collisions between distinct tokens practically impossible, unlike
+ * {@link String#hashCode()}.
+ */
+public record TokenDigest(long h0, long h1, long h2, long h3) {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    /**
+     * Compute the digest of a token.
+     */
+    public static TokenDigest of(String token) {
+        MessageDigest digest = SHA_256.get();
+        byte[] hash = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return new TokenDigest(
+            readLong(hash, 0),
+            readLong(hash, 8),
+            readLong(hash, 16),
+            readLong(hash, 24)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        // The digest is already uniformly distributed; fold the first word.
+        return (int) (h0 ^ (h0 >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        // Short prefix only, enough to correlate log lines without exposing the key
+        return "TokenDigest[" + Long.toHexString(h0) + "]";
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFFL);
+        }
+        return value;
+    }
+}
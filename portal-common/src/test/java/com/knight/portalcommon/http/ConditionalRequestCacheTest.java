@@ -0,0 +1,205 @@
+package com.knight.portalcommon.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ConditionalRequestCache.
+ */
+class ConditionalRequestCacheTest {
+
+    private static final URI DETAIL_URI = URI.create("http://api/api/v1/bank/profiles/p1/detail");
+
+    private ConditionalRequestCache cache;
+    private List<String> sentIfNoneMatch;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ConditionalRequestCache(10, DataSize.ofKilobytes(1), DataSize.ofBytes(100));
+        sentIfNoneMatch = new ArrayList<>();
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("RestClient")
+    class InterceptorTests {
+
+        private final Queue<ClientHttpResponse> responses = new LinkedList<>();
+        private final ClientHttpRequestExecution execution = (request, body) -> {
+            sentIfNoneMatch.add(request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+            return responses.remove();
+        };
+
+        private MockClientHttpResponse ok(String body, String etag) {
+            MockClientHttpResponse response = new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+            response.getHeaders().setETag(etag);
+            return response;
+        }
+
+        private String get(URI uri) throws Exception {
+            MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, uri);
+            ClientHttpResponse response = cache.intercept(request, new byte[0], execution);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            return StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+        }
+
+        @Test
+        @DisplayName("should answer a 304 with the kept body")
+        void shouldReplayCachedBody() throws Exception {
+            responses.add(ok("{\"v\":1}", "W/\"abc\""));
+            responses.add(new MockClientHttpResponse(new byte[0], HttpStatus.NOT_MODIFIED));
+
+            assertThat(get(DETAIL_URI)).isEqualTo("{\"v\":1}");
+            assertThat(get(DETAIL_URI)).isEqualTo("{\"v\":1}");
+            assertThat(sentIfNoneMatch).containsExactly(null, "W/\"abc\"");
+        }
+
+        @Test
+        @DisplayName("should replace the kept body when the resource changed")
+        void shouldReplaceChangedBody() throws Exception {
+            responses.add(ok("{\"v\":1}", "W/\"abc\""));
+            responses.add(ok("{\"v\":2}", "W/\"def\""));
+            responses.add(new MockClientHttpResponse(new byte[0], HttpStatus.NOT_MODIFIED));
+
+            get(DETAIL_URI);
+            assertThat(get(DETAIL_URI)).isEqualTo("{\"v\":2}");
+            assertThat(get(DETAIL_URI)).isEqualTo("{\"v\":2}");
+            assertThat(sentIfNoneMatch).containsExactly(null, "W/\"abc\"", "W/\"def\"");
+        }
+
+        @Test
+        @DisplayName("should not share responses between users")
+        void shouldKeepResponsesPerUser() throws Exception {
+            responses.add(ok("{\"v\":1}", "W/\"abc\""));
+            responses.add(ok("{\"v\":1}", "W/\"abc\""));
+
+            get(DETAIL_URI);
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bob", null));
+            get(DETAIL_URI);
+
+            assertThat(sentIfNoneMatch).containsExactly(null, null);
+        }
+
+        @Test
+        @DisplayName("should pass bodies over the entry limit through without keeping them")
+        void shouldNotKeepLargeBodies() throws Exception {
+            String large = "x".repeat(101);
+            responses.add(ok(large, "W/\"abc\""));
+            MockClientHttpResponse declared = ok(large, "W/\"abc\"");
+            declared.getHeaders().setContentLength(101);
+            responses.add(declared);
+
+            assertThat(get(DETAIL_URI)).isEqualTo(large);
+            assertThat(get(DETAIL_URI)).isEqualTo(large);
+            assertThat(sentIfNoneMatch).containsExactly(null, null);
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("should drop least recently used entries beyond the total size")
+        void shouldBoundTotalSize() throws Exception {
+            cache = new ConditionalRequestCache(100, DataSize.ofBytes(500), DataSize.ofBytes(100));
+            for (int i = 0; i < 12; i++) {
+                responses.add(ok("y".repeat(100), "W/\"" + i + "\""));
+                get(URI.create(DETAIL_URI + "?page=" + i));
+            }
+
+            assertThat(cache.bytes()).isEqualTo(500);
+            assertThat(cache.size()).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("WebClient")
+    class FilterTests {
+
+        private final Queue<ClientResponse> responses = new LinkedList<>();
+        private final ExchangeFunction exchange = request -> {
+            sentIfNoneMatch.add(request.headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+            return Mono.just(responses.remove());
+        };
+
+        private ClientResponse ok(String body, String etag) {
+            return ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.ETAG, etag)
+                    .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                    .body(body)
+                    .build();
+        }
+
+        private String get() {
+            ClientResponse response = cache.filter(ClientRequest.create(HttpMethod.GET, DETAIL_URI).build(), exchange)
+                    .block();
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+            return response.bodyToMono(String.class).block();
+        }
+
+        @Test
+        @DisplayName("should answer a 304 with the kept body")
+        void shouldReplayCachedBody() {
+            responses.add(ok("{\"v\":1}", "W/\"abc\""));
+            responses.add(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+
+            assertThat(get()).isEqualTo("{\"v\":1}");
+            assertThat(get()).isEqualTo("{\"v\":1}");
+            assertThat(sentIfNoneMatch).containsExactly(null, "W/\"abc\"");
+        }
+
+        @Test
+        @DisplayName("should replace the kept body when the resource changed")
+        void shouldReplaceChangedBody() {
+            responses.add(ok("{\"v\":1}", "W/\"abc\""));
+            responses.add(ok("{\"v\":2}", "W/\"def\""));
+            responses.add(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+
+            get();
+            assertThat(get()).isEqualTo("{\"v\":2}");
+            assertThat(get()).isEqualTo("{\"v\":2}");
+            assertThat(sentIfNoneMatch).containsExactly(null, "W/\"abc\"", "W/\"def\"");
+        }
+
+        @Test
+        @DisplayName("should pass bodies over the entry limit through without keeping them")
+        void shouldNotKeepLargeBodies() {
+            String large = "x".repeat(101);
+            responses.add(ok(large, "W/\"abc\""));
+            responses.add(ok(large, "W/\"abc\""));
+
+            assertThat(get()).isEqualTo(large);
+            assertThat(get()).isEqualTo(large);
+            assertThat(sentIfNoneMatch).containsExactly(null, null);
+        }
+    }
+}
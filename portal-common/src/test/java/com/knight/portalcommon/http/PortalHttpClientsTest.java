@@ -0,0 +1,220 @@
+package com.knight.portalcommon.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for PortalHttpClients.
+ */
+class PortalHttpClientsTest {
+
+    private HttpServer server;
+    private final ConcurrentLinkedQueue<String> acceptHeaders = new ConcurrentLinkedQueue<>();
+    private MeterRegistry meterRegistry;
+    private PortalHttpClients clients;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/client/profiles", this::smileProfile);
+        server.createContext("/api/v1/client/slow", exchange -> {
+            sleep(Duration.ofMillis(1_000));
+            respond(exchange, "text/plain", "late".getBytes());
+        });
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        PortalHttpClientProperties properties = new PortalHttpClientProperties();
+        properties.getPool().setMaxConnections(4);
+        properties.setRoutes(List.of(new PortalHttpClientProperties.Route(
+                "/api/v1/client/slow", null, Duration.ofMillis(200))));
+        clients = new PortalHttpClients("test-api",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1/client", properties, observationRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.close();
+        server.stop(0);
+    }
+
+    @Nested
+    @DisplayName("RestClient")
+    class RestClientTests {
+
+        @Test
+        @DisplayName("should ask for Smile ahead of JSON and decode it")
+        void shouldNegotiateSmile() {
+            Map<?, ?> profile = clients.restClient().build().get()
+                    .uri("/profiles/{profileId}", "servicing:srf:123")
+                    .retrieve().body(Map.class);
+
+            assertThat(profile.get("name")).isEqualTo("Northwind");
+            assertThat(acceptHeaders).containsExactly(PortalHttpClients.SMILE + ", " + MediaType.APPLICATION_JSON);
+        }
+
+        @Test
+        @DisplayName("should keep a media type the caller chose")
+        void shouldKeepCallerAccept() {
+            clients.restClient().build().get()
+                    .uri("/profiles/{profileId}", "servicing:srf:123")
+                    .accept(MediaType.APPLICATION_JSON)
+                    .retrieve().toBodilessEntity();
+
+            assertThat(acceptHeaders).containsExactly(MediaType.APPLICATION_JSON_VALUE);
+        }
+
+        @Test
+        @DisplayName("should time requests by URI template")
+        void shouldTimeByUriTemplate() {
+            RestClient client = clients.restClient().build();
+            client.get().uri("/profiles/{profileId}", "servicing:srf:123").retrieve().toBodilessEntity();
+            client.get().uri("/profiles/{profileId}", "servicing:srf:456").retrieve().toBodilessEntity();
+
+            Timer timer = meterRegistry.find("http.client.requests").tag("uri", "/profiles/{profileId}").timer();
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isEqualTo(2);
+            assertThat(timer.getId().getTag("outcome")).isEqualTo("SUCCESS");
+        }
+
+        @Test
+        @DisplayName("should fail a request that overruns its route budget")
+        void shouldEnforceRouteBudget() {
+            RestClient client = clients.restClient().build();
+
+            assertThatThrownBy(() -> client.get().uri("/slow").retrieve().body(String.class))
+                    .isInstanceOf(ResourceAccessException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("WebClient")
+    class WebClientTests {
+
+        @Test
+        @DisplayName("should ask for Smile ahead of JSON and tag builder-made URIs by path")
+        void shouldNegotiateSmileAndTagPath() {
+            Map<?, ?> profile = clients.webClient().build().get()
+                    .uri(builder -> builder.path("/profiles/{profileId}").queryParam("size", 5).build("servicing:srf:123"))
+                    .retrieve().bodyToMono(Map.class)
+                    .block(Duration.ofSeconds(5));
+
+            assertThat(profile.get("name")).isEqualTo("Northwind");
+            assertThat(acceptHeaders).containsExactly(PortalHttpClients.SMILE + ", " + MediaType.APPLICATION_JSON);
+            assertThat(meterRegistry.find("http.client.requests").tag("uri", "/profiles/{id}").timer()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("should fail a request that overruns its route budget")
+        void shouldEnforceRouteBudget() {
+            WebClient client = clients.webClient().build();
+
+            assertThatThrownBy(() -> client.get().uri("/slow").retrieve().bodyToMono(String.class).block(Duration.ofSeconds(5)))
+                    .isInstanceOf(WebClientRequestException.class)
+                    .hasMessageContaining("200ms");
+        }
+    }
+
+    @Nested
+    @DisplayName("Routes")
+    class RouteTests {
+
+        @Test
+        @DisplayName("should take the first matching route and fall back to defaults")
+        void shouldResolveRoutes() {
+            PortalHttpClientProperties properties = new PortalHttpClientProperties();
+            properties.setRoutes(List.of(
+                    new PortalHttpClientProperties.Route("/api/v1/bank/batches/*/progress", Duration.ZERO, null),
+                    new PortalHttpClientProperties.Route("/api/v1/bank/**", null, Duration.ofSeconds(30))));
+            RouteTimeouts routes = new RouteTimeouts(properties);
+
+            assertThat(routes.forUri(URI.create("http://api/api/v1/bank/batches/b-1/progress")))
+                    .isEqualTo(new RouteTimeouts.Timeouts(null, Duration.ofSeconds(15)));
+            assertThat(routes.forUri(URI.create("http://api/api/v1/bank/profiles")))
+                    .isEqualTo(new RouteTimeouts.Timeouts(Duration.ofSeconds(10), Duration.ofSeconds(30)));
+            assertThat(routes.forUri(URI.create("http://api/actuator/health")))
+                    .isEqualTo(new RouteTimeouts.Timeouts(Duration.ofSeconds(10), Duration.ofSeconds(15)));
+        }
+    }
+
+    @Nested
+    @DisplayName("URI tags")
+    class UriTagTests {
+
+        @Test
+        @DisplayName("should drop base URL and query from templates")
+        void shouldTrimTemplates() {
+            assertThat(UriTemplateConventions.uriTag("/api/v1/bank/indirect-profiles?page=0&size=20", null, ""))
+                    .isEqualTo("/api/v1/bank/indirect-profiles");
+            assertThat(UriTemplateConventions.uriTag("http://api:8080/api/v1/client/users/{userId}", null, "/api/v1/client"))
+                    .isEqualTo("/users/{userId}");
+        }
+
+        @Test
+        @DisplayName("should mask identifiers in paths without a template")
+        void shouldMaskIdentifiers() {
+            URI uri = URI.create("http://api/api/v1/client/profiles/servicing%3Asrf%3A123/users/6f1c2a90-0000-4000-8000-000000000001");
+
+            assertThat(UriTemplateConventions.uriTag(null, uri, "/api/v1/client")).isEqualTo("/profiles/{id}/users/{id}");
+            assertThat(UriTemplateConventions.uriTag(null, URI.create("http://api/api/v1/bank/users"), ""))
+                    .isEqualTo("/api/v1/bank/users");
+        }
+    }
+
+    private void smileProfile(HttpExchange exchange) throws IOException {
+        String accept = exchange.getRequestHeaders().getFirst("Accept");
+        acceptHeaders.add(accept);
+        Map<String, String> body = Map.of("name", "Northwind");
+        if (accept != null && accept.startsWith(PortalHttpClients.SMILE.toString())) {
+            respond(exchange, PortalHttpClients.SMILE.toString(), new ObjectMapper(new SmileFactory()).writeValueAsBytes(body));
+        } else {
+            respond(exchange, MediaType.APPLICATION_JSON_VALUE, new ObjectMapper().writeValueAsBytes(body));
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
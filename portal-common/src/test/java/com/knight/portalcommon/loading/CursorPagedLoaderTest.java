@@ -0,0 +1,64 @@
+package com.knight.portalcommon.loading;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CursorPagedLoader.
+ */
+class CursorPagedLoaderTest {
+
+    private final List<String> cursors = new ArrayList<>();
+
+    /**
+     * Seven rows served three to a page; the cursor is the offset of the next page.
+     */
+    private CursorPagedLoader.Page<Integer> page(String cursor, int size) {
+        cursors.add(cursor);
+        int from = cursor == null ? 0 : Integer.parseInt(cursor);
+        int to = Math.min(from + size, 7);
+        List<Integer> items = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            items.add(i);
+        }
+        return new CursorPagedLoader.Page<>(items, to < 7 ? Integer.toString(to) : null);
+    }
+
+    @Test
+    @DisplayName("should fetch only the pages up to the requested rows, and each only once")
+    void shouldFetchPagesOnce() {
+        CursorPagedLoader<Integer> loader = new CursorPagedLoader<>(3);
+
+        assertThat(loader.fetch("all", 2, 3, this::page)).containsExactly(2, 3, 4);
+        assertThat(loader.fetch("all", 0, 2, this::page)).containsExactly(0, 1);
+        assertThat(loader.fetch("all", 5, 10, this::page)).containsExactly(5, 6);
+        assertThat(loader.fetch("all", 7, 10, this::page)).isEmpty();
+
+        assertThat(cursors).containsExactly(null, "3", "6");
+    }
+
+    @Test
+    @DisplayName("should start over when the query changes")
+    void shouldResetOnNewQuery() {
+        CursorPagedLoader<Integer> loader = new CursorPagedLoader<>(3);
+        loader.fetch("all", 0, 3, this::page);
+
+        assertThat(loader.fetch("active", 0, 3, this::page)).containsExactly(0, 1, 2);
+        assertThat(cursors).containsExactly(null, null);
+    }
+
+    @Test
+    @DisplayName("should continue from a primed first page without fetching it again")
+    void shouldContinueFromPrimedPage() {
+        CursorPagedLoader<Integer> loader = new CursorPagedLoader<>(3);
+        loader.prime("all", new CursorPagedLoader.Page<>(List.of(0, 1, 2), "3"));
+
+        assertThat(loader.fetch("all", 0, 5, this::page)).containsExactly(0, 1, 2, 3, 4);
+        assertThat(cursors).containsExactly("3");
+    }
+}
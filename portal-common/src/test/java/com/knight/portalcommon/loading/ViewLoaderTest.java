@@ -0,0 +1,185 @@
+package com.knight.portalcommon.loading;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ViewLoader.
+ */
+class ViewLoaderTest {
+
+    @Nested
+    @DisplayName("Await")
+    class AwaitTests {
+
+        @Test
+        @DisplayName("should wait for the slowest call, not the sum of all calls")
+        void shouldRunZippedCallsConcurrently() {
+            ViewLoader loader = new ViewLoader(Duration.ofSeconds(5));
+            Mono<String> first = Mono.just("group").delayElement(Duration.ofMillis(300));
+            Mono<String> second = Mono.just("accounts").delayElement(Duration.ofMillis(300));
+            Mono<String> third = Mono.just("users").delayElement(Duration.ofMillis(300));
+
+            long start = System.nanoTime();
+            var result = loader.await(Mono.zip(first, second, third));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertThat(result.getT1()).isEqualTo("group");
+            assertThat(result.getT3()).isEqualTo("users");
+            assertThat(elapsedMillis).isLessThan(800);
+            assertThat(loader.inFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("should return null when the load completes empty")
+        void shouldReturnNullWhenEmpty() {
+            ViewLoader loader = new ViewLoader();
+
+            assertThat(loader.await(Mono.zip(Mono.just("a"), Mono.<String>empty()))).isNull();
+        }
+
+        @Test
+        @DisplayName("should cancel outstanding calls when the budget expires")
+        void shouldCancelOnTimeout() {
+            ViewLoader loader = new ViewLoader(Duration.ofMillis(100));
+            AtomicBoolean cancelled = new AtomicBoolean();
+
+            assertThatThrownBy(() -> loader.await(Mono.never().doOnCancel(() -> cancelled.set(true))))
+                .isInstanceOfSatisfying(ViewLoadTimeoutException.class,
+                    ex -> assertThat(ex.getBudget()).isEqualTo(Duration.ofMillis(100)));
+            assertThat(cancelled).isTrue();
+            assertThat(loader.inFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("should rethrow call failures")
+        void shouldRethrowFailures() {
+            ViewLoader loader = new ViewLoader();
+
+            assertThatThrownBy(() -> loader.await(Mono.error(new IllegalStateException("boom"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+        }
+
+        @Test
+        @DisplayName("should stop waiting when cancelled from another thread")
+        void shouldStopWaitingOnCancel() throws Exception {
+            ViewLoader loader = new ViewLoader(Duration.ofSeconds(30));
+            AtomicBoolean cancelled = new AtomicBoolean();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            CountDownLatch done = new CountDownLatch(1);
+
+            Thread waiter = new Thread(() -> {
+                try {
+                    loader.await(Mono.never().doOnCancel(() -> cancelled.set(true)));
+                } catch (Throwable e) {
+                    failure.set(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+            waiter.start();
+            while (loader.inFlight() == 0) {
+                Thread.onSpinWait();
+            }
+
+            loader.cancel();
+
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(failure.get()).isInstanceOf(CancellationException.class);
+            assertThat(cancelled).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Subscribe")
+    class SubscribeTests {
+
+        @Test
+        @DisplayName("should deliver the value once and stop tracking the load")
+        void shouldDeliverValue() {
+            ViewLoader loader = new ViewLoader();
+            Sinks.One<String> sink = Sinks.one();
+            AtomicReference<String> loaded = new AtomicReference<>();
+
+            loader.subscribe(sink.asMono(), loaded::set, error -> { });
+            assertThat(loader.inFlight()).isEqualTo(1);
+
+            sink.tryEmitValue("group");
+
+            assertThat(loaded.get()).isEqualTo("group");
+            assertThat(loader.inFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("should deliver null for an empty load")
+        void shouldDeliverNullWhenEmpty() {
+            ViewLoader loader = new ViewLoader();
+            AtomicBoolean called = new AtomicBoolean();
+            AtomicReference<Object> loaded = new AtomicReference<>("unset");
+
+            loader.subscribe(Mono.empty(), value -> {
+                called.set(true);
+                loaded.set(value);
+            }, error -> { });
+
+            assertThat(called).isTrue();
+            assertThat(loaded.get()).isNull();
+            assertThat(loader.inFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("should dispose in-flight loads on cancel without calling back")
+        void shouldDisposeOnCancel() {
+            ViewLoader loader = new ViewLoader();
+            AtomicBoolean cancelled = new AtomicBoolean();
+            AtomicBoolean called = new AtomicBoolean();
+
+            Disposable subscription = loader.subscribe(Mono.never().doOnCancel(() -> cancelled.set(true)),
+                value -> called.set(true), error -> called.set(true));
+
+            loader.cancel();
+
+            assertThat(subscription.isDisposed()).isTrue();
+            assertThat(cancelled).isTrue();
+            assertThat(called).isFalse();
+            assertThat(loader.inFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("should report a timeout to the error callback")
+        void shouldReportTimeout() throws Exception {
+            ViewLoader loader = new ViewLoader(Duration.ofMillis(50));
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            CountDownLatch done = new CountDownLatch(1);
+
+            loader.subscribe(Mono.never(), value -> { }, error -> {
+                failure.set(error);
+                done.countDown();
+            });
+
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(failure.get()).isInstanceOf(ViewLoadTimeoutException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("should reject a non-positive budget")
+    void shouldRejectInvalidBudget() {
+        assertThatThrownBy(() -> new ViewLoader(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
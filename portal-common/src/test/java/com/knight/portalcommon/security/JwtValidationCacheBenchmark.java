@@ -0,0 +1,158 @@
+package com.knight.portalcommon.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency benchmark for JwtValidationCache under 10k concurrent sessions.
+ *
+ * Each session holds an RS256-signed token of realistic size; a miss performs a real
+ * RSA signature verification. Worker threads pick random sessions and the per-request
+ * latency is recorded for a cold pass (every session validated once) and a warm pass
+ * (all lookups served by the cache).
+ *
+ * Opt-in, as it takes tens of seconds:
+ * <pre>
+ * mvn -pl portal-common test -Dtest=JwtValidationCacheBenchmark -Dbenchmarks=true
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class JwtValidationCacheBenchmark {
+
+    private static final int SESSIONS = 10_000;
+    private static final int CACHE_SIZE = 16_384;
+    private static final int THREADS = 32;
+    private static final int WARM_REQUESTS_PER_THREAD = 50_000;
+
+    private record Verified(String token, Instant expiresAt) {}
+
+    @Test
+    void latencyUnder10kConcurrentSessions() throws Exception {
+        KeyPair keyPair = KeyPairGenerator.getInstance("RSA").generateKeyPair();
+        String[] tokens = signTokens(keyPair);
+
+        JwtValidationCache<Verified> cache =
+            new JwtValidationCache<>(CACHE_SIZE, Duration.ofHours(1), Verified::expiresAt);
+
+        long[] cold = run(THREADS, SESSIONS / THREADS, (thread, i) -> tokens[thread * (SESSIONS / THREADS) + i],
+            token -> cache.getOrValidate(token, t -> verify(keyPair, t)));
+        long[] warm = run(THREADS, WARM_REQUESTS_PER_THREAD,
+            (thread, i) -> tokens[ThreadLocalRandom.current().nextInt(SESSIONS)],
+            token -> cache.getOrValidate(token, t -> verify(keyPair, t)));
+
+        JwtValidationCache.Stats stats = cache.stats();
+        System.out.println();
+        System.out.printf("JwtValidationCache: %d sessions, %d threads%n", SESSIONS, THREADS);
+        report("cold (RSA verify + insert)", cold);
+        report("warm (cache hit)", warm);
+        System.out.printf("  hit rate %.4f, evictions %d, size %d%n%n",
+            stats.hitRate(), stats.evictions(), stats.size());
+
+        assertThat(stats.size()).isGreaterThan(SESSIONS * 99 / 100);
+        assertThat(percentile(warm, 0.50)).isLessThan(percentile(cold, 0.50));
+    }
+
+    @FunctionalInterface
+    private interface TokenPicker {
+        String pick(int thread, int iteration);
+    }
+
+    @FunctionalInterface
+    private interface Lookup {
+        Object apply(String token) throws Exception;
+    }
+
+    private long[] run(int threads, int requestsPerThread, TokenPicker picker, Lookup lookup) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[requestsPerThread];
+                start.await();
+                for (int i = 0; i < requestsPerThread; i++) {
+                    String token = picker.pick(thread, i);
+                    long begin = System.nanoTime();
+                    lookup.apply(token);
+                    latencies[i] = System.nanoTime() - begin;
+                }
+                return latencies;
+            }));
+        }
+        start.countDown();
+
+        long[] all = new long[threads * requestsPerThread];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get();
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        executor.shutdown();
+        Arrays.sort(all);
+        return all;
+    }
+
+    private static void report(String label, long[] sorted) {
+        System.out.printf("  %-28s n=%-8d p50=%8.1fus  p99=%8.1fus  p99.9=%8.1fus  max=%9.1fus%n",
+            label, sorted.length,
+            percentile(sorted, 0.50) / 1_000.0,
+            percentile(sorted, 0.99) / 1_000.0,
+            percentile(sorted, 0.999) / 1_000.0,
+            sorted[sorted.length - 1] / 1_000.0);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(percentile * sorted.length))];
+    }
+
+    private static String[] signTokens(KeyPair keyPair) throws GeneralSecurityException {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString(
+            "{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"bench\"}".getBytes(StandardCharsets.UTF_8));
+        long exp = Instant.now().plus(Duration.ofMinutes(30)).getEpochSecond();
+        String[] tokens = new String[SESSIONS];
+        Signature signer = Signature.getInstance("SHA256withRSA");
+        for (int i = 0; i < SESSIONS; i++) {
+            String payload = encoder.encodeToString(("{\"sub\":\"auth0|user-" + i + "\","
+                + "\"iss\":\"https://tenant.example.auth0.com/\",\"aud\":[\"https://api.example\"],"
+                + "\"email\":\"user" + i + "@example.com\",\"exp\":" + exp + "}")
+                .getBytes(StandardCharsets.UTF_8));
+            signer.initSign(keyPair.getPrivate());
+            signer.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+            tokens[i] = header + "." + payload + "." + encoder.encodeToString(signer.sign());
+        }
+        return tokens;
+    }
+
+    private static Verified verify(KeyPair keyPair, String token) throws GeneralSecurityException {
+        int lastDot = token.lastIndexOf('.');
+        Signature verifier = Signature.getInstance("SHA256withRSA");
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update(token.substring(0, lastDot).getBytes(StandardCharsets.US_ASCII));
+        if (!verifier.verify(Base64.getUrlDecoder().decode(token.substring(lastDot + 1)))) {
+            throw new GeneralSecurityException("Invalid signature");
+        }
+        return new Verified(token, Instant.now().plus(Duration.ofMinutes(30)));
+    }
+}
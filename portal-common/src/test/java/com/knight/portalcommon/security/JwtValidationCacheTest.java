@@ -0,0 +1,260 @@
+package com.knight.portalcommon.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for JwtValidationCache and TokenDigest.
+ */
+class JwtValidationCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    private MutableClock clock;
+    private AtomicInteger validations;
+
+    /**
+     * Stand-in for a verified token: subject plus expiry.
+     */
+    record Token(String subject, Instant expiresAt) {}
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        validations = new AtomicInteger();
+    }
+
+    private JwtValidationCache<Token> cache(int maximumSize, int stripes) {
+        return new JwtValidationCache<>(maximumSize, stripes, Duration.ofHours(1), Token::expiresAt, clock);
+    }
+
+    private Token validate(String token) {
+        validations.incrementAndGet();
+        return new Token(token, NOW.plus(Duration.ofMinutes(10)));
+    }
+
+    @Nested
+    @DisplayName("TokenDigest")
+    class TokenDigestTests {
+
+        @Test
+        @DisplayName("should be equal for the same token and differ for distinct tokens")
+        void shouldBeStableAndDistinct() {
+            assertThat(TokenDigest.of("header.payload.sig")).isEqualTo(TokenDigest.of("header.payload.sig"));
+            assertThat(TokenDigest.of("header.payload.sig")).isNotEqualTo(TokenDigest.of("header.payload.sih"));
+        }
+
+        @Test
+        @DisplayName("should separate tokens whose String hash codes collide")
+        void shouldSeparateStringHashCollisions() {
+            // "Aa" and "BB" share String.hashCode()
+            assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+            assertThat(TokenDigest.of("Aa")).isNotEqualTo(TokenDigest.of("BB"));
+
+            JwtValidationCache<Token> cache = cache(100, 4);
+            Token first = cache.getOrValidate("Aa", JwtValidationCacheTest.this::validate);
+            Token second = cache.getOrValidate("BB", JwtValidationCacheTest.this::validate);
+
+            assertThat(first.subject()).isEqualTo("Aa");
+            assertThat(second.subject()).isEqualTo("BB");
+            assertThat(validations.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should not expose the token in toString")
+        void shouldNotExposeToken() {
+            assertThat(TokenDigest.of("secret-token").toString()).doesNotContain("secret-token");
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookup")
+    class LookupTests {
+
+        @Test
+        @DisplayName("should validate once and serve repeats from cache")
+        void shouldServeRepeatsFromCache() {
+            JwtValidationCache<Token> cache = cache(100, 4);
+
+            Token first = cache.getOrValidate("token-1", JwtValidationCacheTest.this::validate);
+            Token second = cache.getOrValidate("token-1", JwtValidationCacheTest.this::validate);
+
+            assertThat(second).isSameAs(first);
+            assertThat(validations.get()).isEqualTo(1);
+            assertThat(cache.stats().hits()).isEqualTo(1);
+            assertThat(cache.stats().misses()).isEqualTo(1);
+            assertThat(cache.stats().hitRate()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("should not cache validation failures")
+        void shouldNotCacheFailures() {
+            JwtValidationCache<Token> cache = cache(100, 4);
+
+            assertThatThrownBy(() -> cache.getOrValidate("bad", token -> {
+                throw new IllegalStateException("invalid signature");
+            })).isInstanceOf(IllegalStateException.class);
+
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("should not cache tokens without an expiry")
+        void shouldNotCacheTokensWithoutExpiry() {
+            JwtValidationCache<Token> cache = cache(100, 4);
+
+            cache.getOrValidate("no-exp", token -> new Token(token, null));
+
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("should drop invalidated tokens")
+        void shouldInvalidate() {
+            JwtValidationCache<Token> cache = cache(100, 4);
+            cache.getOrValidate("token-1", JwtValidationCacheTest.this::validate);
+
+            cache.invalidate("token-1");
+            cache.getOrValidate("token-1", JwtValidationCacheTest.this::validate);
+
+            assertThat(validations.get()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Expiry")
+    class ExpiryTests {
+
+        @Test
+        @DisplayName("should expire entries at the token exp")
+        void shouldExpireAtTokenExp() {
+            JwtValidationCache<Token> cache = cache(100, 4);
+            cache.getOrValidate("token-1", JwtValidationCacheTest.this::validate);
+
+            clock.advance(Duration.ofMinutes(9));
+            cache.getOrValidate("token-1", JwtValidationCacheTest.this::validate);
+            assertThat(validations.get()).isEqualTo(1);
+
+            clock.advance(Duration.ofMinutes(2));
+            cache.getOrValidate("token-1", JwtValidationCacheTest.this::validate);
+            assertThat(validations.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should cap entry lifetime at the maximum TTL")
+        void shouldCapAtMaxTtl() {
+            JwtValidationCache<Token> cache = new JwtValidationCache<>(
+                100, 4, Duration.ofMinutes(5), Token::expiresAt, clock);
+            cache.getOrValidate("token-1", token -> new Token(token, NOW.plus(Duration.ofDays(1))));
+
+            clock.advance(Duration.ofMinutes(6));
+
+            assertThat(cache.get(TokenDigest.of("token-1"))).isNull();
+        }
+
+        @Test
+        @DisplayName("should not cache already expired tokens")
+        void shouldNotCacheExpiredTokens() {
+            JwtValidationCache<Token> cache = cache(100, 4);
+
+            cache.getOrValidate("old", token -> new Token(token, NOW.minusSeconds(1)));
+
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("should purge expired entries from the LRU end on insert")
+        void shouldPurgeExpiredOnInsert() {
+            JwtValidationCache<Token> cache = cache(100, 1);
+            cache.getOrValidate("short-1", token -> new Token(token, NOW.plusSeconds(30)));
+            cache.getOrValidate("short-2", token -> new Token(token, NOW.plusSeconds(30)));
+
+            clock.advance(Duration.ofMinutes(1));
+            cache.getOrValidate("fresh", JwtValidationCacheTest.this::validate);
+
+            assertThat(cache.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bounds")
+    class BoundsTests {
+
+        @Test
+        @DisplayName("should evict the least recently used entry when full")
+        void shouldEvictLeastRecentlyUsed() {
+            JwtValidationCache<Token> cache = cache(2, 1);
+            cache.getOrValidate("a", JwtValidationCacheTest.this::validate);
+            cache.getOrValidate("b", JwtValidationCacheTest.this::validate);
+            cache.getOrValidate("a", JwtValidationCacheTest.this::validate);
+
+            cache.getOrValidate("c", JwtValidationCacheTest.this::validate);
+
+            assertThat(cache.get(TokenDigest.of("a"))).isNotNull();
+            assertThat(cache.get(TokenDigest.of("b"))).isNull();
+            assertThat(cache.get(TokenDigest.of("c"))).isNotNull();
+            assertThat(cache.stats().evictions()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should never exceed the maximum size across stripes")
+        void shouldStayWithinMaximumSize() {
+            JwtValidationCache<Token> cache = cache(1_000, 16);
+
+            for (int i = 0; i < 10_000; i++) {
+                cache.getOrValidate("token-" + i, JwtValidationCacheTest.this::validate);
+            }
+
+            assertThat(cache.size()).isLessThanOrEqualTo(1_000);
+            assertThat(cache.stats().evictions()).isGreaterThanOrEqualTo(9_000);
+        }
+
+        @Test
+        @DisplayName("should reject invalid configuration")
+        void shouldRejectInvalidConfiguration() {
+            assertThatThrownBy(() -> new JwtValidationCache<Token>(0, Duration.ofMinutes(1), Token::expiresAt))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new JwtValidationCache<Token>(10, Duration.ZERO, Token::expiresAt))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
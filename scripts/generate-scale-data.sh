@@ -0,0 +1,49 @@
+#!/bin/bash
+
+#############################################################################
+# Scale Data Generation Script
+#############################################################################
+# Bulk-loads a production-scale dataset (500k clients, 5M accounts, a profile
+# with 10k enrolled clients, 100k users, large user groups and policy sets)
+# with JDBC batch inserts.
+#
+# Usage:
+#   ./scripts/generate-scale-data.sh [PRESET] [PROFILE] [EXTRA_MAVEN_ARGS...]
+#
+# Examples:
+#   ./scripts/generate-scale-data.sh                         # production scale, SQL Server
+#   ./scripts/generate-scale-data.sh ci                      # CI scale, SQL Server
+#   ./scripts/generate-scale-data.sh production test -Dscale.clients=100000
+#
+# Presets:
+#   production (default) - 500k clients, 10 accounts each
+#   ci                   - 5k clients, same shape
+#
+# The target database must be migrated and must not hold generated data yet.
+# For faster loads into SQL Server add useBulkCopyForBatchInsert=true to the
+# JDBC URL.
+#############################################################################
+
+set -e
+
+PRESET=${1:-production}
+PROFILE=${2:-test}
+shift $(( $# < 2 ? $# : 2 ))
+
+cd "$(dirname "$0")/.."
+
+if [ ! -f "./mvnw" ]; then
+    echo "Error: Maven wrapper (mvnw) not found in project root"
+    exit 1
+fi
+
+echo "Generating '${PRESET}' scale dataset with profile '${PROFILE}'..."
+
+export GENERATE_SCALE_DATA=true
+./mvnw test -pl application \
+    -Dtest=ScaleDataRunner#generateScaleData \
+    -Dspring.profiles.active=${PROFILE} \
+    -Dscale.preset=${PRESET} \
+    -DfailIfNoTests=false \
+    -Djacoco.skip=true \
+    "$@"
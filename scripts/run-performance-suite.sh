@@ -0,0 +1,49 @@
+#!/bin/bash
+
+#############################################################################
+# Performance Regression Suite
+#############################################################################
+# Drives client search, profile detail, authorization and batch execute
+# against a scale dataset and writes p50/p99 latency and SQL statements per
+# request to application/target/performance/report.json.
+#
+# Usage:
+#   ./scripts/run-performance-suite.sh [PROFILE] [EXTRA_MAVEN_ARGS...]
+#
+# Examples:
+#   ./scripts/run-performance-suite.sh                       # H2, CI-scale dataset
+#   ./scripts/run-performance-suite.sh h2,perf -Dperf.baseline=perf-baseline.json
+#   ./scripts/run-performance-suite.sh test,perf -Dperf.generate=false -Dscale.preset=production
+#
+# Profiles:
+#   h2,perf (default) - In-memory H2; the dataset is generated on every run
+#   test,perf         - SQL Server; load the dataset first with generate-scale-data.sh
+#                       and pass the same preset with -Dperf.generate=false
+#
+# With -Dperf.baseline the run fails on p99 growth beyond
+# -Dperf.latency-tolerance (default 0.25) or on more statements per request.
+#############################################################################
+
+set -e
+
+PROFILE=${1:-h2,perf}
+shift $(( $# < 1 ? $# : 1 ))
+
+cd "$(dirname "$0")/.."
+
+if [ ! -f "./mvnw" ]; then
+    echo "Error: Maven wrapper (mvnw) not found in project root"
+    exit 1
+fi
+
+echo "Running performance suite with profile '${PROFILE}'..."
+
+export RUN_PERFORMANCE_SUITE=true
+./mvnw test -pl application \
+    -Dtest=PerformanceSuiteRunner \
+    -Dspring.profiles.active=${PROFILE} \
+    -DfailIfNoTests=false \
+    -Djacoco.skip=true \
+    "$@"
+
+echo "Report: application/target/performance/report.json"